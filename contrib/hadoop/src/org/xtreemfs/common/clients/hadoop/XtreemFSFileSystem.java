@@ -12,6 +12,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -304,41 +305,29 @@ public class XtreemFSFileSystem extends FileSystem {
     }
 
     private boolean deleteXtreemFSDirectory(String path, Volume xtreemfsVolume, boolean recursive) throws IOException {
-        DirectoryEntries dirEntries = xtreemfsVolume.readDir(userCredentials, path, 0, 0, true);
-        boolean isEmpty = (dirEntries.getEntriesCount() <= 2);
-
         if (recursive) {
             return deleteXtreemFSDirRecursive(path, xtreemfsVolume);
+        }
+
+        DirectoryEntries dirEntries = xtreemfsVolume.readDir(userCredentials, path, 0, 0, true);
+        boolean isEmpty = (dirEntries.getEntriesCount() <= 2);
+        if (isEmpty) {
+            xtreemfsVolume.removeDirectory(userCredentials, path);
+            return true;
         } else {
-            if (isEmpty) {
-                xtreemfsVolume.removeDirectory(userCredentials, path);
-                return true;
-            } else {
-                return false;
-            }
+            return false;
         }
     }
 
     private boolean deleteXtreemFSDirRecursive(String path, Volume xtreemfsVolume) throws IOException {
-        boolean success = true;
         try {
-            DirectoryEntries dirEntries = xtreemfsVolume.readDir(userCredentials, path, 0, 0, false);
-            for (DirectoryEntry dirEntry : dirEntries.getEntriesList()) {
-                if (dirEntry.getName().equals(".") || dirEntry.getName().equals("..")) {
-                    continue;
-                }
-                if (isXtreemFSFile(dirEntry.getStbuf())) {
-                    xtreemfsVolume.unlink(userCredentials, path + "/" + dirEntry.getName());
-                }
-                if (isXtreemFSDirectory(dirEntry.getStbuf())) {
-                    success = deleteXtreemFSDirRecursive(path + "/" + dirEntry.getName(), xtreemfsVolume);
-                }
-            }
-            xtreemfsVolume.removeDirectory(userCredentials, path);
+            xtreemfsVolume.removeRecursive(userCredentials, Collections.singletonList(path));
+            return true;
         } catch (XtreemFSException xe) {
-            success = false;
+            Logging.logMessage(Logging.LEVEL_DEBUG, Logging.Category.misc, this,
+                    "failed to delete directory %s, reason: %s", path, xe.getMessage());
+            return false;
         }
-        return success;
     }
 
     private boolean deleteXtreemFSFile(String path, Volume xtreemfsVolume) throws IOException {
@@ -1,23 +1,27 @@
 #!/bin/bash
 
-OBJECT_DIR=$1
+# The OSD passes its object directory followed by all additional object
+# directories (object_dirs). The disks of all directories are checked.
+DEVICES=""
 
-# get device for object_dir
-IFS=' ' read -r DEVICE TMP <<< $(df $OBJECT_DIR | grep dev)
+for OBJECT_DIR in "$@"; do
+   # get device for object_dir
+   IFS=' ' read -r DEVICE TMP <<< $(df $OBJECT_DIR | grep dev)
 
-# Determine device type
-if [[ $DEVICE == *md* ]]; then
-   # DEVICE is a RAID configuration
-   DEVICES=$(IFS=' ' read -a TMP <<< $(cat /proc/mdstat | grep $DEVICE))
-   DEVICES=${DEVICES[@]:4}
-elif [[ $DEVICE == *sd* || $DEVICE == *hd* ]]; then
-   # DEVICE is a single disk
-   DEVICES=$DEVICE
-else
-   # unsupported device type
-   echo "unsupported device type"
-   exit 3
-fi
+   # Determine device type
+   if [[ $DEVICE == *md* ]]; then
+      # DEVICE is a RAID configuration
+      RAID_DEVICES=$(IFS=' ' read -a TMP <<< $(cat /proc/mdstat | grep $DEVICE))
+      DEVICES="$DEVICES ${RAID_DEVICES[@]:4}"
+   elif [[ $DEVICE == *sd* || $DEVICE == *hd* ]]; then
+      # DEVICE is a single disk
+      DEVICES="$DEVICES $DEVICE"
+   else
+      # unsupported device type
+      echo "unsupported device type"
+      exit 3
+   fi
+done
 
 for DEVICE in $DEVICES; do     
    SMART_STATUS="$(sudo smartctl --health $DEVICE)"
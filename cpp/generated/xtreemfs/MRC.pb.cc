@@ -177,6 +177,21 @@ const ::google::protobuf::internal::GeneratedMessageReflection*
 const ::google::protobuf::Descriptor* xtreemfs_get_file_credentialsRequest_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   xtreemfs_get_file_credentialsRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_update_batchRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_update_batchRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* UpdateBatchResult_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  UpdateBatchResult_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_update_batchResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_update_batchResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_delete_recursiveRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_delete_recursiveRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_delete_recursiveResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_delete_recursiveResponse_reflection_ = NULL;
 const ::google::protobuf::EnumDescriptor* Setattrs_descriptor_ = NULL;
 const ::google::protobuf::EnumDescriptor* XATTR_FLAGS_descriptor_ = NULL;
 const ::google::protobuf::EnumDescriptor* ACCESS_FLAGS_descriptor_ = NULL;
@@ -1074,6 +1089,87 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_get_file_credentialsRequest));
+  xtreemfs_update_batchRequest_descriptor_ = file->message_type(52);
+  static const int xtreemfs_update_batchRequest_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_batchRequest, file_size_updates_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_batchRequest, xcaps_),
+  };
+  xtreemfs_update_batchRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_update_batchRequest_descriptor_,
+      xtreemfs_update_batchRequest::default_instance_,
+      xtreemfs_update_batchRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_batchRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_batchRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_update_batchRequest));
+  UpdateBatchResult_descriptor_ = file->message_type(53);
+  static const int UpdateBatchResult_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UpdateBatchResult, error_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UpdateBatchResult, xcap_),
+  };
+  UpdateBatchResult_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      UpdateBatchResult_descriptor_,
+      UpdateBatchResult::default_instance_,
+      UpdateBatchResult_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UpdateBatchResult, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UpdateBatchResult, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(UpdateBatchResult));
+  xtreemfs_update_batchResponse_descriptor_ = file->message_type(54);
+  static const int xtreemfs_update_batchResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_batchResponse, file_size_update_results_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_batchResponse, xcap_results_),
+  };
+  xtreemfs_update_batchResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_update_batchResponse_descriptor_,
+      xtreemfs_update_batchResponse::default_instance_,
+      xtreemfs_update_batchResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_batchResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_batchResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_update_batchResponse));
+  xtreemfs_delete_recursiveRequest_descriptor_ = file->message_type(55);
+  static const int xtreemfs_delete_recursiveRequest_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_delete_recursiveRequest, volume_name_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_delete_recursiveRequest, paths_),
+  };
+  xtreemfs_delete_recursiveRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_delete_recursiveRequest_descriptor_,
+      xtreemfs_delete_recursiveRequest::default_instance_,
+      xtreemfs_delete_recursiveRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_delete_recursiveRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_delete_recursiveRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_delete_recursiveRequest));
+  xtreemfs_delete_recursiveResponse_descriptor_ = file->message_type(56);
+  static const int xtreemfs_delete_recursiveResponse_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_delete_recursiveResponse, completed_paths_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_delete_recursiveResponse, error_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_delete_recursiveResponse, deleted_files_),
+  };
+  xtreemfs_delete_recursiveResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_delete_recursiveResponse_descriptor_,
+      xtreemfs_delete_recursiveResponse::default_instance_,
+      xtreemfs_delete_recursiveResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_delete_recursiveResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_delete_recursiveResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_delete_recursiveResponse));
   Setattrs_descriptor_ = file->enum_type(0);
   XATTR_FLAGS_descriptor_ = file->enum_type(1);
   ACCESS_FLAGS_descriptor_ = file->enum_type(2);
@@ -1193,6 +1289,16 @@ void protobuf_RegisterTypes(const ::std::string&) {
     xtreemfs_set_read_only_xattrResponse_descriptor_, &xtreemfs_set_read_only_xattrResponse::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     xtreemfs_get_file_credentialsRequest_descriptor_, &xtreemfs_get_file_credentialsRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_update_batchRequest_descriptor_, &xtreemfs_update_batchRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    UpdateBatchResult_descriptor_, &UpdateBatchResult::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_update_batchResponse_descriptor_, &xtreemfs_update_batchResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_delete_recursiveRequest_descriptor_, &xtreemfs_delete_recursiveRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_delete_recursiveResponse_descriptor_, &xtreemfs_delete_recursiveResponse::default_instance());
 }
 
 }  // namespace
@@ -1302,6 +1408,16 @@ void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto() {
   delete xtreemfs_set_read_only_xattrResponse_reflection_;
   delete xtreemfs_get_file_credentialsRequest::default_instance_;
   delete xtreemfs_get_file_credentialsRequest_reflection_;
+  delete xtreemfs_update_batchRequest::default_instance_;
+  delete xtreemfs_update_batchRequest_reflection_;
+  delete UpdateBatchResult::default_instance_;
+  delete UpdateBatchResult_reflection_;
+  delete xtreemfs_update_batchResponse::default_instance_;
+  delete xtreemfs_update_batchResponse_reflection_;
+  delete xtreemfs_delete_recursiveRequest::default_instance_;
+  delete xtreemfs_delete_recursiveRequest_reflection_;
+  delete xtreemfs_delete_recursiveResponse::default_instance_;
+  delete xtreemfs_delete_recursiveResponse_reflection_;
 }
 
 void protobuf_AddDesc_xtreemfs_2fMRC_2eproto() {
@@ -1312,239 +1428,263 @@ void protobuf_AddDesc_xtreemfs_2fMRC_2eproto() {
 
   ::xtreemfs::pbrpc::protobuf_AddDesc_include_2fPBRPC_2eproto();
   ::xtreemfs::pbrpc::protobuf_AddDesc_include_2fCommon_2eproto();
+  ::xtreemfs::pbrpc::protobuf_AddDesc_pbrpc_2fRPC_2eproto();
   ::xtreemfs::pbrpc::protobuf_AddDesc_xtreemfs_2fGlobalTypes_2eproto();
   ::google::protobuf::DescriptorPool::InternalAddGeneratedFile(
     "\n\022xtreemfs/MRC.proto\022\016xtreemfs.pbrpc\032\023in"
     "clude/PBRPC.proto\032\024include/Common.proto\032"
-    "\032xtreemfs/GlobalTypes.proto\"\357\001\n\004Stat\022\013\n\003"
-    "dev\030\001 \002(\006\022\013\n\003ino\030\002 \002(\006\022\014\n\004mode\030\003 \002(\007\022\r\n\005"
-    "nlink\030\004 \002(\007\022\017\n\007user_id\030\005 \002(\t\022\020\n\010group_id"
-    "\030\006 \002(\t\022\014\n\004size\030\007 \002(\006\022\020\n\010atime_ns\030\010 \002(\006\022\020"
-    "\n\010mtime_ns\030\t \002(\006\022\020\n\010ctime_ns\030\n \002(\006\022\017\n\007bl"
-    "ksize\030\013 \002(\007\022\014\n\004etag\030\014 \001(\006\022\026\n\016truncate_ep"
-    "och\030\r \002(\007\022\022\n\nattributes\030\016 \001(\007\"C\n\016Directo"
-    "ryEntry\022\014\n\004name\030\001 \002(\t\022#\n\005stbuf\030\002 \001(\0132\024.x"
-    "treemfs.pbrpc.Stat\"C\n\020DirectoryEntries\022/"
-    "\n\007entries\030\001 \003(\0132\036.xtreemfs.pbrpc.Directo"
-    "ryEntry\"@\n\005XAttr\022\014\n\004name\030\001 \002(\t\022\r\n\005value\030"
-    "\002 \001(\t\022\032\n\022value_bytes_string\030\003 \001(\014\"\244\002\n\006Vo"
-    "lume\022F\n\025access_control_policy\030\001 \002(\0162\'.xt"
-    "reemfs.pbrpc.AccessControlPolicyType\022\?\n\027"
-    "default_striping_policy\030\002 \002(\0132\036.xtreemfs"
-    ".pbrpc.StripingPolicy\022\n\n\002id\030\003 \002(\t\022\014\n\004mod"
-    "e\030\004 \002(\007\022\014\n\004name\030\005 \002(\t\022\026\n\016owner_group_id\030"
-    "\006 \002(\t\022\025\n\rowner_user_id\030\007 \002(\t\022+\n\005attrs\030\010 "
-    "\003(\0132\034.xtreemfs.pbrpc.KeyValuePair\022\r\n\005quo"
-    "ta\030\t \001(\006\"2\n\007Volumes\022\'\n\007volumes\030\001 \003(\0132\026.x"
-    "treemfs.pbrpc.Volume\"\310\002\n\007StatVFS\022\r\n\005bsiz"
-    "e\030\001 \002(\007\022\016\n\006bavail\030\002 \002(\006\022\r\n\005bfree\030\r \001(\006\022\016"
-    "\n\006blocks\030\003 \002(\006\022\014\n\004fsid\030\004 \002(\t\022\017\n\007namemax\030"
-    "\005 \002(\007\022F\n\025access_control_policy\030\006 \002(\0162\'.x"
-    "treemfs.pbrpc.AccessControlPolicyType\022\?\n"
-    "\027default_striping_policy\030\007 \002(\0132\036.xtreemf"
-    "s.pbrpc.StripingPolicy\022\014\n\004etag\030\010 \002(\006\022\014\n\004"
-    "mode\030\t \002(\007\022\014\n\004name\030\n \002(\t\022\026\n\016owner_group_"
-    "id\030\013 \002(\t\022\025\n\rowner_user_id\030\014 \002(\t\"i\n\017fseta"
-    "ttrRequest\022#\n\005stbuf\030\001 \002(\0132\024.xtreemfs.pbr"
-    "pc.Stat\022\016\n\006to_set\030\002 \002(\007\022!\n\003cap\030\003 \002(\0132\024.x"
-    "treemfs.pbrpc.XCap\"G\n\016getattrRequest\022\023\n\013"
-    "volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\022\n\nknown"
-    "_etag\030\003 \002(\006\"6\n\017getattrResponse\022#\n\005stbuf\030"
-    "\001 \001(\0132\024.xtreemfs.pbrpc.Stat\"B\n\017getxattrR"
-    "equest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002("
-    "\t\022\014\n\004name\030\003 \002(\t\"=\n\020getxattrResponse\022\r\n\005v"
-    "alue\030\001 \002(\t\022\032\n\022value_bytes_string\030\002 \001(\014\"J"
-    "\n\013linkRequest\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013ta"
-    "rget_path\030\002 \002(\t\022\021\n\tlink_path\030\003 \002(\t\"I\n\020li"
-    "stxattrRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004p"
-    "ath\030\002 \002(\t\022\022\n\nnames_only\030\003 \002(\010\":\n\021listxat"
-    "trResponse\022%\n\006xattrs\030\001 \003(\0132\025.xtreemfs.pb"
-    "rpc.XAttr\"\?\n\014mkdirRequest\022\023\n\013volume_name"
-    "\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004mode\030\003 \002(\007\"\232\001\n\013o"
-    "penRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030"
-    "\002 \002(\t\022\r\n\005flags\030\003 \002(\007\022\014\n\004mode\030\004 \002(\007\022\022\n\nat"
-    "tributes\030\005 \002(\007\0227\n\013coordinates\030\006 \001(\0132\".xt"
-    "reemfs.pbrpc.VivaldiCoordinates\"S\n\014openR"
-    "esponse\022.\n\005creds\030\001 \002(\0132\037.xtreemfs.pbrpc."
-    "FileCredentials\022\023\n\013timestamp_s\030\002 \002(\007\"\250\001\n"
-    "\016readdirRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004"
-    "path\030\002 \002(\t\022\022\n\nknown_etag\030\003 \002(\006\022%\n\035limit_"
-    "directory_entries_count\030\004 \002(\007\022\022\n\nnames_o"
-    "nly\030\005 \002(\010\022$\n\034seen_directory_entries_coun"
-    "t\030\006 \002(\006\"4\n\017readlinkRequest\022\023\n\013volume_nam"
-    "e\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\",\n\020readlinkRespons"
-    "e\022\030\n\020link_target_path\030\001 \003(\t\"E\n\022removexat"
-    "trRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002"
-    " \002(\t\022\014\n\004name\030\003 \002(\t\"N\n\rrenameRequest\022\023\n\013v"
-    "olume_name\030\001 \002(\t\022\023\n\013source_path\030\002 \002(\t\022\023\n"
-    "\013target_path\030\003 \002(\t\"U\n\016renameResponse\022\023\n\013"
-    "timestamp_s\030\001 \002(\007\022.\n\005creds\030\002 \001(\0132\037.xtree"
-    "mfs.pbrpc.FileCredentials\"1\n\014rmdirReques"
-    "t\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\"h\n\016"
-    "setattrRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004p"
-    "ath\030\002 \002(\t\022#\n\005stbuf\030\003 \002(\0132\024.xtreemfs.pbrp"
-    "c.Stat\022\016\n\006to_set\030\004 \002(\007\"|\n\017setxattrReques"
-    "t\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004"
-    "name\030\003 \002(\t\022\r\n\005value\030\004 \002(\t\022\032\n\022value_bytes"
-    "_string\030\006 \001(\014\022\r\n\005flags\030\005 \002(\007\"9\n\016statvfsR"
-    "equest\022\023\n\013volume_name\030\001 \002(\t\022\022\n\nknown_eta"
-    "g\030\005 \002(\006\"M\n\016symlinkRequest\022\023\n\013volume_name"
-    "\030\001 \002(\t\022\023\n\013target_path\030\002 \002(\t\022\021\n\tlink_path"
-    "\030\003 \002(\t\"2\n\runlinkRequest\022\023\n\013volume_name\030\001"
-    " \002(\t\022\014\n\004path\030\002 \002(\t\"U\n\016unlinkResponse\022\023\n\013"
-    "timestamp_s\030\001 \002(\007\022.\n\005creds\030\002 \001(\0132\037.xtree"
-    "mfs.pbrpc.FileCredentials\"A\n\raccessReque"
-    "st\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\r\n"
-    "\005flags\030\003 \002(\007\"Z\n!xtreemfs_check_file_exis"
-    "tsRequest\022\021\n\tvolume_id\030\001 \002(\t\022\020\n\010file_ids"
-    "\030\002 \003(\t\022\020\n\010osd_uuid\030\003 \002(\t\":\n%xtreemfs_dum"
-    "p_restore_databaseRequest\022\021\n\tdump_file\030\001"
-    " \002(\t\"i\n!xtreemfs_get_suitable_osdsReques"
-    "t\022\017\n\007file_id\030\001 \001(\t\022\014\n\004path\030\003 \001(\t\022\023\n\013volu"
-    "me_name\030\004 \001(\t\022\020\n\010num_osds\030\002 \002(\007\"7\n\"xtree"
-    "mfs_get_suitable_osdsResponse\022\021\n\tosd_uui"
-    "ds\030\001 \003(\t\"4\n\"xtreemfs_check_file_existsRe"
-    "sponse\022\016\n\006bitmap\030\001 \002(\t\"(\n\021timestampRespo"
-    "nse\022\023\n\013timestamp_s\030\001 \002(\007\"!\n\rstringMessag"
-    "e\022\020\n\010a_string\030\001 \002(\t\"\'\n\027xtreemfs_listdirR"
-    "equest\022\014\n\004path\030\001 \002(\t\")\n\030xtreemfs_listdir"
-    "Response\022\r\n\005names\030\001 \003(\t\"\177\n\033xtreemfs_repl"
-    "ica_addRequest\022\017\n\007file_id\030\001 \001(\t\022\014\n\004path\030"
-    "\003 \001(\t\022\023\n\013volume_name\030\004 \001(\t\022,\n\013new_replic"
-    "a\030\002 \002(\0132\027.xtreemfs.pbrpc.Replica\"R\n\034xtre"
-    "emfs_replica_listRequest\022\017\n\007file_id\030\001 \001("
-    "\t\022\014\n\004path\030\002 \001(\t\022\023\n\013volume_name\030\003 \001(\t\"f\n\036"
-    "xtreemfs_replica_removeRequest\022\017\n\007file_i"
-    "d\030\001 \001(\t\022\014\n\004path\030\003 \001(\t\022\023\n\013volume_name\030\004 \001"
-    "(\t\022\020\n\010osd_uuid\030\002 \002(\t\"|\n\034xtreemfs_restore"
-    "_fileRequest\022\021\n\tfile_path\030\001 \002(\t\022\017\n\007file_"
-    "id\030\002 \002(\t\022\021\n\tfile_size\030\003 \002(\006\022\020\n\010osd_uuid\030"
-    "\004 \002(\t\022\023\n\013stripe_size\030\005 \002(\007\",\n\025xtreemfs_r"
-    "mvolRequest\022\023\n\013volume_name\030\001 \002(\t\"\321\001\n xtr"
-    "eemfs_update_file_sizeRequest\022\"\n\004xcap\030\001 "
-    "\002(\0132\024.xtreemfs.pbrpc.XCap\022<\n\022osd_write_r"
-    "esponse\030\002 \002(\0132 .xtreemfs.pbrpc.OSDWriteR"
-    "esponse\022\022\n\nclose_file\030\003 \001(\010\0227\n\013coordinat"
-    "es\030\004 \001(\0132\".xtreemfs.pbrpc.VivaldiCoordin"
-    "ates\"S\n)xtreemfs_set_replica_update_poli"
-    "cyRequest\022\017\n\007file_id\030\001 \002(\t\022\025\n\rupdate_pol"
-    "icy\030\002 \002(\t\"G\n*xtreemfs_set_replica_update"
-    "_policyResponse\022\031\n\021old_update_policy\030\001 \002"
-    "(\t\"E\n#xtreemfs_set_read_only_xattrReques"
-    "t\022\017\n\007file_id\030\001 \002(\t\022\r\n\005value\030\002 \002(\010\"7\n$xtr"
-    "eemfs_set_read_only_xattrResponse\022\017\n\007was"
-    "_set\030\001 \002(\010\"7\n$xtreemfs_get_file_credenti"
-    "alsRequest\022\017\n\007file_id\030\001 \002(\t*\242\001\n\010Setattrs"
-    "\022\020\n\014SETATTR_MODE\020\001\022\017\n\013SETATTR_UID\020\002\022\017\n\013S"
-    "ETATTR_GID\020\004\022\020\n\014SETATTR_SIZE\020\010\022\021\n\rSETATT"
-    "R_ATIME\020\020\022\021\n\rSETATTR_MTIME\020 \022\021\n\rSETATTR_"
-    "CTIME\020@\022\027\n\022SETATTR_ATTRIBUTES\020\200\001*>\n\013XATT"
-    "R_FLAGS\022\026\n\022XATTR_FLAGS_CREATE\020\001\022\027\n\023XATTR"
-    "_FLAGS_REPLACE\020\002*j\n\014ACCESS_FLAGS\022\025\n\021ACCE"
-    "SS_FLAGS_F_OK\020\000\022\025\n\021ACCESS_FLAGS_X_OK\020\001\022\025"
-    "\n\021ACCESS_FLAGS_W_OK\020\002\022\025\n\021ACCESS_FLAGS_R_"
-    "OK\020\0042\234\037\n\nMRCService\022S\n\010fsetattr\022\037.xtreem"
-    "fs.pbrpc.fsetattrRequest\032\035.xtreemfs.pbrp"
-    "c.emptyResponse\"\007\215\265\030\002\000\000\000\022@\n\tftruncate\022\024."
-    "xtreemfs.pbrpc.XCap\032\024.xtreemfs.pbrpc.XCa"
-    "p\"\007\215\265\030\003\000\000\000\022S\n\007getattr\022\036.xtreemfs.pbrpc.g"
-    "etattrRequest\032\037.xtreemfs.pbrpc.getattrRe"
-    "sponse\"\007\215\265\030\004\000\000\000\022V\n\010getxattr\022\037.xtreemfs.p"
-    "brpc.getxattrRequest\032 .xtreemfs.pbrpc.ge"
-    "txattrResponse\"\007\215\265\030\005\000\000\000\022O\n\004link\022\033.xtreem"
-    "fs.pbrpc.linkRequest\032!.xtreemfs.pbrpc.ti"
-    "mestampResponse\"\007\215\265\030\006\000\000\000\022Y\n\tlistxattr\022 ."
-    "xtreemfs.pbrpc.listxattrRequest\032!.xtreem"
-    "fs.pbrpc.listxattrResponse\"\007\215\265\030\007\000\000\000\022Q\n\005m"
-    "kdir\022\034.xtreemfs.pbrpc.mkdirRequest\032!.xtr"
-    "eemfs.pbrpc.timestampResponse\"\007\215\265\030\010\000\000\000\022J"
-    "\n\004open\022\033.xtreemfs.pbrpc.openRequest\032\034.xt"
-    "reemfs.pbrpc.openResponse\"\007\215\265\030\t\000\000\000\022T\n\007re"
-    "addir\022\036.xtreemfs.pbrpc.readdirRequest\032 ."
-    "xtreemfs.pbrpc.DirectoryEntries\"\007\215\265\030\n\000\000\000"
-    "\022V\n\010readlink\022\037.xtreemfs.pbrpc.readlinkRe"
-    "quest\032 .xtreemfs.pbrpc.readlinkResponse\""
-    "\007\215\265\030\013\000\000\000\022]\n\013removexattr\022\".xtreemfs.pbrpc"
-    ".removexattrRequest\032!.xtreemfs.pbrpc.tim"
-    "estampResponse\"\007\215\265\030\014\000\000\000\022P\n\006rename\022\035.xtre"
-    "emfs.pbrpc.renameRequest\032\036.xtreemfs.pbrp"
-    "c.renameResponse\"\007\215\265\030\r\000\000\000\022Q\n\005rmdir\022\034.xtr"
-    "eemfs.pbrpc.rmdirRequest\032!.xtreemfs.pbrp"
-    "c.timestampResponse\"\007\215\265\030\016\000\000\000\022U\n\007setattr\022"
-    "\036.xtreemfs.pbrpc.setattrRequest\032!.xtreem"
-    "fs.pbrpc.timestampResponse\"\007\215\265\030\017\000\000\000\022W\n\010s"
-    "etxattr\022\037.xtreemfs.pbrpc.setxattrRequest"
-    "\032!.xtreemfs.pbrpc.timestampResponse\"\007\215\265\030"
-    "\020\000\000\000\022K\n\007statvfs\022\036.xtreemfs.pbrpc.statvfs"
-    "Request\032\027.xtreemfs.pbrpc.StatVFS\"\007\215\265\030\021\000\000"
-    "\000\022U\n\007symlink\022\036.xtreemfs.pbrpc.symlinkReq"
+    "\017pbrpc/RPC.proto\032\032xtreemfs/GlobalTypes.p"
+    "roto\"\357\001\n\004Stat\022\013\n\003dev\030\001 \002(\006\022\013\n\003ino\030\002 \002(\006\022"
+    "\014\n\004mode\030\003 \002(\007\022\r\n\005nlink\030\004 \002(\007\022\017\n\007user_id\030"
+    "\005 \002(\t\022\020\n\010group_id\030\006 \002(\t\022\014\n\004size\030\007 \002(\006\022\020\n"
+    "\010atime_ns\030\010 \002(\006\022\020\n\010mtime_ns\030\t \002(\006\022\020\n\010cti"
+    "me_ns\030\n \002(\006\022\017\n\007blksize\030\013 \002(\007\022\014\n\004etag\030\014 \001"
+    "(\006\022\026\n\016truncate_epoch\030\r \002(\007\022\022\n\nattributes"
+    "\030\016 \001(\007\"C\n\016DirectoryEntry\022\014\n\004name\030\001 \002(\t\022#"
+    "\n\005stbuf\030\002 \001(\0132\024.xtreemfs.pbrpc.Stat\"C\n\020D"
+    "irectoryEntries\022/\n\007entries\030\001 \003(\0132\036.xtree"
+    "mfs.pbrpc.DirectoryEntry\"@\n\005XAttr\022\014\n\004nam"
+    "e\030\001 \002(\t\022\r\n\005value\030\002 \001(\t\022\032\n\022value_bytes_st"
+    "ring\030\003 \001(\014\"\244\002\n\006Volume\022F\n\025access_control_"
+    "policy\030\001 \002(\0162\'.xtreemfs.pbrpc.AccessCont"
+    "rolPolicyType\022\?\n\027default_striping_policy"
+    "\030\002 \002(\0132\036.xtreemfs.pbrpc.StripingPolicy\022\n"
+    "\n\002id\030\003 \002(\t\022\014\n\004mode\030\004 \002(\007\022\014\n\004name\030\005 \002(\t\022\026"
+    "\n\016owner_group_id\030\006 \002(\t\022\025\n\rowner_user_id\030"
+    "\007 \002(\t\022+\n\005attrs\030\010 \003(\0132\034.xtreemfs.pbrpc.Ke"
+    "yValuePair\022\r\n\005quota\030\t \001(\006\"2\n\007Volumes\022\'\n\007"
+    "volumes\030\001 \003(\0132\026.xtreemfs.pbrpc.Volume\"\310\002"
+    "\n\007StatVFS\022\r\n\005bsize\030\001 \002(\007\022\016\n\006bavail\030\002 \002(\006"
+    "\022\r\n\005bfree\030\r \001(\006\022\016\n\006blocks\030\003 \002(\006\022\014\n\004fsid\030"
+    "\004 \002(\t\022\017\n\007namemax\030\005 \002(\007\022F\n\025access_control"
+    "_policy\030\006 \002(\0162\'.xtreemfs.pbrpc.AccessCon"
+    "trolPolicyType\022\?\n\027default_striping_polic"
+    "y\030\007 \002(\0132\036.xtreemfs.pbrpc.StripingPolicy\022"
+    "\014\n\004etag\030\010 \002(\006\022\014\n\004mode\030\t \002(\007\022\014\n\004name\030\n \002("
+    "\t\022\026\n\016owner_group_id\030\013 \002(\t\022\025\n\rowner_user_"
+    "id\030\014 \002(\t\"i\n\017fsetattrRequest\022#\n\005stbuf\030\001 \002"
+    "(\0132\024.xtreemfs.pbrpc.Stat\022\016\n\006to_set\030\002 \002(\007"
+    "\022!\n\003cap\030\003 \002(\0132\024.xtreemfs.pbrpc.XCap\"G\n\016g"
+    "etattrRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004pa"
+    "th\030\002 \002(\t\022\022\n\nknown_etag\030\003 \002(\006\"6\n\017getattrR"
+    "esponse\022#\n\005stbuf\030\001 \001(\0132\024.xtreemfs.pbrpc."
+    "Stat\"B\n\017getxattrRequest\022\023\n\013volume_name\030\001"
+    " \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004name\030\003 \002(\t\"=\n\020getx"
+    "attrResponse\022\r\n\005value\030\001 \002(\t\022\032\n\022value_byt"
+    "es_string\030\002 \001(\014\"J\n\013linkRequest\022\023\n\013volume"
+    "_name\030\001 \002(\t\022\023\n\013target_path\030\002 \002(\t\022\021\n\tlink"
+    "_path\030\003 \002(\t\"I\n\020listxattrRequest\022\023\n\013volum"
+    "e_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\022\n\nnames_only"
+    "\030\003 \002(\010\":\n\021listxattrResponse\022%\n\006xattrs\030\001 "
+    "\003(\0132\025.xtreemfs.pbrpc.XAttr\"\?\n\014mkdirReque"
+    "st\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n"
+    "\004mode\030\003 \002(\007\"\232\001\n\013openRequest\022\023\n\013volume_na"
+    "me\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\r\n\005flags\030\003 \002(\007\022\014\n"
+    "\004mode\030\004 \002(\007\022\022\n\nattributes\030\005 \002(\007\0227\n\013coord"
+    "inates\030\006 \001(\0132\".xtreemfs.pbrpc.VivaldiCoo"
+    "rdinates\"S\n\014openResponse\022.\n\005creds\030\001 \002(\0132"
+    "\037.xtreemfs.pbrpc.FileCredentials\022\023\n\013time"
+    "stamp_s\030\002 \002(\007\"\250\001\n\016readdirRequest\022\023\n\013volu"
+    "me_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\022\n\nknown_eta"
+    "g\030\003 \002(\006\022%\n\035limit_directory_entries_count"
+    "\030\004 \002(\007\022\022\n\nnames_only\030\005 \002(\010\022$\n\034seen_direc"
+    "tory_entries_count\030\006 \002(\006\"4\n\017readlinkRequ"
+    "est\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\","
+    "\n\020readlinkResponse\022\030\n\020link_target_path\030\001"
+    " \003(\t\"E\n\022removexattrRequest\022\023\n\013volume_nam"
+    "e\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004name\030\003 \002(\t\"N\n\rr"
+    "enameRequest\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013sou"
+    "rce_path\030\002 \002(\t\022\023\n\013target_path\030\003 \002(\t\"U\n\016r"
+    "enameResponse\022\023\n\013timestamp_s\030\001 \002(\007\022.\n\005cr"
+    "eds\030\002 \001(\0132\037.xtreemfs.pbrpc.FileCredentia"
+    "ls\"1\n\014rmdirRequest\022\023\n\013volume_name\030\001 \002(\t\022"
+    "\014\n\004path\030\002 \002(\t\"h\n\016setattrRequest\022\023\n\013volum"
+    "e_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022#\n\005stbuf\030\003 \002("
+    "\0132\024.xtreemfs.pbrpc.Stat\022\016\n\006to_set\030\004 \002(\007\""
+    "|\n\017setxattrRequest\022\023\n\013volume_name\030\001 \002(\t\022"
+    "\014\n\004path\030\002 \002(\t\022\014\n\004name\030\003 \002(\t\022\r\n\005value\030\004 \002"
+    "(\t\022\032\n\022value_bytes_string\030\006 \001(\014\022\r\n\005flags\030"
+    "\005 \002(\007\"9\n\016statvfsRequest\022\023\n\013volume_name\030\001"
+    " \002(\t\022\022\n\nknown_etag\030\005 \002(\006\"M\n\016symlinkReque"
+    "st\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013target_path\030\002"
+    " \002(\t\022\021\n\tlink_path\030\003 \002(\t\"2\n\runlinkRequest"
+    "\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\"U\n\016u"
+    "nlinkResponse\022\023\n\013timestamp_s\030\001 \002(\007\022.\n\005cr"
+    "eds\030\002 \001(\0132\037.xtreemfs.pbrpc.FileCredentia"
+    "ls\"A\n\raccessRequest\022\023\n\013volume_name\030\001 \002(\t"
+    "\022\014\n\004path\030\002 \002(\t\022\r\n\005flags\030\003 \002(\007\"Z\n!xtreemf"
+    "s_check_file_existsRequest\022\021\n\tvolume_id\030"
+    "\001 \002(\t\022\020\n\010file_ids\030\002 \003(\t\022\020\n\010osd_uuid\030\003 \002("
+    "\t\":\n%xtreemfs_dump_restore_databaseReque"
+    "st\022\021\n\tdump_file\030\001 \002(\t\"i\n!xtreemfs_get_su"
+    "itable_osdsRequest\022\017\n\007file_id\030\001 \001(\t\022\014\n\004p"
+    "ath\030\003 \001(\t\022\023\n\013volume_name\030\004 \001(\t\022\020\n\010num_os"
+    "ds\030\002 \002(\007\"7\n\"xtreemfs_get_suitable_osdsRe"
+    "sponse\022\021\n\tosd_uuids\030\001 \003(\t\"4\n\"xtreemfs_ch"
+    "eck_file_existsResponse\022\016\n\006bitmap\030\001 \002(\t\""
+    "(\n\021timestampResponse\022\023\n\013timestamp_s\030\001 \002("
+    "\007\"!\n\rstringMessage\022\020\n\010a_string\030\001 \002(\t\"\'\n\027"
+    "xtreemfs_listdirRequest\022\014\n\004path\030\001 \002(\t\")\n"
+    "\030xtreemfs_listdirResponse\022\r\n\005names\030\001 \003(\t"
+    "\"\177\n\033xtreemfs_replica_addRequest\022\017\n\007file_"
+    "id\030\001 \001(\t\022\014\n\004path\030\003 \001(\t\022\023\n\013volume_name\030\004 "
+    "\001(\t\022,\n\013new_replica\030\002 \002(\0132\027.xtreemfs.pbrp"
+    "c.Replica\"R\n\034xtreemfs_replica_listReques"
+    "t\022\017\n\007file_id\030\001 \001(\t\022\014\n\004path\030\002 \001(\t\022\023\n\013volu"
+    "me_name\030\003 \001(\t\"f\n\036xtreemfs_replica_remove"
+    "Request\022\017\n\007file_id\030\001 \001(\t\022\014\n\004path\030\003 \001(\t\022\023"
+    "\n\013volume_name\030\004 \001(\t\022\020\n\010osd_uuid\030\002 \002(\t\"|\n"
+    "\034xtreemfs_restore_fileRequest\022\021\n\tfile_pa"
+    "th\030\001 \002(\t\022\017\n\007file_id\030\002 \002(\t\022\021\n\tfile_size\030\003"
+    " \002(\006\022\020\n\010osd_uuid\030\004 \002(\t\022\023\n\013stripe_size\030\005 "
+    "\002(\007\",\n\025xtreemfs_rmvolRequest\022\023\n\013volume_n"
+    "ame\030\001 \002(\t\"\321\001\n xtreemfs_update_file_sizeR"
+    "equest\022\"\n\004xcap\030\001 \002(\0132\024.xtreemfs.pbrpc.XC"
+    "ap\022<\n\022osd_write_response\030\002 \002(\0132 .xtreemf"
+    "s.pbrpc.OSDWriteResponse\022\022\n\nclose_file\030\003"
+    " \001(\010\0227\n\013coordinates\030\004 \001(\0132\".xtreemfs.pbr"
+    "pc.VivaldiCoordinates\"S\n)xtreemfs_set_re"
+    "plica_update_policyRequest\022\017\n\007file_id\030\001 "
+    "\002(\t\022\025\n\rupdate_policy\030\002 \002(\t\"G\n*xtreemfs_s"
+    "et_replica_update_policyResponse\022\031\n\021old_"
+    "update_policy\030\001 \002(\t\"E\n#xtreemfs_set_read"
+    "_only_xattrRequest\022\017\n\007file_id\030\001 \002(\t\022\r\n\005v"
+    "alue\030\002 \002(\010\"7\n$xtreemfs_set_read_only_xat"
+    "trResponse\022\017\n\007was_set\030\001 \002(\010\"7\n$xtreemfs_"
+    "get_file_credentialsRequest\022\017\n\007file_id\030\001"
+    " \002(\t\"\220\001\n\034xtreemfs_update_batchRequest\022K\n"
+    "\021file_size_updates\030\001 \003(\01320.xtreemfs.pbrp"
+    "c.xtreemfs_update_file_sizeRequest\022#\n\005xc"
+    "aps\030\002 \003(\0132\024.xtreemfs.pbrpc.XCap\"o\n\021Updat"
+    "eBatchResult\0226\n\005error\030\001 \001(\0132\'.xtreemfs.p"
+    "brpc.RPCHeader.ErrorResponse\022\"\n\004xcap\030\002 \001"
+    "(\0132\024.xtreemfs.pbrpc.XCap\"\235\001\n\035xtreemfs_up"
+    "date_batchResponse\022C\n\030file_size_update_r"
+    "esults\030\001 \003(\0132!.xtreemfs.pbrpc.UpdateBatc"
+    "hResult\0227\n\014xcap_results\030\002 \003(\0132!.xtreemfs"
+    ".pbrpc.UpdateBatchResult\"F\n xtreemfs_del"
+    "ete_recursiveRequest\022\023\n\013volume_name\030\001 \002("
+    "\t\022\r\n\005paths\030\002 \003(\t\"\254\001\n!xtreemfs_delete_rec"
+    "ursiveResponse\022\027\n\017completed_paths\030\001 \002(\007\022"
+    "6\n\005error\030\002 \001(\0132\'.xtreemfs.pbrpc.RPCHeade"
+    "r.ErrorResponse\0226\n\rdeleted_files\030\003 \003(\0132\037"
+    ".xtreemfs.pbrpc.FileCredentials*\242\001\n\010Seta"
+    "ttrs\022\020\n\014SETATTR_MODE\020\001\022\017\n\013SETATTR_UID\020\002\022"
+    "\017\n\013SETATTR_GID\020\004\022\020\n\014SETATTR_SIZE\020\010\022\021\n\rSE"
+    "TATTR_ATIME\020\020\022\021\n\rSETATTR_MTIME\020 \022\021\n\rSETA"
+    "TTR_CTIME\020@\022\027\n\022SETATTR_ATTRIBUTES\020\200\001*>\n\013"
+    "XATTR_FLAGS\022\026\n\022XATTR_FLAGS_CREATE\020\001\022\027\n\023X"
+    "ATTR_FLAGS_REPLACE\020\002*j\n\014ACCESS_FLAGS\022\025\n\021"
+    "ACCESS_FLAGS_F_OK\020\000\022\025\n\021ACCESS_FLAGS_X_OK"
+    "\020\001\022\025\n\021ACCESS_FLAGS_W_OK\020\002\022\025\n\021ACCESS_FLAG"
+    "S_R_OK\020\0042\247!\n\nMRCService\022S\n\010fsetattr\022\037.xt"
+    "reemfs.pbrpc.fsetattrRequest\032\035.xtreemfs."
+    "pbrpc.emptyResponse\"\007\215\265\030\002\000\000\000\022@\n\tftruncat"
+    "e\022\024.xtreemfs.pbrpc.XCap\032\024.xtreemfs.pbrpc"
+    ".XCap\"\007\215\265\030\003\000\000\000\022S\n\007getattr\022\036.xtreemfs.pbr"
+    "pc.getattrRequest\032\037.xtreemfs.pbrpc.getat"
+    "trResponse\"\007\215\265\030\004\000\000\000\022V\n\010getxattr\022\037.xtreem"
+    "fs.pbrpc.getxattrRequest\032 .xtreemfs.pbrp"
+    "c.getxattrResponse\"\007\215\265\030\005\000\000\000\022O\n\004link\022\033.xt"
+    "reemfs.pbrpc.linkRequest\032!.xtreemfs.pbrp"
+    "c.timestampResponse\"\007\215\265\030\006\000\000\000\022Y\n\tlistxatt"
+    "r\022 .xtreemfs.pbrpc.listxattrRequest\032!.xt"
+    "reemfs.pbrpc.listxattrResponse\"\007\215\265\030\007\000\000\000\022"
+    "Q\n\005mkdir\022\034.xtreemfs.pbrpc.mkdirRequest\032!"
+    ".xtreemfs.pbrpc.timestampResponse\"\007\215\265\030\010\000"
+    "\000\000\022J\n\004open\022\033.xtreemfs.pbrpc.openRequest\032"
+    "\034.xtreemfs.pbrpc.openResponse\"\007\215\265\030\t\000\000\000\022T"
+    "\n\007readdir\022\036.xtreemfs.pbrpc.readdirReques"
+    "t\032 .xtreemfs.pbrpc.DirectoryEntries\"\007\215\265\030"
+    "\n\000\000\000\022V\n\010readlink\022\037.xtreemfs.pbrpc.readli"
+    "nkRequest\032 .xtreemfs.pbrpc.readlinkRespo"
+    "nse\"\007\215\265\030\013\000\000\000\022]\n\013removexattr\022\".xtreemfs.p"
+    "brpc.removexattrRequest\032!.xtreemfs.pbrpc"
+    ".timestampResponse\"\007\215\265\030\014\000\000\000\022P\n\006rename\022\035."
+    "xtreemfs.pbrpc.renameRequest\032\036.xtreemfs."
+    "pbrpc.renameResponse\"\007\215\265\030\r\000\000\000\022Q\n\005rmdir\022\034"
+    ".xtreemfs.pbrpc.rmdirRequest\032!.xtreemfs."
+    "pbrpc.timestampResponse\"\007\215\265\030\016\000\000\000\022U\n\007seta"
+    "ttr\022\036.xtreemfs.pbrpc.setattrRequest\032!.xt"
+    "reemfs.pbrpc.timestampResponse\"\007\215\265\030\017\000\000\000\022"
+    "W\n\010setxattr\022\037.xtreemfs.pbrpc.setxattrReq"
     "uest\032!.xtreemfs.pbrpc.timestampResponse\""
-    "\007\215\265\030\022\000\000\000\022P\n\006unlink\022\035.xtreemfs.pbrpc.unli"
-    "nkRequest\032\036.xtreemfs.pbrpc.unlinkRespons"
-    "e\"\007\215\265\030\023\000\000\000\022O\n\006access\022\035.xtreemfs.pbrpc.ac"
-    "cessRequest\032\035.xtreemfs.pbrpc.emptyRespon"
-    "se\"\007\215\265\030\024\000\000\000\022[\n\023xtreemfs_checkpoint\022\034.xtr"
-    "eemfs.pbrpc.emptyRequest\032\035.xtreemfs.pbrp"
-    "c.emptyResponse\"\007\215\265\030\036\000\000\000\022\214\001\n\032xtreemfs_ch"
-    "eck_file_exists\0221.xtreemfs.pbrpc.xtreemf"
-    "s_check_file_existsRequest\0322.xtreemfs.pb"
-    "rpc.xtreemfs_check_file_existsResponse\"\007"
-    "\215\265\030\037\000\000\000\022w\n\026xtreemfs_dump_database\0225.xtre"
-    "emfs.pbrpc.xtreemfs_dump_restore_databas"
-    "eRequest\032\035.xtreemfs.pbrpc.emptyResponse\""
-    "\007\215\265\030 \000\000\000\022\214\001\n\032xtreemfs_get_suitable_osds\022"
-    "1.xtreemfs.pbrpc.xtreemfs_get_suitable_o"
-    "sdsRequest\0322.xtreemfs.pbrpc.xtreemfs_get"
-    "_suitable_osdsResponse\"\007\215\265\030!\000\000\000\022`\n\027xtree"
-    "mfs_internal_debug\022\035.xtreemfs.pbrpc.stri"
-    "ngMessage\032\035.xtreemfs.pbrpc.stringMessage"
-    "\"\007\215\265\030\"\000\000\000\022n\n\020xtreemfs_listdir\022\'.xtreemfs"
-    ".pbrpc.xtreemfs_listdirRequest\032(.xtreemf"
-    "s.pbrpc.xtreemfs_listdirResponse\"\007\215\265\030#\000\000"
-    "\000\022P\n\016xtreemfs_lsvol\022\034.xtreemfs.pbrpc.emp"
-    "tyRequest\032\027.xtreemfs.pbrpc.Volumes\"\007\215\265\030$"
-    "\000\000\000\022P\n\016xtreemfs_mkvol\022\026.xtreemfs.pbrpc.V"
-    "olume\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265"
-    "\030/\000\000\000\022P\n\031xtreemfs_renew_capability\022\024.xtr"
-    "eemfs.pbrpc.XCap\032\024.xtreemfs.pbrpc.XCap\"\007"
-    "\215\265\030%\000\000\000\022f\n\036xtreemfs_replication_to_maste"
-    "r\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xtreem"
-    "fs.pbrpc.emptyResponse\"\007\215\265\030&\000\000\000\022k\n\024xtree"
-    "mfs_replica_add\022+.xtreemfs.pbrpc.xtreemf"
-    "s_replica_addRequest\032\035.xtreemfs.pbrpc.em"
-    "ptyResponse\"\007\215\265\030\'\000\000\000\022h\n\025xtreemfs_replica"
-    "_list\022,.xtreemfs.pbrpc.xtreemfs_replica_"
-    "listRequest\032\030.xtreemfs.pbrpc.Replicas\"\007\215"
-    "\265\030(\000\000\000\022s\n\027xtreemfs_replica_remove\022..xtre"
-    "emfs.pbrpc.xtreemfs_replica_removeReques"
-    "t\032\037.xtreemfs.pbrpc.FileCredentials\"\007\215\265\030)"
-    "\000\000\000\022z\n\031xtreemfs_restore_database\0225.xtree"
-    "mfs.pbrpc.xtreemfs_dump_restore_database"
-    "Request\032\035.xtreemfs.pbrpc.emptyResponse\"\007"
-    "\215\265\030*\000\000\000\022m\n\025xtreemfs_restore_file\022,.xtree"
-    "mfs.pbrpc.xtreemfs_restore_fileRequest\032\035"
-    ".xtreemfs.pbrpc.emptyResponse\"\007\215\265\030+\000\000\000\022_"
-    "\n\016xtreemfs_rmvol\022%.xtreemfs.pbrpc.xtreem"
-    "fs_rmvolRequest\032\035.xtreemfs.pbrpc.emptyRe"
-    "sponse\"\007\215\265\030,\000\000\000\022Y\n\021xtreemfs_shutdown\022\034.x"
-    "treemfs.pbrpc.emptyRequest\032\035.xtreemfs.pb"
-    "rpc.emptyResponse\"\007\215\265\030-\000\000\000\022y\n\031xtreemfs_u"
-    "pdate_file_size\0220.xtreemfs.pbrpc.xtreemf"
-    "s_update_file_sizeRequest\032!.xtreemfs.pbr"
-    "pc.timestampResponse\"\007\215\265\030.\000\000\000\022\244\001\n\"xtreem"
-    "fs_set_replica_update_policy\0229.xtreemfs."
-    "pbrpc.xtreemfs_set_replica_update_policy"
-    "Request\032:.xtreemfs.pbrpc.xtreemfs_set_re"
-    "plica_update_policyResponse\"\007\215\265\0300\000\000\000\022\222\001\n"
-    "\034xtreemfs_set_read_only_xattr\0223.xtreemfs"
-    ".pbrpc.xtreemfs_set_read_only_xattrReque"
-    "st\0324.xtreemfs.pbrpc.xtreemfs_set_read_on"
-    "ly_xattrResponse\"\007\215\265\0301\000\000\000\022\177\n\035xtreemfs_ge"
-    "t_file_credentials\0224.xtreemfs.pbrpc.xtre"
-    "emfs_get_file_credentialsRequest\032\037.xtree"
-    "mfs.pbrpc.FileCredentials\"\007\215\265\0302\000\000\000\032\007\225\265\030!"
-    "N\000\000B(\n&org.xtreemfs.pbrpc.generatedinter"
-    "faces", 9205);
+    "\007\215\265\030\020\000\000\000\022K\n\007statvfs\022\036.xtreemfs.pbrpc.sta"
+    "tvfsRequest\032\027.xtreemfs.pbrpc.StatVFS\"\007\215\265"
+    "\030\021\000\000\000\022U\n\007symlink\022\036.xtreemfs.pbrpc.symlin"
+    "kRequest\032!.xtreemfs.pbrpc.timestampRespo"
+    "nse\"\007\215\265\030\022\000\000\000\022P\n\006unlink\022\035.xtreemfs.pbrpc."
+    "unlinkRequest\032\036.xtreemfs.pbrpc.unlinkRes"
+    "ponse\"\007\215\265\030\023\000\000\000\022O\n\006access\022\035.xtreemfs.pbrp"
+    "c.accessRequest\032\035.xtreemfs.pbrpc.emptyRe"
+    "sponse\"\007\215\265\030\024\000\000\000\022[\n\023xtreemfs_checkpoint\022\034"
+    ".xtreemfs.pbrpc.emptyRequest\032\035.xtreemfs."
+    "pbrpc.emptyResponse\"\007\215\265\030\036\000\000\000\022\214\001\n\032xtreemf"
+    "s_check_file_exists\0221.xtreemfs.pbrpc.xtr"
+    "eemfs_check_file_existsRequest\0322.xtreemf"
+    "s.pbrpc.xtreemfs_check_file_existsRespon"
+    "se\"\007\215\265\030\037\000\000\000\022w\n\026xtreemfs_dump_database\0225."
+    "xtreemfs.pbrpc.xtreemfs_dump_restore_dat"
+    "abaseRequest\032\035.xtreemfs.pbrpc.emptyRespo"
+    "nse\"\007\215\265\030 \000\000\000\022\214\001\n\032xtreemfs_get_suitable_o"
+    "sds\0221.xtreemfs.pbrpc.xtreemfs_get_suitab"
+    "le_osdsRequest\0322.xtreemfs.pbrpc.xtreemfs"
+    "_get_suitable_osdsResponse\"\007\215\265\030!\000\000\000\022`\n\027x"
+    "treemfs_internal_debug\022\035.xtreemfs.pbrpc."
+    "stringMessage\032\035.xtreemfs.pbrpc.stringMes"
+    "sage\"\007\215\265\030\"\000\000\000\022n\n\020xtreemfs_listdir\022\'.xtre"
+    "emfs.pbrpc.xtreemfs_listdirRequest\032(.xtr"
+    "eemfs.pbrpc.xtreemfs_listdirResponse\"\007\215\265"
+    "\030#\000\000\000\022P\n\016xtreemfs_lsvol\022\034.xtreemfs.pbrpc"
+    ".emptyRequest\032\027.xtreemfs.pbrpc.Volumes\"\007"
+    "\215\265\030$\000\000\000\022P\n\016xtreemfs_mkvol\022\026.xtreemfs.pbr"
+    "pc.Volume\032\035.xtreemfs.pbrpc.emptyResponse"
+    "\"\007\215\265\030/\000\000\000\022P\n\031xtreemfs_renew_capability\022\024"
+    ".xtreemfs.pbrpc.XCap\032\024.xtreemfs.pbrpc.XC"
+    "ap\"\007\215\265\030%\000\000\000\022f\n\036xtreemfs_replication_to_m"
+    "aster\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xt"
+    "reemfs.pbrpc.emptyResponse\"\007\215\265\030&\000\000\000\022k\n\024x"
+    "treemfs_replica_add\022+.xtreemfs.pbrpc.xtr"
+    "eemfs_replica_addRequest\032\035.xtreemfs.pbrp"
+    "c.emptyResponse\"\007\215\265\030\'\000\000\000\022h\n\025xtreemfs_rep"
+    "lica_list\022,.xtreemfs.pbrpc.xtreemfs_repl"
+    "ica_listRequest\032\030.xtreemfs.pbrpc.Replica"
+    "s\"\007\215\265\030(\000\000\000\022s\n\027xtreemfs_replica_remove\022.."
+    "xtreemfs.pbrpc.xtreemfs_replica_removeRe"
+    "quest\032\037.xtreemfs.pbrpc.FileCredentials\"\007"
+    "\215\265\030)\000\000\000\022z\n\031xtreemfs_restore_database\0225.x"
+    "treemfs.pbrpc.xtreemfs_dump_restore_data"
+    "baseRequest\032\035.xtreemfs.pbrpc.emptyRespon"
+    "se\"\007\215\265\030*\000\000\000\022m\n\025xtreemfs_restore_file\022,.x"
+    "treemfs.pbrpc.xtreemfs_restore_fileReque"
+    "st\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030+\000"
+    "\000\000\022_\n\016xtreemfs_rmvol\022%.xtreemfs.pbrpc.xt"
+    "reemfs_rmvolRequest\032\035.xtreemfs.pbrpc.emp"
+    "tyResponse\"\007\215\265\030,\000\000\000\022Y\n\021xtreemfs_shutdown"
+    "\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xtreemf"
+    "s.pbrpc.emptyResponse\"\007\215\265\030-\000\000\000\022y\n\031xtreem"
+    "fs_update_file_size\0220.xtreemfs.pbrpc.xtr"
+    "eemfs_update_file_sizeRequest\032!.xtreemfs"
+    ".pbrpc.timestampResponse\"\007\215\265\030.\000\000\000\022\244\001\n\"xt"
+    "reemfs_set_replica_update_policy\0229.xtree"
+    "mfs.pbrpc.xtreemfs_set_replica_update_po"
+    "licyRequest\032:.xtreemfs.pbrpc.xtreemfs_se"
+    "t_replica_update_policyResponse\"\007\215\265\0300\000\000\000"
+    "\022\222\001\n\034xtreemfs_set_read_only_xattr\0223.xtre"
+    "emfs.pbrpc.xtreemfs_set_read_only_xattrR"
+    "equest\0324.xtreemfs.pbrpc.xtreemfs_set_rea"
+    "d_only_xattrResponse\"\007\215\265\0301\000\000\000\022\177\n\035xtreemf"
+    "s_get_file_credentials\0224.xtreemfs.pbrpc."
+    "xtreemfs_get_file_credentialsRequest\032\037.x"
+    "treemfs.pbrpc.FileCredentials\"\007\215\265\0302\000\000\000\022}"
+    "\n\025xtreemfs_update_batch\022,.xtreemfs.pbrpc"
+    ".xtreemfs_update_batchRequest\032-.xtreemfs"
+    ".pbrpc.xtreemfs_update_batchResponse\"\007\215\265"
+    "\0303\000\000\000\022\211\001\n\031xtreemfs_delete_recursive\0220.xt"
+    "reemfs.pbrpc.xtreemfs_delete_recursiveRe"
+    "quest\0321.xtreemfs.pbrpc.xtreemfs_delete_r"
+    "ecursiveResponse\"\007\215\265\0304\000\000\000\032\007\225\265\030!N\000\000B(\n&or"
+    "g.xtreemfs.pbrpc.generatedinterfaces", 10156);
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
     "xtreemfs/MRC.proto", &protobuf_RegisterTypes);
   Stat::default_instance_ = new Stat();
@@ -1599,6 +1739,11 @@ void protobuf_AddDesc_xtreemfs_2fMRC_2eproto() {
   xtreemfs_set_read_only_xattrRequest::default_instance_ = new xtreemfs_set_read_only_xattrRequest();
   xtreemfs_set_read_only_xattrResponse::default_instance_ = new xtreemfs_set_read_only_xattrResponse();
   xtreemfs_get_file_credentialsRequest::default_instance_ = new xtreemfs_get_file_credentialsRequest();
+  xtreemfs_update_batchRequest::default_instance_ = new xtreemfs_update_batchRequest();
+  UpdateBatchResult::default_instance_ = new UpdateBatchResult();
+  xtreemfs_update_batchResponse::default_instance_ = new xtreemfs_update_batchResponse();
+  xtreemfs_delete_recursiveRequest::default_instance_ = new xtreemfs_delete_recursiveRequest();
+  xtreemfs_delete_recursiveResponse::default_instance_ = new xtreemfs_delete_recursiveResponse();
   Stat::default_instance_->InitAsDefaultInstance();
   DirectoryEntry::default_instance_->InitAsDefaultInstance();
   DirectoryEntries::default_instance_->InitAsDefaultInstance();
@@ -1651,6 +1796,11 @@ void protobuf_AddDesc_xtreemfs_2fMRC_2eproto() {
   xtreemfs_set_read_only_xattrRequest::default_instance_->InitAsDefaultInstance();
   xtreemfs_set_read_only_xattrResponse::default_instance_->InitAsDefaultInstance();
   xtreemfs_get_file_credentialsRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_update_batchRequest::default_instance_->InitAsDefaultInstance();
+  UpdateBatchResult::default_instance_->InitAsDefaultInstance();
+  xtreemfs_update_batchResponse::default_instance_->InitAsDefaultInstance();
+  xtreemfs_delete_recursiveRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_delete_recursiveResponse::default_instance_->InitAsDefaultInstance();
   ::google::protobuf::internal::OnShutdown(&protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto);
 }
 
@@ -18218,6 +18368,1340 @@ void xtreemfs_get_file_credentialsRequest::Swap(xtreemfs_get_file_credentialsReq
 }
 
 
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_update_batchRequest::kFileSizeUpdatesFieldNumber;
+const int xtreemfs_update_batchRequest::kXcapsFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_update_batchRequest::xtreemfs_update_batchRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_update_batchRequest::InitAsDefaultInstance() {
+}
+
+xtreemfs_update_batchRequest::xtreemfs_update_batchRequest(const xtreemfs_update_batchRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_update_batchRequest::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_update_batchRequest::~xtreemfs_update_batchRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_update_batchRequest::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_update_batchRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_update_batchRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_update_batchRequest_descriptor_;
+}
+
+const xtreemfs_update_batchRequest& xtreemfs_update_batchRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_update_batchRequest* xtreemfs_update_batchRequest::default_instance_ = NULL;
+
+xtreemfs_update_batchRequest* xtreemfs_update_batchRequest::New() const {
+  return new xtreemfs_update_batchRequest;
+}
+
+void xtreemfs_update_batchRequest::Clear() {
+  file_size_updates_.Clear();
+  xcaps_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_update_batchRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_file_size_updates:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_file_size_updates()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_file_size_updates;
+        if (input->ExpectTag(18)) goto parse_xcaps;
+        break;
+      }
+
+      // repeated .xtreemfs.pbrpc.XCap xcaps = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_xcaps:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_xcaps()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_xcaps;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_update_batchRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;
+  for (int i = 0; i < this->file_size_updates_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->file_size_updates(i), output);
+  }
+
+  // repeated .xtreemfs.pbrpc.XCap xcaps = 2;
+  for (int i = 0; i < this->xcaps_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->xcaps(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_update_batchRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;
+  for (int i = 0; i < this->file_size_updates_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->file_size_updates(i), target);
+  }
+
+  // repeated .xtreemfs.pbrpc.XCap xcaps = 2;
+  for (int i = 0; i < this->xcaps_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->xcaps(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_update_batchRequest::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;
+  total_size += 1 * this->file_size_updates_size();
+  for (int i = 0; i < this->file_size_updates_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->file_size_updates(i));
+  }
+
+  // repeated .xtreemfs.pbrpc.XCap xcaps = 2;
+  total_size += 1 * this->xcaps_size();
+  for (int i = 0; i < this->xcaps_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->xcaps(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_update_batchRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_update_batchRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_update_batchRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_update_batchRequest::MergeFrom(const xtreemfs_update_batchRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  file_size_updates_.MergeFrom(from.file_size_updates_);
+  xcaps_.MergeFrom(from.xcaps_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_update_batchRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_update_batchRequest::CopyFrom(const xtreemfs_update_batchRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_update_batchRequest::IsInitialized() const {
+
+  for (int i = 0; i < file_size_updates_size(); i++) {
+    if (!this->file_size_updates(i).IsInitialized()) return false;
+  }
+  for (int i = 0; i < xcaps_size(); i++) {
+    if (!this->xcaps(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_update_batchRequest::Swap(xtreemfs_update_batchRequest* other) {
+  if (other != this) {
+    file_size_updates_.Swap(&other->file_size_updates_);
+    xcaps_.Swap(&other->xcaps_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_update_batchRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_update_batchRequest_descriptor_;
+  metadata.reflection = xtreemfs_update_batchRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int UpdateBatchResult::kErrorFieldNumber;
+const int UpdateBatchResult::kXcapFieldNumber;
+#endif  // !_MSC_VER
+
+UpdateBatchResult::UpdateBatchResult()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void UpdateBatchResult::InitAsDefaultInstance() {
+  error_ = const_cast< ::xtreemfs::pbrpc::RPCHeader_ErrorResponse*>(&::xtreemfs::pbrpc::RPCHeader_ErrorResponse::default_instance());
+  xcap_ = const_cast< ::xtreemfs::pbrpc::XCap*>(&::xtreemfs::pbrpc::XCap::default_instance());
+}
+
+UpdateBatchResult::UpdateBatchResult(const UpdateBatchResult& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void UpdateBatchResult::SharedCtor() {
+  _cached_size_ = 0;
+  error_ = NULL;
+  xcap_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+UpdateBatchResult::~UpdateBatchResult() {
+  SharedDtor();
+}
+
+void UpdateBatchResult::SharedDtor() {
+  if (this != default_instance_) {
+    delete error_;
+    delete xcap_;
+  }
+}
+
+void UpdateBatchResult::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* UpdateBatchResult::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return UpdateBatchResult_descriptor_;
+}
+
+const UpdateBatchResult& UpdateBatchResult::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+UpdateBatchResult* UpdateBatchResult::default_instance_ = NULL;
+
+UpdateBatchResult* UpdateBatchResult::New() const {
+  return new UpdateBatchResult;
+}
+
+void UpdateBatchResult::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_error()) {
+      if (error_ != NULL) error_->::xtreemfs::pbrpc::RPCHeader_ErrorResponse::Clear();
+    }
+    if (has_xcap()) {
+      if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool UpdateBatchResult::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_error()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_xcap;
+        break;
+      }
+
+      // optional .xtreemfs.pbrpc.XCap xcap = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_xcap:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_xcap()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void UpdateBatchResult::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;
+  if (has_error()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->error(), output);
+  }
+
+  // optional .xtreemfs.pbrpc.XCap xcap = 2;
+  if (has_xcap()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->xcap(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* UpdateBatchResult::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;
+  if (has_error()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->error(), target);
+  }
+
+  // optional .xtreemfs.pbrpc.XCap xcap = 2;
+  if (has_xcap()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->xcap(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int UpdateBatchResult::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;
+    if (has_error()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->error());
+    }
+
+    // optional .xtreemfs.pbrpc.XCap xcap = 2;
+    if (has_xcap()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->xcap());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void UpdateBatchResult::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const UpdateBatchResult* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const UpdateBatchResult*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void UpdateBatchResult::MergeFrom(const UpdateBatchResult& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_error()) {
+      mutable_error()->::xtreemfs::pbrpc::RPCHeader_ErrorResponse::MergeFrom(from.error());
+    }
+    if (from.has_xcap()) {
+      mutable_xcap()->::xtreemfs::pbrpc::XCap::MergeFrom(from.xcap());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void UpdateBatchResult::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void UpdateBatchResult::CopyFrom(const UpdateBatchResult& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UpdateBatchResult::IsInitialized() const {
+
+  if (has_error()) {
+    if (!this->error().IsInitialized()) return false;
+  }
+  if (has_xcap()) {
+    if (!this->xcap().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void UpdateBatchResult::Swap(UpdateBatchResult* other) {
+  if (other != this) {
+    std::swap(error_, other->error_);
+    std::swap(xcap_, other->xcap_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata UpdateBatchResult::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = UpdateBatchResult_descriptor_;
+  metadata.reflection = UpdateBatchResult_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_update_batchResponse::kFileSizeUpdateResultsFieldNumber;
+const int xtreemfs_update_batchResponse::kXcapResultsFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_update_batchResponse::xtreemfs_update_batchResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_update_batchResponse::InitAsDefaultInstance() {
+}
+
+xtreemfs_update_batchResponse::xtreemfs_update_batchResponse(const xtreemfs_update_batchResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_update_batchResponse::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_update_batchResponse::~xtreemfs_update_batchResponse() {
+  SharedDtor();
+}
+
+void xtreemfs_update_batchResponse::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_update_batchResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_update_batchResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_update_batchResponse_descriptor_;
+}
+
+const xtreemfs_update_batchResponse& xtreemfs_update_batchResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_update_batchResponse* xtreemfs_update_batchResponse::default_instance_ = NULL;
+
+xtreemfs_update_batchResponse* xtreemfs_update_batchResponse::New() const {
+  return new xtreemfs_update_batchResponse;
+}
+
+void xtreemfs_update_batchResponse::Clear() {
+  file_size_update_results_.Clear();
+  xcap_results_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_update_batchResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_file_size_update_results:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_file_size_update_results()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_file_size_update_results;
+        if (input->ExpectTag(18)) goto parse_xcap_results;
+        break;
+      }
+
+      // repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_xcap_results:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_xcap_results()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_xcap_results;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_update_batchResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;
+  for (int i = 0; i < this->file_size_update_results_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->file_size_update_results(i), output);
+  }
+
+  // repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;
+  for (int i = 0; i < this->xcap_results_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->xcap_results(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_update_batchResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;
+  for (int i = 0; i < this->file_size_update_results_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->file_size_update_results(i), target);
+  }
+
+  // repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;
+  for (int i = 0; i < this->xcap_results_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->xcap_results(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_update_batchResponse::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;
+  total_size += 1 * this->file_size_update_results_size();
+  for (int i = 0; i < this->file_size_update_results_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->file_size_update_results(i));
+  }
+
+  // repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;
+  total_size += 1 * this->xcap_results_size();
+  for (int i = 0; i < this->xcap_results_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->xcap_results(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_update_batchResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_update_batchResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_update_batchResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_update_batchResponse::MergeFrom(const xtreemfs_update_batchResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  file_size_update_results_.MergeFrom(from.file_size_update_results_);
+  xcap_results_.MergeFrom(from.xcap_results_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_update_batchResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_update_batchResponse::CopyFrom(const xtreemfs_update_batchResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_update_batchResponse::IsInitialized() const {
+
+  for (int i = 0; i < file_size_update_results_size(); i++) {
+    if (!this->file_size_update_results(i).IsInitialized()) return false;
+  }
+  for (int i = 0; i < xcap_results_size(); i++) {
+    if (!this->xcap_results(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_update_batchResponse::Swap(xtreemfs_update_batchResponse* other) {
+  if (other != this) {
+    file_size_update_results_.Swap(&other->file_size_update_results_);
+    xcap_results_.Swap(&other->xcap_results_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_update_batchResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_update_batchResponse_descriptor_;
+  metadata.reflection = xtreemfs_update_batchResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_delete_recursiveRequest::kVolumeNameFieldNumber;
+const int xtreemfs_delete_recursiveRequest::kPathsFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_delete_recursiveRequest::xtreemfs_delete_recursiveRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_delete_recursiveRequest::InitAsDefaultInstance() {
+}
+
+xtreemfs_delete_recursiveRequest::xtreemfs_delete_recursiveRequest(const xtreemfs_delete_recursiveRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_delete_recursiveRequest::SharedCtor() {
+  _cached_size_ = 0;
+  volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_delete_recursiveRequest::~xtreemfs_delete_recursiveRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_delete_recursiveRequest::SharedDtor() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_delete_recursiveRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_delete_recursiveRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_delete_recursiveRequest_descriptor_;
+}
+
+const xtreemfs_delete_recursiveRequest& xtreemfs_delete_recursiveRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_delete_recursiveRequest* xtreemfs_delete_recursiveRequest::default_instance_ = NULL;
+
+xtreemfs_delete_recursiveRequest* xtreemfs_delete_recursiveRequest::New() const {
+  return new xtreemfs_delete_recursiveRequest;
+}
+
+void xtreemfs_delete_recursiveRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_volume_name()) {
+      if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+        volume_name_->clear();
+      }
+    }
+  }
+  paths_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_delete_recursiveRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string volume_name = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_volume_name()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->volume_name().data(), this->volume_name().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_paths;
+        break;
+      }
+
+      // repeated string paths = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_paths:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_paths()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->paths(this->paths_size() - 1).data(),
+            this->paths(this->paths_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_paths;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_delete_recursiveRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->volume_name(), output);
+  }
+
+  // repeated string paths = 2;
+  for (int i = 0; i < this->paths_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->paths(i).data(), this->paths(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->paths(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_delete_recursiveRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->volume_name(), target);
+  }
+
+  // repeated string paths = 2;
+  for (int i = 0; i < this->paths_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->paths(i).data(), this->paths(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(2, this->paths(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_delete_recursiveRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string volume_name = 1;
+    if (has_volume_name()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->volume_name());
+    }
+
+  }
+  // repeated string paths = 2;
+  total_size += 1 * this->paths_size();
+  for (int i = 0; i < this->paths_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->paths(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_delete_recursiveRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_delete_recursiveRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_delete_recursiveRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_delete_recursiveRequest::MergeFrom(const xtreemfs_delete_recursiveRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  paths_.MergeFrom(from.paths_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_volume_name()) {
+      set_volume_name(from.volume_name());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_delete_recursiveRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_delete_recursiveRequest::CopyFrom(const xtreemfs_delete_recursiveRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_delete_recursiveRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void xtreemfs_delete_recursiveRequest::Swap(xtreemfs_delete_recursiveRequest* other) {
+  if (other != this) {
+    std::swap(volume_name_, other->volume_name_);
+    paths_.Swap(&other->paths_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_delete_recursiveRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_delete_recursiveRequest_descriptor_;
+  metadata.reflection = xtreemfs_delete_recursiveRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_delete_recursiveResponse::kCompletedPathsFieldNumber;
+const int xtreemfs_delete_recursiveResponse::kErrorFieldNumber;
+const int xtreemfs_delete_recursiveResponse::kDeletedFilesFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_delete_recursiveResponse::xtreemfs_delete_recursiveResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_delete_recursiveResponse::InitAsDefaultInstance() {
+  error_ = const_cast< ::xtreemfs::pbrpc::RPCHeader_ErrorResponse*>(&::xtreemfs::pbrpc::RPCHeader_ErrorResponse::default_instance());
+}
+
+xtreemfs_delete_recursiveResponse::xtreemfs_delete_recursiveResponse(const xtreemfs_delete_recursiveResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_delete_recursiveResponse::SharedCtor() {
+  _cached_size_ = 0;
+  completed_paths_ = 0u;
+  error_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_delete_recursiveResponse::~xtreemfs_delete_recursiveResponse() {
+  SharedDtor();
+}
+
+void xtreemfs_delete_recursiveResponse::SharedDtor() {
+  if (this != default_instance_) {
+    delete error_;
+  }
+}
+
+void xtreemfs_delete_recursiveResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_delete_recursiveResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_delete_recursiveResponse_descriptor_;
+}
+
+const xtreemfs_delete_recursiveResponse& xtreemfs_delete_recursiveResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_delete_recursiveResponse* xtreemfs_delete_recursiveResponse::default_instance_ = NULL;
+
+xtreemfs_delete_recursiveResponse* xtreemfs_delete_recursiveResponse::New() const {
+  return new xtreemfs_delete_recursiveResponse;
+}
+
+void xtreemfs_delete_recursiveResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    completed_paths_ = 0u;
+    if (has_error()) {
+      if (error_ != NULL) error_->::xtreemfs::pbrpc::RPCHeader_ErrorResponse::Clear();
+    }
+  }
+  deleted_files_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_delete_recursiveResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required fixed32 completed_paths = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &completed_paths_)));
+          set_has_completed_paths();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_error;
+        break;
+      }
+
+      // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_error:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_error()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_deleted_files;
+        break;
+      }
+
+      // repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_deleted_files:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_deleted_files()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_deleted_files;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_delete_recursiveResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required fixed32 completed_paths = 1;
+  if (has_completed_paths()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(1, this->completed_paths(), output);
+  }
+
+  // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;
+  if (has_error()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->error(), output);
+  }
+
+  // repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;
+  for (int i = 0; i < this->deleted_files_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->deleted_files(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_delete_recursiveResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required fixed32 completed_paths = 1;
+  if (has_completed_paths()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(1, this->completed_paths(), target);
+  }
+
+  // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;
+  if (has_error()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->error(), target);
+  }
+
+  // repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;
+  for (int i = 0; i < this->deleted_files_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->deleted_files(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_delete_recursiveResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required fixed32 completed_paths = 1;
+    if (has_completed_paths()) {
+      total_size += 1 + 4;
+    }
+
+    // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;
+    if (has_error()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->error());
+    }
+
+  }
+  // repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;
+  total_size += 1 * this->deleted_files_size();
+  for (int i = 0; i < this->deleted_files_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->deleted_files(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_delete_recursiveResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_delete_recursiveResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_delete_recursiveResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_delete_recursiveResponse::MergeFrom(const xtreemfs_delete_recursiveResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  deleted_files_.MergeFrom(from.deleted_files_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_completed_paths()) {
+      set_completed_paths(from.completed_paths());
+    }
+    if (from.has_error()) {
+      mutable_error()->::xtreemfs::pbrpc::RPCHeader_ErrorResponse::MergeFrom(from.error());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_delete_recursiveResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_delete_recursiveResponse::CopyFrom(const xtreemfs_delete_recursiveResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_delete_recursiveResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_error()) {
+    if (!this->error().IsInitialized()) return false;
+  }
+  for (int i = 0; i < deleted_files_size(); i++) {
+    if (!this->deleted_files(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_delete_recursiveResponse::Swap(xtreemfs_delete_recursiveResponse* other) {
+  if (other != this) {
+    std::swap(completed_paths_, other->completed_paths_);
+    std::swap(error_, other->error_);
+    deleted_files_.Swap(&other->deleted_files_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_delete_recursiveResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_delete_recursiveResponse_descriptor_;
+  metadata.reflection = xtreemfs_delete_recursiveResponse_reflection_;
+  return metadata;
+}
+
+
 // @@protoc_insertion_point(namespace_scope)
 
 }  // namespace pbrpc
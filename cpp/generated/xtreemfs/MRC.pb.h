@@ -27,6 +27,7 @@
 #include <google/protobuf/unknown_field_set.h>
 #include "include/PBRPC.pb.h"
 #include "include/Common.pb.h"
+#include "pbrpc/RPC.pb.h"
 #include "xtreemfs/GlobalTypes.pb.h"
 // @@protoc_insertion_point(includes)
 
@@ -90,6 +91,11 @@ class xtreemfs_set_replica_update_policyResponse;
 class xtreemfs_set_read_only_xattrRequest;
 class xtreemfs_set_read_only_xattrResponse;
 class xtreemfs_get_file_credentialsRequest;
+class xtreemfs_update_batchRequest;
+class UpdateBatchResult;
+class xtreemfs_update_batchResponse;
+class xtreemfs_delete_recursiveRequest;
+class xtreemfs_delete_recursiveResponse;
 
 enum Setattrs {
   SETATTR_MODE = 1,
@@ -5955,6 +5961,509 @@ class xtreemfs_get_file_credentialsRequest : public ::google::protobuf::Message
   void InitAsDefaultInstance();
   static xtreemfs_get_file_credentialsRequest* default_instance_;
 };
+// -------------------------------------------------------------------
+
+class xtreemfs_update_batchRequest : public ::google::protobuf::Message {
+ public:
+  xtreemfs_update_batchRequest();
+  virtual ~xtreemfs_update_batchRequest();
+
+  xtreemfs_update_batchRequest(const xtreemfs_update_batchRequest& from);
+
+  inline xtreemfs_update_batchRequest& operator=(const xtreemfs_update_batchRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_update_batchRequest& default_instance();
+
+  void Swap(xtreemfs_update_batchRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_update_batchRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_update_batchRequest& from);
+  void MergeFrom(const xtreemfs_update_batchRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;
+  inline int file_size_updates_size() const;
+  inline void clear_file_size_updates();
+  static const int kFileSizeUpdatesFieldNumber = 1;
+  inline const ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest& file_size_updates(int index) const;
+  inline ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest* mutable_file_size_updates(int index);
+  inline ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest* add_file_size_updates();
+  inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest >&
+      file_size_updates() const;
+  inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest >*
+      mutable_file_size_updates();
+
+  // repeated .xtreemfs.pbrpc.XCap xcaps = 2;
+  inline int xcaps_size() const;
+  inline void clear_xcaps();
+  static const int kXcapsFieldNumber = 2;
+  inline const ::xtreemfs::pbrpc::XCap& xcaps(int index) const;
+  inline ::xtreemfs::pbrpc::XCap* mutable_xcaps(int index);
+  inline ::xtreemfs::pbrpc::XCap* add_xcaps();
+  inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap >&
+      xcaps() const;
+  inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap >*
+      mutable_xcaps();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_update_batchRequest)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest > file_size_updates_;
+  ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap > xcaps_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_update_batchRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class UpdateBatchResult : public ::google::protobuf::Message {
+ public:
+  UpdateBatchResult();
+  virtual ~UpdateBatchResult();
+
+  UpdateBatchResult(const UpdateBatchResult& from);
+
+  inline UpdateBatchResult& operator=(const UpdateBatchResult& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const UpdateBatchResult& default_instance();
+
+  void Swap(UpdateBatchResult* other);
+
+  // implements Message ----------------------------------------------
+
+  UpdateBatchResult* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const UpdateBatchResult& from);
+  void MergeFrom(const UpdateBatchResult& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;
+  inline bool has_error() const;
+  inline void clear_error();
+  static const int kErrorFieldNumber = 1;
+  inline const ::xtreemfs::pbrpc::RPCHeader_ErrorResponse& error() const;
+  inline ::xtreemfs::pbrpc::RPCHeader_ErrorResponse* mutable_error();
+  inline ::xtreemfs::pbrpc::RPCHeader_ErrorResponse* release_error();
+  inline void set_allocated_error(::xtreemfs::pbrpc::RPCHeader_ErrorResponse* error);
+
+  // optional .xtreemfs.pbrpc.XCap xcap = 2;
+  inline bool has_xcap() const;
+  inline void clear_xcap();
+  static const int kXcapFieldNumber = 2;
+  inline const ::xtreemfs::pbrpc::XCap& xcap() const;
+  inline ::xtreemfs::pbrpc::XCap* mutable_xcap();
+  inline ::xtreemfs::pbrpc::XCap* release_xcap();
+  inline void set_allocated_xcap(::xtreemfs::pbrpc::XCap* xcap);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.UpdateBatchResult)
+ private:
+  inline void set_has_error();
+  inline void clear_has_error();
+  inline void set_has_xcap();
+  inline void clear_has_xcap();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::xtreemfs::pbrpc::RPCHeader_ErrorResponse* error_;
+  ::xtreemfs::pbrpc::XCap* xcap_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static UpdateBatchResult* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_update_batchResponse : public ::google::protobuf::Message {
+ public:
+  xtreemfs_update_batchResponse();
+  virtual ~xtreemfs_update_batchResponse();
+
+  xtreemfs_update_batchResponse(const xtreemfs_update_batchResponse& from);
+
+  inline xtreemfs_update_batchResponse& operator=(const xtreemfs_update_batchResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_update_batchResponse& default_instance();
+
+  void Swap(xtreemfs_update_batchResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_update_batchResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_update_batchResponse& from);
+  void MergeFrom(const xtreemfs_update_batchResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;
+  inline int file_size_update_results_size() const;
+  inline void clear_file_size_update_results();
+  static const int kFileSizeUpdateResultsFieldNumber = 1;
+  inline const ::xtreemfs::pbrpc::UpdateBatchResult& file_size_update_results(int index) const;
+  inline ::xtreemfs::pbrpc::UpdateBatchResult* mutable_file_size_update_results(int index);
+  inline ::xtreemfs::pbrpc::UpdateBatchResult* add_file_size_update_results();
+  inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::UpdateBatchResult >&
+      file_size_update_results() const;
+  inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::UpdateBatchResult >*
+      mutable_file_size_update_results();
+
+  // repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;
+  inline int xcap_results_size() const;
+  inline void clear_xcap_results();
+  static const int kXcapResultsFieldNumber = 2;
+  inline const ::xtreemfs::pbrpc::UpdateBatchResult& xcap_results(int index) const;
+  inline ::xtreemfs::pbrpc::UpdateBatchResult* mutable_xcap_results(int index);
+  inline ::xtreemfs::pbrpc::UpdateBatchResult* add_xcap_results();
+  inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::UpdateBatchResult >&
+      xcap_results() const;
+  inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::UpdateBatchResult >*
+      mutable_xcap_results();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_update_batchResponse)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::UpdateBatchResult > file_size_update_results_;
+  ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::UpdateBatchResult > xcap_results_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_update_batchResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_delete_recursiveRequest : public ::google::protobuf::Message {
+ public:
+  xtreemfs_delete_recursiveRequest();
+  virtual ~xtreemfs_delete_recursiveRequest();
+
+  xtreemfs_delete_recursiveRequest(const xtreemfs_delete_recursiveRequest& from);
+
+  inline xtreemfs_delete_recursiveRequest& operator=(const xtreemfs_delete_recursiveRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_delete_recursiveRequest& default_instance();
+
+  void Swap(xtreemfs_delete_recursiveRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_delete_recursiveRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_delete_recursiveRequest& from);
+  void MergeFrom(const xtreemfs_delete_recursiveRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string volume_name = 1;
+  inline bool has_volume_name() const;
+  inline void clear_volume_name();
+  static const int kVolumeNameFieldNumber = 1;
+  inline const ::std::string& volume_name() const;
+  inline void set_volume_name(const ::std::string& value);
+  inline void set_volume_name(const char* value);
+  inline void set_volume_name(const char* value, size_t size);
+  inline ::std::string* mutable_volume_name();
+  inline ::std::string* release_volume_name();
+  inline void set_allocated_volume_name(::std::string* volume_name);
+
+  // repeated string paths = 2;
+  inline int paths_size() const;
+  inline void clear_paths();
+  static const int kPathsFieldNumber = 2;
+  inline const ::std::string& paths(int index) const;
+  inline ::std::string* mutable_paths(int index);
+  inline void set_paths(int index, const ::std::string& value);
+  inline void set_paths(int index, const char* value);
+  inline void set_paths(int index, const char* value, size_t size);
+  inline ::std::string* add_paths();
+  inline void add_paths(const ::std::string& value);
+  inline void add_paths(const char* value);
+  inline void add_paths(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& paths() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_paths();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_delete_recursiveRequest)
+ private:
+  inline void set_has_volume_name();
+  inline void clear_has_volume_name();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* volume_name_;
+  ::google::protobuf::RepeatedPtrField< ::std::string> paths_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_delete_recursiveRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_delete_recursiveResponse : public ::google::protobuf::Message {
+ public:
+  xtreemfs_delete_recursiveResponse();
+  virtual ~xtreemfs_delete_recursiveResponse();
+
+  xtreemfs_delete_recursiveResponse(const xtreemfs_delete_recursiveResponse& from);
+
+  inline xtreemfs_delete_recursiveResponse& operator=(const xtreemfs_delete_recursiveResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_delete_recursiveResponse& default_instance();
+
+  void Swap(xtreemfs_delete_recursiveResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_delete_recursiveResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_delete_recursiveResponse& from);
+  void MergeFrom(const xtreemfs_delete_recursiveResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required fixed32 completed_paths = 1;
+  inline bool has_completed_paths() const;
+  inline void clear_completed_paths();
+  static const int kCompletedPathsFieldNumber = 1;
+  inline ::google::protobuf::uint32 completed_paths() const;
+  inline void set_completed_paths(::google::protobuf::uint32 value);
+
+  // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;
+  inline bool has_error() const;
+  inline void clear_error();
+  static const int kErrorFieldNumber = 2;
+  inline const ::xtreemfs::pbrpc::RPCHeader_ErrorResponse& error() const;
+  inline ::xtreemfs::pbrpc::RPCHeader_ErrorResponse* mutable_error();
+  inline ::xtreemfs::pbrpc::RPCHeader_ErrorResponse* release_error();
+  inline void set_allocated_error(::xtreemfs::pbrpc::RPCHeader_ErrorResponse* error);
+
+  // repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;
+  inline int deleted_files_size() const;
+  inline void clear_deleted_files();
+  static const int kDeletedFilesFieldNumber = 3;
+  inline const ::xtreemfs::pbrpc::FileCredentials& deleted_files(int index) const;
+  inline ::xtreemfs::pbrpc::FileCredentials* mutable_deleted_files(int index);
+  inline ::xtreemfs::pbrpc::FileCredentials* add_deleted_files();
+  inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::FileCredentials >&
+      deleted_files() const;
+  inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::FileCredentials >*
+      mutable_deleted_files();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_delete_recursiveResponse)
+ private:
+  inline void set_has_completed_paths();
+  inline void clear_has_completed_paths();
+  inline void set_has_error();
+  inline void clear_has_error();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::xtreemfs::pbrpc::RPCHeader_ErrorResponse* error_;
+  ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::FileCredentials > deleted_files_;
+  ::google::protobuf::uint32 completed_paths_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_delete_recursiveResponse* default_instance_;
+};
 // ===================================================================
 
 
@@ -14020,6 +14529,401 @@ inline void xtreemfs_get_file_credentialsRequest::set_allocated_file_id(::std::s
   }
 }
 
+// -------------------------------------------------------------------
+
+// xtreemfs_update_batchRequest
+
+// repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;
+inline int xtreemfs_update_batchRequest::file_size_updates_size() const {
+  return file_size_updates_.size();
+}
+inline void xtreemfs_update_batchRequest::clear_file_size_updates() {
+  file_size_updates_.Clear();
+}
+inline const ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest& xtreemfs_update_batchRequest::file_size_updates(int index) const {
+  return file_size_updates_.Get(index);
+}
+inline ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest* xtreemfs_update_batchRequest::mutable_file_size_updates(int index) {
+  return file_size_updates_.Mutable(index);
+}
+inline ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest* xtreemfs_update_batchRequest::add_file_size_updates() {
+  return file_size_updates_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest >&
+xtreemfs_update_batchRequest::file_size_updates() const {
+  return file_size_updates_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest >*
+xtreemfs_update_batchRequest::mutable_file_size_updates() {
+  return &file_size_updates_;
+}
+
+// repeated .xtreemfs.pbrpc.XCap xcaps = 2;
+inline int xtreemfs_update_batchRequest::xcaps_size() const {
+  return xcaps_.size();
+}
+inline void xtreemfs_update_batchRequest::clear_xcaps() {
+  xcaps_.Clear();
+}
+inline const ::xtreemfs::pbrpc::XCap& xtreemfs_update_batchRequest::xcaps(int index) const {
+  return xcaps_.Get(index);
+}
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_update_batchRequest::mutable_xcaps(int index) {
+  return xcaps_.Mutable(index);
+}
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_update_batchRequest::add_xcaps() {
+  return xcaps_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap >&
+xtreemfs_update_batchRequest::xcaps() const {
+  return xcaps_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap >*
+xtreemfs_update_batchRequest::mutable_xcaps() {
+  return &xcaps_;
+}
+
+// -------------------------------------------------------------------
+
+// UpdateBatchResult
+
+// optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;
+inline bool UpdateBatchResult::has_error() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void UpdateBatchResult::set_has_error() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void UpdateBatchResult::clear_has_error() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void UpdateBatchResult::clear_error() {
+  if (error_ != NULL) error_->::xtreemfs::pbrpc::RPCHeader_ErrorResponse::Clear();
+  clear_has_error();
+}
+inline const ::xtreemfs::pbrpc::RPCHeader_ErrorResponse& UpdateBatchResult::error() const {
+  return error_ != NULL ? *error_ : *default_instance_->error_;
+}
+inline ::xtreemfs::pbrpc::RPCHeader_ErrorResponse* UpdateBatchResult::mutable_error() {
+  set_has_error();
+  if (error_ == NULL) error_ = new ::xtreemfs::pbrpc::RPCHeader_ErrorResponse;
+  return error_;
+}
+inline ::xtreemfs::pbrpc::RPCHeader_ErrorResponse* UpdateBatchResult::release_error() {
+  clear_has_error();
+  ::xtreemfs::pbrpc::RPCHeader_ErrorResponse* temp = error_;
+  error_ = NULL;
+  return temp;
+}
+inline void UpdateBatchResult::set_allocated_error(::xtreemfs::pbrpc::RPCHeader_ErrorResponse* error) {
+  delete error_;
+  error_ = error;
+  if (error) {
+    set_has_error();
+  } else {
+    clear_has_error();
+  }
+}
+
+// optional .xtreemfs.pbrpc.XCap xcap = 2;
+inline bool UpdateBatchResult::has_xcap() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void UpdateBatchResult::set_has_xcap() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void UpdateBatchResult::clear_has_xcap() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void UpdateBatchResult::clear_xcap() {
+  if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
+  clear_has_xcap();
+}
+inline const ::xtreemfs::pbrpc::XCap& UpdateBatchResult::xcap() const {
+  return xcap_ != NULL ? *xcap_ : *default_instance_->xcap_;
+}
+inline ::xtreemfs::pbrpc::XCap* UpdateBatchResult::mutable_xcap() {
+  set_has_xcap();
+  if (xcap_ == NULL) xcap_ = new ::xtreemfs::pbrpc::XCap;
+  return xcap_;
+}
+inline ::xtreemfs::pbrpc::XCap* UpdateBatchResult::release_xcap() {
+  clear_has_xcap();
+  ::xtreemfs::pbrpc::XCap* temp = xcap_;
+  xcap_ = NULL;
+  return temp;
+}
+inline void UpdateBatchResult::set_allocated_xcap(::xtreemfs::pbrpc::XCap* xcap) {
+  delete xcap_;
+  xcap_ = xcap;
+  if (xcap) {
+    set_has_xcap();
+  } else {
+    clear_has_xcap();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_update_batchResponse
+
+// repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;
+inline int xtreemfs_update_batchResponse::file_size_update_results_size() const {
+  return file_size_update_results_.size();
+}
+inline void xtreemfs_update_batchResponse::clear_file_size_update_results() {
+  file_size_update_results_.Clear();
+}
+inline const ::xtreemfs::pbrpc::UpdateBatchResult& xtreemfs_update_batchResponse::file_size_update_results(int index) const {
+  return file_size_update_results_.Get(index);
+}
+inline ::xtreemfs::pbrpc::UpdateBatchResult* xtreemfs_update_batchResponse::mutable_file_size_update_results(int index) {
+  return file_size_update_results_.Mutable(index);
+}
+inline ::xtreemfs::pbrpc::UpdateBatchResult* xtreemfs_update_batchResponse::add_file_size_update_results() {
+  return file_size_update_results_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::UpdateBatchResult >&
+xtreemfs_update_batchResponse::file_size_update_results() const {
+  return file_size_update_results_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::UpdateBatchResult >*
+xtreemfs_update_batchResponse::mutable_file_size_update_results() {
+  return &file_size_update_results_;
+}
+
+// repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;
+inline int xtreemfs_update_batchResponse::xcap_results_size() const {
+  return xcap_results_.size();
+}
+inline void xtreemfs_update_batchResponse::clear_xcap_results() {
+  xcap_results_.Clear();
+}
+inline const ::xtreemfs::pbrpc::UpdateBatchResult& xtreemfs_update_batchResponse::xcap_results(int index) const {
+  return xcap_results_.Get(index);
+}
+inline ::xtreemfs::pbrpc::UpdateBatchResult* xtreemfs_update_batchResponse::mutable_xcap_results(int index) {
+  return xcap_results_.Mutable(index);
+}
+inline ::xtreemfs::pbrpc::UpdateBatchResult* xtreemfs_update_batchResponse::add_xcap_results() {
+  return xcap_results_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::UpdateBatchResult >&
+xtreemfs_update_batchResponse::xcap_results() const {
+  return xcap_results_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::UpdateBatchResult >*
+xtreemfs_update_batchResponse::mutable_xcap_results() {
+  return &xcap_results_;
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_delete_recursiveRequest
+
+// required string volume_name = 1;
+inline bool xtreemfs_delete_recursiveRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void xtreemfs_delete_recursiveRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void xtreemfs_delete_recursiveRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void xtreemfs_delete_recursiveRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
+  }
+  clear_has_volume_name();
+}
+inline const ::std::string& xtreemfs_delete_recursiveRequest::volume_name() const {
+  return *volume_name_;
+}
+inline void xtreemfs_delete_recursiveRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
+}
+inline void xtreemfs_delete_recursiveRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
+}
+inline void xtreemfs_delete_recursiveRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_delete_recursiveRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  return volume_name_;
+}
+inline ::std::string* xtreemfs_delete_recursiveRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void xtreemfs_delete_recursiveRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
+  } else {
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated string paths = 2;
+inline int xtreemfs_delete_recursiveRequest::paths_size() const {
+  return paths_.size();
+}
+inline void xtreemfs_delete_recursiveRequest::clear_paths() {
+  paths_.Clear();
+}
+inline const ::std::string& xtreemfs_delete_recursiveRequest::paths(int index) const {
+  return paths_.Get(index);
+}
+inline ::std::string* xtreemfs_delete_recursiveRequest::mutable_paths(int index) {
+  return paths_.Mutable(index);
+}
+inline void xtreemfs_delete_recursiveRequest::set_paths(int index, const ::std::string& value) {
+  paths_.Mutable(index)->assign(value);
+}
+inline void xtreemfs_delete_recursiveRequest::set_paths(int index, const char* value) {
+  paths_.Mutable(index)->assign(value);
+}
+inline void xtreemfs_delete_recursiveRequest::set_paths(int index, const char* value, size_t size) {
+  paths_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_delete_recursiveRequest::add_paths() {
+  return paths_.Add();
+}
+inline void xtreemfs_delete_recursiveRequest::add_paths(const ::std::string& value) {
+  paths_.Add()->assign(value);
+}
+inline void xtreemfs_delete_recursiveRequest::add_paths(const char* value) {
+  paths_.Add()->assign(value);
+}
+inline void xtreemfs_delete_recursiveRequest::add_paths(const char* value, size_t size) {
+  paths_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+xtreemfs_delete_recursiveRequest::paths() const {
+  return paths_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+xtreemfs_delete_recursiveRequest::mutable_paths() {
+  return &paths_;
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_delete_recursiveResponse
+
+// required fixed32 completed_paths = 1;
+inline bool xtreemfs_delete_recursiveResponse::has_completed_paths() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void xtreemfs_delete_recursiveResponse::set_has_completed_paths() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void xtreemfs_delete_recursiveResponse::clear_has_completed_paths() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void xtreemfs_delete_recursiveResponse::clear_completed_paths() {
+  completed_paths_ = 0u;
+  clear_has_completed_paths();
+}
+inline ::google::protobuf::uint32 xtreemfs_delete_recursiveResponse::completed_paths() const {
+  return completed_paths_;
+}
+inline void xtreemfs_delete_recursiveResponse::set_completed_paths(::google::protobuf::uint32 value) {
+  set_has_completed_paths();
+  completed_paths_ = value;
+}
+
+// optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;
+inline bool xtreemfs_delete_recursiveResponse::has_error() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void xtreemfs_delete_recursiveResponse::set_has_error() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void xtreemfs_delete_recursiveResponse::clear_has_error() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void xtreemfs_delete_recursiveResponse::clear_error() {
+  if (error_ != NULL) error_->::xtreemfs::pbrpc::RPCHeader_ErrorResponse::Clear();
+  clear_has_error();
+}
+inline const ::xtreemfs::pbrpc::RPCHeader_ErrorResponse& xtreemfs_delete_recursiveResponse::error() const {
+  return error_ != NULL ? *error_ : *default_instance_->error_;
+}
+inline ::xtreemfs::pbrpc::RPCHeader_ErrorResponse* xtreemfs_delete_recursiveResponse::mutable_error() {
+  set_has_error();
+  if (error_ == NULL) error_ = new ::xtreemfs::pbrpc::RPCHeader_ErrorResponse;
+  return error_;
+}
+inline ::xtreemfs::pbrpc::RPCHeader_ErrorResponse* xtreemfs_delete_recursiveResponse::release_error() {
+  clear_has_error();
+  ::xtreemfs::pbrpc::RPCHeader_ErrorResponse* temp = error_;
+  error_ = NULL;
+  return temp;
+}
+inline void xtreemfs_delete_recursiveResponse::set_allocated_error(::xtreemfs::pbrpc::RPCHeader_ErrorResponse* error) {
+  delete error_;
+  error_ = error;
+  if (error) {
+    set_has_error();
+  } else {
+    clear_has_error();
+  }
+}
+
+// repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;
+inline int xtreemfs_delete_recursiveResponse::deleted_files_size() const {
+  return deleted_files_.size();
+}
+inline void xtreemfs_delete_recursiveResponse::clear_deleted_files() {
+  deleted_files_.Clear();
+}
+inline const ::xtreemfs::pbrpc::FileCredentials& xtreemfs_delete_recursiveResponse::deleted_files(int index) const {
+  return deleted_files_.Get(index);
+}
+inline ::xtreemfs::pbrpc::FileCredentials* xtreemfs_delete_recursiveResponse::mutable_deleted_files(int index) {
+  return deleted_files_.Mutable(index);
+}
+inline ::xtreemfs::pbrpc::FileCredentials* xtreemfs_delete_recursiveResponse::add_deleted_files() {
+  return deleted_files_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::FileCredentials >&
+xtreemfs_delete_recursiveResponse::deleted_files() const {
+  return deleted_files_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::FileCredentials >*
+xtreemfs_delete_recursiveResponse::mutable_deleted_files() {
+  return &deleted_files_;
+}
+
 
 // @@protoc_insertion_point(namespace_scope)
 
@@ -1,5 +1,5 @@
-//automatically generated from MRC.proto at Mon Nov 11 11:46:59 CET 2013
-//(c) 2013. See LICENSE file for details.
+//automatically generated from MRC.proto at Mon Oct 19 08:01:16 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 #ifndef MRCSERVICECLIENT_H
 #define MRCSERVICECLIENT_H
@@ -9,10 +9,10 @@
 #include "rpc/client.h"
 #include "rpc/sync_callback.h"
 #include "rpc/callback_interface.h"
-#include "xtreemfs/MRC.pb.h"
 #include "include/Common.pb.h"
-#include "xtreemfs/GlobalTypes.pb.h"
 #include "xtreemfs/DIR.pb.h"
+#include "xtreemfs/GlobalTypes.pb.h"
+#include "xtreemfs/MRC.pb.h"
 
 
 namespace xtreemfs {
@@ -950,6 +950,52 @@ namespace pbrpc {
                 return sync_cb;
             }
 
+            void xtreemfs_update_batch(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds,
+                const xtreemfs::pbrpc::xtreemfs_update_batchRequest* request,
+                CallbackInterface<xtreemfs::pbrpc::xtreemfs_update_batchResponse> *callback, void *context = NULL) {
+                const char* data = NULL; uint32_t data_length = 0;
+                client_->sendRequest(address, 20001, 51,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_update_batchResponse(),
+                     context, callback);
+            }
+
+            SyncCallback<xtreemfs::pbrpc::xtreemfs_update_batchResponse>* xtreemfs_update_batch_sync(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds
+                , const xtreemfs::pbrpc::xtreemfs_update_batchRequest* request) {
+                const char* data = NULL; uint32_t data_length = 0;
+                SyncCallback<xtreemfs::pbrpc::xtreemfs_update_batchResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::xtreemfs_update_batchResponse>();
+                client_->sendRequest(address, 20001, 51,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_update_batchResponse(),
+                     NULL, sync_cb);
+                return sync_cb;
+            }
+
+            void xtreemfs_delete_recursive(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds,
+                const xtreemfs::pbrpc::xtreemfs_delete_recursiveRequest* request,
+                CallbackInterface<xtreemfs::pbrpc::xtreemfs_delete_recursiveResponse> *callback, void *context = NULL) {
+                const char* data = NULL; uint32_t data_length = 0;
+                client_->sendRequest(address, 20001, 52,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_delete_recursiveResponse(),
+                     context, callback);
+            }
+
+            SyncCallback<xtreemfs::pbrpc::xtreemfs_delete_recursiveResponse>* xtreemfs_delete_recursive_sync(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds
+                , const xtreemfs::pbrpc::xtreemfs_delete_recursiveRequest* request) {
+                const char* data = NULL; uint32_t data_length = 0;
+                SyncCallback<xtreemfs::pbrpc::xtreemfs_delete_recursiveResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::xtreemfs_delete_recursiveResponse>();
+                client_->sendRequest(address, 20001, 52,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_delete_recursiveResponse(),
+                     NULL, sync_cb);
+                return sync_cb;
+            }
+
         private:
             Client* client_;
         };
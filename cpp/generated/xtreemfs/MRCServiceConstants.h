@@ -1,5 +1,5 @@
-//automatically generated from MRC.proto at Mon Nov 11 11:46:59 CET 2013
-//(c) 2013. See LICENSE file for details.
+//automatically generated from MRC.proto at Mon Oct 19 08:01:16 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 #ifndef MRCSERVICECONSTANTS_H_
 #define MRCSERVICECONSTANTS_H_
@@ -49,6 +49,8 @@ const uint32_t PROC_ID_XTREEMFS_UPDATE_FILE_SIZE = 46;
 const uint32_t PROC_ID_XTREEMFS_SET_REPLICA_UPDATE_POLICY = 48;
 const uint32_t PROC_ID_XTREEMFS_SET_READ_ONLY_XATTR = 49;
 const uint32_t PROC_ID_XTREEMFS_GET_FILE_CREDENTIALS = 50;
+const uint32_t PROC_ID_XTREEMFS_UPDATE_BATCH = 51;
+const uint32_t PROC_ID_XTREEMFS_DELETE_RECURSIVE = 52;
 
 }  // namespace pbrpc
 }  // namespace xtreemfs
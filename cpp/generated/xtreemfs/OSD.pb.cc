@@ -51,6 +51,9 @@ const ::google::protobuf::internal::GeneratedMessageReflection*
 const ::google::protobuf::Descriptor* AuthoritativeReplicaState_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   AuthoritativeReplicaState_reflection_ = NULL;
+const ::google::protobuf::Descriptor* ReplicaUpdateChain_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  ReplicaUpdateChain_reflection_ = NULL;
 const ::google::protobuf::Descriptor* InternalReadLocalResponse_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   InternalReadLocalResponse_reflection_ = NULL;
@@ -105,6 +108,9 @@ const ::google::protobuf::internal::GeneratedMessageReflection*
 const ::google::protobuf::Descriptor* xtreemfs_rwr_updateRequest_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   xtreemfs_rwr_updateRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_rwr_updateResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_rwr_updateResponse_reflection_ = NULL;
 const ::google::protobuf::Descriptor* xtreemfs_internal_get_gmaxRequest_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   xtreemfs_internal_get_gmaxRequest_reflection_ = NULL;
@@ -318,7 +324,23 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(AuthoritativeReplicaState));
-  InternalReadLocalResponse_descriptor_ = file->message_type(10);
+  ReplicaUpdateChain_descriptor_ = file->message_type(10);
+  static const int ReplicaUpdateChain_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReplicaUpdateChain, num_acks_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReplicaUpdateChain, replica_indices_),
+  };
+  ReplicaUpdateChain_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      ReplicaUpdateChain_descriptor_,
+      ReplicaUpdateChain::default_instance_,
+      ReplicaUpdateChain_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReplicaUpdateChain, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ReplicaUpdateChain, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(ReplicaUpdateChain));
+  InternalReadLocalResponse_descriptor_ = file->message_type(11);
   static const int InternalReadLocalResponse_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InternalReadLocalResponse, data_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InternalReadLocalResponse, object_set_),
@@ -334,7 +356,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(InternalReadLocalResponse));
-  readRequest_descriptor_ = file->message_type(11);
+  readRequest_descriptor_ = file->message_type(12);
   static const int readRequest_offsets_[6] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(readRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(readRequest, file_id_),
@@ -354,7 +376,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(readRequest));
-  truncateRequest_descriptor_ = file->message_type(12);
+  truncateRequest_descriptor_ = file->message_type(13);
   static const int truncateRequest_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(truncateRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(truncateRequest, file_id_),
@@ -371,7 +393,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(truncateRequest));
-  unlink_osd_Request_descriptor_ = file->message_type(13);
+  unlink_osd_Request_descriptor_ = file->message_type(14);
   static const int unlink_osd_Request_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(unlink_osd_Request, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(unlink_osd_Request, file_id_),
@@ -387,7 +409,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(unlink_osd_Request));
-  writeRequest_descriptor_ = file->message_type(14);
+  writeRequest_descriptor_ = file->message_type(15);
   static const int writeRequest_offsets_[7] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(writeRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(writeRequest, file_id_),
@@ -408,7 +430,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(writeRequest));
-  xtreemfs_broadcast_gmaxRequest_descriptor_ = file->message_type(15);
+  xtreemfs_broadcast_gmaxRequest_descriptor_ = file->message_type(16);
   static const int xtreemfs_broadcast_gmaxRequest_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_broadcast_gmaxRequest, file_id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_broadcast_gmaxRequest, truncate_epoch_),
@@ -426,7 +448,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_broadcast_gmaxRequest));
-  xtreemfs_check_objectRequest_descriptor_ = file->message_type(16);
+  xtreemfs_check_objectRequest_descriptor_ = file->message_type(17);
   static const int xtreemfs_check_objectRequest_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_check_objectRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_check_objectRequest, file_id_),
@@ -444,7 +466,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_check_objectRequest));
-  xtreemfs_cleanup_get_resultsResponse_descriptor_ = file->message_type(17);
+  xtreemfs_cleanup_get_resultsResponse_descriptor_ = file->message_type(18);
   static const int xtreemfs_cleanup_get_resultsResponse_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_cleanup_get_resultsResponse, results_),
   };
@@ -459,7 +481,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_cleanup_get_resultsResponse));
-  xtreemfs_cleanup_is_runningResponse_descriptor_ = file->message_type(18);
+  xtreemfs_cleanup_is_runningResponse_descriptor_ = file->message_type(19);
   static const int xtreemfs_cleanup_is_runningResponse_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_cleanup_is_runningResponse, is_running_),
   };
@@ -474,7 +496,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_cleanup_is_runningResponse));
-  xtreemfs_cleanup_startRequest_descriptor_ = file->message_type(19);
+  xtreemfs_cleanup_startRequest_descriptor_ = file->message_type(20);
   static const int xtreemfs_cleanup_startRequest_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_cleanup_startRequest, remove_zombies_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_cleanup_startRequest, remove_unavail_volume_),
@@ -491,7 +513,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_cleanup_startRequest));
-  xtreemfs_cleanup_statusResponse_descriptor_ = file->message_type(20);
+  xtreemfs_cleanup_statusResponse_descriptor_ = file->message_type(21);
   static const int xtreemfs_cleanup_statusResponse_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_cleanup_statusResponse, status_),
   };
@@ -506,7 +528,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_cleanup_statusResponse));
-  xtreemfs_rwr_fetchRequest_descriptor_ = file->message_type(21);
+  xtreemfs_rwr_fetchRequest_descriptor_ = file->message_type(22);
   static const int xtreemfs_rwr_fetchRequest_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_fetchRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_fetchRequest, file_id_),
@@ -524,7 +546,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_rwr_fetchRequest));
-  xtreemfs_repair_objectRequest_descriptor_ = file->message_type(22);
+  xtreemfs_repair_objectRequest_descriptor_ = file->message_type(23);
   static const int xtreemfs_repair_objectRequest_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_repair_objectRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_repair_objectRequest, file_id_),
@@ -542,7 +564,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_repair_objectRequest));
-  xtreemfs_rwr_flease_msgRequest_descriptor_ = file->message_type(23);
+  xtreemfs_rwr_flease_msgRequest_descriptor_ = file->message_type(24);
   static const int xtreemfs_rwr_flease_msgRequest_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_flease_msgRequest, sender_hostname_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_flease_msgRequest, sender_port_),
@@ -558,7 +580,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_rwr_flease_msgRequest));
-  xtreemfs_rwr_set_primary_epochRequest_descriptor_ = file->message_type(24);
+  xtreemfs_rwr_set_primary_epochRequest_descriptor_ = file->message_type(25);
   static const int xtreemfs_rwr_set_primary_epochRequest_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_set_primary_epochRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_set_primary_epochRequest, file_id_),
@@ -575,7 +597,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_rwr_set_primary_epochRequest));
-  xtreemfs_rwr_statusRequest_descriptor_ = file->message_type(25);
+  xtreemfs_rwr_statusRequest_descriptor_ = file->message_type(26);
   static const int xtreemfs_rwr_statusRequest_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_statusRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_statusRequest, file_id_),
@@ -592,7 +614,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_rwr_statusRequest));
-  xtreemfs_rwr_truncateRequest_descriptor_ = file->message_type(26);
+  xtreemfs_rwr_truncateRequest_descriptor_ = file->message_type(27);
   static const int xtreemfs_rwr_truncateRequest_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_truncateRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_truncateRequest, file_id_),
@@ -610,8 +632,8 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_rwr_truncateRequest));
-  xtreemfs_rwr_updateRequest_descriptor_ = file->message_type(27);
-  static const int xtreemfs_rwr_updateRequest_offsets_[7] = {
+  xtreemfs_rwr_updateRequest_descriptor_ = file->message_type(28);
+  static const int xtreemfs_rwr_updateRequest_offsets_[8] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_updateRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_updateRequest, file_id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_updateRequest, new_file_size_),
@@ -619,6 +641,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_updateRequest, object_version_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_updateRequest, offset_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_updateRequest, obj_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_updateRequest, chain_),
   };
   xtreemfs_rwr_updateRequest_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -631,7 +654,22 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_rwr_updateRequest));
-  xtreemfs_internal_get_gmaxRequest_descriptor_ = file->message_type(28);
+  xtreemfs_rwr_updateResponse_descriptor_ = file->message_type(29);
+  static const int xtreemfs_rwr_updateResponse_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_updateResponse, num_acks_),
+  };
+  xtreemfs_rwr_updateResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_rwr_updateResponse_descriptor_,
+      xtreemfs_rwr_updateResponse::default_instance_,
+      xtreemfs_rwr_updateResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_updateResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_updateResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_rwr_updateResponse));
+  xtreemfs_internal_get_gmaxRequest_descriptor_ = file->message_type(30);
   static const int xtreemfs_internal_get_gmaxRequest_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_get_gmaxRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_get_gmaxRequest, file_id_),
@@ -647,7 +685,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_internal_get_gmaxRequest));
-  xtreemfs_internal_get_file_sizeRequest_descriptor_ = file->message_type(29);
+  xtreemfs_internal_get_file_sizeRequest_descriptor_ = file->message_type(31);
   static const int xtreemfs_internal_get_file_sizeRequest_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_get_file_sizeRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_get_file_sizeRequest, file_id_),
@@ -663,7 +701,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_internal_get_file_sizeRequest));
-  xtreemfs_internal_get_file_sizeResponse_descriptor_ = file->message_type(30);
+  xtreemfs_internal_get_file_sizeResponse_descriptor_ = file->message_type(32);
   static const int xtreemfs_internal_get_file_sizeResponse_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_get_file_sizeResponse, file_size_),
   };
@@ -678,7 +716,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_internal_get_file_sizeResponse));
-  xtreemfs_internal_read_localRequest_descriptor_ = file->message_type(31);
+  xtreemfs_internal_read_localRequest_descriptor_ = file->message_type(33);
   static const int xtreemfs_internal_read_localRequest_offsets_[8] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_read_localRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_read_localRequest, file_id_),
@@ -700,7 +738,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_internal_read_localRequest));
-  xtreemfs_internal_get_object_setRequest_descriptor_ = file->message_type(32);
+  xtreemfs_internal_get_object_setRequest_descriptor_ = file->message_type(34);
   static const int xtreemfs_internal_get_object_setRequest_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_get_object_setRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_get_object_setRequest, file_id_),
@@ -716,7 +754,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_internal_get_object_setRequest));
-  xtreemfs_internal_get_fileid_listResponse_descriptor_ = file->message_type(33);
+  xtreemfs_internal_get_fileid_listResponse_descriptor_ = file->message_type(35);
   static const int xtreemfs_internal_get_fileid_listResponse_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_get_fileid_listResponse, file_ids_),
   };
@@ -731,7 +769,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_internal_get_fileid_listResponse));
-  lockRequest_descriptor_ = file->message_type(34);
+  lockRequest_descriptor_ = file->message_type(36);
   static const int lockRequest_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(lockRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(lockRequest, lock_request_),
@@ -747,7 +785,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(lockRequest));
-  xtreemfs_pingMesssage_descriptor_ = file->message_type(35);
+  xtreemfs_pingMesssage_descriptor_ = file->message_type(37);
   static const int xtreemfs_pingMesssage_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_pingMesssage, coordinates_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_pingMesssage, request_response_),
@@ -763,7 +801,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_pingMesssage));
-  xtreemfs_rwr_auth_stateRequest_descriptor_ = file->message_type(36);
+  xtreemfs_rwr_auth_stateRequest_descriptor_ = file->message_type(38);
   static const int xtreemfs_rwr_auth_stateRequest_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_auth_stateRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_auth_stateRequest, file_id_),
@@ -780,7 +818,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_rwr_auth_stateRequest));
-  xtreemfs_rwr_reset_completeRequest_descriptor_ = file->message_type(37);
+  xtreemfs_rwr_reset_completeRequest_descriptor_ = file->message_type(39);
   static const int xtreemfs_rwr_reset_completeRequest_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_reset_completeRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rwr_reset_completeRequest, file_id_),
@@ -830,6 +868,8 @@ void protobuf_RegisterTypes(const ::std::string&) {
     ObjectVersionMapping_descriptor_, &ObjectVersionMapping::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     AuthoritativeReplicaState_descriptor_, &AuthoritativeReplicaState::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    ReplicaUpdateChain_descriptor_, &ReplicaUpdateChain::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     InternalReadLocalResponse_descriptor_, &InternalReadLocalResponse::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
@@ -866,6 +906,8 @@ void protobuf_RegisterTypes(const ::std::string&) {
     xtreemfs_rwr_truncateRequest_descriptor_, &xtreemfs_rwr_truncateRequest::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     xtreemfs_rwr_updateRequest_descriptor_, &xtreemfs_rwr_updateRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_rwr_updateResponse_descriptor_, &xtreemfs_rwr_updateResponse::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     xtreemfs_internal_get_gmaxRequest_descriptor_, &xtreemfs_internal_get_gmaxRequest::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
@@ -911,6 +953,8 @@ void protobuf_ShutdownFile_xtreemfs_2fOSD_2eproto() {
   delete ObjectVersionMapping_reflection_;
   delete AuthoritativeReplicaState::default_instance_;
   delete AuthoritativeReplicaState_reflection_;
+  delete ReplicaUpdateChain::default_instance_;
+  delete ReplicaUpdateChain_reflection_;
   delete InternalReadLocalResponse::default_instance_;
   delete InternalReadLocalResponse_reflection_;
   delete readRequest::default_instance_;
@@ -947,6 +991,8 @@ void protobuf_ShutdownFile_xtreemfs_2fOSD_2eproto() {
   delete xtreemfs_rwr_truncateRequest_reflection_;
   delete xtreemfs_rwr_updateRequest::default_instance_;
   delete xtreemfs_rwr_updateRequest_reflection_;
+  delete xtreemfs_rwr_updateResponse::default_instance_;
+  delete xtreemfs_rwr_updateResponse_reflection_;
   delete xtreemfs_internal_get_gmaxRequest::default_instance_;
   delete xtreemfs_internal_get_gmaxRequest_reflection_;
   delete xtreemfs_internal_get_file_sizeRequest::default_instance_;
@@ -1007,193 +1053,197 @@ void protobuf_AddDesc_xtreemfs_2fOSD_2eproto() {
     "on\030\004 \002(\006\022<\n\016objectVersions\030\002 \003(\0132$.xtree"
     "mfs.pbrpc.ObjectVersionMapping\0221\n\014trunca"
     "te_log\030\003 \002(\0132\033.xtreemfs.pbrpc.TruncateLo"
-    "g\"u\n\031InternalReadLocalResponse\022(\n\004data\030\001"
-    " \002(\0132\032.xtreemfs.pbrpc.ObjectData\022.\n\nobje"
-    "ct_set\030\002 \003(\0132\032.xtreemfs.pbrpc.ObjectList"
-    "\"\250\001\n\013readRequest\0229\n\020file_credentials\030\001 \002"
+    "g\"\?\n\022ReplicaUpdateChain\022\020\n\010num_acks\030\001 \002("
+    "\007\022\027\n\017replica_indices\030\002 \003(\007\"u\n\031InternalRe"
+    "adLocalResponse\022(\n\004data\030\001 \002(\0132\032.xtreemfs"
+    ".pbrpc.ObjectData\022.\n\nobject_set\030\002 \003(\0132\032."
+    "xtreemfs.pbrpc.ObjectList\"\250\001\n\013readReques"
+    "t\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemfs.p"
+    "brpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n"
+    "\robject_number\030\003 \002(\006\022\026\n\016object_version\030\004"
+    " \002(\006\022\016\n\006offset\030\005 \002(\007\022\016\n\006length\030\006 \002(\007\"t\n\017"
+    "truncateRequest\0229\n\020file_credentials\030\001 \002("
+    "\0132\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007fi"
+    "le_id\030\002 \002(\t\022\025\n\rnew_file_size\030\003 \002(\006\"`\n\022un"
+    "link_osd_Request\0229\n\020file_credentials\030\001 \002"
     "(\0132\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007f"
-    "ile_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016o"
-    "bject_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\016\n\006l"
-    "ength\030\006 \002(\007\"t\n\017truncateRequest\0229\n\020file_c"
-    "redentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCr"
-    "edentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rnew_file_s"
-    "ize\030\003 \002(\006\"`\n\022unlink_osd_Request\0229\n\020file_"
-    "credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileC"
-    "redentials\022\017\n\007file_id\030\002 \002(\t\"\341\001\n\014writeReq"
-    "uest\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemf"
-    "s.pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t"
-    "\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object_versio"
-    "n\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\025\n\rlease_timeout"
-    "\030\006 \002(\006\022/\n\013object_data\030\007 \002(\0132\032.xtreemfs.p"
-    "brpc.ObjectData\"q\n\036xtreemfs_broadcast_gm"
-    "axRequest\022\017\n\007file_id\030\001 \002(\t\022\026\n\016truncate_e"
-    "poch\030\002 \002(\006\022\023\n\013last_object\030\003 \002(\006\022\021\n\tfile_"
-    "size\030\004 \002(\006\"\231\001\n\034xtreemfs_check_objectRequ"
-    "est\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemfs"
-    ".pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t\022"
-    "\025\n\robject_number\030\003 \002(\006\022\026\n\016object_version"
-    "\030\004 \002(\006\"7\n$xtreemfs_cleanup_get_resultsRe"
-    "sponse\022\017\n\007results\030\001 \003(\t\"9\n#xtreemfs_clea"
-    "nup_is_runningResponse\022\022\n\nis_running\030\001 \002"
-    "(\010\"n\n\035xtreemfs_cleanup_startRequest\022\026\n\016r"
-    "emove_zombies\030\001 \002(\010\022\035\n\025remove_unavail_vo"
-    "lume\030\002 \002(\010\022\026\n\016lost_and_found\030\003 \002(\010\"1\n\037xt"
-    "reemfs_cleanup_statusResponse\022\016\n\006status\030"
-    "\001 \002(\t\"\226\001\n\031xtreemfs_rwr_fetchRequest\0229\n\020f"
-    "ile_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.F"
-    "ileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\robjec"
-    "t_number\030\003 \002(\006\022\026\n\016object_version\030\004 \002(\006\"\232"
-    "\001\n\035xtreemfs_repair_objectRequest\0229\n\020file"
+    "ile_id\030\002 \002(\t\"\341\001\n\014writeRequest\0229\n\020file_cr"
+    "edentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCre"
+    "dentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\robject_numb"
+    "er\030\003 \002(\006\022\026\n\016object_version\030\004 \002(\006\022\016\n\006offs"
+    "et\030\005 \002(\007\022\025\n\rlease_timeout\030\006 \002(\006\022/\n\013objec"
+    "t_data\030\007 \002(\0132\032.xtreemfs.pbrpc.ObjectData"
+    "\"q\n\036xtreemfs_broadcast_gmaxRequest\022\017\n\007fi"
+    "le_id\030\001 \002(\t\022\026\n\016truncate_epoch\030\002 \002(\006\022\023\n\013l"
+    "ast_object\030\003 \002(\006\022\021\n\tfile_size\030\004 \002(\006\"\231\001\n\034"
+    "xtreemfs_check_objectRequest\0229\n\020file_cre"
+    "dentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCred"
+    "entials\022\017\n\007file_id\030\002 \002(\t\022\025\n\robject_numbe"
+    "r\030\003 \002(\006\022\026\n\016object_version\030\004 \002(\006\"7\n$xtree"
+    "mfs_cleanup_get_resultsResponse\022\017\n\007resul"
+    "ts\030\001 \003(\t\"9\n#xtreemfs_cleanup_is_runningR"
+    "esponse\022\022\n\nis_running\030\001 \002(\010\"n\n\035xtreemfs_"
+    "cleanup_startRequest\022\026\n\016remove_zombies\030\001"
+    " \002(\010\022\035\n\025remove_unavail_volume\030\002 \002(\010\022\026\n\016l"
+    "ost_and_found\030\003 \002(\010\"1\n\037xtreemfs_cleanup_"
+    "statusResponse\022\016\n\006status\030\001 \002(\t\"\226\001\n\031xtree"
+    "mfs_rwr_fetchRequest\0229\n\020file_credentials"
+    "\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentials\022"
+    "\017\n\007file_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022"
+    "\026\n\016object_version\030\004 \002(\006\"\232\001\n\035xtreemfs_rep"
+    "air_objectRequest\0229\n\020file_credentials\030\001 "
+    "\002(\0132\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007"
+    "file_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016"
+    "object_version\030\004 \002(\006\"N\n\036xtreemfs_rwr_fle"
+    "ase_msgRequest\022\027\n\017sender_hostname\030\001 \002(\t\022"
+    "\023\n\013sender_port\030\002 \002(\007\"\212\001\n%xtreemfs_rwr_se"
+    "t_primary_epochRequest\0229\n\020file_credentia"
+    "ls\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredential"
+    "s\022\017\n\007file_id\030\002 \002(\t\022\025\n\rprimary_epoch\030\003 \002("
+    "\007\"\207\001\n\032xtreemfs_rwr_statusRequest\0229\n\020file"
     "_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.File"
-    "Credentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\robject_n"
-    "umber\030\003 \002(\006\022\026\n\016object_version\030\004 \002(\006\"N\n\036x"
-    "treemfs_rwr_flease_msgRequest\022\027\n\017sender_"
-    "hostname\030\001 \002(\t\022\023\n\013sender_port\030\002 \002(\007\"\212\001\n%"
-    "xtreemfs_rwr_set_primary_epochRequest\0229\n"
-    "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc"
-    ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rpri"
-    "mary_epoch\030\003 \002(\007\"\207\001\n\032xtreemfs_rwr_status"
-    "Request\0229\n\020file_credentials\030\001 \002(\0132\037.xtre"
-    "emfs.pbrpc.FileCredentials\022\017\n\007file_id\030\002 "
-    "\002(\t\022\035\n\025max_local_obj_version\030\003 \002(\006\"\231\001\n\034x"
-    "treemfs_rwr_truncateRequest\0229\n\020file_cred"
-    "entials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCrede"
-    "ntials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rnew_file_size"
-    "\030\003 \002(\006\022\026\n\016object_version\030\004 \002(\006\"\347\001\n\032xtree"
-    "mfs_rwr_updateRequest\0229\n\020file_credential"
-    "s\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentials"
-    "\022\017\n\007file_id\030\002 \002(\t\022\025\n\rnew_file_size\030\003 \002(\006"
-    "\022\025\n\robject_number\030\007 \002(\006\022\026\n\016object_versio"
-    "n\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\'\n\003obj\030\006 \002(\0132\032.x"
-    "treemfs.pbrpc.ObjectData\"o\n!xtreemfs_int"
-    "ernal_get_gmaxRequest\0229\n\020file_credential"
-    "s\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentials"
-    "\022\017\n\007file_id\030\002 \002(\t\"t\n&xtreemfs_internal_g"
-    "et_file_sizeRequest\0229\n\020file_credentials\030"
-    "\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentials\022\017"
-    "\n\007file_id\030\002 \002(\t\"<\n\'xtreemfs_internal_get"
-    "_file_sizeResponse\022\021\n\tfile_size\030\001 \002(\006\"\222\002"
-    "\n#xtreemfs_internal_read_localRequest\0229\n"
-    "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc"
-    ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\robj"
-    "ect_number\030\003 \002(\006\022\026\n\016object_version\030\004 \002(\006"
-    "\022\016\n\006offset\030\005 \002(\007\022\016\n\006length\030\006 \002(\007\022\032\n\022atta"
-    "ch_object_list\030\007 \002(\010\0224\n\020required_objects"
-    "\030\010 \003(\0132\032.xtreemfs.pbrpc.ObjectList\"u\n\'xt"
-    "reemfs_internal_get_object_setRequest\0229\n"
-    "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc"
-    ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\"=\n)xtr"
-    "eemfs_internal_get_fileid_listResponse\022\020"
-    "\n\010file_ids\030\001 \003(\t\"t\n\013lockRequest\0229\n\020file_"
-    "credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileC"
-    "redentials\022*\n\014lock_request\030\002 \002(\0132\024.xtree"
-    "mfs.pbrpc.Lock\"j\n\025xtreemfs_pingMesssage\022"
-    "7\n\013coordinates\030\001 \002(\0132\".xtreemfs.pbrpc.Vi"
-    "valdiCoordinates\022\030\n\020request_response\030\002 \002"
-    "(\010\"\246\001\n\036xtreemfs_rwr_auth_stateRequest\0229\n"
-    "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc"
-    ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\0228\n\005sta"
-    "te\030\003 \002(\0132).xtreemfs.pbrpc.AuthoritativeR"
-    "eplicaState\"\207\001\n\"xtreemfs_rwr_reset_compl"
-    "eteRequest\0229\n\020file_credentials\030\001 \002(\0132\037.x"
-    "treemfs.pbrpc.FileCredentials\022\017\n\007file_id"
-    "\030\002 \002(\t\022\025\n\rprimary_epoch\030\003 \002(\007*\215\001\n\017OSDHea"
-    "lthResult\022\034\n\030OSD_HEALTH_RESULT_PASSED\020\000\022"
-    "\035\n\031OSD_HEALTH_RESULT_WARNING\020\001\022\034\n\030OSD_HE"
-    "ALTH_RESULT_FAILED\020\002\022\037\n\033OSD_HEALTH_RESUL"
-    "T_NOT_AVAIL\020\0032\253\034\n\nOSDService\022L\n\004read\022\033.x"
-    "treemfs.pbrpc.readRequest\032\032.xtreemfs.pbr"
-    "pc.ObjectData\"\013\215\265\030\n\000\000\000\230\265\030\001\022V\n\010truncate\022\037"
-    ".xtreemfs.pbrpc.truncateRequest\032 .xtreem"
-    "fs.pbrpc.OSDWriteResponse\"\007\215\265\030\013\000\000\000\022T\n\006un"
-    "link\022\".xtreemfs.pbrpc.unlink_osd_Request"
-    "\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\014\000\000\000"
-    "\022T\n\005write\022\034.xtreemfs.pbrpc.writeRequest\032"
-    " .xtreemfs.pbrpc.OSDWriteResponse\"\013\215\265\030\r\000"
-    "\000\000\240\265\030\001\022q\n\027xtreemfs_broadcast_gmax\022..xtre"
-    "emfs.pbrpc.xtreemfs_broadcast_gmaxReques"
-    "t\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\024\000\000"
-    "\000\022j\n\025xtreemfs_check_object\022,.xtreemfs.pb"
-    "rpc.xtreemfs_check_objectRequest\032\032.xtree"
-    "mfs.pbrpc.ObjectData\"\007\215\265\030\025\000\000\000\022{\n\034xtreemf"
-    "s_cleanup_get_results\022\034.xtreemfs.pbrpc.e"
-    "mptyRequest\0324.xtreemfs.pbrpc.xtreemfs_cl"
-    "eanup_get_resultsResponse\"\007\215\265\030\036\000\000\000\022y\n\033xt"
-    "reemfs_cleanup_is_running\022\034.xtreemfs.pbr"
-    "pc.emptyRequest\0323.xtreemfs.pbrpc.xtreemf"
-    "s_cleanup_is_runningResponse\"\007\215\265\030\037\000\000\000\022o\n"
-    "\026xtreemfs_cleanup_start\022-.xtreemfs.pbrpc"
-    ".xtreemfs_cleanup_startRequest\032\035.xtreemf"
-    "s.pbrpc.emptyResponse\"\007\215\265\030 \000\000\000\022q\n\027xtreem"
-    "fs_cleanup_status\022\034.xtreemfs.pbrpc.empty"
-    "Request\032/.xtreemfs.pbrpc.xtreemfs_cleanu"
-    "p_statusResponse\"\007\215\265\030!\000\000\000\022]\n\025xtreemfs_cl"
-    "eanup_stop\022\034.xtreemfs.pbrpc.emptyRequest"
-    "\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\"\000\000\000"
-    "\022g\n\037xtreemfs_cleanup_versions_start\022\034.xt"
-    "reemfs.pbrpc.emptyRequest\032\035.xtreemfs.pbr"
-    "pc.emptyResponse\"\007\215\265\030#\000\000\000\022o\n\026xtreemfs_re"
-    "pair_object\022-.xtreemfs.pbrpc.xtreemfs_re"
-    "pair_objectRequest\032\035.xtreemfs.pbrpc.empt"
-    "yResponse\"\007\215\265\030$\000\000\000\022d\n\022xtreemfs_rwr_fetch"
-    "\022).xtreemfs.pbrpc.xtreemfs_rwr_fetchRequ"
-    "est\032\032.xtreemfs.pbrpc.ObjectData\"\007\215\265\030I\000\000\000"
-    "\022u\n\027xtreemfs_rwr_flease_msg\022..xtreemfs.p"
-    "brpc.xtreemfs_rwr_flease_msgRequest\032\035.xt"
-    "reemfs.pbrpc.emptyResponse\"\013\215\265\030G\000\000\000\240\265\030\001\022"
-    "^\n\023xtreemfs_rwr_notify\022\037.xtreemfs.pbrpc."
-    "FileCredentials\032\035.xtreemfs.pbrpc.emptyRe"
-    "sponse\"\007\215\265\030K\000\000\000\022|\n\036xtreemfs_rwr_set_prim"
-    "ary_epoch\0225.xtreemfs.pbrpc.xtreemfs_rwr_"
-    "set_primary_epochRequest\032\032.xtreemfs.pbrp"
-    "c.ObjectData\"\007\215\265\030N\000\000\000\022i\n\023xtreemfs_rwr_st"
-    "atus\022*.xtreemfs.pbrpc.xtreemfs_rwr_statu"
-    "sRequest\032\035.xtreemfs.pbrpc.ReplicaStatus\""
-    "\007\215\265\030L\000\000\000\022m\n\025xtreemfs_rwr_truncate\022,.xtre"
-    "emfs.pbrpc.xtreemfs_rwr_truncateRequest\032"
-    "\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030J\000\000\000\022"
-    "m\n\023xtreemfs_rwr_update\022*.xtreemfs.pbrpc."
-    "xtreemfs_rwr_updateRequest\032\035.xtreemfs.pb"
-    "rpc.emptyResponse\"\013\215\265\030H\000\000\000\240\265\030\001\022q\n\027xtreem"
-    "fs_rwr_auth_state\022..xtreemfs.pbrpc.xtree"
-    "mfs_rwr_auth_stateRequest\032\035.xtreemfs.pbr"
-    "pc.emptyResponse\"\007\215\265\030O\000\000\000\022y\n\033xtreemfs_rw"
-    "r_reset_complete\0222.xtreemfs.pbrpc.xtreem"
-    "fs_rwr_reset_completeRequest\032\035.xtreemfs."
-    "pbrpc.emptyResponse\"\007\215\265\030P\000\000\000\022v\n\032xtreemfs"
-    "_internal_get_gmax\0221.xtreemfs.pbrpc.xtre"
-    "emfs_internal_get_gmaxRequest\032\034.xtreemfs"
-    ".pbrpc.InternalGmax\"\007\215\265\030(\000\000\000\022h\n\032xtreemfs"
-    "_internal_truncate\022\037.xtreemfs.pbrpc.trun"
-    "cateRequest\032 .xtreemfs.pbrpc.OSDWriteRes"
-    "ponse\"\007\215\265\030)\000\000\000\022\233\001\n\037xtreemfs_internal_get"
-    "_file_size\0226.xtreemfs.pbrpc.xtreemfs_int"
-    "ernal_get_file_sizeRequest\0327.xtreemfs.pb"
-    "rpc.xtreemfs_internal_get_file_sizeRespo"
-    "nse\"\007\215\265\030*\000\000\000\022\207\001\n\034xtreemfs_internal_read_"
-    "local\0223.xtreemfs.pbrpc.xtreemfs_internal"
-    "_read_localRequest\032).xtreemfs.pbrpc.Inte"
-    "rnalReadLocalResponse\"\007\215\265\030+\000\000\000\022\200\001\n xtree"
-    "mfs_internal_get_object_set\0227.xtreemfs.p"
-    "brpc.xtreemfs_internal_get_object_setReq"
-    "uest\032\032.xtreemfs.pbrpc.ObjectList\"\007\215\265\030,\000\000"
-    "\000\022\205\001\n!xtreemfs_internal_get_fileid_list\022"
-    "\034.xtreemfs.pbrpc.emptyRequest\0329.xtreemfs"
-    ".pbrpc.xtreemfs_internal_get_fileid_list"
-    "Response\"\007\215\265\030-\000\000\000\022S\n\025xtreemfs_lock_acqui"
-    "re\022\033.xtreemfs.pbrpc.lockRequest\032\024.xtreem"
-    "fs.pbrpc.Lock\"\007\215\265\0302\000\000\000\022Q\n\023xtreemfs_lock_"
-    "check\022\033.xtreemfs.pbrpc.lockRequest\032\024.xtr"
-    "eemfs.pbrpc.Lock\"\007\215\265\0303\000\000\000\022\\\n\025xtreemfs_lo"
-    "ck_release\022\033.xtreemfs.pbrpc.lockRequest\032"
-    "\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\0304\000\000\000\022"
-    "f\n\rxtreemfs_ping\022%.xtreemfs.pbrpc.xtreem"
-    "fs_pingMesssage\032%.xtreemfs.pbrpc.xtreemf"
-    "s_pingMesssage\"\007\215\265\030<\000\000\000\022Y\n\021xtreemfs_shut"
-    "down\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xtr"
-    "eemfs.pbrpc.emptyResponse\"\007\215\265\030F\000\000\000\032\007\225\265\0301"
-    "u\000\000B(\n&org.xtreemfs.pbrpc.generatedinter"
-    "faces", 8565);
+    "Credentials\022\017\n\007file_id\030\002 \002(\t\022\035\n\025max_loca"
+    "l_obj_version\030\003 \002(\006\"\231\001\n\034xtreemfs_rwr_tru"
+    "ncateRequest\0229\n\020file_credentials\030\001 \002(\0132\037"
+    ".xtreemfs.pbrpc.FileCredentials\022\017\n\007file_"
+    "id\030\002 \002(\t\022\025\n\rnew_file_size\030\003 \002(\006\022\026\n\016objec"
+    "t_version\030\004 \002(\006\"\232\002\n\032xtreemfs_rwr_updateR"
+    "equest\0229\n\020file_credentials\030\001 \002(\0132\037.xtree"
+    "mfs.pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002"
+    "(\t\022\025\n\rnew_file_size\030\003 \002(\006\022\025\n\robject_numb"
+    "er\030\007 \002(\006\022\026\n\016object_version\030\004 \002(\006\022\016\n\006offs"
+    "et\030\005 \002(\007\022\'\n\003obj\030\006 \002(\0132\032.xtreemfs.pbrpc.O"
+    "bjectData\0221\n\005chain\030\010 \001(\0132\".xtreemfs.pbrp"
+    "c.ReplicaUpdateChain\"/\n\033xtreemfs_rwr_upd"
+    "ateResponse\022\020\n\010num_acks\030\001 \001(\007\"o\n!xtreemf"
+    "s_internal_get_gmaxRequest\0229\n\020file_crede"
+    "ntials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCreden"
+    "tials\022\017\n\007file_id\030\002 \002(\t\"t\n&xtreemfs_inter"
+    "nal_get_file_sizeRequest\0229\n\020file_credent"
+    "ials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredenti"
+    "als\022\017\n\007file_id\030\002 \002(\t\"<\n\'xtreemfs_interna"
+    "l_get_file_sizeResponse\022\021\n\tfile_size\030\001 \002"
+    "(\006\"\222\002\n#xtreemfs_internal_read_localReque"
+    "st\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemfs."
+    "pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025"
+    "\n\robject_number\030\003 \002(\006\022\026\n\016object_version\030"
+    "\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\016\n\006length\030\006 \002(\007\022\032\n"
+    "\022attach_object_list\030\007 \002(\010\0224\n\020required_ob"
+    "jects\030\010 \003(\0132\032.xtreemfs.pbrpc.ObjectList\""
+    "u\n\'xtreemfs_internal_get_object_setReque"
+    "st\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemfs."
+    "pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t\"="
+    "\n)xtreemfs_internal_get_fileid_listRespo"
+    "nse\022\020\n\010file_ids\030\001 \003(\t\"t\n\013lockRequest\0229\n\020"
+    "file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc."
+    "FileCredentials\022*\n\014lock_request\030\002 \002(\0132\024."
+    "xtreemfs.pbrpc.Lock\"j\n\025xtreemfs_pingMess"
+    "sage\0227\n\013coordinates\030\001 \002(\0132\".xtreemfs.pbr"
+    "pc.VivaldiCoordinates\022\030\n\020request_respons"
+    "e\030\002 \002(\010\"\246\001\n\036xtreemfs_rwr_auth_stateReque"
+    "st\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemfs."
+    "pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t\0228"
+    "\n\005state\030\003 \002(\0132).xtreemfs.pbrpc.Authorita"
+    "tiveReplicaState\"\207\001\n\"xtreemfs_rwr_reset_"
+    "completeRequest\0229\n\020file_credentials\030\001 \002("
+    "\0132\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007fi"
+    "le_id\030\002 \002(\t\022\025\n\rprimary_epoch\030\003 \002(\007*\215\001\n\017O"
+    "SDHealthResult\022\034\n\030OSD_HEALTH_RESULT_PASS"
+    "ED\020\000\022\035\n\031OSD_HEALTH_RESULT_WARNING\020\001\022\034\n\030O"
+    "SD_HEALTH_RESULT_FAILED\020\002\022\037\n\033OSD_HEALTH_"
+    "RESULT_NOT_AVAIL\020\0032\271\034\n\nOSDService\022L\n\004rea"
+    "d\022\033.xtreemfs.pbrpc.readRequest\032\032.xtreemf"
+    "s.pbrpc.ObjectData\"\013\215\265\030\n\000\000\000\230\265\030\001\022V\n\010trunc"
+    "ate\022\037.xtreemfs.pbrpc.truncateRequest\032 .x"
+    "treemfs.pbrpc.OSDWriteResponse\"\007\215\265\030\013\000\000\000\022"
+    "T\n\006unlink\022\".xtreemfs.pbrpc.unlink_osd_Re"
+    "quest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265"
+    "\030\014\000\000\000\022T\n\005write\022\034.xtreemfs.pbrpc.writeReq"
+    "uest\032 .xtreemfs.pbrpc.OSDWriteResponse\"\013"
+    "\215\265\030\r\000\000\000\240\265\030\001\022q\n\027xtreemfs_broadcast_gmax\022."
+    ".xtreemfs.pbrpc.xtreemfs_broadcast_gmaxR"
+    "equest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215"
+    "\265\030\024\000\000\000\022j\n\025xtreemfs_check_object\022,.xtreem"
+    "fs.pbrpc.xtreemfs_check_objectRequest\032\032."
+    "xtreemfs.pbrpc.ObjectData\"\007\215\265\030\025\000\000\000\022{\n\034xt"
+    "reemfs_cleanup_get_results\022\034.xtreemfs.pb"
+    "rpc.emptyRequest\0324.xtreemfs.pbrpc.xtreem"
+    "fs_cleanup_get_resultsResponse\"\007\215\265\030\036\000\000\000\022"
+    "y\n\033xtreemfs_cleanup_is_running\022\034.xtreemf"
+    "s.pbrpc.emptyRequest\0323.xtreemfs.pbrpc.xt"
+    "reemfs_cleanup_is_runningResponse\"\007\215\265\030\037\000"
+    "\000\000\022o\n\026xtreemfs_cleanup_start\022-.xtreemfs."
+    "pbrpc.xtreemfs_cleanup_startRequest\032\035.xt"
+    "reemfs.pbrpc.emptyResponse\"\007\215\265\030 \000\000\000\022q\n\027x"
+    "treemfs_cleanup_status\022\034.xtreemfs.pbrpc."
+    "emptyRequest\032/.xtreemfs.pbrpc.xtreemfs_c"
+    "leanup_statusResponse\"\007\215\265\030!\000\000\000\022]\n\025xtreem"
+    "fs_cleanup_stop\022\034.xtreemfs.pbrpc.emptyRe"
+    "quest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265"
+    "\030\"\000\000\000\022g\n\037xtreemfs_cleanup_versions_start"
+    "\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xtreemf"
+    "s.pbrpc.emptyResponse\"\007\215\265\030#\000\000\000\022o\n\026xtreem"
+    "fs_repair_object\022-.xtreemfs.pbrpc.xtreem"
+    "fs_repair_objectRequest\032\035.xtreemfs.pbrpc"
+    ".emptyResponse\"\007\215\265\030$\000\000\000\022d\n\022xtreemfs_rwr_"
+    "fetch\022).xtreemfs.pbrpc.xtreemfs_rwr_fetc"
+    "hRequest\032\032.xtreemfs.pbrpc.ObjectData\"\007\215\265"
+    "\030I\000\000\000\022u\n\027xtreemfs_rwr_flease_msg\022..xtree"
+    "mfs.pbrpc.xtreemfs_rwr_flease_msgRequest"
+    "\032\035.xtreemfs.pbrpc.emptyResponse\"\013\215\265\030G\000\000\000"
+    "\240\265\030\001\022^\n\023xtreemfs_rwr_notify\022\037.xtreemfs.p"
+    "brpc.FileCredentials\032\035.xtreemfs.pbrpc.em"
+    "ptyResponse\"\007\215\265\030K\000\000\000\022|\n\036xtreemfs_rwr_set"
+    "_primary_epoch\0225.xtreemfs.pbrpc.xtreemfs"
+    "_rwr_set_primary_epochRequest\032\032.xtreemfs"
+    ".pbrpc.ObjectData\"\007\215\265\030N\000\000\000\022i\n\023xtreemfs_r"
+    "wr_status\022*.xtreemfs.pbrpc.xtreemfs_rwr_"
+    "statusRequest\032\035.xtreemfs.pbrpc.ReplicaSt"
+    "atus\"\007\215\265\030L\000\000\000\022m\n\025xtreemfs_rwr_truncate\022,"
+    ".xtreemfs.pbrpc.xtreemfs_rwr_truncateReq"
+    "uest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030"
+    "J\000\000\000\022{\n\023xtreemfs_rwr_update\022*.xtreemfs.p"
+    "brpc.xtreemfs_rwr_updateRequest\032+.xtreem"
+    "fs.pbrpc.xtreemfs_rwr_updateResponse\"\013\215\265"
+    "\030H\000\000\000\240\265\030\001\022q\n\027xtreemfs_rwr_auth_state\022..x"
+    "treemfs.pbrpc.xtreemfs_rwr_auth_stateReq"
+    "uest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030"
+    "O\000\000\000\022y\n\033xtreemfs_rwr_reset_complete\0222.xt"
+    "reemfs.pbrpc.xtreemfs_rwr_reset_complete"
+    "Request\032\035.xtreemfs.pbrpc.emptyResponse\"\007"
+    "\215\265\030P\000\000\000\022v\n\032xtreemfs_internal_get_gmax\0221."
+    "xtreemfs.pbrpc.xtreemfs_internal_get_gma"
+    "xRequest\032\034.xtreemfs.pbrpc.InternalGmax\"\007"
+    "\215\265\030(\000\000\000\022h\n\032xtreemfs_internal_truncate\022\037."
+    "xtreemfs.pbrpc.truncateRequest\032 .xtreemf"
+    "s.pbrpc.OSDWriteResponse\"\007\215\265\030)\000\000\000\022\233\001\n\037xt"
+    "reemfs_internal_get_file_size\0226.xtreemfs"
+    ".pbrpc.xtreemfs_internal_get_file_sizeRe"
+    "quest\0327.xtreemfs.pbrpc.xtreemfs_internal"
+    "_get_file_sizeResponse\"\007\215\265\030*\000\000\000\022\207\001\n\034xtre"
+    "emfs_internal_read_local\0223.xtreemfs.pbrp"
+    "c.xtreemfs_internal_read_localRequest\032)."
+    "xtreemfs.pbrpc.InternalReadLocalResponse"
+    "\"\007\215\265\030+\000\000\000\022\200\001\n xtreemfs_internal_get_obje"
+    "ct_set\0227.xtreemfs.pbrpc.xtreemfs_interna"
+    "l_get_object_setRequest\032\032.xtreemfs.pbrpc"
+    ".ObjectList\"\007\215\265\030,\000\000\000\022\205\001\n!xtreemfs_intern"
+    "al_get_fileid_list\022\034.xtreemfs.pbrpc.empt"
+    "yRequest\0329.xtreemfs.pbrpc.xtreemfs_inter"
+    "nal_get_fileid_listResponse\"\007\215\265\030-\000\000\000\022S\n\025"
+    "xtreemfs_lock_acquire\022\033.xtreemfs.pbrpc.l"
+    "ockRequest\032\024.xtreemfs.pbrpc.Lock\"\007\215\265\0302\000\000"
+    "\000\022Q\n\023xtreemfs_lock_check\022\033.xtreemfs.pbrp"
+    "c.lockRequest\032\024.xtreemfs.pbrpc.Lock\"\007\215\265\030"
+    "3\000\000\000\022\\\n\025xtreemfs_lock_release\022\033.xtreemfs"
+    ".pbrpc.lockRequest\032\035.xtreemfs.pbrpc.empt"
+    "yResponse\"\007\215\265\0304\000\000\000\022f\n\rxtreemfs_ping\022%.xt"
+    "reemfs.pbrpc.xtreemfs_pingMesssage\032%.xtr"
+    "eemfs.pbrpc.xtreemfs_pingMesssage\"\007\215\265\030<\000"
+    "\000\000\022Y\n\021xtreemfs_shutdown\022\034.xtreemfs.pbrpc"
+    ".emptyRequest\032\035.xtreemfs.pbrpc.emptyResp"
+    "onse\"\007\215\265\030F\000\000\000\032\007\225\265\0301u\000\000B(\n&org.xtreemfs.p"
+    "brpc.generatedinterfaces", 8744);
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
     "xtreemfs/OSD.proto", &protobuf_RegisterTypes);
   InternalGmax::default_instance_ = new InternalGmax();
@@ -1206,6 +1256,7 @@ void protobuf_AddDesc_xtreemfs_2fOSD_2eproto() {
   ReplicaStatus::default_instance_ = new ReplicaStatus();
   ObjectVersionMapping::default_instance_ = new ObjectVersionMapping();
   AuthoritativeReplicaState::default_instance_ = new AuthoritativeReplicaState();
+  ReplicaUpdateChain::default_instance_ = new ReplicaUpdateChain();
   InternalReadLocalResponse::default_instance_ = new InternalReadLocalResponse();
   readRequest::default_instance_ = new readRequest();
   truncateRequest::default_instance_ = new truncateRequest();
@@ -1224,6 +1275,7 @@ void protobuf_AddDesc_xtreemfs_2fOSD_2eproto() {
   xtreemfs_rwr_statusRequest::default_instance_ = new xtreemfs_rwr_statusRequest();
   xtreemfs_rwr_truncateRequest::default_instance_ = new xtreemfs_rwr_truncateRequest();
   xtreemfs_rwr_updateRequest::default_instance_ = new xtreemfs_rwr_updateRequest();
+  xtreemfs_rwr_updateResponse::default_instance_ = new xtreemfs_rwr_updateResponse();
   xtreemfs_internal_get_gmaxRequest::default_instance_ = new xtreemfs_internal_get_gmaxRequest();
   xtreemfs_internal_get_file_sizeRequest::default_instance_ = new xtreemfs_internal_get_file_sizeRequest();
   xtreemfs_internal_get_file_sizeResponse::default_instance_ = new xtreemfs_internal_get_file_sizeResponse();
@@ -1244,6 +1296,7 @@ void protobuf_AddDesc_xtreemfs_2fOSD_2eproto() {
   ReplicaStatus::default_instance_->InitAsDefaultInstance();
   ObjectVersionMapping::default_instance_->InitAsDefaultInstance();
   AuthoritativeReplicaState::default_instance_->InitAsDefaultInstance();
+  ReplicaUpdateChain::default_instance_->InitAsDefaultInstance();
   InternalReadLocalResponse::default_instance_->InitAsDefaultInstance();
   readRequest::default_instance_->InitAsDefaultInstance();
   truncateRequest::default_instance_->InitAsDefaultInstance();
@@ -1262,6 +1315,7 @@ void protobuf_AddDesc_xtreemfs_2fOSD_2eproto() {
   xtreemfs_rwr_statusRequest::default_instance_->InitAsDefaultInstance();
   xtreemfs_rwr_truncateRequest::default_instance_->InitAsDefaultInstance();
   xtreemfs_rwr_updateRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_rwr_updateResponse::default_instance_->InitAsDefaultInstance();
   xtreemfs_internal_get_gmaxRequest::default_instance_->InitAsDefaultInstance();
   xtreemfs_internal_get_file_sizeRequest::default_instance_->InitAsDefaultInstance();
   xtreemfs_internal_get_file_sizeResponse::default_instance_->InitAsDefaultInstance();
@@ -4272,6 +4326,258 @@ void AuthoritativeReplicaState::Swap(AuthoritativeReplicaState* other) {
 }
 
 
+// ===================================================================
+
+#ifndef _MSC_VER
+const int ReplicaUpdateChain::kNumAcksFieldNumber;
+const int ReplicaUpdateChain::kReplicaIndicesFieldNumber;
+#endif  // !_MSC_VER
+
+ReplicaUpdateChain::ReplicaUpdateChain()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void ReplicaUpdateChain::InitAsDefaultInstance() {
+}
+
+ReplicaUpdateChain::ReplicaUpdateChain(const ReplicaUpdateChain& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void ReplicaUpdateChain::SharedCtor() {
+  _cached_size_ = 0;
+  num_acks_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+ReplicaUpdateChain::~ReplicaUpdateChain() {
+  SharedDtor();
+}
+
+void ReplicaUpdateChain::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void ReplicaUpdateChain::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* ReplicaUpdateChain::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ReplicaUpdateChain_descriptor_;
+}
+
+const ReplicaUpdateChain& ReplicaUpdateChain::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fOSD_2eproto();
+  return *default_instance_;
+}
+
+ReplicaUpdateChain* ReplicaUpdateChain::default_instance_ = NULL;
+
+ReplicaUpdateChain* ReplicaUpdateChain::New() const {
+  return new ReplicaUpdateChain;
+}
+
+void ReplicaUpdateChain::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    num_acks_ = 0u;
+  }
+  replica_indices_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool ReplicaUpdateChain::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required fixed32 num_acks = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &num_acks_)));
+          set_has_num_acks();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(21)) goto parse_replica_indices;
+        break;
+      }
+
+      // repeated fixed32 replica_indices = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_replica_indices:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 1, 21, input, this->mutable_replica_indices())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, this->mutable_replica_indices())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(21)) goto parse_replica_indices;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void ReplicaUpdateChain::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required fixed32 num_acks = 1;
+  if (has_num_acks()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(1, this->num_acks(), output);
+  }
+
+  // repeated fixed32 replica_indices = 2;
+  for (int i = 0; i < this->replica_indices_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(
+      2, this->replica_indices(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* ReplicaUpdateChain::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required fixed32 num_acks = 1;
+  if (has_num_acks()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(1, this->num_acks(), target);
+  }
+
+  // repeated fixed32 replica_indices = 2;
+  for (int i = 0; i < this->replica_indices_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteFixed32ToArray(2, this->replica_indices(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int ReplicaUpdateChain::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required fixed32 num_acks = 1;
+    if (has_num_acks()) {
+      total_size += 1 + 4;
+    }
+
+  }
+  // repeated fixed32 replica_indices = 2;
+  {
+    int data_size = 0;
+    data_size = 4 * this->replica_indices_size();
+    total_size += 1 * this->replica_indices_size() + data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void ReplicaUpdateChain::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const ReplicaUpdateChain* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const ReplicaUpdateChain*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void ReplicaUpdateChain::MergeFrom(const ReplicaUpdateChain& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  replica_indices_.MergeFrom(from.replica_indices_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_num_acks()) {
+      set_num_acks(from.num_acks());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void ReplicaUpdateChain::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void ReplicaUpdateChain::CopyFrom(const ReplicaUpdateChain& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool ReplicaUpdateChain::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void ReplicaUpdateChain::Swap(ReplicaUpdateChain* other) {
+  if (other != this) {
+    std::swap(num_acks_, other->num_acks_);
+    replica_indices_.Swap(&other->replica_indices_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata ReplicaUpdateChain::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = ReplicaUpdateChain_descriptor_;
+  metadata.reflection = ReplicaUpdateChain_reflection_;
+  return metadata;
+}
+
+
 // ===================================================================
 
 #ifndef _MSC_VER
@@ -9583,6 +9889,7 @@ const int xtreemfs_rwr_updateRequest::kObjectNumberFieldNumber;
 const int xtreemfs_rwr_updateRequest::kObjectVersionFieldNumber;
 const int xtreemfs_rwr_updateRequest::kOffsetFieldNumber;
 const int xtreemfs_rwr_updateRequest::kObjFieldNumber;
+const int xtreemfs_rwr_updateRequest::kChainFieldNumber;
 #endif  // !_MSC_VER
 
 xtreemfs_rwr_updateRequest::xtreemfs_rwr_updateRequest()
@@ -9593,6 +9900,7 @@ xtreemfs_rwr_updateRequest::xtreemfs_rwr_updateRequest()
 void xtreemfs_rwr_updateRequest::InitAsDefaultInstance() {
   file_credentials_ = const_cast< ::xtreemfs::pbrpc::FileCredentials*>(&::xtreemfs::pbrpc::FileCredentials::default_instance());
   obj_ = const_cast< ::xtreemfs::pbrpc::ObjectData*>(&::xtreemfs::pbrpc::ObjectData::default_instance());
+  chain_ = const_cast< ::xtreemfs::pbrpc::ReplicaUpdateChain*>(&::xtreemfs::pbrpc::ReplicaUpdateChain::default_instance());
 }
 
 xtreemfs_rwr_updateRequest::xtreemfs_rwr_updateRequest(const xtreemfs_rwr_updateRequest& from)
@@ -9610,6 +9918,7 @@ void xtreemfs_rwr_updateRequest::SharedCtor() {
   object_version_ = GOOGLE_ULONGLONG(0);
   offset_ = 0u;
   obj_ = NULL;
+  chain_ = NULL;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -9624,6 +9933,7 @@ void xtreemfs_rwr_updateRequest::SharedDtor() {
   if (this != default_instance_) {
     delete file_credentials_;
     delete obj_;
+    delete chain_;
   }
 }
 
@@ -9665,6 +9975,9 @@ void xtreemfs_rwr_updateRequest::Clear() {
     if (has_obj()) {
       if (obj_ != NULL) obj_->::xtreemfs::pbrpc::ObjectData::Clear();
     }
+    if (has_chain()) {
+      if (chain_ != NULL) chain_->::xtreemfs::pbrpc::ReplicaUpdateChain::Clear();
+    }
   }
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
@@ -9780,6 +10093,20 @@ bool xtreemfs_rwr_updateRequest::MergePartialFromCodedStream(
         } else {
           goto handle_uninterpreted;
         }
+        if (input->ExpectTag(66)) goto parse_chain;
+        break;
+      }
+
+      // optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;
+      case 8: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_chain:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_chain()));
+        } else {
+          goto handle_uninterpreted;
+        }
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -9843,6 +10170,12 @@ void xtreemfs_rwr_updateRequest::SerializeWithCachedSizes(
     ::google::protobuf::internal::WireFormatLite::WriteFixed64(7, this->object_number(), output);
   }
 
+  // optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;
+  if (has_chain()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      8, this->chain(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -9895,6 +10228,13 @@ void xtreemfs_rwr_updateRequest::SerializeWithCachedSizes(
     target = ::google::protobuf::internal::WireFormatLite::WriteFixed64ToArray(7, this->object_number(), target);
   }
 
+  // optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;
+  if (has_chain()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        8, this->chain(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -9947,6 +10287,13 @@ int xtreemfs_rwr_updateRequest::ByteSize() const {
           this->obj());
     }
 
+    // optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;
+    if (has_chain()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->chain());
+    }
+
   }
   if (!unknown_fields().empty()) {
     total_size +=
@@ -9995,6 +10342,9 @@ void xtreemfs_rwr_updateRequest::MergeFrom(const xtreemfs_rwr_updateRequest& fro
     if (from.has_obj()) {
       mutable_obj()->::xtreemfs::pbrpc::ObjectData::MergeFrom(from.obj());
     }
+    if (from.has_chain()) {
+      mutable_chain()->::xtreemfs::pbrpc::ReplicaUpdateChain::MergeFrom(from.chain());
+    }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
@@ -10020,6 +10370,9 @@ bool xtreemfs_rwr_updateRequest::IsInitialized() const {
   if (has_obj()) {
     if (!this->obj().IsInitialized()) return false;
   }
+  if (has_chain()) {
+    if (!this->chain().IsInitialized()) return false;
+  }
   return true;
 }
 
@@ -10032,6 +10385,7 @@ void xtreemfs_rwr_updateRequest::Swap(xtreemfs_rwr_updateRequest* other) {
     std::swap(object_version_, other->object_version_);
     std::swap(offset_, other->offset_);
     std::swap(obj_, other->obj_);
+    std::swap(chain_, other->chain_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -10047,6 +10401,212 @@ void xtreemfs_rwr_updateRequest::Swap(xtreemfs_rwr_updateRequest* other) {
 }
 
 
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_rwr_updateResponse::kNumAcksFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_rwr_updateResponse::xtreemfs_rwr_updateResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_rwr_updateResponse::InitAsDefaultInstance() {
+}
+
+xtreemfs_rwr_updateResponse::xtreemfs_rwr_updateResponse(const xtreemfs_rwr_updateResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_rwr_updateResponse::SharedCtor() {
+  _cached_size_ = 0;
+  num_acks_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_rwr_updateResponse::~xtreemfs_rwr_updateResponse() {
+  SharedDtor();
+}
+
+void xtreemfs_rwr_updateResponse::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_rwr_updateResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_rwr_updateResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_rwr_updateResponse_descriptor_;
+}
+
+const xtreemfs_rwr_updateResponse& xtreemfs_rwr_updateResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fOSD_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_rwr_updateResponse* xtreemfs_rwr_updateResponse::default_instance_ = NULL;
+
+xtreemfs_rwr_updateResponse* xtreemfs_rwr_updateResponse::New() const {
+  return new xtreemfs_rwr_updateResponse;
+}
+
+void xtreemfs_rwr_updateResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    num_acks_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_rwr_updateResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // optional fixed32 num_acks = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &num_acks_)));
+          set_has_num_acks();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_rwr_updateResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // optional fixed32 num_acks = 1;
+  if (has_num_acks()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(1, this->num_acks(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_rwr_updateResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // optional fixed32 num_acks = 1;
+  if (has_num_acks()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(1, this->num_acks(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_rwr_updateResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // optional fixed32 num_acks = 1;
+    if (has_num_acks()) {
+      total_size += 1 + 4;
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_rwr_updateResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_rwr_updateResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_rwr_updateResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_rwr_updateResponse::MergeFrom(const xtreemfs_rwr_updateResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_num_acks()) {
+      set_num_acks(from.num_acks());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_rwr_updateResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_rwr_updateResponse::CopyFrom(const xtreemfs_rwr_updateResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_rwr_updateResponse::IsInitialized() const {
+
+  return true;
+}
+
+void xtreemfs_rwr_updateResponse::Swap(xtreemfs_rwr_updateResponse* other) {
+  if (other != this) {
+    std::swap(num_acks_, other->num_acks_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_rwr_updateResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_rwr_updateResponse_descriptor_;
+  metadata.reflection = xtreemfs_rwr_updateResponse_reflection_;
+  return metadata;
+}
+
+
 // ===================================================================
 
 #ifndef _MSC_VER
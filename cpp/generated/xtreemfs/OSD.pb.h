@@ -48,6 +48,7 @@ class TruncateLog;
 class ReplicaStatus;
 class ObjectVersionMapping;
 class AuthoritativeReplicaState;
+class ReplicaUpdateChain;
 class InternalReadLocalResponse;
 class readRequest;
 class truncateRequest;
@@ -66,6 +67,7 @@ class xtreemfs_rwr_set_primary_epochRequest;
 class xtreemfs_rwr_statusRequest;
 class xtreemfs_rwr_truncateRequest;
 class xtreemfs_rwr_updateRequest;
+class xtreemfs_rwr_updateResponse;
 class xtreemfs_internal_get_gmaxRequest;
 class xtreemfs_internal_get_file_sizeRequest;
 class xtreemfs_internal_get_file_sizeResponse;
@@ -1170,6 +1172,101 @@ class AuthoritativeReplicaState : public ::google::protobuf::Message {
 };
 // -------------------------------------------------------------------
 
+class ReplicaUpdateChain : public ::google::protobuf::Message {
+ public:
+  ReplicaUpdateChain();
+  virtual ~ReplicaUpdateChain();
+
+  ReplicaUpdateChain(const ReplicaUpdateChain& from);
+
+  inline ReplicaUpdateChain& operator=(const ReplicaUpdateChain& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const ReplicaUpdateChain& default_instance();
+
+  void Swap(ReplicaUpdateChain* other);
+
+  // implements Message ----------------------------------------------
+
+  ReplicaUpdateChain* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const ReplicaUpdateChain& from);
+  void MergeFrom(const ReplicaUpdateChain& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required fixed32 num_acks = 1;
+  inline bool has_num_acks() const;
+  inline void clear_num_acks();
+  static const int kNumAcksFieldNumber = 1;
+  inline ::google::protobuf::uint32 num_acks() const;
+  inline void set_num_acks(::google::protobuf::uint32 value);
+
+  // repeated fixed32 replica_indices = 2;
+  inline int replica_indices_size() const;
+  inline void clear_replica_indices();
+  static const int kReplicaIndicesFieldNumber = 2;
+  inline ::google::protobuf::uint32 replica_indices(int index) const;
+  inline void set_replica_indices(int index, ::google::protobuf::uint32 value);
+  inline void add_replica_indices(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      replica_indices() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_replica_indices();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.ReplicaUpdateChain)
+ private:
+  inline void set_has_num_acks();
+  inline void clear_has_num_acks();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > replica_indices_;
+  ::google::protobuf::uint32 num_acks_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fOSD_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fOSD_2eproto();
+
+  void InitAsDefaultInstance();
+  static ReplicaUpdateChain* default_instance_;
+};
+// -------------------------------------------------------------------
+
 class InternalReadLocalResponse : public ::google::protobuf::Message {
  public:
   InternalReadLocalResponse();
@@ -3145,6 +3242,15 @@ class xtreemfs_rwr_updateRequest : public ::google::protobuf::Message {
   inline ::xtreemfs::pbrpc::ObjectData* release_obj();
   inline void set_allocated_obj(::xtreemfs::pbrpc::ObjectData* obj);
 
+  // optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;
+  inline bool has_chain() const;
+  inline void clear_chain();
+  static const int kChainFieldNumber = 8;
+  inline const ::xtreemfs::pbrpc::ReplicaUpdateChain& chain() const;
+  inline ::xtreemfs::pbrpc::ReplicaUpdateChain* mutable_chain();
+  inline ::xtreemfs::pbrpc::ReplicaUpdateChain* release_chain();
+  inline void set_allocated_chain(::xtreemfs::pbrpc::ReplicaUpdateChain* chain);
+
   // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_updateRequest)
  private:
   inline void set_has_file_credentials();
@@ -3161,6 +3267,8 @@ class xtreemfs_rwr_updateRequest : public ::google::protobuf::Message {
   inline void clear_has_offset();
   inline void set_has_obj();
   inline void clear_has_obj();
+  inline void set_has_chain();
+  inline void clear_has_chain();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
@@ -3170,10 +3278,11 @@ class xtreemfs_rwr_updateRequest : public ::google::protobuf::Message {
   ::google::protobuf::uint64 object_number_;
   ::google::protobuf::uint64 object_version_;
   ::xtreemfs::pbrpc::ObjectData* obj_;
+  ::xtreemfs::pbrpc::ReplicaUpdateChain* chain_;
   ::google::protobuf::uint32 offset_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(7 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(8 + 31) / 32];
 
   friend void  protobuf_AddDesc_xtreemfs_2fOSD_2eproto();
   friend void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto();
@@ -3184,6 +3293,88 @@ class xtreemfs_rwr_updateRequest : public ::google::protobuf::Message {
 };
 // -------------------------------------------------------------------
 
+class xtreemfs_rwr_updateResponse : public ::google::protobuf::Message {
+ public:
+  xtreemfs_rwr_updateResponse();
+  virtual ~xtreemfs_rwr_updateResponse();
+
+  xtreemfs_rwr_updateResponse(const xtreemfs_rwr_updateResponse& from);
+
+  inline xtreemfs_rwr_updateResponse& operator=(const xtreemfs_rwr_updateResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_rwr_updateResponse& default_instance();
+
+  void Swap(xtreemfs_rwr_updateResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_rwr_updateResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_rwr_updateResponse& from);
+  void MergeFrom(const xtreemfs_rwr_updateResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // optional fixed32 num_acks = 1;
+  inline bool has_num_acks() const;
+  inline void clear_num_acks();
+  static const int kNumAcksFieldNumber = 1;
+  inline ::google::protobuf::uint32 num_acks() const;
+  inline void set_num_acks(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_updateResponse)
+ private:
+  inline void set_has_num_acks();
+  inline void clear_has_num_acks();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 num_acks_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fOSD_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fOSD_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_rwr_updateResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
 class xtreemfs_internal_get_gmaxRequest : public ::google::protobuf::Message {
  public:
   xtreemfs_internal_get_gmaxRequest();
@@ -5130,6 +5321,57 @@ inline void AuthoritativeReplicaState::set_allocated_truncate_log(::xtreemfs::pb
 
 // -------------------------------------------------------------------
 
+// ReplicaUpdateChain
+
+// required fixed32 num_acks = 1;
+inline bool ReplicaUpdateChain::has_num_acks() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void ReplicaUpdateChain::set_has_num_acks() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void ReplicaUpdateChain::clear_has_num_acks() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void ReplicaUpdateChain::clear_num_acks() {
+  num_acks_ = 0u;
+  clear_has_num_acks();
+}
+inline ::google::protobuf::uint32 ReplicaUpdateChain::num_acks() const {
+  return num_acks_;
+}
+inline void ReplicaUpdateChain::set_num_acks(::google::protobuf::uint32 value) {
+  set_has_num_acks();
+  num_acks_ = value;
+}
+
+// repeated fixed32 replica_indices = 2;
+inline int ReplicaUpdateChain::replica_indices_size() const {
+  return replica_indices_.size();
+}
+inline void ReplicaUpdateChain::clear_replica_indices() {
+  replica_indices_.Clear();
+}
+inline ::google::protobuf::uint32 ReplicaUpdateChain::replica_indices(int index) const {
+  return replica_indices_.Get(index);
+}
+inline void ReplicaUpdateChain::set_replica_indices(int index, ::google::protobuf::uint32 value) {
+  replica_indices_.Set(index, value);
+}
+inline void ReplicaUpdateChain::add_replica_indices(::google::protobuf::uint32 value) {
+  replica_indices_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+ReplicaUpdateChain::replica_indices() const {
+  return replica_indices_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+ReplicaUpdateChain::mutable_replica_indices() {
+  return &replica_indices_;
+}
+
+// -------------------------------------------------------------------
+
 // InternalReadLocalResponse
 
 // required .xtreemfs.pbrpc.ObjectData data = 1;
@@ -7463,6 +7705,70 @@ inline void xtreemfs_rwr_updateRequest::set_allocated_obj(::xtreemfs::pbrpc::Obj
   }
 }
 
+// optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;
+inline bool xtreemfs_rwr_updateRequest::has_chain() const {
+  return (_has_bits_[0] & 0x00000080u) != 0;
+}
+inline void xtreemfs_rwr_updateRequest::set_has_chain() {
+  _has_bits_[0] |= 0x00000080u;
+}
+inline void xtreemfs_rwr_updateRequest::clear_has_chain() {
+  _has_bits_[0] &= ~0x00000080u;
+}
+inline void xtreemfs_rwr_updateRequest::clear_chain() {
+  if (chain_ != NULL) chain_->::xtreemfs::pbrpc::ReplicaUpdateChain::Clear();
+  clear_has_chain();
+}
+inline const ::xtreemfs::pbrpc::ReplicaUpdateChain& xtreemfs_rwr_updateRequest::chain() const {
+  return chain_ != NULL ? *chain_ : *default_instance_->chain_;
+}
+inline ::xtreemfs::pbrpc::ReplicaUpdateChain* xtreemfs_rwr_updateRequest::mutable_chain() {
+  set_has_chain();
+  if (chain_ == NULL) chain_ = new ::xtreemfs::pbrpc::ReplicaUpdateChain;
+  return chain_;
+}
+inline ::xtreemfs::pbrpc::ReplicaUpdateChain* xtreemfs_rwr_updateRequest::release_chain() {
+  clear_has_chain();
+  ::xtreemfs::pbrpc::ReplicaUpdateChain* temp = chain_;
+  chain_ = NULL;
+  return temp;
+}
+inline void xtreemfs_rwr_updateRequest::set_allocated_chain(::xtreemfs::pbrpc::ReplicaUpdateChain* chain) {
+  delete chain_;
+  chain_ = chain;
+  if (chain) {
+    set_has_chain();
+  } else {
+    clear_has_chain();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_rwr_updateResponse
+
+// optional fixed32 num_acks = 1;
+inline bool xtreemfs_rwr_updateResponse::has_num_acks() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void xtreemfs_rwr_updateResponse::set_has_num_acks() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void xtreemfs_rwr_updateResponse::clear_has_num_acks() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void xtreemfs_rwr_updateResponse::clear_num_acks() {
+  num_acks_ = 0u;
+  clear_has_num_acks();
+}
+inline ::google::protobuf::uint32 xtreemfs_rwr_updateResponse::num_acks() const {
+  return num_acks_;
+}
+inline void xtreemfs_rwr_updateResponse::set_num_acks(::google::protobuf::uint32 value) {
+  set_has_num_acks();
+  num_acks_ = value;
+}
+
 // -------------------------------------------------------------------
 
 // xtreemfs_internal_get_gmaxRequest
@@ -1,5 +1,5 @@
-//automatically generated from OSD.proto at Mon Nov 11 11:46:59 CET 2013
-//(c) 2013. See LICENSE file for details.
+//automatically generated from OSD.proto at Mon Oct 19 07:36:25 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 #ifndef OSDSERVICECLIENT_H
 #define OSDSERVICECLIENT_H
@@ -9,11 +9,11 @@
 #include "rpc/client.h"
 #include "rpc/sync_callback.h"
 #include "rpc/callback_interface.h"
-#include "xtreemfs/OSD.pb.h"
-#include "xtreemfs/MRC.pb.h"
 #include "include/Common.pb.h"
-#include "xtreemfs/GlobalTypes.pb.h"
 #include "xtreemfs/DIR.pb.h"
+#include "xtreemfs/GlobalTypes.pb.h"
+#include "xtreemfs/MRC.pb.h"
+#include "xtreemfs/OSD.pb.h"
 
 
 namespace xtreemfs {
@@ -468,19 +468,19 @@ namespace pbrpc {
                 const xtreemfs::pbrpc::Auth& auth,
                 const xtreemfs::pbrpc::UserCredentials &creds,
                 const xtreemfs::pbrpc::xtreemfs_rwr_updateRequest* request,const char* data, uint32_t data_length,
-                CallbackInterface<xtreemfs::pbrpc::emptyResponse> *callback, void *context = NULL) {
+                CallbackInterface<xtreemfs::pbrpc::xtreemfs_rwr_updateResponse> *callback, void *context = NULL) {
                 client_->sendRequest(address, 30001, 72,
-                     creds, auth, request, data, data_length, NULL,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_rwr_updateResponse(),
                      context, callback);
             }
 
-            SyncCallback<xtreemfs::pbrpc::emptyResponse>* xtreemfs_rwr_update_sync(const std::string &address,
+            SyncCallback<xtreemfs::pbrpc::xtreemfs_rwr_updateResponse>* xtreemfs_rwr_update_sync(const std::string &address,
                 const xtreemfs::pbrpc::Auth& auth,
                 const xtreemfs::pbrpc::UserCredentials &creds
                 , const xtreemfs::pbrpc::xtreemfs_rwr_updateRequest* request, const char* data, uint32_t data_length) {
-                SyncCallback<xtreemfs::pbrpc::emptyResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::emptyResponse>();
+                SyncCallback<xtreemfs::pbrpc::xtreemfs_rwr_updateResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::xtreemfs_rwr_updateResponse>();
                 client_->sendRequest(address, 30001, 72,
-                     creds, auth, request, data, data_length, NULL,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_rwr_updateResponse(),
                      NULL, sync_cb);
                 return sync_cb;
             }
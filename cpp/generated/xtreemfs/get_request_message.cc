@@ -1,13 +1,13 @@
-//automatically generated at Mon Nov 11 11:46:59 CET 2013
-//(c) 2013. See LICENSE file for details.
+//automatically generated at Mon Oct 19 08:01:16 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 #include "xtreemfs/get_request_message.h"
 
-#include "xtreemfs/OSD.pb.h"
-#include "xtreemfs/MRC.pb.h"
 #include "include/Common.pb.h"
-#include "xtreemfs/GlobalTypes.pb.h"
 #include "xtreemfs/DIR.pb.h"
+#include "xtreemfs/GlobalTypes.pb.h"
+#include "xtreemfs/MRC.pb.h"
+#include "xtreemfs/OSD.pb.h"
 
 namespace xtreemfs {
 namespace pbrpc {
@@ -251,6 +251,14 @@ google::protobuf::Message* GetMessageForProcID(uint32_t interface_id,
           return new xtreemfs::pbrpc::xtreemfs_get_file_credentialsRequest();
           break;
         }
+        case 51: {
+          return new xtreemfs::pbrpc::xtreemfs_update_batchRequest();
+          break;
+        }
+        case 52: {
+          return new xtreemfs::pbrpc::xtreemfs_delete_recursiveRequest();
+          break;
+        }
         default: {
           return NULL;
         }
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.flease;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import org.xtreemfs.foundation.flease.comm.FleaseMessage;
+
+/**
+ * Sender which is able to send several messages to the same recipient in a
+ * single packet. The receiver must pass them to
+ * {@link FleaseStage#receiveMessages(List)}.
+ */
+public interface FleaseBatchMessageSenderInterface extends FleaseMessageSenderInterface {
+
+    public void sendMessages(List<FleaseMessage> messages, InetSocketAddress recipient);
+
+}
@@ -55,6 +55,11 @@ public class FleaseConfig {
 
     private final boolean debugPrintMessages;
 
+    /**
+     * maximum number of messages for the same recipient sent in one packet
+     */
+    private final int maxMessageBatchSize;
+
     public FleaseConfig(int leaseTimeout_ms, int dmax_ms,
                     int messageTimeout_ms, InetSocketAddress endpoint,
                     String identity, int maxRetries) {
@@ -72,6 +77,14 @@ public class FleaseConfig {
                     int messageTimeout_ms, InetSocketAddress endpoint,
                     String identity, int maxRetries, boolean sendLearnMessages,
                     int toNotification_ms, boolean debugPrintMessages) {
+        this(leaseTimeout_ms, dmax_ms, messageTimeout_ms, endpoint, identity, maxRetries, sendLearnMessages, toNotification_ms, debugPrintMessages, 1);
+    }
+
+    public FleaseConfig(int leaseTimeout_ms, int dmax_ms,
+                    int messageTimeout_ms, InetSocketAddress endpoint,
+                    String identity, int maxRetries, boolean sendLearnMessages,
+                    int toNotification_ms, boolean debugPrintMessages,
+                    int maxMessageBatchSize) {
 
         this.maxLeaseTimeout_ms = leaseTimeout_ms;
         this.dmax_ms = dmax_ms;
@@ -83,6 +96,7 @@ public class FleaseConfig {
 
         this.endpoint = endpoint;
         this.senderId = identity.hashCode();
+        this.maxMessageBatchSize = maxMessageBatchSize;
 
         checkValidConfiguration();
         this.identity = new ASCIIString(identity);
@@ -100,6 +114,10 @@ public class FleaseConfig {
             throw new IllegalArgumentException("maxLeaseTimeout_ms must be at least twice as long as dmax_ms but should be much bigger");
         }
 
+        if (maxMessageBatchSize < 1) {
+            throw new IllegalArgumentException("maxMessageBatchSize must be at least 1");
+        }
+
         if (maxLeaseTimeout_ms < dmax_ms*2+roundTimeout_ms*2) {
             throw new IllegalArgumentException("maxLeaseTimeout_ms must be at least as long as dmax_ms*2+4*message_timeout but should be much bigger");
         }
@@ -187,5 +205,13 @@ public class FleaseConfig {
         return debugPrintMessages;
     }
 
+    /**
+     * @return the maximum number of messages sent to the same recipient in
+     * one packet, 1 disables batching
+     */
+    public int getMaxMessageBatchSize() {
+        return maxMessageBatchSize;
+    }
+
 
 }
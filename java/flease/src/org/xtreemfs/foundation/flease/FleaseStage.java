@@ -10,14 +10,15 @@ import java.io.IOException;
 import org.xtreemfs.foundation.flease.proposer.*;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.xtreemfs.foundation.LifeCycleThread;
 import org.xtreemfs.foundation.TimeSync;
@@ -40,6 +41,12 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
 
     public static final int TIMER_INTERVAL_IN_MS = 50;
 
+    /**
+     * resolution of timers and lease timeouts, the stage wakes up at least
+     * once per tick while timers are scheduled
+     */
+    public static final int TIMER_TICK_IN_MS = 10;
+
     public static final boolean ENABLE_TIMEOUT_EVENTS = true;
 
     public static final boolean DISABLE_RENEW_FOR_TESTING = false;
@@ -50,9 +57,25 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
 
     private final FleaseAcceptor acceptor;
 
-    private final PriorityQueue<TimerEntry> timers;
+    /**
+     * proposer timers, in local system time
+     */
+    private final TimerWheel<FleaseMessage> timers;
+
+    /**
+     * lease timeout notifications, in global time. Entries of leases which
+     * were renewed stay in the wheel and are discarded when they expire.
+     */
+    private final TimerWheel<Flease> leaseTimeouts;
+
+    /**
+     * the lease timeout entry of the current lease of each cell
+     */
+    private final Map<ASCIIString, TimerWheel.Entry<Flease>> currentLeaseTimeouts;
 
-    private final PriorityQueue<Flease> leaseTimeouts;
+    private final List<FleaseMessage> expiredTimers;
+
+    private final List<Flease> expiredLeases;
 
     private final LinkedBlockingQueue messages;
 
@@ -76,6 +99,19 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
 
     private final MasterEpochHandlerInterface    meHandler;
 
+    /**
+     * sender used to send several messages in one packet, null if batching is disabled
+     */
+    private final FleaseBatchMessageSenderInterface batchSender;
+
+    /**
+     * messages sent by the flease thread which are collected per recipient
+     * and sent at the end of each loop iteration
+     */
+    private final Map<InetSocketAddress, List<FleaseMessage>> outgoingBatches;
+
+    private final AtomicLong                     numMsgsSent, numPacketsSent, numMsgsReceived, numBatchesReceived;
+
     /**
      * Creates a new instance of Flease.
      * @param config flease configuration used for all cells and leases.
@@ -95,7 +131,8 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
         assert (sender != null);
         assert(leaseListener != null);
 
-        timers = new PriorityQueue<TimerEntry>();
+        timers = new TimerWheel<FleaseMessage>(TIMER_TICK_IN_MS, TimeSync.getLocalSystemTime());
+        expiredTimers = new ArrayList<FleaseMessage>();
         messages = new LinkedBlockingQueue();
         quit = false;
         this.config = config;
@@ -106,7 +143,7 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
         proposer = new FleaseProposer(config, acceptor, new FleaseCommunicationInterface() {
 
             public void sendMessage(FleaseMessage msg, InetSocketAddress receiver) throws IOException {
-                sender.sendMessage(msg, receiver);
+                send(msg, receiver);
             }
 
             public void requestTimer(FleaseMessage msg, long timestamp) {
@@ -117,12 +154,20 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
         proposer.setViewChangeListener(viewListener);
         this.sender = sender;
 
-        leaseTimeouts = new PriorityQueue<Flease>(1000, new Comparator<Flease>() {
-
-            public int compare(Flease o1, Flease o2) {
-                return (int) (o1.getLeaseTimeout_ms() - o2.getLeaseTimeout_ms());
-            }
-        });
+        if (config.getMaxMessageBatchSize() > 1 && sender instanceof FleaseBatchMessageSenderInterface) {
+            batchSender = (FleaseBatchMessageSenderInterface) sender;
+        } else {
+            batchSender = null;
+        }
+        outgoingBatches = new LinkedHashMap<InetSocketAddress, List<FleaseMessage>>();
+        numMsgsSent = new AtomicLong();
+        numPacketsSent = new AtomicLong();
+        numMsgsReceived = new AtomicLong();
+        numBatchesReceived = new AtomicLong();
+
+        leaseTimeouts = new TimerWheel<Flease>(TIMER_TICK_IN_MS, TimeSync.getGlobalTime());
+        currentLeaseTimeouts = new HashMap<ASCIIString, TimerWheel.Entry<Flease>>();
+        expiredLeases = new ArrayList<Flease>();
         if (COLLECT_STATISTICS) {
             durRequests = new AtomicReference(new LinkedList());
             durTimers = new AtomicReference(new LinkedList());
@@ -256,10 +301,28 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
 
         if (COLLECT_STATISTICS)
             inMsgs.incrementAndGet();
+        numMsgsReceived.incrementAndGet();
 
         this.messages.add(msg);
     }
 
+    /**
+     * Receives several messages which were sent in one packet. The messages
+     * are processed in one pass by the flease thread.
+     * @param msgs messages received, all with the sender set
+     */
+    public void receiveMessages(List<FleaseMessage> msgs) {
+        if (msgs.isEmpty())
+            return;
+
+        if (COLLECT_STATISTICS)
+            inMsgs.addAndGet(msgs.size());
+        numMsgsReceived.addAndGet(msgs.size());
+        numBatchesReceived.incrementAndGet();
+
+        this.messages.add(new MessageBatch(msgs));
+    }
+
     public FleaseMessage _test_get_local_lease_state(ASCIIString cellId) {
         return acceptor.getLocalLeaseInformation(cellId);
     }
@@ -296,8 +359,7 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
             }
             leaseListener.statusChanged(cellId, newFlease);
             if (ENABLE_TIMEOUT_EVENTS) {
-                leaseTimeouts.remove(oldFlease);
-                leaseTimeouts.add(newFlease);
+                scheduleLeaseTimeout(newFlease);
             }
         }
     }
@@ -321,6 +383,8 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
 
         while (!quit) {
             try {
+                nextTimerRunInMS = (timers.isEmpty() && leaseTimeouts.isEmpty()) ? TIMER_INTERVAL_IN_MS
+                        : TIMER_TICK_IN_MS;
                 final Object tmp = messages.poll(nextTimerRunInMS, TimeUnit.MILLISECONDS);
 
                 if (quit) {
@@ -329,16 +393,14 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
 
                 if ((tmp == null) ||
                         (TimeSync.getLocalSystemTime() >= lastTimerRun + nextTimerRunInMS)) {
+                    checkTimers();
                     if (ENABLE_TIMEOUT_EVENTS) {
-                        //nextTimerRunInMS =
-                        checkTimers();
                         checkLeaseTimeouts();
-                    } else {
-                        nextTimerRunInMS = checkTimers();
                     }
                     lastTimerRun = TimeSync.getLocalSystemTime();
                 }
                 if (tmp == null) {
+                    flushOutgoingBatches();
                     continue;
                 }
 
@@ -362,54 +424,21 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
                         rqStart = System.nanoTime();
                     }
                     if (request instanceof FleaseMessage) {
-                        final FleaseMessage msg = (FleaseMessage) request;
-
-                        if (msg.isInternalEvent()) {
-                            //should never happen!
-                            Logging.logMessage(Logging.LEVEL_ERROR, Category.replication, this, "received internal event: %s", msg);
-                        } else if (msg.isAcceptorMessage()) {
-                            final FleaseMessage response = acceptor.processMessage(msg);
-                            if (response != null) {
-                                if (msg.getMasterEpochNumber() == FleaseMessage.REQUEST_MASTER_EPOCH
-                                        && response.getMsgType() == FleaseMessage.MsgType.MSG_PREPARE_ACK) {
-                                    // Respond with the current master epoch.
-                                    if (meHandler != null) {
-                                        MasterEpochHandlerInterface.Continuation cont = new MasterEpochHandlerInterface.Continuation() {
-                                            @Override
-                                            public void processingFinished() {
-                                                sender.sendMessage(response, msg.getSender());
-                                            }
-                                        };
-                                        meHandler.sendMasterEpoch(response, cont);
-                                    } else {
-                                        Logging.logMessage(Logging.LEVEL_ERROR, this,
-                                                "MASTER EPOCH WAS REQUESTED, BUT NO MASTER EPOCH HANDLER DEFINED!!!");
-                                        sender.sendMessage(response, msg.getSender());
-                                    }
-                                } else if (msg.getMasterEpochNumber() != FleaseMessage.IGNORE_MASTER_EPOCH
-                                        && response.getMsgType() == FleaseMessage.MsgType.MSG_ACCEPT_ACK) {
-                                    // Write the current master epoch to disk.
-                                    if (meHandler != null) {
-                                        MasterEpochHandlerInterface.Continuation cont = new MasterEpochHandlerInterface.Continuation() {
-                                            @Override
-                                            public void processingFinished() {
-                                                sender.sendMessage(response, msg.getSender());
-                                            }
-                                        };
-                                        meHandler.storeMasterEpoch(response, cont);
-                                    }
-                                } else {
-                                    sender.sendMessage(response, msg.getSender());
-                                }
-                            }
-                        } else {
-                            proposer.processMessage(msg);
-                        }
+                        processMessage((FleaseMessage) request);
                         if (COLLECT_STATISTICS) {
                             long rqEnd = System.nanoTime();
                             durMsgs.get().add(Integer.valueOf((int)(rqEnd-rqStart)));
                             outMsgs.incrementAndGet();
                         }
+                    } else if (request instanceof MessageBatch) {
+                        for (FleaseMessage msg : ((MessageBatch) request).messages) {
+                            processMessage(msg);
+                        }
+                        if (COLLECT_STATISTICS) {
+                            long rqEnd = System.nanoTime();
+                            durMsgs.get().add(Integer.valueOf((int)(rqEnd-rqStart)));
+                            outMsgs.addAndGet(((MessageBatch) request).messages.size());
+                        }
                     } else {
                         Request rq = (Request) request;
                         switch (rq.type) {
@@ -432,10 +461,11 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
                             }
                             case HANDOVER_LEASE: {
                                 try {
-                                    Flease prevLease = proposer.updatePrevLeaseForCell(rq.cellId, Flease.EMPTY_LEASE);
-                                    if (prevLease != null) {
-                                        //cancel the lease
-                                        leaseTimeouts.remove(prevLease);
+                                    proposer.updatePrevLeaseForCell(rq.cellId, Flease.EMPTY_LEASE);
+                                    //cancel the lease
+                                    TimerWheel.Entry<Flease> timeout = currentLeaseTimeouts.remove(rq.cellId);
+                                    if (timeout != null) {
+                                        leaseTimeouts.cancel(timeout);
                                     }
                                     proposer.handoverLease(rq.cellId, rq.newLeaseOwner);
                                 } catch (FleaseException ex) {
@@ -468,6 +498,7 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
                     }
                     
                 }
+                flushOutgoingBatches();
                 if (DISABLE_RENEW_FOR_TESTING) {
                     Thread.sleep(0, 2);
                 }
@@ -487,6 +518,93 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
         Logging.logMessage(Logging.LEVEL_INFO, Category.replication, this, "Flease stopped", FLEASE_VERSION);
     }
 
+    private void processMessage(final FleaseMessage msg) throws Exception {
+        if (msg.isInternalEvent()) {
+            //should never happen!
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.replication, this, "received internal event: %s", msg);
+        } else if (msg.isAcceptorMessage()) {
+            final FleaseMessage response = acceptor.processMessage(msg);
+            if (response != null) {
+                if (msg.getMasterEpochNumber() == FleaseMessage.REQUEST_MASTER_EPOCH
+                        && response.getMsgType() == FleaseMessage.MsgType.MSG_PREPARE_ACK) {
+                    // Respond with the current master epoch.
+                    if (meHandler != null) {
+                        MasterEpochHandlerInterface.Continuation cont = new MasterEpochHandlerInterface.Continuation() {
+                            @Override
+                            public void processingFinished() {
+                                sender.sendMessage(response, msg.getSender());
+                            }
+                        };
+                        meHandler.sendMasterEpoch(response, cont);
+                    } else {
+                        Logging.logMessage(Logging.LEVEL_ERROR, this,
+                                "MASTER EPOCH WAS REQUESTED, BUT NO MASTER EPOCH HANDLER DEFINED!!!");
+                        sender.sendMessage(response, msg.getSender());
+                    }
+                } else if (msg.getMasterEpochNumber() != FleaseMessage.IGNORE_MASTER_EPOCH
+                        && response.getMsgType() == FleaseMessage.MsgType.MSG_ACCEPT_ACK) {
+                    // Write the current master epoch to disk.
+                    if (meHandler != null) {
+                        MasterEpochHandlerInterface.Continuation cont = new MasterEpochHandlerInterface.Continuation() {
+                            @Override
+                            public void processingFinished() {
+                                sender.sendMessage(response, msg.getSender());
+                            }
+                        };
+                        meHandler.storeMasterEpoch(response, cont);
+                    }
+                } else {
+                    send(response, msg.getSender());
+                }
+            }
+        } else {
+            proposer.processMessage(msg);
+        }
+    }
+
+    /**
+     * Sends a message from the flease thread. If batching is enabled, the
+     * message is added to the batch for the recipient.
+     */
+    private void send(FleaseMessage msg, InetSocketAddress recipient) {
+        numMsgsSent.incrementAndGet();
+        if (batchSender == null) {
+            numPacketsSent.incrementAndGet();
+            sender.sendMessage(msg, recipient);
+            return;
+        }
+        List<FleaseMessage> batch = outgoingBatches.get(recipient);
+        if (batch == null) {
+            batch = new ArrayList<FleaseMessage>(config.getMaxMessageBatchSize());
+            outgoingBatches.put(recipient, batch);
+        }
+        // the proposer sends the same message object to all acceptors and
+        // may modify it before the batch is sent
+        batch.add(msg.clone());
+        if (batch.size() >= config.getMaxMessageBatchSize()) {
+            outgoingBatches.remove(recipient);
+            sendBatch(batch, recipient);
+        }
+    }
+
+    private void sendBatch(List<FleaseMessage> batch, InetSocketAddress recipient) {
+        numPacketsSent.incrementAndGet();
+        if (batch.size() == 1) {
+            sender.sendMessage(batch.get(0), recipient);
+        } else {
+            batchSender.sendMessages(batch, recipient);
+        }
+    }
+
+    private void flushOutgoingBatches() {
+        if (outgoingBatches.isEmpty())
+            return;
+        for (Map.Entry<InetSocketAddress, List<FleaseMessage>> e : outgoingBatches.entrySet()) {
+            sendBatch(e.getValue(), e.getKey());
+        }
+        outgoingBatches.clear();
+    }
+
     public void shutdown() {
         if (COLLECT_STATISTICS)
             statThr.shutdown();
@@ -495,83 +613,71 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
         this.interrupt();
     }
 
-    private int checkTimers() throws Throwable {
+    private void checkTimers() throws Throwable {
         final long now = TimeSync.getLocalSystemTime();
 
-        TimerEntry e = timers.peek();
-        if (e == null) {
-            return TIMER_INTERVAL_IN_MS;
+        timers.advance(now, expiredTimers);
+        if (expiredTimers.isEmpty()) {
+            return;
         }
-        if (e.getScheduledTime() <= now + TIMER_INTERVAL_IN_MS) {
-            //execute timer
-            
-            do {
-                e = timers.poll();
-
-                long rqStart;
-                if (COLLECT_STATISTICS) {
-                    rqStart = System.nanoTime();
-                    inTimers.incrementAndGet();
-                }
-                if (e.getScheduledTime() < now) {
-                    Logging.logMessage(Logging.LEVEL_DEBUG, this, "event sent after deadline: %s", e.message);
-                }
-                e.getMessage().setSendTimestamp(TimeSync.getGlobalTime());
-                proposer.processMessage(e.getMessage());
-
-                if (COLLECT_STATISTICS) {
-                    long rqEnd = System.nanoTime();
-                    durTimers.get().add(Integer.valueOf((int)(rqEnd-rqStart)));
-                }
+        for (FleaseMessage msg : expiredTimers) {
+            long rqStart;
+            if (COLLECT_STATISTICS) {
+                rqStart = System.nanoTime();
+                inTimers.incrementAndGet();
+            }
+            msg.setSendTimestamp(TimeSync.getGlobalTime());
+            proposer.processMessage(msg);
 
-                e = timers.peek();
-                if (e == null) {
-                    return TIMER_INTERVAL_IN_MS;
-                }
-            } while (e.getScheduledTime() <= now + TIMER_INTERVAL_IN_MS);
-            
-            return (int) (e.getScheduledTime() - now);
-        } else {
-            //tell how long we have to wait
-            return (int) (e.getScheduledTime() - now);
+            if (COLLECT_STATISTICS) {
+                long rqEnd = System.nanoTime();
+                durTimers.get().add(Integer.valueOf((int)(rqEnd-rqStart)));
+            }
         }
+        expiredTimers.clear();
     }
 
     private void checkLeaseTimeouts() {
-        final long now = TimeSync.getGlobalTime();
-        final long deadline = now + TIMER_INTERVAL_IN_MS + TimeSync.getLocalRenewInterval()+config.getToNotification_ms();
-
-        Flease f = leaseTimeouts.peek();
-        if (f == null)
+        leaseTimeouts.advance(TimeSync.getGlobalTime(), expiredLeases);
+        if (expiredLeases.isEmpty()) {
             return;
-        if (f.getLeaseTimeout_ms() <= deadline) {
-            //execute timer
-            do {
-                f = leaseTimeouts.poll();
+        }
+        for (Flease f : expiredLeases) {
+            TimerWheel.Entry<Flease> current = currentLeaseTimeouts.get(f.getCellId());
+            if (current == null || current.getValue() != f) {
+                // the lease was renewed or handed over in the meantime
+                continue;
+            }
+            currentLeaseTimeouts.remove(f.getCellId());
 
-                if (Logging.isDebug()) {
-                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,"lease state change: %s timed out (old lease: %s)",f.getCellId(),f.toString());
-                }
-                proposer.updatePrevLeaseForCell(f.getCellId(), f.EMPTY_LEASE);
-                leaseListener.statusChanged(f.getCellId(), Flease.EMPTY_LEASE);
-                //create restart event
-                FleaseMessage restartEvt = new FleaseMessage(FleaseMessage.MsgType.EVENT_RESTART);
-                restartEvt.setCellId(f.getCellId());
-                restartEvt.setProposalNo(proposer.getCurrentBallotNo(f.getCellId()));
-                createTimer(restartEvt, TimeSync.getLocalSystemTime() + config.getDMax());
-
-                f = leaseTimeouts.peek();
-                if (f == null) {
-                    return;
-                }
-            } while (f.getLeaseTimeout_ms() <= deadline);
+            if (Logging.isDebug()) {
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,"lease state change: %s timed out (old lease: %s)",f.getCellId(),f.toString());
+            }
+            proposer.updatePrevLeaseForCell(f.getCellId(), Flease.EMPTY_LEASE);
+            leaseListener.statusChanged(f.getCellId(), Flease.EMPTY_LEASE);
+            //create restart event
+            FleaseMessage restartEvt = new FleaseMessage(FleaseMessage.MsgType.EVENT_RESTART);
+            restartEvt.setCellId(f.getCellId());
+            restartEvt.setProposalNo(proposer.getCurrentBallotNo(f.getCellId()));
+            createTimer(restartEvt, TimeSync.getLocalSystemTime() + config.getDMax());
         }
+        expiredLeases.clear();
+    }
+
+    /**
+     * Schedules the timeout notification for a new lease, replacing the one
+     * for the previous lease of the cell. The listener is notified ahead of
+     * the lease timeout, to leave time for the notification.
+     */
+    private void scheduleLeaseTimeout(Flease lease) {
+        final long notificationTime = lease.getLeaseTimeout_ms() - TIMER_TICK_IN_MS
+                - TimeSync.getLocalRenewInterval() - config.getToNotification_ms();
+        currentLeaseTimeouts.put(lease.getCellId(), leaseTimeouts.schedule(notificationTime, lease));
     }
 
     protected void createTimer(FleaseMessage msg, long timestamp) {
         msg.validateMessage();
-        TimerEntry e = new TimerEntry(timestamp, msg);
-        timers.add(e);
+        timers.schedule(timestamp, msg);
     }
 
     int getInRequests() {
@@ -590,6 +696,36 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
         return this.inTimers.getAndSet(0);
     }
 
+    /**
+     * @return number of flease messages sent since the stage was created
+     */
+    public long getNumMessagesSent() {
+        return numMsgsSent.get();
+    }
+
+    /**
+     * @return number of packets (single messages or batches) sent since the
+     * stage was created. Messages sent asynchronously after the master epoch
+     * was processed are not included.
+     */
+    public long getNumPacketsSent() {
+        return numPacketsSent.get();
+    }
+
+    /**
+     * @return number of flease messages received since the stage was created
+     */
+    public long getNumMessagesReceived() {
+        return numMsgsReceived.get();
+    }
+
+    /**
+     * @return number of message batches received since the stage was created
+     */
+    public long getNumBatchesReceived() {
+        return numBatchesReceived.get();
+    }
+
     List<Integer> getRequestDurations() {
         return durRequests.getAndSet(new LinkedList());
     }
@@ -607,31 +743,12 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
         messages.add(message);
     }
 
-    private final static class TimerEntry implements Comparable {
+    private final static class MessageBatch {
 
-        private final long scheduledTime;
-
-        private final FleaseMessage message;
-
-        public TimerEntry(long scheduledTime, FleaseMessage message) {
-            this.scheduledTime = scheduledTime;
-            this.message = message;
-        }
-
-        /**
-         * @return the scheduledTime
-         */
-        public long getScheduledTime() {
-            return scheduledTime;
-        }
-
-        public FleaseMessage getMessage() {
-            return this.message;
-        }
+        public final List<FleaseMessage> messages;
 
-        public int compareTo(Object o) {
-            TimerEntry e2 = (TimerEntry) o;
-            return (int) (this.scheduledTime - e2.scheduledTime);
+        public MessageBatch(List<FleaseMessage> messages) {
+            this.messages = messages;
         }
     }
 
@@ -48,6 +48,8 @@ public class FleaseStats extends Thread {
 
     public void run() {
         long t = 0;
+        long lastMsgsSent = 0;
+        long lastPacketsSent = 0;
         Logging.logMessage(Logging.LEVEL_INFO, Category.replication, this,"collecting statistics");
         do {
             try {
@@ -74,6 +76,14 @@ public class FleaseStats extends Thread {
                 printValues2(inMsgs, outMsgs,t,"m");
                 printValues2(tcpIn, tcpOut,t,"x");
                 printValues(inTimers, durTimers,t,"T");
+
+                // messages and packets sent in this interval, the ratio is
+                // the average number of messages per batch
+                long msgsSent = st.getNumMessagesSent();
+                long packetsSent = st.getNumPacketsSent();
+                printValues2((int)(msgsSent-lastMsgsSent), (int)(packetsSent-lastPacketsSent),t,"b");
+                lastMsgsSent = msgsSent;
+                lastPacketsSent = packetsSent;
             } catch (Throwable thr) {
                 Logging.logMessage(Logging.LEVEL_ERROR, Category.replication, this,thr.toString());
             }
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.foundation.flease;
+
+import java.util.List;
+
+/**
+ * Hierarchical hashed timing wheel. Scheduling and cancelling an entry takes
+ * constant time, independent of the number of scheduled entries.
+ *
+ * Time is divided into ticks of a fixed length. Entries are kept in
+ * {@link #NUM_LEVELS} wheels with {@link #SLOTS_PER_LEVEL} slots each, a slot
+ * on level n covers SLOTS_PER_LEVEL^n ticks. Whenever the current tick enters
+ * a new slot on a higher level, the entries of that slot are redistributed to
+ * the lower levels. Deadlines beyond the range of the top level are parked in
+ * its last slot and redistributed until they are in range.
+ *
+ * An entry expires in the tick which contains its deadline, i.e. up to one
+ * tick before the deadline.
+ *
+ * Instances are not thread-safe.
+ *
+ * @param <T> type of the objects attached to the entries
+ */
+public class TimerWheel<T> {
+
+    public static final int SLOT_BITS       = 6;
+
+    public static final int SLOTS_PER_LEVEL = 1 << SLOT_BITS;
+
+    public static final int NUM_LEVELS      = 5;
+
+    private static final int SLOT_MASK      = SLOTS_PER_LEVEL - 1;
+
+    private final long      tickInMS;
+
+    /**
+     * sentinels of the doubly linked entry lists, one per slot
+     */
+    private final Entry<T>[][] slots;
+
+    /**
+     * the next tick to process, all entries with an earlier tick have expired
+     */
+    private long            currentTick;
+
+    private int             size;
+
+    /**
+     * number of entries per level, used to skip ticks without entries
+     */
+    private final int[]     levelSizes;
+
+    /**
+     * @param tickInMS length of a tick in ms
+     * @param now current time in ms, all deadlines must use the same clock
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickInMS, long now) {
+        if (tickInMS <= 0)
+            throw new IllegalArgumentException("tick must be positive");
+        this.tickInMS = tickInMS;
+        this.currentTick = now / tickInMS;
+        this.size = 0;
+        this.levelSizes = new int[NUM_LEVELS];
+        this.slots = new Entry[NUM_LEVELS][SLOTS_PER_LEVEL];
+        for (int level = 0; level < NUM_LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS_PER_LEVEL; slot++) {
+                Entry<T> sentinel = new Entry<T>(0, 0, null);
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                slots[level][slot] = sentinel;
+            }
+        }
+    }
+
+    /**
+     * Schedules a new entry. Deadlines in the past expire with the next call
+     * to {@link #advance(long, List)}.
+     * @param deadline time in ms at which the entry expires
+     * @param value object attached to the entry
+     * @return the entry, which can be used to cancel it
+     */
+    public Entry<T> schedule(long deadline, T value) {
+        Entry<T> e = new Entry<T>(deadline, deadline / tickInMS, value);
+        insert(e);
+        size++;
+        return e;
+    }
+
+    /**
+     * Removes an entry from the wheel if it has neither expired nor been
+     * cancelled yet.
+     * @param e an entry returned by {@link #schedule(long, Object)}
+     * @return true, if the entry was removed
+     */
+    public boolean cancel(Entry<T> e) {
+        if (e.next == null)
+            return false;
+        unlink(e);
+        size--;
+        return true;
+    }
+
+    /**
+     * Expires all entries with a deadline in or before the tick containing
+     * now. The values of the expired entries are appended to expired in
+     * the order of their deadline ticks, entries with the same tick in the
+     * order they were scheduled.
+     * @param now current time in ms
+     * @param expired list to add the values of expired entries to
+     */
+    public void advance(long now, List<T> expired) {
+        final long targetTick = now / tickInMS;
+        while (currentTick <= targetTick) {
+            if (size == 0) {
+                currentTick = targetTick + 1;
+                return;
+            }
+            // redistribute higher levels when the current tick enters a new
+            // slot on those levels, from the highest level downwards
+            int level = 0;
+            while (level < NUM_LEVELS - 1 && (currentTick & ((1L << ((level + 1) * SLOT_BITS)) - 1)) == 0) {
+                level++;
+            }
+            for (; level > 0; level--) {
+                cascade(level);
+            }
+
+            final Entry<T> head = slots[0][(int) (currentTick & SLOT_MASK)];
+            Entry<T> e = head.next;
+            while (e != head) {
+                final Entry<T> next = e.next;
+                assert (e.tick <= currentTick);
+                e.prev = null;
+                e.next = null;
+                size--;
+                levelSizes[0]--;
+                expired.add(e.value);
+                e = next;
+            }
+            head.next = head;
+            head.prev = head;
+            currentTick++;
+
+            // if the lower levels are empty, nothing happens before the next
+            // slot of the lowest non-empty level is entered
+            int lowest = 0;
+            while (lowest < NUM_LEVELS - 1 && levelSizes[lowest] == 0) {
+                lowest++;
+            }
+            if (lowest > 0) {
+                final int bits = lowest * SLOT_BITS;
+                final long nextSlotTick = ((currentTick + (1L << bits) - 1) >>> bits) << bits;
+                currentTick = Math.min(nextSlotTick, targetTick + 1);
+            }
+        }
+    }
+
+    /**
+     * @return number of scheduled entries
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getTickInMS() {
+        return tickInMS;
+    }
+
+    private void cascade(int level) {
+        final Entry<T> head = slots[level][(int) ((currentTick >>> (level * SLOT_BITS)) & SLOT_MASK)];
+        Entry<T> e = head.next;
+        head.next = head;
+        head.prev = head;
+        while (e != head) {
+            final Entry<T> next = e.next;
+            levelSizes[level]--;
+            insert(e);
+            e = next;
+        }
+    }
+
+    private void insert(Entry<T> e) {
+        final long tick = Math.max(e.tick, currentTick);
+        int level = 0;
+        while (level < NUM_LEVELS - 1
+                && (tick >>> (level * SLOT_BITS)) - (currentTick >>> (level * SLOT_BITS)) >= SLOTS_PER_LEVEL) {
+            level++;
+        }
+        long slotTick = tick >>> (level * SLOT_BITS);
+        final long currentSlotTick = currentTick >>> (level * SLOT_BITS);
+        if (slotTick - currentSlotTick >= SLOTS_PER_LEVEL) {
+            // out of range, park in the last slot of the top level
+            slotTick = currentSlotTick + SLOTS_PER_LEVEL - 1;
+        }
+        final Entry<T> head = slots[level][(int) (slotTick & SLOT_MASK)];
+        e.level = level;
+        levelSizes[level]++;
+        e.prev = head.prev;
+        e.next = head;
+        head.prev.next = e;
+        head.prev = e;
+    }
+
+    private void unlink(Entry<T> e) {
+        levelSizes[e.level]--;
+        e.prev.next = e.next;
+        e.next.prev = e.prev;
+        e.prev = null;
+        e.next = null;
+    }
+
+    /**
+     * An entry scheduled in a {@link TimerWheel}.
+     */
+    public static final class Entry<T> {
+
+        private final long deadline;
+
+        private final long tick;
+
+        private final T    value;
+
+        private Entry<T>   prev, next;
+
+        private int        level;
+
+        private Entry(long deadline, long tick, T value) {
+            this.deadline = deadline;
+            this.tick = tick;
+            this.value = value;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * @return true, if the entry has neither expired nor been cancelled
+         */
+        public boolean isScheduled() {
+            return next != null;
+        }
+    }
+
+}
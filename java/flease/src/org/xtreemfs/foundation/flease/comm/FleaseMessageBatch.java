@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.foundation.flease.comm;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+
+/**
+ * Several flease messages for different cells which are sent to the same
+ * flease instance in a single packet.
+ *
+ * A serialized batch starts with {@link #BATCH_MARKER}, which is never a valid
+ * message type, followed by the number of messages and the messages
+ * themselves. A single message is always sent without a batch header to stay
+ * compatible with instances that do not understand batches.
+ */
+public class FleaseMessageBatch {
+
+    /**
+     * first byte of a serialized batch
+     */
+    public static final byte BATCH_MARKER = (byte) 0xFF;
+
+    private final List<FleaseMessage> messages;
+
+    public FleaseMessageBatch(List<FleaseMessage> messages) {
+        assert(messages != null);
+        this.messages = messages;
+    }
+
+    /**
+     * Deserializes a batch. The buffer's position must be at the batch marker.
+     * @param buffer buffer containing a serialized batch
+     */
+    public FleaseMessageBatch(ReusableBuffer buffer) {
+        assert(buffer != null);
+        final byte marker = buffer.get();
+        if (marker != BATCH_MARKER)
+            throw new IllegalArgumentException("not a flease message batch");
+        final int numMessages = buffer.getInt();
+        if (numMessages < 0)
+            throw new IllegalArgumentException("invalid number of messages in batch: "+numMessages);
+        messages = new ArrayList<FleaseMessage>(numMessages);
+        for (int i = 0; i < numMessages; i++) {
+            messages.add(new FleaseMessage(buffer));
+        }
+    }
+
+    /**
+     * Checks if the buffer contains a batch, without modifying the buffer's position.
+     * @param buffer a buffer containing a serialized message or batch
+     * @return true, if the buffer contains a batch
+     */
+    public static boolean isBatch(ReusableBuffer buffer) {
+        return buffer.remaining() > 0 && buffer.get(buffer.position()) == BATCH_MARKER;
+    }
+
+    public List<FleaseMessage> getMessages() {
+        return messages;
+    }
+
+    public int getSize() {
+        int size = 1+4;
+        for (FleaseMessage msg : messages) {
+            size += msg.getSize();
+        }
+        return size;
+    }
+
+    public void serialize(ReusableBuffer buffer) {
+        assert(buffer != null);
+        buffer.put(BATCH_MARKER);
+        buffer.putInt(messages.size());
+        for (FleaseMessage msg : messages) {
+            msg.serialize(buffer);
+        }
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.flease.sim;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.xtreemfs.foundation.LifeCycleListener;
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.foundation.buffer.ASCIIString;
+import org.xtreemfs.foundation.flease.Flease;
+import org.xtreemfs.foundation.flease.FleaseConfig;
+import org.xtreemfs.foundation.flease.FleaseMessageSenderInterface;
+import org.xtreemfs.foundation.flease.FleaseStage;
+import org.xtreemfs.foundation.flease.FleaseStatusListener;
+import org.xtreemfs.foundation.flease.comm.FleaseMessage;
+import org.xtreemfs.foundation.flease.proposer.FleaseException;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+
+/**
+ * Measures the CPU time used by the flease threads and the accuracy of the
+ * lease timeout notifications with a large number of cells.
+ *
+ * One host opens all cells with the other hosts as acceptors, spread over
+ * half a lease timeout so that the renewals are spread as well, and keeps the
+ * leases for two lease timeouts. Then all cells are closed and the time
+ * between each timeout notification and the timeout of the lease is recorded.
+ * Messages are exchanged through the simulated network without loss or delay.
+ *
+ * usage: FleaseTimerBenchmark [numCells [leaseTimeout_ms [numHosts]]]
+ */
+public class FleaseTimerBenchmark {
+
+    private static final int OPEN_CHUNK_SIZE = 1000;
+
+    public static void main(String[] args) {
+        try {
+            final int numCells = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+            final int leaseTimeout = args.length > 1 ? Integer.parseInt(args[1]) : 15000;
+            final int numHosts = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+            final int dmax = 500;
+            final int localClockRenew = 10;
+
+            Logging.start(Logging.LEVEL_WARN, Category.all);
+            TimeSync.initializeLocal(localClockRenew);
+
+            final Communicator com = new Communicator(0, 0, 0, 0, false, 0.0, 0.0, false);
+            com.start();
+
+            final FleaseStage[] stages = new FleaseStage[numHosts];
+            final Map<ASCIIString, Flease> leases = new ConcurrentHashMap<ASCIIString, Flease>();
+            final Map<ASCIIString, Boolean> everGranted = new ConcurrentHashMap<ASCIIString, Boolean>();
+            final Map<ASCIIString, Boolean> timedOut = new ConcurrentHashMap<ASCIIString, Boolean>();
+            final long[] leads = new long[numCells];
+            final AtomicInteger numLeads = new AtomicInteger();
+            final AtomicInteger numFailed = new AtomicInteger();
+            final AtomicBoolean closing = new AtomicBoolean(false);
+
+            List<InetSocketAddress> acceptors = new ArrayList<InetSocketAddress>(numHosts - 1);
+            for (int i = 0; i < numHosts; i++) {
+                final int portNo = 1024 + i;
+                final boolean owner = i == 0;
+                FleaseConfig cfg = new FleaseConfig(leaseTimeout, dmax, 500, new InetSocketAddress(portNo),
+                        "localhost:" + portNo, 5);
+
+                stages[i] = new FleaseStage(cfg, "/tmp/xtreemfs-test", new FleaseMessageSenderInterface() {
+
+                    public void sendMessage(FleaseMessage message, InetSocketAddress recipient) {
+                        // the proposer sends the same message object to all acceptors
+                        FleaseMessage copy = message.clone();
+                        copy.setSender(new InetSocketAddress("localhost", portNo));
+                        com.send(recipient.getPort(), copy);
+                    }
+                }, true, null, new FleaseStatusListener() {
+
+                    public void statusChanged(ASCIIString cellId, Flease lease) {
+                        if (!owner)
+                            return;
+                        if (!lease.isEmptyLease()) {
+                            leases.put(cellId, lease);
+                            everGranted.put(cellId, Boolean.TRUE);
+                        } else if (!closing.get()) {
+                            leases.remove(cellId);
+                        } else if (timedOut.put(cellId, Boolean.TRUE) == null) {
+                            Flease prev = leases.get(cellId);
+                            int idx = numLeads.getAndIncrement();
+                            if (prev != null && idx < leads.length)
+                                leads[idx] = prev.getLeaseTimeout_ms() - TimeSync.getGlobalTime();
+                        }
+                    }
+
+                    public void leaseFailed(ASCIIString cellId, FleaseException error) {
+                        numFailed.incrementAndGet();
+                    }
+                }, null);
+                stages[i].setLifeCycleListener(new LifeCycleListener() {
+
+                    public void startupPerformed() {
+                    }
+
+                    public void shutdownPerformed() {
+                    }
+
+                    public void crashPerformed(Throwable cause) {
+                        cause.printStackTrace();
+                        System.exit(100);
+                    }
+                });
+                stages[i].start();
+                stages[i].waitForStartup();
+                com.openPort(portNo, stages[i]);
+                if (i > 0)
+                    acceptors.add(new InetSocketAddress("localhost", portNo));
+            }
+
+            ASCIIString[] cellIds = new ASCIIString[numCells];
+            List<InetSocketAddress>[] cellAcceptors = new List[numCells];
+            for (int i = 0; i < numCells; i++) {
+                cellIds[i] = new ASCIIString("cell" + i);
+                cellAcceptors[i] = acceptors;
+            }
+
+            System.out.println("cells: " + numCells + ", hosts: " + numHosts + ", lease timeout: " + leaseTimeout
+                    + " ms");
+
+            // open all cells
+            long cpu = getCpuTime(stages);
+            long start = System.currentTimeMillis();
+            // in chunks, opening too many cells at once makes the acquisition
+            // rounds time out
+            final long openTime = leaseTimeout / 2;
+            for (int i = 0; i < numCells; i += OPEN_CHUNK_SIZE) {
+                final long chunkTime = start + openTime * i / numCells;
+                if (System.currentTimeMillis() < chunkTime)
+                    Thread.sleep(chunkTime - System.currentTimeMillis());
+
+                final int end = Math.min(numCells, i + OPEN_CHUNK_SIZE);
+                stages[0].batchOpenCells(Arrays.copyOfRange(cellIds, i, end), Arrays.copyOfRange(cellAcceptors,
+                        i, end), false);
+                final long chunkStart = System.currentTimeMillis();
+                while (everGranted.size() < end) {
+                    if (System.currentTimeMillis() - chunkStart > leaseTimeout * 4)
+                        throw new Exception("timed out while opening cells, " + everGranted.size()
+                                + " leases granted");
+                    Thread.sleep(1);
+                }
+            }
+            System.out.format("open:     %8d ms wall, %8d ms flease CPU, %d failed attempts\n",
+                    System.currentTimeMillis() - start, (getCpuTime(stages) - cpu) / 1000000, numFailed.get());
+
+            // keep the leases, all cells are renewed at least once
+            cpu = getCpuTime(stages);
+            start = System.currentTimeMillis();
+            Thread.sleep(leaseTimeout * 2);
+            System.out.format("renew:    %8d ms wall, %8d ms flease CPU, %d of %d leases valid\n",
+                    System.currentTimeMillis() - start, (getCpuTime(stages) - cpu) / 1000000, leases.size(),
+                    numCells);
+
+            // close all cells and wait for the timeouts of the valid leases
+            cpu = getCpuTime(stages);
+            start = System.currentTimeMillis();
+            closing.set(true);
+            final int numValid = leases.size();
+            for (int i = 0; i < numCells; i++) {
+                stages[0].closeCell(cellIds[i], false);
+            }
+            while (timedOut.size() < numValid) {
+                if (System.currentTimeMillis() - start > leaseTimeout * 4)
+                    throw new Exception("timed out while waiting for lease timeouts, " + timedOut.size()
+                            + " leases timed out");
+                Thread.sleep(10);
+            }
+            System.out.format("timeout:  %8d ms wall, %8d ms flease CPU\n", System.currentTimeMillis() - start,
+                    (getCpuTime(stages) - cpu) / 1000000);
+
+            // time between notification and lease timeout
+            final int n = Math.min(numLeads.get(), leads.length);
+            long[] sorted = Arrays.copyOf(leads, n);
+            Arrays.sort(sorted);
+            long sum = 0;
+            for (long l : sorted)
+                sum += l;
+            System.out.format("notification ahead of lease timeout (ms): min %d, median %d, p99 %d, max %d, "
+                    + "mean %.1f, spread %d\n", sorted[0], sorted[n / 2], sorted[(int) (n * 0.99)],
+                    sorted[n - 1], ((double) sum) / n, sorted[n - 1] - sorted[0]);
+
+            for (int i = 0; i < numHosts; i++) {
+                stages[i].shutdown();
+                stages[i].waitForShutdown();
+            }
+            com.shutdown();
+            System.exit(0);
+
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static long getCpuTime(FleaseStage[] stages) {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        long cpu = 0;
+        for (FleaseStage stage : stages)
+            cpu += bean.getThreadCpuTime(stage.getId());
+        return cpu;
+    }
+
+}
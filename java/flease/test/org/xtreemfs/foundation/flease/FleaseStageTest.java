@@ -8,12 +8,15 @@
 package org.xtreemfs.foundation.flease;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -23,7 +26,10 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.xtreemfs.foundation.TimeSync;
 import org.xtreemfs.foundation.buffer.ASCIIString;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.flease.comm.FleaseMessage;
+import org.xtreemfs.foundation.flease.comm.FleaseMessageBatch;
 import org.xtreemfs.foundation.flease.proposer.FleaseException;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
@@ -228,4 +234,138 @@ public class FleaseStageTest {
 
     }
 
+    /**
+     * Opens many cells with a remote acceptor and checks that the messages
+     * are sent in batches.
+     */
+    @Test
+    public void testMessageBatching() throws Exception {
+        final int numCells = 40;
+        final InetSocketAddress addrA = new InetSocketAddress("localhost", 12345);
+        final InetSocketAddress addrB = new InetSocketAddress("localhost", 12346);
+        final FleaseConfig cfgA = new FleaseConfig(10000, 500, 500, addrA, "localhost:12345", 5, true, 0, false, 16);
+        final FleaseConfig cfgB = new FleaseConfig(10000, 500, 500, addrB, "localhost:12346", 5, true, 0, false, 16);
+
+        final FleaseStage[] stages = new FleaseStage[2];
+        final Map<ASCIIString, Flease> leases = new ConcurrentHashMap<ASCIIString, Flease>();
+
+        FleaseStatusListener listenerA = new FleaseStatusListener() {
+
+            @Override
+            public void statusChanged(ASCIIString cellId, Flease lease) {
+                synchronized (leases) {
+                    leases.put(cellId, lease);
+                    leases.notifyAll();
+                }
+            }
+
+            @Override
+            public void leaseFailed(ASCIIString cellId, FleaseException error) {
+                fail(error.toString());
+            }
+        };
+        FleaseStatusListener listenerB = new FleaseStatusListener() {
+
+            @Override
+            public void statusChanged(ASCIIString cellId, Flease lease) {
+            }
+
+            @Override
+            public void leaseFailed(ASCIIString cellId, FleaseException error) {
+            }
+        };
+
+        stages[0] = new FleaseStage(cfgA, "/tmp/xtreemfs-test/", new LoopbackBatchSender(stages, addrA, addrB), true,
+                null, listenerA, null);
+        stages[1] = new FleaseStage(cfgB, "/tmp/xtreemfs-test/", new LoopbackBatchSender(stages, addrA, addrB), true,
+                null, listenerB, null);
+
+        stages[0].start();
+        stages[1].start();
+        stages[0].waitForStartup();
+        stages[1].waitForStartup();
+
+        ASCIIString[] cellIds = new ASCIIString[numCells];
+        List<InetSocketAddress>[] acceptors = new List[numCells];
+        for (int i = 0; i < numCells; i++) {
+            cellIds[i] = new ASCIIString("cell" + i);
+            acceptors[i] = new ArrayList<InetSocketAddress>();
+            acceptors[i].add(addrB);
+        }
+        stages[0].batchOpenCells(cellIds, acceptors, false);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        synchronized (leases) {
+            while (leases.size() < numCells && System.currentTimeMillis() < deadline) {
+                leases.wait(100);
+            }
+        }
+        assertEquals(numCells, leases.size());
+        for (Flease lease : leases.values()) {
+            assertEquals(cfgA.getIdentity(), lease.getLeaseHolder());
+        }
+
+        // at least one prepare and one accept per cell
+        assertTrue(stages[0].getNumMessagesSent() >= 2 * numCells);
+        assertTrue(stages[0].getNumPacketsSent() < stages[0].getNumMessagesSent());
+        assertTrue(stages[1].getNumBatchesReceived() > 0);
+        assertTrue(stages[1].getNumMessagesReceived() > stages[1].getNumBatchesReceived());
+        assertTrue(stages[1].getNumPacketsSent() < stages[1].getNumMessagesSent());
+
+        stages[0].shutdown();
+        stages[1].shutdown();
+        stages[0].waitForShutdown();
+        stages[1].waitForShutdown();
+    }
+
+    /**
+     * Delivers serialized messages directly to the other stage.
+     */
+    private static class LoopbackBatchSender implements FleaseBatchMessageSenderInterface {
+
+        private final FleaseStage[]     stages;
+
+        private final InetSocketAddress addrA, addrB;
+
+        public LoopbackBatchSender(FleaseStage[] stages, InetSocketAddress addrA, InetSocketAddress addrB) {
+            this.stages = stages;
+            this.addrA = addrA;
+            this.addrB = addrB;
+        }
+
+        @Override
+        public void sendMessage(FleaseMessage message, InetSocketAddress recipient) {
+            ReusableBuffer data = BufferPool.allocate(message.getSize());
+            message.serialize(data);
+            data.flip();
+            FleaseMessage msg = new FleaseMessage(data);
+            BufferPool.free(data);
+            msg.setSender(getSender(recipient));
+            getStage(recipient).receiveMessage(msg);
+        }
+
+        @Override
+        public void sendMessages(List<FleaseMessage> messages, InetSocketAddress recipient) {
+            FleaseMessageBatch batch = new FleaseMessageBatch(messages);
+            ReusableBuffer data = BufferPool.allocate(batch.getSize());
+            batch.serialize(data);
+            data.flip();
+            assertTrue(FleaseMessageBatch.isBatch(data));
+            batch = new FleaseMessageBatch(data);
+            BufferPool.free(data);
+            for (FleaseMessage msg : batch.getMessages()) {
+                msg.setSender(getSender(recipient));
+            }
+            getStage(recipient).receiveMessages(batch.getMessages());
+        }
+
+        private FleaseStage getStage(InetSocketAddress recipient) {
+            return recipient.equals(addrA) ? stages[0] : stages[1];
+        }
+
+        private InetSocketAddress getSender(InetSocketAddress recipient) {
+            return recipient.equals(addrA) ? addrB : addrA;
+        }
+    }
+
 }
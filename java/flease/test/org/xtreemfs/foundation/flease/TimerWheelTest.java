@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.flease;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TimerWheelTest {
+
+    @Test
+    public void testExpiryOrder() {
+        TimerWheel<Long> wheel = new TimerWheel<Long>(10, 1000);
+        List<Long> expired = new ArrayList<Long>();
+
+        wheel.schedule(1500, 1500l);
+        wheel.schedule(1005, 1005l);
+        wheel.schedule(1003, 1003l);
+        wheel.schedule(900, 900l);
+        wheel.schedule(2000000, 2000000l);
+        assertEquals(5, wheel.size());
+
+        // expired deadlines and deadlines in the current tick expire in the
+        // order they were scheduled
+        wheel.advance(1000, expired);
+        assertEquals(3, expired.size());
+        assertEquals(Long.valueOf(1005), expired.get(0));
+        assertEquals(Long.valueOf(1003), expired.get(1));
+        assertEquals(Long.valueOf(900), expired.get(2));
+        expired.clear();
+
+        wheel.advance(1499, expired);
+        assertTrue(expired.isEmpty());
+        wheel.advance(1500, expired);
+        assertEquals(1, expired.size());
+        expired.clear();
+
+        wheel.advance(1999999, expired);
+        assertTrue(expired.isEmpty());
+        wheel.advance(2000000, expired);
+        assertEquals(1, expired.size());
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    public void testCancel() {
+        TimerWheel<String> wheel = new TimerWheel<String>(1, 0);
+        List<String> expired = new ArrayList<String>();
+
+        TimerWheel.Entry<String> a = wheel.schedule(10, "a");
+        TimerWheel.Entry<String> b = wheel.schedule(100000, "b");
+        wheel.schedule(10, "c");
+
+        assertTrue(wheel.cancel(a));
+        assertFalse(wheel.cancel(a));
+        assertFalse(a.isScheduled());
+        assertTrue(wheel.cancel(b));
+        assertEquals(1, wheel.size());
+
+        wheel.advance(200000, expired);
+        assertEquals(1, expired.size());
+        assertEquals("c", expired.get(0));
+        assertTrue(wheel.isEmpty());
+    }
+
+    /**
+     * Schedules and cancels random entries, some beyond the range of the
+     * wheel, and checks that every entry expires exactly in its tick.
+     */
+    @Test
+    public void testRandomSchedule() {
+        final Random rnd = new Random(1);
+        final long maxRange = 1l << (TimerWheel.SLOT_BITS * TimerWheel.NUM_LEVELS + 1);
+        long now = 12345;
+
+        TimerWheel<long[]> wheel = new TimerWheel<long[]>(1, now);
+        List<long[]> expired = new ArrayList<long[]>();
+        List<TimerWheel.Entry<long[]>> scheduled = new ArrayList<TimerWheel.Entry<long[]>>();
+        Set<long[]> cancelled = new HashSet<long[]>();
+        int numExpired = 0;
+
+        for (int round = 0; round < 20000; round++) {
+            for (int i = 0; i < 5; i++) {
+                long delta;
+                switch (rnd.nextInt(4)) {
+                case 0: delta = rnd.nextInt(100); break;
+                case 1: delta = rnd.nextInt(100000); break;
+                case 2: delta = (long) (rnd.nextDouble() * maxRange); break;
+                default: delta = -rnd.nextInt(10);
+                }
+                long[] deadline = new long[] { now + delta };
+                scheduled.add(wheel.schedule(deadline[0], deadline));
+            }
+            if (!scheduled.isEmpty() && rnd.nextInt(3) == 0) {
+                TimerWheel.Entry<long[]> e = scheduled.remove(rnd.nextInt(scheduled.size()));
+                if (wheel.cancel(e))
+                    cancelled.add(e.getValue());
+            }
+
+            // mostly small steps, sometimes large jumps
+            long step = rnd.nextInt(10) == 0 ? (long) (rnd.nextDouble() * maxRange / 1000) : rnd.nextInt(50);
+            long previous = now;
+            now += step;
+            wheel.advance(now, expired);
+            for (long[] deadline : expired) {
+                assertFalse(cancelled.contains(deadline));
+                assertTrue(deadline[0] <= now);
+                // must not have expired in an earlier call
+                assertTrue(deadline[0] > previous || deadline[0] + 10 > previous);
+            }
+            numExpired += expired.size();
+            expired.clear();
+        }
+
+        // everything which is left must be in the future
+        int left = wheel.size();
+        wheel.advance(now, expired);
+        assertTrue(expired.isEmpty());
+        wheel.advance(now + maxRange, expired);
+        assertEquals(left, expired.size());
+        for (long[] deadline : expired)
+            assertTrue(deadline[0] > now);
+        assertTrue(wheel.isEmpty());
+        assertEquals(20000 * 5, numExpired + left + cancelled.size());
+    }
+
+}
@@ -7,6 +7,8 @@
 
 package org.xtreemfs.foundation.flease.comm;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -77,4 +79,53 @@ public class FleaseMessageTest {
         assertEquals(m1.getMasterEpochNumber(),m2.getMasterEpochNumber());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testBatchSerialization() throws Exception {
+        List<FleaseMessage> msgs = new ArrayList<FleaseMessage>();
+        for (int i = 0; i < 5; i++) {
+            FleaseMessage m = new FleaseMessage(FleaseMessage.MsgType.MSG_PREPARE);
+            m.setCellId(new ASCIIString("testcell"+i));
+            m.setProposalNo(new ProposalNumber(i, 736456));
+            m.setPrevProposalNo(ProposalNumber.EMPTY_PROPOSAL_NUMBER);
+            m.setLeaseHolder(new ASCIIString("yagga"+i));
+            m.setLeaseTimeout(1000l*i);
+            m.setSendTimestamp(49789834+i);
+            m.setMasterEpochNumber(i);
+            msgs.add(m);
+        }
+
+        FleaseMessageBatch b1 = new FleaseMessageBatch(msgs);
+        ReusableBuffer rb = BufferPool.allocate(b1.getSize());
+        b1.serialize(rb);
+        assertEquals(0, rb.remaining());
+        rb.flip();
+
+        assertTrue(FleaseMessageBatch.isBatch(rb));
+        assertEquals(0, rb.position());
+        FleaseMessageBatch b2 = new FleaseMessageBatch(rb);
+        assertEquals(0, rb.remaining());
+        BufferPool.free(rb);
+
+        assertEquals(msgs.size(), b2.getMessages().size());
+        for (int i = 0; i < msgs.size(); i++) {
+            FleaseMessage m1 = msgs.get(i);
+            FleaseMessage m2 = b2.getMessages().get(i);
+            assertEquals(m1.getMsgType(),m2.getMsgType());
+            assertEquals(m1.getCellId(),m2.getCellId());
+            assertEquals(m1.getLeaseHolder(),m2.getLeaseHolder());
+            assertEquals(m1.getLeaseTimeout(),m2.getLeaseTimeout());
+            assertEquals(m1.getProposalNo().getProposalNo(),m2.getProposalNo().getProposalNo());
+            assertEquals(m1.getSendTimestamp(),m2.getSendTimestamp());
+            assertEquals(m1.getMasterEpochNumber(),m2.getMasterEpochNumber());
+        }
+
+        // a single message is never mistaken for a batch
+        FleaseMessage single = msgs.get(0);
+        rb = BufferPool.allocate(single.getSize());
+        single.serialize(rb);
+        rb.flip();
+        assertFalse(FleaseMessageBatch.isBatch(rb));
+        BufferPool.free(rb);
+    }
+
+}
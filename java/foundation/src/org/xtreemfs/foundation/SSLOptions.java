@@ -44,6 +44,18 @@ public class SSLOptions {
      */
     public final static String PKCS12_CONTAINER = "PKCS12";
     
+    /**
+     * default maximum number of SSL sessions which are cached for resumption,
+     * each by the client and by the server side of the SSL context
+     */
+    public final static int    DEFAULT_SESSION_CACHE_SIZE = 10000;
+    
+    /**
+     * default time in seconds after which a cached SSL session can no longer
+     * be resumed
+     */
+    public final static int    DEFAULT_SESSION_TIMEOUT    = 3600;
+    
     /**
      * file with the private key and the public cert for the server
      */
@@ -120,6 +132,9 @@ public class SSLOptions {
         sslProtocol = sslProtocolStringToProtocol(sslProtocolString, "TLS");
         
         sslContext = createSSLContext(trustManager);
+        
+        setSessionCacheSize(DEFAULT_SESSION_CACHE_SIZE);
+        setSessionTimeout(DEFAULT_SESSION_TIMEOUT);
     }
     
     /**
@@ -236,6 +251,35 @@ public class SSLOptions {
         return this.sslContext;
     }
     
+    /**
+     * Sets the maximum number of SSL sessions which are cached for resumption
+     * by the client and by the server side of the SSL context. A resumed
+     * session saves the key exchange and the certificate verification of a
+     * full handshake when a connection is reestablished.
+     * 
+     * @param size
+     *            the maximum number of sessions; 0 for no limit
+     */
+    public void setSessionCacheSize(int size) {
+        if (sslContext != null) {
+            sslContext.getClientSessionContext().setSessionCacheSize(size);
+            sslContext.getServerSessionContext().setSessionCacheSize(size);
+        }
+    }
+    
+    /**
+     * Sets the time after which cached SSL sessions can no longer be resumed.
+     * 
+     * @param seconds
+     *            the timeout in seconds; 0 for no limit
+     */
+    public void setSessionTimeout(int seconds) {
+        if (sslContext != null) {
+            sslContext.getClientSessionContext().setSessionTimeout(seconds);
+            sslContext.getServerSessionContext().setSessionTimeout(seconds);
+        }
+    }
+    
     public boolean isFakeSSLMode() {
         return this.useFakeSSLMode;
     }
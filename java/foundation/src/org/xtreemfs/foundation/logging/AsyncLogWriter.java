@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes log messages from a background thread.
+ *
+ * Producers claim a slot in a preallocated ring of {@link LogRecord}s by
+ * incrementing a shared sequence number, copy the message parameters into the
+ * slot and publish it by writing the slot's sequence number. No lock is taken
+ * on the producer side, and no objects are allocated unless the message has
+ * mutable arguments that have to be formatted right away. The writer thread drains
+ * the ring in order, formats the messages into a buffer and writes the buffer
+ * to the log output once per batch.
+ */
+final class AsyncLogWriter extends Thread {
+
+    /**
+     * maximum number of messages written with a single write
+     */
+    static final int         MAX_BATCH_SIZE   = 256;
+
+    /**
+     * time the writer sleeps if there are no messages
+     */
+    private static final long IDLE_WAIT_NANOS  = 100 * 1000 * 1000;
+
+    /**
+     * time a producer waits for space in the ring if messages are not dropped
+     */
+    private static final long BLOCK_WAIT_NANOS = 100 * 1000;
+
+    /**
+     * value of {@link #claimed} after the writer has stopped, no slot can be
+     * claimed anymore
+     */
+    private static final long CLOSED           = Long.MAX_VALUE;
+
+    private final LogRecord[] ring;
+
+    private final int         mask;
+
+    /**
+     * sequence number of the next slot to claim
+     */
+    private final AtomicLong  claimed;
+
+    /**
+     * sequence number of the next message to write, all slots before have been
+     * freed
+     */
+    private final AtomicLong  consumed;
+
+    private final boolean     blockWhenFull;
+
+    private final AtomicLong  dropped;
+
+    private volatile boolean  quit;
+
+    private volatile boolean  idle;
+
+    /**
+     * @param queueSize
+     *            number of slots, rounded up to the next power of two
+     * @param blockWhenFull
+     *            if true, producers wait for space in the ring, otherwise
+     *            messages are dropped if the ring is full
+     * @param dropped
+     *            counter for dropped messages
+     */
+    AsyncLogWriter(int queueSize, boolean blockWhenFull, AtomicLong dropped) {
+        super("LogWriter");
+        setDaemon(true);
+
+        int size = 1;
+        while (size < queueSize)
+            size <<= 1;
+        this.ring = new LogRecord[size];
+        for (int i = 0; i < size; i++)
+            ring[i] = new LogRecord();
+        this.mask = size - 1;
+        this.claimed = new AtomicLong();
+        this.consumed = new AtomicLong();
+        this.blockWhenFull = blockWhenFull;
+        this.dropped = dropped;
+    }
+
+    /**
+     * Appends a message to the ring.
+     *
+     * @return false, if the writer has been shut down and the caller has to
+     *         write the message itself, all messages enqueued before have been
+     *         written when this method returns
+     */
+    boolean enqueue(int type, int level, Object me, Thread thread, long timestamp, String formatPattern,
+            Object[] args, Throwable error) {
+
+        long seq;
+        for (;;) {
+            seq = claimed.get();
+            if (seq == CLOSED) {
+                // messages enqueued before have to be written first
+                awaitTermination();
+                return false;
+            }
+            if (seq - consumed.get() >= ring.length) {
+                if (!blockWhenFull) {
+                    dropped.incrementAndGet();
+                    return true;
+                }
+                if (idle)
+                    LockSupport.unpark(this);
+                LockSupport.parkNanos(BLOCK_WAIT_NANOS);
+                continue;
+            }
+            if (claimed.compareAndSet(seq, seq + 1))
+                break;
+        }
+
+        final LogRecord r = ring[(int) (seq & mask)];
+        r.type = type;
+        r.level = level;
+        r.me = me;
+        r.threadName = thread.getName();
+        r.threadId = thread.getId();
+        r.timestamp = timestamp;
+        r.formatPattern = formatPattern;
+        r.args = args;
+        r.error = error;
+        r.sequence = seq;
+
+        if (idle)
+            LockSupport.unpark(this);
+        return true;
+    }
+
+    /**
+     * Stops the writer. The writer closes the ring and terminates after all
+     * messages which were enqueued before have been written, later messages
+     * are rejected by {@link #enqueue}.
+     */
+    void shutdown() {
+        quit = true;
+        LockSupport.unpark(this);
+    }
+
+    private void awaitTermination() {
+        boolean interrupted = false;
+        while (isAlive()) {
+            try {
+                join();
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    @Override
+    public void run() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        final PrintStream batch = new PrintStream(bytes);
+        final SimpleDateFormat dateFormat = new SimpleDateFormat("MMM dd HH:mm:ss");
+        final Date date = new Date();
+        long reportedDrops = dropped.get();
+        int batchSize = 0;
+        // sequence number at which the ring was closed, -1 while open
+        long end = -1;
+
+        for (;;) {
+            if (quit && end < 0)
+                end = claimed.getAndSet(CLOSED);
+
+            final long head = consumed.get();
+            final LogRecord r = ring[(int) (head & mask)];
+
+            if (r.sequence != head) {
+                // nothing to write, or a producer has not yet published its
+                // message
+                if (batchSize > 0) {
+                    flush(bytes, batch);
+                    batchSize = 0;
+                }
+
+                final long drops = dropped.get();
+                if (drops != reportedDrops) {
+                    date.setTime(System.currentTimeMillis());
+                    Logging.print(batch, LogRecord.MESSAGE, Logging.LEVEL_WARN, this, getName(), getId(),
+                            dateFormat.format(date), "%d log messages dropped, queue full", new Object[] { drops
+                                - reportedDrops }, null);
+                    flush(bytes, batch);
+                    reportedDrops = drops;
+                }
+
+                if (end >= 0) {
+                    if (head == end)
+                        break;
+                    // a producer has claimed a slot before the ring was closed
+                    // but not yet published its message
+                    Thread.yield();
+                    continue;
+                }
+                if (claimed.get() != head) {
+                    Thread.yield();
+                    continue;
+                }
+
+                idle = true;
+                if (r.sequence != head && !quit)
+                    LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+                idle = false;
+                continue;
+            }
+
+            date.setTime(r.timestamp);
+            try {
+                Logging.print(batch, r.type, r.level, r.me, r.threadName, r.threadId, dateFormat.format(date),
+                        r.formatPattern, r.args, r.error);
+            } catch (RuntimeException ex) {
+                // e.g. an invalid format pattern, which would have been thrown
+                // in the caller when logging synchronously
+                batch.println("cannot format log message '" + r.formatPattern + "': " + ex);
+            }
+            r.clear();
+            consumed.set(head + 1);
+
+            if (++batchSize >= MAX_BATCH_SIZE) {
+                flush(bytes, batch);
+                batchSize = 0;
+            }
+        }
+    }
+
+    private static void flush(ByteArrayOutputStream bytes, PrintStream batch) {
+        batch.flush();
+        final PrintStream out = Logging.getOut();
+        synchronized (out) {
+            try {
+                bytes.writeTo(out);
+            } catch (java.io.IOException ex) {
+                // PrintStreams do not throw IOExceptions
+            }
+            out.flush();
+        }
+        bytes.reset();
+    }
+}
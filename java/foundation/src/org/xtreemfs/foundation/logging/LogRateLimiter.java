@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.logging;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limits the number of log messages per format pattern and second.
+ */
+final class LogRateLimiter {
+
+    /**
+     * maximum number of patterns tracked, all windows are reset if exceeded
+     */
+    static final int                                 MAX_PATTERNS = 4096;
+
+    private final int                                maxPerSecond;
+
+    private final ConcurrentHashMap<String, Window> windows;
+
+    LogRateLimiter(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+        this.windows = new ConcurrentHashMap<String, Window>();
+    }
+
+    /**
+     * Checks if a message with the given pattern may be logged.
+     *
+     * @param pattern
+     *            format pattern of the message
+     * @param now
+     *            current time in ms
+     * @return -1, if the message must be suppressed, otherwise the number of
+     *         messages with the same pattern which were suppressed since the
+     *         last message that was logged
+     */
+    int acquire(String pattern, long now) {
+        Window w = windows.get(pattern);
+        if (w == null) {
+            if (windows.size() >= MAX_PATTERNS)
+                windows.clear();
+            w = new Window(now);
+            final Window prev = windows.putIfAbsent(pattern, w);
+            if (prev != null)
+                w = prev;
+        }
+
+        synchronized (w) {
+            if (now - w.start >= 1000) {
+                final int suppressed = w.suppressed;
+                w.start = now;
+                w.count = 1;
+                w.suppressed = 0;
+                return suppressed;
+            }
+            if (w.count < maxPerSecond) {
+                w.count++;
+                return 0;
+            }
+            w.suppressed++;
+            return -1;
+        }
+    }
+
+    private static final class Window {
+
+        long start;
+
+        int  count;
+
+        int  suppressed;
+
+        Window(long start) {
+            this.start = start;
+        }
+    }
+}
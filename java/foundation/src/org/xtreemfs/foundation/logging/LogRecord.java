@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.logging;
+
+/**
+ * A slot in the queue of the {@link AsyncLogWriter}. Slots are allocated once
+ * and reused for all messages which pass through the same position of the
+ * queue.
+ */
+final class LogRecord {
+
+    static final int  MESSAGE    = 0;
+
+    static final int  ERROR      = 1;
+
+    static final int  USER_ERROR = 2;
+
+    /**
+     * sequence number of the message in this slot, written last by the
+     * producer to publish the message
+     */
+    volatile long     sequence   = -1;
+
+    int               type;
+
+    int               level;
+
+    Object            me;
+
+    String            threadName;
+
+    long              threadId;
+
+    long              timestamp;
+
+    String            formatPattern;
+
+    Object[]          args;
+
+    Throwable         error;
+
+    void clear() {
+        me = null;
+        threadName = null;
+        formatPattern = null;
+        args = null;
+        error = null;
+    }
+}
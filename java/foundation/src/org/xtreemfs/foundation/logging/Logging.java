@@ -11,6 +11,7 @@ package org.xtreemfs.foundation.logging;
 import java.io.PrintStream;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 
@@ -102,12 +103,42 @@ public class Logging {
     protected static Logging         instance;
     
     protected static boolean         tracingEnabled     = false;
+
+    private static Thread            shutdownHook;
+
+    private static final AtomicLong  droppedMessages    = new AtomicLong();
     
     private final int                level;
     
     private final int                catMask;
     
     private static final SimpleDateFormat dateFormat = new SimpleDateFormat("MMM dd HH:mm:ss");
+
+    /**
+     * writer thread if messages are written asynchronously, null otherwise
+     */
+    private static volatile AsyncLogWriter writer;
+
+    /**
+     * limits the number of messages per format pattern, null if disabled
+     */
+    private static volatile LogRateLimiter rateLimiter;
+
+    /**
+     * What happens to a message if the queue of the asynchronous writer is
+     * full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * discard the message and count it, the number of discarded messages is
+         * logged once there is space again
+         */
+        DROP,
+        /**
+         * wait until the writer has made space in the queue
+         */
+        BLOCK
+    }
     
     /**
      * Creates a new instance of Logging
@@ -141,15 +172,18 @@ public class Logging {
         // if the level is appropriate as well as the category, or the category
         // is 'all', log the message
         if (level <= instance.level && (cat == Category.all || (2 << cat.ordinal() & instance.catMask) > 0)) {
-            
-            char levelName = getLevelName(level);
-                 
-            out.println(String.format(FORMAT_PATTERN, levelName,
-                    me == null ? "-" : truncateString(me instanceof Class ? ((Class) me).getSimpleName(): me.getClass().getSimpleName(), 20),
-                    truncateString(Thread.currentThread().getName(), 15),
-                    Thread.currentThread().getId(),
-                    getTimeStamp(), 
-                    String.format(formatPattern, args)));
+
+            final LogRateLimiter limiter = rateLimiter;
+            if (limiter != null && formatPattern != null) {
+                final int suppressed = limiter.acquire(formatPattern, System.currentTimeMillis());
+                if (suppressed < 0)
+                    return;
+                if (suppressed > 0)
+                    log(LogRecord.MESSAGE, level, me, "%d messages suppressed by rate limit: %s", new Object[] {
+                            suppressed, formatPattern }, null);
+            }
+
+            log(LogRecord.MESSAGE, level, me, formatPattern, args, null);
         }
     }
 
@@ -169,24 +203,7 @@ public class Logging {
 
         // if the level is appropriate, log the message
         if (level <= instance.level) {
-            
-            char levelName = getLevelName(level);
-
-            out.println(String.format(FORMAT_PATTERN, levelName,
-                    me == null ? "-" : (me instanceof Class ? ((Class) me).getSimpleName(): me.getClass().getSimpleName()),
-                    Thread.currentThread().getName(), Thread.currentThread().getId(),
-                getTimeStamp(), msg.toString()));
-            for (StackTraceElement elem : msg.getStackTrace()) {
-                out.println(" ...                                           " + elem.toString());
-            }
-            if (msg.getCause() != null) {
-                out.println(String.format(FORMAT_PATTERN, levelName, me == null ? "-" : me.getClass()
-                        .getSimpleName(), Thread.currentThread().getName(), Thread.currentThread().getId(),
-                    getTimeStamp(), "root cause: " + msg.getCause()));
-                for (StackTraceElement elem : msg.getCause().getStackTrace()) {
-                    out.println(" ...                                           " + elem.toString());
-                }
-            }
+            log(LogRecord.ERROR, level, me, null, null, msg);
         }
     }
     
@@ -196,15 +213,88 @@ public class Logging {
         // if the level is appropriate as well as the category, or the category
         // is 'all', log the message
         if (level <= instance.level && (cat == Category.all || (2 << cat.ordinal() & instance.catMask) > 0)) {
-            
-            char levelName = getLevelName(level);
-            
-            out.println(String.format(FORMAT_PATTERN, levelName, me == null ? "-" : me.getClass()
-                    .getSimpleName(), Thread.currentThread().getName(), Thread.currentThread().getId(),
-                getTimeStamp(), msg.toString()));
+            log(LogRecord.USER_ERROR, level, me, null, null, msg);
+        }
+    }
+
+    /**
+     * Hands the message to the asynchronous writer, if enabled, or writes it
+     * in the calling thread.
+     */
+    private static void log(int type, int level, Object me, String formatPattern, Object[] args, Throwable error) {
+        final Thread thread = Thread.currentThread();
+        final AsyncLogWriter w = writer;
+        if (w != null) {
+            // arguments which may change before the writer formats the
+            // message are formatted right away
+            if (args != null && !areImmutable(args)) {
+                args = new Object[] { String.format(formatPattern, args) };
+                formatPattern = "%s";
+            }
+            if (w.enqueue(type, level, me, thread, System.currentTimeMillis(), formatPattern, args, error))
+                return;
+        }
+        print(out, type, level, me, thread.getName(), thread.getId(), getTimeStamp(), formatPattern, args,
+                    error);
+    }
+
+    /**
+     * @return true, if none of the arguments can change its string
+     *         representation after it has been logged
+     */
+    private static boolean areImmutable(Object[] args) {
+        for (Object arg : args) {
+            if (arg == null || arg instanceof String || arg instanceof Enum || arg instanceof Class)
+                continue;
+            final Class<?> c = arg.getClass();
+            if (c != Integer.class && c != Long.class && c != Short.class && c != Byte.class && c != Double.class
+                && c != Float.class && c != Boolean.class && c != Character.class)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Formats a message and writes it to target.
+     */
+    static void print(PrintStream target, int type, int level, Object me, String threadName, long threadId,
+            String timeStamp, String formatPattern, Object[] args, Throwable msg) {
+
+        char levelName = getLevelName(level);
+
+        switch (type) {
+        case LogRecord.MESSAGE:
+            target.println(String.format(FORMAT_PATTERN, levelName,
+                    me == null ? "-" : truncateString(me instanceof Class ? ((Class) me).getSimpleName(): me.getClass().getSimpleName(), 20),
+                    truncateString(threadName, 15),
+                    threadId,
+                    timeStamp, 
+                    String.format(formatPattern, args)));
+            break;
+
+        case LogRecord.ERROR:
+            target.println(String.format(FORMAT_PATTERN, levelName,
+                    me == null ? "-" : (me instanceof Class ? ((Class) me).getSimpleName(): me.getClass().getSimpleName()),
+                    threadName, threadId, timeStamp, msg.toString()));
             for (StackTraceElement elem : msg.getStackTrace()) {
-                out.println(" ...                                           " + elem.toString());
+                target.println(" ...                                           " + elem.toString());
             }
+            if (msg.getCause() != null) {
+                target.println(String.format(FORMAT_PATTERN, levelName, me == null ? "-" : me.getClass()
+                        .getSimpleName(), threadName, threadId, timeStamp, "root cause: " + msg.getCause()));
+                for (StackTraceElement elem : msg.getCause().getStackTrace()) {
+                    target.println(" ...                                           " + elem.toString());
+                }
+            }
+            break;
+
+        case LogRecord.USER_ERROR:
+            target.println(String.format(FORMAT_PATTERN, levelName, me == null ? "-" : me.getClass()
+                    .getSimpleName(), threadName, threadId, timeStamp, msg.toString()));
+            for (StackTraceElement elem : msg.getStackTrace()) {
+                target.println(" ...                                           " + elem.toString());
+            }
+            break;
         }
     }
     
@@ -246,6 +336,95 @@ public class Logging {
         }
     }
     
+    /**
+     * Writes all subsequent log messages from a background thread. The calling
+     * thread only copies the message parameters into a preallocated queue,
+     * formatting and writing takes place in the writer thread. Messages with
+     * arguments other than strings, boxed primitives and enums are formatted
+     * in the calling thread, so that they show the state of their arguments at
+     * the time they were logged.
+     * 
+     * Pending messages are written when {@link #stopAsync()} is called or the
+     * VM shuts down.
+     * 
+     * @param queueSize
+     *            maximum number of pending messages, rounded up to a power of
+     *            two
+     * @param policy
+     *            what to do if the queue is full
+     */
+    public synchronized static void startAsync(int queueSize, OverflowPolicy policy) {
+        checkIfInitializedOrThrow();
+        if (writer != null)
+            return;
+
+        final AsyncLogWriter w = new AsyncLogWriter(queueSize, policy == OverflowPolicy.BLOCK, droppedMessages);
+        w.start();
+        writer = w;
+
+        if (shutdownHook == null) {
+            shutdownHook = new Thread("Logging shutdown") {
+                public void run() {
+                    stopAsync();
+                }
+            };
+            try {
+                Runtime.getRuntime().addShutdownHook(shutdownHook);
+            } catch (IllegalStateException ex) {
+                // VM is already shutting down
+            }
+        }
+    }
+
+    /**
+     * Writes all pending messages and switches back to writing log messages in
+     * the calling thread.
+     */
+    public synchronized static void stopAsync() {
+        final AsyncLogWriter w = writer;
+        if (w == null)
+            return;
+
+        // producers keep using the writer until it has written their pending
+        // messages, so that the messages of each thread stay in order
+        w.shutdown();
+        try {
+            w.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    /**
+     * Limits the number of messages with the same format pattern which are
+     * logged per second. Suppressed messages are counted and reported along
+     * with the next message of the same pattern which is logged.
+     * 
+     * @param maxPerPatternPerSecond
+     *            maximum number of messages per pattern and second, 0 disables
+     *            the limit
+     */
+    public static void setRateLimit(int maxPerPatternPerSecond) {
+        rateLimiter = maxPerPatternPerSecond > 0 ? new LogRateLimiter(maxPerPatternPerSecond) : null;
+    }
+
+    /**
+     * @return number of messages discarded because the queue of the
+     *         asynchronous writer was full
+     */
+    public static long getNumDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    public static boolean isAsync() {
+        return writer != null;
+    }
+
+    static PrintStream getOut() {
+        return out;
+    }
+
     public static boolean isDebug() {
         if (instance == null)
             return false;
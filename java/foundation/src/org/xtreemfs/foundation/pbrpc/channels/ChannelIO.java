@@ -131,6 +131,15 @@ public class ChannelIO {
         return false;
     }
 
+    /**
+     * is there data, which was received together with the last handshake
+     * message and must be read, although the channel does not become readable?
+     * @return
+     */
+    public boolean isReadPending() {
+        return false;
+    }
+
     /**
      * is there remaining data in channel-buffers, which must be flushed?
      * @return
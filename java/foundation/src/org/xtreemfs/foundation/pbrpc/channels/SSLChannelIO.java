@@ -9,6 +9,7 @@
 package org.xtreemfs.foundation.pbrpc.channels;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.CancelledKeyException;
 import java.nio.channels.SelectionKey;
@@ -36,23 +37,26 @@ import org.xtreemfs.foundation.util.OutputUtils;
  */
 public class SSLChannelIO extends ChannelIO {
     
-    /**
-     * Number of Threads in the ThreadPool which will be used for the
-     * time-consuming tasks
-     */
-    // public static int EXECUTOR_THREADS = 4;
     /**
      * used SSLEngine for this channel
      */
     protected final SSLEngine sslEngine;
     
     /**
-     * contains the read data encrypted by ssl
+     * contains the read data encrypted by ssl; allocated when the handshake
+     * starts
+     */
+    protected ReusableBuffer  inNetBuffer;
+    
+    /**
+     * contains the decrypted data which was not yet read; allocated with the
+     * first read after the handshake
      */
-    protected ReusableBuffer  inNetBuffer, inReadBuffer;
+    protected ReusableBuffer  inReadBuffer;
     
     /**
-     * contains the written data encrypted by ssl
+     * contains the written data encrypted by ssl; allocated when the
+     * handshake starts
      */
     protected ReusableBuffer  outNetBuffer;
     
@@ -60,13 +64,25 @@ public class SSLChannelIO extends ChannelIO {
      * an empty buffer for e.g. handshaking and shutdown; it will never contain
      * data
      */
-    protected ReusableBuffer  dummyBuffer;
+    protected static final ByteBuffer EMPTY_BUFFER                   = ByteBuffer.allocate(0);
     
     /**
      * the last SSLEngine-status
      */
     protected HandshakeStatus handshakeStatus;
     
+    /**
+     * true, while the delegated tasks of the SSLEngine are executed by the
+     * {@link SSLTaskExecutor}; guarded by this
+     */
+    private boolean           taskPending;
+    
+    /**
+     * true, if application data was received together with the last
+     * handshake message and was not read yet
+     */
+    private boolean           readPending;
+    
     protected boolean         handshakeComplete;
     
     protected int             keyOpsBeforeHandshake                  = -1;
@@ -87,11 +103,6 @@ public class SSLChannelIO extends ChannelIO {
      */
     protected boolean         clientMode;
     
-    /**
-     * for asynchronious execution of time-consuming tasks only one executor for
-     * ALL SSLChannelIOs
-     */
-    // private static ExecutorService executor = null;
     private boolean           closed                                 = false;
     
     private boolean           shutdownComplete                       = false;
@@ -108,31 +119,40 @@ public class SSLChannelIO extends ChannelIO {
      * @throws SSLException
      */
     public SSLChannelIO(SocketChannel channel, SSLOptions sslOptions, boolean clientMode) throws SSLException {
+        this(channel, sslOptions, clientMode, null);
+    }
+    
+    /**
+     * creates a SSLChannelIO
+     * 
+     * @param channel
+     *            channel, which should be protected by SSL
+     * @param sslOptions
+     *            the Options for the SSL-Connection
+     * @param clientMode
+     *            true, if you are a client; false, if you are a server
+     * @param peer
+     *            the address of the server if you are a client, which is used
+     *            to resume a previous SSL session with that server; may be
+     *            null
+     * @throws SSLException
+     */
+    public SSLChannelIO(SocketChannel channel, SSLOptions sslOptions, boolean clientMode, InetSocketAddress peer)
+        throws SSLException {
         super(channel);
-        // initialize SSLEngine for a server
-        sslEngine = sslOptions.getSSLContext().createSSLEngine();
-        sslEngine.setUseClientMode(clientMode);
-        sslEngine.setNeedClientAuth(true);
-        
-        if (clientMode) {
-            // the first call for a client is wrap()
-            sslEngine.beginHandshake();
-            handshakeStatus = HandshakeStatus.NEED_WRAP;
+        // sessions are only resumed if the engine knows the peer; the host
+        // string does not trigger a reverse lookup of resolved addresses
+        if (peer != null) {
+            sslEngine = sslOptions.getSSLContext().createSSLEngine(peer.getHostString(), peer.getPort());
         } else {
-            // the first call for a server is unwrap()
-            sslEngine.beginHandshake();
-            handshakeStatus = HandshakeStatus.NEED_UNWRAP;
+            sslEngine = sslOptions.getSSLContext().createSSLEngine();
         }
+        sslEngine.setUseClientMode(clientMode);
+        sslEngine.setNeedClientAuth(true);
         
         handshakeComplete = false;
         shutdownInProgress = false;
         
-        int netBufSize = sslEngine.getSession().getPacketBufferSize();
-        inNetBuffer = BufferPool.allocate(netBufSize);
-        inReadBuffer = BufferPool.allocate(sslEngine.getSession().getApplicationBufferSize() * 2);
-        outNetBuffer = BufferPool.allocate(netBufSize);
-        dummyBuffer = BufferPool.allocate(netBufSize);
-        
         List<String> enabledProtocols = new ArrayList<String>();
         for (String protocol : sslEngine.getSupportedProtocols()) {
             if (sslOptions.isSSLEngineProtocolSupported(protocol)) {
@@ -170,11 +190,17 @@ public class SSLChannelIO extends ChannelIO {
             sslEngine.setEnabledCipherSuites(sslEngine.getSupportedCipherSuites());
         }
         
-        // only initialize the first time an SSLChannelIO is created
-        /*
-         * if(executor==null) executor =
-         * Executors.newFixedThreadPool(EXECUTOR_THREADS);
-         */
+        // the handshake must not begin before the protocols are set,
+        // otherwise the engine negotiates any protocol it supports
+        if (clientMode) {
+            // the first call for a client is wrap()
+            sslEngine.beginHandshake();
+            handshakeStatus = HandshakeStatus.NEED_WRAP;
+        } else {
+            // the first call for a server is unwrap()
+            sslEngine.beginHandshake();
+            handshakeStatus = HandshakeStatus.NEED_UNWRAP;
+        }
     }
     
     /**
@@ -185,6 +211,10 @@ public class SSLChannelIO extends ChannelIO {
         int returnValue = 0;
         if (!shutdownInProgress) {
             if (handshakeComplete) {
+                readPending = false;
+                if (inReadBuffer == null) {
+                    inReadBuffer = BufferPool.allocate(sslEngine.getSession().getApplicationBufferSize() * 2);
+                }
                 if (inReadBuffer.remaining() == inReadBuffer.capacity()) {
                     if (channel.read(inNetBuffer.getBuffer()) == -1) {
                         return -1;
@@ -382,7 +412,7 @@ public class SSLChannelIO extends ChannelIO {
         
         if (!sslEngine.isOutboundDone()) {
             // Get close message
-            SSLEngineResult result = sslEngine.wrap(dummyBuffer.getBuffer(), outNetBuffer.getBuffer());
+            SSLEngineResult result = sslEngine.wrap(EMPTY_BUFFER, outNetBuffer.getBuffer());
             outNetBuffer.flip(); // ready for writing to channel
             switch (result.getStatus()) {
             case OK: {
@@ -438,7 +468,7 @@ public class SSLChannelIO extends ChannelIO {
             BufferPool.free(inReadBuffer);
             inReadBuffer = null;
             BufferPool.free(outNetBuffer);
-            BufferPool.free(dummyBuffer);
+            outNetBuffer = null;
             shutdownInProgress = true;
             closed = true;
         } catch (Throwable th) {
@@ -452,12 +482,14 @@ public class SSLChannelIO extends ChannelIO {
      */
     @Override
     protected void finalize() {
-        if (inNetBuffer != null) {
+        if (inNetBuffer != null || inReadBuffer != null) {
             Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this, "buffers not freed!");
             BufferPool.free(inNetBuffer);
             inNetBuffer = null;
+            BufferPool.free(inReadBuffer);
+            inReadBuffer = null;
             BufferPool.free(outNetBuffer);
-            BufferPool.free(dummyBuffer);
+            outNetBuffer = null;
         }
         if (!closed) {
             System.out.println("CONNECTION WAS NOT CLOSED PROPERLY: " + this);
@@ -495,9 +527,21 @@ public class SSLChannelIO extends ChannelIO {
             return handshakeComplete;
         }
         
+        synchronized (this) {
+            if (taskPending) {
+                // the key will be re-registered as soon as the tasks are done
+                key.interestOps(0);
+                return false;
+            }
+        }
+        
         if (keyOpsBeforeHandshake == -1) {
             keyOpsBeforeHandshake = key.interestOps();
             key.interestOps(key.interestOps() & ~SelectionKey.OP_READ & ~SelectionKey.OP_WRITE);
+            
+            int netBufSize = sslEngine.getSession().getPacketBufferSize();
+            inNetBuffer = BufferPool.allocate(netBufSize);
+            outNetBuffer = BufferPool.allocate(netBufSize);
         }
         
         if (!handshakeComplete) {
@@ -517,7 +561,7 @@ public class SSLChannelIO extends ChannelIO {
                     // Logging.logMessage(Logging.LEVEL_DEBUG, this,
                     // "SSL-handshake doing: unwrap");
                     inNetBuffer.flip(); // ready for being read
-                    result = sslEngine.unwrap(inNetBuffer.getBuffer(), dummyBuffer.getBuffer());
+                    result = sslEngine.unwrap(inNetBuffer.getBuffer(), EMPTY_BUFFER);
                     inNetBuffer.compact(); // ready for reading from channel
                     
                     handshakeStatus = result.getHandshakeStatus();
@@ -539,8 +583,10 @@ public class SSLChannelIO extends ChannelIO {
                         throw new IOException("The SSLEngine is in a curiuos state.");
                     }
                     }
-                } while (bufferRemaining(inNetBuffer) != 0 && handshakeStatus == HandshakeStatus.NEED_UNWRAP
-                    && !underflow);
+                    // the local result is checked, because handshakeStatus is
+                    // modified by the worker thread if tasks were started
+                } while (bufferRemaining(inNetBuffer) != 0
+                    && result.getHandshakeStatus() == HandshakeStatus.NEED_UNWRAP && !underflow);
                 break;
             }
             case NEED_WRAP: {
@@ -548,7 +594,7 @@ public class SSLChannelIO extends ChannelIO {
                 // Logging.logMessage(Logging.LEVEL_DEBUG, this,
                 // "SSL-handshake doing: wrap");
                 
-                result = sslEngine.wrap(dummyBuffer.getBuffer(), outNetBuffer.getBuffer());
+                result = sslEngine.wrap(EMPTY_BUFFER, outNetBuffer.getBuffer());
                 outNetBuffer.flip(); // ready for writing to channel
                 
                 handshakeStatus = result.getHandshakeStatus();
@@ -608,12 +654,20 @@ public class SSLChannelIO extends ChannelIO {
         return handshakeComplete;
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isReadPending() {
+        return readPending;
+    }
+    
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean isFlushed() {
-        return bufferRemaining(outNetBuffer) == 0;
+        return outNetBuffer == null || bufferRemaining(outNetBuffer) == 0;
     }
     
     /**
@@ -627,9 +681,11 @@ public class SSLChannelIO extends ChannelIO {
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.net, this, "SSL-handshake for %s:%d finished",
                 channel.socket().getInetAddress().toString(), channel.socket().getPort());
         
-        // all handshake-data processed and sent
+        // all handshake-data processed and sent; the inNetBuffer is not
+        // cleared, because a peer which resumed a session may already have
+        // sent application data
         handshakeComplete = true;
-        inNetBuffer.clear();
+        readPending = bufferRemaining(inNetBuffer) != 0;
         outNetBuffer.clear();
         key.interestOps(keyOpsBeforeHandshake);
         try {
@@ -695,66 +751,70 @@ public class SSLChannelIO extends ChannelIO {
     }
     
     /**
-     * runs the time-consuming tasks
+     * runs the time-consuming tasks in the {@link SSLTaskExecutor}; the
+     * interest set of the key is empty until they are done
      * 
      * @param key
-     * @throws IOException
      */
     protected void doTasks(final SelectionKey key) throws CancelledKeyException {
         // Logging.logMessage(Logging.LEVEL_DEBUG, this,
         // "SSL-handshake doing: doing task");
         
-        final int tmp = key.interestOps();
-        // clear all interests, so no one other than this thread can modify the
-        // selector
-        key.interestOps(0);
-        
-        /*
-         * executor.execute(new Runnable(){ public void run() {
-         */
-        // TODO: running in a different thread
-        Runnable run;
-        while ((run = sslEngine.getDelegatedTask()) != null) {
-            run.run();
-        }
-        
-        switch (handshakeStatus = sslEngine.getHandshakeStatus()) {
-        case NEED_WRAP: {
-            key.interestOps(tmp | SelectionKey.OP_WRITE);
-            break;
-        }
-        case NEED_UNWRAP: {
-            // need to read from channel
-            key.interestOps(tmp | SelectionKey.OP_READ);
-            break;
-        }
-        case FINISHED: {
-            // should not happen
-            handshakeFinished(key);
-            break;
-        }
-        case NEED_TASK: {
-            // should not happen
-            doTasks(key);
-            break;
-        }
-        case NOT_HANDSHAKING: {
-            // should not happen
-            Logging.logMessage(Logging.LEVEL_ERROR, Category.auth, this,
-                "Exception in worker-thread: The SSLEngine is not handshaking.");
-            break;
-        }
-        default: {
-            Logging.logMessage(Logging.LEVEL_ERROR, Category.auth, this,
-                "Exception in worker-thread: The SSLEngine is in a curiuos handshake-state.");
-            assert (false);
-            // throw new
-            // IOException("The SSLEngine is in a curiuos handshake-state.");
-        }
+        final int tmp;
+        synchronized (this) {
+            tmp = key.interestOps();
+            // clear all interests, so no one other than the worker thread can
+            // modify the selector
+            key.interestOps(0);
+            taskPending = true;
         }
         
-        /*
-         * key.selector().wakeup(); } });
-         */
+        SSLTaskExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                Runnable task;
+                try {
+                    while ((task = sslEngine.getDelegatedTask()) != null) {
+                        task.run();
+                    }
+                } catch (Throwable th) {
+                    // the SSLEngine reports the error with the next wrap or
+                    // unwrap
+                    Logging.logMessage(Logging.LEVEL_ERROR, Category.auth, SSLChannelIO.this,
+                        "Exception in worker-thread: %s", th.toString());
+                }
+                
+                synchronized (SSLChannelIO.this) {
+                    taskPending = false;
+                    try {
+                        switch (handshakeStatus = sslEngine.getHandshakeStatus()) {
+                        case NEED_UNWRAP: {
+                            // the next handshake messages may already be in
+                            // the inNetBuffer, so doHandshake is also called
+                            // if nothing can be read from the channel
+                            key.interestOps(tmp | SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                            break;
+                        }
+                        case NOT_HANDSHAKING: {
+                            // should not happen
+                            Logging.logMessage(Logging.LEVEL_ERROR, Category.auth, SSLChannelIO.this,
+                                "Exception in worker-thread: The SSLEngine is not handshaking.");
+                            // let doHandshake report the error
+                            key.interestOps(tmp | SelectionKey.OP_WRITE);
+                            break;
+                        }
+                        default: {
+                            // NEED_WRAP, FINISHED and NEED_TASK are continued
+                            // by doHandshake in the selector thread
+                            key.interestOps(tmp | SelectionKey.OP_WRITE);
+                        }
+                        }
+                        key.selector().wakeup();
+                    } catch (CancelledKeyException ex) {
+                        // the connection was closed in the meantime
+                    }
+                }
+            }
+        });
     }
 }
@@ -35,23 +35,20 @@ import org.xtreemfs.foundation.util.OutputUtils;
  */
 public class SSLHandshakeOnlyChannelIO extends ChannelIO {
     
-    /**
-     * Number of Threads in the ThreadPool which will be used for the
-     * time-consuming tasks
-     */
-    // public static int EXECUTOR_THREADS = 4;
     /**
      * used SSLEngine for this channel
      */
     protected final SSLEngine sslEngine;
     
     /**
-     * contains the read data encrypted by ssl
+     * contains the read data encrypted by ssl; allocated when the handshake
+     * starts
      */
-    protected ReusableBuffer  inNetBuffer, inReadBuffer;
+    protected ReusableBuffer  inNetBuffer;
     
     /**
-     * contains the written data encrypted by ssl
+     * contains the written data encrypted by ssl; allocated when the
+     * handshake starts
      */
     protected ReusableBuffer  outNetBuffer;
     
@@ -59,13 +56,19 @@ public class SSLHandshakeOnlyChannelIO extends ChannelIO {
      * an empty buffer for e.g. handshaking and shutdown; it will never contain
      * data
      */
-    protected ReusableBuffer  dummyBuffer;
+    protected static final ByteBuffer EMPTY_BUFFER                   = ByteBuffer.allocate(0);
     
     /**
      * the last SSLEngine-status
      */
     protected HandshakeStatus handshakeStatus;
     
+    /**
+     * true, while the delegated tasks of the SSLEngine are executed by the
+     * {@link SSLTaskExecutor}; guarded by this
+     */
+    private boolean           taskPending;
+    
     protected boolean         handshakeComplete;
     
     protected int             keyOpsBeforeHandshake                  = -1;
@@ -86,11 +89,6 @@ public class SSLHandshakeOnlyChannelIO extends ChannelIO {
      */
     protected boolean         clientMode;
     
-    /**
-     * for asynchronious execution of time-consuming tasks only one executor for
-     * ALL SSLChannelIOs
-     */
-    // private static ExecutorService executor = null;
     private boolean           closed                                 = false;
     
     private boolean           shutdownComplete                       = false;
@@ -126,12 +124,6 @@ public class SSLHandshakeOnlyChannelIO extends ChannelIO {
         handshakeComplete = false;
         shutdownInProgress = false;
         
-        int netBufSize = sslEngine.getSession().getPacketBufferSize();
-        inNetBuffer = BufferPool.allocate(netBufSize);
-        inReadBuffer = BufferPool.allocate(sslEngine.getSession().getApplicationBufferSize() * 2);
-        outNetBuffer = BufferPool.allocate(netBufSize);
-        dummyBuffer = BufferPool.allocate(netBufSize);
-        
         sslEngine.setEnabledProtocols(sslEngine.getSupportedProtocols());
         if (sslOptions.isAuthenticationWithoutEncryption()) { // only
             // authentication
@@ -269,7 +261,7 @@ public class SSLHandshakeOnlyChannelIO extends ChannelIO {
         
         if (!sslEngine.isOutboundDone()) {
             // Get close message
-            SSLEngineResult result = sslEngine.wrap(dummyBuffer.getBuffer(), outNetBuffer.getBuffer());
+            SSLEngineResult result = sslEngine.wrap(EMPTY_BUFFER, outNetBuffer.getBuffer());
             outNetBuffer.flip(); // ready for writing to channel
             switch (result.getStatus()) {
             case OK: {
@@ -322,10 +314,8 @@ public class SSLHandshakeOnlyChannelIO extends ChannelIO {
             // free buffers
             BufferPool.free(inNetBuffer);
             inNetBuffer = null;
-            BufferPool.free(inReadBuffer);
-            inReadBuffer = null;
             BufferPool.free(outNetBuffer);
-            BufferPool.free(dummyBuffer);
+            outNetBuffer = null;
             shutdownInProgress = true;
             closed = true;
         } catch (Throwable th) {
@@ -344,7 +334,7 @@ public class SSLHandshakeOnlyChannelIO extends ChannelIO {
             BufferPool.free(inNetBuffer);
             inNetBuffer = null;
             BufferPool.free(outNetBuffer);
-            BufferPool.free(dummyBuffer);
+            outNetBuffer = null;
         }
         if (!closed) {
             System.out.println("CONNECTION WAS NOT CLOSED PROPERLY: " + this);
@@ -382,9 +372,21 @@ public class SSLHandshakeOnlyChannelIO extends ChannelIO {
             return handshakeComplete;
         }
         
+        synchronized (this) {
+            if (taskPending) {
+                // the key will be re-registered as soon as the tasks are done
+                key.interestOps(0);
+                return false;
+            }
+        }
+        
         if (keyOpsBeforeHandshake == -1) {
             keyOpsBeforeHandshake = key.interestOps();
             key.interestOps(key.interestOps() & ~SelectionKey.OP_READ & ~SelectionKey.OP_WRITE);
+            
+            int netBufSize = sslEngine.getSession().getPacketBufferSize();
+            inNetBuffer = BufferPool.allocate(netBufSize);
+            outNetBuffer = BufferPool.allocate(netBufSize);
         }
         
         if (!handshakeComplete) {
@@ -404,7 +406,7 @@ public class SSLHandshakeOnlyChannelIO extends ChannelIO {
                     // Logging.logMessage(Logging.LEVEL_DEBUG, this,
                     // "SSL-handshake doing: unwrap");
                     inNetBuffer.flip(); // ready for being read
-                    result = sslEngine.unwrap(inNetBuffer.getBuffer(), dummyBuffer.getBuffer());
+                    result = sslEngine.unwrap(inNetBuffer.getBuffer(), EMPTY_BUFFER);
                     inNetBuffer.compact(); // ready for reading from channel
                     
                     handshakeStatus = result.getHandshakeStatus();
@@ -426,8 +428,10 @@ public class SSLHandshakeOnlyChannelIO extends ChannelIO {
                         throw new IOException("The SSLEngine is in a curiuos state.");
                     }
                     }
-                } while (bufferRemaining(inNetBuffer) != 0 && handshakeStatus == HandshakeStatus.NEED_UNWRAP
-                    && !underflow);
+                    // the local result is checked, because handshakeStatus is
+                    // modified by the worker thread if tasks were started
+                } while (bufferRemaining(inNetBuffer) != 0
+                    && result.getHandshakeStatus() == HandshakeStatus.NEED_UNWRAP && !underflow);
                 break;
             }
             case NEED_WRAP: {
@@ -435,7 +439,7 @@ public class SSLHandshakeOnlyChannelIO extends ChannelIO {
                 // Logging.logMessage(Logging.LEVEL_DEBUG, this,
                 // "SSL-handshake doing: wrap");
                 
-                result = sslEngine.wrap(dummyBuffer.getBuffer(), outNetBuffer.getBuffer());
+                result = sslEngine.wrap(EMPTY_BUFFER, outNetBuffer.getBuffer());
                 outNetBuffer.flip(); // ready for writing to channel
                 
                 handshakeStatus = result.getHandshakeStatus();
@@ -500,7 +504,7 @@ public class SSLHandshakeOnlyChannelIO extends ChannelIO {
      */
     @Override
     public boolean isFlushed() {
-        return bufferRemaining(outNetBuffer) == 0;
+        return outNetBuffer == null || bufferRemaining(outNetBuffer) == 0;
     }
     
     /**
@@ -582,66 +586,70 @@ public class SSLHandshakeOnlyChannelIO extends ChannelIO {
     }
     
     /**
-     * runs the time-consuming tasks
+     * runs the time-consuming tasks in the {@link SSLTaskExecutor}; the
+     * interest set of the key is empty until they are done
      * 
      * @param key
-     * @throws IOException
      */
     protected void doTasks(final SelectionKey key) throws CancelledKeyException {
         // Logging.logMessage(Logging.LEVEL_DEBUG, this,
         // "SSL-handshake doing: doing task");
         
-        final int tmp = key.interestOps();
-        // clear all interests, so no one other than this thread can modify the
-        // selector
-        key.interestOps(0);
-        
-        /*
-         * executor.execute(new Runnable(){ public void run() {
-         */
-        // TODO: running in a different thread
-        Runnable run;
-        while ((run = sslEngine.getDelegatedTask()) != null) {
-            run.run();
-        }
-        
-        switch (handshakeStatus = sslEngine.getHandshakeStatus()) {
-        case NEED_WRAP: {
-            key.interestOps(tmp | SelectionKey.OP_WRITE);
-            break;
-        }
-        case NEED_UNWRAP: {
-            // need to read from channel
-            key.interestOps(tmp | SelectionKey.OP_READ);
-            break;
-        }
-        case FINISHED: {
-            // should not happen
-            handshakeFinished(key);
-            break;
-        }
-        case NEED_TASK: {
-            // should not happen
-            doTasks(key);
-            break;
-        }
-        case NOT_HANDSHAKING: {
-            // should not happen
-            Logging.logMessage(Logging.LEVEL_ERROR, Category.auth, this,
-                "Exception in worker-thread: The SSLEngine is not handshaking.");
-            break;
-        }
-        default: {
-            Logging.logMessage(Logging.LEVEL_ERROR, Category.auth, this,
-                "Exception in worker-thread: The SSLEngine is in a curiuos handshake-state.");
-            assert (false);
-            // throw new
-            // IOException("The SSLEngine is in a curiuos handshake-state.");
-        }
+        final int tmp;
+        synchronized (this) {
+            tmp = key.interestOps();
+            // clear all interests, so no one other than the worker thread can
+            // modify the selector
+            key.interestOps(0);
+            taskPending = true;
         }
         
-        /*
-         * key.selector().wakeup(); } });
-         */
+        SSLTaskExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                Runnable task;
+                try {
+                    while ((task = sslEngine.getDelegatedTask()) != null) {
+                        task.run();
+                    }
+                } catch (Throwable th) {
+                    // the SSLEngine reports the error with the next wrap or
+                    // unwrap
+                    Logging.logMessage(Logging.LEVEL_ERROR, Category.auth, SSLHandshakeOnlyChannelIO.this,
+                        "Exception in worker-thread: %s", th.toString());
+                }
+                
+                synchronized (SSLHandshakeOnlyChannelIO.this) {
+                    taskPending = false;
+                    try {
+                        switch (handshakeStatus = sslEngine.getHandshakeStatus()) {
+                        case NEED_UNWRAP: {
+                            // the next handshake messages may already be in
+                            // the inNetBuffer, so doHandshake is also called
+                            // if nothing can be read from the channel
+                            key.interestOps(tmp | SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                            break;
+                        }
+                        case NOT_HANDSHAKING: {
+                            // should not happen
+                            Logging.logMessage(Logging.LEVEL_ERROR, Category.auth, SSLHandshakeOnlyChannelIO.this,
+                                "Exception in worker-thread: The SSLEngine is not handshaking.");
+                            // let doHandshake report the error
+                            key.interestOps(tmp | SelectionKey.OP_WRITE);
+                            break;
+                        }
+                        default: {
+                            // NEED_WRAP, FINISHED and NEED_TASK are continued
+                            // by doHandshake in the selector thread
+                            key.interestOps(tmp | SelectionKey.OP_WRITE);
+                        }
+                        }
+                        key.selector().wakeup();
+                    } catch (CancelledKeyException ex) {
+                        // the connection was closed in the meantime
+                    }
+                }
+            }
+        });
     }
 }
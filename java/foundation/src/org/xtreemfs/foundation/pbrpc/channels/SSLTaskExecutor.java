@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.pbrpc.channels;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the delegated tasks of SSLEngines (e.g. certificate verification and key exchange computations),
+ * so that they do not block the selector threads of the RPC client and server. One executor is shared by
+ * all SSL channels.
+ *
+ * The number of threads and queued tasks is bounded. If the queue is full, the task is executed by the
+ * thread which submitted it, i.e. a selector thread slows down instead of queueing handshakes
+ * without limit.
+ */
+final class SSLTaskExecutor {
+
+    /**
+     * maximum number of handshakes waiting for a worker thread
+     */
+    static final int                        MAX_QUEUED_TASKS = 1024;
+
+    private static final ThreadPoolExecutor executor;
+
+    static {
+        final int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<Runnable>(MAX_QUEUED_TASKS), new ThreadFactory() {
+
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "SSLTask-" + count.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    private SSLTaskExecutor() {
+    }
+
+    static void execute(Runnable task) {
+        executor.execute(task);
+    }
+}
@@ -277,6 +277,10 @@ public class RPCNIOSocketClient extends LifeCycleThread {
                             if (key.isWritable()) {
                                 writeConnection(key);
                             }
+                            if (key.isValid() && ((RPCClientConnection) key.attachment()).getChannel().isReadPending()) {
+                                // the handshake was finished by writeConnection
+                                readConnection(key);
+                            }
                         } catch (CancelledKeyException ex) {
                             continue;
                         }
@@ -342,7 +346,7 @@ public class RPCNIOSocketClient extends LifeCycleThread {
                     if (sslOptions.isFakeSSLMode()) {
                         channel = new SSLHandshakeOnlyChannelIO(SocketChannel.open(), sslOptions, true);
                     } else {
-                        channel = new SSLChannelIO(SocketChannel.open(), sslOptions, true);
+                        channel = new SSLChannelIO(SocketChannel.open(), sslOptions, true, server);
                     }
                 }
                 channel.configureBlocking(false);
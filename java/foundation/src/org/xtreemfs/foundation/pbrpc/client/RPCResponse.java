@@ -112,6 +112,16 @@ public class RPCResponse<V extends Message> implements RPCResponseListener<V> {
         }
     }
 
+    /**
+     * @return true, if the request could not be sent or no response was received
+     *         in time
+     */
+    public boolean hasFailed() {
+        synchronized (this) {
+            return failed;
+        }
+    }
+
     @Override
     public void responseAvailable(RPCClientRequest<V> request, ReusableBuffer message, ReusableBuffer data) {
         if (Logging.isDebug())
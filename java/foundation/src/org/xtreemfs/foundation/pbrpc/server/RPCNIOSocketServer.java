@@ -283,6 +283,11 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
                             if (key.isWritable()) {
                                 writeConnection(key);
                             }
+                            if (key.isValid() && key.attachment() != null
+                                && ((RPCNIOSocketServerConnection) key.attachment()).getChannel().isReadPending()) {
+                                // the handshake was finished by writeConnection
+                                readConnection(key);
+                            }
                         } catch (CancelledKeyException ex) {
                             // nobody cares...
                             continue;
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.logging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.logging.Logging.OverflowPolicy;
+
+public class LoggingTest {
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(Logging.LEVEL_WARN);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Logging.stopAsync();
+        Logging.setRateLimit(0);
+        Logging.redirect(System.out);
+    }
+
+    @Test
+    public void testAsyncOrder() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Logging.redirect(new PrintStream(bytes));
+        Logging.startAsync(64, OverflowPolicy.BLOCK);
+        assertTrue(Logging.isAsync());
+
+        final int numThreads = 4;
+        final int numMessages = 1000;
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            final int threadNo = t;
+            threads[t] = new Thread() {
+                public void run() {
+                    for (int i = 0; i < numMessages; i++)
+                        Logging.logMessage(Logging.LEVEL_WARN, Category.test, this, "msg %d %d", threadNo, i);
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread t : threads)
+            t.join();
+        Logging.logError(Logging.LEVEL_ERROR, this, new Exception("test"));
+        Logging.stopAsync();
+
+        // no message is lost and the messages of each thread are in order
+        int[] next = new int[numThreads];
+        int numErrors = 0;
+        for (String line : bytes.toString().split("\n")) {
+            if (line.contains("java.lang.Exception: test")) {
+                numErrors++;
+                continue;
+            }
+            if (!line.startsWith("[ W"))
+                continue;
+            String[] parts = line.substring(line.indexOf("msg ") + 4).split(" ");
+            int threadNo = Integer.parseInt(parts[0]);
+            assertEquals(next[threadNo]++, Integer.parseInt(parts[1]));
+        }
+        for (int t = 0; t < numThreads; t++)
+            assertEquals(numMessages, next[t]);
+        assertEquals(1, numErrors);
+    }
+
+    @Test
+    public void testAsyncStopWhileLogging() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Logging.redirect(new PrintStream(bytes));
+        Logging.startAsync(16, OverflowPolicy.BLOCK);
+
+        final int numThreads = 4;
+        final int numMessages = 2000;
+        final CountDownLatch started = new CountDownLatch(numThreads);
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            final int threadNo = t;
+            threads[t] = new Thread() {
+                public void run() {
+                    started.countDown();
+                    for (int i = 0; i < numMessages; i++)
+                        Logging.logMessage(Logging.LEVEL_WARN, Category.test, this, "msg %d %d", threadNo, i);
+                }
+            };
+            threads[t].start();
+        }
+        // messages enqueued while the writer stops are neither lost nor
+        // reordered, later messages are written synchronously
+        started.await();
+        Logging.stopAsync();
+        for (Thread t : threads)
+            t.join();
+
+        int[] next = new int[numThreads];
+        for (String line : bytes.toString().split("\n")) {
+            if (!line.startsWith("[ W"))
+                continue;
+            String[] parts = line.substring(line.indexOf("msg ") + 4).split(" ");
+            int threadNo = Integer.parseInt(parts[0]);
+            assertEquals(next[threadNo]++, Integer.parseInt(parts[1]));
+        }
+        for (int t = 0; t < numThreads; t++)
+            assertEquals(numMessages, next[t]);
+    }
+
+    @Test
+    public void testAsyncDrop() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        // blocks the writer thread until released
+        Logging.redirect(new PrintStream(new OutputStream() {
+            public void write(int b) throws IOException {
+                write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            public void write(byte[] b, int off, int len) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    throw new IOException(ex.toString());
+                }
+                bytes.write(b, off, len);
+            }
+        }));
+        Logging.startAsync(16, OverflowPolicy.DROP);
+
+        // the writer blocks while writing the first message
+        Logging.logMessage(Logging.LEVEL_WARN, Category.test, this, "first");
+        Thread.sleep(200);
+
+        final long droppedBefore = Logging.getNumDroppedMessages();
+        for (int i = 0; i < 100; i++)
+            Logging.logMessage(Logging.LEVEL_WARN, Category.test, this, "msg %d", i);
+        assertEquals(100 - 16, Logging.getNumDroppedMessages() - droppedBefore);
+
+        release.countDown();
+        Logging.stopAsync();
+        String out = bytes.toString();
+        assertTrue(out.contains("84 log messages dropped"));
+        assertEquals(16, count(out, "msg "));
+    }
+
+    @Test
+    public void testAsyncMutableArguments() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Logging.redirect(new PrintStream(new OutputStream() {
+            public void write(int b) throws IOException {
+                write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            public void write(byte[] b, int off, int len) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    throw new IOException(ex.toString());
+                }
+                bytes.write(b, off, len);
+            }
+        }));
+        Logging.startAsync(16, OverflowPolicy.BLOCK);
+
+        // the writer blocks while writing the first message, the argument is
+        // modified before the second message is formatted by the writer
+        Logging.logMessage(Logging.LEVEL_WARN, Category.test, this, "first");
+        StringBuilder arg = new StringBuilder("before");
+        Logging.logMessage(Logging.LEVEL_WARN, Category.test, this, "value %s, 100%%", arg);
+        arg.setLength(0);
+        arg.append("after");
+
+        release.countDown();
+        Logging.stopAsync();
+        String out = bytes.toString();
+        assertTrue(out.contains("value before, 100%"));
+        assertEquals(0, count(out, "after"));
+    }
+
+    @Test
+    public void testRateLimit() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Logging.redirect(new PrintStream(bytes));
+        Logging.setRateLimit(5);
+
+        for (int i = 0; i < 20; i++) {
+            Logging.logMessage(Logging.LEVEL_WARN, Category.test, this, "limited %d", i);
+            Logging.logMessage(Logging.LEVEL_WARN, Category.test, this, "other %d", i);
+        }
+        // not logged, does not count
+        Logging.logMessage(Logging.LEVEL_DEBUG, Category.test, this, "limited %d", 0);
+
+        String out = bytes.toString();
+        assertEquals(5, count(out, "limited"));
+        assertEquals(5, count(out, "other"));
+
+        // a new window reports the suppressed messages
+        LogRateLimiter limiter = new LogRateLimiter(2);
+        assertEquals(0, limiter.acquire("p", 0));
+        assertEquals(0, limiter.acquire("p", 10));
+        assertEquals(-1, limiter.acquire("p", 20));
+        assertEquals(-1, limiter.acquire("p", 999));
+        assertEquals(0, limiter.acquire("q", 999));
+        assertEquals(2, limiter.acquire("p", 1000));
+        assertEquals(0, limiter.acquire("p", 1001));
+    }
+
+    private static int count(String s, String word) {
+        int n = 0;
+        for (int i = s.indexOf(word); i >= 0; i = s.indexOf(word, i + 1))
+            n++;
+        return n;
+    }
+}
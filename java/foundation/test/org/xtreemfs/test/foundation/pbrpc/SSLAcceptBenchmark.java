@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.foundation.pbrpc;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.X509TrustManager;
+
+import org.xtreemfs.foundation.SSLOptions;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC;
+import org.xtreemfs.foundation.pbrpc.server.RPCNIOSocketServer;
+import org.xtreemfs.foundation.pbrpc.server.RPCServerRequest;
+import org.xtreemfs.foundation.pbrpc.server.RPCServerRequestListener;
+import org.xtreemfs.foundation.pbrpc.utils.RecordMarker;
+import org.xtreemfs.foundation.pbrpc.utils.ReusableBufferOutputStream;
+
+/**
+ * Measures how long an SSL-enabled {@link RPCNIOSocketServer} takes to accept
+ * a burst of new connections, e.g. when all clients reconnect after a server
+ * restart. Every connection is opened by one of several client threads, sends
+ * a single RPC as soon as the handshake is done and is closed after the
+ * response was received. The burst is run once with full handshakes and once
+ * with resumed SSL sessions.
+ * <p>
+ * Usage: <code>SSLAcceptBenchmark [connections [client threads]]</code>
+ * <p>
+ * The certificates are read from <code>tests/certs</code>; the working
+ * directory must be <code>java/foundation</code> or the root of the project.
+ */
+public class SSLAcceptBenchmark {
+
+    private static final int    TEST_PORT = 12998;
+
+    private static final int    CALL_ID   = 4711;
+
+    private static final String HOST      = "localhost";
+
+    public static void main(String[] args) throws Exception {
+
+        Logging.start(Logging.LEVEL_WARN, Category.all);
+
+        final int connections = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        final int threads = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+
+        SSLOptions serverSSL = createSSLOptions("DIR.p12");
+        SSLOptions clientSSL = createSSLOptions("Client.p12");
+
+        RPCNIOSocketServer server = new RPCNIOSocketServer(TEST_PORT, null, new RPCServerRequestListener() {
+            @Override
+            public void receiveRecord(RPCServerRequest rq) {
+                try {
+                    rq.sendResponse(RPC.UserCredentials.newBuilder().setUsername("test").build(), null);
+                } catch (IOException ex) {
+                    ex.printStackTrace();
+                }
+            }
+        }, serverSSL);
+        server.start();
+        server.waitForStartup();
+
+        final byte[] request = createRequest();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            System.out.format("%d connections, %d client threads%n", connections, threads);
+
+            // warm up the JIT and the session caches
+            runBurst(executor, clientSSL, request, connections / 4, false);
+
+            long full = runBurst(executor, clientSSL, request, connections, false);
+            System.out.format("full handshakes:    %8.1f ms, %8.0f connections/s%n", full / 1e6, connections
+                / (full / 1e9));
+
+            long resumed = runBurst(executor, clientSSL, request, connections, true);
+            System.out.format("resumed sessions:   %8.1f ms, %8.0f connections/s%n", resumed / 1e6,
+                connections / (resumed / 1e9));
+
+        } finally {
+            executor.shutdown();
+            server.shutdown();
+            server.waitForShutdown();
+        }
+    }
+
+    /**
+     * Opens "connections" connections and returns the time in nanoseconds
+     * until all of them got their response.
+     */
+    private static long runBurst(ExecutorService executor, final SSLOptions clientSSL, final byte[] request,
+        int connections, final boolean resume) throws Exception {
+
+        // establish the session which is resumed by all connections
+        byte[] sessionId = connect(clientSSL, request, resume);
+
+        List<Callable<byte[]>> tasks = new ArrayList<Callable<byte[]>>(connections);
+        for (int i = 0; i < connections; i++) {
+            tasks.add(new Callable<byte[]>() {
+                @Override
+                public byte[] call() throws Exception {
+                    return connect(clientSSL, request, resume);
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        List<Future<byte[]>> results = executor.invokeAll(tasks);
+        long duration = System.nanoTime() - start;
+
+        int resumedSessions = 0;
+        for (Future<byte[]> result : results) {
+            if (Arrays.equals(sessionId, result.get())) {
+                resumedSessions++;
+            }
+        }
+        if (resume && resumedSessions < connections) {
+            System.out.format("only %d of %d sessions were resumed%n", resumedSessions, connections);
+        }
+        return duration;
+    }
+
+    /**
+     * Sends one request over a new connection.
+     *
+     * @return the ID of the SSL session
+     */
+    private static byte[] connect(SSLOptions clientSSL, byte[] request, boolean resume) throws IOException {
+        SSLSocket socket = (SSLSocket) clientSSL.getSSLContext().getSocketFactory().createSocket(HOST,
+            TEST_PORT);
+        try {
+            socket.setTcpNoDelay(true);
+
+            OutputStream out = socket.getOutputStream();
+            out.write(request);
+            out.flush();
+
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            int hdrLen = in.readInt();
+            int msgLen = in.readInt();
+            int dataLen = in.readInt();
+            byte[] hdr = new byte[hdrLen];
+            in.readFully(hdr);
+            in.readFully(new byte[msgLen + dataLen]);
+
+            RPC.RPCHeader header = RPC.RPCHeader.parseFrom(hdr);
+            if (header.getCallId() != CALL_ID
+                || header.getMessageType() != RPC.MessageType.RPC_RESPONSE_SUCCESS) {
+                throw new IOException("unexpected response: " + header);
+            }
+
+            byte[] sessionId = socket.getSession().getId();
+            if (!resume) {
+                // prevent that the next connection resumes this session
+                socket.getSession().invalidate();
+            }
+            return sessionId;
+        } finally {
+            socket.close();
+        }
+    }
+
+    private static byte[] createRequest() throws IOException {
+        RPC.Auth auth = RPC.Auth.newBuilder().setAuthType(RPC.AuthType.AUTH_NONE).build();
+        RPC.UserCredentials ucred = RPC.UserCredentials.newBuilder().setUsername("test").addGroups("test")
+                .build();
+        RPC.RPCHeader.RequestHeader rqHdr = RPC.RPCHeader.RequestHeader.newBuilder().setAuthData(auth)
+                .setUserCreds(ucred).setProcId(1).setInterfaceId(1).build();
+        RPC.RPCHeader header = RPC.RPCHeader.newBuilder().setCallId(CALL_ID)
+                .setMessageType(RPC.MessageType.RPC_REQUEST).setRequestHeader(rqHdr).build();
+
+        ReusableBufferOutputStream os = new ReusableBufferOutputStream(ReusableBufferOutputStream.BUFF_SIZE);
+        header.writeTo(os);
+        int hdrLen = os.length();
+        os.flip();
+
+        ByteBuffer request = ByteBuffer.allocate(RecordMarker.HDR_SIZE + hdrLen);
+        request.putInt(hdrLen);
+        request.putInt(0);
+        request.putInt(0);
+        request.put(os.getBuffers()[0].getBuffer());
+        os.freeBuffers();
+        return request.array();
+    }
+
+    private static SSLOptions createSSLOptions(String keyStoreName) throws IOException {
+        return new SSLOptions(openCertFile(keyStoreName), "passphrase", SSLOptions.PKCS12_CONTAINER,
+            openCertFile("trusted.jks"), "passphrase", SSLOptions.JKS_CONTAINER, false, false, "ssltls",
+            new TrustAllManager());
+    }
+
+    private static InputStream openCertFile(String name) throws IOException {
+        // assume the working directory is "java/foundation"
+        File file = new File("../../tests/certs/" + name);
+        if (!file.isFile()) {
+            // assume the working directory is the root of the project
+            file = new File("tests/certs/" + name);
+        }
+        return new FileInputStream(file);
+    }
+
+    /**
+     * Accepts all certificates, because the test certificates have expired.
+     */
+    private static class TrustAllManager implements SSLOptions.TrustManager, X509TrustManager {
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+
+        @Override
+        public void init(String trustedCertificatesFileContainer, InputStream trustedCertificatesFile,
+            char[] trustedCertificatesFilePassphrase) {
+        }
+    }
+}
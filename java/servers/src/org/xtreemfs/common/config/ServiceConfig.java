@@ -24,6 +24,7 @@ import java.util.StringTokenizer;
 import org.xtreemfs.common.uuids.ServiceUUID;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.logging.Logging.OverflowPolicy;
 import org.xtreemfs.foundation.pbrpc.Schemes;
 
 public class ServiceConfig extends Config {
@@ -36,6 +37,14 @@ public class ServiceConfig extends Config {
          */
         DEBUG_LEVEL("debug.level", 6, Integer.class, false),
         DEBUG_CATEGORIES("debug.categories", debugCategoryDefault, Category[].class, false),
+        /** write log messages from a background thread */
+        DEBUG_ASYNC("debug.async", false, Boolean.class, false),
+        /** maximum number of log messages waiting for the background thread */
+        DEBUG_ASYNC_QUEUE_SIZE("debug.async.queue_size", 8192, Integer.class, false),
+        /** "drop" or "block", what happens to log messages if the queue is full */
+        DEBUG_ASYNC_OVERFLOW_POLICY("debug.async.overflow_policy", "drop", String.class, false),
+        /** maximum number of log messages per format pattern and second, 0 for no limit */
+        DEBUG_RATE_LIMIT("debug.rate_limit", 0, Integer.class, false),
         DIRECTORY_SERVICE("dir_service.host", null, InetSocketAddress.class, true),
         DIRECTORY_SERVICE0("dir_service.0.host", null, InetSocketAddress.class, false),
         DIRECTORY_SERVICE1("dir_service.1.host", null, InetSocketAddress.class, false),
@@ -97,11 +106,23 @@ public class ServiceConfig extends Config {
         CAPABILITY_SECRET("capability_secret", null, String.class, true),
         CAPABILITY_TIMEOUT("capability_timeout", 600, Integer.class, false),
         RENEW_TIMED_OUT_CAPS("renew_to_caps", false, Boolean.class, false),
+        /** Keep access time updates in memory and write them to the database in batches instead of with each open or readdir. Only applies if no_atime is false. */
+        RELAXED_ATIME("relaxed_atime", false, Boolean.class, false),
+        /** Interval in seconds in which access time updates kept in memory are written to the database. */
+        ATIME_FLUSH_INTERVAL("atime_flush_interval", 60, Integer.class, false),
+        /** Maximum number of files with access time updates kept in memory. */
+        ATIME_TABLE_SIZE("atime_table_size", 100000, Integer.class, false),
+        /** Maximum number of compiled access control lists cached for permission checks; 0 disables the cache. */
+        ACL_CACHE_SIZE("acl_cache_size", 100000, Integer.class, false),
 
         /*
          * OSD specific configuration parameter
          */
         OBJECT_DIR("object_dir", null, String.class, true),
+        /** Comma-separated list of additional object directories, each of which should reside on a separate disk. */
+        OBJECT_DIRS("object_dirs", "", String.class, false),
+        /** Placement of new files on the object directories, either "hash" or "free_space". */
+        DISK_PLACEMENT("disk_placement", "hash", String.class, false),
         REPORT_FREE_SPACE("report_free_space", null, Boolean.class, true),
         CHECKSUM_ENABLED("checksums.enabled", false, Boolean.class, false),
         CHECKSUM_PROVIDER("checksums.algorithm", null, String.class, false),
@@ -113,6 +134,16 @@ public class ServiceConfig extends Config {
         /** Message timeout. Maximum allowed in-transit time for a Flease message. */
         FLEASE_MESSAGE_TO_MS("flease.message_to_ms", 500, Integer.class, false),
         FLEASE_RETRIES("flease.retries", 3, Integer.class, false),
+        /** Maximum number of Flease messages for the same OSD sent in one request. 1 disables batching, which is required as long as older OSDs are part of a replicated file. */
+        FLEASE_MAX_MESSAGE_BATCH_SIZE("flease.max_message_batch_size", 1, Integer.class, false),
+        /** Maximum number of objects recorded per file to speed up the reset of read-write replicas. */
+        REPLICATION_DIRTY_LOG_SIZE("replication.dirty_log_size", 65536, Integer.class, false),
+        /** Forward writes of read-write replicated files along a chain of replicas instead of sending them from the primary to all backups. Requires all OSDs of a file to support chained updates. */
+        REPLICATION_CHAIN_UPDATES("replication.chain_updates", false, Boolean.class, false),
+        /** Upper bound of the adaptive number of replica updates in flight per read-write replicated file. */
+        REPLICATION_MAX_WINDOW_PER_FILE("replication.max_window_per_file", 256, Integer.class, false),
+        /** Upper bound of the adaptive number of replica updates in flight per OSD. */
+        REPLICATION_MAX_WINDOW_PER_OSD("replication.max_window_per_osd", 4096, Integer.class, false),
         SOCKET_SEND_BUFFER_SIZE("socket.send_buffer_size", -1, Integer.class, false),
         SOCKET_RECEIVE_BUFFER_SIZE("socket.recv_buffer_size", -1, Integer.class, false),
         VIVALDI_RECALCULATION_INTERVAL_IN_MS("vivaldi.recalculation_interval_ms", 300000, Integer.class, false),
@@ -122,6 +153,30 @@ public class ServiceConfig extends Config {
         VIVALDI_MAX_REQUEST_TIMEOUT_IN_MS("vivaldi.max_request_timeout_ms", 10000, Integer.class, false),
         VIVALDI_TIMER_INTERVAL_IN_MS("vivaldi.timer_interval_ms", 60000, Integer.class, false),
         STORAGE_THREADS("storage_threads", 1, Integer.class, false),
+        /** Time between the start of two background scrubber passes in seconds. 0 disables the scrubber. */
+        SCRUBBER_INTERVAL_S("scrubber.interval_s", 0, Integer.class, false),
+        SCRUBBER_MAX_BANDWIDTH_MB("scrubber.max_bandwidth_mb", 20, Integer.class, false),
+        SCRUBBER_MAX_IOPS("scrubber.max_iops", 100, Integer.class, false),
+        /** The scrubber pauses while the storage thread of a file has more pending requests. */
+        SCRUBBER_MAX_STORAGE_QUEUE("scrubber.max_storage_queue", 10, Integer.class, false),
+        /** Schedule the requests of different volumes and clients by weighted fair queuing instead of in FIFO order. */
+        QOS_ENABLED("qos.enabled", false, Boolean.class, false),
+        /** Comma-separated list of volume UUIDs or client addresses and their weights, e.g. "volume1=4,volume2=1". */
+        QOS_WEIGHTS("qos.weights", "", String.class, false),
+        /** Comma-separated list of volume UUIDs and their bandwidth (MB/s) and IOPS limits, e.g. "volume1=100:500". */
+        QOS_LIMITS("qos.limits", "", String.class, false),
+        /** Directory on a fast device for the write journal, empty to disable the journal. */
+        WRITE_JOURNAL_DIR("write_journal.dir", "", String.class, false),
+        /** Maximum amount of journaled data that has not been destaged, before writes bypass the journal. */
+        WRITE_JOURNAL_MAX_BACKLOG_MB("write_journal.max_backlog_mb", 1024, Integer.class, false),
+        /** Minimum time a written file remains in the journal before it is destaged, to coalesce overwrites. */
+        WRITE_JOURNAL_DESTAGE_DELAY_MS("write_journal.destage_delay_ms", 5000, Integer.class, false),
+        /** Size of the off-heap cache for frequently read objects, 0 to disable the cache. */
+        OBJECT_CACHE_SIZE_MB("object_cache.size_mb", 0, Integer.class, false),
+        /** Number of threads deleting the objects of deleted files, 0 for one thread per disk. */
+        DELETION_THREADS("deletion.threads", 0, Integer.class, false),
+        /** Maximum number of object files deleted per second by all deletion threads, 0 for no limit. */
+        DELETION_MAX_IOPS("deletion.max_iops", 0, Integer.class, false),
         HEALTH_CHECK("health_check", "", String.class, false),
 
         /*
@@ -577,6 +632,23 @@ public class ServiceConfig extends Config {
         return (Category[]) parameter.get(Parameter.DEBUG_CATEGORIES);
     }
 
+    public boolean isDebugAsync() {
+        return (Boolean) parameter.get(Parameter.DEBUG_ASYNC);
+    }
+
+    public int getDebugAsyncQueueSize() {
+        return (Integer) parameter.get(Parameter.DEBUG_ASYNC_QUEUE_SIZE);
+    }
+
+    public OverflowPolicy getDebugAsyncOverflowPolicy() {
+        return OverflowPolicy.valueOf(((String) parameter.get(Parameter.DEBUG_ASYNC_OVERFLOW_POLICY)).trim()
+                .toUpperCase());
+    }
+
+    public int getDebugRateLimit() {
+        return (Integer) parameter.get(Parameter.DEBUG_RATE_LIMIT);
+    }
+
     public int getPort() {
         return (Integer) parameter.get(Parameter.PORT);
     }
@@ -774,6 +846,20 @@ public class ServiceConfig extends Config {
             }
         }
         this.checkSSLConfiguration();
+        this.checkLoggingConfiguration();
+    }
+
+    private void checkLoggingConfiguration() {
+        try {
+            getDebugAsyncOverflowPolicy();
+        } catch (IllegalArgumentException ex) {
+            throw new RuntimeException("property '" + Parameter.DEBUG_ASYNC_OVERFLOW_POLICY.getPropertyString()
+                    + "' must be 'drop' or 'block'");
+        }
+        if (getDebugAsyncQueueSize() < 1) {
+            throw new RuntimeException("property '" + Parameter.DEBUG_ASYNC_QUEUE_SIZE.getPropertyString()
+                    + "' must be positive");
+        }
     }
 
     public boolean isUsingRenewalSignal() {
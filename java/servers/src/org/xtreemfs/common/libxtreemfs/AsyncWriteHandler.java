@@ -272,6 +272,14 @@ public class AsyncWriteHandler {
         }
     }
 
+    /**
+     * Returns true if there are writes which have not been acknowledged yet, i.e. waitForPendingWrites()
+     * would block.
+     */
+    protected synchronized boolean hasPendingWrites() {
+        return state != State.IDLE;
+    }
+
     /**
      * Implements callback for an async write request.
      */
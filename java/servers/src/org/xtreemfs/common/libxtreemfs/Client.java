@@ -330,4 +330,9 @@ public interface Client {
      * @throws PosixErrorException
      */
     public Map<String, Service> listOSDsAndAttributes() throws IOException, PosixErrorException;
+
+    /**
+     * Returns the latencies of the read requests this client sent to OSDs, keyed by the UUID of the OSD.
+     */
+    public Map<String, OSDLatencyStats> getOSDLatencyStats();
 }
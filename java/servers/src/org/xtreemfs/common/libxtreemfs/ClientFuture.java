@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.xtreemfs.common.libxtreemfs.exceptions.XtreemFSException;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+
+/**
+ * Result of an asynchronous operation of a {@link Volume} or {@link FileHandle}.
+ *
+ * The result can be retrieved blocking with {@link #await()}, which throws the same exceptions as the
+ * synchronous operation, or with {@link #get()} like any other {@link Future}. Alternatively, listeners can
+ * be registered which are executed as soon as the operation is completed.
+ *
+ * Operations cannot be cancelled once they were started.
+ */
+public class ClientFuture<V> implements Future<V> {
+
+    private V                              result;
+
+    private IOException                    error;
+
+    private boolean                        done;
+
+    /**
+     * Listeners which are executed on completion. Set to null on completion.
+     */
+    private List<ClientFutureListener<V>>  listeners;
+
+    ClientFuture() {
+        listeners = new ArrayList<ClientFutureListener<V>>(1);
+    }
+
+    /**
+     * Returns a future which is already completed with "result".
+     */
+    static <V> ClientFuture<V> completed(V result) {
+        ClientFuture<V> future = new ClientFuture<V>();
+        future.complete(result);
+        return future;
+    }
+
+    /**
+     * Returns a future which already failed with "error".
+     */
+    static <V> ClientFuture<V> failed(IOException error) {
+        ClientFuture<V> future = new ClientFuture<V>();
+        future.fail(error);
+        return future;
+    }
+
+    /**
+     * Registers a listener which is executed when the operation is completed. If it is already completed,
+     * the listener is executed immediately by the calling thread.
+     */
+    public void addListener(ClientFutureListener<V> listener) {
+        synchronized (this) {
+            if (!done) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        notifyListener(listener);
+    }
+
+    /**
+     * Waits until the operation is completed and returns its result.
+     *
+     * @throws IOException
+     *             the exception which was thrown by the operation, or an IOException if the thread was
+     *             interrupted while waiting
+     */
+    public V await() throws IOException {
+        synchronized (this) {
+            while (!done) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Caught interrupt while waiting for the result of an asynchronous"
+                            + " operation");
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public synchronized V get() throws InterruptedException, ExecutionException {
+        while (!done) {
+            wait();
+        }
+        if (error != null) {
+            throw new ExecutionException(error);
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
+            TimeoutException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!done) {
+            long remainingNs = deadline - System.nanoTime();
+            if (remainingNs <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNs);
+        }
+        if (error != null) {
+            throw new ExecutionException(error);
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Returns true if the operation failed. Blocks until the operation is completed.
+     */
+    public boolean hasFailed() throws InterruptedException {
+        synchronized (this) {
+            while (!done) {
+                wait();
+            }
+            return error != null;
+        }
+    }
+
+    /**
+     * Operations cannot be cancelled; returns always false.
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    /**
+     * Completes the future successfully. Returns false if it was already completed.
+     */
+    boolean complete(V result) {
+        return finish(result, null);
+    }
+
+    /**
+     * Completes the future with "error". Returns false if it was already completed.
+     */
+    boolean fail(IOException error) {
+        assert (error != null);
+        return finish(null, error);
+    }
+
+    private boolean finish(V result, IOException error) {
+        List<ClientFutureListener<V>> listenersToNotify;
+        synchronized (this) {
+            if (done) {
+                return false;
+            }
+            this.result = result;
+            this.error = error;
+            this.done = true;
+            listenersToNotify = listeners;
+            listeners = null;
+            notifyAll();
+        }
+        for (ClientFutureListener<V> listener : listenersToNotify) {
+            notifyListener(listener);
+        }
+        return true;
+    }
+
+    private void notifyListener(ClientFutureListener<V> listener) {
+        try {
+            listener.futureCompleted(this);
+        } catch (RuntimeException e) {
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this,
+                    "A listener of an asynchronous operation threw an exception: %s", e.toString());
+            Logging.logError(Logging.LEVEL_ERROR, this, e);
+        }
+    }
+
+    /**
+     * Listener which continues an asynchronous operation with the result of another one and completes the
+     * future of the operation, "result", if the continuation throws an exception or the other operation
+     * failed.
+     */
+    abstract static class Continuation<T, V> implements ClientFutureListener<T> {
+
+        protected final ClientFuture<V> result;
+
+        Continuation(ClientFuture<V> result) {
+            this.result = result;
+        }
+
+        @Override
+        public void futureCompleted(ClientFuture<T> future) {
+            try {
+                proceed(future.await());
+            } catch (IOException e) {
+                failed(e);
+            } catch (RuntimeException e) {
+                Logging.logError(Logging.LEVEL_ERROR, this, e);
+                result.fail(new XtreemFSException("An asynchronous operation failed unexpectedly: " + e));
+            }
+        }
+
+        /**
+         * Called with the result of the other operation if it succeeded. Has to complete "result" unless it
+         * throws an exception.
+         */
+        protected abstract void proceed(T value) throws IOException;
+
+        /**
+         * Called if the other operation or {@link #proceed(Object)} failed. Fails "result" by default.
+         */
+        protected void failed(IOException e) {
+            result.fail(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+/**
+ * Callback which is executed when a {@link ClientFuture} is completed.
+ */
+public interface ClientFutureListener<V> {
+
+    /**
+     * Called when "future" was completed successfully or failed. {@link ClientFuture#await()} does not block
+     * at this point.
+     *
+     * Listeners are usually executed by the network thread of the volume and must not block, e.g. by calling
+     * a synchronous method of a {@link Volume} or {@link FileHandle}.
+     */
+    public void futureCompleted(ClientFuture<V> future);
+}
@@ -125,6 +125,11 @@ public class ClientImplementation implements UUIDResolver, Client, AdminClient {
      */
     private boolean                                startThreadsAsDaemons     = false;
 
+    /**
+     * Latencies of the read requests to OSDs, shared by all volumes opened by this client.
+     */
+    private OSDLatencyTracker                      osdLatencyTracker         = null;
+
     protected ClientImplementation(String[] dirAddresses, UserCredentials userCredentials,
             SSLOptions sslOptions, Options options) {
         this.dirServiceUserCredentials = userCredentials;
@@ -151,6 +156,8 @@ public class ClientImplementation implements UUIDResolver, Client, AdminClient {
         }
 
         this.listOpenVolumes = new ConcurrentLinkedQueue<Volume>();
+
+        this.osdLatencyTracker = new OSDLatencyTracker(options.getRequestTimeout_s() * 1000L * 1000 * 1000);
     }
     @Override
     public void start() throws Exception {
@@ -1034,4 +1041,18 @@ public class ClientImplementation implements UUIDResolver, Client, AdminClient {
         return removedOSDs;
 
     }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Client#getOSDLatencyStats()
+     */
+    @Override
+    public Map<String, OSDLatencyStats> getOSDLatencyStats() {
+        return osdLatencyTracker.getStats();
+    }
+
+    protected OSDLatencyTracker getOSDLatencyTracker() {
+        return osdLatencyTracker;
+    }
 }
@@ -65,6 +65,16 @@ public interface FileHandle {
     public int read(UserCredentials userCredentials, byte[] data, int dataOffset, int count, long offset)
             throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous version of read(). The objects of the requested range are read in parallel. "data" must
+     * not be accessed until the returned future is completed with the number of bytes read, or failed with
+     * the exceptions read() would throw.
+     * 
+     * Hedged reads are sent by read() only.
+     */
+    public ClientFuture<Integer> readAsync(UserCredentials userCredentials, byte[] data, int dataOffset,
+            int count, long offset);
+
     /**
      * Write to a file 'count' bytes at file offset 'offset' from 'buf'.
      * 
@@ -124,6 +134,17 @@ public interface FileHandle {
     public int write(UserCredentials userCredentials, byte[] data, int dataOffset, int count,
             long offset) throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous version of write(). The returned future is completed with the number of bytes written as
+     * soon as all OSDs acknowledged the write, independent of whether asynchronous writes are enabled, or
+     * failed with the exceptions write() would throw. "data" must not be modified until then.
+     * 
+     * Writes whose futures have not been completed yet may be applied in any order. flush() and close() wait
+     * for them.
+     */
+    public ClientFuture<Integer> writeAsync(UserCredentials userCredentials, byte[] data, int dataOffset,
+            int count, long offset);
+
     /**
      * Flushes pending writes and file size updates (corresponds to a fsync() system call).
      * 
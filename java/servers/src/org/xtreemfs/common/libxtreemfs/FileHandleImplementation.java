@@ -8,11 +8,18 @@ package org.xtreemfs.common.libxtreemfs;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.xtreemfs.common.ReplicaUpdatePolicies;
+import org.xtreemfs.common.libxtreemfs.ClientFuture.Continuation;
 import org.xtreemfs.common.libxtreemfs.RPCCaller.CallGenerator;
 import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
 import org.xtreemfs.common.libxtreemfs.exceptions.InternalServerErrorException;
@@ -21,6 +28,8 @@ import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
 import org.xtreemfs.common.libxtreemfs.exceptions.UUIDIteratorListIsEmpyException;
 import org.xtreemfs.common.libxtreemfs.exceptions.UUIDNotInXlocSetException;
 import org.xtreemfs.common.libxtreemfs.exceptions.XtreemFSException;
+import org.xtreemfs.common.xloc.ReedSolomonCode;
+import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
@@ -67,6 +76,11 @@ import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceClient;
  */
 public class FileHandleImplementation implements FileHandle, AdminFileHandle {
 
+    /**
+     * Minimum number of known latencies of a replica before hedged reads are sent if it does not answer.
+     */
+    private static final int                        MIN_HEDGED_READ_SAMPLES = 10;
+
     /**
      * UUID of the Client (needed to distinguish Locks of different clients).
      */
@@ -121,6 +135,17 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
      */
     private OSDWriteResponse                        osdWriteResponseForAsyncWriteBack;
 
+    /**
+     * Number of writes sent by writeAsync() whose futures were not completed yet.
+     */
+    // JCIP @GuardedBy("pendingWriteFuturesLock")
+    private int                                     pendingWriteFutures;
+
+    /**
+     * Used to wait for the completion of writes sent by writeAsync().
+     */
+    final private Object                            pendingWriteFuturesLock;
+
     /**
      * MRCServiceClient from the VolumeImplemention.
      */
@@ -184,6 +209,7 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
 
         xcapRenewalPending = false;
         xcapRenewalPendingLock = new Object();
+        pendingWriteFuturesLock = new Object();
     }
 
     /*
@@ -210,6 +236,155 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
     public int read(UserCredentials userCredentials, byte[] data, int dataOffset, int count, long offset)
             throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
         fileInfo.waitForPendingAsyncWrites();
+        FileCredentials fc = getFileCredentialsForRead();
+
+        ReusableBuffer buf = ReusableBuffer.wrap(data, dataOffset, count);
+        int receivedData = 0;
+
+        // Pick the first replica to determine striping policy.
+        // (We assume that all replicas use the same striping policy.)
+        StripingPolicy policy = fc.getXlocs().getReplicas(0).getStripingPolicy();
+        StripeTranslator translator = getStripeTranslator(policy.getType());
+
+        // Map offset to corresponding OSDs.
+        Vector<ReadOperation> operations = new Vector<ReadOperation>();
+        translator.translateReadRequest(count, offset, policy, operations);
+
+        List<String> readOnlyReplicas = getReadOnlyReplicas(fc);
+
+        UUIDIterator tempUuidIteratorForStriping = new UUIDIterator();
+        UUIDIterator tempUuidIteratorForReplicas = new UUIDIterator();
+        // Read all objects
+        for (int j = 0; j < operations.size(); j++) {
+            readRequest request = createReadRequest(fc, operations.get(j));
+            UUIDIterator uuidIterator = getReadUuidIterator(fc, operations.get(j), readOnlyReplicas,
+                    tempUuidIteratorForStriping, tempUuidIteratorForReplicas);
+
+            buf.position(operations.get(j).getBufferStart());
+            try {
+                ObjectData objectData = null;
+                if (readOnlyReplicas != null && volumeOptions.getHedgedReadPercentile() > 0) {
+                    objectData = readHedged(request, buf, readOnlyReplicas);
+                }
+                if (objectData == null) {
+                    final UUIDIterator currentUuidIterator = uuidIterator;
+                    // If synccall gets a buffer it fill it with data from the response.
+                    objectData = RPCCaller.<readRequest, ObjectData> syncCall(SERVICES.OSD, userCredentialsBogus,
+                            authBogus, volumeOptions, uuidResolver, uuidIterator, false, request, buf,
+                            new CallGenerator<readRequest, ObjectData>() {
+
+                                @Override
+                                public RPCResponse<ObjectData> executeCall(InetSocketAddress server, Auth auth,
+                                        UserCredentials userCreds, readRequest callRequest) throws IOException {
+                                    LatencyListener listener = new LatencyListener(currentUuidIterator.getUUID(),
+                                            null);
+                                    RPCResponse<ObjectData> response = osdServiceClient.read(server, auth,
+                                            userCreds, callRequest);
+                                    response.registerListener(listener);
+                                    return response;
+                                }
+                            });
+                }
+                // if zeropadding > 0, put zeros at the end of the buffer.
+                for (int i = 0; i < objectData.getZeroPadding(); i++) {
+                    buf.put((byte) 0);
+                }
+            } catch (IOException e) {
+                if (policy.getParityWidth() == 0 || !isReconstructible(e)) {
+                    throw e;
+                }
+                Logging.logMessage(Logging.LEVEL_WARN, Category.misc, this,
+                        "Reading object %d of file %s failed, reconstructing it from the remaining objects: %s",
+                        operations.get(j).getObjNumber(), fileInfo.getPath(), e.toString());
+                readDegraded(userCredentials, fc, policy, operations.get(j), buf);
+            }
+            receivedData += buf.position() - operations.get(j).getBufferStart();
+        }
+        return receivedData;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.xtreemfs.common.libxtreemfs.FileHandle#readAsync(org.xtreemfs.foundation.pbrpc.generatedinterfaces
+     * .RPC.UserCredentials, byte[], int, int, long)
+     */
+    @Override
+    public ClientFuture<Integer> readAsync(final UserCredentials userCredentials, final byte[] data,
+            final int dataOffset, final int count, final long offset) {
+        FileCredentials fc;
+        StripingPolicy policy;
+        StripeTranslator translator;
+        try {
+            fc = getFileCredentialsForRead();
+            policy = fc.getXlocs().getReplicas(0).getStripingPolicy();
+            translator = getStripeTranslator(policy.getType());
+        } catch (IOException e) {
+            return ClientFuture.failed(e);
+        }
+
+        // Reads have to wait for pending asynchronous writes, and objects of erasure-coded files which
+        // cannot be read are reconstructed synchronously.
+        if (fileInfo.hasPendingAsyncWrites() || policy.getParityWidth() > 0) {
+            final ClientFuture<Integer> result = new ClientFuture<Integer>();
+            volume.getAsyncOperationExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        result.complete(read(userCredentials, data, dataOffset, count, offset));
+                    } catch (IOException e) {
+                        result.fail(e);
+                    }
+                }
+            });
+            return result;
+        }
+
+        Vector<ReadOperation> operations = new Vector<ReadOperation>();
+        translator.translateReadRequest(count, offset, policy, operations);
+        if (operations.isEmpty()) {
+            return ClientFuture.completed(0);
+        }
+
+        List<String> readOnlyReplicas = getReadOnlyReplicas(fc);
+
+        // Send the reads of all objects at once and complete the result when the last one was received.
+        final ClientFuture<Integer> result = new ClientFuture<Integer>();
+        final AtomicInteger pendingReads = new AtomicInteger(operations.size());
+        final AtomicInteger receivedData = new AtomicInteger();
+        for (ReadOperation operation : operations) {
+            UUIDIterator uuidIterator = getReadUuidIterator(fc, operation, readOnlyReplicas, new UUIDIterator(),
+                    new UUIDIterator());
+            final ReusableBuffer buf = ReusableBuffer.wrap(data, dataOffset + operation.getBufferStart(),
+                    operation.getReqSize());
+            AsyncRead asyncRead = new AsyncRead(uuidIterator);
+
+            ClientFuture<ObjectData> response = RPCCaller.<readRequest, ObjectData> asyncCall(SERVICES.OSD,
+                    userCredentialsBogus, authBogus, volumeOptions, uuidResolver, uuidIterator, false,
+                    createReadRequest(fc, operation), buf, asyncRead);
+            response.addListener(asyncRead);
+            response.addListener(new Continuation<ObjectData, Integer>(result) {
+                @Override
+                protected void proceed(ObjectData objectData) {
+                    // if zeropadding > 0, put zeros at the end of the buffer.
+                    for (int i = 0; i < objectData.getZeroPadding(); i++) {
+                        buf.put((byte) 0);
+                    }
+                    receivedData.addAndGet(buf.position());
+                    if (pendingReads.decrementAndGet() == 0) {
+                        result.complete(receivedData.get());
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Returns the credentials for a read of the file. Fails if the file handle cannot be used anymore or the
+     * file has no replicas.
+     */
+    private FileCredentials getFileCredentialsForRead() throws PosixErrorException {
         FileCredentials.Builder fcBuilder = FileCredentials.newBuilder();
         synchronized (this) {
             if (asyncWritesFailed) {
@@ -223,83 +398,123 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         }
         FileCredentials fc = fcBuilder.setXlocs(fileInfo.getXLocSet()).build();
 
-        ReusableBuffer buf = ReusableBuffer.wrap(data, dataOffset, count);
-        int receivedData = 0;
-
         if (fc.getXlocs().getReplicasCount() == 0) {
             Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this, "No replica found for file %s",
                     fileInfo.getPath());
             throw new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, "no replica found for file: "
                     + fileInfo.getPath());
         }
+        return fc;
+    }
 
-        // Pick the first replica to determine striping policy.
-        // (We assume that all replicas use the same striping policy.)
-        StripingPolicy policy = fc.getXlocs().getReplicas(0).getStripingPolicy();
-        StripeTranslator translator = getStripeTranslator(policy.getType());
+    /**
+     * Returns the UUIDs of the OSDs of all replicas if the file has read-only replicas which may be read from
+     * any replica and which should be sorted by their observed latencies or read hedged, or null otherwise.
+     * If enabled, the fastest replica comes first.
+     */
+    private List<String> getReadOnlyReplicas(FileCredentials fc) {
+        if (fc.getXlocs().getReplicasCount() > 1 && fc.getXlocs().getReplicas(0).getOsdUuidsCount() == 1
+                && ReplicaUpdatePolicies.REPL_UPDATE_PC_RONLY.equals(fc.getXlocs().getReplicaUpdatePolicy())
+                && (volumeOptions.isLatencyAwareReplicaSelection() || volumeOptions.getHedgedReadPercentile() > 0)) {
+            List<String> readOnlyReplicas = new ArrayList<String>(fc.getXlocs().getReplicasCount());
+            for (Replica replica : fc.getXlocs().getReplicasList()) {
+                readOnlyReplicas.add(replica.getOsdUuids(0));
+            }
+            if (volumeOptions.isLatencyAwareReplicaSelection()) {
+                readOnlyReplicas = volume.getOSDLatencyTracker().sortByLatency(readOnlyReplicas);
+            }
+            return readOnlyReplicas;
+        }
+        return null;
+    }
 
-        // Map offset to corresponding OSDs.
-        Vector<ReadOperation> operations = new Vector<ReadOperation>();
-        translator.translateReadRequest(count, offset, policy, operations);
+    private readRequest createReadRequest(FileCredentials fc, ReadOperation operation) {
+        readRequest.Builder readRqBuilder = readRequest.newBuilder();
 
-        UUIDIterator tempUuidIteratorForStriping = new UUIDIterator();
-        // Read all objects
-        for (int j = 0; j < operations.size(); j++) {
-            readRequest.Builder readRqBuilder = readRequest.newBuilder();
-
-            readRqBuilder.setFileCredentials(fc);
-            readRqBuilder.setFileId(fc.getXcap().getFileId());
-            readRqBuilder.setObjectNumber(operations.get(j).getObjNumber());
-            readRqBuilder.setObjectVersion(0);
-            readRqBuilder.setOffset(operations.get(j).getReqOffset());
-            readRqBuilder.setLength(operations.get(j).getReqSize());
-
-            // Differ between striping and the rest (replication, no
-            // replication).
-            UUIDIterator uuidIterator;
-            if (readRqBuilder.getFileCredentials().getXlocs().getReplicas(0).getOsdUuidsCount() > 1) {
-                // Replica is striped. Pick UUID from xlocset.
-                tempUuidIteratorForStriping.clear();
-                
-                // Replicas may have different stripe widths. However, the current Java client
-                // StripeTranslator code only supports the same stripe width as the first replica has.
-                int stripeWidthFirstReplica = fc.getXlocs().getReplicas(0).getStripingPolicy().getWidth();
-
-                for (int replicaIdx = 0; replicaIdx < fc.getXlocs().getReplicasCount(); replicaIdx++) {
-                    if (fc.getXlocs().getReplicas(replicaIdx).getStripingPolicy().getWidth() == stripeWidthFirstReplica) {
-                        tempUuidIteratorForStriping.addUUID(Helper.getOSDUUIDFromXlocSet(fc.getXlocs(),
-                                                            replicaIdx,
-                                                            operations.get(j).getOsdOffset()));
-                    }
+        readRqBuilder.setFileCredentials(fc);
+        readRqBuilder.setFileId(fc.getXcap().getFileId());
+        readRqBuilder.setObjectNumber(operation.getObjNumber());
+        readRqBuilder.setObjectVersion(0);
+        readRqBuilder.setOffset(operation.getReqOffset());
+        readRqBuilder.setLength(operation.getReqSize());
+        return readRqBuilder.build();
+    }
+
+    /**
+     * Returns the UUIDIterator with the OSDs "operation" may be sent to. "tempUuidIteratorForStriping" and
+     * "tempUuidIteratorForReplicas" are filled and returned if the file is striped or has read-only replicas.
+     */
+    private UUIDIterator getReadUuidIterator(FileCredentials fc, ReadOperation operation,
+            List<String> readOnlyReplicas, UUIDIterator tempUuidIteratorForStriping,
+            UUIDIterator tempUuidIteratorForReplicas) {
+        // Differ between striping and the rest (replication, no
+        // replication).
+        if (fc.getXlocs().getReplicas(0).getOsdUuidsCount() > 1) {
+            // Replica is striped. Pick UUID from xlocset.
+            tempUuidIteratorForStriping.clear();
+
+            // Replicas may have different stripe widths. However, the current Java client
+            // StripeTranslator code only supports the same stripe width as the first replica has.
+            int stripeWidthFirstReplica = fc.getXlocs().getReplicas(0).getStripingPolicy().getWidth();
+
+            for (int replicaIdx = 0; replicaIdx < fc.getXlocs().getReplicasCount(); replicaIdx++) {
+                if (fc.getXlocs().getReplicas(replicaIdx).getStripingPolicy().getWidth() == stripeWidthFirstReplica) {
+                    tempUuidIteratorForStriping.addUUID(Helper.getOSDUUIDFromXlocSet(fc.getXlocs(),
+                                                        replicaIdx,
+                                                        operation.getOsdOffset()));
                 }
-                
-                uuidIterator = tempUuidIteratorForStriping;
-            } else {
-                // TODO(mberlin): Enhance UUIDIterator to read from different
-                // replicas.
-                uuidIterator = osdUuidIterator;
             }
 
-            buf.position(operations.get(j).getBufferStart());
-            // If synccall gets a buffer it fill it with data from the response.
-            ObjectData objectData = RPCCaller.<readRequest, ObjectData> syncCall(SERVICES.OSD, userCredentialsBogus,
-                    authBogus, volumeOptions, uuidResolver, uuidIterator, false, readRqBuilder.build(), buf,
-                    new CallGenerator<readRequest, ObjectData>() {
+            return tempUuidIteratorForStriping;
+        } else if (readOnlyReplicas != null) {
+            tempUuidIteratorForReplicas.clear();
+            tempUuidIteratorForReplicas.addUUIDs(readOnlyReplicas);
+            return tempUuidIteratorForReplicas;
+        } else {
+            return osdUuidIterator;
+        }
+    }
 
-                        @Override
-                        public RPCResponse<ObjectData> executeCall(InetSocketAddress server, Auth auth,
-                                UserCredentials userCreds, readRequest callRequest) throws IOException {
-                            return osdServiceClient.read(server, auth, userCreds, callRequest);
+    /**
+     * Sends the attempts of an asynchronous read of one object and records their latencies like
+     * {@link LatencyListener} does for synchronous reads.
+     */
+    private class AsyncRead implements CallGenerator<readRequest, ObjectData>, ClientFutureListener<ObjectData> {
 
-                        }
-                    });
-            // if zeropadding > 0, put zeros at the end of the buffer.
-            for (int i = 0; i < objectData.getZeroPadding(); i++) {
-                buf.put((byte) 0);
+        private final UUIDIterator uuidIterator;
+
+        private String             osdUuid;
+
+        private long               startTime;
+
+        AsyncRead(UUIDIterator uuidIterator) {
+            this.uuidIterator = uuidIterator;
+        }
+
+        @Override
+        public synchronized RPCResponse<ObjectData> executeCall(InetSocketAddress server, Auth auth,
+                UserCredentials userCreds, readRequest callRequest) throws IOException {
+            if (osdUuid != null) {
+                // The previous attempt failed.
+                volume.getOSDLatencyTracker().recordFailure(osdUuid);
+            }
+            osdUuid = uuidIterator.getUUID();
+            startTime = System.nanoTime();
+            return osdServiceClient.read(server, auth, userCreds, callRequest);
+        }
+
+        @Override
+        public synchronized void futureCompleted(ClientFuture<ObjectData> future) {
+            if (osdUuid == null) {
+                return;
+            }
+            try {
+                future.await();
+                volume.getOSDLatencyTracker().recordLatency(osdUuid, System.nanoTime() - startTime);
+            } catch (IOException e) {
+                volume.getOSDLatencyTracker().recordFailure(osdUuid);
             }
-            receivedData += buf.position() - operations.get(j).getBufferStart();
         }
-        return receivedData;
     }
 
     /*
@@ -332,25 +547,25 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
 
     private int write(UserCredentials userCredentials, ReusableBuffer buffer, int count, long offset)
             throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
-        FileCredentials.Builder fcBuilder = FileCredentials.newBuilder();
-        synchronized (this) {
-            if (asyncWritesFailed) {
-                throw new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, "A previous asynchronous "
-                        + "write did fail. No further writes on this file handle are allowed.");
-            }
-            fcBuilder.setXcap(xcap.toBuilder());
+        FileCredentials fileCredentials = getFileCredentialsForWrite();
+        StripingPolicy stripingPolicy = fileCredentials.getXlocs().getReplicas(0).getStripingPolicy();
+        if (stripingPolicy.getParityWidth() == 0) {
+            return writeObjects(userCredentials, fileCredentials, buffer, count, offset);
         }
 
-        fcBuilder.setXlocs(fileInfo.getXLocSet());
-
-        String globalFileId = fcBuilder.getXcap().getFileId();
-        XLocSet xlocs = fcBuilder.getXlocs();
-
-        if (xlocs.getReplicasCount() == 0) {
-            String error = "No replica found for file: " + fileInfo.getPath();
-            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this, error);
-            throw new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, error);
+        // The data and parity objects of erasure-coded files are updated together, so that concurrent writes
+        // of this client do not interleave and degraded reads do not see partially updated rows.
+        synchronized (fileInfo.parityLock) {
+            writeObjects(userCredentials, fileCredentials, buffer, count, offset);
+            writeParity(userCredentials, fileCredentials, stripingPolicy, buffer, count, offset);
         }
+        return count;
+    }
+
+    private int writeObjects(UserCredentials userCredentials, FileCredentials fileCredentials,
+            ReusableBuffer buffer, int count, long offset) throws IOException, PosixErrorException,
+            AddressToUUIDNotFoundException {
+        XLocSet xlocs = fileCredentials.getXlocs();
 
         // Map operation to stripes.
         Vector<WriteOperation> operations = new Vector<WriteOperation>();
@@ -359,26 +574,10 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
 
         translator.translateWriteRequest(count, offset, stripingPolicy, buffer, operations);
 
-        FileCredentials fileCredentials = fcBuilder.build();
-
-        String osdUuid = "";
-        writeRequest.Builder request;
-
         if (asyncWritesEnabled) {
             // Write all objects.
             for (int j = 0; j < operations.size(); j++) {
-                request = writeRequest.newBuilder();
-                request.setFileCredentials(fileCredentials);
-                request.setFileId(globalFileId);
-
-                request.setObjectNumber(operations.get(j).getObjNumber());
-                request.setObjectVersion(0);
-                request.setOffset(operations.get(j).getReqOffset());
-                request.setLeaseTimeout(0);
-
-                ObjectData objectData = ObjectData.newBuilder().setChecksum(0).setInvalidChecksumOnOsd(false)
-                        .setZeroPadding(0).build();
-                request.setObjectData(objectData);
+                writeRequest request = createWriteRequest(fileCredentials, operations.get(j));
 
                 // Create new WriteBuffer and differ between striping and the
                 // rest (
@@ -388,11 +587,11 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
 
                 if (xlocs.getReplicas(0).getOsdUuidsCount() > 1) {
                     // Replica is striped. Pick UUID from xlocset
-                    writeBuffer = new AsyncWriteBuffer(request.build(), operations.get(j).getReqData(), operations.get(
+                    writeBuffer = new AsyncWriteBuffer(request, operations.get(j).getReqData(), operations.get(
                             j).getReqSize(), this, Helper.getOSDUUIDFromXlocSet(xlocs, 0, operations.get(j)
                             .getOsdOffset()));
                 } else {
-                    writeBuffer = new AsyncWriteBuffer(request.build(), operations.get(j).getReqData(), operations.get(
+                    writeBuffer = new AsyncWriteBuffer(request, operations.get(j).getReqData(), operations.get(
                             j).getReqSize(), this);
                 }
 
@@ -406,37 +605,12 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         } else {
             // synchroneous write
             for (int j = 0; j < operations.size(); j++) {
-                request = writeRequest.newBuilder();
-                request.setFileCredentials(fileCredentials);
-                request.setFileId(globalFileId);
-                request.setObjectNumber(operations.get(j).getObjNumber());
-                request.setObjectVersion(0);
-                request.setOffset(operations.get(j).getReqOffset());
-                request.setLeaseTimeout(0);
-
-                ObjectData objectData = ObjectData.newBuilder().setChecksum(0).setInvalidChecksumOnOsd(false)
-                        .setZeroPadding(0).build();
-
-                request.setObjectData(objectData);
-
-                // Differ between striping and the rest (replication, no
-                // replication).
-                UUIDIterator uuidIterator;
-                if (xlocs.getReplicas(0).getOsdUuidsCount() > 1) {
-                    // Replica is striped. Pick UUID from Xlocset. Use first and
-                    // only replica.
-                    osdUuid = Helper.getOSDUUIDFromXlocSet(xlocs, 0, operations.get(j).getOsdOffset());
-                    uuidIterator = new UUIDIterator();
-                    uuidIterator.clearAndAddUUID(osdUuid);
-                } else {
-                    // TODO: enhance UUIDIterator to read from different
-                    // replicas.
-                    uuidIterator = osdUuidIterator;
-                }
+                UUIDIterator uuidIterator = getWriteUuidIterator(xlocs, operations.get(j));
 
                 final ReusableBuffer writeDataBuffer = operations.get(j).getReqData();
                 OSDWriteResponse response = RPCCaller.<writeRequest, OSDWriteResponse> syncCall(SERVICES.OSD,
-                        userCredentials, authBogus, volumeOptions, uuidResolver, uuidIterator, false, request.build(),
+                        userCredentials, authBogus, volumeOptions, uuidResolver, uuidIterator, false,
+                        createWriteRequest(fileCredentials, operations.get(j)),
                         new CallGenerator<writeRequest, OSDWriteResponse>() {
 
                             @Override
@@ -459,9 +633,577 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
                 }
             }
         }
+
         return count;
     }
 
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.xtreemfs.common.libxtreemfs.FileHandle#writeAsync(org.xtreemfs.foundation.pbrpc.generatedinterfaces
+     * .RPC.UserCredentials, byte[], int, int, long)
+     */
+    @Override
+    public ClientFuture<Integer> writeAsync(final UserCredentials userCredentials, final byte[] data,
+            final int dataOffset, final int count, final long offset) {
+        final ClientFuture<Integer> result = new ClientFuture<Integer>();
+        writeFutureStarted();
+        result.addListener(new ClientFutureListener<Integer>() {
+            @Override
+            public void futureCompleted(ClientFuture<Integer> future) {
+                writeFutureCompleted();
+            }
+        });
+
+        FileCredentials fileCredentials;
+        StripingPolicy stripingPolicy;
+        StripeTranslator translator;
+        try {
+            fileCredentials = getFileCredentialsForWrite();
+            stripingPolicy = fileCredentials.getXlocs().getReplicas(0).getStripingPolicy();
+            translator = getStripeTranslator(stripingPolicy.getType());
+        } catch (IOException e) {
+            result.fail(e);
+            return result;
+        }
+
+        // The parity of erasure-coded files may have to be computed from data read back from the OSDs, which
+        // is implemented synchronously.
+        if (stripingPolicy.getParityWidth() > 0) {
+            volume.getAsyncOperationExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        result.complete(write(userCredentials, data, dataOffset, count, offset));
+                    } catch (IOException e) {
+                        result.fail(e);
+                    }
+                }
+            });
+            return result;
+        }
+
+        Vector<WriteOperation> operations = new Vector<WriteOperation>();
+        translator.translateWriteRequest(count, offset, stripingPolicy, ReusableBuffer.wrap(data, dataOffset,
+                count), operations);
+        if (operations.isEmpty()) {
+            result.complete(0);
+            return result;
+        }
+
+        // Send the writes of all objects at once and complete the result when the last one was acknowledged.
+        final AtomicInteger pendingWrites = new AtomicInteger(operations.size());
+        for (WriteOperation operation : operations) {
+            final ReusableBuffer writeDataBuffer = operation.getReqData();
+            ClientFuture<OSDWriteResponse> response = RPCCaller.<writeRequest, OSDWriteResponse> asyncCall(
+                    SERVICES.OSD, userCredentials, authBogus, volumeOptions, uuidResolver,
+                    getWriteUuidIterator(fileCredentials.getXlocs(), operation),
+                    false, createWriteRequest(fileCredentials, operation),
+                    new CallGenerator<writeRequest, OSDWriteResponse>() {
+
+                        @Override
+                        public RPCResponse<OSDWriteResponse> executeCall(InetSocketAddress server, Auth authHeader,
+                                UserCredentials userCreds, writeRequest input) throws IOException {
+
+                            return osdServiceClient.write(server, authHeader, userCreds, input,
+                                    writeDataBuffer.createViewBuffer());
+                        }
+                    });
+            response.addListener(new Continuation<OSDWriteResponse, Integer>(result) {
+                @Override
+                protected void proceed(OSDWriteResponse response) {
+                    // If the filesize has changed, remember OSDWriteResponse for later file size update
+                    // towards the MRC.
+                    if (response.hasSizeInBytes()) {
+                        fileInfo.tryToUpdateOSDWriteResponse(response, getXcap());
+                    }
+                    if (pendingWrites.decrementAndGet() == 0) {
+                        result.complete(count);
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Returns the credentials for a write to the file. Fails if the file handle cannot be used anymore or the
+     * file has no replicas.
+     */
+    private FileCredentials getFileCredentialsForWrite() throws PosixErrorException {
+        FileCredentials.Builder fcBuilder = FileCredentials.newBuilder();
+        synchronized (this) {
+            if (asyncWritesFailed) {
+                throw new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, "A previous asynchronous "
+                        + "write did fail. No further writes on this file handle are allowed.");
+            }
+            fcBuilder.setXcap(xcap.toBuilder());
+        }
+
+        fcBuilder.setXlocs(fileInfo.getXLocSet());
+
+        if (fcBuilder.getXlocs().getReplicasCount() == 0) {
+            String error = "No replica found for file: " + fileInfo.getPath();
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this, error);
+            throw new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, error);
+        }
+        return fcBuilder.build();
+    }
+
+    private writeRequest createWriteRequest(FileCredentials fileCredentials, WriteOperation operation) {
+        writeRequest.Builder request = writeRequest.newBuilder();
+        request.setFileCredentials(fileCredentials);
+        request.setFileId(fileCredentials.getXcap().getFileId());
+        request.setObjectNumber(operation.getObjNumber());
+        request.setObjectVersion(0);
+        request.setOffset(operation.getReqOffset());
+        request.setLeaseTimeout(0);
+
+        ObjectData objectData = ObjectData.newBuilder().setChecksum(0).setInvalidChecksumOnOsd(false)
+                .setZeroPadding(0).build();
+        request.setObjectData(objectData);
+        return request.build();
+    }
+
+    /**
+     * Returns the UUIDIterator with the OSDs a synchronous write of "operation" is sent to.
+     */
+    private UUIDIterator getWriteUuidIterator(XLocSet xlocs, WriteOperation operation) {
+        // Differ between striping and the rest (replication, no
+        // replication).
+        if (xlocs.getReplicas(0).getOsdUuidsCount() > 1) {
+            // Replica is striped. Pick UUID from Xlocset. Use first and
+            // only replica.
+            UUIDIterator uuidIterator = new UUIDIterator();
+            uuidIterator.clearAndAddUUID(Helper.getOSDUUIDFromXlocSet(xlocs, 0, operation.getOsdOffset()));
+            return uuidIterator;
+        } else {
+            // TODO: enhance UUIDIterator to read from different
+            // replicas.
+            return osdUuidIterator;
+        }
+    }
+
+    private void writeFutureStarted() {
+        synchronized (pendingWriteFuturesLock) {
+            pendingWriteFutures++;
+        }
+    }
+
+    private void writeFutureCompleted() {
+        synchronized (pendingWriteFuturesLock) {
+            if (--pendingWriteFutures == 0) {
+                pendingWriteFuturesLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Blocks until the futures of all writes sent by writeAsync() were completed.
+     */
+    private void waitForPendingWriteFutures() {
+        synchronized (pendingWriteFuturesLock) {
+            while (pendingWriteFutures > 0) {
+                try {
+                    pendingWriteFuturesLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes and writes the parity objects of all stripes of an erasure-coded file that were modified by a
+     * write of "count" bytes at "offset". The content of the row written last is kept in the FileInfo, so
+     * that only the first partial write of a row has to read it back from the OSDs. "buffer" may be null if
+     * no row is written completely, e.g. after a truncate. The caller has to hold the parity lock.
+     */
+    private void writeParity(UserCredentials userCredentials, FileCredentials fileCredentials,
+            StripingPolicy stripingPolicy, ReusableBuffer buffer, int count, long offset) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException {
+        final int stripeSize = stripingPolicy.getStripeSize() * 1024;
+        final int dataWidth = stripingPolicy.getWidth();
+        final int parityWidth = stripingPolicy.getParityWidth();
+        final int rowSize = stripeSize * dataWidth;
+        final ReedSolomonCode code = new ReedSolomonCode(dataWidth, parityWidth);
+
+        if (fileInfo.parityRowData == null || fileInfo.parityRowData.length != rowSize) {
+            fileInfo.parityRowData = new byte[rowSize];
+            fileInfo.parityRow = -1;
+        }
+        final byte[] rowData = fileInfo.parityRowData;
+
+        final byte[][] data = new byte[dataWidth][stripeSize];
+        for (long row = offset / rowSize; row <= (offset + count - 1) / rowSize; row++) {
+            final long rowStart = row * rowSize;
+            final int start = (int) (Math.max(offset, rowStart) - rowStart);
+            final int end = (int) (Math.min(offset + count, rowStart + rowSize) - rowStart);
+
+            if (row != fileInfo.parityRow && (start > 0 || end < rowSize)) {
+                // the rest of the row is unknown; the data that has just been written is read back as well
+                fileInfo.parityRow = -1;
+                fileInfo.parityRowLength = read(userCredentials, rowData, 0, rowSize, rowStart);
+                Arrays.fill(rowData, fileInfo.parityRowLength, rowSize, (byte) 0);
+            } else {
+                ReusableBuffer viewBuffer = buffer.createViewBuffer();
+                viewBuffer.range((int) (rowStart + start - offset), end - start);
+                viewBuffer.get(rowData, start, end - start);
+                if (row != fileInfo.parityRow) {
+                    // the row was written completely
+                    fileInfo.parityRowLength = rowSize;
+                } else {
+                    fileInfo.parityRowLength = Math.max(fileInfo.parityRowLength, end);
+                }
+            }
+            fileInfo.parityRow = row;
+
+            // the first object of a stripe is the longest one
+            final int rowLength = Math.min(fileInfo.parityRowLength, stripeSize);
+            if (rowLength == 0) {
+                continue;
+            }
+
+            for (int i = 0; i < dataWidth; i++) {
+                System.arraycopy(rowData, i * stripeSize, data[i], 0, stripeSize);
+            }
+            final byte[][] parity = new byte[parityWidth][rowLength];
+            code.encode(data, parity, rowLength);
+            for (int i = 0; i < parityWidth; i++) {
+                writeParityObject(userCredentials, fileCredentials, row * dataWidth, dataWidth + i,
+                        ReusableBuffer.wrap(parity[i]));
+            }
+        }
+    }
+
+    private void writeParityObject(UserCredentials userCredentials, FileCredentials fileCredentials, long objNo,
+            int osdIndex, final ReusableBuffer data) throws IOException, PosixErrorException,
+            AddressToUUIDNotFoundException {
+        final String osdUuid = Helper.getOSDUUIDFromXlocSet(fileCredentials.getXlocs(), 0, osdIndex);
+        ObjectData objectData = ObjectData.newBuilder().setChecksum(0).setInvalidChecksumOnOsd(false)
+                .setZeroPadding(0).build();
+        writeRequest request = writeRequest.newBuilder().setFileCredentials(fileCredentials)
+                .setFileId(fileCredentials.getXcap().getFileId()).setObjectNumber(objNo).setObjectVersion(0)
+                .setOffset(0).setLeaseTimeout(0).setObjectData(objectData).build();
+
+        if (asyncWritesEnabled) {
+            fileInfo.asyncWrite(new AsyncWriteBuffer(request, data, data.remaining(), this, osdUuid));
+        } else {
+            UUIDIterator uuidIterator = new UUIDIterator();
+            uuidIterator.clearAndAddUUID(osdUuid);
+            RPCCaller.<writeRequest, OSDWriteResponse> syncCall(SERVICES.OSD, userCredentials, authBogus,
+                    volumeOptions, uuidResolver, uuidIterator, false, request,
+                    new CallGenerator<writeRequest, OSDWriteResponse>() {
+
+                        @Override
+                        public RPCResponse<OSDWriteResponse> executeCall(InetSocketAddress server, Auth authHeader,
+                                UserCredentials userCreds, writeRequest input) throws IOException {
+
+                            return osdServiceClient.write(server, authHeader, userCreds, input,
+                                    data.createViewBuffer());
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Sends "request" to the first of "replicaUuids" and, if it is not answered within the configured
+     * percentile of the latencies of that replica, a hedged read to the second one. The data of the first
+     * successful response is put into "buf"; the other response is discarded when it arrives.
+     *
+     * Returns null without touching "buf" if too few latencies of the first replica are known or if no
+     * replica answered successfully. In this case, the caller has to retry the read as usual.
+     *
+     * @throws IOException
+     *             if the thread was interrupted while waiting for the responses. The interrupt flag is set again.
+     */
+    private ObjectData readHedged(readRequest request, ReusableBuffer buf, List<String> replicaUuids)
+            throws IOException {
+        final long hedgeDelayNs = volume.getOSDLatencyTracker().getPercentile(replicaUuids.get(0),
+                volumeOptions.getHedgedReadPercentile(), MIN_HEDGED_READ_SAMPLES);
+        if (hedgeDelayNs < 0) {
+            return null;
+        }
+
+        final HedgedRead hedgedRead = new HedgedRead();
+        final int replicas = Math.min(2, replicaUuids.size());
+        int sent = 0;
+        int pending = 0;
+        try {
+            while (true) {
+                if (pending == 0) {
+                    // Nothing is pending, e.g. because the first replica did fail immediately.
+                    if (sent == replicas) {
+                        return null;
+                    }
+                    if (hedgedRead.send(request, replicaUuids.get(sent++))) {
+                        pending++;
+                    }
+                    continue;
+                }
+                RPCResponse<ObjectData> response = sent < replicas ? hedgedRead.poll(hedgeDelayNs) : hedgedRead
+                        .take();
+                if (response == null) {
+                    if (hedgedRead.send(request, replicaUuids.get(sent++))) {
+                        pending++;
+                    }
+                    continue;
+                }
+                pending--;
+                ObjectData objectData = hedgedRead.receive(response, buf);
+                if (objectData != null) {
+                    return objectData;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Caught interrupt, aborting hedged read");
+        } finally {
+            hedgedRead.close();
+        }
+    }
+
+    /**
+     * Records the latency of a read request to an OSD and, if it belongs to a hedged read, passes the
+     * response on to it.
+     */
+    private class LatencyListener implements RPCResponseAvailableListener<ObjectData> {
+
+        private final String     osdUuid;
+
+        private final HedgedRead hedgedRead;
+
+        private final long       startTime;
+
+        LatencyListener(String osdUuid, HedgedRead hedgedRead) {
+            this.osdUuid = osdUuid;
+            this.hedgedRead = hedgedRead;
+            this.startTime = System.nanoTime();
+        }
+
+        @Override
+        public void responseAvailable(RPCResponse<ObjectData> response) {
+            if (response.hasFailed()) {
+                volume.getOSDLatencyTracker().recordFailure(osdUuid);
+            } else {
+                volume.getOSDLatencyTracker().recordLatency(osdUuid, System.nanoTime() - startTime);
+            }
+            if (hedgedRead != null) {
+                hedgedRead.responseAvailable(response);
+            }
+        }
+    }
+
+    /**
+     * Collects the responses of the read requests sent to different replicas for the same object.
+     * Responses which arrive after the read has completed are discarded.
+     */
+    private class HedgedRead {
+
+        private final BlockingQueue<RPCResponse<ObjectData>> responses;
+
+        private boolean                                      closed;
+
+        HedgedRead() {
+            responses = new LinkedBlockingQueue<RPCResponse<ObjectData>>();
+        }
+
+        /**
+         * Sends "request" to "osdUuid". Returns false if it could not be sent.
+         */
+        boolean send(readRequest request, String osdUuid) {
+            try {
+                InetSocketAddress server = RPCCaller.getInetSocketAddressFromAddress(
+                        uuidResolver.uuidToAddress(osdUuid), SERVICES.OSD);
+                LatencyListener listener = new LatencyListener(osdUuid, this);
+                osdServiceClient.read(server, authBogus, userCredentialsBogus, request).registerListener(listener);
+                return true;
+            } catch (IOException e) {
+                if (Logging.isDebug()) {
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
+                            "Sending hedged read to OSD %s failed: %s", osdUuid, e.toString());
+                }
+                return false;
+            }
+        }
+
+        RPCResponse<ObjectData> poll(long timeoutNs) throws InterruptedException {
+            return responses.poll(timeoutNs, TimeUnit.NANOSECONDS);
+        }
+
+        RPCResponse<ObjectData> take() throws InterruptedException {
+            return responses.take();
+        }
+
+        /**
+         * Returns the ObjectData of "response" and puts its data into "buf", or null if the request failed.
+         */
+        ObjectData receive(RPCResponse<ObjectData> response, ReusableBuffer buf) throws InterruptedException {
+            try {
+                ObjectData objectData = response.get();
+                if (response.getData() != null) {
+                    buf.put(response.getData());
+                }
+                return objectData;
+            } catch (IOException e) {
+                if (Logging.isDebug()) {
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "Hedged read failed: %s",
+                            e.toString());
+                }
+                return null;
+            } finally {
+                free(response);
+            }
+        }
+
+        synchronized void responseAvailable(RPCResponse<ObjectData> response) {
+            if (closed) {
+                discard(response);
+            } else {
+                responses.add(response);
+            }
+        }
+
+        /**
+         * Discards all responses that have not been received yet, including those that will arrive later.
+         */
+        synchronized void close() {
+            closed = true;
+            RPCResponse<ObjectData> response;
+            while ((response = responses.poll()) != null) {
+                discard(response);
+            }
+        }
+
+        private void discard(RPCResponse<ObjectData> response) {
+            try {
+                response.get();
+            } catch (Exception e) {
+                // The response is not needed anymore.
+            } finally {
+                free(response);
+            }
+        }
+
+        private void free(RPCResponse<ObjectData> response) {
+            try {
+                if (response.getData() != null) {
+                    BufferPool.free(response.getData());
+                }
+            } catch (InterruptedException e) {
+                // Cannot happen, as the response is available.
+            }
+            response.freeBuffers();
+        }
+    }
+
+    /**
+     * Serves a read operation on an unavailable data object of an erasure-coded file by reconstructing the
+     * object from the remaining objects of its stripe. If more than "width" other objects are available, the
+     * reconstruction is verified with an additional object, and the read fails if the parity of the stripe
+     * does not match its data.
+     */
+    private void readDegraded(UserCredentials userCredentials, FileCredentials fc, StripingPolicy policy,
+            ReadOperation operation, ReusableBuffer buf) throws IOException, PosixErrorException,
+            AddressToUUIDNotFoundException {
+        final int stripeSize = policy.getStripeSize() * 1024;
+        final int dataWidth = policy.getWidth();
+        final int parityWidth = policy.getParityWidth();
+        final long row = operation.getObjNumber() / dataWidth;
+
+        // read "dataWidth" + 1 of the other objects of the stripe; data beyond the end of an object is
+        // zero-padded, which does not affect the parity
+        final byte[][] shards = new byte[dataWidth + parityWidth][stripeSize];
+        final boolean[] present = new boolean[shards.length];
+        int available = 0;
+        int verifyShard = -1;
+        synchronized (fileInfo.parityLock) {
+            // parity objects written by this client may still be pending
+            fileInfo.waitForPendingAsyncWrites();
+
+            for (int i = 0; i < shards.length && available <= dataWidth; i++) {
+                if (i == operation.getOsdOffset()) {
+                    continue;
+                }
+                final long objNo = i < dataWidth ? row * dataWidth + i : row * dataWidth;
+                try {
+                    readShard(fc, objNo, i, shards[i]);
+                    if (available == dataWidth) {
+                        verifyShard = i;
+                    } else {
+                        present[i] = true;
+                    }
+                    available++;
+                } catch (IOException e) {
+                    if (!isReconstructible(e)) {
+                        throw e;
+                    }
+                    Logging.logMessage(Logging.LEVEL_WARN, Category.misc, this,
+                            "Reading object %d of file %s from OSD %d failed: %s", objNo, fileInfo.getPath(), i,
+                            e.toString());
+                }
+            }
+        }
+        if (available < dataWidth) {
+            throw new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, "cannot reconstruct object "
+                    + operation.getObjNumber() + " of file " + fileInfo.getPath() + ": only " + available
+                    + " of " + dataWidth + " required objects are available");
+        }
+
+        byte[] expected = null;
+        if (verifyShard != -1) {
+            expected = shards[verifyShard].clone();
+        }
+        new ReedSolomonCode(dataWidth, parityWidth).reconstruct(shards, present, stripeSize);
+        if (expected != null && !Arrays.equals(expected, shards[verifyShard])) {
+            throw new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, "cannot reconstruct object "
+                    + operation.getObjNumber() + " of file " + fileInfo.getPath()
+                    + ": the parity of the stripe does not match its data");
+        }
+
+        // the reconstructed object is zero-padded and has to be clipped to the file size
+        final long fileSize = getAttr(userCredentials).getSize();
+        final long start = operation.getObjNumber() * stripeSize + operation.getReqOffset();
+        final int length = (int) Math.max(0, Math.min(operation.getReqSize(), fileSize - start));
+        buf.position(operation.getBufferStart());
+        buf.put(shards[operation.getOsdOffset()], operation.getReqOffset(), length);
+    }
+
+    /**
+     * Returns true if a failed read of an object of an erasure-coded file may be served by reconstructing the
+     * object, i.e. if the OSD could not be reached or could not read the object. Other errors, e.g. denied
+     * access or an expired XCap, would occur for the remaining objects of the stripe as well.
+     */
+    private static boolean isReconstructible(IOException e) {
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        if (e instanceof PosixErrorException) {
+            return ((PosixErrorException) e).getPosixError() == POSIXErrno.POSIX_ERROR_EIO;
+        }
+        return !(e instanceof XtreemFSException) || e instanceof InvalidChecksumException;
+    }
+
+    private void readShard(FileCredentials fc, long objNo, int osdIndex, byte[] shard) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException {
+        readRequest request = readRequest.newBuilder().setFileCredentials(fc).setFileId(fc.getXcap().getFileId())
+                .setObjectNumber(objNo).setObjectVersion(0).setOffset(0).setLength(shard.length).build();
+        UUIDIterator uuidIterator = new UUIDIterator();
+        uuidIterator.clearAndAddUUID(Helper.getOSDUUIDFromXlocSet(fc.getXlocs(), 0, osdIndex));
+
+        RPCCaller.<readRequest, ObjectData> syncCall(SERVICES.OSD, userCredentialsBogus, authBogus, volumeOptions,
+                uuidResolver, uuidIterator, false, request, ReusableBuffer.wrap(shard),
+                new CallGenerator<readRequest, ObjectData>() {
+
+                    @Override
+                    public RPCResponse<ObjectData> executeCall(InetSocketAddress server, Auth auth,
+                            UserCredentials userCreds, readRequest callRequest) throws IOException {
+                        return osdServiceClient.read(server, auth, userCreds, callRequest);
+                    }
+                });
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -473,6 +1215,7 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
     }
 
     protected void flush(boolean closeFile) throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+        waitForPendingWriteFutures();
         fileInfo.flush(this, closeFile);
         throwIfAsyncWritesFailed();
     }
@@ -533,6 +1276,21 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
             xcap = truncateXCap;
         }
         truncatePhaseTwoAndThree(userCredentials, newFileSize, updateOnlyMRC);
+
+        // The OSDs truncate the parity objects like data objects, so the parity of the last stripe has to be
+        // recomputed.
+        XLocSet xlocs = fileInfo.getXLocSet();
+        StripingPolicy stripingPolicy = xlocs.getReplicas(0).getStripingPolicy();
+        if (stripingPolicy.getParityWidth() > 0) {
+            synchronized (fileInfo.parityLock) {
+                fileInfo.parityRow = -1;
+                if (!updateOnlyMRC && newFileSize > 0) {
+                    FileCredentials fc = FileCredentials.newBuilder().setXcap(getXcap()).setXlocs(xlocs).build();
+                    writeParity(userCredentials, fc, stripingPolicy, null, 1, newFileSize - 1);
+                }
+            }
+            fileInfo.waitForPendingAsyncWrites();
+        }
     }
 
     /**
@@ -900,29 +1658,16 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
     }
 
     protected void writeBackFileSizeAsync() throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
-        xtreemfs_update_file_sizeRequest.Builder rqBuilder = xtreemfs_update_file_sizeRequest.newBuilder();
-
-        synchronized (this) {
-            if (osdWriteResponseForAsyncWriteBack == null) {
-                return;
-            }
-            if (Logging.isDebug()) {
-                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "updateFileSize: %s " + "#bytes: %s",
-                        fileInfo.getPath(), osdWriteResponseForAsyncWriteBack.getSizeInBytes());
-            }
-            rqBuilder.setXcap(xcap).setOsdWriteResponse(osdWriteResponseForAsyncWriteBack.toBuilder());
+        xtreemfs_update_file_sizeRequest request = getFileSizeUpdateRequest();
+        if (request == null) {
+            return;
         }
 
-        // set close file to false because true implies synchronous call.
-        rqBuilder.setCloseFile(false);
-
         String address = uuidResolver.uuidToAddress(mrcUuidIterator.getUUID());
         InetSocketAddress server = RPCCaller.getInetSocketAddressFromAddress(address, SERVICES.MRC);
 
         RPCResponse<timestampResponse> r = mrcServiceClient.xtreemfs_update_file_size(server, authBogus,
-                userCredentialsBogus, rqBuilder.build());
-
-        final FileHandleImplementation fileHandle = this;
+                userCredentialsBogus, request);
 
         r.registerListener(new RPCResponseAvailableListener<timestampResponse>() {
 
@@ -930,13 +1675,13 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
             public void responseAvailable(RPCResponse<timestampResponse> r) {
                 try {
                     r.get();
-                    fileInfo.asyncFileSizeUpdateResponseHandler(osdWriteResponseForAsyncWriteBack, fileHandle, true);
+                    fileSizeWrittenBack(true);
                 } catch (Exception e) {
                     if (Logging.isDebug()) {
                         Logging.logMessage(Logging.LEVEL_DEBUG, this, "renewXcapAsync: The following "
                                 + "error occurred during the async all: ", e.getMessage());
                     }
-                    fileInfo.asyncFileSizeUpdateResponseHandler(osdWriteResponseForAsyncWriteBack, fileHandle, false);
+                    fileSizeWrittenBack(false);
                 } finally {
                     r.freeBuffers();
                 }
@@ -944,6 +1689,36 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         });
     }
 
+    /**
+     * Returns the request to write back the file size set with
+     * {@link #setOsdWriteResponseForAsyncWriteBack(OSDWriteResponse)}, or null if there is none.
+     */
+    protected xtreemfs_update_file_sizeRequest getFileSizeUpdateRequest() {
+        xtreemfs_update_file_sizeRequest.Builder rqBuilder = xtreemfs_update_file_sizeRequest.newBuilder();
+
+        synchronized (this) {
+            if (osdWriteResponseForAsyncWriteBack == null) {
+                return null;
+            }
+            if (Logging.isDebug()) {
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "updateFileSize: %s " + "#bytes: %s",
+                        fileInfo.getPath(), osdWriteResponseForAsyncWriteBack.getSizeInBytes());
+            }
+            rqBuilder.setXcap(xcap).setOsdWriteResponse(osdWriteResponseForAsyncWriteBack.toBuilder());
+        }
+
+        // set close file to false because true implies synchronous call.
+        rqBuilder.setCloseFile(false);
+        return rqBuilder.build();
+    }
+
+    /**
+     * Called when the asynchronous write back of the file size has been completed.
+     */
+    protected void fileSizeWrittenBack(boolean success) {
+        fileInfo.asyncFileSizeUpdateResponseHandler(osdWriteResponseForAsyncWriteBack, this, success);
+    }
+
     protected void setOsdWriteResponseForAsyncWriteBack(OSDWriteResponse osdwr) {
         synchronized (this) {
             assert (osdWriteResponseForAsyncWriteBack == null);
@@ -952,34 +1727,24 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
     }
 
     protected void renewXCapAsync() throws IOException, AddressToUUIDNotFoundException {
-        XCap xcapCopy;
-
-        synchronized (this) {
-            // TODO: Only renew after some time has elapsed.
-            // TODO: Cope with local clocks which have high clock skew.
-            if (Logging.isDebug()) {
-                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                        "Renew SCap for fileId: %s  Expiration in: %s", Helper.extractFileIdFromXcap(xcap),
-                        xcap.getExpireTimeoutS() - System.currentTimeMillis() / 1000);
-            }
-            xcapCopy = this.xcap.toBuilder().build();
-
-            synchronized (xcapRenewalPendingLock) {
-                xcapRenewalPending = true;
-            }
-        }
+        XCap xcapCopy = prepareXCapRenewal();
 
         String address = uuidResolver.uuidToAddress(mrcUuidIterator.getUUID());
         InetSocketAddress server = RPCCaller.getInetSocketAddressFromAddress(address, SERVICES.MRC);
-        RPCResponse<XCap> r = mrcServiceClient.xtreemfs_renew_capability(server, authBogus, userCredentialsBogus,
-                xcapCopy);
+        RPCResponse<XCap> r;
+        try {
+            r = mrcServiceClient.xtreemfs_renew_capability(server, authBogus, userCredentialsBogus, xcapCopy);
+        } catch (IOException e) {
+            xCapRenewalCompleted(null);
+            throw e;
+        }
 
         r.registerListener(new RPCResponseAvailableListener<XCap>() {
             @Override
             public void responseAvailable(RPCResponse<XCap> r) {
+                XCap newXCap = null;
                 try {
-                    XCap newXCap = r.get();
-                    setRenewedXcap(newXCap);
+                    newXCap = r.get();
                 } catch (Exception e) {
                     if (Logging.isDebug()) {
                         Logging.logMessage(Logging.LEVEL_DEBUG, this, "renewXcapAsync: Renewing XCap"
@@ -987,15 +1752,48 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
                     }
                 } finally {
                     r.freeBuffers();
-                    synchronized (xcapRenewalPendingLock) {
-                        xcapRenewalPending = false;
-                        xcapRenewalPendingLock.notifyAll();
-                    }
+                    xCapRenewalCompleted(newXCap);
                 }
             }
         });
     }
 
+    /**
+     * Marks a renewal of the XCap as pending and returns a copy of the current XCap.
+     */
+    protected XCap prepareXCapRenewal() {
+        synchronized (this) {
+            // TODO: Only renew after some time has elapsed.
+            // TODO: Cope with local clocks which have high clock skew.
+            if (Logging.isDebug()) {
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
+                        "Renew SCap for fileId: %s  Expiration in: %s", Helper.extractFileIdFromXcap(xcap),
+                        xcap.getExpireTimeoutS() - System.currentTimeMillis() / 1000);
+            }
+
+            synchronized (xcapRenewalPendingLock) {
+                xcapRenewalPending = true;
+            }
+            return this.xcap.toBuilder().build();
+        }
+    }
+
+    /**
+     * Completes a pending renewal of the XCap.
+     *
+     * @param newXCap
+     *            the renewed XCap, or null if the renewal failed
+     */
+    protected void xCapRenewalCompleted(XCap newXCap) {
+        if (newXCap != null) {
+            setRenewedXcap(newXCap);
+        }
+        synchronized (xcapRenewalPendingLock) {
+            xcapRenewalPending = false;
+            xcapRenewalPendingLock.notifyAll();
+        }
+    }
+
     private void setRenewedXcap(XCap newXCap) {
         synchronized (xcap) {
             // Overwrite current XCap only by a newer one (i.e. later expire time)
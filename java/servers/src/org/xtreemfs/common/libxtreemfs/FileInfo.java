@@ -8,6 +8,7 @@ package org.xtreemfs.common.libxtreemfs;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
@@ -151,6 +152,33 @@ public class FileInfo {
      */
     AsyncWriteHandler                                       asyncWriteHandler;
 
+    /**
+     * Serializes the writes and degraded reads of an erasure-coded file within this client, so that the data
+     * and parity objects of a row are updated together and degraded reads do not use parity objects which
+     * are being updated.
+     */
+    final Object                                            parityLock;
+
+    /**
+     * Number of the row of an erasure-coded file whose parity was computed last, or -1. The parity of
+     * further writes to this row is computed from "parityRowData" instead of reading the row back from the
+     * OSDs.
+     */
+    // JCIP @GuardedBy("parityLock")
+    long                                                    parityRow;
+
+    /**
+     * Content of "parityRow", zero-padded beyond "parityRowLength".
+     */
+    // JCIP @GuardedBy("parityLock")
+    byte[]                                                  parityRowData;
+
+    /**
+     * Number of bytes of "parityRow" which belong to the file.
+     */
+    // JCIP @GuardedBy("parityLock")
+    int                                                     parityRowLength;
+
     /**
      * 
      */
@@ -170,6 +198,8 @@ public class FileInfo {
 
         pathLock = new Object();
         xLocSetLock = new Object();
+        parityLock = new Object();
+        parityRow = -1;
 
         openFileHandles = new ConcurrentLinkedQueue<FileHandleImplementation>();
         activeLocks = new ConcurrentHashMap<Integer, Lock>();
@@ -348,6 +378,21 @@ public class FileInfo {
      */
     protected void writeBackFileSizeAsync() throws IOException, PosixErrorException,
             AddressToUUIDNotFoundException {
+        synchronized (osdWriteResponseLock) {
+            FileHandleImplementation fileHandle = prepareFileSizeWriteBack();
+            if (fileHandle != null) {
+                fileHandle.writeBackFileSizeAsync();
+            }
+        }
+    }
+
+    /**
+     * Marks a pending file size update as being written back asynchronously.
+     * 
+     * @return A temporary FileHandle which holds the file size update and has to be used to report the result
+     *         of the write back, or null if there is no pending file size update.
+     */
+    protected FileHandleImplementation prepareFileSizeWriteBack() {
         synchronized (osdWriteResponseLock) {
             // Only update pending file size updates.
             if (osdWriteResponse != null && osdWriteResponseStatus == FilesizeUpdateStatus.kDirty) {
@@ -356,11 +401,19 @@ public class FileInfo {
                 osdWriteResponseStatus = FilesizeUpdateStatus.kDirtyAndAsyncPending;
 
                 fileHandle.setOsdWriteResponseForAsyncWriteBack(osdWriteResponse);
-                fileHandle.writeBackFileSizeAsync();
+                return fileHandle;
             }
+            return null;
         }
     }
 
+    /**
+     * Returns the open file handles of this file.
+     */
+    protected Collection<FileHandleImplementation> getOpenFileHandles() {
+        return openFileHandles;
+    }
+
     /**
      * Renews xcap of all file handles of this file asynchronously.
      */
@@ -582,6 +635,13 @@ public class FileInfo {
         asyncWriteHandler.waitForPendingWrites();
     }
 
+    /**
+     * Returns true if waitForPendingAsyncWrites() would block.
+     */
+    protected boolean hasPendingAsyncWrites() {
+        return asyncWriteHandler.hasPendingWrites();
+    }
+
     /**
      * Same as flushPendingFileSizeUpdate(), takes special actions if called by close().
      * 
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.client.PBRPCException;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponseAvailableListener;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SERVICES;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest;
+
+/**
+ * Sends the periodic file size updates and XCap renewals of all open files of a volume to the MRC of the
+ * volume in batches, i.e. with one request per {@link #MAX_ENTRIES} files instead of one request per
+ * file.
+ *
+ * If the MRC does not support batches, the updates and renewals are sent with individual requests.
+ */
+public class MRCUpdateBatcher {
+
+    /**
+     * maximum number of file size updates or XCap renewals per request
+     */
+    public static final int            MAX_ENTRIES = 1024;
+
+    private final VolumeImplementation volume;
+
+    private volatile boolean           batchesSupported;
+
+    public MRCUpdateBatcher(VolumeImplementation volume) {
+        this.volume = volume;
+        this.batchesSupported = true;
+    }
+
+    /**
+     * Writes back the pending file size updates of all open files asynchronously.
+     */
+    public void writeBackFileSizes() {
+        List<FileHandleImplementation> handles = new ArrayList<FileHandleImplementation>();
+        for (FileInfo fileInfo : volume.getOpenFileTable().values()) {
+            FileHandleImplementation fileHandle = fileInfo.prepareFileSizeWriteBack();
+            if (fileHandle == null) {
+                continue;
+            }
+            handles.add(fileHandle);
+            if (handles.size() == MAX_ENTRIES) {
+                sendFileSizeUpdates(handles);
+                handles = new ArrayList<FileHandleImplementation>();
+            }
+        }
+        if (!handles.isEmpty()) {
+            sendFileSizeUpdates(handles);
+        }
+    }
+
+    /**
+     * Renews the XCaps of all open file handles asynchronously.
+     */
+    public void renewXCaps() {
+        List<FileHandleImplementation> handles = new ArrayList<FileHandleImplementation>();
+        for (FileInfo fileInfo : volume.getOpenFileTable().values()) {
+            for (FileHandleImplementation fileHandle : fileInfo.getOpenFileHandles()) {
+                handles.add(fileHandle);
+                if (handles.size() == MAX_ENTRIES) {
+                    sendXCapRenewals(handles);
+                    handles = new ArrayList<FileHandleImplementation>();
+                }
+            }
+        }
+        if (!handles.isEmpty()) {
+            sendXCapRenewals(handles);
+        }
+    }
+
+    private void sendFileSizeUpdates(final List<FileHandleImplementation> handles) {
+        if (!batchesSupported) {
+            sendFileSizeUpdatesIndividually(handles);
+            return;
+        }
+
+        final xtreemfs_update_batchRequest.Builder batch = xtreemfs_update_batchRequest.newBuilder();
+        final List<FileHandleImplementation> sent = new ArrayList<FileHandleImplementation>(handles.size());
+        for (FileHandleImplementation fileHandle : handles) {
+            xtreemfs_update_file_sizeRequest request = fileHandle.getFileSizeUpdateRequest();
+            if (request == null) {
+                fileHandle.fileSizeWrittenBack(false);
+            } else {
+                batch.addFileSizeUpdates(request);
+                sent.add(fileHandle);
+            }
+        }
+
+        send(batch.build(), new BatchCallback() {
+            @Override
+            public void completed(xtreemfs_update_batchResponse response) {
+                for (int i = 0; i < sent.size(); i++) {
+                    sent.get(i).fileSizeWrittenBack(response != null
+                            && !response.getFileSizeUpdateResults(i).hasError());
+                }
+            }
+
+            @Override
+            public void notSupported() {
+                sendFileSizeUpdatesIndividually(sent);
+            }
+        });
+    }
+
+    private void sendXCapRenewals(final List<FileHandleImplementation> handles) {
+        if (!batchesSupported) {
+            sendXCapRenewalsIndividually(handles);
+            return;
+        }
+
+        final xtreemfs_update_batchRequest.Builder batch = xtreemfs_update_batchRequest.newBuilder();
+        for (FileHandleImplementation fileHandle : handles) {
+            batch.addXcaps(fileHandle.prepareXCapRenewal());
+        }
+
+        send(batch.build(), new BatchCallback() {
+            @Override
+            public void completed(xtreemfs_update_batchResponse response) {
+                for (int i = 0; i < handles.size(); i++) {
+                    UpdateBatchResult result = response == null ? null : response.getXcapResults(i);
+                    handles.get(i).xCapRenewalCompleted(result != null && result.hasXcap() ? result.getXcap()
+                            : null);
+                }
+            }
+
+            @Override
+            public void notSupported() {
+                for (FileHandleImplementation fileHandle : handles) {
+                    fileHandle.xCapRenewalCompleted(null);
+                }
+                sendXCapRenewalsIndividually(handles);
+            }
+        });
+    }
+
+    private void sendFileSizeUpdatesIndividually(List<FileHandleImplementation> handles) {
+        for (FileHandleImplementation fileHandle : handles) {
+            try {
+                fileHandle.writeBackFileSizeAsync();
+            } catch (IOException e) {
+                fileHandle.fileSizeWrittenBack(false);
+                if (Logging.isDebug()) {
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
+                            "failed to update filesize. Reason: %s", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void sendXCapRenewalsIndividually(List<FileHandleImplementation> handles) {
+        for (FileHandleImplementation fileHandle : handles) {
+            try {
+                fileHandle.renewXCapAsync();
+            } catch (IOException e) {
+                if (Logging.isDebug()) {
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
+                            "failed to renew XCap. Reason: %s", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends a batch to the MRC and passes the response to the callback. The response is null if the batch
+     * failed as a whole.
+     */
+    private void send(final xtreemfs_update_batchRequest batch, final BatchCallback callback) {
+        if (size(batch) == 0) {
+            callback.completed(xtreemfs_update_batchResponse.getDefaultInstance());
+            return;
+        }
+
+        RPCResponse<xtreemfs_update_batchResponse> response;
+        try {
+            String address = volume.getUUIDResolver().uuidToAddress(volume.getMrcUuidIterator().getUUID());
+            InetSocketAddress server = RPCCaller.getInetSocketAddressFromAddress(address, SERVICES.MRC);
+            response = volume.getMrcServiceClient().xtreemfs_update_batch(server, volume.getAuthBogus(),
+                    volume.getUserCredentialsBogus(), batch);
+        } catch (IOException e) {
+            logFailure(batch, e);
+            callback.completed(null);
+            return;
+        }
+
+        response.registerListener(new RPCResponseAvailableListener<xtreemfs_update_batchResponse>() {
+            @Override
+            public void responseAvailable(RPCResponse<xtreemfs_update_batchResponse> r) {
+                xtreemfs_update_batchResponse results = null;
+                try {
+                    results = r.get();
+                    if (results.getFileSizeUpdateResultsCount() != batch.getFileSizeUpdatesCount()
+                            || results.getXcapResultsCount() != batch.getXcapsCount()) {
+                        throw new IOException("received " + size(results) + " results for " + size(batch)
+                                + " entries");
+                    }
+                } catch (PBRPCException e) {
+                    if (e.getErrorType() == ErrorType.INVALID_PROC_ID) {
+                        Logging.logMessage(Logging.LEVEL_INFO, Category.misc, this,
+                                "MRC does not support batched updates, sending individual requests");
+                        batchesSupported = false;
+                        results = null;
+                    } else {
+                        logFailure(batch, e);
+                        results = null;
+                    }
+                } catch (Exception e) {
+                    logFailure(batch, e);
+                    results = null;
+                } finally {
+                    r.freeBuffers();
+                }
+                if (batchesSupported) {
+                    callback.completed(results);
+                } else {
+                    callback.notSupported();
+                }
+            }
+        });
+    }
+
+    private static int size(xtreemfs_update_batchRequest batch) {
+        return batch.getFileSizeUpdatesCount() + batch.getXcapsCount();
+    }
+
+    private static int size(xtreemfs_update_batchResponse response) {
+        return response.getFileSizeUpdateResultsCount() + response.getXcapResultsCount();
+    }
+
+    private void logFailure(xtreemfs_update_batchRequest batch, Exception e) {
+        if (Logging.isDebug()) {
+            Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
+                    "failed to send batch of %d updates to the MRC. Reason: %s", size(batch), e.getMessage());
+        }
+    }
+
+    private interface BatchCallback {
+
+        void completed(xtreemfs_update_batchResponse response);
+
+        void notSupported();
+    }
+}
@@ -7,13 +7,13 @@
 package org.xtreemfs.common.libxtreemfs;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
@@ -26,56 +26,90 @@ import org.xtreemfs.pbrpc.generatedinterfaces.MRC.listxattrResponse;
 
 /**
  * Caches metadata for libxtreemfs.
+ * 
+ * The entries are distributed over several shards by the hash value of their path. Every shard has its own
+ * lock, so that threads which access different paths do not block each other. Every shard evicts its least
+ * recently used entry if it is full, i.e. the eviction order of the whole cache is an approximation of LRU.
  */
 public class MetadataCache {
 
+    /**
+     * Maximum number of shards.
+     */
+    static final int                                  MAX_SHARDS            = 64;
+
+    /**
+     * Minimum number of entries per shard. Caches with less than two times this number of entries are not
+     * split.
+     */
+    static final int                                  MIN_ENTRIES_PER_SHARD = 64;
+
+    /**
+     * Maximum number of negative entries cached per directory.
+     */
+    static final int                                  MAX_NEGATIVE_ENTRIES  = 1024;
+
     private final long                                maxNumberOfEntries;
 
     private final long                                ttlS;
 
+    /**
+     * Time to live of negative entries, i.e. of the information that a path does not exist. 0 if negative
+     * entries are not cached.
+     */
+    private final long                                negativeTtlS;
+
     private boolean                                   enabled;
 
     /**
-     * A map containing all {@link MetadataCacheEntry} in insertion order. Also it is possible to access an
-     * entry in a hashmap like way in time O(1).
+     * The shards which contain the {@link MetadataCacheEntry} objects. The number of shards is a power of
+     * two.
      */
-    private final LinkedHashMap<String, MetadataCacheEntry> cache;
+    private final Shard[]                             shards;
 
     /**
-     * A map sorted by the path. This is used to iterate recursively over a path when a directory is
+     * A set sorted by the path. This is used to iterate recursively over a path when a directory is
      * invalidated to delete all subdirectories and files belonging to the invalidated directory from the
-     * cache.
+     * cache. It does not require a lock of its own; a path is only added or removed while holding the lock of
+     * its shard.
      */
-    private final SortedSet<String>                         pathIndex;
-
-    private final ReadWriteLock                             readWriteLock;
+    private final ConcurrentSkipListSet<String>       pathIndex;
 
     /**
-     * Lock that is used when writing to the "pathIndex" and "cache" together.
+     * MetadataCache for Stat, listxattrResponse and XAttr objects per path.
+     * 
      */
-    private final Lock                                      writeLock;
+    protected MetadataCache(long maxNumberOfEntries, long ttlS) {
+        this(maxNumberOfEntries, ttlS, 0);
+    }
 
     /**
-     * Lock that is used when reading "pathIndex" and "cache" together.
+     * MetadataCache which additionally caches for "negativeTtlS" seconds that a path does not exist.
      */
-    private final Lock                                      readLock;
+    protected MetadataCache(long maxNumberOfEntries, long ttlS, long negativeTtlS) {
+        this(maxNumberOfEntries, ttlS, negativeTtlS, getDefaultNumberOfShards(maxNumberOfEntries));
+    }
 
     /**
-     * MetadataCache for Stat, listxattrResponse and XAttr objects per path.
-     * 
+     * MetadataCache with "numberOfShards" shards, which has to be a power of two.
      */
-    protected MetadataCache(long maxNumberOfEntries, long ttlS) {
+    MetadataCache(long maxNumberOfEntries, long ttlS, long negativeTtlS, int numberOfShards) {
+        assert (numberOfShards > 0 && (numberOfShards & (numberOfShards - 1)) == 0);
+
         this.maxNumberOfEntries = maxNumberOfEntries;
         this.ttlS = ttlS;
+        this.negativeTtlS = negativeTtlS;
 
         enabled = maxNumberOfEntries > 0 ? true : false;
 
-        cache = new LinkedHashMap<String, MetadataCacheEntry>();
-        pathIndex = new TreeSet<String>();
+        pathIndex = new ConcurrentSkipListSet<String>();
 
-        readWriteLock = new ReentrantReadWriteLock();
-        writeLock = readWriteLock.writeLock();
-        readLock = readWriteLock.readLock();
+        // distribute the capacity over the shards, rounding up
+        long shardCapacity = (maxNumberOfEntries + numberOfShards - 1) / numberOfShards;
+        shards = new Shard[numberOfShards];
+        for (int i = 0; i < numberOfShards; i++) {
+            shards[i] = new Shard(shardCapacity);
+        }
     }
 
     /**
@@ -89,12 +123,12 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            cache.remove(path);
-            pathIndex.remove(path);
+            shard.remove(path);
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
@@ -108,35 +142,23 @@ public class MetadataCache {
         if (path.isEmpty() || !enabled) {
             return;
         }
-        // collect all entries that should be removed from pathIndex to remove them at the end.
-        List<String> indicesToRemove = new ArrayList<String>();
 
-        writeLock.lock();
-        try {
-            // At first, delete "path" from "cache" and "pathIndex"
-            cache.remove(path);
-            pathIndex.remove(path);
-
-            // At second, remove all entries which have "path" respectively "path+'/'"
-            if (!path.endsWith("/")) {
-                path = path + "/";
-            }
-
-            for (String deletePath : pathIndex.tailSet(path)) {
-                // if the we reach the first element which don't have "path" as
-                // prefix we are finished.
-                if (!deletePath.startsWith(path)) {
-                    break;
-                }
+        // At first, delete "path" itself.
+        invalidate(path);
 
-                // else delete this element from "pathIndex"and "cache"
-                cache.remove(deletePath);
-                indicesToRemove.add(deletePath);
+        // At second, remove all entries which have "path" respectively "path+'/'" as prefix. The iterator
+        // of "pathIndex" is weakly consistent, i.e. the shards are locked one after another and entries can
+        // be removed while iterating.
+        if (!path.endsWith("/")) {
+            path = path + "/";
+        }
+        for (String deletePath : pathIndex.tailSet(path)) {
+            // if the we reach the first element which don't have "path" as
+            // prefix we are finished.
+            if (!deletePath.startsWith(path)) {
+                break;
             }
-            // do the removing after looping over "pathIndex" to avoid ConcurrentModificationException
-            pathIndex.removeAll(indicesToRemove);
-        } finally {
-            writeLock.unlock();
+            invalidate(deletePath);
         }
     }
 
@@ -152,45 +174,55 @@ public class MetadataCache {
         if (path.isEmpty() || !enabled) {
             return;
         }
-        // Temporary TreeSet to store the new paths
-        TreeSet<String> tempPaths = new TreeSet<String>();
 
-        writeLock.lock();
-        try {
-            // At first, rename the directory itself.
-            MetadataCacheEntry entry = cache.remove(path);
-            cache.put(newPath, entry);
-
-            // Seconde, rename all entries with prefix that matches "path" respectively "path+'/'"
-            if (!path.endsWith("/"))
-                path = path + "/";
-            if (!newPath.endsWith("/"))
-                newPath = newPath + "/";
-
-            for (String renamePath : pathIndex.tailSet(path)) {
-                // if the we reach the first element which don't have "path" as
-                // prefix we are finished.
-                if (!renamePath.startsWith(path)) {
-                    break;
-                }
+        // At first, rename the directory itself.
+        move(path, newPath);
+
+        // Second, rename all entries with prefix that matches "path" respectively "path+'/'". The paths are
+        // collected first, as the new paths may be inserted into the range which is iterated.
+        if (!path.endsWith("/"))
+            path = path + "/";
+        if (!newPath.endsWith("/"))
+            newPath = newPath + "/";
+
+        List<String> renamePaths = new ArrayList<String>();
+        for (String renamePath : pathIndex.tailSet(path)) {
+            // if the we reach the first element which don't have "path" as
+            // prefix we are finished.
+            if (!renamePath.startsWith(path)) {
+                break;
+            }
+            renamePaths.add(renamePath);
+        }
 
-                // delete object from cache and insert it with new path
-                entry = cache.remove(renamePath);
-                cache.put(renamePath.replaceFirst(path, newPath), entry);
+        for (String renamePath : renamePaths) {
+            move(renamePath, newPath + renamePath.substring(path.length()));
+        }
+    }
 
-                // add the oldPath to the "tempPaths" in order to remove them later from "pathIndex"
-                // and add them with the new path
-                tempPaths.add(renamePath.replaceFirst(path, newPath));
-            }
+    /**
+     * Moves the entry cached for "path" to "newPath", which is usually stored in another shard.
+     */
+    private void move(String path, String newPath) {
+        MetadataCacheEntry entry;
+        Shard shard = getShard(path);
+        shard.lock.lock();
+        try {
+            entry = shard.remove(path);
+        } finally {
+            shard.lock.unlock();
+        }
+        if (entry == null) {
+            return;
+        }
 
-            // remove all collected tempPaths to the "pathIndex" and readd them with the correct new
-            // path
-            for (String tmpPath : tempPaths) {
-                pathIndex.remove(tmpPath);
-                pathIndex.add(tmpPath.replace(path, newPath));
-            }
+        entry.setPath(newPath);
+        shard = getShard(newPath);
+        shard.lock.lock();
+        try {
+            shard.put(newPath, entry);
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
@@ -206,9 +238,10 @@ public class MetadataCache {
             return null;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             if (entry != null) { // cache hit
                 // We must never have cached a hard link.
                 assert (entry.getStat() == null || entry.getStat().getNlink() == 1);
@@ -228,18 +261,17 @@ public class MetadataCache {
                     if (entry.getTimeoutS() < currentTimeS) {
                         // Free MetadataCacheEntry and delete from Index. This increases the
                         // run time of GetStat() roughly by factor 3.
-                        cache.remove(path);
-                        pathIndex.remove(path);
+                        shard.remove(path);
                     }
                 }
             } else { // cache miss
                 if (Logging.isDebug()) {
                     Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                            "MetadataCache getStat miss: ", cache.size());
+                            "MetadataCache getStat miss: ", shard.entries.size());
                 }
             }
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
         return null;
     }
@@ -257,10 +289,13 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        // "path" exists
+        invalidateNegativeEntry(path);
+
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            // remove entry if it exists in the cache
-            MetadataCacheEntry entry = cache.remove(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             if (entry == null) { // cache miss. entry has to be created
 
                 if (Logging.isDebug()) {
@@ -268,10 +303,7 @@ public class MetadataCache {
                             "MetadataCache: registering %s", path);
                 }
                 entry = new MetadataCacheEntry();
-
-                // entry doesn't exists yet in cache => there is no entry "pathIndex" for it. We
-                // have to create one.
-                pathIndex.add(path);
+                entry.setPath(path);
             }
 
             // set net stat object and update timeouts
@@ -279,12 +311,11 @@ public class MetadataCache {
             entry.setStatTimeoutS(System.currentTimeMillis() / 1000 + ttlS);
             entry.setTimeoutS(entry.getStatTimeoutS());
 
-            // (re-)add entry to "cache"
-            evictUnmutexed(1);
-            cache.put(path, entry);
+            // (re-)add entry to the shard; this also marks it as most recently used
+            shard.put(path, entry);
 
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
@@ -306,9 +337,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
 
             if (entry != null) {
                 if (entry.getStat() == null) {
@@ -336,13 +368,9 @@ public class MetadataCache {
                 entry.setStat(newStat.build());
                 entry.setStatTimeoutS(System.currentTimeMillis() / 1000 + ttlS);
                 entry.setTimeoutS(entry.getStatTimeoutS());
-
-                // readd the entry in the cache
-                cache.remove(path);
-                cache.put(path, entry);
             }
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
@@ -361,9 +389,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
 
             if (entry != null) {
                 if (entry.getStat() == null) {
@@ -429,16 +458,13 @@ public class MetadataCache {
                             "MetadataCache UpdateStatAttributes: %s toSet: %s", path, toSet);
                 }
 
-                // update stat, timeouts and then re-add "entry" to the cache
+                // update stat and timeouts
                 entry.setStat(statBuilder.build());
                 entry.setStatTimeoutS(System.currentTimeMillis() / 1000 + ttlS);
                 entry.setTimeoutS(entry.getStatTimeoutS());
-
-                cache.remove(path);
-                cache.put(path, entry);
             }
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
@@ -455,9 +481,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             if (entry != null) {
                 if (entry.getStat() == null) {
                     return;
@@ -474,7 +501,7 @@ public class MetadataCache {
                 }
             }
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
@@ -495,9 +522,10 @@ public class MetadataCache {
             return null;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             if (entry != null && entry.getDirectoryEntries() != null) {
                 long currentTimeS = System.currentTimeMillis() / 1000;
                 if (entry.getDirectoryEntriesTimeoutS() >= currentTimeS) { // entry is valid => use it
@@ -508,14 +536,14 @@ public class MetadataCache {
                     if (offset == 0 && count >= entry.getDirectoryEntries().getEntriesCount()) {
                         if (Logging.isDebug()) {
                             Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                                    "MetadataCache getDirEntries() hit: %s [%s]", path, cache.size());
+                                    "MetadataCache getDirEntries() hit: %s [%s]", path, shard.entries.size());
                         }
                         result = entry.getDirectoryEntries().toBuilder();
                     } else { // copy just the selected entries from cache
                         if (Logging.isDebug()) {
                             Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
                                     "MetadataCache getDirectoryEntries() hit (partial copy): "
-                                            + "%s [%s] offset: %s", path, cache.size(), offset);
+                                            + "%s [%s] offset: %s", path, shard.entries.size(), offset);
                         }
                         result = DirectoryEntries.newBuilder();
                         for (int i = offset; i < offset + count; i++) {
@@ -531,14 +559,13 @@ public class MetadataCache {
 
                     // Only delete object, if the maximum timeout is reached.
                     if (entry.getTimeoutS() < currentTimeS) {
-                        cache.remove(path);
-                        pathIndex.remove(path);
+                        shard.remove(path);
                     }
                     return null;
                 }
             }
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
 
         if (Logging.isDebug()) {
@@ -548,6 +575,131 @@ public class MetadataCache {
         return null;
     }
 
+    /**
+     * Returns true if it is cached that "path" does not exist.
+     * 
+     * @param path
+     *            Path of the object.
+     */
+    protected boolean hasNegativeEntry(String path) {
+        if (path.isEmpty() || !enabled || negativeTtlS <= 0 || path.equals("/") || path.endsWith("/")) {
+            return false;
+        }
+
+        // The negative entries are stored in the entry of the parent directory, so that they are dropped
+        // as soon as the directory is modified.
+        String parentDir = Helper.resolveParentDirectory(path);
+        String name = Helper.getBasename(path);
+
+        Shard shard = getShard(parentDir);
+        shard.lock.lock();
+        try {
+            MetadataCacheEntry entry = shard.entries.get(parentDir);
+            if (entry == null || entry.getNegativeEntries() == null) {
+                return false;
+            }
+
+            Long timeoutS = entry.getNegativeEntries().get(name);
+            if (timeoutS == null) {
+                return false;
+            }
+            if (timeoutS >= System.currentTimeMillis() / 1000) {
+                if (Logging.isDebug()) {
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
+                            "MetadataCache hasNegativeEntry() hit: %s", path);
+                }
+                return true;
+            }
+
+            entry.getNegativeEntries().remove(name);
+            return false;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Stores that "path" does not exist, e.g. because the MRC returned ENOENT. Any entries cached for "path"
+     * are removed.
+     * 
+     * @param path
+     *            Path of the object which does not exist.
+     */
+    protected void updateNegativeEntry(String path) {
+        if (path.isEmpty() || !enabled || negativeTtlS <= 0 || path.equals("/") || path.endsWith("/")) {
+            return;
+        }
+
+        invalidatePrefix(path);
+
+        String parentDir = Helper.resolveParentDirectory(path);
+        String name = Helper.getBasename(path);
+        long currentTimeS = System.currentTimeMillis() / 1000;
+
+        Shard shard = getShard(parentDir);
+        shard.lock.lock();
+        try {
+            MetadataCacheEntry entry = shard.entries.get(parentDir);
+            boolean created = false;
+
+            if (entry == null) {
+                entry = new MetadataCacheEntry();
+                entry.setPath(parentDir);
+                created = true;
+            }
+
+            Map<String, Long> negativeEntries = entry.getNegativeEntries();
+            if (negativeEntries == null) {
+                negativeEntries = new HashMap<String, Long>();
+                entry.setNegativeEntries(negativeEntries);
+            }
+
+            if (negativeEntries.size() >= MAX_NEGATIVE_ENTRIES && !negativeEntries.containsKey(name)) {
+                // drop expired entries; if the directory is still full, the path is not cached
+                Iterator<Long> timeouts = negativeEntries.values().iterator();
+                while (timeouts.hasNext()) {
+                    if (timeouts.next() < currentTimeS) {
+                        timeouts.remove();
+                    }
+                }
+                if (negativeEntries.size() >= MAX_NEGATIVE_ENTRIES) {
+                    return;
+                }
+            }
+
+            negativeEntries.put(name, currentTimeS + negativeTtlS);
+            entry.setTimeoutS(Math.max(entry.getTimeoutS(), currentTimeS + negativeTtlS));
+
+            if (created) {
+                shard.put(parentDir, entry);
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the negative entry of "path", if there is one.
+     */
+    private void invalidateNegativeEntry(String path) {
+        if (negativeTtlS <= 0 || path.equals("/") || path.endsWith("/")) {
+            return;
+        }
+
+        String parentDir = Helper.resolveParentDirectory(path);
+
+        Shard shard = getShard(parentDir);
+        shard.lock.lock();
+        try {
+            MetadataCacheEntry entry = shard.entries.get(parentDir);
+            if (entry != null && entry.getNegativeEntries() != null) {
+                entry.getNegativeEntries().remove(Helper.getBasename(path));
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
     /**
      * Invalidates the stat entry stored for "path".
      * 
@@ -559,15 +711,16 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             if (entry != null) {
                 entry.setStat(null);
                 entry.setStatTimeoutS(0);
             }
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
@@ -587,9 +740,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             boolean created = false;
 
             if (entry == null) { // entry does not exist, create new one
@@ -604,23 +758,21 @@ public class MetadataCache {
 
             entry.setDirectoryEntries(dirEntries);
             entry.setDirectoryEntriesTimeoutS(System.currentTimeMillis() / 1000 + ttlS);
+            // the directory may have been modified, i.e. negative entries may be outdated
+            entry.setNegativeEntries(null);
             entry.setTimeoutS(entry.getDirectoryEntriesTimeoutS());
 
             if (created) {
-                evictUnmutexed(1);
-                pathIndex.add(path);
-                cache.put(path, entry);
-            } else {
-                cache.remove(path);
-                cache.put(path, entry);
+                shard.put(path, entry);
             }
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
     /**
-     * Removes "entryName" from the cached directory "pathToDirectory".
+     * Removes "entryName" from the cached directory "pathToDirectory". Also removes the negative entries of
+     * the directory.
      * 
      * @param pathToDirectory
      *            Path of the cached directory.
@@ -632,10 +784,12 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(pathToDirectory);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(pathToDirectory);
+            MetadataCacheEntry entry = shard.entries.get(pathToDirectory);
             if (entry != null) {
+                entry.setNegativeEntries(null);
                 if (entry.getDirectoryEntries() == null) {
                     return;
                 }
@@ -652,12 +806,12 @@ public class MetadataCache {
             }
 
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
     /**
-     * Remove cached DirectoryEntries in cache for path.
+     * Remove cached DirectoryEntries and negative entries in cache for path.
      * 
      * @param path
      *            Path of the cached object.
@@ -667,15 +821,17 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             if (entry != null) {
                 entry.setDirectoryEntries(null);
                 entry.setDirectoryEntriesTimeoutS(0);
+                entry.setNegativeEntries(null);
             }
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
@@ -699,9 +855,10 @@ public class MetadataCache {
             return new Tupel<String, Boolean>(null, xattrsCached);
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             long currentTimeMS = System.currentTimeMillis() / 1000;
 
             if (entry != null && entry.getXattrs() != null) {
@@ -713,7 +870,7 @@ public class MetadataCache {
                         if (xattr.getName().equals(name)) {
                             if (Logging.isDebug()) {
                                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                                        "MetadataCache getXattr() hit: %s [%s]", path, cache.size());
+                                        "MetadataCache getXattr() hit: %s [%s]", path, shard.entries.size());
                             }
                             return new Tupel<String, Boolean>(xattr.getValue(), xattrsCached);
                         }
@@ -728,20 +885,19 @@ public class MetadataCache {
                     }
                     // Only delete object if maximum timeout is reached.
                     if (entry.getTimeoutS() < currentTimeMS) {
-                        cache.remove(path);
-                        pathIndex.remove(path);
+                        shard.remove(path);
                     }
                     return new Tupel<String, Boolean>(null, xattrsCached);
                 }
             }
 
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
 
         if (Logging.isDebug()) {
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                    "MetadataCache getXattr() miss: %s [%s]", path, cache.size());
+                    "MetadataCache getXattr() miss: %s [%s]", path, shard.entries.size());
         }
         return new Tupel<String, Boolean>(null, xattrsCached);
     }
@@ -762,9 +918,10 @@ public class MetadataCache {
     protected Tupel<Integer, Boolean> getXAttrSize(String path, String name) {
         boolean xattrCached = false;
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             long currentTimeS = System.currentTimeMillis() / 1000;
 
             if (entry != null && entry.getXattrs() != null) {
@@ -775,7 +932,8 @@ public class MetadataCache {
 
                             if (Logging.isDebug()) {
                                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                                        "MetadataCache getXattrSize() hit: %s [%s]", path, cache.size());
+                                        "MetadataCache getXattrSize() hit: %s [%s]", path,
+                                        shard.entries.size());
                             }
                             return new Tupel<Integer, Boolean>(xattr.getValue().length(), xattrCached);
                         }
@@ -789,19 +947,18 @@ public class MetadataCache {
 
                     // only delete entry when overall timeout is expired
                     if (entry.getTimeoutS() < currentTimeS) {
-                        cache.remove(path);
-                        pathIndex.remove(path);
+                        shard.remove(path);
                     }
                 }
             }
 
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
 
         if (Logging.isDebug()) {
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                    "MetadataCache getXattrSize() miss: %s [%s]", path, cache.size());
+                    "MetadataCache getXattrSize() miss: %s [%s]", path, shard.entries.size());
         }
         return new Tupel<Integer, Boolean>(0, xattrCached);
     }
@@ -814,9 +971,10 @@ public class MetadataCache {
      * @return {@link listxattrResponse} or null.
      */
     protected listxattrResponse getXAttrs(String path) {
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             long currentTimeS = System.currentTimeMillis() / 1000;
 
             if (entry != null && entry.getXattrs() != null) {
@@ -824,30 +982,29 @@ public class MetadataCache {
 
                     if (Logging.isDebug()) {
                         Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                                "MetadataCache getXattrs() hit: %s [%s]", path, cache.size());
+                                "MetadataCache getXattrs() hit: %s [%s]", path, shard.entries.size());
                     }
                     return entry.getXattrs();
 
                 } else { // entry is expired => remove it
                     if (Logging.isDebug()) {
                         Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                                "MetadataCache getXattrs() expired: %s", path, cache.size());
+                                "MetadataCache getXattrs() expired: %s", path, shard.entries.size());
                     }
 
                     // only delete object when overall timeout is expired
                     if (entry.getTimeoutS() < currentTimeS) {
-                        cache.remove(path);
-                        pathIndex.remove(path);
+                        shard.remove(path);
                     }
                     return null;
                 }
             }
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
         if (Logging.isDebug()) {
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                    "MetadataCache getXattrs() miss %s [%s]", path, cache.size());
+                    "MetadataCache getXattrs() miss %s [%s]", path, shard.entries.size());
         }
         return null;
     }
@@ -868,10 +1025,11 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
             // check if there is already an entry for "path"
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             if (entry == null) {
                 // Don't create a new entry with an incomplete xattr list.
                 return;
@@ -910,7 +1068,7 @@ public class MetadataCache {
             // Replace the existing entry in cache - do not update TTL
             entry.setXattrs(newXattrs.build());
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
@@ -929,9 +1087,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             // create a new entry if there isn't one in cache
             if (entry == null) {
 
@@ -947,14 +1106,10 @@ public class MetadataCache {
             entry.setXattrTimeoutS(System.currentTimeMillis() / 1000 + ttlS);
             entry.setTimeoutS(entry.getXattrTimeoutS());
 
-            // we have to remove and readd the entry. If it was not in cache we are dealing with a
-            // new entry and we have to insert in "pathIndex" too
-            if (cache.remove(path) == null) {
-                pathIndex.add(path);
-            }
-            cache.put(path, entry);
+            // (re-)add entry to the shard; this also marks it as most recently used
+            shard.put(path, entry);
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
@@ -971,9 +1126,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             if (entry == null) {
                 // there is no entry in the cache => nothing to do
                 return;
@@ -1001,7 +1157,7 @@ public class MetadataCache {
             entry.setXattrs(xattrs.build());
 
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
@@ -1016,16 +1172,17 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Shard shard = getShard(path);
+        shard.lock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = shard.entries.get(path);
             if (entry != null) {
                 entry.setXattrs(null);
                 entry.setXattrTimeoutS(0);
             }
 
         } finally {
-            writeLock.unlock();
+            shard.lock.unlock();
         }
     }
 
@@ -1035,12 +1192,16 @@ public class MetadataCache {
      * @return long
      */
     protected long size() {
-        readLock.lock();
-        try {
-            return cache.size();
-        } finally {
-            readLock.unlock();
+        long size = 0;
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                size += shard.entries.size();
+            } finally {
+                shard.lock.unlock();
+            }
         }
+        return size;
     }
 
     /**
@@ -1053,22 +1214,75 @@ public class MetadataCache {
     }
 
     /**
-     * Evicts first n oldest entries from cache.
+     * Returns the number of shards used for a cache with "maxNumberOfEntries" entries. Small caches are not
+     * split, so that their eviction order is exactly LRU.
+     */
+    static int getDefaultNumberOfShards(long maxNumberOfEntries) {
+        int numberOfShards = 1;
+        while (numberOfShards < MAX_SHARDS
+                && maxNumberOfEntries / (numberOfShards * 2) >= MIN_ENTRIES_PER_SHARD) {
+            numberOfShards *= 2;
+        }
+        return numberOfShards;
+    }
+
+    private Shard getShard(String path) {
+        int hash = path.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+    }
+
+    /**
+     * Part of the cache which contains all paths with the same hash value modulo the number of shards. The
+     * entries are kept in access order and the least recently used entry of the shard is evicted if the
+     * shard is full.
      * 
-     * @param n
-     *            Number of elements that should be evicted.
+     * "entries" and the paths of the shard in "pathIndex" may only be modified while holding "lock".
      */
-    private void evictUnmutexed(int n) {
-        while (cache.size() > maxNumberOfEntries - n) {
-            if (Logging.isDebug()) {
-                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                        "MetadataCache evictUnmutexed: Deleting one entry from cache; "
-                                + "entries in total: %s", cache.size());
+    private final class Shard {
+
+        private final ReentrantLock                             lock;
+
+        private final LinkedHashMap<String, MetadataCacheEntry> entries;
+
+        private final long                                      capacity;
+
+        Shard(long capacity) {
+            this.capacity = capacity;
+            this.lock = new ReentrantLock();
+            this.entries = new LinkedHashMap<String, MetadataCacheEntry>(16, 0.75f, true);
+        }
+
+        /**
+         * Adds or replaces the entry for "path" and evicts the least recently used entries if the shard is
+         * full.
+         */
+        void put(String path, MetadataCacheEntry entry) {
+            if (entries.put(path, entry) == null) {
+                pathIndex.add(path);
+            }
+
+            Iterator<String> lruPaths = entries.keySet().iterator();
+            while (entries.size() > capacity) {
+                String evictedPath = lruPaths.next();
+                if (Logging.isDebug()) {
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, MetadataCache.this,
+                            "MetadataCache: Deleting one entry from cache; entries in shard: %s",
+                            entries.size());
+                }
+                lruPaths.remove();
+                pathIndex.remove(evictedPath);
+            }
+        }
+
+        /**
+         * Removes the entry for "path" and returns it, or null if "path" was not cached.
+         */
+        MetadataCacheEntry remove(String path) {
+            MetadataCacheEntry entry = entries.remove(path);
+            if (entry != null) {
+                pathIndex.remove(path);
             }
-            // get first element of keys of the LinkedHashMap "cache".
-            String path = cache.keySet().iterator().next();
-            cache.remove(path);
-            pathIndex.remove(path);
+            return entry;
         }
     }
 }
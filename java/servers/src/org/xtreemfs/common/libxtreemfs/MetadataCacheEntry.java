@@ -6,6 +6,8 @@
  */
 package org.xtreemfs.common.libxtreemfs;
 
+import java.util.Map;
+
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.listxattrResponse;
@@ -32,6 +34,11 @@ public class MetadataCacheEntry {
     private String path;
     
     private listxattrResponse xattrs;
+
+    /**
+     * Names of entries which do not exist in this directory, mapped to the time until which this is valid.
+     */
+    private Map<String, Long> negativeEntries;
     
     
     protected Stat getStat() {
@@ -97,4 +104,12 @@ public class MetadataCacheEntry {
     protected void setXattrTimeoutS(long timeout) {
         this.xattrTimeoutS = timeout;
     }
+
+    protected Map<String, Long> getNegativeEntries() {
+        return negativeEntries;
+    }
+
+    protected void setNegativeEntries(Map<String, Long> negativeEntries) {
+        this.negativeEntries = negativeEntries;
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+/**
+ * Latencies of the read requests a client sent to an OSD. Percentiles refer to the most recent requests.
+ */
+public class OSDLatencyStats {
+
+    private final String osdUuid;
+
+    private final long   requestCount;
+
+    private final long   failureCount;
+
+    private final long   averageLatencyNs;
+
+    private final long   medianLatencyNs;
+
+    private final long   percentile90LatencyNs;
+
+    private final long   percentile99LatencyNs;
+
+    OSDLatencyStats(String osdUuid, long requestCount, long failureCount, long averageLatencyNs,
+            long medianLatencyNs, long percentile90LatencyNs, long percentile99LatencyNs) {
+        this.osdUuid = osdUuid;
+        this.requestCount = requestCount;
+        this.failureCount = failureCount;
+        this.averageLatencyNs = averageLatencyNs;
+        this.medianLatencyNs = medianLatencyNs;
+        this.percentile90LatencyNs = percentile90LatencyNs;
+        this.percentile99LatencyNs = percentile99LatencyNs;
+    }
+
+    public String getOsdUuid() {
+        return osdUuid;
+    }
+
+    /**
+     * Returns the number of requests sent to the OSD, including failed requests.
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Returns the number of requests which could not be sent or were not answered in time.
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the exponentially weighted moving average of the latencies in nanoseconds.
+     */
+    public long getAverageLatencyNs() {
+        return averageLatencyNs;
+    }
+
+    public long getMedianLatencyNs() {
+        return medianLatencyNs;
+    }
+
+    public long getPercentile90LatencyNs() {
+        return percentile90LatencyNs;
+    }
+
+    public long getPercentile99LatencyNs() {
+        return percentile99LatencyNs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d requests (%d failed), avg %.2f ms, p50 %.2f ms, p90 %.2f ms, p99 %.2f ms",
+                osdUuid, requestCount, failureCount, averageLatencyNs / 1e6, medianLatencyNs / 1e6,
+                percentile90LatencyNs / 1e6, percentile99LatencyNs / 1e6);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the latencies of read requests per OSD. They are used to read from the fastest replica of a
+ * read-only replicated file and to decide when a hedged read is sent to another replica. Used only
+ * internally.
+ *
+ * For every OSD, an exponentially weighted moving average and the most recent latencies, from which
+ * percentiles are computed, are kept. Failed requests count as requests which took as long as the request
+ * timeout. OSDs of which no latency is known yet, or of which the last latency is older than
+ * {@link #PROBE_INTERVAL_NS}, are preferred, so that slow OSDs that became fast again are detected.
+ */
+public class OSDLatencyTracker {
+
+    /**
+     * Number of recent latencies per OSD from which percentiles are computed.
+     */
+    static final int                          SAMPLE_COUNT       = 64;
+
+    /**
+     * Weight of a new latency in the moving average.
+     */
+    static final double                       EWMA_WEIGHT        = 0.2;
+
+    /**
+     * Time after which the latency of an OSD is considered unknown again.
+     */
+    static final long                         PROBE_INTERVAL_NS  = 10L * 1000 * 1000 * 1000;
+
+    private final ConcurrentHashMap<String, OSDLatency> latencies;
+
+    private final long                        failureLatencyNs;
+
+    /**
+     * @param failureLatencyNs
+     *            Latency which is recorded for a failed request.
+     */
+    public OSDLatencyTracker(long failureLatencyNs) {
+        this.latencies = new ConcurrentHashMap<String, OSDLatency>();
+        this.failureLatencyNs = failureLatencyNs;
+    }
+
+    /**
+     * Records a request to "osdUuid" which was answered after "latencyNs" nanoseconds.
+     */
+    public void recordLatency(String osdUuid, long latencyNs) {
+        getLatency(osdUuid).record(latencyNs, false);
+    }
+
+    /**
+     * Records a request to "osdUuid" which could not be sent or was not answered in time.
+     */
+    public void recordFailure(String osdUuid) {
+        getLatency(osdUuid).record(failureLatencyNs, true);
+    }
+
+    /**
+     * Returns the latency in nanoseconds below which "percentile" percent of the recent requests to
+     * "osdUuid" were answered, or -1 if less than "minSamples" requests are known.
+     */
+    public long getPercentile(String osdUuid, double percentile, int minSamples) {
+        OSDLatency latency = latencies.get(osdUuid);
+        return latency == null ? -1 : latency.getPercentile(percentile, minSamples);
+    }
+
+    /**
+     * Returns "osdUuids" ordered by their average latency, starting with OSDs of which the latency is
+     * unknown. OSDs with equal latencies retain their order.
+     */
+    public List<String> sortByLatency(List<String> osdUuids) {
+        final long now = System.nanoTime();
+        final Map<String, Double> averages = new HashMap<String, Double>();
+        for (String osdUuid : osdUuids) {
+            OSDLatency latency = latencies.get(osdUuid);
+            averages.put(osdUuid, latency == null ? -1 : latency.getAverage(now));
+        }
+
+        List<String> sorted = new ArrayList<String>(osdUuids);
+        Collections.sort(sorted, new Comparator<String>() {
+            @Override
+            public int compare(String o1, String o2) {
+                return Double.compare(averages.get(o1), averages.get(o2));
+            }
+        });
+        return sorted;
+    }
+
+    /**
+     * Returns the latency statistics of all OSDs to which requests were sent.
+     */
+    public Map<String, OSDLatencyStats> getStats() {
+        Map<String, OSDLatencyStats> stats = new HashMap<String, OSDLatencyStats>();
+        for (Map.Entry<String, OSDLatency> entry : latencies.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().getStats(entry.getKey()));
+        }
+        return stats;
+    }
+
+    private OSDLatency getLatency(String osdUuid) {
+        OSDLatency latency = latencies.get(osdUuid);
+        if (latency == null) {
+            latency = new OSDLatency();
+            OSDLatency previous = latencies.putIfAbsent(osdUuid, latency);
+            if (previous != null) {
+                latency = previous;
+            }
+        }
+        return latency;
+    }
+
+    /**
+     * Latencies of a single OSD.
+     */
+    private static class OSDLatency {
+
+        private final long[] samples = new long[SAMPLE_COUNT];
+
+        private long         requests;
+
+        private long         failures;
+
+        private double       average;
+
+        private long         lastUpdate;
+
+        synchronized void record(long latencyNs, boolean failed) {
+            samples[(int) (requests % SAMPLE_COUNT)] = latencyNs;
+            average = requests == 0 ? latencyNs : EWMA_WEIGHT * latencyNs + (1 - EWMA_WEIGHT) * average;
+            requests++;
+            if (failed) {
+                failures++;
+            }
+            lastUpdate = System.nanoTime();
+        }
+
+        /**
+         * @return the average latency, or -1 if it is unknown or outdated
+         */
+        synchronized double getAverage(long now) {
+            if (requests == 0 || now - lastUpdate > PROBE_INTERVAL_NS) {
+                return -1;
+            }
+            return average;
+        }
+
+        synchronized long getPercentile(double percentile, int minSamples) {
+            int count = (int) Math.min(requests, SAMPLE_COUNT);
+            if (count == 0 || count < minSamples) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * count) - 1;
+            return sorted[Math.max(0, Math.min(count - 1, index))];
+        }
+
+        synchronized OSDLatencyStats getStats(String osdUuid) {
+            return new OSDLatencyStats(osdUuid, requests, failures, (long) average, getPercentile(50, 1),
+                    getPercentile(90, 1), getPercentile(99, 1));
+        }
+    }
+}
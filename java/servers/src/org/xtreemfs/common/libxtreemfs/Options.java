@@ -29,6 +29,12 @@ public class Options {
      */
     private final long metadataCacheTTLs     = 120;
 
+    /**
+     * Time to live for cached ENOENT results of getattr, i.e. for the information that a path does not
+     * exist. 0 disables the caching of non-existing paths. Default: 0
+     */
+    private long       metadataCacheNegativeTTLs = 0;
+
     /**
      * Maximum number of pending bytes (of async writes) per file. TODO: Reenable async writes when retry
      * support is completed.
@@ -45,6 +51,18 @@ public class Options {
      */
     private int        readdirChunkSize      = 1024;
 
+    /**
+     * Read read-only replicated files from the replica with the lowest observed latency instead of the first
+     * replica of the XLocSet. Default: false
+     */
+    private boolean    latencyAwareReplicaSelection = false;
+
+    /**
+     * If a replica of a read-only replicated file did not answer a read within this percentile of its
+     * observed latencies, the read is also sent to another replica. 0 disables hedged reads. Default: 0
+     */
+    private int        hedgedReadPercentile  = 0;
+
     // Error Handling options.
     /**
      * How often shall a failed operation get retried? Default: 40
@@ -95,6 +113,14 @@ public class Options {
         return metadataCacheTTLs;
     }
 
+    public long getMetadataCacheNegativeTTLs() {
+        return metadataCacheNegativeTTLs;
+    }
+
+    public void setMetadataCacheNegativeTTLs(long metadataCacheNegativeTTLs) {
+        this.metadataCacheNegativeTTLs = metadataCacheNegativeTTLs;
+    }
+
     public int getInterruptSignal() {
         return interruptSignal;
     }
@@ -242,6 +268,22 @@ public class Options {
         this.readdirChunkSize = readdirChunkSize;
     }
 
+    public boolean isLatencyAwareReplicaSelection() {
+        return latencyAwareReplicaSelection;
+    }
+
+    public void setLatencyAwareReplicaSelection(boolean latencyAwareReplicaSelection) {
+        this.latencyAwareReplicaSelection = latencyAwareReplicaSelection;
+    }
+
+    public int getHedgedReadPercentile() {
+        return hedgedReadPercentile;
+    }
+
+    public void setHedgedReadPercentile(int hedgedReadPercentile) {
+        this.hedgedReadPercentile = hedgedReadPercentile;
+    }
+
     public void setPeriodicFileSizeUpdatesIntervalS(int periodicFileSizeUpdatesIntervalS) {
         this.periodicFileSizeUpdatesIntervalS = periodicFileSizeUpdatesIntervalS;
     }
@@ -6,8 +6,6 @@
  */
 package org.xtreemfs.common.libxtreemfs;
 
-import java.io.IOException;
-import java.util.Map.Entry;
 
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
@@ -46,18 +44,8 @@ public class PeriodicFileSizeUpdateThread extends Thread {
                                 .getOpenFileTable().size());
             }
 
-            // Iterate over the openFileTable
-            for (Entry<Long, FileInfo> entry : volume.getOpenFileTable().entrySet()) {
-                try {
-                    entry.getValue().writeBackFileSizeAsync();
-                } catch (IOException e) {
-                    if (Logging.isDebug()) {
-                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                                "PeriodicFileSizeUpdateThread: failed to update filesize. Reason: ",
-                                e.getMessage());
-                    }
-                } 
-            }
+            // Send the updates of all files in batches.
+            volume.getMrcUpdateBatcher().writeBackFileSizes();
 
             if (Logging.isDebug()) {
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
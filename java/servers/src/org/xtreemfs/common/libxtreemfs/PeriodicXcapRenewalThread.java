@@ -6,9 +6,7 @@
  */
 package org.xtreemfs.common.libxtreemfs;
 
-import java.util.Map.Entry;
 
-import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
 
@@ -45,19 +43,8 @@ public class PeriodicXcapRenewalThread extends Thread {
                                 .getOpenFileTable().size());
             }
 
-            // iterate over the openFileTable.
-            for (Entry<Long, FileInfo> entry : volume.getOpenFileTable().entrySet()) {
-            	try {
-            		entry.getValue().renewXCapsAsync();	
-            	} catch (AddressToUUIDNotFoundException e) {
-                    if (Logging.isDebug()) {
-                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                                "PeriodicXCapThread: failed to renew XCap. Reason: ",
-                                e.getMessage());
-                    }
-				}
-                
-            }
+            // renew the XCaps of all files in batches.
+            volume.getMrcUpdateBatcher().renewXCaps();
 
             if (Logging.isDebug()) {
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
@@ -8,10 +8,15 @@ package org.xtreemfs.common.libxtreemfs;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
 import org.xtreemfs.common.libxtreemfs.exceptions.InternalServerErrorException;
 import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
+import org.xtreemfs.common.libxtreemfs.exceptions.UUIDIteratorListIsEmpyException;
 import org.xtreemfs.common.libxtreemfs.exceptions.XtreemFSException;
 import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
@@ -19,6 +24,7 @@ import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
 import org.xtreemfs.foundation.pbrpc.client.PBRPCException;
 import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponseAvailableListener;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
@@ -107,21 +113,7 @@ public class RPCCaller {
                     // handle special redirect
                     if (pbe.getErrorType().equals(ErrorType.REDIRECT)) {
                         assert (pbe.getRedirectToServerUUID() != null);
-                        // Log redirect.
-                        if (Logging.isInfo()) {
-                            String error;
-                            if (uuidIteratorHasAddresses) {
-                                error =
-                                        "The server " + it.getUUID() + " redirected to the current master: "
-                                                + pbe.getRedirectToServerUUID() + " at attempt: " + attempt;
-                            } else {
-                                error =
-                                        "The server with UUID " + it.getUUID()
-                                                + " redirected to the current master: "
-                                                + pbe.getRedirectToServerUUID() + " at attempt: " + attempt;
-                            }
-                            Logging.logMessage(Logging.LEVEL_INFO, Category.misc, pbe, error);
-                        }
+                        logRedirect(pbe, it, uuidIteratorHasAddresses, attempt);
 
                         if (maxTries != 0 && attempt == maxTries) {
                             // This was the last retry, but we give it another chance.
@@ -140,16 +132,7 @@ public class RPCCaller {
                             (pbe.getErrorType().equals(ErrorType.IO_ERROR) || pbe.getErrorType().equals(
                                     ErrorType.INTERNAL_SERVER_ERROR))) {
 
-                        // Log only the first retry.
-                        if (attempt == 1 && maxTries != 1) {
-                            String retriesLeft =
-                                    (maxTries == 0) ? ("infinite") : (String.valueOf(maxTries - attempt));
-                            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, pbe,
-                                    "Got no response from %s,"
-                                            + "retrying (%s attemps left, waiting at least %s seconds"
-                                            + " between two attemps)", it.getUUID(), retriesLeft,
-                                    options.getRetryDelay_s());
-                        }
+                        logRetry(pbe, it, attempt, maxTries, options);
                         // Mark the current UUID as failed and get the next one.
                         it.markUUIDAsFailed(it.getUUID());
                         waitDelay(options.getRetryDelay_s());
@@ -162,18 +145,7 @@ public class RPCCaller {
                     if ((attempt < maxTries || maxTries == 0)
                             // or this last retry should be delayed
                             || (attempt == maxTries && delayNextTry)) {
-                        // Log only the first retry.
-                        if (attempt == 1 && maxTries != 1) {
-                            String retriesLeft =
-                                    (maxTries == 0) ? ("infinite") : (String.valueOf(maxTries - attempt));
-                            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, ioe, "Got no response from %s, "
-                                    + "retrying (%s attemps left, waiting at least %s seconds"
-                                    + " between two attemps) Error was: %s", it.getUUID(), retriesLeft,
-                                    options.getRetryDelay_s(), ioe.getMessage());
-                            if (Logging.isDebug()) {
-                                Logging.logError(Logging.LEVEL_DEBUG, null, ioe);
-                            }
-                        }
+                        logRetry(ioe, it, attempt, maxTries, options);
                         // Mark the current UUID as failed and get the next one.
                         it.markUUIDAsFailed(it.getUUID());
                         waitDelay(options.getRetryDelay_s());
@@ -205,6 +177,242 @@ public class RPCCaller {
         return null;
     }
 
+    /**
+     * Sends a request asynchronously and retries it on failure like syncCall() does, i.e. redirects are followed immediately and IO errors and internal server errors are retried with
+     * the next UUID of "it" after the retry delay. The first attempt is sent by the calling thread, all
+     * further attempts by a separate thread, so that neither the network thread nor the caller is blocked.
+     * 
+     * If "buffer" is not null, the data piggybacked in the response is put into it before the returned future
+     * is completed.
+     */
+    protected static <C, R extends Message> ClientFuture<R> asyncCall(SERVICES service,
+            UserCredentials userCreds, Auth auth, Options options, UUIDResolver uuidResolver, UUIDIterator it,
+            boolean uuidIteratorHasAddresses, C callRequest, ReusableBuffer buffer, CallGenerator<C, R> callGen) {
+        AsyncCall<C, R> call = new AsyncCall<C, R>(service, userCreds, auth, options, uuidResolver, it,
+                uuidIteratorHasAddresses, callRequest, buffer, callGen);
+        call.run();
+        return call.future;
+    }
+
+    protected static <C, R extends Message> ClientFuture<R> asyncCall(SERVICES service,
+            UserCredentials userCreds, Auth auth, Options options, UUIDResolver uuidResolver, UUIDIterator it,
+            boolean uuidIteratorHasAddresses, C callRequest, CallGenerator<C, R> callGen) {
+        return asyncCall(service, userCreds, auth, options, uuidResolver, it, uuidIteratorHasAddresses,
+                callRequest, null, callGen);
+    }
+
+    /**
+     * State of a request sent by asyncCall(). Each execution of run() sends one attempt.
+     */
+    private static class AsyncCall<C, R extends Message> implements Runnable, RPCResponseAvailableListener<R> {
+
+        private final SERVICES          service;
+
+        private final UserCredentials   userCreds;
+
+        private final Auth              auth;
+
+        private final Options           options;
+
+        private final UUIDResolver      uuidResolver;
+
+        private final UUIDIterator      it;
+
+        private final boolean           uuidIteratorHasAddresses;
+
+        private final C                 callRequest;
+
+        private final ReusableBuffer    buffer;
+
+        private final CallGenerator<C, R> callGen;
+
+        private final ClientFuture<R>   future;
+
+        /**
+         * Accessed by one thread at a time only, as the next attempt is sent after the last one failed.
+         */
+        private int                     maxTries;
+
+        private int                     attempt;
+
+        AsyncCall(SERVICES service, UserCredentials userCreds, Auth auth, Options options,
+                UUIDResolver uuidResolver, UUIDIterator it, boolean uuidIteratorHasAddresses, C callRequest,
+                ReusableBuffer buffer, CallGenerator<C, R> callGen) {
+            this.service = service;
+            this.userCreds = userCreds;
+            this.auth = auth;
+            this.options = options;
+            this.uuidResolver = uuidResolver;
+            this.it = it;
+            this.uuidIteratorHasAddresses = uuidIteratorHasAddresses;
+            this.callRequest = callRequest;
+            this.buffer = buffer;
+            this.callGen = callGen;
+            this.future = new ClientFuture<R>();
+            this.maxTries = options.getMaxTries();
+        }
+
+        @Override
+        public void run() {
+            attempt++;
+            try {
+                InetSocketAddress server;
+                if (uuidIteratorHasAddresses) {
+                    server = getInetSocketAddressFromAddress(it.getUUID(), service);
+                } else {
+                    server = getInetSocketAddressFromAddress(uuidResolver.uuidToAddress(it.getUUID()), service);
+                }
+                callGen.executeCall(server, auth, userCreds, callRequest).registerListener(this);
+            } catch (IOException ioe) {
+                ioErrorOccurred(ioe);
+            } catch (RuntimeException e) {
+                Logging.logError(Logging.LEVEL_ERROR, this, e);
+                future.fail(new XtreemFSException("Sending the request failed unexpectedly: " + e));
+            }
+        }
+
+        @Override
+        public void responseAvailable(RPCResponse<R> r) {
+            R response;
+            try {
+                response = r.get();
+                if (r.getData() != null) {
+                    if (buffer != null) {
+                        buffer.put(r.getData());
+                    }
+                    BufferPool.free(r.getData());
+                }
+            } catch (PBRPCException pbe) {
+                r.freeBuffers();
+                errorResponseReceived(pbe);
+                return;
+            } catch (IOException ioe) {
+                r.freeBuffers();
+                ioErrorOccurred(ioe);
+                return;
+            } catch (InterruptedException e) {
+                // Cannot happen, as the response is available.
+                r.freeBuffers();
+                future.fail(new IOException("Caught interrupt while receiving the response"));
+                return;
+            } catch (RuntimeException e) {
+                r.freeBuffers();
+                Logging.logError(Logging.LEVEL_ERROR, this, e);
+                future.fail(new XtreemFSException("Receiving the response failed unexpectedly: " + e));
+                return;
+            }
+            r.freeBuffers();
+            future.complete(response);
+        }
+
+        private void errorResponseReceived(PBRPCException pbe) {
+            try {
+                if (pbe.getErrorType().equals(ErrorType.REDIRECT)) {
+                    assert (pbe.getRedirectToServerUUID() != null);
+                    logRedirect(pbe, it, uuidIteratorHasAddresses, attempt);
+                    if (maxTries != 0 && attempt == maxTries) {
+                        // This was the last retry, but we give it another chance.
+                        maxTries++;
+                    }
+                    // Do a fast retry and do not delay until next attempt.
+                    it.markUUIDAsFailed(it.getUUID());
+                    RetryScheduler.INSTANCE.execute(this);
+                    return;
+                }
+                if ((attempt < maxTries || maxTries == 0)
+                        && (pbe.getErrorType().equals(ErrorType.IO_ERROR) || pbe.getErrorType().equals(
+                                ErrorType.INTERNAL_SERVER_ERROR))) {
+                    logRetry(pbe, it, attempt, maxTries, options);
+                    retryDelayed();
+                    return;
+                }
+                // Max attempts reached or non-IO error seen.
+                handleErrorAfterMaxTriesExceeded(pbe, it);
+            } catch (IOException e) {
+                future.fail(e);
+            }
+        }
+
+        private void ioErrorOccurred(IOException ioe) {
+            if (attempt < maxTries || maxTries == 0) {
+                try {
+                    logRetry(ioe, it, attempt, maxTries, options);
+                    retryDelayed();
+                    return;
+                } catch (IOException e) {
+                    ioe = e;
+                }
+            }
+            future.fail(ioe);
+        }
+
+        /**
+         * Marks the current UUID as failed and sends the next attempt after the retry delay.
+         */
+        private void retryDelayed() throws IOException {
+            it.markUUIDAsFailed(it.getUUID());
+            RetryScheduler.INSTANCE.schedule(this, options.getRetryDelay_s(), TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Sends the retries of asyncCall(). Created when it is used for the first time.
+     */
+    private static class RetryScheduler {
+
+        static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r, "RPCCaller retries");
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+    }
+
+    private static void logRedirect(PBRPCException pbe, UUIDIterator it, boolean uuidIteratorHasAddresses,
+            int attempt) throws UUIDIteratorListIsEmpyException {
+        if (Logging.isInfo()) {
+            String error;
+            if (uuidIteratorHasAddresses) {
+                error =
+                        "The server " + it.getUUID() + " redirected to the current master: "
+                                + pbe.getRedirectToServerUUID() + " at attempt: " + attempt;
+            } else {
+                error =
+                        "The server with UUID " + it.getUUID()
+                                + " redirected to the current master: "
+                                + pbe.getRedirectToServerUUID() + " at attempt: " + attempt;
+            }
+            Logging.logMessage(Logging.LEVEL_INFO, Category.misc, pbe, error);
+        }
+    }
+
+    /**
+     * Logs the first retry of a request which failed with "e".
+     */
+    private static void logRetry(IOException e, UUIDIterator it, int attempt, int maxTries, Options options)
+            throws UUIDIteratorListIsEmpyException {
+        if (attempt != 1 || maxTries == 1) {
+            return;
+        }
+        String retriesLeft = (maxTries == 0) ? ("infinite") : (String.valueOf(maxTries - attempt));
+        if (e instanceof PBRPCException) {
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, e, "Got no response from %s,"
+                    + "retrying (%s attemps left, waiting at least %s seconds" + " between two attemps)",
+                    it.getUUID(), retriesLeft, options.getRetryDelay_s());
+        } else {
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, e, "Got no response from %s, "
+                    + "retrying (%s attemps left, waiting at least %s seconds"
+                    + " between two attemps) Error was: %s", it.getUUID(), retriesLeft,
+                    options.getRetryDelay_s(), e.getMessage());
+            if (Logging.isDebug()) {
+                Logging.logError(Logging.LEVEL_DEBUG, null, e);
+            }
+        }
+    }
+
     /**
      * Blocks the thread for delay_s seconds and throws an exception if interrupted.
      * 
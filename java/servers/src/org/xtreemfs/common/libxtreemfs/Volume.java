@@ -174,6 +174,16 @@ public interface  Volume {
     public FileHandle openFile(UserCredentials userCredentials, String path, int flags, int mode)
             throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous version of openFile(). The returned future fails with the exceptions openFile() would
+     * throw.
+     * 
+     * @remark Ownership of the FileHandle is NOT transferred to the caller. Instead FileHandle.close() has
+     *         to be called to destroy the object.
+     */
+    public ClientFuture<FileHandle> openFileAsync(UserCredentials userCredentials, String path, int flags,
+            int mode);
+
     /**
      * Truncates the file to "newFileSize" bytes.
      * 
@@ -207,6 +217,12 @@ public interface  Volume {
     public Stat getAttr(UserCredentials userCredentials, String path) throws IOException,
             PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous version of getAttr(). The returned future is completed immediately if the attributes are
+     * cached and fails with the exceptions getAttr() would throw.
+     */
+    public ClientFuture<Stat> getAttrAsync(UserCredentials userCredentials, String path);
+
     /**
      * Sets the attributes given by "stat" and specified in "toSet".
      * 
@@ -313,6 +329,24 @@ public interface  Volume {
     public void removeDirectory(UserCredentials userCredentials, String path) throws IOException,
             PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Removes the files and directories at "paths", including the content of the directories. The entries
+     * are deleted at the MRC with as few requests as possible, and the objects of the deleted files are
+     * deleted on the OSDs in parallel. Stops at the first path that cannot be deleted; the paths preceding
+     * it, and possibly parts of it, have been deleted in that case.
+     * 
+     * @param userCredentials
+     *            Name and Groups of the user.
+     * @param paths
+     *            Paths to the files and directories to be removed.
+     * 
+     * @throws AddressToUUIDNotFoundException
+     * @throws {@link IOException}
+     * @throws PosixErrorException
+     */
+    public void removeRecursive(UserCredentials userCredentials, List<String> paths) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException;
+
     /**
      * Returns a list of "count" directories/files contained in the directory "path" beginning by "offset". If
      * count equals 0 all entries beginning by "offset" will be in the list.
@@ -339,6 +373,13 @@ public interface  Volume {
             int count, boolean namesOnly) throws IOException, PosixErrorException,
             AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous version of readDir(). The returned future is completed immediately if the entries are
+     * cached and fails with the exceptions readDir() would throw.
+     */
+    public ClientFuture<DirectoryEntries> readDirAsync(UserCredentials userCredentials, String path,
+            int offset, int count, boolean namesOnly);
+
     /**
      * Returns the list of extended attributes stored for "path" (Entries may be cached).
      * 
@@ -12,13 +12,18 @@ import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.regex.Pattern;
 
+import org.xtreemfs.common.libxtreemfs.ClientFuture.Continuation;
 import org.xtreemfs.common.libxtreemfs.RPCCaller.CallGenerator;
 import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
 import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
@@ -29,6 +34,7 @@ import org.xtreemfs.foundation.json.JSONParser;
 import org.xtreemfs.foundation.json.JSONString;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.client.PBRPCException;
 import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
 import org.xtreemfs.foundation.pbrpc.client.RPCNIOSocketClient;
 import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
@@ -47,6 +53,7 @@ import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntry;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Setattrs;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatVFS;
@@ -77,6 +84,7 @@ import org.xtreemfs.pbrpc.generatedinterfaces.MRC.symlinkRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.timestampResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.unlinkRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.unlinkResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_suitable_osdsRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_suitable_osdsResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_addRequest;
@@ -92,6 +100,11 @@ import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceClient;
  */
 public class VolumeImplementation implements Volume, AdminVolume {
 
+    /**
+     * Maximum number of unlink requests sent to the OSDs in parallel by removeRecursive().
+     */
+    private static final int                                MAX_PENDING_OSD_UNLINKS = 64;
+
     /**
      * UUID String of the client.
      */
@@ -172,11 +185,22 @@ public class VolumeImplementation implements Volume, AdminVolume {
      */
     private PeriodicFileSizeUpdateThread              fileSizeUpdateThread;
 
+    /**
+     * Sends the periodic file size updates and XCap renewals to the MRC in batches.
+     */
+    private final MRCUpdateBatcher                          mrcUpdateBatcher;
+
     /**
      * Maps a StripingPolicyType to a StripeTranslator. Should be filled with all possible StripingPolicys.
      */
     private final Map<StripingPolicyType, StripeTranslator> stripeTranslators;
 
+    /**
+     * Executes the parts of asynchronous operations which have to wait, e.g. for pending asynchronous
+     * writes, so that they do not block the network thread which completes the RPCs.
+     */
+    private ExecutorService                                 asyncOperationExecutor;
+
     private static final String XTREEMFS_DEFAULT_RP = "xtreemfs.default_rp";
     
     private static final String OSD_SELECTION_POLICY = "xtreemfs.osel_policy";
@@ -200,11 +224,16 @@ public class VolumeImplementation implements Volume, AdminVolume {
         this.userCredentialsBogus = UserCredentials.newBuilder().setUsername("xtreemfs").build();
         this.authBogus = RPCAuthentication.authNone;
 
-        this.metadataCache = new MetadataCache(options.getMetadataCacheSize(), options.getMetadataCacheTTLs());
+        this.metadataCache = new MetadataCache(options.getMetadataCacheSize(), options.getMetadataCacheTTLs(),
+                options.getMetadataCacheNegativeTTLs());
+
+        this.mrcUpdateBatcher = new MRCUpdateBatcher(this);
 
         // register all stripe translators
         this.stripeTranslators = new HashMap<StripingPolicyType, StripeTranslator>();
         stripeTranslators.put(StripingPolicyType.STRIPING_POLICY_RAID0, new StripeTranslatorRaid0());
+        // the data objects of erasure-coded files are striped like RAID0 across the first "width" OSDs
+        stripeTranslators.put(StripingPolicyType.STRIPING_POLICY_ERASURECODE, new StripeTranslatorRaid0());
     }
 
     /*
@@ -234,6 +263,16 @@ public class VolumeImplementation implements Volume, AdminVolume {
 
         openFileTable = new ConcurrentHashMap<Long, FileInfo>();
 
+        final boolean daemon = startThreadsAsDaemons;
+        asyncOperationExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "Volume async operation");
+                t.setDaemon(daemon);
+                return t;
+            }
+        });
+
         // // Start periodic threads.
         fileSizeUpdateThread = new PeriodicFileSizeUpdateThread(this, startThreadsAsDaemons);
         fileSizeUpdateThread.start();
@@ -264,6 +303,8 @@ public class VolumeImplementation implements Volume, AdminVolume {
         // There must no FileInfo left in "openFileTable".
         assert (openFileTable.size() == 0);
 
+        asyncOperationExecutor.shutdown();
+
         // Shutdown network client.
         networkClient.shutdown();
         try {
@@ -474,6 +515,23 @@ public class VolumeImplementation implements Volume, AdminVolume {
      */
     public AdminFileHandle openFile(UserCredentials userCredentials, String path, int flags, int mode,
             int truncateNewFileSize) throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+        return (AdminFileHandle) openFileAsync(userCredentials, path, flags, mode, truncateNewFileSize).await();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#openFileAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String, int, int)
+     */
+    @Override
+    public ClientFuture<FileHandle> openFileAsync(UserCredentials userCredentials, String path, int flags,
+            int mode) {
+        return openFileAsync(userCredentials, path, flags, mode, 0);
+    }
+
+    private ClientFuture<FileHandle> openFileAsync(final UserCredentials userCredentials, final String path,
+            final int flags, int mode, final int truncateNewFileSize) {
         boolean asyncWritesEnabled = (volumeOptions.getMaxWriteahead() > 0);
 
         if ((SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_SYNC.getNumber() & flags) > 0) {
@@ -483,12 +541,13 @@ public class VolumeImplementation implements Volume, AdminVolume {
             }
             asyncWritesEnabled = false;
         }
+        final boolean finalAsyncWritesEnabled = asyncWritesEnabled;
 
         openRequest request = openRequest.newBuilder().setVolumeName(volumeName).setPath(path)
                 .setFlags(flags).setMode(mode).setAttributes(0).build();
 
-        openResponse response = RPCCaller.<openRequest, openResponse> syncCall(SERVICES.MRC, userCredentials,
-                authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false, request,
+        ClientFuture<openResponse> response = RPCCaller.<openRequest, openResponse> asyncCall(SERVICES.MRC,
+                userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false, request,
                 new CallGenerator<openRequest, openResponse>() {
                     @Override
                     public RPCResponse<openResponse> executeCall(InetSocketAddress server, Auth authHeader,
@@ -497,61 +556,85 @@ public class VolumeImplementation implements Volume, AdminVolume {
                     }
                 });
 
-        assert (response != null);
-
-        // We must have obtained file credentials.
-        assert (response.hasCreds());
-
-        if (response.getCreds().getXlocs().getReplicasCount() == 0) {
-            String errorMessage = "MRC assigned no OSDs to file on open" + path + ", xloc: "
-                    + response.getCreds().getXlocs().toString();
-            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this, errorMessage);
-            throw new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, errorMessage);
-        }
-
-        FileHandleImplementation fileHandle = null;
+        final ClientFuture<FileHandle> result = new ClientFuture<FileHandle>();
+        response.addListener(new Continuation<openResponse, FileHandle>(result) {
+            @Override
+            protected void proceed(openResponse response) throws IOException {
+                assert (response != null);
 
-        // Create a FileInfo object if it does not exist yet.
-        FileInfo fileInfo = getOrCreateFileInfo(Helper.extractFileIdFromXcap(response.getCreds().getXcap()),
-                path, response.getCreds().getXcap().getReplicateOnClose(), response.getCreds().getXlocs());
+                // We must have obtained file credentials.
+                assert (response.hasCreds());
 
-        fileHandle = fileInfo.createFileHandle(response.getCreds().getXcap(), asyncWritesEnabled);
+                if (response.getCreds().getXlocs().getReplicasCount() == 0) {
+                    String errorMessage = "MRC assigned no OSDs to file on open" + path + ", xloc: "
+                            + response.getCreds().getXlocs().toString();
+                    Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this, errorMessage);
+                    throw new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, errorMessage);
+                }
 
-        // If O_CREAT is set and the file did not previously exist, upon
-        // successful
-        // completion, open() shall mark for update the st_atime, st_ctime, and
-        // st_mtime fields of the file and the st_ctime and st_mtime fields of
-        // the parent directory.
-        if ((flags & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()) > 0) {
-            String parentDir = Helper.resolveParentDirectory(path);
-            metadataCache.updateStatTime(path, response.getTimestampS(), Setattrs.SETATTR_CTIME.getNumber()
-                    | Setattrs.SETATTR_MTIME.getNumber());
-            // TODO: Retrieve stat as optional member of the response instead
-            // and update cached DirectoryEntries accordingly.
-            metadataCache.invalidate(parentDir);
-        }
+                // Create a FileInfo object if it does not exist yet.
+                FileInfo fileInfo = getOrCreateFileInfo(
+                        Helper.extractFileIdFromXcap(response.getCreds().getXcap()), path, response.getCreds()
+                                .getXcap().getReplicateOnClose(), response.getCreds().getXlocs());
+
+                final FileHandleImplementation fileHandle = fileInfo.createFileHandle(response.getCreds()
+                        .getXcap(), finalAsyncWritesEnabled);
+
+                // If O_CREAT is set and the file did not previously exist, upon
+                // successful
+                // completion, open() shall mark for update the st_atime, st_ctime, and
+                // st_mtime fields of the file and the st_ctime and st_mtime fields of
+                // the parent directory.
+                if ((flags & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()) > 0) {
+                    String parentDir = Helper.resolveParentDirectory(path);
+                    metadataCache.updateStatTime(path, response.getTimestampS(),
+                            Setattrs.SETATTR_CTIME.getNumber() | Setattrs.SETATTR_MTIME.getNumber());
+                    // TODO: Retrieve stat as optional member of the response instead
+                    // and update cached DirectoryEntries accordingly.
+                    metadataCache.invalidate(parentDir);
+                }
 
-        // If O_TRUNC was set, go on processing the truncate request.
-        if ((flags & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_TRUNC.getNumber()) > 0) {
+                // If O_TRUNC was set, go on processing the truncate request.
+                if ((flags & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_TRUNC.getNumber()) > 0) {
 
-            // Update mtime and ctime of the file if O_TRUNC was set.
-            metadataCache.updateStatTime(path, response.getTimestampS(), Setattrs.SETATTR_CTIME.getNumber()
-                    | Setattrs.SETATTR_MTIME.getNumber());
+                    // Update mtime and ctime of the file if O_TRUNC was set.
+                    metadataCache.updateStatTime(path, response.getTimestampS(),
+                            Setattrs.SETATTR_CTIME.getNumber() | Setattrs.SETATTR_MTIME.getNumber());
 
-            if (Logging.isDebug()) {
-                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "open called with O_TRUNK.");
-            }
+                    if (Logging.isDebug()) {
+                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "open called with O_TRUNK.");
+                    }
 
-            try {
-                fileHandle.truncatePhaseTwoAndThree(userCredentials, truncateNewFileSize, false);
-            } catch (XtreemFSException e) {
-                // Truncate did fail, close file again
-                // TODO: Ask what should happen if other exception is thrown.
-                fileHandle.close();
-                throw e;
+                    // The truncate waits for responses and must not block the network thread.
+                    asyncOperationExecutor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                fileHandle.truncatePhaseTwoAndThree(userCredentials, truncateNewFileSize, false);
+                            } catch (XtreemFSException e) {
+                                // Truncate did fail, close file again
+                                // TODO: Ask what should happen if other exception is thrown.
+                                try {
+                                    fileHandle.close();
+                                } catch (IOException closeError) {
+                                    result.fail(closeError);
+                                    return;
+                                }
+                                result.fail(e);
+                                return;
+                            } catch (IOException e) {
+                                result.fail(e);
+                                return;
+                            }
+                            result.complete(fileHandle);
+                        }
+                    });
+                } else {
+                    result.complete(fileHandle);
+                }
             }
-        }
-        return fileHandle;
+        });
+        return result;
     }
 
     /*
@@ -589,32 +672,74 @@ public class VolumeImplementation implements Volume, AdminVolume {
      */
     protected Stat getAttr(UserCredentials userCredentials, String path, FileInfo fileInfo)
             throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+        return getAttrAsync(userCredentials, path, fileInfo).await();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#getAttrAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String)
+     */
+    @Override
+    public ClientFuture<Stat> getAttrAsync(UserCredentials userCredentials, String path) {
+        return getAttrAsync(userCredentials, path, null);
+    }
+
+    /**
+     * If fileInfo is unknown and set to NULL, getFileInfo(path) is used.
+     */
+    protected ClientFuture<Stat> getAttrAsync(UserCredentials userCredentials, String path,
+            final FileInfo fileInfo) {
+        final ClientFuture<Stat> result = new ClientFuture<Stat>();
+
         // Retrieve stat object from cache or MRC.
-        Stat stat = getAttrHelper(userCredentials, path);
-
-        // Wait until async writes have finished and merge StatCache object with
-        // possibly newer information from FileInfo.
-        if (fileInfo == null) {
-            // Unknown if this file at "path" is open - look it up by its
-            // fileId.
-            FileInfo fileInfoFromOpenFileTable = openFileTable.get(stat.getIno()); // Ino == fileId
-            if (fileInfoFromOpenFileTable != null) {
-                // File at "path" is opened.
-
-                // Wait for pending asynchronous writes which haven't finished
-                // yet and whose new file size is not considered yet by the stat object.
-                fileInfoFromOpenFileTable.waitForPendingAsyncWrites();
-                stat = fileInfoFromOpenFileTable.mergeStatAndOSDWriteResponse(stat);
+        getAttrHelper(userCredentials, path).addListener(new Continuation<Stat, Stat>(result) {
+            @Override
+            protected void proceed(Stat stat) {
+                // Wait until async writes have finished and merge StatCache object with
+                // possibly newer information from FileInfo.
+                if (fileInfo == null) {
+                    // Unknown if this file at "path" is open - look it up by its
+                    // fileId.
+                    FileInfo fileInfoFromOpenFileTable = openFileTable.get(stat.getIno()); // Ino == fileId
+                    if (fileInfoFromOpenFileTable != null) {
+                        // File at "path" is opened.
+                        mergeStatAndOSDWriteResponse(fileInfoFromOpenFileTable, stat, result);
+                    } else {
+                        result.complete(stat);
+                    }
+                } else {
+                    mergeStatAndOSDWriteResponse(fileInfo, stat, result);
+                }
             }
-        } else {
-            fileInfo.waitForPendingAsyncWrites();
-            stat = fileInfo.mergeStatAndOSDWriteResponse(stat);
+        });
+        return result;
+    }
+
+    /**
+     * Completes "result" with "stat", merged with the file size of the pending asynchronous writes of
+     * "fileInfo" once they have finished.
+     */
+    private void mergeStatAndOSDWriteResponse(final FileInfo fileInfo, final Stat stat,
+            final ClientFuture<Stat> result) {
+        if (!fileInfo.hasPendingAsyncWrites()) {
+            result.complete(fileInfo.mergeStatAndOSDWriteResponse(stat));
+            return;
         }
-        return stat;
+
+        // Wait for pending asynchronous writes which haven't finished
+        // yet and whose new file size is not considered yet by the stat object.
+        asyncOperationExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                fileInfo.waitForPendingAsyncWrites();
+                result.complete(fileInfo.mergeStatAndOSDWriteResponse(stat));
+            }
+        });
     }
 
-    private Stat getAttrHelper(UserCredentials userCredentials, String path) throws IOException,
-            PosixErrorException, AddressToUUIDNotFoundException {
+    private ClientFuture<Stat> getAttrHelper(UserCredentials userCredentials, final String path) {
         // Check if Stat object is cached.
         Stat stat = metadataCache.getStat(path);
 
@@ -624,33 +749,54 @@ public class VolumeImplementation implements Volume, AdminVolume {
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
                         "getattr: serving from stat-cache %s  %s", path, stat.getSize());
             }
-        } else {
+            return ClientFuture.completed(stat);
+        }
 
-            // if not, retrive stat from MRC
-            getattrRequest request = getattrRequest.newBuilder().setVolumeName(volumeName).setPath(path)
-                    .setKnownEtag(0).build();
+        // Check if it is cached that the path does not exist.
+        if (metadataCache.hasNegativeEntry(path)) {
+            return ClientFuture.failed(new PosixErrorException(POSIXErrno.POSIX_ERROR_ENOENT, "getattr: "
+                    + path + " does not exist (cached)"));
+        }
 
-            getattrResponse response = RPCCaller.<getattrRequest, getattrResponse> syncCall(SERVICES.MRC,
-                    userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false, request,
-                    new CallGenerator<getattrRequest, getattrResponse>() {
-                        @Override
-                        public RPCResponse<getattrResponse> executeCall(InetSocketAddress server,
-                                Auth authHeader, UserCredentials userCreds, getattrRequest input)
-                                throws IOException {
-                            return mrcServiceClient.getattr(server, authHeader, userCreds, input);
-                        }
-                    });
+        // if not, retrive stat from MRC
+        getattrRequest request = getattrRequest.newBuilder().setVolumeName(volumeName).setPath(path)
+                .setKnownEtag(0).build();
 
-            assert (response != null);
+        ClientFuture<getattrResponse> response = RPCCaller.<getattrRequest, getattrResponse> asyncCall(
+                SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false,
+                request, new CallGenerator<getattrRequest, getattrResponse>() {
+                    @Override
+                    public RPCResponse<getattrResponse> executeCall(InetSocketAddress server, Auth authHeader,
+                            UserCredentials userCreds, getattrRequest input) throws IOException {
+                        return mrcServiceClient.getattr(server, authHeader, userCreds, input);
+                    }
+                });
 
-            stat = response.getStbuf();
-            if (stat.getNlink() > 1) { // Do not cache hardlinks
-                metadataCache.invalidate(path);
-            } else {
-                metadataCache.updateStat(path, stat);
+        final ClientFuture<Stat> result = new ClientFuture<Stat>();
+        response.addListener(new Continuation<getattrResponse, Stat>(result) {
+            @Override
+            protected void proceed(getattrResponse response) {
+                assert (response != null);
+
+                Stat stat = response.getStbuf();
+                if (stat.getNlink() > 1) { // Do not cache hardlinks
+                    metadataCache.invalidate(path);
+                } else {
+                    metadataCache.updateStat(path, stat);
+                }
+                result.complete(stat);
             }
-        }
-        return stat;
+
+            @Override
+            protected void failed(IOException e) {
+                if (e instanceof PosixErrorException
+                        && ((PosixErrorException) e).getPosixError() == POSIXErrno.POSIX_ERROR_ENOENT) {
+                    metadataCache.updateNegativeEntry(path);
+                }
+                super.failed(e);
+            }
+        });
+        return result;
     }
 
     /*
@@ -806,7 +952,7 @@ public class VolumeImplementation implements Volume, AdminVolume {
         // 3. Update caches
         // Update the timestamps of parents of both directories.
         String parentPath = Helper.resolveParentDirectory(path);
-        String parentNewPath = Helper.resolveParentDirectory(parentPath);
+        String parentNewPath = Helper.resolveParentDirectory(newPath);
         if (response.getTimestampS() != 0) {
             metadataCache.updateStatTime(parentPath, response.getTimestampS(),
                     Setattrs.SETATTR_CTIME.getNumber() | Setattrs.SETATTR_MTIME.getNumber());
@@ -948,6 +1094,171 @@ public class VolumeImplementation implements Volume, AdminVolume {
         metadataCache.invalidateDirEntry(path, Helper.getBasename(path));
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#removeRecursive(org.xtreemfs.
+     * foundation.pbrpc.generatedinterfaces .RPC.UserCredentials, java.util.List)
+     */
+    @Override
+    public void removeRecursive(UserCredentials userCredentials, List<String> paths) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException {
+        List<String> remainingPaths = paths;
+        while (!remainingPaths.isEmpty()) {
+            xtreemfs_delete_recursiveResponse result = removeRecursiveAtMrc(userCredentials, remainingPaths);
+            if (result == null) {
+                // The MRC does not support recursive deletion, delete the entries one by one.
+                for (String path : remainingPaths) {
+                    removeRecursiveAtClient(userCredentials, path);
+                }
+                return;
+            }
+
+            // Invalidate Metadatacache for all paths that have been deleted completely or in part.
+            int completedPaths = result.getCompletedPaths();
+            for (int i = 0; i <= completedPaths && i < remainingPaths.size(); i++) {
+                String path = remainingPaths.get(i);
+                String parentDir = Helper.resolveParentDirectory(path);
+                metadataCache.invalidatePrefix(path);
+                metadataCache.invalidateStat(parentDir);
+                metadataCache.invalidateDirEntry(parentDir, Helper.getBasename(path));
+            }
+
+            // Delete the objects of all deleted files on the OSDs.
+            unlinkAtOsds(result.getDeletedFilesList());
+
+            if (result.hasError()) {
+                throw new PosixErrorException(result.getError().getPosixErrno(), result.getError()
+                        .getErrorMessage());
+            }
+
+            // If the MRC stopped before all paths were deleted, continue with the remaining ones.
+            remainingPaths = remainingPaths.subList(completedPaths, remainingPaths.size());
+        }
+    }
+
+    /**
+     * Sends an xtreemfs_delete_recursive request to the MRC.
+     * 
+     * @return the result, or null if the MRC does not support the request
+     */
+    private xtreemfs_delete_recursiveResponse removeRecursiveAtMrc(UserCredentials userCredentials, List<String> paths)
+            throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+        int attempt = 0;
+        while (true) {
+            String address = uuidResolver.uuidToAddress(mrcUUIDIterator.getUUID());
+            InetSocketAddress server = RPCCaller.getInetSocketAddressFromAddress(address, SERVICES.MRC);
+            RPCResponse<xtreemfs_delete_recursiveResponse> response = mrcServiceClient.xtreemfs_delete_recursive(
+                    server, authBogus, userCredentials, volumeName, paths);
+            try {
+                return response.get();
+            } catch (PBRPCException e) {
+                switch (e.getErrorType()) {
+                case INVALID_PROC_ID:
+                    Logging.logMessage(Logging.LEVEL_INFO, Category.misc, this,
+                            "MRC does not support recursive deletion, deleting entries one by one");
+                    return null;
+                case REDIRECT:
+                    if (++attempt < volumeOptions.getMaxTries()) {
+                        mrcUUIDIterator.markUUIDAsFailed(mrcUUIDIterator.getUUID());
+                        continue;
+                    }
+                    throw e;
+                case ERRNO:
+                    throw new PosixErrorException(e.getPOSIXErrno(), e.getErrorMessage());
+                default:
+                    throw e;
+                }
+            } catch (InterruptedException e) {
+                throw new IOException("Caught interrupt, aborting recursive deletion");
+            } finally {
+                response.freeBuffers();
+            }
+        }
+    }
+
+    private void removeRecursiveAtClient(UserCredentials userCredentials, String path) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException {
+        if (!isDirectory(userCredentials, path)) {
+            unlink(userCredentials, path);
+            return;
+        }
+
+        DirectoryEntries dirEntries = readDir(userCredentials, path, 0, 0, false);
+        for (DirectoryEntry dirEntry : dirEntries.getEntriesList()) {
+            if (dirEntry.getName().equals(".") || dirEntry.getName().equals("..")) {
+                continue;
+            }
+            String entryPath = path + "/" + dirEntry.getName();
+            if ((dirEntry.getStbuf().getMode() & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFDIR.getNumber()) > 0) {
+                removeRecursiveAtClient(userCredentials, entryPath);
+            } else {
+                unlink(userCredentials, entryPath);
+            }
+        }
+        removeDirectory(userCredentials, path);
+    }
+
+    /**
+     * Deletes the objects of all replicas of the given files on the OSDs. Up to
+     * MAX_PENDING_OSD_UNLINKS requests are sent in parallel; all requests are sent even if some of them
+     * fail, and the first error is thrown afterwards.
+     */
+    @SuppressWarnings("unchecked")
+    private void unlinkAtOsds(List<FileCredentials> files) throws IOException, AddressToUUIDNotFoundException {
+        LinkedList<RPCResponse<emptyResponse>> pending = new LinkedList<RPCResponse<emptyResponse>>();
+        IOException error = null;
+
+        for (FileCredentials fc : files) {
+            unlink_osd_Request request = unlink_osd_Request.newBuilder().setFileCredentials(fc)
+                    .setFileId(fc.getXcap().getFileId()).build();
+
+            // Remove _all_ replicas.
+            for (int i = 0; i < fc.getXlocs().getReplicasCount(); i++) {
+                String headOsd = Helper.getOSDUUIDFromXlocSet(fc.getXlocs(), i, 0);
+                InetSocketAddress server = RPCCaller.getInetSocketAddressFromAddress(
+                        uuidResolver.uuidToAddress(headOsd), SERVICES.OSD);
+
+                if (pending.size() == MAX_PENDING_OSD_UNLINKS) {
+                    error = waitForOsdUnlink(pending.removeFirst(), error);
+                }
+                try {
+                    pending.add(osdServiceClient.unlink(server, authBogus, userCredentialsBogus, request));
+                } catch (IOException e) {
+                    if (error == null) {
+                        error = e;
+                    }
+                }
+            }
+        }
+
+        while (!pending.isEmpty()) {
+            error = waitForOsdUnlink(pending.removeFirst(), error);
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private IOException waitForOsdUnlink(RPCResponse<emptyResponse> response, IOException error) {
+        try {
+            response.get();
+        } catch (IOException e) {
+            Logging.logMessage(Logging.LEVEL_WARN, Category.misc, this,
+                    "Failed to delete the objects of a file on the OSD. Reason: %s", e.getMessage());
+            if (error == null) {
+                error = e;
+            }
+        } catch (InterruptedException e) {
+            if (error == null) {
+                error = new IOException("Caught interrupt while deleting files on the OSDs");
+            }
+        } finally {
+            response.freeBuffers();
+        }
+        return error;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -957,52 +1268,84 @@ public class VolumeImplementation implements Volume, AdminVolume {
     @Override
     public DirectoryEntries readDir(UserCredentials userCredentials, String path, int offset, int count,
             boolean namesOnly) throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
-        DirectoryEntries result = null;
+        return readDirAsync(userCredentials, path, offset, count, namesOnly).await();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#readDirAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String, int, int, boolean)
+     */
+    @Override
+    public ClientFuture<DirectoryEntries> readDirAsync(UserCredentials userCredentials, String path,
+            int offset, int count, boolean namesOnly) {
         if (count == 0) {
             count = Integer.MAX_VALUE - offset - 1;
         }
 
         // Try to get DirectoryEntries from cache
-        result = metadataCache.getDirEntries(path, offset, count);
+        DirectoryEntries result = metadataCache.getDirEntries(path, offset, count);
         if (result != null) {
-            return result;
+            return ClientFuture.completed(result);
         }
 
-        DirectoryEntries.Builder dirEntriesBuilder = DirectoryEntries.newBuilder();
+        ClientFuture<DirectoryEntries> future = new ClientFuture<DirectoryEntries>();
+        readDirChunk(userCredentials, path, offset, count, namesOnly, offset, DirectoryEntries.newBuilder(),
+                future);
+        return future;
+    }
 
-        // Process large requests in multiples of readdirChunkSize.
-        for (int currentOffset = offset; currentOffset < offset + count; currentOffset += volumeOptions
-                .getReaddirChunkSize()) {
+    /**
+     * Retrieves the directory entries starting at "currentOffset" and continues with the next chunk until
+     * all requested entries were retrieved. Large requests are processed in multiples of readdirChunkSize.
+     */
+    private void readDirChunk(final UserCredentials userCredentials, final String path, final int offset,
+            final int count, final boolean namesOnly, final int currentOffset,
+            final DirectoryEntries.Builder dirEntriesBuilder, final ClientFuture<DirectoryEntries> result) {
 
-            int limitDirEntriesCount = (currentOffset > offset + count) ? (currentOffset - offset - count)
-                    : volumeOptions.getReaddirChunkSize();
+        int limitDirEntriesCount = (currentOffset > offset + count) ? (currentOffset - offset - count)
+                : volumeOptions.getReaddirChunkSize();
 
-            readdirRequest request = readdirRequest.newBuilder().setPath(path).setVolumeName(volumeName)
-                    .setNamesOnly(namesOnly).setKnownEtag(0).setSeenDirectoryEntriesCount(currentOffset)
-                    .setLimitDirectoryEntriesCount(limitDirEntriesCount).build();
+        readdirRequest request = readdirRequest.newBuilder().setPath(path).setVolumeName(volumeName)
+                .setNamesOnly(namesOnly).setKnownEtag(0).setSeenDirectoryEntriesCount(currentOffset)
+                .setLimitDirectoryEntriesCount(limitDirEntriesCount).build();
 
-            DirectoryEntries readDirResponse = RPCCaller.<readdirRequest, DirectoryEntries> syncCall(SERVICES.MRC,
-                    userCredentials,
-                    authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false, request,
-                    new CallGenerator<readdirRequest, DirectoryEntries>() {
-                        @Override
-                        public RPCResponse<DirectoryEntries> executeCall(InetSocketAddress server,
-                                Auth authHeader, UserCredentials userCreds, readdirRequest input)
-                                throws IOException {
-                            return mrcServiceClient.readdir(server, authHeader, userCreds, input);
-                        }
-                    });
+        ClientFuture<DirectoryEntries> response = RPCCaller.<readdirRequest, DirectoryEntries> asyncCall(
+                SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false,
+                request, new CallGenerator<readdirRequest, DirectoryEntries>() {
+                    @Override
+                    public RPCResponse<DirectoryEntries> executeCall(InetSocketAddress server,
+                            Auth authHeader, UserCredentials userCreds, readdirRequest input)
+                            throws IOException {
+                        return mrcServiceClient.readdir(server, authHeader, userCreds, input);
+                    }
+                });
 
-            assert (readDirResponse != null);
+        response.addListener(new Continuation<DirectoryEntries, DirectoryEntries>(result) {
+            @Override
+            protected void proceed(DirectoryEntries readDirResponse) {
+                assert (readDirResponse != null);
 
-            dirEntriesBuilder.addAllEntries(readDirResponse.getEntriesList());
+                dirEntriesBuilder.addAllEntries(readDirResponse.getEntriesList());
 
-            // Break if this is the last chunk.
-            if (dirEntriesBuilder.getEntriesCount() < (currentOffset + volumeOptions.getReaddirChunkSize())) {
-                break;
+                // Continue unless this is the last chunk.
+                int nextOffset = currentOffset + volumeOptions.getReaddirChunkSize();
+                if (dirEntriesBuilder.getEntriesCount() >= nextOffset && nextOffset < offset + count) {
+                    readDirChunk(userCredentials, path, offset, count, namesOnly, nextOffset, dirEntriesBuilder,
+                            result);
+                } else {
+                    result.complete(readDirFinished(path, offset, count, namesOnly, dirEntriesBuilder));
+                }
             }
-        }
+        });
+    }
 
+    /**
+     * Caches the retrieved directory entries and returns them.
+     */
+    private DirectoryEntries readDirFinished(String path, int offset, int count, boolean namesOnly,
+            DirectoryEntries.Builder dirEntriesBuilder) {
         // TODO: Merge possible pending file size updates of files into
         // the stat entries of listed files.
 
@@ -1032,7 +1375,7 @@ public class VolumeImplementation implements Volume, AdminVolume {
         // condition.
         // TODO: Set an upper bound of dentries, otherwise don't cache it.
 
-        result = dirEntriesBuilder.build();
+        DirectoryEntries result = dirEntriesBuilder.build();
 
         if (!namesOnly && offset == 0 && result.getEntriesCount() < count) {
             metadataCache.updateDirEntries(path, result);
@@ -1564,10 +1907,18 @@ public class VolumeImplementation implements Volume, AdminVolume {
         return this.volumeOptions;
     }
 
+    protected OSDLatencyTracker getOSDLatencyTracker() {
+        return this.client.getOSDLatencyTracker();
+    }
+
     protected ConcurrentHashMap<Long, FileInfo> getOpenFileTable() {
         return this.openFileTable;
     }
 
+    protected MRCUpdateBatcher getMrcUpdateBatcher() {
+        return this.mrcUpdateBatcher;
+    }
+
     protected Auth getAuthBogus() {
         return this.authBogus;
     }
@@ -1580,6 +1931,10 @@ public class VolumeImplementation implements Volume, AdminVolume {
         return this.stripeTranslators;
     }
 
+    protected ExecutorService getAsyncOperationExecutor() {
+        return asyncOperationExecutor;
+    }
+
     protected MetadataCache getMetaDataCache() {
         return this.metadataCache;
     }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.common.xloc;
+
+import java.util.Iterator;
+
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+
+/**
+ * Erasure-coded striping policy. Data objects are striped over the first
+ * <code>width</code> OSDs of the replica like with RAID0; each row of data
+ * objects is protected by <code>parity_width</code> Reed-Solomon parity objects,
+ * which are stored on the remaining OSDs of the replica.
+ * <p>
+ * The parity object of a row has the number and the start offset of the first
+ * data object in the row, and the length of that object, i.e. of the longest
+ * data object in the row. Hence, a parity OSD never reports a larger file size
+ * or last object than the data OSDs, and truncating, extending and padding
+ * parity objects is consistent with the encoding of zero-padded data objects.
+ */
+public class ErasureCodeImpl extends RAID0Impl {
+
+    ErasureCodeImpl(Replica replica, int relOsdPosition) {
+        super(replica, relOsdPosition);
+        if (policy.getParityWidth() <= 0)
+            throw new IllegalArgumentException("parity width must be > 0");
+        if (replica.getOsdUuidsCount() != getWidth() + getParityWidth())
+            throw new IllegalArgumentException("replica must consist of " + (getWidth() + getParityWidth())
+                + " OSDs");
+    }
+
+    @Override
+    public int getParityWidth() {
+        return policy.getParityWidth();
+    }
+
+    /**
+     * @return <code>true</code>, if the OSD at the given position stores
+     *         parity objects
+     */
+    public boolean isParityOSD(int relativeOsdNo) {
+        return relativeOsdNo >= getWidth();
+    }
+
+    /**
+     * @return the number of the parity object of the given row
+     */
+    public long getParityObjectNumber(long row) {
+        return row * getWidth();
+    }
+
+    @Override
+    public long getObjectNoInRow(long row, int relativeOsdNo) {
+        return isParityOSD(relativeOsdNo) ? getParityObjectNumber(row) : super.getObjectNoInRow(row,
+            relativeOsdNo);
+    }
+
+    @Override
+    public boolean isLocalObject(long objNo, int relativeOsdNo) {
+        return isParityOSD(relativeOsdNo) ? objNo % getWidth() == 0 : super.isLocalObject(objNo, relativeOsdNo);
+    }
+
+    @Override
+    public long getGloablObjectNumber(long osdLocalObjNo) {
+        return isParityOSD(relOsdPosition) ? getParityObjectNumber(osdLocalObjNo) : super
+                .getGloablObjectNumber(osdLocalObjNo);
+    }
+
+    @Override
+    public Iterator<Long> getObjectsOfOSD(final int osdIndex, final long startObjectNo, final long endObjectNo) {
+
+        if (!isParityOSD(osdIndex))
+            return super.getObjectsOfOSD(osdIndex, startObjectNo, endObjectNo);
+
+        return new Iterator<Long>() {
+            private long row = getRow(startObjectNo);
+
+            @Override
+            public boolean hasNext() {
+                return getParityObjectNumber(row) <= endObjectNo;
+            }
+
+            @Override
+            public Long next() {
+                return getParityObjectNumber(row++);
+            }
+
+            @Override
+            public void remove() {
+                // nothing to do
+            }
+        };
+    }
+
+    public String toString() {
+        return "StripingPolicy ERASURECODE: " + policy;
+    }
+
+}
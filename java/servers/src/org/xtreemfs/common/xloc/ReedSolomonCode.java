@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.common.xloc;
+
+import java.util.Arrays;
+
+/**
+ * Systematic Reed-Solomon code over GF(2^8).
+ * <p>
+ * Parity shards are computed with a Cauchy matrix, so that the data can be
+ * reconstructed from any <code>dataShards</code> of the
+ * <code>dataShards + parityShards</code> shards. All shards of a stripe have
+ * the same length; shorter data objects are treated as if they were padded
+ * with zeros, which do not change the parity.
+ */
+public class ReedSolomonCode {
+
+    /** x^8 + x^4 + x^3 + x^2 + 1 */
+    private static final int      PRIMITIVE_POLYNOMIAL = 0x11D;
+
+    private static final byte[]   EXP                  = new byte[510];
+
+    private static final int[]    LOG                  = new int[256];
+
+    private static final byte[][] MUL                  = new byte[256][256];
+
+    static {
+        int x = 1;
+        for (int i = 0; i < 255; i++) {
+            EXP[i] = (byte) x;
+            EXP[i + 255] = (byte) x;
+            LOG[x] = i;
+            x <<= 1;
+            if (x >= 256)
+                x ^= PRIMITIVE_POLYNOMIAL;
+        }
+        for (int a = 1; a < 256; a++)
+            for (int b = 1; b < 256; b++)
+                MUL[a][b] = EXP[LOG[a] + LOG[b]];
+    }
+
+    private final int      dataShards;
+
+    private final int      parityShards;
+
+    /** the parity rows of the generator matrix */
+    private final byte[][] parityMatrix;
+
+    public ReedSolomonCode(int dataShards, int parityShards) {
+
+        if (dataShards <= 0 || parityShards < 0 || dataShards + parityShards > 256)
+            throw new IllegalArgumentException("invalid number of shards: " + dataShards + " data, "
+                + parityShards + " parity");
+
+        this.dataShards = dataShards;
+        this.parityShards = parityShards;
+
+        // Cauchy matrix 1 / (x_i + y_j) with x_i = dataShards + i and y_j = j
+        parityMatrix = new byte[parityShards][dataShards];
+        for (int i = 0; i < parityShards; i++)
+            for (int j = 0; j < dataShards; j++)
+                parityMatrix[i][j] = inverse((dataShards + i) ^ j);
+    }
+
+    public int getDataShards() {
+        return dataShards;
+    }
+
+    public int getParityShards() {
+        return parityShards;
+    }
+
+    /**
+     * Computes the parity shards of a stripe.
+     *
+     * @param data
+     *            the data shards, each at least <code>length</code> bytes long
+     * @param parity
+     *            the parity shards to fill, each at least <code>length</code>
+     *            bytes long
+     * @param length
+     *            the number of bytes to encode per shard
+     */
+    public void encode(byte[][] data, byte[][] parity, int length) {
+        assert (data.length == dataShards && parity.length == parityShards);
+        for (int i = 0; i < parityShards; i++)
+            multiply(parityMatrix[i], data, parity[i], length);
+    }
+
+    /**
+     * Reconstructs missing shards of a stripe.
+     *
+     * @param shards
+     *            the data shards followed by the parity shards; missing shards
+     *            must be allocated with at least <code>length</code> bytes and
+     *            will be overwritten
+     * @param present
+     *            which of the shards are available
+     * @param length
+     *            the number of bytes per shard
+     * @throws IllegalArgumentException
+     *             if less than <code>dataShards</code> shards are available
+     */
+    public void reconstruct(byte[][] shards, boolean[] present, int length) {
+
+        assert (shards.length == dataShards + parityShards && present.length == shards.length);
+
+        // select the first dataShards available shards and the corresponding
+        // rows of the generator matrix
+        final int[] rows = new int[dataShards];
+        int count = 0;
+        for (int i = 0; i < shards.length && count < dataShards; i++)
+            if (present[i])
+                rows[count++] = i;
+        if (count < dataShards)
+            throw new IllegalArgumentException("cannot reconstruct stripe from " + count + " of " + dataShards
+                + " required shards");
+
+        boolean dataMissing = false;
+        for (int i = 0; i < dataShards; i++)
+            dataMissing |= !present[i];
+
+        if (dataMissing) {
+            final byte[][] sub = new byte[dataShards][];
+            final byte[][] input = new byte[dataShards][];
+            for (int i = 0; i < dataShards; i++) {
+                sub[i] = getGeneratorRow(rows[i]);
+                input[i] = shards[rows[i]];
+            }
+            final byte[][] decode = invert(sub);
+            for (int i = 0; i < dataShards; i++)
+                if (!present[i])
+                    multiply(decode[i], input, shards[i], length);
+        }
+
+        final byte[][] data = Arrays.copyOf(shards, dataShards);
+        for (int i = 0; i < parityShards; i++)
+            if (!present[dataShards + i])
+                multiply(parityMatrix[i], data, shards[dataShards + i], length);
+    }
+
+    private byte[] getGeneratorRow(int shard) {
+        if (shard >= dataShards)
+            return parityMatrix[shard - dataShards];
+        final byte[] row = new byte[dataShards];
+        row[shard] = 1;
+        return row;
+    }
+
+    private static void multiply(byte[] coefficients, byte[][] inputs, byte[] output, int length) {
+        Arrays.fill(output, 0, length, (byte) 0);
+        for (int j = 0; j < coefficients.length; j++) {
+            final int c = coefficients[j] & 0xFF;
+            if (c == 0)
+                continue;
+            final byte[] in = inputs[j];
+            if (c == 1) {
+                for (int b = 0; b < length; b++)
+                    output[b] ^= in[b];
+            } else {
+                final byte[] mul = MUL[c];
+                for (int b = 0; b < length; b++)
+                    output[b] ^= mul[in[b] & 0xFF];
+            }
+        }
+    }
+
+    /**
+     * Inverts a square matrix over GF(2^8) by Gauss-Jordan elimination.
+     */
+    private static byte[][] invert(byte[][] matrix) {
+
+        final int n = matrix.length;
+        final byte[][] m = new byte[n][];
+        final byte[][] inv = new byte[n][n];
+        for (int i = 0; i < n; i++) {
+            m[i] = matrix[i].clone();
+            inv[i][i] = 1;
+        }
+
+        for (int col = 0; col < n; col++) {
+
+            int pivot = col;
+            while (pivot < n && m[pivot][col] == 0)
+                pivot++;
+            if (pivot == n)
+                throw new IllegalArgumentException("singular matrix");
+            byte[] tmp = m[col];
+            m[col] = m[pivot];
+            m[pivot] = tmp;
+            tmp = inv[col];
+            inv[col] = inv[pivot];
+            inv[pivot] = tmp;
+
+            final byte[] scale = MUL[inverse(m[col][col] & 0xFF) & 0xFF];
+            for (int j = 0; j < n; j++) {
+                m[col][j] = scale[m[col][j] & 0xFF];
+                inv[col][j] = scale[inv[col][j] & 0xFF];
+            }
+
+            for (int row = 0; row < n; row++) {
+                final int factor = m[row][col] & 0xFF;
+                if (row == col || factor == 0)
+                    continue;
+                final byte[] mul = MUL[factor];
+                for (int j = 0; j < n; j++) {
+                    m[row][j] ^= mul[m[col][j] & 0xFF];
+                    inv[row][j] ^= mul[inv[col][j] & 0xFF];
+                }
+            }
+        }
+
+        return inv;
+    }
+
+    private static byte inverse(int a) {
+        assert (a != 0);
+        return EXP[255 - LOG[a]];
+    }
+
+}
@@ -38,6 +38,8 @@ public abstract class StripingPolicyImpl {
     public static StripingPolicyImpl getPolicy(Replica replica, int relOsdPosition) {
         if (replica.getStripingPolicy().getType() == StripingPolicyType.STRIPING_POLICY_RAID0) {
             return new RAID0Impl(replica,relOsdPosition);
+        } else if (replica.getStripingPolicy().getType() == StripingPolicyType.STRIPING_POLICY_ERASURECODE) {
+            return new ErasureCodeImpl(replica, relOsdPosition);
         } else {
             throw new IllegalArgumentException("unknown striping polciy requested");
         }
@@ -52,6 +54,16 @@ public abstract class StripingPolicyImpl {
         return policy.getWidth();
     }
 
+    /**
+     * returns the number of OSDs storing parity objects in addition to the
+     * data OSDs, 0 if the policy has no redundancy
+     * 
+     * @return
+     */
+    public int getParityWidth() {
+        return 0;
+    }
+
     public int getPolicyId() {
         return policy.getType().getNumber();
     }
@@ -60,6 +72,15 @@ public abstract class StripingPolicyImpl {
         return this.policy;
     }
 
+    /**
+     * returns the relative position of the local OSD in the replica
+     * 
+     * @return
+     */
+    public int getRelativeOSDPosition() {
+        return this.relOsdPosition;
+    }
+
     /**
      * returns the object number for the given offset
      * 
@@ -86,6 +107,17 @@ public abstract class StripingPolicyImpl {
 
     public abstract long getRow(long objectNo);
 
+    /**
+     * returns the object of the given row stored on the given OSD
+     * 
+     * @param row
+     * @param relativeOsdNo
+     * @return
+     */
+    public long getObjectNoInRow(long row, int relativeOsdNo) {
+        return row * getWidth() + relativeOsdNo;
+    }
+
     /**
      * returns the first offset of this object
      * 
@@ -47,6 +47,9 @@ public class DIR {
         
         
         Logging.start(config.getDebugLevel(), config.getDebugCategories());
+        Logging.setRateLimit(config.getDebugRateLimit());
+        if (config.isDebugAsync())
+            Logging.startAsync(config.getDebugAsyncQueueSize(), config.getDebugAsyncOverflowPolicy());
         
         BabuDBConfig dbsConfig = new BabuDBConfig(configFileName);
         
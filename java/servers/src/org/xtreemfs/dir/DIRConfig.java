@@ -25,6 +25,10 @@ public class DIRConfig extends ServiceConfig {
     private final Parameter[] dirParameter = {
             Parameter.DEBUG_LEVEL,
             Parameter.DEBUG_CATEGORIES,
+            Parameter.DEBUG_ASYNC,
+            Parameter.DEBUG_ASYNC_QUEUE_SIZE,
+            Parameter.DEBUG_ASYNC_OVERFLOW_POLICY,
+            Parameter.DEBUG_RATE_LIMIT,
             Parameter.PORT,
             Parameter.HTTP_PORT,
             Parameter.LISTEN_ADDRESS,
@@ -101,6 +101,9 @@ public class MRC {
         }
         
         Logging.start(config.getDebugLevel(), config.getDebugCategories());
+        Logging.setRateLimit(config.getDebugRateLimit());
+        if (config.isDebugAsync())
+            Logging.startAsync(config.getDebugAsyncQueueSize(), config.getDebugAsyncOverflowPolicy());
         
         new MRC(config, dbsConfig);
     }
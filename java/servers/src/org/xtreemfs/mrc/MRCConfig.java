@@ -25,6 +25,10 @@ public class MRCConfig extends ServiceConfig {
     final Parameter[] mrcParameter = {
             Parameter.DEBUG_LEVEL,
             Parameter.DEBUG_CATEGORIES,
+            Parameter.DEBUG_ASYNC,
+            Parameter.DEBUG_ASYNC_QUEUE_SIZE,
+            Parameter.DEBUG_ASYNC_OVERFLOW_POLICY,
+            Parameter.DEBUG_RATE_LIMIT,
             Parameter.PORT,
             Parameter.HTTP_PORT,
             Parameter.LISTEN_ADDRESS,
@@ -53,6 +57,10 @@ public class MRCConfig extends ServiceConfig {
             Parameter.CAPABILITY_TIMEOUT,
             Parameter.ADMIN_PASSWORD,
             Parameter.RENEW_TIMED_OUT_CAPS,
+            Parameter.RELAXED_ATIME,
+            Parameter.ATIME_FLUSH_INTERVAL,
+            Parameter.ATIME_TABLE_SIZE,
+            Parameter.ACL_CACHE_SIZE,
             Parameter.USE_SNMP,
             Parameter.SNMP_ADDRESS,
             Parameter.SNMP_PORT,
@@ -124,6 +132,22 @@ public class MRCConfig extends ServiceConfig {
 
     }
 
+    public boolean isRelaxedAtime() {
+        return (Boolean) parameter.get(Parameter.RELAXED_ATIME);
+    }
+
+    public int getAtimeFlushInterval() {
+        return (Integer) parameter.get(Parameter.ATIME_FLUSH_INTERVAL);
+    }
+
+    public int getAtimeTableSize() {
+        return (Integer) parameter.get(Parameter.ATIME_TABLE_SIZE);
+    }
+
+    public int getACLCacheSize() {
+        return (Integer) parameter.get(Parameter.ACL_CACHE_SIZE);
+    }
+
     /**
      * Set default values according to the value in {@link Parameter} for all configuration parameter which
      * are null.
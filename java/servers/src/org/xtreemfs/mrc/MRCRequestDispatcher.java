@@ -59,7 +59,9 @@ import org.xtreemfs.foundation.pbrpc.server.RPCServerRequest;
 import org.xtreemfs.foundation.pbrpc.server.RPCServerRequestListener;
 import org.xtreemfs.foundation.util.OutputUtils;
 import org.xtreemfs.mrc.StatusPage.Vars;
+import org.xtreemfs.mrc.ac.ACLCache;
 import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.AtimeTable;
 import org.xtreemfs.mrc.database.DBAccessResultListener;
 import org.xtreemfs.mrc.database.StorageManager;
 import org.xtreemfs.mrc.database.VolumeInfo;
@@ -67,6 +69,8 @@ import org.xtreemfs.mrc.database.VolumeManager;
 import org.xtreemfs.mrc.database.babudb.BabuDBVolumeManager;
 import org.xtreemfs.mrc.metadata.StripingPolicy;
 import org.xtreemfs.mrc.osdselection.OSDStatusManager;
+import org.xtreemfs.mrc.stages.AtimeFlushThread;
+import org.xtreemfs.mrc.stages.MRCStageCallbackInterface;
 import org.xtreemfs.mrc.stages.OnCloseReplicationThread;
 import org.xtreemfs.mrc.stages.ProcessingStage;
 import org.xtreemfs.mrc.utils.Converter;
@@ -115,6 +119,10 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
 
     private final OnCloseReplicationThread onCloseReplicationThread;
 
+    private final AtimeTable               atimeTable;
+
+    private final AtimeFlushThread         atimeFlushThread;
+
     private final VolumeManager            volumeManager;
 
     private final FileAccessManager        fileAccessManager;
@@ -207,7 +215,7 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
         procStage = new ProcessingStage(this);
 
         volumeManager = new BabuDBVolumeManager(this, dbConfig);
-        fileAccessManager = new FileAccessManager(volumeManager, policyContainer);
+        fileAccessManager = new FileAccessManager(volumeManager, policyContainer, config.getACLCacheSize());
 
         statusListener = new ArrayList<MRCStatusListener>();
         if (config.isUsingSnmp()) {
@@ -328,6 +336,15 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
         onCloseReplicationThread = new OnCloseReplicationThread(this);
         onCloseReplicationThread.setLifeCycleListener(this);
 
+        if (config.isRelaxedAtime() && !config.isNoAtime()) {
+            atimeTable = new AtimeTable(config.getAtimeTableSize());
+            atimeFlushThread = new AtimeFlushThread(this, config.getAtimeFlushInterval());
+            atimeFlushThread.setLifeCycleListener(this);
+        } else {
+            atimeTable = null;
+            atimeFlushThread = null;
+        }
+
         if (replicated) {
             mrcMonitor = new MRCStatusManager(this);
             mrcMonitor.setLifeCycleListener(this);
@@ -339,6 +356,9 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
 
         onCloseReplicationThread.shutdown();
 
+        if (atimeFlushThread != null)
+            atimeFlushThread.shutdown();
+
         heartbeatThread.shutdown();
 
         serverStage.shutdown();
@@ -349,6 +369,11 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
 
         procStage.shutdown();
 
+        // asynchronous shutdowns are initiated by the processing stage, so
+        // that no concurrent metadata updates take place
+        if (atimeTable != null)
+            atimeTable.flush(volumeManager, true);
+
         volumeManager.shutdown();
 
         if (statusServer != null) {
@@ -398,6 +423,11 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
             onCloseReplicationThread.start();
             onCloseReplicationThread.waitForStartup();
 
+            if (atimeFlushThread != null) {
+                atimeFlushThread.start();
+                atimeFlushThread.waitForStartup();
+            }
+
             serverStage.start();
             serverStage.waitForStartup();
 
@@ -421,6 +451,11 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
         onCloseReplicationThread.shutdown();
         onCloseReplicationThread.waitForShutdown();
 
+        if (atimeFlushThread != null) {
+            atimeFlushThread.shutdown();
+            atimeFlushThread.waitForShutdown();
+        }
+
         heartbeatThread.shutdown();
         heartbeatThread.waitForShutdown();
 
@@ -441,6 +476,10 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
         procStage.shutdown();
         procStage.waitForShutdown();
 
+        // write all pending access times before closing the database
+        if (atimeTable != null)
+            atimeTable.flush(volumeManager, true);
+
         volumeManager.shutdown();
 
         statusServer.shutdown();
@@ -598,6 +637,11 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
                         + OutputUtils.formatBytes(Runtime.getRuntime().maxMemory()) + " / "
                         + OutputUtils.formatBytes(Runtime.getRuntime().totalMemory()) + "</span>");
 
+        ACLCache aclCache = fileAccessManager.getACLCache();
+        data.put(Vars.ACLCACHE, aclCache == null ? "disabled" : String.format(
+                "%.1f%% hit ratio (%d hits, %d misses), %d / %d entries", aclCache.getHitRatio() * 100,
+                aclCache.getHits(), aclCache.getMisses(), aclCache.getSize(), aclCache.getCapacity()));
+
         StringBuffer rqTableBuf = new StringBuffer();
         long totalRequests = 0;
         for (Entry<Integer, Integer> entry : procStage.get_opCountMap().entrySet()) {
@@ -720,6 +764,29 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
         return volumeManager;
     }
 
+    /**
+     * @return the table of pending access times, or <code>null</code> if
+     *         access times are written immediately or not at all
+     */
+    public AtimeTable getAtimeTable() {
+        return atimeTable;
+    }
+
+    /**
+     * Asynchronously writes all pending access times to the database.
+     */
+    public void flushAtimes() {
+        procStage.enqueueOperation(new MRCRequest(), ProcessingStage.STAGEOP_FLUSH_ATIMES, null);
+    }
+
+    /**
+     * Continues the processing of a request in the processing stage, e.g.
+     * after an asynchronous database update has been executed.
+     */
+    public void continueRequest(MRCRequest rq, MRCStageCallbackInterface callback) {
+        procStage.enqueueOperation(rq, ProcessingStage.STAGEOP_CONTINUE, callback);
+    }
+
     public FileAccessManager getFileAccessManager() {
         return fileAccessManager;
     }
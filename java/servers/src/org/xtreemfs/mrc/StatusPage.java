@@ -33,7 +33,7 @@ public class StatusPage extends StatusServerModule {
                 "<!-- $GLOBALTIME -->"), GLOBALRESYNC("<!-- $GLOBALRESYNC -->"), LOCALTIME("<!-- $LOCALTIME -->"), LOCALRESYNC(
                 "<!-- $LOCALRESYNC -->"), MEMSTAT("<!-- $MEMSTAT -->"), UUIDCACHE("<!-- $UUIDCACHE -->"), DISKFREE(
                 "<!-- $DISKFREE -->"), PROTOVERSION("<!-- $PROTOVERSION -->"), VERSION("<!-- $VERSION -->"), DBVERSION(
-                "<!-- $DBVERSION -->");
+                "<!-- $DBVERSION -->"), ACLCACHE("<!-- $ACLCACHE -->");
 
         private String template;
 
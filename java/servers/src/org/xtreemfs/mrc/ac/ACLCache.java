@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.ac;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.xtreemfs.mrc.metadata.ACLEntry;
+
+/**
+ * Caches the access control lists of files in a compiled form, so that access
+ * checks do not require any database lookups. Files without an ACL are cached
+ * as well, as {@link CompiledACL#NONE}.
+ * <p>
+ * Entries have to be replaced once a change of the ACL of a file has been
+ * written to the database, and should be removed when the file is deleted.
+ * ACLs read from the database are added with
+ * {@link #putIfUnmodified(String, long, CompiledACL, long)}, so that an ACL
+ * read before a concurrent change has been applied does not replace the new
+ * ACL.
+ */
+public class ACLCache {
+
+    private final int                               capacity;
+
+    private final LinkedHashMap<String, CompiledACL> entries;
+
+    private long                                    hits;
+
+    private long                                    misses;
+
+    private long                                    modCount;
+
+    /**
+     * @param capacity
+     *            maximum number of cached ACLs
+     */
+    public ACLCache(final int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<String, CompiledACL>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledACL> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * @return the cached ACL of the file, or <code>null</code> if it is not
+     *         cached
+     */
+    public synchronized CompiledACL get(String volumeId, long fileId) {
+        CompiledACL acl = entries.get(key(volumeId, fileId));
+        if (acl == null)
+            misses++;
+        else
+            hits++;
+        return acl;
+    }
+
+    public synchronized void put(String volumeId, long fileId, CompiledACL acl) {
+        entries.put(key(volumeId, fileId), acl);
+        modCount++;
+    }
+
+    /**
+     * Adds an ACL that has been read from the database, unless any entry has
+     * been replaced or removed since the given modification count was
+     * retrieved.
+     */
+    public synchronized void putIfUnmodified(String volumeId, long fileId, CompiledACL acl, long modCount) {
+        if (modCount == this.modCount)
+            entries.put(key(volumeId, fileId), acl);
+    }
+
+    public synchronized void invalidate(String volumeId, long fileId) {
+        entries.remove(key(volumeId, fileId));
+        modCount++;
+    }
+
+    /**
+     * @return the number of entries replaced or removed so far, which has to
+     *         be retrieved before an ACL is read from the database
+     */
+    public synchronized long getModCount() {
+        return modCount;
+    }
+
+    public synchronized int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the ratio of cache hits to all lookups, between 0 and 1
+     */
+    public synchronized double getHitRatio() {
+        final long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    private static String key(String volumeId, long fileId) {
+        return volumeId + ":" + fileId;
+    }
+
+    /**
+     * The rights of all entries of an ACL, in the representation of
+     * {@link POSIXFileAccessPolicy}. Instances are immutable.
+     */
+    public static final class CompiledACL {
+
+        /** rights value of entries that do not exist */
+        public static final int          MISSING = -1;
+
+        /** the ACL of files that do not have an ACL */
+        public static final CompiledACL  NONE    = new CompiledACL(MISSING, MISSING, MISSING, MISSING,
+                                                     Collections.<String, Short> emptyMap(), Collections
+                                                             .<String, Short> emptyMap());
+
+        private final int                owner;
+
+        private final int                owningGroup;
+
+        private final int                other;
+
+        private final int                mask;
+
+        private final Map<String, Short> namedUsers;
+
+        private final Map<String, Short> namedGroups;
+
+        private CompiledACL(int owner, int owningGroup, int other, int mask, Map<String, Short> namedUsers,
+            Map<String, Short> namedGroups) {
+            this.owner = owner;
+            this.owningGroup = owningGroup;
+            this.other = other;
+            this.mask = mask;
+            this.namedUsers = namedUsers;
+            this.namedGroups = namedGroups;
+        }
+
+        /**
+         * Compiles an ACL from a map of entity names and rights; entries
+         * without rights are ignored.
+         */
+        public static CompiledACL compile(Map<String, ? extends Number> acl) {
+
+            boolean empty = true;
+            int owner = MISSING;
+            int owningGroup = MISSING;
+            int other = MISSING;
+            int mask = MISSING;
+            Map<String, Short> namedUsers = new HashMap<String, Short>();
+            Map<String, Short> namedGroups = new HashMap<String, Short>();
+
+            for (Map.Entry<String, ? extends Number> entry : acl.entrySet()) {
+
+                if (entry.getValue() == null)
+                    continue;
+
+                final String entity = entry.getKey();
+                final short rights = entry.getValue().shortValue();
+                empty = false;
+
+                if (POSIXFileAccessPolicy.OWNER.equals(entity))
+                    owner = rights;
+                else if (POSIXFileAccessPolicy.OWNER_GROUP.equals(entity))
+                    owningGroup = rights;
+                else if (POSIXFileAccessPolicy.OTHER.equals(entity))
+                    other = rights;
+                else if (POSIXFileAccessPolicy.MASK.equals(entity))
+                    mask = rights;
+                else if (entity.startsWith(POSIXFileAccessPolicy.NAMED_USER_PREFIX))
+                    namedUsers.put(entity.substring(POSIXFileAccessPolicy.NAMED_USER_PREFIX.length()), rights);
+                else if (entity.startsWith(POSIXFileAccessPolicy.NAMED_GROUP_PREFIX))
+                    namedGroups.put(entity.substring(POSIXFileAccessPolicy.NAMED_GROUP_PREFIX.length()), rights);
+            }
+
+            return empty ? NONE : new CompiledACL(owner, owningGroup, other, mask, namedUsers, namedGroups);
+        }
+
+        /**
+         * Compiles an ACL from its database entries.
+         */
+        public static CompiledACL compile(Iterator<ACLEntry> acl) {
+            Map<String, Short> map = new HashMap<String, Short>();
+            while (acl.hasNext()) {
+                ACLEntry entry = acl.next();
+                map.put(entry.getEntity(), entry.getRights());
+            }
+            return compile(map);
+        }
+
+        /**
+         * @return <code>true</code> if the file has an ACL, which means that
+         *         access is checked according to the ACL rather than the
+         *         permissions of the file
+         */
+        public boolean exists() {
+            return this != NONE;
+        }
+
+        public int getOwner() {
+            return owner;
+        }
+
+        public int getOwningGroup() {
+            return owningGroup;
+        }
+
+        public int getOther() {
+            return other;
+        }
+
+        public int getMask() {
+            return mask;
+        }
+
+        /**
+         * @return the rights of the named user, or {@link #MISSING}
+         */
+        public int getNamedUser(String userId) {
+            Short rights = namedUsers.get(userId);
+            return rights == null ? MISSING : rights;
+        }
+
+        /**
+         * @return the rights of the named group, or {@link #MISSING}
+         */
+        public int getNamedGroup(String groupId) {
+            Short rights = namedGroups.get(groupId);
+            return rights == null ? MISSING : rights;
+        }
+    }
+}
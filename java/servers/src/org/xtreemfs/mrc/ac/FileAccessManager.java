@@ -66,10 +66,22 @@ public class FileAccessManager {
     
     private MRCPolicyContainer                 policyContainer;
     
+    private final ACLCache                     aclCache;
+    
     public FileAccessManager(VolumeManager volMan, MRCPolicyContainer policyContainer) {
+        this(volMan, policyContainer, 0);
+    }
+    
+    /**
+     * @param aclCacheSize
+     *            maximum number of compiled ACLs cached for access checks; 0
+     *            disables the cache
+     */
+    public FileAccessManager(VolumeManager volMan, MRCPolicyContainer policyContainer, int aclCacheSize) {
         
         this.volMan = volMan;
         this.policyContainer = policyContainer;
+        this.aclCache = aclCacheSize > 0 ? new ACLCache(aclCacheSize) : null;
         
         policies = new HashMap<Short, FileAccessPolicy>();
     }
@@ -144,6 +156,23 @@ public class FileAccessManager {
             entities, update);
     }
     
+    /**
+     * Removes the cached ACL of a file. Has to be invoked when a file is
+     * deleted.
+     */
+    public void invalidateACL(String volumeId, long fileId) {
+        if (aclCache != null)
+            aclCache.invalidate(volumeId, fileId);
+    }
+    
+    /**
+     * @return the cache for compiled ACLs, or <code>null</code> if ACLs are
+     *         not cached
+     */
+    public ACLCache getACLCache() {
+        return aclCache;
+    }
+    
     public FileAccessPolicy getFileAccessPolicy(short policyId) {
         
         FileAccessPolicy policy = policies.get(policyId);
@@ -153,6 +182,8 @@ public class FileAccessManager {
         if (policy == null) {
             try {
                 policy = policyContainer.getFileAccessPolicy(policyId, volMan);
+                if (policy instanceof POSIXFileAccessPolicy)
+                    ((POSIXFileAccessPolicy) policy).setACLCache(aclCache);
                 policies.put(policyId, policy);
             } catch (Exception exc) {
                 Logging.logMessage(Logging.LEVEL_WARN, Category.misc, this,
@@ -16,10 +16,13 @@ import java.util.Map.Entry;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
 import org.xtreemfs.mrc.MRCException;
 import org.xtreemfs.mrc.UserException;
+import org.xtreemfs.mrc.ac.ACLCache.CompiledACL;
 import org.xtreemfs.mrc.database.AtomicDBUpdate;
+import org.xtreemfs.mrc.database.DBAccessResultListener;
 import org.xtreemfs.mrc.database.DatabaseException;
 import org.xtreemfs.mrc.database.DatabaseResultSet;
 import org.xtreemfs.mrc.database.StorageManager;
+import org.xtreemfs.mrc.database.VolumeInfo;
 import org.xtreemfs.mrc.metadata.ACLEntry;
 import org.xtreemfs.mrc.metadata.FileMetadata;
 import org.xtreemfs.mrc.utils.Converter;
@@ -160,9 +163,19 @@ public class POSIXFileAccessPolicy implements FileAccessPolicy {
 
     protected static final short  READ_ONLY_MASK     = (-1 & 365);
 
+    private ACLCache              aclCache;
+
     public POSIXFileAccessPolicy() {
     }
 
+    /**
+     * Sets the cache for compiled ACLs. If no cache is set, the ACL is read
+     * from the database with each access check.
+     */
+    public void setACLCache(ACLCache aclCache) {
+        this.aclCache = aclCache;
+    }
+
     @Override
     public String translateAccessFlags(int accessMode) {
 
@@ -206,36 +219,41 @@ public class POSIXFileAccessPolicy implements FileAccessPolicy {
 
         assert (file != null);
 
-        DatabaseResultSet<ACLEntry> aclSet = null;
         try {
 
             // check whether an ACL exists; if so, use the ACL for the access
             // check ...
-            aclSet = sMan.getACL(file.getId());
-            if (aclSet.hasNext()) {
-
-                // retrieve the relevant ACL entry for evaluating the access
-                // rights
-                ACLEntry entry = getRelevantACLEntry(sMan, file, parentId, userId, groupIds, accessMode);
-                assert (entry != null);
+            CompiledACL acl = getCompiledACL(sMan, file);
+            if (acl.exists()) {
 
-                // if the ACL entry is 'owner' or 'others', evaluate the access
-                // rights without taking into account the 'mask' entry
-                if (OTHER.equals(entry.getEntity()) || OWNER.equals(entry.getEntity())) {
+                // if the user ID is the owner, evaluate the access rights of
+                // the owner entry without taking into account the 'mask' entry
+                if (file.getOwnerId().equals(userId)) {
 
-                    if (checkIfAllowed(sMan, accessMode, entry.getRights(), file, parentId, userId)) {
+                    if (checkIfAllowed(sMan, accessMode, toRights(acl.getOwner()), file, parentId, userId)) {
                         return;
                     } else
                         accessDenied(sMan.getVolumeInfo().getId(), file, accessMode, userId);
 
                 }
 
-                // otherwise, check whether both the entry and the mask entry
-                // grant access
-                ACLEntry maskEntry = sMan.getACLEntry(file.getId(), MASK);
-                if (checkIfAllowed(sMan, accessMode, entry.getRights(), file, parentId, userId)
-                        && (maskEntry == null || checkIfAllowed(sMan, accessMode, maskEntry.getRights(), file,
-                                parentId, userId)))
+                // retrieve the rights of the relevant named user or group
+                // entry; if there is one, check whether both the entry and
+                // the mask entry grant access
+                int rights = getRelevantACLRights(sMan, acl, file, parentId, userId, groupIds, accessMode);
+                if (rights != CompiledACL.MISSING) {
+
+                    if (checkIfAllowed(sMan, accessMode, (short) rights, file, parentId, userId)
+                            && (acl.getMask() == CompiledACL.MISSING || checkIfAllowed(sMan, accessMode,
+                                    (short) acl.getMask(), file, parentId, userId)))
+                        return;
+                    else
+                        accessDenied(sMan.getVolumeInfo().getId(), file, accessMode, userId);
+                }
+
+                // otherwise, evaluate the access rights of the 'other' entry
+                // without taking into account the 'mask' entry
+                if (checkIfAllowed(sMan, accessMode, toRights(acl.getOther()), file, parentId, userId))
                     return;
                 else
                     accessDenied(sMan.getVolumeInfo().getId(), file, accessMode, userId);
@@ -255,9 +273,6 @@ public class POSIXFileAccessPolicy implements FileAccessPolicy {
             throw exc;
         } catch (Exception exc) {
             throw new MRCException(exc);
-        } finally {
-            if (aclSet != null)
-                aclSet.destroy();
         }
 
     }
@@ -383,6 +398,8 @@ public class POSIXFileAccessPolicy implements FileAccessPolicy {
 
             sMan.setMetadata(file, FileMetadata.RC_METADATA, update);
 
+            cacheACL(sMan, file, aclMap, update);
+
         } catch (Exception exc) {
             throw new MRCException(exc);
         } finally {
@@ -463,6 +480,17 @@ public class POSIXFileAccessPolicy implements FileAccessPolicy {
             sMan.setACLEntry(file.getId(), MASK, grr, update);
             sMan.setACLEntry(file.getId(), OTHER, otr, update);
 
+            Map<String, Object> aclMap = new HashMap<String, Object>();
+            while (aclSet.hasNext()) {
+                ACLEntry next = aclSet.next();
+                aclMap.put(next.getEntity(), next.getRights());
+            }
+            aclMap.put(OWNER, owr);
+            aclMap.put(OWNER_GROUP, grr);
+            aclMap.put(MASK, grr);
+            aclMap.put(OTHER, otr);
+            cacheACL(sMan, file, aclMap, update);
+
         } catch (Exception exc) {
             throw new MRCException(exc);
         } finally {
@@ -580,24 +608,15 @@ public class POSIXFileAccessPolicy implements FileAccessPolicy {
 
     }
 
-    private static ACLEntry getRelevantACLEntry(StorageManager sMan, FileMetadata file, long parentId, String userId,
-            List<String> groupIds, String accessMode) throws UserException, DatabaseException {
-
-        // if the user ID is the owner, check access according to the rights
-        // associated with the owner entry
-        if (file.getOwnerId().equals(userId)) {
-
-            ACLEntry entry = sMan.getACLEntry(file.getId(), OWNER);
-            assert (entry != null);
-
-            return entry;
-        }
+    private static int getRelevantACLRights(StorageManager sMan, CompiledACL acl, FileMetadata file,
+            long parentId, String userId, List<String> groupIds, String accessMode) throws UserException,
+            DatabaseException {
 
         // if the user ID refers to a named user, check access according to
         // the corresponding user rights
-        ACLEntry entry = sMan.getACLEntry(file.getId(), NAMED_USER_PREFIX + userId);
-        if (entry != null)
-            return entry;
+        int rights = acl.getNamedUser(userId);
+        if (rights != CompiledACL.MISSING)
+            return rights;
 
         boolean groupFound = false;
 
@@ -606,9 +625,8 @@ public class POSIXFileAccessPolicy implements FileAccessPolicy {
         for (String groupId : groupIds) {
             if (groupId.equals(file.getOwningGroupId())) {
 
-                entry = sMan.getACLEntry(file.getId(), OWNER_GROUP);
-                if (checkIfAllowed(sMan, accessMode, entry.getRights(), file, parentId, userId))
-                    return entry;
+                if (checkIfAllowed(sMan, accessMode, toRights(acl.getOwningGroup()), file, parentId, userId))
+                    return acl.getOwningGroup();
 
                 groupFound = true;
             }
@@ -618,12 +636,12 @@ public class POSIXFileAccessPolicy implements FileAccessPolicy {
         // access is granted according to the corresponding group rights
         for (String groupId : groupIds) {
 
-            entry = sMan.getACLEntry(file.getId(), NAMED_GROUP_PREFIX + groupId);
+            rights = acl.getNamedGroup(groupId);
 
-            if (entry != null) {
+            if (rights != CompiledACL.MISSING) {
 
-                if (checkIfAllowed(sMan, accessMode, entry.getRights(), file, parentId, userId))
-                    return entry;
+                if (checkIfAllowed(sMan, accessMode, (short) rights, file, parentId, userId))
+                    return rights;
 
                 groupFound = true;
             }
@@ -634,9 +652,71 @@ public class POSIXFileAccessPolicy implements FileAccessPolicy {
         if (groupFound)
             accessDenied(sMan.getVolumeInfo().getId(), file, accessMode, userId);
 
-        entry = sMan.getACLEntry(file.getId(), OTHER);
-        assert (entry != null);
-        return entry;
+        return CompiledACL.MISSING;
+    }
+
+    private static short toRights(int aclRights) {
+        return aclRights == CompiledACL.MISSING ? 0 : (short) aclRights;
+    }
+
+    /**
+     * Returns the compiled ACL of a file, either from the cache or from the
+     * database. The ACLs of snapshots are not cached, since snapshots share
+     * the volume ID with the volume.
+     */
+    private CompiledACL getCompiledACL(StorageManager sMan, FileMetadata file) throws DatabaseException {
+
+        final VolumeInfo volume = sMan.getVolumeInfo();
+        final boolean cacheable = aclCache != null && !volume.isSnapVolume();
+
+        CompiledACL acl = cacheable ? aclCache.get(volume.getId(), file.getId()) : null;
+        if (acl != null)
+            return acl;
+
+        final long modCount = cacheable ? aclCache.getModCount() : 0;
+        DatabaseResultSet<ACLEntry> aclSet = sMan.getACL(file.getId());
+        try {
+            acl = CompiledACL.compile(aclSet);
+        } finally {
+            aclSet.destroy();
+        }
+
+        if (cacheable)
+            aclCache.putIfUnmodified(volume.getId(), file.getId(), acl, modCount);
+
+        return acl;
+    }
+
+    /**
+     * Replaces the cached ACL of a file with a modified ACL once the database
+     * update has been executed, or removes it if the update has failed.
+     */
+    private void cacheACL(StorageManager sMan, FileMetadata file, Map<String, Object> aclMap,
+            AtomicDBUpdate update) throws DatabaseException {
+
+        final VolumeInfo volume = sMan.getVolumeInfo();
+        if (aclCache == null || volume.isSnapVolume())
+            return;
+
+        Map<String, Number> rights = new HashMap<String, Number>();
+        for (Entry<String, Object> entry : aclMap.entrySet())
+            rights.put(entry.getKey(), (Number) entry.getValue());
+
+        final String volumeId = volume.getId();
+        final long fileId = file.getId();
+        final CompiledACL acl = CompiledACL.compile(rights);
+        update.addListener(new DBAccessResultListener<Object>() {
+
+            @Override
+            public void finished(Object result, Object context) {
+                aclCache.put(volumeId, fileId, acl);
+            }
+
+            @Override
+            public void failed(Throwable error, Object context) {
+                aclCache.invalidate(volumeId, fileId);
+            }
+        });
     }
 
     protected static Map<String, Object> convertToACL(long mode) throws MRCException {
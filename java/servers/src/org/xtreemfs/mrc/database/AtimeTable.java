@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.database;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.mrc.UserException;
+import org.xtreemfs.mrc.metadata.FileMetadata;
+
+/**
+ * In-memory table of access time updates that have not been written to the
+ * database yet. Multiple accesses to the same file are coalesced into a single
+ * entry holding the latest access time.
+ * <p>
+ * Entries are written to the database in batches, i.e. with one update per
+ * volume, when the table is flushed. A flush only increases access times, so
+ * that entries that were superseded by explicitly set access times are
+ * ignored. Entries of files and volumes that have been deleted in the meantime
+ * are dropped.
+ */
+public class AtimeTable {
+
+    private final int                       maxSize;
+
+    /**
+     * volume ID -> (file ID -> atime)
+     */
+    private Map<String, Map<Long, Integer>> volumes;
+
+    private int                             size;
+
+    /**
+     * @param maxSize
+     *            the number of files with pending access times, above which
+     *            the table should be flushed
+     */
+    public AtimeTable(int maxSize) {
+        this.maxSize = maxSize;
+        this.volumes = new HashMap<String, Map<Long, Integer>>();
+    }
+
+    /**
+     * Records an access to a file.
+     *
+     * @return <code>true</code>, if the table is full and should be flushed
+     */
+    public synchronized boolean recordAccess(String volumeId, long fileId, int atime) {
+
+        Map<Long, Integer> files = volumes.get(volumeId);
+        if (files == null) {
+            files = new HashMap<Long, Integer>();
+            volumes.put(volumeId, files);
+        }
+
+        Integer old = files.put(fileId, atime);
+        if (old == null)
+            size++;
+        else if (old > atime)
+            files.put(fileId, old);
+
+        return size >= maxSize;
+    }
+
+    /**
+     * Returns the access time of a file, taking into account a pending access
+     * time.
+     */
+    public synchronized int getAtime(String volumeId, FileMetadata file) {
+        Map<Long, Integer> files = volumes.get(volumeId);
+        Integer atime = files == null ? null : files.get(file.getId());
+        return atime == null ? file.getAtime() : Math.max(atime, file.getAtime());
+    }
+
+    /**
+     * Discards the pending access time of a file, e.g. because the access
+     * time was set explicitly.
+     */
+    public synchronized void discard(String volumeId, long fileId) {
+        Map<Long, Integer> files = volumes.get(volumeId);
+        if (files != null && files.remove(fileId) != null)
+            size--;
+    }
+
+    /**
+     * Adds the pending access time of a file to the given update and removes
+     * it from the table.
+     *
+     * @return <code>true</code>, if the update was modified
+     */
+    public boolean apply(String volumeId, StorageManager sMan, FileMetadata file, AtomicDBUpdate update)
+        throws DatabaseException {
+
+        Integer atime;
+        synchronized (this) {
+            Map<Long, Integer> files = volumes.get(volumeId);
+            atime = files == null ? null : files.remove(file.getId());
+            if (atime != null)
+                size--;
+        }
+
+        if (atime == null || atime <= file.getAtime())
+            return false;
+
+        file.setAtime(atime);
+        sMan.setMetadata(file, FileMetadata.FC_METADATA, update);
+        return true;
+    }
+
+    /**
+     * Writes all pending access times to the database and clears the table.
+     *
+     * @param vMan
+     *            the volume manager
+     * @param sync
+     *            if <code>true</code>, the method returns after the updates
+     *            have been executed
+     */
+    public void flush(VolumeManager vMan, boolean sync) {
+
+        Map<String, Map<Long, Integer>> pending;
+        synchronized (this) {
+            if (size == 0)
+                return;
+            pending = volumes;
+            volumes = new HashMap<String, Map<Long, Integer>>();
+            size = 0;
+        }
+
+        int count = 0;
+        for (Entry<String, Map<Long, Integer>> volume : pending.entrySet()) {
+
+            try {
+
+                StorageManager sMan = vMan.getStorageManager(volume.getKey());
+                AtomicDBUpdate update = sMan.createAtomicDBUpdate(sync ? null : new FlushListener(), volume
+                        .getKey());
+
+                boolean modified = false;
+                for (Entry<Long, Integer> entry : volume.getValue().entrySet()) {
+
+                    FileMetadata file = sMan.getMetadata(entry.getKey());
+                    if (file == null || entry.getValue() <= file.getAtime())
+                        continue;
+
+                    file.setAtime(entry.getValue());
+                    sMan.setMetadata(file, FileMetadata.FC_METADATA, update);
+                    modified = true;
+                    count++;
+                }
+
+                if (modified)
+                    update.execute();
+
+            } catch (UserException exc) {
+                // the volume has been deleted
+                continue;
+            } catch (DatabaseException exc) {
+                Logging.logMessage(Logging.LEVEL_ERROR, Category.storage, this,
+                    "could not write access times of volume %s: %s", volume.getKey(), exc.getMessage());
+            }
+        }
+
+        if (Logging.isDebug())
+            Logging.logMessage(Logging.LEVEL_DEBUG, Category.storage, this, "flushed %d access times", count);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Logs failed asynchronous flushes.
+     */
+    private static final class FlushListener implements DBAccessResultListener<Object> {
+
+        @Override
+        public void finished(Object result, Object context) {
+        }
+
+        @Override
+        public void failed(Throwable error, Object context) {
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.storage, this,
+                "could not write access times of volume %s: %s", context, error.getMessage());
+        }
+    }
+
+}
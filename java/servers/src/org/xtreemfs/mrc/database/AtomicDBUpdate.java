@@ -24,6 +24,13 @@ public interface AtomicDBUpdate {
      */
     public void addUpdate(Object... update);
     
+    /**
+     * Checks whether any updates have been added to the collection.
+     * 
+     * @return <code>true</code>, if no updates have been added
+     */
+    public boolean isEmpty();
+    
     /**
      * Atomically executes all updates.
      * 
@@ -31,4 +38,13 @@ public interface AtomicDBUpdate {
      */
     public void execute() throws DatabaseException;
     
+    /**
+     * Registers an additional listener that is notified when the updates have
+     * been executed, before the listener passed when the update was created.
+     * 
+     * @param listener
+     *            the listener
+     */
+    public void addListener(DBAccessResultListener<Object> listener);
+    
 }
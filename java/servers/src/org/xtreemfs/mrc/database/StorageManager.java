@@ -60,6 +60,8 @@ public interface StorageManager {
     
     public StripingPolicy createStripingPolicy(String pattern, int stripeSize, int width);
     
+    public StripingPolicy createStripingPolicy(String pattern, int stripeSize, int width, int parityWidth);
+    
     public XAttr createXAttr(long fileId, String owner, String key, byte[] value);
     
     public void dumpDB(BufferedWriter xmlWriter) throws DatabaseException, IOException;
@@ -11,6 +11,7 @@ package org.xtreemfs.mrc.database.babudb;
 import org.xtreemfs.babudb.api.database.DatabaseRequestListener;
 import org.xtreemfs.babudb.api.exception.BabuDBException;
 import org.xtreemfs.mrc.database.AtomicDBUpdate;
+import org.xtreemfs.mrc.database.DBAccessResultListener;
 import org.xtreemfs.mrc.database.DatabaseException;
 
 public class AtomicBabuDBSnapshotUpdate implements AtomicDBUpdate {
@@ -30,10 +31,20 @@ public class AtomicBabuDBSnapshotUpdate implements AtomicDBUpdate {
     public void addUpdate(Object... update) {
     }
     
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+    
     @Override
     public void execute() throws DatabaseException {
         if (listener != null)
             listener.finished(null, context);
     }
     
+    @Override
+    public void addListener(DBAccessResultListener<Object> listener) {
+        // snapshots cannot be modified
+    }
+    
 }
@@ -8,11 +8,18 @@
 
 package org.xtreemfs.mrc.database.babudb;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.xtreemfs.babudb.api.database.Database;
 import org.xtreemfs.babudb.api.database.DatabaseInsertGroup;
 import org.xtreemfs.babudb.api.database.DatabaseRequestListener;
 import org.xtreemfs.babudb.api.exception.BabuDBException;
 import org.xtreemfs.mrc.database.AtomicDBUpdate;
+import org.xtreemfs.mrc.database.DBAccessResultListener;
 import org.xtreemfs.mrc.database.DatabaseException;
 
 public class AtomicBabuDBUpdate implements AtomicDBUpdate {
@@ -25,6 +32,16 @@ public class AtomicBabuDBUpdate implements AtomicDBUpdate {
     
     private Object                          context;
     
+    private int                             numUpdates;
+    
+    /**
+     * values of volume metadata (e.g. counters) written in this group, so that
+     * multiple updates of the same entry are accumulated
+     */
+    private Map<ByteBuffer, byte[]>         volumeUpdates;
+    
+    private List<DBAccessResultListener<Object>> listeners;
+    
     // private List<Object[]> updates;
     //    
     // private String dbName;
@@ -45,9 +62,34 @@ public class AtomicBabuDBUpdate implements AtomicDBUpdate {
     @Override
     public void addUpdate(Object... update) {
         ig.addInsert((Integer) update[0], (byte[]) update[1], (byte[]) update[2]);
+        numUpdates++;
+        
+        if ((Integer) update[0] == BabuDBStorageManager.VOLUME_INDEX) {
+            if (volumeUpdates == null)
+                volumeUpdates = new HashMap<ByteBuffer, byte[]>();
+            volumeUpdates.put(ByteBuffer.wrap((byte[]) update[1]), (byte[]) update[2]);
+        }
         // updates.add(update);
     }
     
+    /**
+     * Returns the value of a volume metadata entry that has been written in
+     * this group.
+     * 
+     * @param key
+     *            the key in the volume index
+     * @return the value, or <code>null</code> if the entry has not been
+     *         written in this group
+     */
+    public byte[] getVolumeUpdate(byte[] key) {
+        return volumeUpdates == null ? null : volumeUpdates.get(ByteBuffer.wrap(key));
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return numUpdates == 0;
+    }
+    
     @Override
     public void execute() throws DatabaseException {
         try {
@@ -55,15 +97,50 @@ public class AtomicBabuDBUpdate implements AtomicDBUpdate {
             // checkDBConsistency();
             
             if (listener != null) {
-                database.insert(ig, context).registerListener(listener);
-            } else
+                database.insert(ig, context).registerListener(listeners == null ? listener
+                    : new DatabaseRequestListener<Object>() {
+                        
+                        @Override
+                        public void finished(Object result, Object context) {
+                            notifyListeners(null);
+                            listener.finished(result, context);
+                        }
+                        
+                        @Override
+                        public void failed(BabuDBException error, Object context) {
+                            notifyListeners(error);
+                            listener.failed(error, context);
+                        }
+                    });
+            } else {
                 database.insert(ig, context).get();
+                notifyListeners(null);
+            }
             
         } catch (Exception exc) {
+            notifyListeners(exc);
             throw new DatabaseException(exc);
         }
     }
     
+    @Override
+    public void addListener(DBAccessResultListener<Object> listener) {
+        if (listeners == null)
+            listeners = new ArrayList<DBAccessResultListener<Object>>();
+        listeners.add(listener);
+    }
+    
+    private void notifyListeners(Throwable error) {
+        if (listeners == null)
+            return;
+        for (DBAccessResultListener<Object> l : listeners)
+            if (error == null)
+                l.finished(null, context);
+            else
+                l.failed(error, context);
+        listeners = null;
+    }
+    
     public String toString() {
         return ig.toString();
     }
@@ -463,6 +463,11 @@ public class BabuDBSnapshotStorageManager implements StorageManager {
         return null;
     }
     
+    @Override
+    public StripingPolicy createStripingPolicy(String pattern, int stripeSize, int width, int parityWidth) {
+        return null;
+    }
+    
     @Override
     public FileMetadata createSymLink(long fileId, long parentId, String fileName, int atime, int ctime,
         int mtime, String userId, String groupId, String ref, AtomicDBUpdate update) throws DatabaseException {
@@ -260,6 +260,11 @@ public class BabuDBStorageManager implements StorageManager {
         return new BufferBackedStripingPolicy(pattern, stripeSize, width);
     }
     
+    @Override
+    public StripingPolicy createStripingPolicy(String pattern, int stripeSize, int width, int parityWidth) {
+        return new BufferBackedStripingPolicy(pattern, stripeSize, width, parityWidth);
+    }
+    
     @Override
     public XAttr createXAttr(long fileId, String owner, String key, byte[] value) {
         return new BufferBackedXAttr(fileId, owner, key, value, (short) 0);
@@ -993,7 +998,8 @@ public class BabuDBStorageManager implements StorageManager {
     
     protected void updateVolumeSize(long diff, AtomicDBUpdate update) throws DatabaseException {
         
-        long newSize = getVolumeSize() + diff;
+        byte[] pendingSize = getPendingVolumeUpdate(update, VOL_SIZE_KEY);
+        long newSize = (pendingSize != null ? ByteBuffer.wrap(pendingSize).getLong(0) : getVolumeSize()) + diff;
         
         byte[] sizeBytes = new byte[8];
         ByteBuffer.wrap(sizeBytes).putLong(0, newSize);
@@ -1049,7 +1055,11 @@ public class BabuDBStorageManager implements StorageManager {
     private void updateCount(byte[] key, boolean increment, AtomicDBUpdate update) throws DatabaseException {
         
         try {
-            byte[] countBytes = BabuDBStorageHelper.getVolumeMetadata(database, key);
+            byte[] countBytes = getPendingVolumeUpdate(update, key);
+            if (countBytes == null)
+                countBytes = BabuDBStorageHelper.getVolumeMetadata(database, key);
+            else
+                countBytes = countBytes.clone();
             ByteBuffer countBuf = ByteBuffer.wrap(countBytes);
             countBuf.putLong(0, countBuf.getLong() + (increment ? 1 : -1));
             
@@ -1059,6 +1069,15 @@ public class BabuDBStorageManager implements StorageManager {
         }
     }
     
+    /**
+     * Returns a volume metadata entry that has already been updated in the
+     * given, not yet executed update, since multiple updates of the same entry
+     * within an update must be accumulated.
+     */
+    private static byte[] getPendingVolumeUpdate(AtomicDBUpdate update, byte[] key) {
+        return update instanceof AtomicBabuDBUpdate ? ((AtomicBabuDBUpdate) update).getVolumeUpdate(key) : null;
+    }
+    
     private void initCount(byte[] key, AtomicDBUpdate update) {
         
         byte[] countBytes = new byte[Long.SIZE / 8];
@@ -9,6 +9,8 @@
 package org.xtreemfs.mrc.database.babudb;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.StringTokenizer;
 
 import org.xtreemfs.babudb.api.DatabaseManager;
@@ -16,6 +18,7 @@ import org.xtreemfs.babudb.api.exception.BabuDBException;
 import org.xtreemfs.babudb.api.exception.BabuDBException.ErrorCode;
 import org.xtreemfs.babudb.api.transaction.Transaction;
 import org.xtreemfs.mrc.database.AtomicDBUpdate;
+import org.xtreemfs.mrc.database.DBAccessResultListener;
 import org.xtreemfs.mrc.database.DatabaseException;
 import org.xtreemfs.mrc.database.DatabaseException.ExceptionType;
 
@@ -27,14 +30,20 @@ public class TransactionalBabuDBUpdate implements AtomicDBUpdate {
 
     private String                databaseName;
 
+    private boolean               empty;
+
+    private List<DBAccessResultListener<Object>> listeners;
+
     public TransactionalBabuDBUpdate(DatabaseManager dbMan) {
         this.dbMan = dbMan;
         this.txn = dbMan.createTransaction();
+        this.empty = true;
     }
 
     public void createDatabase(String databaseName, int numIndices) {
         this.databaseName = databaseName;
         txn.createDatabase(databaseName, numIndices);
+        empty = false;
     }
 
     public String getDatabaseName() {
@@ -45,6 +54,12 @@ public class TransactionalBabuDBUpdate implements AtomicDBUpdate {
     public void addUpdate(Object... update) {
         assert (databaseName != null);
         txn.insertRecord(databaseName, (Integer) update[0], (byte[]) update[1], (byte[]) update[2]);
+        empty = false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return empty;
     }
 
     @Override
@@ -52,8 +67,11 @@ public class TransactionalBabuDBUpdate implements AtomicDBUpdate {
         
         try {
             dbMan.executeTransaction(txn);
+            notifyListeners(null);
         } catch (BabuDBException exc) {
             
+            notifyListeners(exc);
+            
             // handle REDIRECTs (only relevant if replication is enabled)
             if (exc.getErrorCode() == ErrorCode.REDIRECT) {
                 StringTokenizer st = new StringTokenizer(exc.getMessage(), ": ");
@@ -64,10 +82,29 @@ public class TransactionalBabuDBUpdate implements AtomicDBUpdate {
                 throw new DatabaseException(exc);
             
         } catch (Exception exc) {
+            notifyListeners(exc);
             throw new DatabaseException(exc);
         }
     }
 
+    @Override
+    public void addListener(DBAccessResultListener<Object> listener) {
+        if (listeners == null)
+            listeners = new ArrayList<DBAccessResultListener<Object>>();
+        listeners.add(listener);
+    }
+
+    private void notifyListeners(Throwable error) {
+        if (listeners == null)
+            return;
+        for (DBAccessResultListener<Object> l : listeners)
+            if (error == null)
+                l.finished(null, null);
+            else
+                l.failed(error, null);
+        listeners = null;
+    }
+
     public String toString() {
         return txn.toString();
     }
@@ -24,6 +24,8 @@ public class BufferBackedStripingPolicy extends BufferBackedMetadata implements
     
     private int              width;
     
+    private int              parityWidth;
+    
     public BufferBackedStripingPolicy(byte[] buffer) {
         this(buffer, 0, buffer.length);
     }
@@ -32,7 +34,19 @@ public class BufferBackedStripingPolicy extends BufferBackedMetadata implements
         
         super(buffer, offset, len);
         
-        this.pattern = new String(buffer, offset + PATTERN_INDEX, len - PATTERN_INDEX);
+        // the pattern is optionally followed by a null byte and the parity
+        // width; policies without parity objects omit both
+        int patternLen = len - PATTERN_INDEX;
+        for (int i = 0; i < len - PATTERN_INDEX; i++)
+            if (buffer[offset + PATTERN_INDEX + i] == 0) {
+                patternLen = i;
+                break;
+            }
+        this.pattern = new String(buffer, offset + PATTERN_INDEX, patternLen);
+        
+        if (patternLen + 1 + Integer.SIZE / 8 <= len - PATTERN_INDEX)
+            this.parityWidth = ByteBuffer.wrap(buffer, offset + PATTERN_INDEX + patternLen + 1, Integer.SIZE / 8)
+                    .getInt();
         
         ByteBuffer tmp = ByteBuffer.wrap(buffer, offset + SIZE_INDEX, Integer.SIZE / 8);
         this.stripeSize = tmp.getInt();
@@ -42,17 +56,24 @@ public class BufferBackedStripingPolicy extends BufferBackedMetadata implements
     }
     
     public BufferBackedStripingPolicy(String pattern, int stripeSize, int width) {
+        this(pattern, stripeSize, width, 0);
+    }
+    
+    public BufferBackedStripingPolicy(String pattern, int stripeSize, int width, int parityWidth) {
         
         super(null, 0, 0);
         
-        len = pattern.getBytes().length + 8;
+        len = pattern.getBytes().length + 8 + (parityWidth > 0 ? 5 : 0);
         buffer = new byte[len];
         ByteBuffer tmp = ByteBuffer.wrap(buffer);
         tmp.putInt(stripeSize).putInt(width).put(pattern.getBytes());
+        if (parityWidth > 0)
+            tmp.put((byte) 0).putInt(parityWidth);
         
         this.pattern = pattern;
         this.stripeSize = stripeSize;
         this.width = width;
+        this.parityWidth = parityWidth;
     }
     
     public boolean equals(StripingPolicy pol) {
@@ -71,4 +92,8 @@ public class BufferBackedStripingPolicy extends BufferBackedMetadata implements
         return width;
     }
     
+    public int getParityWidth() {
+        return parityWidth;
+    }
+    
 }
@@ -37,4 +37,14 @@ public interface StripingPolicy {
      */
     public int getStripeSize();
     
+    /**
+     * Returns the number of parity objects per stripe, which is only non-zero
+     * for erasure-coded striping patterns. The parity objects are stored on
+     * additional OSDs, i.e. a pattern uses <code>getWidth()</code> +
+     * <code>getParityWidth()</code> OSDs in total.
+     * 
+     * @return the parity width
+     */
+    public int getParityWidth();
+    
 }
\ No newline at end of file
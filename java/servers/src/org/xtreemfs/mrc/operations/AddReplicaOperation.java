@@ -107,13 +107,19 @@ public class AddReplicaOperation extends MRCOperation {
         org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy sp = newRepl.getStripingPolicy();
         
         StripingPolicy sPol = sMan.createStripingPolicy(sp.getType().toString(), sp.getStripeSize(), sp
-                .getWidth());
+                .getWidth(), sp.getParityWidth());
         
         // check whether the new replica relies on a set of OSDs which
         // hasn't been used yet
         XLocList xLocList = file.getXLocList();
         assert (xLocList != null);
         
+        // erasure-coded files are protected by their parity objects and
+        // cannot be replicated
+        if (xLocList.getReplica(0).getStripingPolicy().getParityWidth() > 0 || sPol.getParityWidth() > 0)
+            throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL,
+                "replicas cannot be added to erasure-coded files");
+        
         if (ReplicaUpdatePolicies.REPL_UPDATE_PC_NONE.equals(xLocList.getReplUpdatePolicy()))
             throw new UserException(POSIXErrno.POSIX_ERROR_EPERM,
                 "missing replica update policy - needs to be specified before adding replicas");
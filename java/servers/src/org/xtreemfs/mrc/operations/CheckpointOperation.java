@@ -39,6 +39,10 @@ public class CheckpointOperation extends MRCOperation {
                 && !master.getConfig().getAdminPassword().equals(rq.getDetails().password))
                 throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, "invalid password");
             
+            // make pending access times part of the checkpoint
+            if (master.getAtimeTable() != null)
+                master.getAtimeTable().flush(master.getVolumeManager(), true);
+            
             master.getVolumeManager().checkpointDB();
             
             // set the response
@@ -124,6 +124,8 @@ public class DeleteOperation extends MRCOperation {
         sMan.delete(res.getParentDirId(), res.getFileName(), update);
         if (file.getLinkCount() > 1)
             creds = null;
+        else
+            faMan.invalidateACL(volume.getId(), file.getId());
         
         int time = (int) (TimeSync.getGlobalTime() / 1000);
         
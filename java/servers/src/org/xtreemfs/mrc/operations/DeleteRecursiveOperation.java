@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.operations;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.xtreemfs.common.Capability;
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
+import org.xtreemfs.mrc.ErrorRecord;
+import org.xtreemfs.mrc.MRCException;
+import org.xtreemfs.mrc.MRCRequest;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+import org.xtreemfs.mrc.UserException;
+import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.AtomicDBUpdate;
+import org.xtreemfs.mrc.database.DBAccessResultListener;
+import org.xtreemfs.mrc.database.DatabaseException;
+import org.xtreemfs.mrc.database.DatabaseException.ExceptionType;
+import org.xtreemfs.mrc.database.DatabaseResultSet;
+import org.xtreemfs.mrc.database.StorageManager;
+import org.xtreemfs.mrc.database.VolumeInfo;
+import org.xtreemfs.mrc.metadata.FileMetadata;
+import org.xtreemfs.mrc.metadata.XLocList;
+import org.xtreemfs.mrc.stages.MRCStage.StageResponseCode;
+import org.xtreemfs.mrc.stages.MRCStageCallbackInterface;
+import org.xtreemfs.mrc.utils.Converter;
+import org.xtreemfs.mrc.utils.MRCHelper;
+import org.xtreemfs.mrc.utils.Path;
+import org.xtreemfs.mrc.utils.PathResolver;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SnapConfig;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse;
+
+/**
+ * Deletes a list of files and directories including the content of the
+ * directories. The entries are deleted bottom-up with database updates of at
+ * most {@link #BATCH_SIZE} entries each; at most
+ * {@link #MAX_ENTRIES} entries are deleted per request, so
+ * that a single request does not block the MRC for too long. The credentials
+ * of all deleted files are returned, so that the client can delete their
+ * objects on the OSDs.
+ * <p>
+ * The database updates are executed asynchronously. Once an update has been
+ * executed, the deletion continues in the processing stage with the current
+ * path, whose remaining entries are looked up again.
+ */
+public class DeleteRecursiveOperation extends MRCOperation {
+
+    /**
+     * maximum number of files and directories deleted per request
+     */
+    public static final int  MAX_ENTRIES = 10000;
+
+    /**
+     * maximum number of entries deleted with a single database update
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * progress of the deletion of a path
+     */
+    private static enum Progress {
+        /** the path has been deleted */
+        COMPLETE,
+        /** the maximum number of entries has been reached */
+        LIMIT_REACHED,
+        /** the pending database update has to be executed first */
+        FLUSH_REQUIRED
+    }
+
+    public DeleteRecursiveOperation(MRCRequestDispatcher master) {
+        super(master);
+    }
+
+    @Override
+    public void startRequest(MRCRequest rq) throws Throwable {
+
+        // perform master redirect if necessary
+        if (master.getReplMasterUUID() != null
+            && !master.getReplMasterUUID().equals(master.getConfig().getUUID().toString()))
+            throw new DatabaseException(ExceptionType.REDIRECT);
+
+        validateContext(rq);
+
+        final xtreemfs_delete_recursiveRequest rqArgs = (xtreemfs_delete_recursiveRequest) rq.getRequestArgs();
+
+        final StorageManager sMan = master.getVolumeManager().getStorageManagerByName(rqArgs.getVolumeName());
+        new Deletion(rq, sMan).run();
+    }
+
+    /**
+     * State of the deletion of the paths of a single request.
+     */
+    private final class Deletion implements DBAccessResultListener<Object>, MRCStageCallbackInterface {
+
+        final MRCRequest                rq;
+
+        final StorageManager            sMan;
+
+        final VolumeInfo                volume;
+
+        final FileAccessManager         faMan;
+
+        final xtreemfs_delete_recursiveResponse.Builder result;
+
+        AtomicDBUpdate                  update;
+
+        int                             numDeleted;
+
+        int                             numPending;
+
+        int                             completedPaths;
+
+        boolean                         completed;
+
+        Deletion(MRCRequest rq, StorageManager sMan) throws DatabaseException {
+            this.rq = rq;
+            this.sMan = sMan;
+            this.volume = sMan.getVolumeInfo();
+            this.faMan = master.getFileAccessManager();
+            this.result = xtreemfs_delete_recursiveResponse.newBuilder();
+            this.update = sMan.createAtomicDBUpdate(this, null);
+        }
+
+        /**
+         * Deletes the remaining paths, until either all paths have been
+         * deleted, the maximum number of entries has been reached or the
+         * pending database update has to be executed first.
+         */
+        void run() throws UserException, MRCException, DatabaseException {
+
+            final xtreemfs_delete_recursiveRequest rqArgs = (xtreemfs_delete_recursiveRequest) rq
+                    .getRequestArgs();
+
+            while (completedPaths < rqArgs.getPathsCount()) {
+                try {
+                    Progress progress = deletePath(new Path(rqArgs.getVolumeName(), rqArgs
+                            .getPaths(completedPaths)));
+                    if (progress == Progress.FLUSH_REQUIRED) {
+                        // continue with the current path once the update has
+                        // been executed
+                        flush();
+                        return;
+                    }
+                    if (progress == Progress.LIMIT_REACHED)
+                        break;
+                    completedPaths++;
+                } catch (UserException exc) {
+                    result.setError(ErrorResponse.newBuilder().setErrorType(ErrorType.ERRNO).setPosixErrno(
+                        exc.getErrno()).setErrorMessage(exc.getMessage() == null ? "" : exc.getMessage()));
+                    break;
+                }
+            }
+            result.setCompletedPaths(completedPaths);
+
+            if (Logging.isDebug())
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this,
+                    "deleted %d entries of %d/%d paths, %d files to be deleted on OSDs", numDeleted,
+                    completedPaths, rqArgs.getPathsCount(), result.getDeletedFilesCount());
+
+            // set the response
+            rq.setResponse(result.build());
+
+            completed = true;
+            if (numPending == 0)
+                finishRequest(rq);
+            else
+                flush();
+        }
+
+        /**
+         * Deletes a file or directory tree.
+         */
+        Progress deletePath(Path p) throws UserException, MRCException, DatabaseException {
+
+            final PathResolver res = new PathResolver(sMan, p);
+
+            // check whether the path prefix is searchable
+            faMan.checkSearchPermission(sMan, res, rq.getDetails().userId, rq.getDetails().superUser,
+                rq.getDetails().groupIds);
+
+            if (p.getCompCount() == 1)
+                throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, "cannot delete the root directory of '"
+                    + p + "'");
+
+            // check whether the parent directory grants write access
+            faMan.checkPermission(FileAccessManager.O_WRONLY, sMan, res.getParentDir(), 0,
+                rq.getDetails().userId, rq.getDetails().superUser, rq.getDetails().groupIds);
+
+            // check whether the file/directory exists
+            res.checkIfFileDoesNotExist();
+
+            final FileMetadata file = res.getFile();
+
+            // check whether the entry itself can be deleted
+            faMan.checkPermission(FileAccessManager.NON_POSIX_RM_MV_IN_DIR, sMan, file, res.getParentDirId(),
+                rq.getDetails().userId, rq.getDetails().superUser, rq.getDetails().groupIds);
+
+            if (file.isDirectory()) {
+                Progress progress = deleteContent(file);
+                if (progress != Progress.COMPLETE)
+                    return progress;
+            }
+
+            if (numDeleted == MAX_ENTRIES)
+                return Progress.LIMIT_REACHED;
+            if (mustFlushBefore(file))
+                return Progress.FLUSH_REQUIRED;
+
+            deleteEntry(res.getParentDirId(), file);
+
+            // update POSIX timestamps of parent directory
+            MRCHelper.updateFileTimes(res.getParentsParentId(), res.getParentDir(), false, true, true, sMan,
+                (int) (TimeSync.getGlobalTime() / 1000), update);
+
+            return Progress.COMPLETE;
+        }
+
+        /**
+         * Deletes the content of a directory, depth-first.
+         */
+        private Progress deleteContent(FileMetadata dir) throws UserException, MRCException,
+            DatabaseException {
+
+            // deleting entries requires write and search access to the
+            // directory
+            faMan.checkPermission(FileAccessManager.O_RDWR, sMan, dir, 0, rq.getDetails().userId,
+                rq.getDetails().superUser, rq.getDetails().groupIds);
+            faMan.checkPermission(FileAccessManager.NON_POSIX_SEARCH, sMan, dir, 0, rq.getDetails().userId,
+                rq.getDetails().superUser, rq.getDetails().groupIds);
+
+            for (;;) {
+
+                // subdirectories are skipped in the listing, since they are
+                // only deleted after their content
+                List<FileMetadata> subdirs = new ArrayList<FileMetadata>();
+                boolean full = true;
+
+                DatabaseResultSet<FileMetadata> children = sMan.getChildren(dir.getId(), 0, BATCH_SIZE);
+                try {
+                    int count = 0;
+                    while (children.hasNext()) {
+                        FileMetadata child = children.next();
+                        count++;
+
+                        faMan.checkPermission(FileAccessManager.NON_POSIX_RM_MV_IN_DIR, sMan, child,
+                            dir.getId(), rq.getDetails().userId, rq.getDetails().superUser,
+                            rq.getDetails().groupIds);
+
+                        if (child.isDirectory()) {
+                            subdirs.add(child);
+                            continue;
+                        }
+
+                        if (numDeleted == MAX_ENTRIES)
+                            return Progress.LIMIT_REACHED;
+                        if (mustFlushBefore(child))
+                            return Progress.FLUSH_REQUIRED;
+                        deleteEntry(dir.getId(), child);
+                    }
+                    full = count == BATCH_SIZE;
+                } finally {
+                    children.destroy();
+                }
+
+                for (FileMetadata subdir : subdirs) {
+                    Progress progress = deleteContent(subdir);
+                    if (progress != Progress.COMPLETE)
+                        return progress;
+                    if (numDeleted == MAX_ENTRIES)
+                        return Progress.LIMIT_REACHED;
+                    if (mustFlushBefore(subdir))
+                        return Progress.FLUSH_REQUIRED;
+                    deleteEntry(dir.getId(), subdir);
+                }
+
+                if (!full)
+                    return Progress.COMPLETE;
+
+                // the listing has to reflect the deletions
+                if (numPending > 0)
+                    return Progress.FLUSH_REQUIRED;
+            }
+        }
+
+        /**
+         * Checks whether the pending database update has to be executed before
+         * the given entry can be deleted.
+         */
+        private boolean mustFlushBefore(FileMetadata file) {
+
+            if (numPending == 0)
+                return false;
+
+            // the link count of hard-linked files has to be read from the
+            // database, so that deleting multiple links to the same file in a
+            // batch does not leave the file behind
+            return numPending >= BATCH_SIZE || file.getLinkCount() > 1;
+        }
+
+        private void deleteEntry(long parentId, FileMetadata file) throws DatabaseException {
+
+            if (sMan.delete(parentId, file.getFileName(), update) == 0) {
+                faMan.invalidateACL(volume.getId(), file.getId());
+
+                XLocList xloc = file.getXLocList();
+                if (!file.isDirectory() && xloc != null && xloc.getReplicaCount() > 0)
+                    result.addDeletedFiles(FileCredentials.newBuilder().setXcap(createCapability(file).getXCap())
+                            .setXlocs(Converter.xLocListToXLocSet(xloc)).build());
+            }
+
+            numDeleted++;
+            numPending++;
+        }
+
+        private Capability createCapability(FileMetadata file) throws DatabaseException {
+            return new Capability(volume.getId() + ":" + file.getId(), FileAccessManager.NON_POSIX_DELETE,
+                master.getConfig().getCapabilityTimeout(), Integer.MAX_VALUE, ((InetSocketAddress) rq
+                        .getRPCRequest().getSenderAddress()).getAddress().getHostAddress(), file.getEpoch(),
+                false, !volume.isSnapshotsEnabled() ? SnapConfig.SNAP_CONFIG_SNAPS_DISABLED : volume
+                        .isSnapVolume() ? SnapConfig.SNAP_CONFIG_ACCESS_SNAP
+                    : SnapConfig.SNAP_CONFIG_ACCESS_CURRENT, volume.getCreationTime(), master.getConfig()
+                        .getCapabilitySecret());
+        }
+
+        /**
+         * Asynchronously executes the pending database update. The request is
+         * either finished or continued once the update has been executed.
+         */
+        private void flush() throws DatabaseException {
+            AtomicDBUpdate pending = update;
+            update = sMan.createAtomicDBUpdate(this, null);
+            numPending = 0;
+            pending.execute();
+        }
+
+        @Override
+        public void finished(Object result, Object context) {
+            if (completed)
+                finishRequest(rq);
+            else
+                master.continueRequest(rq, this);
+        }
+
+        @Override
+        public void failed(Throwable error, Object context) {
+            finishRequest(rq, new ErrorRecord(ErrorType.INTERNAL_SERVER_ERROR, POSIXErrno.POSIX_ERROR_NONE,
+                "An error has occurred at the MRC. Details: " + error.getMessage(), error));
+        }
+
+        @Override
+        public void methodExecutionCompleted(MRCRequest request, StageResponseCode code) {
+            try {
+                run();
+            } catch (Throwable exc) {
+                failed(exc, null);
+            }
+        }
+    }
+}
@@ -46,6 +46,8 @@ public class InternalDebugOperation extends MRCOperation {
             throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, "invalid password");
         
         if (rqArgs.getAString().equals("shutdown_babudb")) {
+            if (master.getAtimeTable() != null)
+                master.getAtimeTable().flush(master.getVolumeManager(), true);
             master.getVolumeManager().checkpointDB();
             master.getVolumeManager().shutdown();
             
@@ -55,6 +57,8 @@ public class InternalDebugOperation extends MRCOperation {
             master.getVolumeManager().init();
             rq.setResponse(stringMessage.newBuilder().setAString("ok").build());
         } else if (rqArgs.getAString().equals("async_checkpoint")) {
+            if (master.getAtimeTable() != null)
+                master.getAtimeTable().flush(master.getVolumeManager(), true);
             Runnable asynChkpt = new Runnable() {
                 
                 @Override
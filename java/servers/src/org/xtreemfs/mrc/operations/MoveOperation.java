@@ -217,6 +217,7 @@ public class MoveOperation extends MRCOperation {
                         + "' is not empty");
                 else
                     sMan.delete(tRes.getParentDirId(), tRes.getFileName(), update);
+                faMan.invalidateACL(volume.getId(), target.getId());
                 
                 // relink the metadata object to the parent directory of
                 // the target path and remove the former link
@@ -289,6 +290,8 @@ public class MoveOperation extends MRCOperation {
                 
                 // delete the target
                 sMan.delete(tRes.getParentDirId(), tRes.getFileName(), update);
+                if (target.getLinkCount() == 1)
+                    faMan.invalidateACL(volume.getId(), target.getId());
                 
                 // relink the metadata object to the parent directory of
                 // the target path and remove the former link
@@ -22,6 +22,7 @@ import org.xtreemfs.mrc.MRCRequest;
 import org.xtreemfs.mrc.MRCRequestDispatcher;
 import org.xtreemfs.mrc.UserException;
 import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.AtimeTable;
 import org.xtreemfs.mrc.database.AtomicDBUpdate;
 import org.xtreemfs.mrc.database.DatabaseException;
 import org.xtreemfs.mrc.database.DatabaseException.ExceptionType;
@@ -297,8 +298,13 @@ public class OpenOperation extends MRCOperation {
                     .isNoAtime() : false, true, true, sMan, time, update);
         
         } else if (!master.getConfig().isNoAtime()) {
-            // otherwise: only atime, if necessary
-            MRCHelper.updateFileTimes(res.getParentsParentId(), file, true, false, false, sMan, time, update);
+            // otherwise: only atime, if necessary; with relaxed atimes, the
+            // atime is kept in memory and written later on
+            final AtimeTable atimes = master.getAtimeTable();
+            if (atimes == null)
+                MRCHelper.updateFileTimes(res.getParentsParentId(), file, true, false, false, sMan, time, update);
+            else if (res.getParentsParentId() != -1 && atimes.recordAccess(volume.getId(), file.getId(), time))
+                atimes.flush(vMan, false);
         } else {
             time = 0;
         }
@@ -314,7 +320,12 @@ public class OpenOperation extends MRCOperation {
             FileCredentials.newBuilder().setXcap(cap.getXCap()).setXlocs(xLocSet)).setTimestampS(time)
                 .build());
         
-        update.execute();
+        // with relaxed atimes, opens that do not modify any metadata need not
+        // be written to the database
+        if (master.getAtimeTable() != null && update.isEmpty())
+            finishRequest(rq);
+        else
+            update.execute();
         
         // enable only for test servers that should log each file
         // create/write/trunc
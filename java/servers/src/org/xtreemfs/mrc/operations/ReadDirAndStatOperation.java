@@ -18,6 +18,7 @@ import org.xtreemfs.mrc.MRCRequest;
 import org.xtreemfs.mrc.MRCRequestDispatcher;
 import org.xtreemfs.mrc.UserException;
 import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.AtimeTable;
 import org.xtreemfs.mrc.database.AtomicDBUpdate;
 import org.xtreemfs.mrc.database.DatabaseException;
 import org.xtreemfs.mrc.database.DatabaseResultSet;
@@ -98,7 +99,14 @@ public class ReadDirAndStatOperation extends MRCOperation {
         
         // if required, update POSIX timestamps
         int time = (int) (TimeSync.getGlobalTime() / 1000);
-        if (!master.getConfig().isNoAtime())
+        final AtimeTable atimes = master.getAtimeTable();
+        if (atimes != null) {
+            if (res.getParentDirId() != -1) {
+                file.setAtime(time);
+                if (atimes.recordAccess(volume.getId(), file.getId(), time))
+                    atimes.flush(vMan, false);
+            }
+        } else if (!master.getConfig().isNoAtime())
             MRCHelper.updateFileTimes(res.getParentDirId(), file, true, false, false, sMan, time, update);
         
         // get the parent directory
@@ -170,7 +178,12 @@ public class ReadDirAndStatOperation extends MRCOperation {
         // set the response
         rq.setResponse(dirContent.build());
         
-        update.execute();
+        // with relaxed atimes, the update is empty and need not be written to
+        // the database
+        if (master.getAtimeTable() != null && update.isEmpty())
+            finishRequest(rq);
+        else
+            update.execute();
     }
     
     private Stat getStat(StorageManager sMan, FileAccessManager faMan, MRCRequest rq, VolumeInfo volume,
@@ -195,9 +208,13 @@ public class ReadDirAndStatOperation extends MRCOperation {
         
         final long newEtag = file.getMtime() + file.getCtime();
         
+        // take into account access times that have not been written yet
+        final int atime = master.getAtimeTable() == null ? file.getAtime() : master.getAtimeTable().getAtime(
+            volume.getId(), file);
+        
         Stat stat = Stat.newBuilder().setDev(volume.getId().hashCode()).setIno(file.getId()).setMode(mode)
                 .setNlink(file.getLinkCount()).setUserId(file.getOwnerId()).setGroupId(
-                    file.getOwningGroupId()).setSize(size).setAtimeNs((long) file.getAtime() * (long) 1e9)
+                    file.getOwningGroupId()).setSize(size).setAtimeNs((long) atime * (long) 1e9)
                 .setCtimeNs((long) file.getCtime() * (long) 1e9).setMtimeNs(
                     (long) file.getMtime() * (long) 1e9).setBlksize(blkSize).setTruncateEpoch(
                     file.isDirectory() ? 0 : file.getEpoch()).setAttributes((int) file.getW32Attrs())
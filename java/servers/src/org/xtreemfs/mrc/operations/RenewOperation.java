@@ -36,6 +36,17 @@ public class RenewOperation extends MRCOperation {
         
         final XCap xcap = (XCap) rq.getRequestArgs();
         
+        // set the response
+        rq.setResponse(renewCapability(xcap));
+        finishRequest(rq);
+    }
+    
+    /**
+     * Verifies a capability and returns a new one with an extended validity
+     * period.
+     */
+    XCap renewCapability(XCap xcap) throws UserException {
+        
         // create a capability object to verify the capability
         Capability cap = new Capability(xcap, master.getConfig().getCapabilitySecret());
         
@@ -53,9 +64,7 @@ public class RenewOperation extends MRCOperation {
                 .isReplicateOnClose(), cap.getSnapConfig(), cap.getSnapTimestamp(), master.getConfig()
                 .getCapabilitySecret());
         
-        // set the response
-        rq.setResponse(newCap.getXCap());
-        finishRequest(rq);
+        return newCap.getXCap();
     }
 
 }
@@ -95,7 +95,7 @@ public class SetReplicaUpdatePolicyOperation extends MRCOperation {
 
         // check if striping + rw replication would be set
         StripingPolicy stripingPolicy = file.getXLocList().getReplica(0).getStripingPolicy();
-        if (stripingPolicy.getWidth() > 1
+        if ((stripingPolicy.getWidth() > 1 || stripingPolicy.getParityWidth() > 0)
                 && (newReplUpdatePolicy.equals(ReplicaUpdatePolicies.REPL_UPDATE_PC_WARONE) || newReplUpdatePolicy
                         .equals(ReplicaUpdatePolicies.REPL_UPDATE_PC_WQRQ))) {
             throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL, "RW-replication of striped files is not supported yet.");
@@ -202,8 +202,12 @@ public class SetattrOperation extends MRCOperation {
             // rq.getDetails().userId, rq
             // .getDetails().superUser, rq.getDetails().groupIds);
             
-            if (setAtime)
+            if (setAtime) {
                 file.setAtime((int) (rqArgs.getStbuf().getAtimeNs() / (long) 1e9));
+                // an explicitly set atime overrides any pending access
+                if (master.getAtimeTable() != null)
+                    master.getAtimeTable().discard(sMan.getVolumeInfo().getId(), file.getId());
+            }
             if (setCtime)
                 file.setCtime((int) (rqArgs.getStbuf().getCtimeNs() / (long) 1e9));
             if (setMtime)
@@ -11,6 +11,7 @@ package org.xtreemfs.mrc.operations;
 import org.xtreemfs.mrc.MRCRequest;
 import org.xtreemfs.mrc.MRCRequestDispatcher;
 import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.AtomicDBUpdate;
 import org.xtreemfs.mrc.database.StorageManager;
 import org.xtreemfs.mrc.database.VolumeInfo;
 import org.xtreemfs.mrc.database.VolumeManager;
@@ -61,6 +62,14 @@ public class StatOperation extends MRCOperation {
         
         FileMetadata file = res.getFile();
         
+        // write a pending access time of the file, if necessary
+        AtomicDBUpdate update = null;
+        if (master.getAtimeTable() != null) {
+            update = sMan.createAtomicDBUpdate(master, rq);
+            if (!master.getAtimeTable().apply(volume.getId(), sMan, file, update))
+                update = null;
+        }
+        
         final long knownEtag = rqArgs.getKnownEtag();
         final long newEtag = file.getCtime() + file.getMtime();
         
@@ -98,7 +107,10 @@ public class StatOperation extends MRCOperation {
         // set the response
         rq.setResponse(stat.build());
         
-        finishRequest(rq);
+        if (update != null)
+            update.execute();
+        else
+            finishRequest(rq);
         
     }
     
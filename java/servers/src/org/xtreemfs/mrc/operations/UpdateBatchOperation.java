@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.operations;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.xtreemfs.common.Capability;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
+import org.xtreemfs.mrc.ErrorRecord;
+import org.xtreemfs.mrc.MRCRequest;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+import org.xtreemfs.mrc.UserException;
+import org.xtreemfs.mrc.database.AtomicDBUpdate;
+import org.xtreemfs.mrc.database.DBAccessResultListener;
+import org.xtreemfs.mrc.database.DatabaseException;
+import org.xtreemfs.mrc.database.DatabaseException.ExceptionType;
+import org.xtreemfs.mrc.database.StorageManager;
+import org.xtreemfs.mrc.metadata.FileMetadata;
+import org.xtreemfs.mrc.utils.MRCHelper.GlobalFileIdResolver;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest;
+
+/**
+ * Updates the sizes of multiple files and renews multiple capabilities. All
+ * file size updates of a volume are applied with a single database update.
+ * Entries fail individually; the request as a whole only fails if the
+ * database updates cannot be executed.
+ */
+public class UpdateBatchOperation extends MRCOperation {
+
+    private final UpdateFileSizeOperation fileSizeOp;
+
+    private final RenewOperation          renewOp;
+
+    public UpdateBatchOperation(MRCRequestDispatcher master) {
+        super(master);
+        fileSizeOp = new UpdateFileSizeOperation(master);
+        renewOp = new RenewOperation(master);
+    }
+
+    @Override
+    public void startRequest(MRCRequest rq) throws Throwable {
+
+        // perform master redirect if necessary
+        if (master.getReplMasterUUID() != null
+            && !master.getReplMasterUUID().equals(master.getConfig().getUUID().toString()))
+            throw new DatabaseException(ExceptionType.REDIRECT);
+
+        final xtreemfs_update_batchRequest rqArgs = (xtreemfs_update_batchRequest) rq.getRequestArgs();
+
+        // database updates per volume and files updated so far, so that
+        // multiple updates of the same file are applied to the same metadata
+        final Map<String, AtomicDBUpdate> updates = new HashMap<String, AtomicDBUpdate>();
+        final Map<String, FileMetadata> files = new HashMap<String, FileMetadata>();
+        final BatchListener listener = new BatchListener(rq);
+
+        xtreemfs_update_batchResponse.Builder response = xtreemfs_update_batchResponse.newBuilder();
+        for (xtreemfs_update_file_sizeRequest fileSizeUpdate : rqArgs.getFileSizeUpdatesList()) {
+            try {
+                updateFileSize(fileSizeUpdate, updates, files, listener);
+                response.addFileSizeUpdateResults(UpdateBatchResult.getDefaultInstance());
+            } catch (UserException exc) {
+                response.addFileSizeUpdateResults(createErrorResult(exc.getErrno(), exc.getMessage()));
+            } catch (DatabaseException exc) {
+                if (Logging.isDebug())
+                    Logging.logUserError(Logging.LEVEL_DEBUG, Category.proc, this, exc);
+                response.addFileSizeUpdateResults(createErrorResult(POSIXErrno.POSIX_ERROR_EIO, exc.getMessage()));
+            }
+        }
+
+        for (XCap xcap : rqArgs.getXcapsList()) {
+            try {
+                response.addXcapResults(UpdateBatchResult.newBuilder().setXcap(renewOp.renewCapability(xcap)));
+            } catch (UserException exc) {
+                response.addXcapResults(createErrorResult(exc.getErrno(), exc.getMessage()));
+            }
+        }
+
+        if (Logging.isDebug())
+            Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this,
+                "processed batch of %d file size updates and %d capability renewals, updating %d files",
+                rqArgs.getFileSizeUpdatesCount(), rqArgs.getXcapsCount(), files.size());
+
+        // set the response
+        rq.setResponse(response.build());
+
+        if (updates.isEmpty()) {
+            finishRequest(rq);
+            return;
+        }
+
+        listener.pending.set(updates.size());
+        for (AtomicDBUpdate update : updates.values()) {
+            try {
+                update.execute();
+            } catch (DatabaseException exc) {
+                listener.failed(exc, null);
+            }
+        }
+    }
+
+    private void updateFileSize(xtreemfs_update_file_sizeRequest rqArgs, Map<String, AtomicDBUpdate> updates,
+        Map<String, FileMetadata> files, BatchListener listener) throws UserException, DatabaseException {
+
+        // on-close replication is only triggered by individual requests
+        if (rqArgs.getCloseFile())
+            throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL,
+                "closing files is not supported in batched file size updates");
+
+        Capability cap = fileSizeOp.validateCapability(rqArgs.getXcap());
+
+        // parse volume and file ID from global file ID
+        GlobalFileIdResolver idRes = new GlobalFileIdResolver(cap.getFileId());
+
+        StorageManager sMan = master.getVolumeManager().getStorageManager(idRes.getVolumeId());
+
+        FileMetadata file = files.get(cap.getFileId());
+        if (file == null) {
+            file = sMan.getMetadata(idRes.getLocalFileId());
+            if (file == null)
+                throw new UserException(POSIXErrno.POSIX_ERROR_ENOENT, "file '" + cap.getFileId()
+                    + "' does not exist");
+            files.put(cap.getFileId(), file);
+        }
+
+        AtomicDBUpdate update = updates.get(idRes.getVolumeId());
+        if (update == null) {
+            update = sMan.createAtomicDBUpdate(listener, null);
+            updates.put(idRes.getVolumeId(), update);
+        }
+
+        fileSizeOp.updateFileSize(sMan, file, cap.getFileId(), rqArgs.getOsdWriteResponse(), update);
+    }
+
+    private static UpdateBatchResult createErrorResult(POSIXErrno errno, String message) {
+        return UpdateBatchResult.newBuilder().setError(
+            ErrorResponse.newBuilder().setErrorType(ErrorType.ERRNO).setPosixErrno(errno)
+                    .setErrorMessage(message == null ? "" : message)).build();
+    }
+
+    /**
+     * Completes the request once the database updates of all volumes have
+     * been executed.
+     */
+    private final class BatchListener implements DBAccessResultListener<Object> {
+
+        final MRCRequest    rq;
+
+        final AtomicInteger pending;
+
+        volatile Throwable  error;
+
+        BatchListener(MRCRequest rq) {
+            this.rq = rq;
+            this.pending = new AtomicInteger();
+        }
+
+        @Override
+        public void finished(Object result, Object context) {
+            done();
+        }
+
+        @Override
+        public void failed(Throwable error, Object context) {
+            this.error = error;
+            done();
+        }
+
+        private void done() {
+            if (pending.decrementAndGet() > 0)
+                return;
+
+            if (error != null)
+                finishRequest(rq, new ErrorRecord(ErrorType.INTERNAL_SERVER_ERROR, POSIXErrno.POSIX_ERROR_NONE,
+                    "An error has occurred at the MRC. Details: " + error.getMessage(), error));
+            else
+                finishRequest(rq);
+        }
+    }
+
+}
@@ -37,6 +37,8 @@ import org.xtreemfs.mrc.utils.Converter;
 import org.xtreemfs.mrc.utils.MRCHelper;
 import org.xtreemfs.mrc.utils.MRCHelper.GlobalFileIdResolver;
 import org.xtreemfs.pbrpc.generatedinterfaces.Common.emptyResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest;
 
@@ -61,15 +63,7 @@ public class UpdateFileSizeOperation extends MRCOperation {
         final xtreemfs_update_file_sizeRequest rqArgs = (xtreemfs_update_file_sizeRequest) rq
                 .getRequestArgs();
         
-        Capability cap = new Capability(rqArgs.getXcap(), master.getConfig().getCapabilitySecret());
-        
-        // check whether the capability has a valid signature
-        if (!cap.hasValidSignature())
-            throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, cap + " does not have a valid signature");
-        
-        // check whether the capability has expired
-        if (cap.hasExpired())
-            throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, cap + " has expired");
+        Capability cap = validateCapability(rqArgs.getXcap());
         
         // parse volume and file ID from global file ID
         GlobalFileIdResolver idRes = new GlobalFileIdResolver(cap.getFileId());
@@ -84,58 +78,11 @@ public class UpdateFileSizeOperation extends MRCOperation {
         AtomicDBUpdate update = sMan.createAtomicDBUpdate(master, rq);
         
         // update the file size if necessary
-        if (rqArgs.getOsdWriteResponse().hasSizeInBytes()) {
-            
-            if (file.isReadOnly())
-                throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, "file '" + cap.getFileId()
-                    + "' is read-only");
-            
-            if (!rqArgs.getOsdWriteResponse().hasTruncateEpoch())
-                throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL,
-                    "missing truncate epoch in OSDWriteResponse");
-            
-            long newFileSize = rqArgs.getOsdWriteResponse().getSizeInBytes();
-            int epochNo = rqArgs.getOsdWriteResponse().getTruncateEpoch();
-            
-            // only accept valid file size updates
-            if (epochNo >= file.getEpoch()) {
-                
-                boolean epochChanged = epochNo > file.getEpoch();
-                
-                // accept any file size in a new epoch but only larger file
-                // sizes in the current epoch
-                if (epochChanged || newFileSize > file.getSize()) {
-                    
-                    long oldFileSize = file.getSize();
-                    int time = (int) (TimeSync.getGlobalTime() / 1000);
-                    
-                    file.setSize(newFileSize);
-                    file.setEpoch(epochNo);
-                    file.setCtime(time);
-                    file.setMtime(time);
-                    
-                    sMan.setMetadata(file, FileMetadata.FC_METADATA, update);
-                    
-                    if (epochChanged)
-                        sMan.setMetadata(file, FileMetadata.RC_METADATA, update);
-                    
-                    // update the volume size
-                    sMan.getVolumeInfo().updateVolumeSize(newFileSize - oldFileSize, update);
-                }
-
-                else if (Logging.isDebug())
-                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this,
-                        "received update for outdated file size: " + newFileSize + ", current file size="
-                            + file.getSize());
-            }
-
-            else {
-                if (Logging.isDebug())
-                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this,
-                        "received file size update w/ outdated epoch: " + epochNo + ", current epoch="
-                            + file.getEpoch());
-            }
-        }
+        updateFileSize(sMan, file, cap.getFileId(), rqArgs.getOsdWriteResponse(), update);
+        
+        // write a pending access time when the file is closed
+        if (rqArgs.getCloseFile() && master.getAtimeTable() != null)
+            master.getAtimeTable().apply(idRes.getVolumeId(), sMan, file, update);
         
         // check if file is closed and on-close replication is required
         if (rqArgs.getCloseFile() && cap.getXCap().getReplicateOnClose()) {
@@ -254,4 +201,83 @@ public class UpdateFileSizeOperation extends MRCOperation {
         
     }
     
+    /**
+     * Checks the signature and expiration time of a capability.
+     */
+    Capability validateCapability(XCap xcap) throws UserException {
+        
+        Capability cap = new Capability(xcap, master.getConfig().getCapabilitySecret());
+        
+        // check whether the capability has a valid signature
+        if (!cap.hasValidSignature())
+            throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, cap + " does not have a valid signature");
+        
+        // check whether the capability has expired
+        if (cap.hasExpired())
+            throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, cap + " has expired");
+        
+        return cap;
+    }
+    
+    /**
+     * Adds the updates required to apply the file size from an
+     * OSDWriteResponse to the given update, if the file size is valid and
+     * newer than the current one.
+     */
+    void updateFileSize(StorageManager sMan, FileMetadata file, String fileId, OSDWriteResponse osdWriteResponse,
+        AtomicDBUpdate update) throws DatabaseException, UserException {
+        
+        if (osdWriteResponse.hasSizeInBytes()) {
+            
+            if (file.isReadOnly())
+                throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, "file '" + fileId + "' is read-only");
+            
+            if (!osdWriteResponse.hasTruncateEpoch())
+                throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL,
+                    "missing truncate epoch in OSDWriteResponse");
+            
+            long newFileSize = osdWriteResponse.getSizeInBytes();
+            int epochNo = osdWriteResponse.getTruncateEpoch();
+            
+            // only accept valid file size updates
+            if (epochNo >= file.getEpoch()) {
+                
+                boolean epochChanged = epochNo > file.getEpoch();
+                
+                // accept any file size in a new epoch but only larger file
+                // sizes in the current epoch
+                if (epochChanged || newFileSize > file.getSize()) {
+                    
+                    long oldFileSize = file.getSize();
+                    int time = (int) (TimeSync.getGlobalTime() / 1000);
+                    
+                    file.setSize(newFileSize);
+                    file.setEpoch(epochNo);
+                    file.setCtime(time);
+                    file.setMtime(time);
+                    
+                    sMan.setMetadata(file, FileMetadata.FC_METADATA, update);
+                    
+                    if (epochChanged)
+                        sMan.setMetadata(file, FileMetadata.RC_METADATA, update);
+                    
+                    // update the volume size
+                    sMan.getVolumeInfo().updateVolumeSize(newFileSize - oldFileSize, update);
+                }
+
+                else if (Logging.isDebug())
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this,
+                        "received update for outdated file size: " + newFileSize + ", current file size="
+                            + file.getSize());
+            }
+
+            else {
+                if (Logging.isDebug())
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this,
+                        "received file size update w/ outdated epoch: " + epochNo + ", current epoch="
+                            + file.getEpoch());
+            }
+        }
+    }
+    
 }
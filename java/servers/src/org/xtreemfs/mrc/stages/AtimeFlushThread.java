@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.stages;
+
+import org.xtreemfs.foundation.LifeCycleThread;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+
+/**
+ * Periodically triggers a flush of the pending access times. The flush itself
+ * is executed by the processing stage, so that it does not interfere with
+ * concurrent metadata updates.
+ */
+public class AtimeFlushThread extends LifeCycleThread {
+
+    private final MRCRequestDispatcher master;
+
+    private final long                 intervalMs;
+
+    private volatile boolean           quit;
+
+    public AtimeFlushThread(MRCRequestDispatcher master, int intervalS) {
+        super("AtimeFlushThr");
+        this.master = master;
+        this.intervalMs = intervalS * 1000L;
+    }
+
+    public void shutdown() {
+        this.quit = true;
+        this.interrupt();
+    }
+
+    public void run() {
+
+        notifyStarted();
+
+        if (Logging.isDebug())
+            Logging.logMessage(Logging.LEVEL_DEBUG, Category.lifecycle, this, "AtimeFlushThread started");
+
+        try {
+            while (!quit) {
+                Thread.sleep(intervalMs);
+                master.flushAtimes();
+            }
+        } catch (InterruptedException ex) {
+            // shutdown
+        }
+
+        notifyStopped();
+
+        if (Logging.isDebug())
+            Logging.logMessage(Logging.LEVEL_DEBUG, Category.lifecycle, this, "AtimeFlushThread finished");
+    }
+}
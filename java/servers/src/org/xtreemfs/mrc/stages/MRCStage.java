@@ -117,7 +117,8 @@ public abstract class MRCStage extends LifeCycleThread {
                 if (Logging.isDebug())
                     Logging.logMessage(Logging.LEVEL_DEBUG, Category.stage, this,
                         "processing request XID=%d method %d",
-                        rq.getRPCRequest().getHeader().getCallId(), op.getStageMethod());
+                        rq.getRPCRequest() == null ? 0 : rq.getRPCRequest().getHeader().getCallId(),
+                        op.getStageMethod());
                 
                 processMethod(op);
                 
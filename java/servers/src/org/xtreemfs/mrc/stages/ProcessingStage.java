@@ -39,6 +39,7 @@ import org.xtreemfs.mrc.operations.CreateLinkOperation;
 import org.xtreemfs.mrc.operations.CreateSymLinkOperation;
 import org.xtreemfs.mrc.operations.CreateVolumeOperation;
 import org.xtreemfs.mrc.operations.DeleteOperation;
+import org.xtreemfs.mrc.operations.DeleteRecursiveOperation;
 import org.xtreemfs.mrc.operations.DeleteVolumeOperation;
 import org.xtreemfs.mrc.operations.DumpDBOperation;
 import org.xtreemfs.mrc.operations.FSetAttrOperation;
@@ -67,6 +68,7 @@ import org.xtreemfs.mrc.operations.ShutdownOperation;
 import org.xtreemfs.mrc.operations.StatFSOperation;
 import org.xtreemfs.mrc.operations.StatOperation;
 import org.xtreemfs.mrc.operations.TruncateOperation;
+import org.xtreemfs.mrc.operations.UpdateBatchOperation;
 import org.xtreemfs.mrc.operations.UpdateFileSizeOperation;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRCServiceConstants;
 
@@ -80,6 +82,10 @@ public class ProcessingStage extends MRCStage {
     
     public static final int                  STAGEOP_PARSE_AND_EXECUTE = 1;
     
+    public static final int                  STAGEOP_FLUSH_ATIMES      = 2;
+    
+    public static final int                  STAGEOP_CONTINUE          = 3;
+    
     private final MRCRequestDispatcher       master;
     
     private final Map<Integer, MRCOperation> operations;
@@ -142,6 +148,8 @@ public class ProcessingStage extends MRCStage {
         operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_INTERNAL_DEBUG,
             new InternalDebugOperation(master));
         operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_UPDATE_FILE_SIZE, new UpdateFileSizeOperation(master));
+        operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_UPDATE_BATCH, new UpdateBatchOperation(master));
+        operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_DELETE_RECURSIVE, new DeleteRecursiveOperation(master));
         operations.put(MRCServiceConstants.PROC_ID_ACCESS, new AccessOperation(master));
         // TODO operations.put(replication_toMasterRequest.TAG, new
         // ReplicationToMasterOperation(master));
@@ -166,6 +174,13 @@ public class ProcessingStage extends MRCStage {
         case STAGEOP_PARSE_AND_EXECUTE:
             parseAndExecute(method);
             break;
+        case STAGEOP_FLUSH_ATIMES:
+            if (master.getAtimeTable() != null)
+                master.getAtimeTable().flush(master.getVolumeManager(), false);
+            break;
+        case STAGEOP_CONTINUE:
+            method.getCallback().methodExecutionCompleted(method.getRq(), StageResponseCode.OK);
+            break;
         default:
             method.getRq().setError(ErrorType.INTERNAL_SERVER_ERROR, "unknown stage operation");
             master.requestFinished(method.getRq());
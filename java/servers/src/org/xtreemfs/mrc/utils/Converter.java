@@ -189,7 +189,7 @@ public class Converter {
             org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy sp = repl.getStripingPolicy();
             
             replicas[i] = sMan.createXLoc(sMan.createStripingPolicy(sp.getType().toString(), sp
-                    .getStripeSize(), sp.getWidth()), repl.getOsdUuidsList().toArray(
+                    .getStripeSize(), sp.getWidth(), sp.getParityWidth()), repl.getOsdUuidsList().toArray(
                 new String[repl.getOsdUuidsList().size()]), repl.getReplicationFlags());
         }
         
@@ -219,6 +219,8 @@ public class Converter {
             org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy.Builder sp = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy
                     .newBuilder().setType(StripingPolicyType.valueOf(xSP.getPattern())).setStripeSize(
                         xSP.getStripeSize()).setWidth(xSP.getWidth());
+            if (xSP.getParityWidth() > 0)
+                sp.setParityWidth(xSP.getParityWidth());
             
             Replica.Builder replBuilder = Replica.newBuilder().setReplicationFlags(
                 xRepl.getReplicationFlags()).setStripingPolicy(sp);
@@ -247,11 +249,14 @@ public class Converter {
         String policy = st.nextToken();
         if (policy.equals("RAID0"))
             policy = StripingPolicyType.STRIPING_POLICY_RAID0.toString();
+        else if (policy.equals("EC"))
+            policy = StripingPolicyType.STRIPING_POLICY_ERASURECODE.toString();
         
         int size = Integer.parseInt(st.nextToken());
         int width = Integer.parseInt(st.nextToken());
+        int parityWidth = st.hasMoreTokens() ? Integer.parseInt(st.nextToken()) : 0;
         
-        return sMan.createStripingPolicy(policy, size, width);
+        return sMan.createStripingPolicy(policy, size, width, parityWidth);
     }
     
     /**
@@ -275,9 +280,15 @@ public class Converter {
         String pattern = (String) spMap.get("pattern");
         long size = (Long) spMap.get("size");
         long width = (Long) spMap.get("width");
+        Long parityWidth = (Long) spMap.get("parity-width");
         
-        return org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy.newBuilder().setType(
-            StripingPolicyType.valueOf(pattern)).setStripeSize((int) size).setWidth((int) width).build();
+        org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy.Builder sp = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy
+                .newBuilder().setType(StripingPolicyType.valueOf(pattern)).setStripeSize((int) size).setWidth(
+                    (int) width);
+        if (parityWidth != null && parityWidth > 0)
+            sp.setParityWidth(parityWidth.intValue());
+        
+        return sp.build();
     }
     
     /**
@@ -288,7 +299,8 @@ public class Converter {
      * @return a string containing the striping policy information
      */
     public static String stripingPolicyToString(StripingPolicy sp) {
-        return sp.getPattern() + ", " + sp.getStripeSize() + ", " + sp.getWidth();
+        return sp.getPattern() + ", " + sp.getStripeSize() + ", " + sp.getWidth()
+            + (sp.getParityWidth() > 0 ? ", " + sp.getParityWidth() : "");
     }
     
     /**
@@ -300,14 +312,18 @@ public class Converter {
      */
     public static String stripingPolicyToString(
         org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy sp) {
-        return sp.getType().toString() + ", " + sp.getStripeSize() + ", " + sp.getWidth();
+        return sp.getType().toString() + ", " + sp.getStripeSize() + ", " + sp.getWidth()
+            + (sp.getParityWidth() > 0 ? ", " + sp.getParityWidth() : "");
     }
     
     public static org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy.Builder stripingPolicyToStripingPolicy(
         StripingPolicy sp) {
-        return org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy.newBuilder().setType(
-            StripingPolicyType.valueOf(sp.getPattern())).setStripeSize(sp.getStripeSize()).setWidth(
-            sp.getWidth());
+        org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy.Builder builder = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy
+                .newBuilder().setType(StripingPolicyType.valueOf(sp.getPattern())).setStripeSize(
+                    sp.getStripeSize()).setWidth(sp.getWidth());
+        if (sp.getParityWidth() > 0)
+            builder.setParityWidth(sp.getParityWidth());
+        return builder;
     }
     
     public static String stripingPolicyToJSONString(StripingPolicy sp) throws JSONException {
@@ -338,6 +354,8 @@ public class Converter {
         spMap.put("pattern", sp.getPattern());
         spMap.put("size", sp.getStripeSize());
         spMap.put("width", sp.getWidth());
+        if (sp.getParityWidth() > 0)
+            spMap.put("parity-width", sp.getParityWidth());
         return spMap;
     }
     
@@ -53,6 +53,7 @@ import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceDataMap;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceSet;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.KeyValuePair;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates;
 
 public class MRCHelper {
@@ -211,9 +212,11 @@ public class MRCHelper {
             throw new UserException(POSIXErrno.POSIX_ERROR_EIO, "could not open file " + path
                     + ": no default striping policy available");
         
-        // determine the set of OSDs to be assigned to the replica
+        // determine the set of OSDs to be assigned to the replica; parity
+        // objects of erasure-coded files are stored on additional OSDs
+        final int parityWidth = stripingPolicy.getParityWidth();
         ServiceSet.Builder usableOSDs = osdMan.getUsableOSDs(volume.getId(), clientAddress, clientCoordinates,
-                currentXLoc, stripingPolicy.getWidth());
+                currentXLoc, stripingPolicy.getWidth() + parityWidth);
         
         if (usableOSDs == null || usableOSDs.getServicesCount() == 0) {
             
@@ -224,19 +227,31 @@ public class MRCHelper {
                     + ": no feasible OSDs available");
         }
         
+        // an erasure-coded file needs all of its parity OSDs and at least one
+        // data OSD
+        if (usableOSDs.getServicesCount() <= parityWidth) {
+            
+            Logging.logMessage(Logging.LEVEL_WARN, Category.all, (Object) null,
+                    "not enough OSDs available for erasure-coded file %s", path);
+            
+            throw new UserException(POSIXErrno.POSIX_ERROR_EIO, "could not assign OSDs to file " + path
+                    + ": " + (parityWidth + 1) + " OSDs required, " + usableOSDs.getServicesCount()
+                    + " available");
+        }
+        
         // determine the actual striping width; if not enough OSDs are
         // available, the width will be limited to the amount of available OSDs
-        int width = Math.min(stripingPolicy.getWidth(), usableOSDs.getServicesCount());
+        int width = Math.min(stripingPolicy.getWidth(), usableOSDs.getServicesCount() - parityWidth);
         
         // convert the set of OSDs to a string array of OSD UUIDs
         List<Service> osdServices = usableOSDs.getServicesList();
-        String[] osds = new String[width];
-        for (int i = 0; i < width; i++)
+        String[] osds = new String[width + parityWidth];
+        for (int i = 0; i < osds.length; i++)
             osds[i] = osdServices.get(i).getUuid();
         
         if (width != stripingPolicy.getWidth())
             stripingPolicy = sMan.createStripingPolicy(stripingPolicy.getPattern(), stripingPolicy.getStripeSize(),
-                    width);
+                    width, parityWidth);
         
         return sMan.createXLoc(stripingPolicy, osds, replFlags);
     }
@@ -504,10 +519,17 @@ public class MRCHelper {
                     throw new UserException(POSIXErrno.POSIX_ERROR_EPERM,
                             "cannot remove the volume's default striping policy");
                 
+                // check if the parity width matches the striping pattern
+                if (sp != null
+                        && (sp.getType() == StripingPolicyType.STRIPING_POLICY_ERASURECODE) != (sp.getParityWidth() > 0))
+                    throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL,
+                            "a parity width > 0 is required for and only allowed with "
+                                    + StripingPolicyType.STRIPING_POLICY_ERASURECODE);
+                
                 // check if striping + rw replication would be set
                 ReplicationPolicy replPolicy = sMan.getDefaultReplicationPolicy(file.getId());
                 if (sp != null
-                        && sp.getWidth() > 1
+                        && (sp.getWidth() > 1 || sp.getParityWidth() > 0)
                         && replPolicy != null && (replPolicy.getName().equals(ReplicaUpdatePolicies.REPL_UPDATE_PC_WARONE) || replPolicy
                                 .getName().equals(ReplicaUpdatePolicies.REPL_UPDATE_PC_WQRQ))) {
                     throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL,
@@ -770,7 +792,7 @@ public class MRCHelper {
 
             // check if striping + rw replication would be set
             StripingPolicy stripingPolicy = file.getXLocList().getReplica(0).getStripingPolicy();
-            if (stripingPolicy.getWidth() > 1
+            if ((stripingPolicy.getWidth() > 1 || stripingPolicy.getParityWidth() > 0)
                     && (value.equals(ReplicaUpdatePolicies.REPL_UPDATE_PC_WARONE) || value
                             .equals(ReplicaUpdatePolicies.REPL_UPDATE_PC_WQRQ))) {
                 throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL, "RW-replication of striped files is not supported yet.");
@@ -805,7 +827,8 @@ public class MRCHelper {
                 }
                 
                 // check if rw replication + striping would be set
-                if (sMan.getDefaultStripingPolicy(file.getId()).getWidth() > 1
+                StripingPolicy defaultSP = sMan.getDefaultStripingPolicy(file.getId());
+                if ((defaultSP.getWidth() > 1 || defaultSP.getParityWidth() > 0)
                         && (rp.getName().equals(ReplicaUpdatePolicies.REPL_UPDATE_PC_WARONE) || rp.getName().equals(
                                 ReplicaUpdatePolicies.REPL_UPDATE_PC_WQRQ))) {
                     throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL,
@@ -94,6 +94,9 @@ public class OSD {
         config.checkConfig();
         
         Logging.start(config.getDebugLevel(), config.getDebugCategories());
+        Logging.setRateLimit(config.getDebugRateLimit());
+        if (config.isDebugAsync())
+            Logging.startAsync(config.getDebugAsyncQueueSize(), config.getDebugAsyncOverflowPolicy());
         
         new OSD(config);
     }
@@ -9,12 +9,16 @@
 package org.xtreemfs.osd;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 
 import org.xtreemfs.common.config.ServiceConfig;
+import org.xtreemfs.osd.stages.QoSPolicy;
+import org.xtreemfs.osd.storage.MultiDiskStorageLayout;
 
 /**
  * 
@@ -29,12 +33,18 @@ public class OSDConfig extends ServiceConfig {
     private final Parameter[] osdParameter = {            
             Parameter.DEBUG_LEVEL,
             Parameter.DEBUG_CATEGORIES,
+            Parameter.DEBUG_ASYNC,
+            Parameter.DEBUG_ASYNC_QUEUE_SIZE,
+            Parameter.DEBUG_ASYNC_OVERFLOW_POLICY,
+            Parameter.DEBUG_RATE_LIMIT,
             Parameter.PORT,
             Parameter.HTTP_PORT,
             Parameter.LISTEN_ADDRESS,
             Parameter.HOSTNAME,
             Parameter.DIRECTORY_SERVICE,
             Parameter.OBJECT_DIR,
+            Parameter.OBJECT_DIRS,
+            Parameter.DISK_PLACEMENT,
             Parameter.LOCAL_CLOCK_RENEW,
             Parameter.REMOTE_TIME_SYNC,
             Parameter.USE_SSL,
@@ -60,6 +70,11 @@ public class OSDConfig extends ServiceConfig {
             Parameter.FLEASE_LEASE_TIMEOUT_MS,
             Parameter.FLEASE_MESSAGE_TO_MS,
             Parameter.FLEASE_RETRIES,
+            Parameter.FLEASE_MAX_MESSAGE_BATCH_SIZE,
+            Parameter.REPLICATION_DIRTY_LOG_SIZE,
+            Parameter.REPLICATION_CHAIN_UPDATES,
+            Parameter.REPLICATION_MAX_WINDOW_PER_FILE,
+            Parameter.REPLICATION_MAX_WINDOW_PER_OSD,
             Parameter.POLICY_DIR,
             Parameter.CAPABILITY_SECRET,
             Parameter.SOCKET_SEND_BUFFER_SIZE,
@@ -79,6 +94,19 @@ public class OSDConfig extends ServiceConfig {
             Parameter.VIVALDI_MAX_REQUEST_TIMEOUT_IN_MS,
             Parameter.VIVALDI_TIMER_INTERVAL_IN_MS,
             Parameter.STORAGE_THREADS,
+            Parameter.SCRUBBER_INTERVAL_S,
+            Parameter.SCRUBBER_MAX_BANDWIDTH_MB,
+            Parameter.SCRUBBER_MAX_IOPS,
+            Parameter.SCRUBBER_MAX_STORAGE_QUEUE,
+            Parameter.QOS_ENABLED,
+            Parameter.QOS_WEIGHTS,
+            Parameter.QOS_LIMITS,
+            Parameter.WRITE_JOURNAL_DIR,
+            Parameter.WRITE_JOURNAL_MAX_BACKLOG_MB,
+            Parameter.WRITE_JOURNAL_DESTAGE_DELAY_MS,
+            Parameter.OBJECT_CACHE_SIZE_MB,
+            Parameter.DELETION_THREADS,
+            Parameter.DELETION_MAX_IOPS,
             Parameter.USE_RENEWAL_SIGNAL,
             Parameter.USE_MULTIHOMING,
             Parameter.HEALTH_CHECK
@@ -137,6 +165,24 @@ public class OSDConfig extends ServiceConfig {
         return (String) parameter.get(Parameter.OBJECT_DIR);
     }
 
+    /**
+     * @return the object directory followed by all additional object
+     *         directories
+     */
+    public List<String> getObjDirs() {
+        List<String> dirs = new ArrayList<String>();
+        dirs.add(getObjDir());
+        for (String dir : ((String) parameter.get(Parameter.OBJECT_DIRS)).split(",")) {
+            if (dir.trim().length() > 0)
+                dirs.add(dir.trim());
+        }
+        return dirs;
+    }
+
+    public String getDiskPlacement() {
+        return (String) parameter.get(Parameter.DISK_PLACEMENT);
+    }
+
     public int getLocalClockRenew() {
         return (Integer) parameter.get(Parameter.LOCAL_CLOCK_RENEW);
     }
@@ -214,6 +260,102 @@ public class OSDConfig extends ServiceConfig {
         return (Integer) parameter.get(Parameter.FLEASE_RETRIES);
     }
 
+    /**
+     * @return the maximum number of flease messages sent to one OSD in a single request
+     */
+    public int getFleaseMaxMessageBatchSize() {
+        return (Integer) parameter.get(Parameter.FLEASE_MAX_MESSAGE_BATCH_SIZE);
+    }
+
+    /**
+     * @return the maximum number of objects in the log of changed objects of a read-write replicated file
+     */
+    public int getDirtyObjectLogSize() {
+        return (Integer) parameter.get(Parameter.REPLICATION_DIRTY_LOG_SIZE);
+    }
+
+    /**
+     * @return true, if the primary of a read-write replicated file forwards writes along a chain of backups
+     */
+    public boolean isChainUpdates() {
+        return (Boolean) parameter.get(Parameter.REPLICATION_CHAIN_UPDATES);
+    }
+
+    /**
+     * @return the maximum number of replica updates in flight and queued per read-write replicated file
+     */
+    public int getReplicationMaxWindowPerFile() {
+        return (Integer) parameter.get(Parameter.REPLICATION_MAX_WINDOW_PER_FILE);
+    }
+
+    /**
+     * @return the maximum number of replica updates in flight and queued requests per OSD
+     */
+    public int getReplicationMaxWindowPerOSD() {
+        return (Integer) parameter.get(Parameter.REPLICATION_MAX_WINDOW_PER_OSD);
+    }
+
+    /**
+     * @return the time between two scrubber passes in seconds, 0 if the scrubber is disabled
+     */
+    public int getScrubberInterval() {
+        return (Integer) parameter.get(Parameter.SCRUBBER_INTERVAL_S);
+    }
+
+    /**
+     * @return the maximum bandwidth used by the scrubber in MB/s
+     */
+    public int getScrubberMaxBandwidth() {
+        return (Integer) parameter.get(Parameter.SCRUBBER_MAX_BANDWIDTH_MB);
+    }
+
+    /**
+     * @return the maximum number of objects verified by the scrubber per second
+     */
+    public int getScrubberMaxIOPS() {
+        return (Integer) parameter.get(Parameter.SCRUBBER_MAX_IOPS);
+    }
+
+    public int getScrubberMaxStorageQueueLength() {
+        return (Integer) parameter.get(Parameter.SCRUBBER_MAX_STORAGE_QUEUE);
+    }
+
+    public boolean isQoSEnabled() {
+        return (Boolean) parameter.get(Parameter.QOS_ENABLED);
+    }
+
+    public String getQoSWeights() {
+        return (String) parameter.get(Parameter.QOS_WEIGHTS);
+    }
+
+    public String getQoSLimits() {
+        return (String) parameter.get(Parameter.QOS_LIMITS);
+    }
+
+    public String getWriteJournalDir() {
+        return (String) parameter.get(Parameter.WRITE_JOURNAL_DIR);
+    }
+
+    public int getWriteJournalMaxBacklogMB() {
+        return (Integer) parameter.get(Parameter.WRITE_JOURNAL_MAX_BACKLOG_MB);
+    }
+
+    public int getWriteJournalDestageDelayMs() {
+        return (Integer) parameter.get(Parameter.WRITE_JOURNAL_DESTAGE_DELAY_MS);
+    }
+
+    public int getObjectCacheSizeMB() {
+        return (Integer) parameter.get(Parameter.OBJECT_CACHE_SIZE_MB);
+    }
+
+    public int getDeletionThreads() {
+        return (Integer) parameter.get(Parameter.DELETION_THREADS);
+    }
+
+    public int getDeletionMaxIOPS() {
+        return (Integer) parameter.get(Parameter.DELETION_MAX_IOPS);
+    }
+
     /**
      * @param capabilitySecret
      *            the capabilitySecret to set
@@ -244,6 +386,21 @@ public class OSDConfig extends ServiceConfig {
     public void checkConfig() {
         super.checkConfig(osdParameter);
         checkMultihomingConfiguration();
+        if (getScrubberMaxBandwidth() < 1 || getScrubberMaxIOPS() < 1) {
+            throw new RuntimeException("properties '" + Parameter.SCRUBBER_MAX_BANDWIDTH_MB.getPropertyString()
+                    + "' and '" + Parameter.SCRUBBER_MAX_IOPS.getPropertyString() + "' must be positive");
+        }
+        try {
+            new QoSPolicy(getQoSWeights(), getQoSLimits());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("invalid QoS configuration: " + e.getMessage());
+        }
+        if (!getDiskPlacement().equals(MultiDiskStorageLayout.PLACEMENT_HASH)
+            && !getDiskPlacement().equals(MultiDiskStorageLayout.PLACEMENT_FREE_SPACE)) {
+            throw new RuntimeException("property '" + Parameter.DISK_PLACEMENT.getPropertyString()
+                + "' must be either '" + MultiDiskStorageLayout.PLACEMENT_HASH + "' or '"
+                + MultiDiskStorageLayout.PLACEMENT_FREE_SPACE + "'");
+        }
     }
 
     public int getMaxClientQ() {
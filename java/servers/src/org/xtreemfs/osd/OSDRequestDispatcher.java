@@ -106,10 +106,15 @@ import org.xtreemfs.osd.stages.ReplicationStage;
 import org.xtreemfs.osd.stages.StorageStage;
 import org.xtreemfs.osd.stages.VivaldiStage;
 import org.xtreemfs.osd.storage.CleanupThread;
+import org.xtreemfs.osd.storage.ScrubberThread;
 import org.xtreemfs.osd.storage.CleanupVersionsThread;
+import org.xtreemfs.osd.storage.DestageThread;
 import org.xtreemfs.osd.storage.HashStorageLayout;
+import org.xtreemfs.osd.storage.MultiDiskStorageLayout;
 import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.osd.storage.ObjectCache;
 import org.xtreemfs.osd.storage.StorageLayout;
+import org.xtreemfs.osd.storage.WriteJournal;
 import org.xtreemfs.osd.vivaldi.VivaldiNode;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.DirService;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service;
@@ -181,6 +186,14 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
 
     protected final CleanupThread                       cThread;
 
+    protected final ScrubberThread                      scrubberThread;
+
+    protected final WriteJournal                        writeJournal;
+
+    protected final DestageThread                       destageThread;
+
+    protected final ObjectCache                         objectCache;
+
     protected final CleanupVersionsThread               cvThread;
 
     protected final RWReplicationStage                  rwrStage;
@@ -245,11 +258,13 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         internalEvents = new HashMap<Class<?>, OSDOperation>();
         initializeOperations();
         
-        // create directory if necessary
-        File objDir = new File(config.getObjDir());
-        if (!objDir.exists()) {
-            if (!objDir.mkdirs())
-                throw new IOException("unable to create object directory: " + objDir.getAbsolutePath());
+        // create directories if necessary
+        for (String dir : config.getObjDirs()) {
+            File objDir = new File(dir);
+            if (!objDir.exists()) {
+                if (!objDir.mkdirs())
+                    throw new IOException("unable to create object directory: " + objDir.getAbsolutePath());
+            }
         }
         
         // -------------------------------
@@ -313,7 +328,10 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         MetadataCache metadataCache = new MetadataCache();
         StorageLayout storageLayout = null;
         if (config.getStorageLayout().equalsIgnoreCase(HashStorageLayout.class.getSimpleName())) {
-            storageLayout = new HashStorageLayout(config, metadataCache);
+            if (config.getObjDirs().size() > 1)
+                storageLayout = new MultiDiskStorageLayout(config, metadataCache);
+            else
+                storageLayout = new HashStorageLayout(config, metadataCache);
             /*
              * } else if
              * (config.getStorageLayout().equalsIgnoreCase(SingleFileStorageLayout
@@ -324,6 +342,24 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
             throw new RuntimeException("unknown storage layout in config file: " + config.getStorageLayout());
         }
         
+        if (config.getWriteJournalDir().length() > 0) {
+            // writes that have not been destaged before a crash are replayed
+            // before the journal is used again
+            writeJournal = new WriteJournal(config.getWriteJournalDir(),
+                config.getWriteJournalMaxBacklogMB() * 1024L * 1024L, WriteJournal.DEFAULT_SEGMENT_SIZE);
+            writeJournal.replay(storageLayout);
+            storageLayout.setWriteJournal(writeJournal);
+        } else {
+            writeJournal = null;
+        }
+        
+        if (config.getObjectCacheSizeMB() > 0) {
+            objectCache = new ObjectCache(config.getObjectCacheSizeMB() * 1024L * 1024L);
+            storageLayout.setObjectCache(objectCache);
+        } else {
+            objectCache = null;
+        }
+        
         udpCom = new RPCUDPSocketServer(config.getPort(), this);
         udpCom.setLifeCycleListener(this);
         
@@ -333,7 +369,8 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         stStage = new StorageStage(this, metadataCache, storageLayout, config.getStorageThreads(), config.getMaxRequestsQueueLength());
         stStage.setLifeCycleListener(this);
         
-        delStage = new DeletionStage(this, metadataCache, storageLayout, config.getMaxRequestsQueueLength());
+        delStage = new DeletionStage(this, metadataCache, storageLayout, config.getDeletionThreads(),
+            config.getDeletionMaxIOPS(), config.getMaxRequestsQueueLength());
         delStage.setLifeCycleListener(this);
         
         replStage = new ReplicationStage(this, config.getMaxRequestsQueueLength());
@@ -368,16 +405,23 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
                 String freeSpace = "0";
                 String useableSpace = "0";
                 
+                List<String> objDirs = config.getObjDirs();
+                
                 if (config.isReportFreeSpace()) {
-                    freeSpace = String.valueOf(FSUtils.getFreeSpace(config.getObjDir()));
-                    useableSpace = String.valueOf(FSUtils.getUsableSpace(config.getObjDir()));
+                    long free = 0;
+                    long usable = 0;
+                    for (String dir : objDirs) {
+                        free += FSUtils.getFreeSpace(dir);
+                        usable += FSUtils.getUsableSpace(dir);
+                    }
+                    freeSpace = String.valueOf(free);
+                    useableSpace = String.valueOf(usable);
                 }
                 
                 String totalSpace = "-1";
                 
                 try {
-                    File f = new File(config.getObjDir());
-                    totalSpace = String.valueOf(f.getTotalSpace());
+                    totalSpace = String.valueOf(OSDRequestDispatcher.this.getTotalSpace());
                 } catch (Exception ex) {
                 }
                 
@@ -394,8 +438,11 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
                 String scriptOutput = "";
                 if (!config.getHealthCheckScript().equals("")) {
                     try {
-                        Process scriptProcess = Runtime.getRuntime()
-                                .exec(new String[] { config.getHealthCheckScript(), config.getObjDir() });
+                        // the script checks the disks of all object directories
+                        List<String> cmd = new ArrayList<String>();
+                        cmd.add(config.getHealthCheckScript());
+                        cmd.addAll(config.getObjDirs());
+                        Process scriptProcess = Runtime.getRuntime().exec(cmd.toArray(new String[cmd.size()]));
                         
                         // wait until the health check is terminated and get exit value (i.e. health check result)
                         int healthCheckExitValue = scriptProcess.waitFor();
@@ -435,6 +482,22 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
                 dmap.addData(KeyValuePair.newBuilder().setKey("total").setValue(totalSpace).build());
                 dmap.addData(KeyValuePair.newBuilder().setKey("free").setValue(freeSpace).build());
                 dmap.addData(KeyValuePair.newBuilder().setKey("usable").setValue(useableSpace).build());
+                if (objDirs.size() > 1) {
+                    // report the space of each disk separately
+                    dmap.addData(KeyValuePair.newBuilder().setKey("disks")
+                            .setValue(String.valueOf(objDirs.size())).build());
+                    for (int i = 0; i < objDirs.size(); i++) {
+                        File f = new File(objDirs.get(i));
+                        dmap.addData(KeyValuePair.newBuilder().setKey("disk." + i + ".total")
+                                .setValue(String.valueOf(f.getTotalSpace())).build());
+                        if (config.isReportFreeSpace()) {
+                            dmap.addData(KeyValuePair.newBuilder().setKey("disk." + i + ".free")
+                                    .setValue(String.valueOf(f.getFreeSpace())).build());
+                            dmap.addData(KeyValuePair.newBuilder().setKey("disk." + i + ".usable")
+                                    .setValue(String.valueOf(f.getUsableSpace())).build());
+                        }
+                    }
+                }
                 dmap.addData(KeyValuePair.newBuilder().setKey("totalRAM").setValue(Long.toString(totalRAM))
                         .build());
                 dmap.addData(KeyValuePair.newBuilder().setKey("usedRAM").setValue(Long.toString(usedRAM))
@@ -507,6 +570,16 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         
         cvThread = new CleanupVersionsThread(this, storageLayout);
         cvThread.setLifeCycleListener(this);
+
+        scrubberThread = new ScrubberThread(this, storageLayout);
+        scrubberThread.setLifeCycleListener(this);
+        
+        if (writeJournal != null) {
+            destageThread = new DestageThread(this, writeJournal, config.getWriteJournalDestageDelayMs());
+            destageThread.setLifeCycleListener(this);
+        } else {
+            destageThread = null;
+        }
         
         statusListener = new ArrayList<OSDStatusListener>();
         if (config.isUsingSnmp()) {
@@ -531,6 +604,24 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         return cvThread;
     }
 
+    public ScrubberThread getScrubberThread() {
+        return scrubberThread;
+    }
+
+    /**
+     * @return the write journal, or <code>null</code> if it is disabled
+     */
+    public WriteJournal getWriteJournal() {
+        return writeJournal;
+    }
+
+    /**
+     * @return the object cache, or <code>null</code> if it is disabled
+     */
+    public ObjectCache getObjectCache() {
+        return objectCache;
+    }
+
     public void start() {
 
         try {
@@ -550,6 +641,9 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
             vStage.start();
             cThread.start();
             cvThread.start();
+            scrubberThread.start();
+            if (destageThread != null)
+                destageThread.start();
             rwrStage.start();
 
             udpCom.waitForStartup();
@@ -559,6 +653,9 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
             vStage.waitForStartup();
             cThread.waitForStartup();
             cvThread.waitForStartup();
+            scrubberThread.waitForStartup();
+            if (destageThread != null)
+                destageThread.waitForStartup();
             rwrStage.waitForStartup();
 
             heartbeatThread.initialize();
@@ -609,6 +706,10 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
             cThread.shutdown();
             cvThread.cleanupStop();
             cvThread.shutdown();
+            scrubberThread.scrubStop();
+            scrubberThread.shutdown();
+            if (destageThread != null)
+                destageThread.shutdown();
             serviceAvailability.shutdown();
 
             udpCom.waitForShutdown();
@@ -620,6 +721,13 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
             vStage.waitForShutdown();
             cThread.waitForShutdown();
             cvThread.waitForShutdown();
+            scrubberThread.waitForShutdown();
+            if (destageThread != null)
+                destageThread.waitForShutdown();
+
+            // remaining writes are replayed at the next start
+            if (writeJournal != null)
+                writeJournal.close();
 
             if (statusServer != null) {
                 statusServer.shutdown();
@@ -658,6 +766,10 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
             cThread.shutdown();
             cvThread.cleanupStop();
             cvThread.shutdown();
+            scrubberThread.scrubStop();
+            scrubberThread.shutdown();
+            if (destageThread != null)
+                destageThread.shutdown();
             serviceAvailability.shutdown();
 
             statusServer.shutdown();
@@ -735,12 +847,16 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
     }
 
     public long getFreeSpace() {
-        return FSUtils.getFreeSpace(config.getObjDir());
+        long s = 0;
+        for (String dir : config.getObjDirs())
+            s += FSUtils.getFreeSpace(dir);
+        return s;
     }
 
     public long getTotalSpace() {
-        File f = new File(config.getObjDir());
-        long s = f.getTotalSpace();
+        long s = 0;
+        for (String dir : config.getObjDirs())
+            s += new File(dir).getTotalSpace();
         return s;
     }
 
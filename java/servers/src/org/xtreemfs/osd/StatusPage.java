@@ -13,6 +13,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.xtreemfs.common.statusserver.StatusServerModule;
@@ -23,6 +24,10 @@ import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.pbrpc.Schemes;
 import org.xtreemfs.foundation.util.OutputUtils;
+import org.xtreemfs.osd.stages.DeletionStage;
+import org.xtreemfs.osd.stages.FairStageQueue.FlowStatistics;
+import org.xtreemfs.osd.storage.ObjectCache;
+import org.xtreemfs.osd.storage.WriteJournal;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceConstants;
 
@@ -48,7 +53,11 @@ class StatusPage extends StatusServerModule {
             PARSERQ("<!-- $PARSERQ -->"),
             AUTHQ("<!-- $AUTHQ -->"),
             STORAGEQ("<!-- $STORAGEQ -->"),
+            VOLUMEQ("<!-- $VOLUMEQ -->"),
             DELETIONQ("<!-- $DELETIONQ -->"),
+            DELETION("<!-- $DELETION -->"),
+            JOURNAL("<!-- $JOURNAL -->"),
+            OBJCACHE("<!-- $OBJCACHE -->"),
             OPENFILES("<!-- $OPENFILES -->"),
             OBJWRITE("<!-- $OBJWRITE -->"),
             OBJREAD("<!-- $OBJREAD -->"),
@@ -59,6 +68,7 @@ class StatusPage extends StatusServerModule {
             GMAXMSG("<!-- $GMAXMSG -->"),
             GMAXRPC("<!-- $GMAXRPC -->"),
             DELETES("<!-- $DELETES -->"),
+            SCRUBBER("<!-- $SCRUBBER -->"),
             GLOBALTIME("<!-- $GLOBALTIME -->"),
             GLOBALRESYNC("<!-- $GLOBALRESYNC -->"),
             LOCALTIME("<!-- $LOCALTIME -->"),
@@ -136,6 +146,54 @@ class StatusPage extends StatusServerModule {
     public void shutdown() {
         // Noop.
     }
+
+    private String getVolumeQueues() {
+        List<FlowStatistics> stats = myDispatcher.getStorageStage().getFlowStatistics();
+        if (stats == null)
+            return "fair queuing disabled";
+        if (stats.isEmpty())
+            return "no requests";
+
+        StringBuilder sb = new StringBuilder();
+        for (FlowStatistics flow : stats) {
+            sb.append(flow.getFlowId().length() == 0 ? "(internal)" : flow.getFlowId());
+            sb.append(": weight ").append(flow.getWeight());
+            sb.append(", ").append(flow.getQueueLength()).append(" queued");
+            sb.append(", ").append(Math.round(flow.getOpsPerSecond())).append(" ops/s");
+            sb.append(", ").append(OutputUtils.formatBytes((long) flow.getBytesPerSecond())).append("/s<br>");
+        }
+        return sb.toString();
+    }
+    
+    private String getWriteJournal() {
+        WriteJournal journal = myDispatcher.getWriteJournal();
+        if (journal == null)
+            return "disabled";
+
+        return journal.getBacklogRecords() + " writes / " + OutputUtils.formatBytes(journal.getBacklogBytes())
+            + " in " + journal.getNumDirtyFiles() + " files not destaged, " + journal.getNumSegments()
+            + " segments, " + OutputUtils.formatBytes(journal.getDestagedBytes()) + " destaged, "
+            + journal.getBypassedWrites() + " writes bypassed";
+    }
+    
+    private String getDeletion() {
+        DeletionStage delStage = myDispatcher.getDeletionStage();
+        return String.format("%d files pending, %.1f files/s, %d files / %s reclaimed, %d threads, %s",
+            delStage.getNumPendingFiles(), delStage.getFilesPerSecond(), delStage.getNumFilesReclaimed(),
+            OutputUtils.formatBytes(delStage.getBytesReclaimed()), delStage.getNumDeletionThreads(),
+            delStage.getMaxIOPS() > 0 ? "max. " + delStage.getMaxIOPS() + " deletes/s" : "unthrottled");
+    }
+    
+    private String getObjectCache() {
+        ObjectCache objectCache = myDispatcher.getObjectCache();
+        if (objectCache == null)
+            return "disabled";
+
+        return String.format("%.1f%% hit ratio (%d hits, %d misses), %s served from cache, %s / %s in %d objects",
+            objectCache.getHitRatio() * 100, objectCache.getHits(), objectCache.getMisses(),
+            OutputUtils.formatBytes(objectCache.getBytesServed()), OutputUtils.formatBytes(objectCache.getSize()),
+            OutputUtils.formatBytes(objectCache.getCapacity()), objectCache.getNumObjects());
+    }
     
     @Override
     public void handle(HttpExchange httpExchange) throws IOException {
@@ -177,9 +235,21 @@ class StatusPage extends StatusServerModule {
         values.put(
                 Vars.STORAGEQ,
                 Integer.toString(myDispatcher.getStorageStage().getQueueLength()));
+        values.put(
+                Vars.VOLUMEQ,
+                getVolumeQueues());
+        values.put(
+                Vars.JOURNAL,
+                getWriteJournal());
+        values.put(
+                Vars.OBJCACHE,
+                getObjectCache());
         values.put(
                 Vars.DELETIONQ,
                 Integer.toString(myDispatcher.getDeletionStage().getQueueLength()));
+        values.put(
+                Vars.DELETION,
+                getDeletion());
         values.put(
                 Vars.OPENFILES,
                 Integer.toString(myDispatcher.getPreprocStage().getNumOpenFiles()));
@@ -204,6 +274,11 @@ class StatusPage extends StatusServerModule {
         values.put(
                 Vars.DELETES,
                 Long.toString(myDispatcher.getDeletionStage().getNumFilesDeleted()));
+        values.put(
+                Vars.SCRUBBER,
+                myDispatcher.getScrubberThread().getStatus() + ", "
+                + OutputUtils.formatBytes(myDispatcher.getScrubberThread().getBytesChecked()) + " verified, "
+                + myDispatcher.getScrubberThread().getNumPendingRepairs() + " files waiting for repair");
         values.put(
                 Vars.GLOBALTIME,
                 new Date(globalTime).toString() + " (" + globalTime + ")");
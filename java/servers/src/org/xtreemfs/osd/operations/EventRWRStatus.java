@@ -13,7 +13,7 @@ import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResp
 import org.xtreemfs.osd.OSDRequest;
 import org.xtreemfs.osd.OSDRequestDispatcher;
 import org.xtreemfs.osd.stages.StorageStage.InternalGetMaxObjectNoCallback;
-import org.xtreemfs.osd.stages.StorageStage.InternalGetReplicaStateCallback;
+import org.xtreemfs.osd.stages.StorageStage.InternalGetLocalReplicaStateCallback;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaStatus;
 
 /**
@@ -49,11 +49,12 @@ public class EventRWRStatus extends OSDOperation {
         final String fileId = (String) args[0];
         final StripingPolicyImpl sp = (StripingPolicyImpl) args[1];
 
-        master.getStorageStage().internalGetReplicaState(fileId, sp, 0, new InternalGetReplicaStateCallback() {
+        master.getStorageStage().internalGetLocalReplicaState(fileId, sp, new InternalGetLocalReplicaStateCallback() {
 
             @Override
-            public void getReplicaStateComplete(ReplicaStatus localState, ErrorResponse error) {
-                master.getRWReplicationStage().eventReplicaStateAvailable(fileId, localState, error);
+            public void getLocalReplicaStateComplete(ReplicaStatus localState, long completeVersion,
+                    ErrorResponse error) {
+                master.getRWReplicationStage().eventReplicaStateAvailable(fileId, localState, completeVersion, error);
             }
         });
     }
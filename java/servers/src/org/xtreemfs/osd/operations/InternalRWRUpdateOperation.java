@@ -8,12 +8,17 @@
 
 package org.xtreemfs.osd.operations;
 
+import java.io.IOException;
+import java.util.List;
+
 import org.xtreemfs.common.Capability;
 import org.xtreemfs.common.uuids.ServiceUUID;
 import org.xtreemfs.common.xloc.InvalidXLocationsException;
 import org.xtreemfs.common.xloc.XLocations;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponseAvailableListener;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
@@ -21,10 +26,12 @@ import org.xtreemfs.foundation.pbrpc.utils.ErrorUtils;
 import org.xtreemfs.osd.OSDRequest;
 import org.xtreemfs.osd.OSDRequestDispatcher;
 import org.xtreemfs.osd.rwre.RWReplicationStage;
+import org.xtreemfs.osd.rwre.UpdateChain;
 import org.xtreemfs.osd.stages.StorageStage.WriteObjectCallback;
 import org.xtreemfs.osd.storage.CowPolicy;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceConstants;
 
 public final class InternalRWRUpdateOperation extends OSDOperation {
@@ -65,11 +72,67 @@ public final class InternalRWRUpdateOperation extends OSDOperation {
                     
                     @Override
                     public void writeComplete(OSDWriteResponse result, ErrorResponse error) {
-                        sendResult(rq, error);
+                        if (error == null && args.hasChain())
+                            forwardUpdate(rq, args);
+                        else
+                            sendResult(rq, error);
                     }
                 });
     }
 
+    /**
+     * Forwards a chained update to the next replica. The update is acknowledged immediately if no further
+     * acknowledgments are required, otherwise once the next replica has acknowledged it. The response contains
+     * the number of replicas that have written the update, which is 1 if the update could not be forwarded.
+     */
+    public void forwardUpdate(final OSDRequest rq, final xtreemfs_rwr_updateRequest args) {
+        final int numAcks = args.getChain().getNumAcks() - 1;
+        final List<Integer> replicaIndices = args.getChain().getReplicaIndicesList();
+
+        if (replicaIndices.isEmpty()) {
+            if (numAcks > 0)
+                Logging.logMessage(Logging.LEVEL_WARN, this, "end of update chain for file %s-%d reached, "
+                        + "%d acknowledgments missing", args.getFileId(), args.getObjectNumber(), numAcks);
+            sendResponse(rq, 0);
+            return;
+        }
+
+        final RPCResponse<xtreemfs_rwr_updateResponse> response;
+        try {
+            response = UpdateChain.forward(master.getOSDClientForReplication(), args.getFileCredentials(), numAcks,
+                    replicaIndices, args.getObjectNumber(), args.getObjectVersion(), args.getOffset(), args.getObj(),
+                    rq.getRPCRequest().getData().createViewBuffer());
+        } catch (IOException ex) {
+            if (Logging.isDebug())
+                Logging.logMessage(Logging.LEVEL_DEBUG, this, "cannot forward update for file %s-%d: %s",
+                        args.getFileId(), args.getObjectNumber(), ex.toString());
+            sendResponse(rq, 0);
+            return;
+        }
+
+        if (numAcks <= 0)
+            sendResponse(rq, 0);
+
+        response.registerListener(new RPCResponseAvailableListener<xtreemfs_rwr_updateResponse>() {
+
+            @Override
+            public void responseAvailable(RPCResponse<xtreemfs_rwr_updateResponse> r) {
+                int numForwarded = 0;
+                try {
+                    numForwarded = UpdateChain.getNumAcks(r.get());
+                } catch (Exception ex) {
+                    if (Logging.isDebug())
+                        Logging.logMessage(Logging.LEVEL_DEBUG, this, "cannot forward update for file %s-%d: %s",
+                                args.getFileId(), args.getObjectNumber(), ex.toString());
+                } finally {
+                    r.freeBuffers();
+                }
+                if (numAcks > 0)
+                    sendResponse(rq, numForwarded);
+            }
+        });
+    }
+
     public void prepareLocalWrite(final OSDRequest rq, final xtreemfs_rwr_updateRequest args) {
         master.getRWReplicationStage().prepareOperation(args.getFileCredentials(), rq.getLocationList(),
                 args.getObjectNumber(), args.getObjectVersion(), RWReplicationStage.Operation.INTERNAL_UPDATE, new RWReplicationStage.RWReplicationCallback() {
@@ -97,13 +160,13 @@ public final class InternalRWRUpdateOperation extends OSDOperation {
             rq.sendError(error);
         } else {
             //only locally
-            sendResponse(rq);
+            sendResponse(rq, 0);
         }
     }
 
     
-    public void sendResponse(OSDRequest rq) {
-        rq.sendSuccess(null,null);
+    public void sendResponse(OSDRequest rq, int numForwarded) {
+        rq.sendSuccess(UpdateChain.createResponse(numForwarded), null);
     }
 
 
@@ -202,8 +202,21 @@ public final class ReadOperation extends OSDOperation {
         long maxTruncate = -1;
 
         try {
+            // erasure-coded files remain readable if some OSDs are
+            // unavailable, so EOF is determined from the remaining OSDs
+            final boolean tolerateFailures = rq.getLocationList().getLocalReplica().getStripingPolicy()
+                    .getParityWidth() > 0;
             for (int i = 0; i < gmaxRPCs.length; i++) {
-                InternalGmax gmax = (InternalGmax) gmaxRPCs[i].get();
+                InternalGmax gmax;
+                try {
+                    gmax = (InternalGmax) gmaxRPCs[i].get();
+                } catch (IOException ex) {
+                    if (!tolerateFailures)
+                        throw ex;
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this,
+                            "could not fetch gmax of erasure-coded file %s: %s", args.getFileId(), ex.toString());
+                    continue;
+                }
                 if ((gmax.getLastObjectId() > maxObjNo) && (gmax.getEpoch() >= maxTruncate)) {
                     //found new max
                     maxObjNo = gmax.getLastObjectId();
@@ -18,6 +18,7 @@ import java.util.Map.Entry;
 
 import org.xtreemfs.common.uuids.ServiceUUID;
 import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.flease.Flease;
 import org.xtreemfs.foundation.flease.comm.FleaseMessage;
 import org.xtreemfs.foundation.logging.Logging;
@@ -33,11 +34,15 @@ import org.xtreemfs.osd.rwre.RWReplicationStage.Operation;
 import org.xtreemfs.osd.rwre.ReplicatedFileState.ReplicaState;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.AuthoritativeReplicaState;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectVersion;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectVersionMapping;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaStatus;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.TruncateLog;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.TruncateRecord;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceClient;
 
 /**
@@ -48,6 +53,7 @@ public abstract class CoordinatedReplicaUpdatePolicy extends ReplicaUpdatePolicy
 
     private final OSDServiceClient client;
 
+    private boolean                chainUpdates;
 
     public CoordinatedReplicaUpdatePolicy(List<ServiceUUID> remoteOSDUUIDs, String localUUID, String fileId, OSDServiceClient client) throws IOException {
         super(remoteOSDUUIDs, fileId, localUUID);
@@ -64,6 +70,14 @@ public abstract class CoordinatedReplicaUpdatePolicy extends ReplicaUpdatePolicy
     protected abstract int getNumRequiredAcks(Operation operation);
 
     protected abstract boolean backupCanRead();
+
+    /**
+     * @param chainUpdates
+     *            true, if writes are forwarded along a chain of backups instead of being sent to all backups
+     */
+    public void setChainUpdates(boolean chainUpdates) {
+        this.chainUpdates = chainUpdates;
+    }
    
 
     @Override
@@ -78,15 +92,16 @@ public abstract class CoordinatedReplicaUpdatePolicy extends ReplicaUpdatePolicy
     }
 
     @Override
-    public void executeReset(final FileCredentials credentials, final ReplicaStatus localReplicaState, final ExecuteResetCallback callback) {
+    public void executeReset(final FileCredentials credentials, final ReplicaStatus localReplicaState, final long localCompleteVersion,
+            final ExecuteResetCallback callback) {
         final String fileId = credentials.getXcap().getFileId();
         final int numAcksRequired = getNumRequiredAcks(Operation.INTERNAL_UPDATE);
         final int numRequests = remoteOSDUUIDs.size();
         final int maxErrors = numRequests - numAcksRequired;
 
         if (Logging.isDebug()) {
-            Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,"(R:%s) fetching replica state for %s from %d replicas (majority: %d), local max: %d",
-                    localUUID, fileId, numRequests, numAcksRequired, this.localObjVersion);
+            Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,"(R:%s) fetching replica state for %s from %d replicas (majority: %d), local max: %d, local complete: %d",
+                    localUUID, fileId, numRequests, numAcksRequired, this.localObjVersion, localCompleteVersion);
         }
 
         final RPCResponse[] responses = new RPCResponse[remoteOSDUUIDs.size()];
@@ -94,7 +109,12 @@ public abstract class CoordinatedReplicaUpdatePolicy extends ReplicaUpdatePolicy
             for (int i = 0; i < responses.length; i++) {
                 responses[i] = client.xtreemfs_rwr_status(remoteOSDUUIDs.get(i).getAddress(), RPCAuthentication.authNone, RPCAuthentication.userService,
                         credentials, credentials.getXcap().getFileId(),
-                        0);  // maxObjVer = 0 => let the remote OSD assume that we don't have any objects yet. Important to detect wholes (writes not seen by this replica).
+                        // Only request objects with versions the local replica may have missed. The local
+                        // replica has seen all writes up to localCompleteVersion, if it is 0 the remote OSD
+                        // has to assume that we don't have any objects yet, which is important to detect
+                        // holes (writes not seen by this replica). The authoritative state is still complete,
+                        // since it includes all local objects.
+                        localCompleteVersion);
             }
         } catch (IOException ex) {
             callback.failed(ErrorUtils.getErrorResponse(ErrorType.ERRNO, POSIXErrno.POSIX_ERROR_EIO, ex.toString(),ex));
@@ -296,6 +316,19 @@ public abstract class CoordinatedReplicaUpdatePolicy extends ReplicaUpdatePolicy
 
     @Override
     public void executeWrite(FileCredentials credentials, long objNo, long objVersion, InternalObjectData data, final ClientOperationCallback callback) {
+        if (chainUpdates) {
+            final ReplicaUpdateChain chain = UpdateChain.create(credentials, localUUID,
+                    getNumRequiredAcks(Operation.WRITE));
+            if (chain != null) {
+                executeChainedWrite(credentials, objNo, objVersion, data, chain, callback);
+                return;
+            }
+        }
+        sendUpdates(credentials, objNo, objVersion, data.getMetadata(), data.getData(), callback);
+    }
+
+    private void sendUpdates(FileCredentials credentials, long objNo, long objVersion, ObjectData metadata, ReusableBuffer data,
+            final ClientOperationCallback callback) {
         final String fileId = credentials.getXcap().getFileId();
         final int numAcksRequired = getNumRequiredAcks(Operation.WRITE);
         final int numRequests = remoteOSDUUIDs.size();
@@ -303,18 +336,20 @@ public abstract class CoordinatedReplicaUpdatePolicy extends ReplicaUpdatePolicy
         
         final RPCResponse[] responses = new RPCResponse[remoteOSDUUIDs.size()];
         final RPCResponseAvailableListener l = getResponseListener(callback, maxErrors, numAcksRequired, fileId, Operation.WRITE);
+        final xtreemfs_rwr_updateRequest request = xtreemfs_rwr_updateRequest.newBuilder()
+                .setFileCredentials(credentials).setFileId(fileId).setNewFileSize(0).setObjectNumber(objNo)
+                .setObjectVersion(objVersion).setOffset(0).setObj(metadata).build();
         try {
             for (int i = 0; i < responses.length; i++) {
                 responses[i] = client.xtreemfs_rwr_update(remoteOSDUUIDs.get(i).getAddress(),
-                        RPCAuthentication.authNone, RPCAuthentication.userService,
-                        credentials, credentials.getXcap().getFileId(), 0,
-                        objNo, objVersion, 0, data.getMetadata(), data.getData().createViewBuffer());
+                        RPCAuthentication.authNone, RPCAuthentication.userService, request,
+                        data.createViewBuffer());
                 responses[i].registerListener(l);
             }
         } catch (IOException ex) {
             callback.failed(ErrorUtils.getInternalServerError(ex));
         } finally {
-            BufferPool.free(data.getData());
+            BufferPool.free(data);
         }
 
         //callback.writeUpdateCompleted(null, null, null);
@@ -322,6 +357,60 @@ public abstract class CoordinatedReplicaUpdatePolicy extends ReplicaUpdatePolicy
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,"(R:%s) sent update for %s", localUUID, fileId);
     }
 
+    /**
+     * Sends a write to the first backup of the chain, which forwards it to the other backups. If the chain
+     * cannot collect the required acknowledgments, e.g. because a backup is not available or does not support
+     * chained updates, the write is sent to all backups in parallel.
+     */
+    private void executeChainedWrite(final FileCredentials credentials, final long objNo, final long objVersion,
+            final InternalObjectData data, final ReplicaUpdateChain chain, final ClientOperationCallback callback) {
+        final String fileId = credentials.getXcap().getFileId();
+        final ReusableBuffer fallbackData = data.getData().createViewBuffer();
+        try {
+            RPCResponse<xtreemfs_rwr_updateResponse> response = UpdateChain.forward(client, credentials,
+                    chain.getNumAcks(), chain.getReplicaIndicesList(), objNo, objVersion, 0, data.getMetadata(),
+                    data.getData().createViewBuffer());
+            response.registerListener(new RPCResponseAvailableListener<xtreemfs_rwr_updateResponse>() {
+
+                @Override
+                public void responseAvailable(RPCResponse<xtreemfs_rwr_updateResponse> r) {
+                    try {
+                        final int numAcks = UpdateChain.getNumAcks(r.get());
+                        if (numAcks < chain.getNumAcks()) {
+                            Logging.logMessage(Logging.LEVEL_INFO, Category.replication, this,
+                                    "(R:%s) chained update for %s collected %d of %d acks, sending update to all backups",
+                                    localUUID, fileId, numAcks, chain.getNumAcks());
+                            sendUpdates(credentials, objNo, objVersion, data.getMetadata(), fallbackData, callback);
+                            return;
+                        }
+                    } catch (Exception ex) {
+                        Logging.logMessage(Logging.LEVEL_INFO, Category.replication, this,
+                                "(R:%s) chained update FAILED for %s, sending update to all backups: %s", localUUID,
+                                fileId, ex.toString());
+                        sendUpdates(credentials, objNo, objVersion, data.getMetadata(), fallbackData, callback);
+                        return;
+                    } finally {
+                        r.freeBuffers();
+                    }
+                    BufferPool.free(fallbackData);
+                    if (Logging.isDebug()) {
+                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,
+                                "replicated %s successfull for %s", Operation.WRITE, fileId);
+                    }
+                    callback.finsihed();
+                }
+            });
+        } catch (IOException ex) {
+            sendUpdates(credentials, objNo, objVersion, data.getMetadata(), fallbackData, callback);
+            return;
+        } finally {
+            BufferPool.free(data.getData());
+        }
+
+        if (Logging.isDebug())
+            Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,"(R:%s) sent chained update for %s", localUUID, fileId);
+    }
+
     @Override
     public void executeTruncate(FileCredentials credentials, long newFileSize, long newObjectVersion, final ClientOperationCallback callback) {
         final String fileId = credentials.getXcap().getFileId();
@@ -14,8 +14,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.xtreemfs.common.uuids.ServiceUUID;
@@ -26,12 +29,13 @@ import org.xtreemfs.foundation.buffer.ASCIIString;
 import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.flease.Flease;
+import org.xtreemfs.foundation.flease.FleaseBatchMessageSenderInterface;
 import org.xtreemfs.foundation.flease.FleaseConfig;
-import org.xtreemfs.foundation.flease.FleaseMessageSenderInterface;
 import org.xtreemfs.foundation.flease.FleaseStage;
 import org.xtreemfs.foundation.flease.FleaseStatusListener;
 import org.xtreemfs.foundation.flease.FleaseViewChangeListenerInterface;
 import org.xtreemfs.foundation.flease.comm.FleaseMessage;
+import org.xtreemfs.foundation.flease.comm.FleaseMessageBatch;
 import org.xtreemfs.foundation.flease.proposer.FleaseException;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
@@ -69,7 +73,7 @@ import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceClient;
  *
  * @author bjko
  */
-public class RWReplicationStage extends Stage implements FleaseMessageSenderInterface {
+public class RWReplicationStage extends Stage implements FleaseBatchMessageSenderInterface {
 
     public static final int STAGEOP_REPLICATED_WRITE = 1;
     public static final int STAGEOP_CLOSE = 2;
@@ -87,6 +91,7 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
     public static final int STAGEOP_FORCE_RESET = 16;
     public static final int STAGEOP_INTERNAL_MAXOBJ_AVAIL = 17;
     public static final int STAGEOP_INTERNAL_BACKUP_AUTHSTATE = 18;
+    public static final int STAGEOP_INTERNAL_UPDATE_COMPLETE = 19;
 
     public  static enum Operation {
         READ,
@@ -119,9 +124,28 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
 
     private static final int           MAX_OBJS_IN_FLIGHT = 10;
 
-    private static final int MAX_PENDING_PER_FILE = 10;
+    /**
+     * initial and minimum number of replica updates in flight per file
+     */
+    private static final int MIN_WINDOW_PER_FILE = 10;
 
-    private static final int MAX_EXTERNAL_REQUESTS_IN_Q = 250;
+    /**
+     * initial and minimum number of replica updates in flight per OSD
+     */
+    private static final int MIN_WINDOW_PER_OSD = 250;
+
+    private final int maxWindowPerFile;
+
+    private final int maxWindowPerOSD;
+
+    private final ReplicationWindow osdWindow;
+
+    private int numUpdatesInFlight;
+
+    /**
+     * files with stalled updates which are not limited by their own window
+     */
+    private final Queue<ReplicatedFileState> filesWaitingForWindow;
 
     private final Queue<ReplicatedFileState> filesInReset;
 
@@ -133,6 +157,8 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
 
     public RWReplicationStage(OSDRequestDispatcher master, SSLOptions sslOpts, int maxRequestsQueueLength) throws IOException {
         super("RWReplSt", maxRequestsQueueLength);
+        // pending requests are re-enqueued at the head of the queue
+        q = new LinkedBlockingDeque<StageRequest>();
         this.master = master;
         client = new RPCNIOSocketClient(sslOpts, 15000, 60000*5, "RWReplicationStage");
         fleaseClient = new RPCNIOSocketClient(sslOpts, 15000, 60000*5, "RWReplicationStage (flease)");
@@ -143,6 +169,10 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         numObjsInFlight = 0;
         filesInReset = new LinkedList();
         externalRequestsInQueue = new AtomicInteger(0);
+        maxWindowPerFile = Math.max(MIN_WINDOW_PER_FILE, master.getConfig().getReplicationMaxWindowPerFile());
+        maxWindowPerOSD = Math.max(MIN_WINDOW_PER_OSD, master.getConfig().getReplicationMaxWindowPerOSD());
+        osdWindow = new ReplicationWindow(MIN_WINDOW_PER_OSD, maxWindowPerOSD);
+        filesWaitingForWindow = new LinkedList<ReplicatedFileState>();
 
         localID = new ASCIIString(master.getConfig().getUUID().toString());
 
@@ -150,7 +180,8 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
 
         FleaseConfig fcfg = new FleaseConfig(master.getConfig().getFleaseLeaseToMS(),
                 master.getConfig().getFleaseDmaxMS(), master.getConfig().getFleaseMsgToMS(),
-                null, localID.toString(), master.getConfig().getFleaseRetries());
+                null, localID.toString(), master.getConfig().getFleaseRetries(), true, 0, false,
+                master.getConfig().getFleaseMaxMessageBatchSize());
 
         fstage = new FleaseStage(fcfg, master.getConfig().getObjDir()+"/",
                 this, false, new FleaseViewChangeListenerInterface() {
@@ -213,8 +244,8 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         super.waitForShutdown();
     }
 
-    public void eventReplicaStateAvailable(String fileId, ReplicaStatus localState, ErrorResponse error) {
-         this.enqueueOperation(STAGEOP_INTERNAL_STATEAVAIL, new Object[]{fileId,localState,error}, null, null);
+    public void eventReplicaStateAvailable(String fileId, ReplicaStatus localState, long localCompleteVersion, ErrorResponse error) {
+         this.enqueueOperation(STAGEOP_INTERNAL_STATEAVAIL, new Object[]{fileId,localState,localCompleteVersion,error}, null, null);
     }
 
     public void eventForceReset(FileCredentials credentials, XLocations xloc) {
@@ -241,6 +272,10 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         this.enqueueOperation(STAGEOP_INTERNAL_MAXOBJ_AVAIL, new Object[]{fileId,maxObjVer,error}, null, null);
     }
     
+    void eventUpdateComplete(ReplicatedFileState state, long latency, boolean success) {
+        this.enqueueOperation(STAGEOP_INTERNAL_UPDATE_COMPLETE, new Object[]{state,latency,success}, null, null);
+    }
+
     public void eventBackupReplicaReset(String fileId, AuthoritativeReplicaState authState, ReplicaStatus localState,
             FileCredentials credentials, XLocations xloc) {
         this.enqueueOperation(STAGEOP_INTERNAL_BACKUP_AUTHSTATE, new Object[]{fileId,authState, localState, credentials, xloc}, null, null);
@@ -279,6 +314,7 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this, "(R:%s) replica RESET required updates for: %s", localID, state.getFileId());
             }
             state.setObjectsToFetch(new LinkedList(missingObjects.values()));
+            state.setResetAuthState(authState);
             filesInReset.add(state);
             // Start by deleting the old objects.
             master.getStorageStage().deleteObjects(fileId, state.getsPolicy(), authState.getTruncateEpoch(), objectsToBeDeleted, new DeleteObjectsCallback() {
@@ -292,6 +328,7 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
             if (Logging.isDebug()) {
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this, "(R:%s) replica RESET finished (replica is up-to-date): %s", localID, state.getFileId());
             }
+            master.getStorageStage().setReplicaComplete(fileId, state.getsPolicy(), authState);
             doOpen(state);
         }
     }
@@ -563,6 +600,9 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                     if (numPendingFile == 0) {
                         //reset complete!
                         Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,"(R:%s) RESET complete for file %s",localID, fileId);
+                        // enqueued after all writes of fetched objects
+                        master.getStorageStage().setReplicaComplete(fileId, state.getsPolicy(), state.getResetAuthState());
+                        state.setResetAuthState(null);
                         doOpen(state);
                     }
                 }
@@ -597,7 +637,8 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         try {
             final String fileId = (String) method.getArgs()[0];
             final ReplicaStatus localReplicaState = (ReplicaStatus) method.getArgs()[1];
-            final ErrorResponse error = (ErrorResponse) method.getArgs()[2];
+            final long localCompleteVersion = (Long) method.getArgs()[2];
+            final ErrorResponse error = (ErrorResponse) method.getArgs()[3];
 
             final ReplicatedFileState state = files.get(fileId);
             if (state != null) {
@@ -607,10 +648,10 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                     failed(state, error, "processReplicaStateAvailExecReset");
                 } else {
                     if (Logging.isDebug()) {
-                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,"(R:%s) local state for %s available.",
-                                localID, state.getFileId());
+                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,"(R:%s) local state for %s available, complete up to version %d.",
+                                localID, state.getFileId(), localCompleteVersion);
                     }
-                    state.getPolicy().executeReset(state.getCredentials(), localReplicaState, new ReplicaUpdatePolicy.ExecuteResetCallback() {
+                    state.getPolicy().executeReset(state.getCredentials(), localReplicaState, localCompleteVersion, new ReplicaUpdatePolicy.ExecuteResetCallback() {
 
                         @Override
                         public void finished(AuthoritativeReplicaState authState) {
@@ -700,10 +741,7 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                 }
                 file.setPrimaryReset(false);
                 file.setState(ReplicaState.PRIMARY);
-                while (!file.getPendingRequests().isEmpty()) {
-                    StageRequest m = file.getPendingRequests().remove(0);
-                    enqueuePrioritized(m);
-                }
+                enqueuePrioritized(file.getPendingRequests());
             }
         } catch (IOException ex) {
             failed(file, ErrorUtils.getErrorResponse(ErrorType.ERRNO, POSIXErrno.POSIX_ERROR_EIO, ex.toString(), ex), "doPrimary");
@@ -719,10 +757,9 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         }
         file.setPrimaryReset(false);
         file.setState(ReplicaState.BACKUP);
-        while (!file.getPendingRequests().isEmpty()) {
-            StageRequest m = file.getPendingRequests().remove(0);
-            enqueuePrioritized(m);
-        }
+        discardStalledUpdates(file, ErrorUtils.getErrorResponse(ErrorType.ERRNO, POSIXErrno.POSIX_ERROR_EIO,
+                "replica of file " + file.getFileId() + " is no longer primary"));
+        enqueuePrioritized(file.getPendingRequests());
         /*} catch (IOException ex) {
             failed(file, ErrorUtils.getErrorResponse(ErrorType.ERRNO, POSIXErrno.POSIX_ERROR_EIO, ex.toString(), ex));
         }*/
@@ -741,14 +778,20 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
             }
         }
         file.getPendingRequests().clear();
+        discardStalledUpdates(file, ex);
     }
 
-    private void enqueuePrioritized(StageRequest rq) {
-        while (!q.offer(rq)) {
-            StageRequest otherRq = q.poll();
-            otherRq.sendInternalServerError(new IllegalStateException("internal queue overflow, cannot enqueue operation for processing."));
-            Logging.logMessage(Logging.LEVEL_DEBUG, this, "Dropping request from rwre queue due to overload");
+    /**
+     * Moves the pending requests of a file to the head of the queue, so that they are processed in their
+     * original order and before any request received in the meantime. Otherwise, a backup would process
+     * newer updates first and reject the pending ones as outdated.
+     */
+    private void enqueuePrioritized(List<StageRequest> requests) {
+        final LinkedBlockingDeque<StageRequest> deque = (LinkedBlockingDeque<StageRequest>) q;
+        for (ListIterator<StageRequest> iter = requests.listIterator(requests.size()); iter.hasPrevious();) {
+            deque.addFirst(iter.previous());
         }
+        requests.clear();
     }
 
 
@@ -764,7 +807,7 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
     }*/
 
     protected void enqueueExternalOperation(int stageOp, Object[] arguments, OSDRequest request, ReusableBuffer createdViewBuffer, Object callback) {
-        if (externalRequestsInQueue.get() >= MAX_EXTERNAL_REQUESTS_IN_Q) {
+        if (externalRequestsInQueue.get() >= maxWindowPerOSD) {
             Logging.logMessage(Logging.LEVEL_WARN, this, "RW replication stage is overloaded, request %d for %s dropped", request.getRequestId(), request.getFileId());
             request.sendInternalServerError(new IllegalStateException("RW replication stage is overloaded, request dropped"));
             
@@ -805,10 +848,19 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
     public void receiveFleaseMessage(ReusableBuffer message, InetSocketAddress sender) {
         //this.enqueueOperation(STAGEOP_PROCESS_FLEASE_MSG, new Object[]{message,sender}, null, null);
         try {
-            FleaseMessage msg = new FleaseMessage(message);
-            BufferPool.free(message);
-            msg.setSender(sender);
-            fstage.receiveMessage(msg);
+            if (FleaseMessageBatch.isBatch(message)) {
+                FleaseMessageBatch batch = new FleaseMessageBatch(message);
+                BufferPool.free(message);
+                for (FleaseMessage msg : batch.getMessages()) {
+                    msg.setSender(sender);
+                }
+                fstage.receiveMessages(batch.getMessages());
+            } else {
+                FleaseMessage msg = new FleaseMessage(message);
+                BufferPool.free(message);
+                msg.setSender(sender);
+                fstage.receiveMessage(msg);
+            }
         } catch (Exception ex) {
             Logging.logError(Logging.LEVEL_ERROR, this,ex);
         }
@@ -827,6 +879,19 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         ReusableBuffer data = BufferPool.allocate(message.getSize());
         message.serialize(data);
         data.flip();
+        sendFleaseData(data, recipient);
+    }
+
+    @Override
+    public void sendMessages(List<FleaseMessage> messages, InetSocketAddress recipient) {
+        FleaseMessageBatch batch = new FleaseMessageBatch(messages);
+        ReusableBuffer data = BufferPool.allocate(batch.getSize());
+        batch.serialize(data);
+        data.flip();
+        sendFleaseData(data, recipient);
+    }
+
+    private void sendFleaseData(ReusableBuffer data, InetSocketAddress recipient) {
         try {
             RPCResponse r = fleaseOsdClient.xtreemfs_rwr_flease_msg(recipient, RPCAuthentication.authNone, RPCAuthentication.userService, master.getHostName(),master.getConfig().getPort(),data);
             r.registerListener(new RPCResponseAvailableListener() {
@@ -845,14 +910,10 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
     @Override
     protected void processMethod(StageRequest method) {
         switch (method.getStageMethod()) {
-            case STAGEOP_REPLICATED_WRITE : {
-                externalRequestsInQueue.decrementAndGet();
-                processReplicatedWrite(method);
-                break;
-            }
+            case STAGEOP_REPLICATED_WRITE :
             case STAGEOP_TRUNCATE : {
                 externalRequestsInQueue.decrementAndGet();
-                processReplicatedTruncate(method);
+                processReplicatedUpdate(method);
                 break;
             }
             case STAGEOP_CLOSE : processFileClosed(method); break;
@@ -870,6 +931,7 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
             case STAGEOP_INTERNAL_MAXOBJ_AVAIL : processMaxObjAvail(method); break;
             case STAGEOP_INTERNAL_BACKUP_AUTHSTATE: processBackupAuthoritativeState(method); break;
             case STAGEOP_FORCE_RESET : processForceReset(method); break;
+            case STAGEOP_INTERNAL_UPDATE_COMPLETE : processUpdateComplete(method); break;
             case STAGEOP_GETSTATUS : processGetStatus(method); break;
             default : throw new IllegalArgumentException("no such stageop");
         }
@@ -900,6 +962,7 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                     Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,"closing file %s",fileId);
                 }
                 state.getPolicy().closeFile();
+                discardStalledUpdates(state, ErrorUtils.getErrorResponse(ErrorType.INTERNAL_SERVER_ERROR, POSIXErrno.POSIX_ERROR_EIO, "file has been closed"));
                 if (state.getPolicy().requiresLease())
                     fstage.closeCell(state.getPolicy().getCellId(), false);
                 cellToFileId.remove(state.getPolicy().getCellId());
@@ -918,7 +981,8 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
             if (Logging.isDebug())
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,"open file: "+fileId);
             //"open" file
-            state = new ReplicatedFileState(fileId,loc, master.getConfig().getUUID(), fstage, osdClient);
+            state = new ReplicatedFileState(fileId,loc, master.getConfig().getUUID(), fstage, osdClient,
+                    master.getConfig().isChainUpdates(), new ReplicationWindow(MIN_WINDOW_PER_FILE, maxWindowPerFile));
             files.put(fileId,state);
             state.setCredentials(credentials);
             state.setForceReset(forceReset);
@@ -965,38 +1029,43 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         }
     }
 
-    private void processReplicatedWrite(StageRequest method) {
+    private void processReplicatedUpdate(StageRequest method) {
         final RWReplicationCallback callback = (RWReplicationCallback) method.getCallback();
         try {
             final FileCredentials credentials = (FileCredentials) method.getArgs()[0];
-            final XLocations loc = (XLocations) method.getArgs()[1];
-            final Long objNo = (Long) method.getArgs()[2];
-            final Long objVersion = (Long) method.getArgs()[3];
-            final InternalObjectData objData  = (InternalObjectData) method.getArgs()[4];
-            
-
             final String fileId = credentials.getXcap().getFileId();
 
             ReplicatedFileState state = files.get(fileId);
             if (state == null) {
-                BufferPool.free(objData.getData());
-                callback.failed(ErrorUtils.getErrorResponse(ErrorType.INTERNAL_SERVER_ERROR, POSIXErrno.POSIX_ERROR_EIO, "file is not open!"));
+                discardUpdate(method, ErrorUtils.getErrorResponse(ErrorType.INTERNAL_SERVER_ERROR, POSIXErrno.POSIX_ERROR_EIO, "file is not open!"));
                 return;
             }
             state.setCredentials(credentials);
 
-            state.getPolicy().executeWrite(credentials, objNo, objVersion, objData, new ReplicaUpdatePolicy.ClientOperationCallback() {
-
-                @Override
-                public void finsihed() {
-                    callback.success(objVersion);
+            // updates must be sent in order, i.e. if updates are already waiting, this one has to wait as well;
+            // updates of a replica that is no longer primary are rejected by executeUpdate
+            if (state.getState() == ReplicaState.PRIMARY && (!state.getStalledUpdates().isEmpty() || (state.getNumUpdatesInFlight() >= state.getWindow().getSize())
+                    || (numUpdatesInFlight >= osdWindow.getSize()))) {
+                if (state.getStalledUpdates().size() >= maxWindowPerFile) {
+                    if (Logging.isDebug()) {
+                        Logging.logMessage(Logging.LEVEL_DEBUG, this,
+                                "rejecting request: too many updates (is: %d, max %d) waiting for file %s",
+                                state.getStalledUpdates().size(), maxWindowPerFile, fileId);
+                    }
+                    state.incrementNumRejected();
+                    discardUpdate(method, ErrorUtils.getErrorResponse(ErrorType.INTERNAL_SERVER_ERROR, POSIXErrno.POSIX_ERROR_NONE, "too many requests in queue for file"));
+                    return;
                 }
-
-                @Override
-                public void failed(ErrorResponse error) {
-                    callback.failed(error);
+                state.getStalledUpdates().add(method);
+                state.incrementNumStalled();
+                if (!state.isWaitingForWindow()) {
+                    state.setWaitingForWindow(true);
+                    filesWaitingForWindow.add(state);
                 }
-            });
+                return;
+            }
+
+            executeUpdate(state, method);
 
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -1004,39 +1073,132 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         }
     }
 
-    private void processReplicatedTruncate(StageRequest method) {
+    /**
+     * Sends a replicated write or truncate to the backups.
+     */
+    private void executeUpdate(final ReplicatedFileState state, final StageRequest method) {
         final RWReplicationCallback callback = (RWReplicationCallback) method.getCallback();
-        try {
-            final FileCredentials credentials = (FileCredentials) method.getArgs()[0];
-            final XLocations loc = (XLocations) method.getArgs()[1];
-            final Long newFileSize = (Long) method.getArgs()[2];
-            final Long newObjVersion = (Long) method.getArgs()[3];
-            
-            final String fileId = credentials.getXcap().getFileId();
+        final FileCredentials credentials = (FileCredentials) method.getArgs()[0];
+        final long start = System.nanoTime();
 
-            ReplicatedFileState state = files.get(fileId);
-            if (state == null) {
-                callback.failed(ErrorUtils.getErrorResponse(ErrorType.INTERNAL_SERVER_ERROR, POSIXErrno.POSIX_ERROR_EIO, "file is not open!"));
-                return;
-            }
-            state.setCredentials(credentials);
+        // the lease may have been lost since the update was prepared
+        if (state.getState() != ReplicaState.PRIMARY) {
+            discardUpdate(method, ErrorUtils.getErrorResponse(ErrorType.ERRNO, POSIXErrno.POSIX_ERROR_EIO,
+                    "replica of file " + state.getFileId() + " is no longer primary"));
+            return;
+        }
 
-            state.getPolicy().executeTruncate(credentials, newFileSize, newObjVersion, new ReplicaUpdatePolicy.ClientOperationCallback() {
+        state.setNumUpdatesInFlight(state.getNumUpdatesInFlight() + 1);
+        numUpdatesInFlight++;
 
-                @Override
-                public void finsihed() {
-                    callback.success(newObjVersion);
-                }
+        final ReplicaUpdatePolicy.ClientOperationCallback updateCallback = new ReplicaUpdatePolicy.ClientOperationCallback() {
 
-                @Override
-                public void failed(ErrorResponse error) {
-                    callback.failed(error);
-                }
-            });
+            private final AtomicBoolean completed = new AtomicBoolean();
+
+            @Override
+            public void finsihed() {
+                if (completed.compareAndSet(false, true))
+                    eventUpdateComplete(state, System.nanoTime() - start, true);
+                callback.success((Long) method.getArgs()[3]);
+            }
 
+            @Override
+            public void failed(ErrorResponse error) {
+                if (completed.compareAndSet(false, true))
+                    eventUpdateComplete(state, System.nanoTime() - start, false);
+                callback.failed(error);
+            }
+        };
+
+        try {
+            if (method.getStageMethod() == STAGEOP_REPLICATED_WRITE) {
+                final Long objNo = (Long) method.getArgs()[2];
+                final Long objVersion = (Long) method.getArgs()[3];
+                final InternalObjectData objData = (InternalObjectData) method.getArgs()[4];
+                state.getPolicy().executeWrite(credentials, objNo, objVersion, objData, updateCallback);
+            } else {
+                final Long newFileSize = (Long) method.getArgs()[2];
+                final Long newObjVersion = (Long) method.getArgs()[3];
+                state.getPolicy().executeTruncate(credentials, newFileSize, newObjVersion, updateCallback);
+            }
         } catch (Exception ex) {
             ex.printStackTrace();
-            callback.failed(ErrorUtils.getInternalServerError(ex));
+            updateCallback.failed(ErrorUtils.getInternalServerError(ex));
+        }
+    }
+
+    /**
+     * Fails all updates of a file which wait for the window to open, e.g. because the file is no longer
+     * primary.
+     */
+    private void discardStalledUpdates(ReplicatedFileState state, ErrorResponse error) {
+        if (state.isWaitingForWindow()) {
+            filesWaitingForWindow.remove(state);
+            state.setWaitingForWindow(false);
+        }
+        for (StageRequest rq : state.getStalledUpdates()) {
+            discardUpdate(rq, error);
+        }
+        state.getStalledUpdates().clear();
+    }
+
+    private void discardUpdate(StageRequest method, ErrorResponse error) {
+        if (method.getStageMethod() == STAGEOP_REPLICATED_WRITE)
+            BufferPool.free(((InternalObjectData) method.getArgs()[4]).getData());
+        ((RWReplicationCallback) method.getCallback()).failed(error);
+    }
+
+    private void processUpdateComplete(StageRequest method) {
+        try {
+            final ReplicatedFileState state = (ReplicatedFileState) method.getArgs()[0];
+            final Long latency = (Long) method.getArgs()[1];
+            final Boolean success = (Boolean) method.getArgs()[2];
+            final long now = System.nanoTime();
+
+            numUpdatesInFlight--;
+            state.setNumUpdatesInFlight(state.getNumUpdatesInFlight() - 1);
+            if (success) {
+                osdWindow.updateAcknowledged(latency, now);
+                state.getWindow().updateAcknowledged(latency, now);
+            } else {
+                osdWindow.updateFailed(now);
+                state.getWindow().updateFailed(now);
+            }
+
+            if (!state.getStalledUpdates().isEmpty() && !state.isWaitingForWindow()
+                    && files.get(state.getFileId()) == state) {
+                state.setWaitingForWindow(true);
+                filesWaitingForWindow.add(state);
+            }
+            sendStalledUpdates();
+
+        } catch (Exception ex) {
+            Logging.logError(Logging.LEVEL_ERROR, this, ex);
+        }
+    }
+
+    /**
+     * Sends stalled updates as long as the windows permit, alternating between files.
+     */
+    private void sendStalledUpdates() {
+        while ((numUpdatesInFlight < osdWindow.getSize()) && !filesWaitingForWindow.isEmpty()) {
+            final ReplicatedFileState state = filesWaitingForWindow.poll();
+            if (state.getState() != ReplicaState.PRIMARY) {
+                state.setWaitingForWindow(false);
+                discardStalledUpdates(state, ErrorUtils.getErrorResponse(ErrorType.ERRNO, POSIXErrno.POSIX_ERROR_EIO,
+                        "replica of file " + state.getFileId() + " is no longer primary"));
+                continue;
+            }
+            if (state.getNumUpdatesInFlight() >= state.getWindow().getSize()) {
+                // queued again once one of its updates is complete
+                state.setWaitingForWindow(false);
+                continue;
+            }
+            executeUpdate(state, state.getStalledUpdates().poll());
+            if (state.getStalledUpdates().isEmpty())
+                state.setWaitingForWindow(false);
+            else
+                filesWaitingForWindow.add(state);
         }
     }
 
@@ -1061,12 +1223,13 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                         if (Logging.isDebug()) {
                             Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,"enqeue update for %s (state is %s)",fileId,state.getState());
                         }
-                        if (state.getPendingRequests().size() > MAX_PENDING_PER_FILE) {
+                        if (state.getPendingRequests().size() > maxWindowPerFile) {
                             if (Logging.isDebug()) {
                                 Logging.logMessage(Logging.LEVEL_DEBUG, this,
                                         "rejecting request: too many requests (is: %d, max %d) in queue for file %s",
-                                        state.getPendingRequests().size(), MAX_PENDING_PER_FILE, fileId);
+                                        state.getPendingRequests().size(), maxWindowPerFile, fileId);
                             }
+                            state.incrementNumRejected();
                             callback.failed(ErrorUtils.getErrorResponse(ErrorType.INTERNAL_SERVER_ERROR, POSIXErrno.POSIX_ERROR_NONE, "too many requests in queue for file"));
                             return;
                         } else {
@@ -1110,12 +1273,13 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                     case WAITING_FOR_LEASE:
                     case INITIALIZING:
                     case RESET : {
-                        if (state.getPendingRequests().size() > MAX_PENDING_PER_FILE) {
+                        if (state.getPendingRequests().size() > maxWindowPerFile) {
                             if (Logging.isDebug()) {
                                 Logging.logMessage(Logging.LEVEL_DEBUG, this,
                                         "rejecting request: too many requests (is: %d, max %d) in queue for file %s",
-                                        state.getPendingRequests().size(), MAX_PENDING_PER_FILE, fileId);
+                                        state.getPendingRequests().size(), maxWindowPerFile, fileId);
                             }
+                            state.incrementNumRejected();
                             callback.failed(ErrorUtils.getErrorResponse(ErrorType.INTERNAL_SERVER_ERROR, POSIXErrno.POSIX_ERROR_NONE, "too many requests in queue for file"));
                         } else {
                             state.getPendingRequests().add(method);
@@ -1123,12 +1287,13 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                         return;
                     }
                     case OPEN : {
-                        if (state.getPendingRequests().size() > MAX_PENDING_PER_FILE) {
+                        if (state.getPendingRequests().size() > maxWindowPerFile) {
                             if (Logging.isDebug()) {
                                 Logging.logMessage(Logging.LEVEL_DEBUG, this,
                                         "rejecting request: too many requests (is: %d, max %d) in queue for file %s",
-                                        state.getPendingRequests().size(), MAX_PENDING_PER_FILE, fileId);
+                                        state.getPendingRequests().size(), maxWindowPerFile, fileId);
                             }
+                            state.incrementNumRejected();
                             callback.failed(ErrorUtils.getErrorResponse(ErrorType.INTERNAL_SERVER_ERROR, POSIXErrno.POSIX_ERROR_NONE, "too many requests in queue for file"));
                             return;
                         } else {
@@ -1175,6 +1340,11 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                 fStatus.put("policy",fState.getPolicy().getClass().getSimpleName());
                 fStatus.put("peers (OSDs)",fState.getPolicy().getRemoteOSDUUIDs().toString());
                 fStatus.put("pending requests", fState.getPendingRequests() == null ? "0" : ""+fState.getPendingRequests().size());
+                fStatus.put("updates in flight", fState.getNumUpdatesInFlight() + " (window " + fState.getWindow().getSize()
+                        + ", OSD: " + numUpdatesInFlight + ", window " + osdWindow.getSize() + ")");
+                fStatus.put("stalled updates", fState.getStalledUpdates().size() + " (total " + fState.getNumStalled() + ")");
+                fStatus.put("rejected requests", "" + fState.getNumRejected());
+                fStatus.put("ack latency", String.format("%.3f ms", fState.getWindow().getAverageLatency() / 1e6));
                 fStatus.put("cellId", cellId.toString());
                 String primary = "unknown";
                 if ((fState.getLease() != null) && (!fState.getLease().isEmptyLease())) {
@@ -84,11 +84,17 @@ public abstract class ReplicaUpdatePolicy {
      * called to execute a reset
      * 
      * @param credentials
-     * @param maxLocalOV
+     * @param localReplicaState
+     *            complete state of the local replica
+     * @param localCompleteVersion
+     *            version up to which the local replica is known to have seen
+     *            all writes; only objects with larger versions are requested
+     *            from the remote replicas, 0 requests all objects
      */
     public abstract void executeReset(
         FileCredentials credentials,
         ReplicaStatus localReplicaState,
+        long localCompleteVersion,
         ExecuteResetCallback callback);
 
     public static interface ExecuteResetCallback {
@@ -28,6 +28,7 @@ import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
 import org.xtreemfs.osd.stages.Stage.StageRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.AuthoritativeReplicaState;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectVersionMapping;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceClient;
 
@@ -180,11 +181,32 @@ public class ReplicatedFileState {
 
     private long                    masterEpoch;
 
+    private AuthoritativeReplicaState resetAuthState;
 
+    private final ReplicationWindow window;
 
-    public ReplicatedFileState(String fileId, XLocations locations, ServiceUUID localUUID, FleaseStage fstage, OSDServiceClient client) throws UnknownUUIDException, IOException {
+    /**
+     * replica updates waiting for the window to open, in the order of their
+     * object versions
+     */
+    private final Queue<StageRequest> stalledUpdates;
+
+    private int                     numUpdatesInFlight;
+
+    private boolean                 waitingForWindow;
+
+    private long                    numStalled;
+
+    private long                    numRejected;
+
+
+
+    public ReplicatedFileState(String fileId, XLocations locations, ServiceUUID localUUID, FleaseStage fstage, OSDServiceClient client,
+            boolean chainUpdates, ReplicationWindow window) throws UnknownUUIDException, IOException {
         queuedData = new AtomicInteger();
         pendingRequests = new LinkedList();
+        stalledUpdates = new LinkedList<StageRequest>();
+        this.window = window;
         this.fileId = fileId;
         this.state = ReplicaState.INITIALIZING;
         this.primaryReset = false;
@@ -201,16 +223,19 @@ public class ReplicatedFileState {
             remoteOSDs.add(headOSD);
         }
 
+        final CoordinatedReplicaUpdatePolicy coordinatedPolicy;
         if (locations.getReplicaUpdatePolicy().equals(ReplicaUpdatePolicies.REPL_UPDATE_PC_WARONE)) {
             //FIXME: instantiate the right policy
-            policy = new WaR1UpdatePolicy(remoteOSDs, localUUID.toString(), fileId, client);
+            coordinatedPolicy = new WaR1UpdatePolicy(remoteOSDs, localUUID.toString(), fileId, client);
         } else if (locations.getReplicaUpdatePolicy().equals(ReplicaUpdatePolicies.REPL_UPDATE_PC_WARA)) {
-            policy = new WaRaUpdatePolicy(remoteOSDs, localUUID.toString(), fileId, client);
+            coordinatedPolicy = new WaRaUpdatePolicy(remoteOSDs, localUUID.toString(), fileId, client);
         } else if (locations.getReplicaUpdatePolicy().equals(ReplicaUpdatePolicies.REPL_UPDATE_PC_WQRQ)) {
-            policy = new WqRqUpdatePolicy(remoteOSDs, localUUID.toString(), fileId, client);
+            coordinatedPolicy = new WqRqUpdatePolicy(remoteOSDs, localUUID.toString(), fileId, client);
         } else {
             throw new IllegalArgumentException("unsupported replica update mode: "+locations.getReplicaUpdatePolicy());
         }
+        coordinatedPolicy.setChainUpdates(chainUpdates);
+        policy = coordinatedPolicy;
     }
 
     public int getDataQueueLength() {
@@ -260,6 +285,17 @@ public class ReplicatedFileState {
         this.objectsToFetch = objectsToFetch;
     }
 
+    /**
+     * @return the authoritative state applied by the current reset
+     */
+    public AuthoritativeReplicaState getResetAuthState() {
+        return resetAuthState;
+    }
+
+    public void setResetAuthState(AuthoritativeReplicaState resetAuthState) {
+        this.resetAuthState = resetAuthState;
+    }
+
     /**
      * @return the primary
      */
@@ -288,6 +324,54 @@ public class ReplicatedFileState {
         this.localIsPrimary = localIsPrimary;
     }
 
+    public ReplicationWindow getWindow() {
+        return window;
+    }
+
+    public Queue<StageRequest> getStalledUpdates() {
+        return stalledUpdates;
+    }
+
+    public int getNumUpdatesInFlight() {
+        return numUpdatesInFlight;
+    }
 
+    public void setNumUpdatesInFlight(int numUpdatesInFlight) {
+        this.numUpdatesInFlight = numUpdatesInFlight;
+    }
+
+    /**
+     * @return true, if the file is queued for sending stalled updates
+     */
+    public boolean isWaitingForWindow() {
+        return waitingForWindow;
+    }
+
+    public void setWaitingForWindow(boolean waitingForWindow) {
+        this.waitingForWindow = waitingForWindow;
+    }
+
+    /**
+     * @return the number of updates which had to wait for the window to open
+     */
+    public long getNumStalled() {
+        return numStalled;
+    }
+
+    public void incrementNumStalled() {
+        numStalled++;
+    }
+
+    /**
+     * @return the number of requests rejected because too many requests were
+     *         queued for the file
+     */
+    public long getNumRejected() {
+        return numRejected;
+    }
+
+    public void incrementNumRejected() {
+        numRejected++;
+    }
 
 }
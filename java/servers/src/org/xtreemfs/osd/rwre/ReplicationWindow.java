@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.rwre;
+
+/**
+ * Adaptive limit for the number of replica updates in flight, based on the
+ * measured acknowledgment latency of the backups.
+ * <p>
+ * The window grows as long as the average latency stays close to the lowest
+ * latency observed, i.e. as long as the backups do not queue updates. It grows
+ * by one per acknowledgment until the latency increases for the first time
+ * and by one per window afterwards. If the latency increases or an update
+ * fails, the window shrinks, at most once per average latency.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public class ReplicationWindow {
+
+    /**
+     * factor by which the average latency may exceed the base latency before
+     * the window shrinks
+     */
+    private static final int  MAX_LATENCY_FACTOR = 2;
+
+    private final int         minSize;
+
+    private final int         maxSize;
+
+    private double            size;
+
+    private boolean           slowStart;
+
+    private long              baseLatency;
+
+    private long              avgLatency;
+
+    private long              lastDecrease;
+
+    private boolean           decreased;
+
+    /**
+     * @param minSize
+     *            initial and minimum size of the window
+     * @param maxSize
+     *            maximum size of the window
+     */
+    public ReplicationWindow(int minSize, int maxSize) {
+        this.minSize = minSize;
+        this.maxSize = Math.max(minSize, maxSize);
+        this.size = minSize;
+        this.slowStart = true;
+    }
+
+    /**
+     * @return the number of updates which may be in flight
+     */
+    public int getSize() {
+        return (int) size;
+    }
+
+    /**
+     * @return the average acknowledgment latency in nanoseconds
+     */
+    public long getAverageLatency() {
+        return avgLatency;
+    }
+
+    /**
+     * Adapts the window to an acknowledged update.
+     *
+     * @param latency
+     *            time between sending the update and its acknowledgment in
+     *            nanoseconds
+     * @param now
+     *            current time in nanoseconds
+     */
+    public void updateAcknowledged(long latency, long now) {
+        avgLatency = (avgLatency == 0) ? latency : avgLatency - (avgLatency >> 3) + (latency >> 3);
+        // the base latency slowly follows the current latency, so that
+        // permanent changes, e.g. of the network, are taken into account
+        if (baseLatency == 0 || latency < baseLatency)
+            baseLatency = latency;
+        else
+            baseLatency += (latency - baseLatency) >> 10;
+
+        if (avgLatency <= baseLatency * MAX_LATENCY_FACTOR) {
+            size = Math.min(maxSize, size + (slowStart ? 1.0 : 1.0 / size));
+        } else {
+            slowStart = false;
+            decrease(0.75, now);
+        }
+    }
+
+    /**
+     * Adapts the window to a failed update.
+     *
+     * @param now
+     *            current time in nanoseconds
+     */
+    public void updateFailed(long now) {
+        slowStart = false;
+        decrease(0.5, now);
+    }
+
+    private void decrease(double factor, long now) {
+        if (decreased && now - lastDecrease < avgLatency)
+            return;
+        size = Math.max(minSize, size * factor);
+        lastDecrease = now;
+        decreased = true;
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.rwre;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import org.xtreemfs.common.uuids.ServiceUUID;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceClient;
+
+/**
+ * Chained replica updates.
+ * <p>
+ * Instead of sending a write to all backups itself, the primary sends it to
+ * the first backup, which forwards it to the next one and so on. Each replica
+ * acknowledges the update once it has written the object locally and, if more
+ * acknowledgments are required, its successor has acknowledged the update.
+ * <p>
+ * The chain is passed in the <code>chain</code> field of
+ * <code>xtreemfs_rwr_update</code>. The response contains the number of
+ * replicas that have written the update, so that the primary can detect
+ * chains that have been cut short, e.g. by OSDs which do not support chained
+ * updates and acknowledge the update without forwarding it.
+ */
+public final class UpdateChain {
+
+    private UpdateChain() {
+    }
+
+    /**
+     * Creates the chain of an update sent by the primary.
+     *
+     * @param credentials
+     *            credentials of the file
+     * @param localUUID
+     *            UUID of the primary
+     * @param numAcks
+     *            number of acknowledgments required from the backups
+     * @return the chain, or null if the update cannot be chained
+     */
+    public static ReplicaUpdateChain create(FileCredentials credentials, String localUUID, int numAcks) {
+        if (numAcks < 1)
+            return null;
+
+        final List<Replica> replicas = credentials.getXlocs().getReplicasList();
+        final ReplicaUpdateChain.Builder chain = ReplicaUpdateChain.newBuilder().setNumAcks(numAcks);
+        for (int i = 0; i < replicas.size(); i++) {
+            if (!replicas.get(i).getOsdUuids(0).equals(localUUID))
+                chain.addReplicaIndices(i);
+        }
+        if (chain.getReplicaIndicesCount() < numAcks)
+            return null;
+        return chain.build();
+    }
+
+    /**
+     * Sends an update to the next replica of the chain.
+     *
+     * @param numAcks
+     *            number of acknowledgments required from the next replica and
+     *            its successors
+     * @param replicaIndices
+     *            indices of the replicas the update still has to be forwarded
+     *            to, the first one is the next replica
+     * @param data
+     *            object data, released by this method
+     * @return the response of the next replica
+     */
+    public static RPCResponse<xtreemfs_rwr_updateResponse> forward(OSDServiceClient client,
+            FileCredentials credentials, int numAcks, List<Integer> replicaIndices, long objNo, long objVersion,
+            int offset, ObjectData metadata, ReusableBuffer data) throws IOException {
+        assert (!replicaIndices.isEmpty());
+        final int next = replicaIndices.get(0);
+        final ReplicaUpdateChain chain = ReplicaUpdateChain.newBuilder().setNumAcks(Math.max(numAcks, 0))
+                .addAllReplicaIndices(replicaIndices.subList(1, replicaIndices.size())).build();
+        final InetSocketAddress nextOSD;
+        try {
+            nextOSD = new ServiceUUID(credentials.getXlocs().getReplicas(next).getOsdUuids(0)).getAddress();
+        } catch (IOException ex) {
+            BufferPool.free(data);
+            throw ex;
+        }
+
+        final xtreemfs_rwr_updateRequest request = xtreemfs_rwr_updateRequest.newBuilder()
+                .setFileCredentials(credentials).setFileId(credentials.getXcap().getFileId()).setNewFileSize(0)
+                .setObjectNumber(objNo).setObjectVersion(objVersion).setOffset(offset).setObj(metadata)
+                .setChain(chain).build();
+        return client.xtreemfs_rwr_update(nextOSD, RPCAuthentication.authNone, RPCAuthentication.userService,
+                request, data);
+    }
+
+    /**
+     * @return the number of replicas that have written an update, according
+     *         to the response of the replica the update was sent to
+     */
+    public static int getNumAcks(xtreemfs_rwr_updateResponse response) {
+        // OSDs that do not support chained updates do not set the field
+        return response.hasNumAcks() ? response.getNumAcks() : 1;
+    }
+
+    /**
+     * @return the response of a replica that has written an update, and whose
+     *         successors have written it "numForwarded" times
+     */
+    public static xtreemfs_rwr_updateResponse createResponse(int numForwarded) {
+        return xtreemfs_rwr_updateResponse.newBuilder().setNumAcks(1 + numForwarded).build();
+    }
+
+}
@@ -11,6 +11,7 @@ package org.xtreemfs.osd.stages;
 import java.io.IOException;
 import java.util.Map.Entry;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
@@ -18,43 +19,81 @@ import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResp
 import org.xtreemfs.osd.OSDRequest;
 import org.xtreemfs.osd.OSDRequestDispatcher;
 import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.IOPSLimiter;
 import org.xtreemfs.osd.storage.MetadataCache;
 import org.xtreemfs.osd.storage.StorageLayout;
 
+/**
+ * Deletes the objects of deleted files. The objects are removed in the
+ * background by a pool of deletion threads, by default one per disk, which
+ * share a limit on the number of object files deleted per second.
+ */
 public class DeletionStage extends Stage {
     
     public static final int      STAGEOP_DELETE_OBJECTS = 0;
     
+    private static final long    RATE_WINDOW_NS         = 10L * 1000 * 1000 * 1000;
+    
     private MetadataCache        cache;
     
     private StorageLayout        layout;
     
     private OSDRequestDispatcher master;
     
-    private DeleteThread         deletor;
+    private final DeleteThread[] deletors;
+    
+    private final IOPSLimiter    limiter;
     
     private long                 numFilesDeleted;
     
-    public DeletionStage(OSDRequestDispatcher master, MetadataCache cache, StorageLayout layout, int maxRequestsQueueLength) {
+    private final AtomicLong     numFilesReclaimed;
+    
+    private final AtomicLong     bytesReclaimed;
+    
+    // deletion rate measurement
+    private long                 windowStart;
+    
+    private long                 windowFiles;
+    
+    private double               filesPerSecond;
+    
+    /**
+     * @param numThreads
+     *            number of deletion threads, 0 for one thread per disk
+     * @param maxIOPS
+     *            maximum number of object files deleted per second, 0 for no
+     *            limit
+     */
+    public DeletionStage(OSDRequestDispatcher master, MetadataCache cache, StorageLayout layout,
+        int numThreads, int maxIOPS, int maxRequestsQueueLength) {
         
         super("OSD DelSt", maxRequestsQueueLength);
         
         this.master = master;
         this.cache = cache;
         this.layout = layout;
+        this.limiter = new IOPSLimiter(maxIOPS);
+        this.numFilesReclaimed = new AtomicLong();
+        this.bytesReclaimed = new AtomicLong();
+        this.windowStart = System.nanoTime();
         
-        deletor = new DeleteThread(layout);
+        deletors = new DeleteThread[numThreads > 0 ? numThreads : layout.getNumDisks()];
+        for (int i = 0; i < deletors.length; i++)
+            deletors[i] = new DeleteThread(this, i);
     }
     
     public void start() {
         super.start();
-        deletor.start();
-        deletor.setPriority(MIN_PRIORITY);
+        for (DeleteThread deletor : deletors) {
+            deletor.start();
+            deletor.setPriority(MIN_PRIORITY);
+        }
     }
     
     public void shutdown() {
         super.shutdown();
-        deletor.shutdown();
+        for (DeleteThread deletor : deletors)
+            deletor.shutdown();
     }
     
     public void deleteObjects(String fileId, FileMetadata fi, boolean isCow, OSDRequest request,
@@ -70,6 +109,57 @@ public class DeletionStage extends Stage {
         return numFilesDeleted;
     }
     
+    /**
+     * @return the number of pending requests and files whose objects have not
+     *         been deleted yet
+     */
+    @Override
+    public int getQueueLength() {
+        return super.getQueueLength() + getNumPendingFiles();
+    }
+    
+    /**
+     * @return the number of files whose objects have not been deleted yet
+     */
+    public int getNumPendingFiles() {
+        int pending = 0;
+        for (DeleteThread deletor : deletors)
+            pending += deletor.files.size();
+        return pending;
+    }
+    
+    /**
+     * @return the number of files whose objects have been deleted by the
+     *         deletion threads
+     */
+    public long getNumFilesReclaimed() {
+        return numFilesReclaimed.get();
+    }
+    
+    /**
+     * @return the number of bytes freed by deleting object files
+     */
+    public long getBytesReclaimed() {
+        return bytesReclaimed.get();
+    }
+    
+    /**
+     * @return the number of files deleted per second, averaged over the last
+     *         measurement window
+     */
+    public synchronized double getFilesPerSecond() {
+        updateRate(System.nanoTime());
+        return filesPerSecond;
+    }
+    
+    public int getNumDeletionThreads() {
+        return deletors.length;
+    }
+    
+    public int getMaxIOPS() {
+        return limiter.getMaxIOPS();
+    }
+    
     public static interface DeleteObjectsCallback {
         
         public void deleteComplete(ErrorResponse error);
@@ -112,23 +202,60 @@ public class DeletionStage extends Stage {
         // remove the file info from the storage cache
         cache.removeFileInfo(fileId);
         
-        // remove all local objects
-        if (layout.fileExists(fileId))
-            deletor.enqueueFileForDeletion(fileId, cow, fi);
+        // remove all local objects; the deletion thread checks whether the
+        // file exists, so that the stage thread does not access the disks
+        getDeletor(fileId).enqueueFileForDeletion(fileId, cow, fi);
         cback.deleteComplete(null);
     }
     
+    /**
+     * Files are assigned to the deletion thread of the disk they are stored on,
+     * so that a slow disk only delays the deletion of its own files. Files
+     * whose disk is not known without accessing the disks, as well as all
+     * files if there is only one disk, are assigned by their ID.
+     */
+    private DeleteThread getDeletor(String fileId) {
+        final int disk = layout.getNumDisks() > 1 ? layout.getCachedDisk(fileId) : -1;
+        final int key = disk >= 0 ? disk : fileId.hashCode() & Integer.MAX_VALUE;
+        return deletors[key % deletors.length];
+    }
+    
+    private void fileReclaimed(long bytes) {
+        numFilesReclaimed.incrementAndGet();
+        bytesReclaimed.addAndGet(bytes);
+        synchronized (this) {
+            windowFiles++;
+            updateRate(System.nanoTime());
+        }
+    }
+    
+    private void updateRate(long now) {
+        final long elapsed = now - windowStart;
+        if (elapsed < RATE_WINDOW_NS)
+            return;
+        filesPerSecond = windowFiles * 1e9 / elapsed;
+        windowStart = now;
+        windowFiles = 0;
+    }
+    
     private final static class DeleteThread extends Thread {
         
         private transient boolean                   quit;
         
+        private final DeletionStage                 stage;
+        
         private final StorageLayout                 layout;
         
+        private final IOPSLimiter                   limiter;
+        
         private final LinkedBlockingQueue<Object[]> files;
         
-        public DeleteThread(StorageLayout layout) {
+        public DeleteThread(DeletionStage stage, int index) {
+            super("OSD DelThr-" + index);
             quit = false;
-            this.layout = layout;
+            this.stage = stage;
+            this.layout = stage.layout;
+            this.limiter = stage.limiter;
             files = new LinkedBlockingQueue<Object[]>();
         }
         
@@ -144,22 +271,27 @@ public class DeletionStage extends Stage {
         }
         
         public void run() {
+            
+            if (Logging.isDebug())
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.lifecycle, this, "DeleteThread started");
+            
             try {
                 do {
-                    if (Logging.isDebug())
-                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.lifecycle, this,
-                            "DeleteThread started");
-                    
                     final Object[] file = files.take();
                     final String fileId = (String) file[0];
                     final boolean cow = (Boolean) file[1];
                     final FileMetadata fi = (FileMetadata) file[2];
                     
                     try {
+                        if (!layout.fileExists(fileId))
+                            continue;
+                        
                         if (Logging.isDebug())
                             Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this,
                                 "deleting objects for %s", fileId);
                         
+                        long bytes = 0;
+                        
                         // if copy-on-write is enabled ...
                         if (cow) {
                             
@@ -175,7 +307,7 @@ public class DeletionStage extends Stage {
                             // if no previous versions exist, delete the file
                             // including all its metadata
                             if (fi.getVersionTable().getVersionCount() == 0)
-                                layout.deleteFile(fileId, true);
+                                bytes = layout.deleteFile(fileId, true, limiter);
                             
                             // if other versions exist, only delete those
                             // objects that make up the latest version of the
@@ -185,8 +317,10 @@ public class DeletionStage extends Stage {
                                 for (Entry<Long, Long> entry : fi.getLatestObjectVersions()) {
                                     long objNo = entry.getKey();
                                     long objVer = entry.getValue();
-                                    if (!fi.getVersionTable().isContained(objNo, objVer))
+                                    if (!fi.getVersionTable().isContained(objNo, objVer)) {
+                                        limiter.acquire(1);
                                         layout.deleteObject(fileId, fi, objNo, objVer);
+                                    }
                                 }
                                 
                                 layout.updateCurrentVersionSize(fileId, 0);
@@ -196,9 +330,9 @@ public class DeletionStage extends Stage {
 
                         // otherwise ...
                         else
-                            layout.deleteFile(fileId, true);
+                            bytes = layout.deleteFile(fileId, true, limiter);
                         
-                        yield();
+                        stage.fileReclaimed(bytes);
                         
                     } catch (IOException ex) {
                         Logging.logError(Logging.LEVEL_ERROR, this, ex);
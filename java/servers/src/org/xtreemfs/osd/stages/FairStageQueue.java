@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.stages;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.xtreemfs.osd.stages.Stage.StageRequest;
+
+/**
+ * Request queue of a stage that schedules the requests of different flows,
+ * e.g. volumes or clients, by weighted fair queuing instead of in FIFO order.
+ * The flow and the size of a request are determined by the stage.
+ * <p>
+ * Each request is tagged with a virtual start and finish time when it is
+ * enqueued (start-time fair queuing). The finish time grows by the cost of the
+ * request divided by the weight of its flow, where the cost consists of a
+ * fixed part and the number of bytes transferred. Requests are dequeued in
+ * the order of their start times, so that backlogged flows receive service in
+ * proportion to their weights regardless of their arrival rates.
+ * <p>
+ * Flows may be limited in bandwidth and requests per second. Requests of a
+ * flow that has exceeded its limits remain queued until the flow becomes
+ * eligible again.
+ */
+public class FairStageQueue extends AbstractQueue<StageRequest> implements BlockingQueue<StageRequest> {
+
+    /**
+     * cost of a request in addition to the number of bytes it transfers
+     */
+    static final long               REQUEST_COST   = 64 * 1024;
+
+    /**
+     * interval over which the throughput of a flow is measured
+     */
+    private static final long       RATE_WINDOW_NS = 10L * 1000 * 1000 * 1000;
+
+    /**
+     * time after which idle flows are removed
+     */
+    private static final long       FLOW_IDLE_NS   = 5L * 60 * 1000 * 1000 * 1000;
+
+    private static final String     DEFAULT_FLOW   = "";
+
+    private final Stage             stage;
+
+    private final QoSPolicy         policy;
+
+    private final ReentrantLock     lock;
+
+    private final Condition         changed;
+
+    private final Map<String, Flow> flows;
+
+    private double                  virtualTime;
+
+    private int                     size;
+
+    private long                    lastPrune;
+
+    public FairStageQueue(Stage stage, QoSPolicy policy) {
+        this.stage = stage;
+        this.policy = policy;
+        this.lock = new ReentrantLock();
+        this.changed = lock.newCondition();
+        this.flows = new HashMap<String, Flow>();
+        this.lastPrune = System.nanoTime();
+    }
+
+    @Override
+    public boolean offer(StageRequest rq) {
+
+        String flowId = stage.getFlowId(rq);
+        long bytes = stage.getRequestSize(rq);
+
+        lock.lock();
+        try {
+            final long now = System.nanoTime();
+            Flow flow = getFlow(flowId == null ? DEFAULT_FLOW : flowId, now);
+
+            Entry entry = new Entry(rq, bytes);
+            entry.start = Math.max(virtualTime, flow.lastFinish);
+            flow.lastFinish = entry.start + (double) (REQUEST_COST + bytes) / flow.weight;
+            flow.queue.add(entry);
+            flow.lastActive = now;
+            size++;
+
+            changed.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(StageRequest rq) {
+        offer(rq);
+    }
+
+    @Override
+    public boolean offer(StageRequest rq, long timeout, TimeUnit unit) {
+        return offer(rq);
+    }
+
+    @Override
+    public StageRequest take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            for (;;) {
+                long wait = Long.MAX_VALUE;
+                if (size > 0) {
+                    final long now = System.nanoTime();
+                    Flow flow = select(now);
+                    if (flow != null)
+                        return dequeue(flow, now);
+                    wait = getTimeToEligible(now);
+                }
+                if (wait == Long.MAX_VALUE)
+                    changed.await();
+                else
+                    changed.awaitNanos(wait);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public StageRequest poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            for (;;) {
+                long wait = remaining;
+                if (size > 0) {
+                    final long now = System.nanoTime();
+                    Flow flow = select(now);
+                    if (flow != null)
+                        return dequeue(flow, now);
+                    wait = Math.min(remaining, getTimeToEligible(now));
+                }
+                if (remaining <= 0)
+                    return null;
+                long waited = wait - changed.awaitNanos(wait);
+                remaining -= waited;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public StageRequest poll() {
+        lock.lock();
+        try {
+            final long now = System.nanoTime();
+            Flow flow = size == 0 ? null : select(now);
+            return flow == null ? null : dequeue(flow, now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public StageRequest peek() {
+        lock.lock();
+        try {
+            Flow flow = size == 0 ? null : select(System.nanoTime());
+            return flow == null ? null : flow.queue.peek().rq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of queued requests of the given flow
+     */
+    public int getQueueLength(String flowId) {
+        lock.lock();
+        try {
+            Flow flow = flows.get(flowId == null ? DEFAULT_FLOW : flowId);
+            return flow == null ? 0 : flow.queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(Collection<? super StageRequest> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super StageRequest> c, int maxElements) {
+        int n = 0;
+        StageRequest rq;
+        while (n < maxElements && (rq = poll()) != null) {
+            c.add(rq);
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Returns a snapshot of the queued requests in no particular order.
+     */
+    @Override
+    public Iterator<StageRequest> iterator() {
+        lock.lock();
+        try {
+            List<StageRequest> all = new ArrayList<StageRequest>(size);
+            for (Flow flow : flows.values())
+                for (Entry entry : flow.queue)
+                    all.add(entry.rq);
+            return all.iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the queue length and throughput of all flows.
+     */
+    public List<FlowStatistics> getStatistics() {
+        lock.lock();
+        try {
+            final long now = System.nanoTime();
+            List<FlowStatistics> stats = new ArrayList<FlowStatistics>(flows.size());
+            for (Flow flow : flows.values()) {
+                flow.updateRates(now);
+                stats.add(new FlowStatistics(flow.id, flow.weight, flow.queue.size(), flow.opsPerSecond,
+                    flow.bytesPerSecond));
+            }
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Flow getFlow(String flowId, long now) {
+
+        Flow flow = flows.get(flowId);
+        if (flow == null) {
+            pruneIdleFlows(now);
+            flow = new Flow(flowId, policy.getWeight(flowId), policy.getMaxBytesPerSecond(flowId),
+                policy.getMaxIOPS(flowId), now);
+            flows.put(flowId, flow);
+        }
+        return flow;
+    }
+
+    private void pruneIdleFlows(long now) {
+        if (now - lastPrune < FLOW_IDLE_NS)
+            return;
+        Iterator<Flow> it = flows.values().iterator();
+        while (it.hasNext()) {
+            Flow flow = it.next();
+            if (flow.queue.isEmpty() && now - flow.lastActive > FLOW_IDLE_NS)
+                it.remove();
+        }
+        lastPrune = now;
+    }
+
+    /**
+     * @return the eligible flow whose next request has the smallest start
+     *         tag, or <code>null</code> if no flow is eligible
+     */
+    private Flow select(long now) {
+        Flow next = null;
+        for (Flow flow : flows.values()) {
+            if (flow.queue.isEmpty() || flow.getTimeToEligible(now) > 0)
+                continue;
+            if (next == null || flow.queue.peek().start < next.queue.peek().start)
+                next = flow;
+        }
+        return next;
+    }
+
+    private long getTimeToEligible(long now) {
+        long wait = Long.MAX_VALUE;
+        for (Flow flow : flows.values())
+            if (!flow.queue.isEmpty())
+                wait = Math.min(wait, flow.getTimeToEligible(now));
+        return Math.max(wait, 1);
+    }
+
+    private StageRequest dequeue(Flow flow, long now) {
+        Entry entry = flow.queue.poll();
+        size--;
+        virtualTime = entry.start;
+        flow.consume(entry.bytes, now);
+        // reset the virtual time once all queues have been drained, so that
+        // flows are treated equally regardless of their history
+        if (size == 0) {
+            virtualTime = 0;
+            for (Flow f : flows.values())
+                f.lastFinish = 0;
+        }
+        return entry.rq;
+    }
+
+    private static final class Entry {
+
+        final StageRequest rq;
+
+        final long         bytes;
+
+        double             start;
+
+        Entry(StageRequest rq, long bytes) {
+            this.rq = rq;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final class Flow {
+
+        final String            id;
+
+        final int               weight;
+
+        final long              maxBytesPerSecond;
+
+        final long              maxIOPS;
+
+        final ArrayDeque<Entry> queue;
+
+        double                  lastFinish;
+
+        long                    lastActive;
+
+        // token buckets of the limits, holding at most one second's worth of
+        // bytes and requests
+        double                  byteTokens;
+
+        double                  requestTokens;
+
+        long                    lastRefill;
+
+        // throughput measurement
+        long                    windowStart;
+
+        long                    windowOps;
+
+        long                    windowBytes;
+
+        double                  opsPerSecond;
+
+        double                  bytesPerSecond;
+
+        Flow(String id, int weight, long maxBytesPerSecond, long maxIOPS, long now) {
+            this.id = id;
+            this.weight = weight;
+            this.maxBytesPerSecond = maxBytesPerSecond;
+            this.maxIOPS = maxIOPS;
+            this.queue = new ArrayDeque<Entry>();
+            this.byteTokens = maxBytesPerSecond;
+            this.requestTokens = maxIOPS;
+            this.lastRefill = now;
+            this.windowStart = now;
+        }
+
+        /**
+         * @return the time in nanoseconds until the next request may be
+         *         dequeued, or 0 if the flow is eligible
+         */
+        long getTimeToEligible(long now) {
+            refill(now);
+            long wait = 0;
+            if (maxIOPS > 0 && requestTokens < 1)
+                wait = (long) ((1 - requestTokens) * 1e9 / maxIOPS) + 1;
+            // the byte bucket may be overdrawn by a single request, so that
+            // requests larger than the limit are not blocked forever
+            if (maxBytesPerSecond > 0 && byteTokens <= 0)
+                wait = Math.max(wait, (long) ((1 - byteTokens) * 1e9 / maxBytesPerSecond) + 1);
+            return wait;
+        }
+
+        void consume(long bytes, long now) {
+            if (maxIOPS > 0)
+                requestTokens -= 1;
+            if (maxBytesPerSecond > 0)
+                byteTokens -= bytes;
+            lastActive = now;
+            windowOps++;
+            windowBytes += bytes;
+            updateRates(now);
+        }
+
+        void updateRates(long now) {
+            long elapsed = now - windowStart;
+            if (elapsed < RATE_WINDOW_NS)
+                return;
+            opsPerSecond = windowOps * 1e9 / elapsed;
+            bytesPerSecond = windowBytes * 1e9 / elapsed;
+            windowStart = now;
+            windowOps = 0;
+            windowBytes = 0;
+        }
+
+        private void refill(long now) {
+            double elapsedS = (now - lastRefill) / 1e9;
+            lastRefill = now;
+            if (maxIOPS > 0)
+                requestTokens = Math.min(maxIOPS, requestTokens + elapsedS * maxIOPS);
+            if (maxBytesPerSecond > 0)
+                byteTokens = Math.min(maxBytesPerSecond, byteTokens + elapsedS * maxBytesPerSecond);
+        }
+    }
+
+    /**
+     * Queue length and throughput of a flow.
+     */
+    public static final class FlowStatistics {
+
+        private final String flowId;
+
+        private final int    weight;
+
+        private final int    queueLength;
+
+        private final double opsPerSecond;
+
+        private final double bytesPerSecond;
+
+        FlowStatistics(String flowId, int weight, int queueLength, double opsPerSecond, double bytesPerSecond) {
+            this.flowId = flowId;
+            this.weight = weight;
+            this.queueLength = queueLength;
+            this.opsPerSecond = opsPerSecond;
+            this.bytesPerSecond = bytesPerSecond;
+        }
+
+        /**
+         * @return the volume UUID or client address, or an empty string for
+         *         internal requests
+         */
+        public String getFlowId() {
+            return flowId;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public int getQueueLength() {
+            return queueLength;
+        }
+
+        public double getOpsPerSecond() {
+            return opsPerSecond;
+        }
+
+        public double getBytesPerSecond() {
+            return bytesPerSecond;
+        }
+    }
+}
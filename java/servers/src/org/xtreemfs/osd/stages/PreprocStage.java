@@ -8,6 +8,8 @@
 
 package org.xtreemfs.osd.stages;
 
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -107,6 +109,23 @@ public class PreprocStage extends Stage {
         this.master = master;
         this.metadataCache = metadataCache;
         this.ignoreCaps = master.getConfig().isIgnoreCaps();
+        
+        if (master.getConfig().isQoSEnabled())
+            enableFairQueuing(new QoSPolicy(master.getConfig().getQoSWeights(), master.getConfig().getQoSLimits()));
+    }
+    
+    /**
+     * Incoming requests are scheduled per client host, as their file IDs are
+     * not known before they have been parsed.
+     */
+    @Override
+    protected String getFlowId(StageRequest rq) {
+        if (rq.getStageMethod() != STAGEOP_PARSE_AUTH_OFTOPEN)
+            return null;
+        final SocketAddress sender = ((OSDRequest) rq.getArgs()[0]).getRPCRequest().getSenderAddress();
+        if (!(sender instanceof InetSocketAddress) || ((InetSocketAddress) sender).getAddress() == null)
+            return null;
+        return ((InetSocketAddress) sender).getAddress().getHostAddress();
     }
     
     public void prepareRequest(OSDRequest request, ParseCompleteCallback listener) {
@@ -175,6 +194,9 @@ public class PreprocStage extends Stage {
                 request.setFileOpen(true);
             }
             request.setCowPolicy(cowPolicy);
+
+            // repair objects found corrupt by the scrubber
+            master.getScrubberThread().repairPendingObjects(request);
         }
 
         callback.parseComplete(request, null);
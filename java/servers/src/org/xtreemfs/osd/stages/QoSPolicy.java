@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.stages;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Weights and limits of the flows scheduled by a {@link FairStageQueue}. A
+ * flow is identified by a volume UUID or a client address.
+ * <p>
+ * Weights are specified as a comma-separated list of
+ * <code>flow=weight</code> pairs, limits as a comma-separated list of
+ * <code>flow=MB/s:IOPS</code> pairs, where 0 means unlimited. Flows without an
+ * entry have a weight of 1 and no limits.
+ */
+public class QoSPolicy {
+
+    public static final int            DEFAULT_WEIGHT = 1;
+
+    private final Map<String, Integer> weights;
+
+    private final Map<String, long[]>  limits;
+
+    public QoSPolicy(String weights, String limits) {
+
+        this.weights = new HashMap<String, Integer>();
+        for (Map.Entry<String, String> entry : parse(weights).entrySet()) {
+            int weight = Integer.parseInt(entry.getValue());
+            if (weight <= 0)
+                throw new IllegalArgumentException("invalid weight for " + entry.getKey() + ": " + weight);
+            this.weights.put(entry.getKey(), weight);
+        }
+
+        this.limits = new HashMap<String, long[]>();
+        for (Map.Entry<String, String> entry : parse(limits).entrySet()) {
+            String[] limit = entry.getValue().split(":");
+            if (limit.length != 2)
+                throw new IllegalArgumentException("invalid limit for " + entry.getKey() + ": "
+                    + entry.getValue());
+            this.limits.put(entry.getKey(),
+                new long[] { Long.parseLong(limit[0].trim()) * 1024 * 1024, Long.parseLong(limit[1].trim()) });
+        }
+    }
+
+    /**
+     * @return the weight of the flow
+     */
+    public int getWeight(String flowId) {
+        Integer weight = weights.get(flowId);
+        return weight == null ? DEFAULT_WEIGHT : weight;
+    }
+
+    /**
+     * @return the maximum number of bytes per second of the flow, or 0 if
+     *         unlimited
+     */
+    public long getMaxBytesPerSecond(String flowId) {
+        long[] limit = limits.get(flowId);
+        return limit == null ? 0 : limit[0];
+    }
+
+    /**
+     * @return the maximum number of requests per second of the flow, or 0 if
+     *         unlimited
+     */
+    public long getMaxIOPS(String flowId) {
+        long[] limit = limits.get(flowId);
+        return limit == null ? 0 : limit[1];
+    }
+
+    private static Map<String, String> parse(String list) {
+        Map<String, String> map = new HashMap<String, String>();
+        if (list == null)
+            return map;
+        for (String entry : list.split(",")) {
+            if (entry.trim().length() == 0)
+                continue;
+            int i = entry.lastIndexOf('=');
+            if (i <= 0)
+                throw new IllegalArgumentException("invalid QoS entry: " + entry);
+            map.put(entry.substring(0, i).trim(), entry.substring(i + 1).trim());
+        }
+        return map;
+    }
+}
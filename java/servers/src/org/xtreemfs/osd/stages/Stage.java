@@ -94,7 +94,9 @@ public abstract class Stage extends LifeCycleThread {
                 Logging.logError(Logging.LEVEL_DEBUG, this, e);
             }
         } else {
-            if (q.size() < queueCapacity) {
+            // with fair queuing, clients are throttled instead of dropping
+            // their requests (see enableFairQueuing)
+            if (q instanceof FairStageQueue || q.size() < queueCapacity) {
                 try {
                     q.put(new StageRequest(stageOp, args, request, callback));
                 } catch (InterruptedException e) {
@@ -118,6 +120,50 @@ public abstract class Stage extends LifeCycleThread {
         }
     }
     
+    /**
+     * Replaces the FIFO queue of the stage by a {@link FairStageQueue}, which
+     * schedules the requests of different flows by weighted fair queuing. With
+     * fair queuing, external requests are not dropped when a flow is
+     * backlogged. Instead, the RPC server stops reading from a client
+     * connection once it has more than <code>max_client_queue</code> open
+     * requests, so that the clients of a backlogged or rate-limited flow are
+     * throttled by TCP flow control, while other clients are not affected.
+     * Must be called before the stage is started.
+     * 
+     * @param policy
+     *            weights and limits of the flows
+     */
+    protected void enableFairQueuing(QoSPolicy policy) {
+        assert (q.isEmpty());
+        q = new FairStageQueue(this, policy);
+    }
+    
+    /**
+     * @return the fair queue of the stage, or <code>null</code> if requests
+     *         are processed in FIFO order
+     */
+    public FairStageQueue getFairQueue() {
+        return q instanceof FairStageQueue ? (FairStageQueue) q : null;
+    }
+    
+    /**
+     * Returns the flow of a request for fair queuing, e.g. a volume or client.
+     * Requests without a flow are scheduled as a flow of their own.
+     * 
+     * @return the flow ID, or <code>null</code>
+     */
+    protected String getFlowId(StageRequest rq) {
+        return null;
+    }
+    
+    /**
+     * Returns the number of bytes transferred by a request, which determines
+     * its cost for fair queuing and bandwidth limits.
+     */
+    protected long getRequestSize(StageRequest rq) {
+        return 0;
+    }
+    
     /**
      * shut the stage thread down
      */
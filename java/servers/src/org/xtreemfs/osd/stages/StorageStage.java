@@ -10,16 +10,23 @@ package org.xtreemfs.osd.stages;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.xtreemfs.common.xloc.Replica;
 import org.xtreemfs.common.xloc.StripingPolicyImpl;
 import org.xtreemfs.common.xloc.XLocations;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
 import org.xtreemfs.osd.OSDRequest;
 import org.xtreemfs.osd.OSDRequestDispatcher;
 import org.xtreemfs.osd.replication.ObjectSet;
+import org.xtreemfs.osd.stages.FairStageQueue.FlowStatistics;
 import org.xtreemfs.osd.storage.CowPolicy;
 import org.xtreemfs.osd.storage.FileMetadata;
 import org.xtreemfs.osd.storage.MetadataCache;
@@ -27,6 +34,7 @@ import org.xtreemfs.osd.storage.ObjectInformation;
 import org.xtreemfs.osd.storage.StorageLayout;
 import org.xtreemfs.osd.storage.StorageThread;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.AuthoritativeReplicaState;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalGmax;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaStatus;
 
@@ -35,6 +43,24 @@ public class StorageStage extends Stage {
     private StorageThread[] storageThreads;
     private final StorageLayout layout;
     
+    /**
+     * number of storage threads per disk; files on different disks are never
+     * processed by the same thread
+     */
+    private final int threadsPerDisk;
+    
+    /**
+     * threads that look up the disk of files whose placement is not cached,
+     * null if there is only one disk
+     */
+    private final DiskLookupThread[] diskLookups;
+    
+    /**
+     * number of requests per file which wait for the disk lookup; later
+     * requests for these files have to wait as well to keep their order
+     */
+    private final Map<String, Integer> pendingLookups;
+    
     /** Creates a new instance of MultithreadedStorageStage */
     public StorageStage(OSDRequestDispatcher master, MetadataCache cache, StorageLayout layout,
         int numOfThreads, int maxRequestsQueueLength) throws IOException {
@@ -47,12 +73,26 @@ public class StorageStage extends Stage {
         if (numOfThreads > 0)
             numberOfThreads = numOfThreads;
         
+        // distribute the threads evenly among the disks
+        threadsPerDisk = Math.max(1, numberOfThreads / layout.getNumDisks());
+        numberOfThreads = threadsPerDisk * layout.getNumDisks();
+        
         storageThreads = new StorageThread[numberOfThreads];
         for (int i = 0; i < numberOfThreads; i++) {
             // Each storage thread gets the max. queue length as it is possible that one thread gets the whole load
             storageThreads[i] = new StorageThread(i, master, cache, layout, maxRequestsQueueLength);
             storageThreads[i].setLifeCycleListener(master);
         }
+        
+        if (layout.getNumDisks() > 1) {
+            diskLookups = new DiskLookupThread[layout.getNumDisks()];
+            for (int i = 0; i < diskLookups.length; i++)
+                diskLookups[i] = new DiskLookupThread(i);
+            pendingLookups = new HashMap<String, Integer>();
+        } else {
+            diskLookups = null;
+            pendingLookups = null;
+        }
     }
 
     public StorageLayout getStorageLayout() {
@@ -132,6 +172,43 @@ public class StorageStage extends Stage {
         public void deleteObjectsComplete(ErrorResponse error);
     }
     
+    /**
+     * Verifies the checksums of the latest versions of local objects, starting
+     * with the object firstObjNo, until maxObjects objects or maxBytes bytes
+     * have been read.
+     */
+    public void verifyObjects(String fileId, StripingPolicyImpl sp, long firstObjNo, int maxObjects,
+        long maxBytes, VerifyObjectsCallback listener) {
+        this.enqueueOperation(fileId, StorageThread.STAGEOP_VERIFY_OBJECTS, new Object[] { fileId, sp,
+            firstObjNo, maxObjects, maxBytes }, null, listener);
+    }
+
+    public static interface VerifyObjectsCallback {
+
+        /**
+         * @param nextObjNo
+         *            the object to continue with, -1 if all objects have been
+         *            verified
+         * @param corruptObjects
+         *            objects with invalid checksums or read errors, null if
+         *            there are none
+         */
+        public void verifyObjectsComplete(long nextObjNo, int numObjects, long numBytes,
+            List<Long> corruptObjects, ErrorResponse error);
+    }
+    
+    /**
+     * Makes the journaled writes of a file durable in its object files.
+     */
+    public void destage(String fileId, StripingPolicyImpl sp, DestageCallback listener) {
+        this.enqueueOperation(fileId, StorageThread.STAGEOP_DESTAGE, new Object[] { fileId, sp }, null,
+            listener);
+    }
+
+    public static interface DestageCallback {
+        public void destageComplete(ErrorResponse error);
+    }
+    
     public void flushCaches(String fileId, CachesFlushedCallback listener) {
         this.enqueueOperation(fileId, StorageThread.STAGEOP_FLUSH_CACHES, new Object[] { fileId }, null,
             listener);
@@ -177,6 +254,36 @@ public class StorageStage extends Stage {
 
     }
 
+    /**
+     * Retrieves the complete local replica state and the version up to which
+     * the local replica is known to be complete.
+     */
+    public void internalGetLocalReplicaState(String fileId, StripingPolicyImpl sp,
+            InternalGetLocalReplicaStateCallback callback) {
+        this.enqueueOperation(fileId, StorageThread.STAGEOP_GET_LOCAL_REPLICA_STATE, new Object[]{fileId,sp}, null, callback);
+    }
+
+    public static interface InternalGetLocalReplicaStateCallback {
+
+        /**
+         * @param completeVersion
+         *            all objects with smaller or equal versions are known to be
+         *            stored locally, 0 if unknown
+         */
+        public void getLocalReplicaStateComplete(ReplicaStatus localState, long completeVersion, ErrorResponse error);
+
+    }
+
+    /**
+     * Marks the local replica as complete up to the maximum object version of
+     * the given authoritative state, if all objects of the state are stored
+     * locally. Must be called after all objects fetched during the replica
+     * reset have been enqueued for writing.
+     */
+    public void setReplicaComplete(String fileId, StripingPolicyImpl sp, AuthoritativeReplicaState authState) {
+        this.enqueueOperation(fileId, StorageThread.STAGEOP_SET_REPLICA_COMPLETE, new Object[]{fileId,sp,authState}, null, null);
+    }
+
     public void getObjectSet(String fileId, StripingPolicyImpl sp, OSDRequest request,
             GetObjectListCallback listener) {
         this.enqueueOperation(fileId, StorageThread.STAGEOP_GET_OBJECT_SET, new Object[] { fileId,sp },
@@ -224,7 +331,24 @@ public class StorageStage extends Stage {
             
             // choose the thread the new request has to be
             // assigned to, for its execution
-            int taskId = getTaskId(fileId);
+            int taskId;
+            if (diskLookups == null)
+                taskId = getTaskId(fileId, storageThreads.length);
+            
+            else {
+                // searching the disks for the file must not block the caller
+                synchronized (pendingLookups) {
+                    int disk = layout.getCachedDisk(fileId);
+                    Integer pending = pendingLookups.get(fileId);
+                    if (disk < 0 || pending != null) {
+                        pendingLookups.put(fileId, pending == null ? 1 : pending + 1);
+                        diskLookups[getTaskId(fileId, diskLookups.length)].enqueue(new Object[] { fileId,
+                            stageOp, args, request, createdViewBuffer, callback });
+                        return;
+                    }
+                    taskId = getTaskId(disk, fileId);
+                }
+            }
             
             // add the new request to the storageTask,
             // in order to start/schedule its execution
@@ -237,9 +361,15 @@ public class StorageStage extends Stage {
         // start all storage threads
         for (StorageThread th : storageThreads)
             th.start();
+        if (diskLookups != null)
+            for (DiskLookupThread th : diskLookups)
+                th.start();
     }
     
     public void shutdown() {
+        if (diskLookups != null)
+            for (DiskLookupThread th : diskLookups)
+                th.shutdown();
         for (StorageThread th : storageThreads)
             th.shutdown();
     }
@@ -254,9 +384,32 @@ public class StorageStage extends Stage {
         // wait for all storage threads to be shut down
         for (StorageThread th : storageThreads)
             th.waitForShutdown();
+        if (diskLookups != null)
+            for (DiskLookupThread th : diskLookups)
+                th.join();
     }
     
     private int getTaskId(String fileId) {
+        if (threadsPerDisk == storageThreads.length)
+            return getTaskId(fileId, storageThreads.length);
+        return getTaskId(layout.getDisk(fileId), fileId);
+    }
+    
+    private int getTaskId(int disk, String fileId) {
+        return disk * threadsPerDisk + getTaskId(fileId, threadsPerDisk);
+    }
+    
+    /**
+     * Returns the index of the storage thread that is responsible for the
+     * given file if <code>numThreads</code> storage threads are used.
+     * 
+     * @param fileId
+     *            the file ID
+     * @param numThreads
+     *            the number of storage threads
+     * @return the index of the responsible storage thread
+     */
+    public static int getTaskId(String fileId, int numThreads) {
         
         // calculate a hash value from the file ID and return the responsible
         // thread
@@ -266,7 +419,7 @@ public class StorageStage extends Stage {
             return 0;
         }
         int key = Math.abs(hash);
-        int index = (key % storageThreads.length);
+        int index = (key % numThreads);
         
         // String objId = rq.getDetails().getFileId()
         // + rq.getDetails().getObjectNumber();
@@ -281,6 +434,37 @@ public class StorageStage extends Stage {
         throw new UnsupportedOperationException("Not supported yet.");
     }
     
+    /**
+     * @return the number of pending requests of the storage thread responsible
+     *         for the file
+     */
+    public int getQueueLength(String fileId) {
+        return storageThreads[getTaskId(fileId)].getQueueLength();
+    }
+    
+    /**
+     * @return the queue length and throughput of each volume, summed up over
+     *         all storage threads, or <code>null</code> if fair queuing is
+     *         disabled
+     */
+    public List<FlowStatistics> getFlowStatistics() {
+        
+        if (storageThreads[0].getFairQueue() == null)
+            return null;
+        
+        Map<String, FlowStatistics> flows = new TreeMap<String, FlowStatistics>();
+        for (StorageThread th : storageThreads) {
+            for (FlowStatistics flow : th.getFairQueue().getStatistics()) {
+                FlowStatistics sum = flows.get(flow.getFlowId());
+                flows.put(flow.getFlowId(), sum == null ? flow : new FlowStatistics(flow.getFlowId(), flow
+                        .getWeight(), sum.getQueueLength() + flow.getQueueLength(), sum.getOpsPerSecond()
+                    + flow.getOpsPerSecond(), sum.getBytesPerSecond() + flow.getBytesPerSecond()));
+            }
+        }
+        
+        return new ArrayList<FlowStatistics>(flows.values());
+    }
+    
     @Override
     public int getQueueLength() {
         
@@ -291,4 +475,56 @@ public class StorageStage extends Stage {
         return len;
     }
     
+    /**
+     * Looks up the disks of files whose placement is not cached and forwards
+     * their requests to the storage threads of these disks, in the order in
+     * which they were enqueued. The lookup may have to access all disks.
+     */
+    private final class DiskLookupThread extends Thread {
+        
+        private transient boolean                   quit;
+        
+        private final LinkedBlockingQueue<Object[]> requests;
+        
+        public DiskLookupThread(int index) {
+            super("OSD DiskLkp-" + index);
+            requests = new LinkedBlockingQueue<Object[]>();
+        }
+        
+        public void shutdown() {
+            this.quit = true;
+            this.interrupt();
+        }
+        
+        public void enqueue(Object[] rq) {
+            requests.add(rq);
+        }
+        
+        public void run() {
+            
+            try {
+                do {
+                    final Object[] rq = requests.take();
+                    final String fileId = (String) rq[0];
+                    
+                    storageThreads[getTaskId(layout.getDisk(fileId), fileId)].enqueueOperation((Integer) rq[1],
+                        (Object[]) rq[2], (OSDRequest) rq[3], (ReusableBuffer) rq[4], rq[5]);
+                    
+                    synchronized (pendingLookups) {
+                        int pending = pendingLookups.get(fileId);
+                        if (pending == 1)
+                            pendingLookups.remove(fileId);
+                        else
+                            pendingLookups.put(fileId, pending - 1);
+                    }
+                } while (!quit);
+            } catch (InterruptedException ex) {
+                // shutting down
+            }
+            
+            if (Logging.isDebug())
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.lifecycle, this, "DiskLookupThread finished");
+        }
+    }
+    
 }
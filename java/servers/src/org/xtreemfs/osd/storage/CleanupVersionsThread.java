@@ -251,6 +251,7 @@ public class CleanupVersionsThread extends LifeCycleThread {
                                             .setWidth(1).build()).build(), 0), fileId);
                         
                         // determine the set of versions to delete
+                        final long versionCount = md.getVersionTable().getVersionCount();
                         Map<Integer, Set<Integer>> versionsToDelete = md.getVersionTable()
                                 .cleanup(timestamps);
                         
@@ -265,7 +266,7 @@ public class CleanupVersionsThread extends LifeCycleThread {
                             }
                         
                         // save the updated version table
-                        if (versionsToDelete.size() != 0)
+                        if (md.getVersionTable().getVersionCount() != versionCount)
                             md.getVersionTable().save();
                         
                         synchronized (this) {
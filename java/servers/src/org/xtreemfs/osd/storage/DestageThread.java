@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.xtreemfs.foundation.LifeCycleThread;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
+import org.xtreemfs.osd.OSDRequestDispatcher;
+import org.xtreemfs.osd.stages.StorageStage;
+import org.xtreemfs.osd.stages.StorageStage.DestageCallback;
+import org.xtreemfs.osd.storage.WriteJournal.DirtyFile;
+
+/**
+ * Periodically destages the files in the write journal. The destage
+ * operations are executed by the storage threads responsible for the files.
+ * Files are destaged after a delay, so that repeated writes of the same objects
+ * are coalesced; if the backlog is full, files are destaged immediately.
+ */
+public class DestageThread extends LifeCycleThread {
+
+    private static final int           MAX_FILES_PER_ROUND = 64;
+
+    private static final long          MAX_WAIT_MS         = 60 * 1000;
+
+    private final OSDRequestDispatcher master;
+
+    private final WriteJournal         journal;
+
+    private final long                 delayMs;
+
+    private volatile boolean           quit;
+
+    public DestageThread(OSDRequestDispatcher master, WriteJournal journal, long delayMs) {
+        super("DestageThr");
+        this.master = master;
+        this.journal = journal;
+        this.delayMs = delayMs;
+    }
+
+    public void shutdown() {
+        this.quit = true;
+        this.interrupt();
+    }
+
+    public void run() {
+
+        notifyStarted();
+
+        if (Logging.isDebug())
+            Logging.logMessage(Logging.LEVEL_DEBUG, Category.lifecycle, this, "DestageThread started");
+
+        try {
+            final StorageStage storageStage = master.getStorageStage();
+            while (!quit) {
+
+                final long writtenBefore = journal.isFull() ? Long.MAX_VALUE : System.currentTimeMillis()
+                    - delayMs;
+                final List<DirtyFile> files = journal.getDirtyFiles(MAX_FILES_PER_ROUND, writtenBefore);
+                if (files.isEmpty()) {
+                    Thread.sleep(Math.max(10, Math.min(delayMs, 1000)));
+                    continue;
+                }
+
+                final CountDownLatch done = new CountDownLatch(files.size());
+                final AtomicBoolean failed = new AtomicBoolean();
+                for (final DirtyFile file : files) {
+                    storageStage.destage(file.getFileId(), file.getStripingPolicy(), new DestageCallback() {
+                        @Override
+                        public void destageComplete(ErrorResponse error) {
+                            if (error != null) {
+                                Logging.logMessage(Logging.LEVEL_ERROR, Category.storage, DestageThread.this,
+                                    "cannot destage file %s: %s", file.getFileId(), error.getErrorMessage());
+                                failed.set(true);
+                            }
+                            done.countDown();
+                        }
+                    });
+                }
+                if (!done.await(MAX_WAIT_MS, TimeUnit.MILLISECONDS))
+                    Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this,
+                        "destaging %d files takes longer than %d s", files.size(), MAX_WAIT_MS / 1000);
+
+                // do not retry failed files immediately
+                if (failed.get())
+                    Thread.sleep(Math.max(10, Math.min(delayMs, 1000)));
+            }
+        } catch (InterruptedException ex) {
+            // shutdown
+        } catch (Throwable thr) {
+            this.notifyCrashed(thr);
+        }
+
+        notifyStopped();
+
+        if (Logging.isDebug())
+            Logging.logMessage(Logging.LEVEL_DEBUG, Category.lifecycle, this, "DestageThread finished");
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Bounded log of the objects of a read-write replicated file that were changed
+ * per master epoch.
+ * <p>
+ * Object versions of read-write replicated files contain the master epoch in
+ * which they were created in their upper 32 bits. The log records the numbers
+ * of all objects written locally, grouped by the epoch of their new version.
+ * It covers all epochs starting at {@link #getFirstEpoch()}, i.e. each object
+ * stored locally with a version from a covered epoch is contained in the log.
+ * If the log exceeds its maximum size, the oldest epochs are dropped.
+ * <p>
+ * In addition, the log keeps the largest object version up to which the local
+ * replica is known to be complete, i.e. the maximum object version of the
+ * authoritative state applied with the last successful replica reset.
+ */
+public class DirtyObjectLog {
+
+    private final int                   maxObjects;
+
+    private final TreeMap<Integer, Bucket> epochs;
+
+    private int                         firstEpoch;
+
+    private long                        completeVersion;
+
+    private int                         numObjects;
+
+    /**
+     * true, if a copy of the log exists on disk
+     */
+    private boolean                     stored;
+
+    /**
+     * true, if the log differs from the copy on disk
+     */
+    private boolean                     modified;
+
+    /**
+     * @param maxObjects
+     *            maximum number of object numbers in the log
+     * @param firstEpoch
+     *            first epoch covered by the log
+     */
+    public DirtyObjectLog(int maxObjects, int firstEpoch) {
+        this.maxObjects = maxObjects;
+        this.firstEpoch = firstEpoch;
+        this.epochs = new TreeMap<Integer, Bucket>();
+        this.modified = true;
+    }
+
+    /**
+     * @return the master epoch in which the given object version was created
+     */
+    public static int getEpoch(long objVersion) {
+        return (int) (objVersion >>> 32);
+    }
+
+    /**
+     * Records that a new version of an object was stored.
+     */
+    public void objectChanged(long objNo, long objVersion) {
+        final int epoch = getEpoch(objVersion);
+        if (epoch < firstEpoch)
+            return;
+
+        Bucket b = epochs.get(epoch);
+        if (b == null) {
+            b = new Bucket();
+            epochs.put(epoch, b);
+        }
+        numObjects -= b.size;
+        b.add(objNo);
+        numObjects += b.size;
+        modified = true;
+
+        if (numObjects > maxObjects)
+            truncate();
+    }
+
+    /**
+     * Returns the numbers of all objects which were stored with a version
+     * larger than the given one, and possibly of some objects with smaller
+     * versions from the same epoch.
+     *
+     * @return the sorted object numbers, or <code>null</code> if the epoch of
+     *         the given version is not covered by the log
+     */
+    public long[] getObjectsChangedSince(long objVersion) {
+        final int epoch = getEpoch(objVersion);
+        if (epoch < firstEpoch)
+            return null;
+
+        int count = 0;
+        final Map<Integer, Bucket> changed = epochs.tailMap(epoch);
+        for (Bucket b : changed.values()) {
+            numObjects -= b.size;
+            b.compact();
+            numObjects += b.size;
+            count += b.size;
+        }
+        long[] result = new long[count];
+        int pos = 0;
+        for (Bucket b : changed.values()) {
+            System.arraycopy(b.objNos, 0, result, pos, b.size);
+            pos += b.size;
+        }
+        if (changed.size() > 1) {
+            final int n = Bucket.sortUnique(result, result.length);
+            if (n < result.length)
+                result = Arrays.copyOf(result, n);
+        }
+        return result;
+    }
+
+    /**
+     * @return the first epoch covered by the log
+     */
+    public int getFirstEpoch() {
+        return firstEpoch;
+    }
+
+    /**
+     * @return the version up to which the local replica is known to be
+     *         complete, or 0 if unknown
+     */
+    public long getCompleteVersion() {
+        return completeVersion;
+    }
+
+    public void setCompleteVersion(long completeVersion) {
+        if (this.completeVersion != completeVersion) {
+            this.completeVersion = completeVersion;
+            modified = true;
+        }
+    }
+
+    /**
+     * @return the number of object numbers in the log, including duplicates
+     *         which have not been removed yet
+     */
+    public int size() {
+        return numObjects;
+    }
+
+    boolean isStored() {
+        return stored;
+    }
+
+    void setStored(boolean stored) {
+        this.stored = stored;
+    }
+
+    boolean isModified() {
+        return modified;
+    }
+
+    void setModified(boolean modified) {
+        this.modified = modified;
+    }
+
+    public void write(DataOutput out) throws IOException {
+        out.writeInt(firstEpoch);
+        out.writeLong(completeVersion);
+        out.writeInt(epochs.size());
+        for (Map.Entry<Integer, Bucket> e : epochs.entrySet()) {
+            final Bucket b = e.getValue();
+            b.compact();
+            out.writeInt(e.getKey());
+            out.writeInt(b.size);
+            for (int i = 0; i < b.size; i++)
+                out.writeLong(b.objNos[i]);
+        }
+    }
+
+    public static DirtyObjectLog read(DataInput in, int maxObjects) throws IOException {
+        final DirtyObjectLog log = new DirtyObjectLog(maxObjects, in.readInt());
+        log.completeVersion = in.readLong();
+        final int numEpochs = in.readInt();
+        for (int i = 0; i < numEpochs; i++) {
+            final int epoch = in.readInt();
+            final int size = in.readInt();
+            if (size < 0)
+                throw new IOException("invalid dirty object log, epoch " + epoch + " has " + size + " objects");
+            final Bucket b = new Bucket(Math.max(size, Bucket.INITIAL_SIZE));
+            for (int j = 0; j < size; j++)
+                b.objNos[j] = in.readLong();
+            b.size = size;
+            b.sorted = size;
+            log.epochs.put(epoch, b);
+            log.numObjects += size;
+        }
+        if (log.numObjects > maxObjects)
+            log.truncate();
+        return log;
+    }
+
+    /**
+     * Removes duplicates and drops the oldest epochs until the log fits its
+     * maximum size.
+     */
+    private void truncate() {
+        numObjects = 0;
+        for (Bucket b : epochs.values()) {
+            b.compact();
+            numObjects += b.size;
+        }
+
+        final Iterator<Map.Entry<Integer, Bucket>> iter = epochs.entrySet().iterator();
+        while (numObjects > maxObjects && iter.hasNext()) {
+            final Map.Entry<Integer, Bucket> e = iter.next();
+            numObjects -= e.getValue().size;
+            firstEpoch = e.getKey() + 1;
+            iter.remove();
+        }
+    }
+
+    /**
+     * Object numbers of a single epoch. Numbers are appended and sorted lazily
+     * when the array is full, so that repeated writes of the same objects do
+     * not require more space.
+     */
+    private static final class Bucket {
+
+        static final int INITIAL_SIZE = 16;
+
+        long[]           objNos;
+
+        int              size;
+
+        /**
+         * number of leading entries which are sorted and unique
+         */
+        int              sorted;
+
+        Bucket() {
+            this(INITIAL_SIZE);
+        }
+
+        Bucket(int capacity) {
+            objNos = new long[capacity];
+        }
+
+        void add(long objNo) {
+            if (size > 0 && objNos[size - 1] == objNo)
+                return;
+            if (size == objNos.length) {
+                compact();
+                if (size > objNos.length / 4 * 3)
+                    objNos = Arrays.copyOf(objNos, objNos.length * 2);
+            }
+            objNos[size++] = objNo;
+        }
+
+        void compact() {
+            if (sorted == size)
+                return;
+            size = sortUnique(objNos, size);
+            sorted = size;
+        }
+
+        /**
+         * Sorts the first <code>length</code> entries of the array and removes
+         * duplicates in place.
+         *
+         * @return the number of unique entries
+         */
+        static int sortUnique(long[] a, int length) {
+            Arrays.sort(a, 0, length);
+            int n = 0;
+            for (int i = 0; i < length; i++) {
+                if (n == 0 || a[n - 1] != a[i])
+                    a[n++] = a[i];
+            }
+            return n;
+        }
+    }
+}
@@ -9,8 +9,6 @@
 package org.xtreemfs.osd.storage;
 
 import java.io.RandomAccessFile;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -22,11 +20,11 @@ import org.xtreemfs.common.xloc.StripingPolicyImpl;
  */
 public class FileMetadata {
     
-    private Map<Long, Long>            latestObjVersions;
+    private ObjectVersionMap           latestObjVersions;
     
-    private Map<Long, Long>            largestObjVersions;
+    private ObjectVersionMap           largestObjVersions;
     
-    private Map<Long, Map<Long, Long>> objChecksums;
+    private ObjectChecksumMap          objChecksums;
     
     private long                       filesize;
     
@@ -43,6 +41,8 @@ public class FileMetadata {
     private RandomAccessFile[]       handles;
 
     private long                     mdFileLength;
+
+    private DirtyObjectLog           dirtyObjectLog;
     
     /** Creates a new instance of FileInfo */
     public FileMetadata(StripingPolicyImpl sp) {
@@ -66,23 +66,15 @@ public class FileMetadata {
     }
     
     public long getLargestObjectVersion(long objId) {
-        Long v = largestObjVersions.get(objId);
-        return (v == null) ? 0 : v;
+        return largestObjVersions.get(objId);
     }
     
     public long getLatestObjectVersion(long objId) {
-        Long v = latestObjVersions.get(objId);
-        return (v == null) ? 0 : v;
+        return latestObjVersions.get(objId);
     }
     
-    public Long getObjectChecksum(long objId, long objVer) {
-        
-        Map<Long, Long> checksums = objChecksums.get(objId);
-        if (checksums == null)
-            return 0L;
-        
-        Long c = checksums.get(objVer);
-        return (c == null) ? 0 : c;
+    public long getObjectChecksum(long objId, long objVer) {
+        return objChecksums.get(objId, objVer);
     }
     
     public Set<Entry<Long, Long>> getLatestObjectVersions() {
@@ -93,17 +85,17 @@ public class FileMetadata {
         latestObjVersions.clear();
     }
     
-    public void initLargestObjectVersions(Map<Long, Long> largestObjVersions) {
+    public void initLargestObjectVersions(ObjectVersionMap largestObjVersions) {
         assert (this.largestObjVersions == null);
         this.largestObjVersions = largestObjVersions;
     }
     
-    public void initLatestObjectVersions(Map<Long, Long> latestObjVersions) {
+    public void initLatestObjectVersions(ObjectVersionMap latestObjVersions) {
         assert (this.latestObjVersions == null);
         this.latestObjVersions = latestObjVersions;
     }
     
-    public void initObjectChecksums(Map<Long, Map<Long, Long>> objChecksums) {
+    public void initObjectChecksums(ObjectChecksumMap objChecksums) {
         assert (this.objChecksums == null);
         this.objChecksums = objChecksums;
     }
@@ -123,19 +115,23 @@ public class FileMetadata {
     }
     
     public void updateObjectChecksum(long objId, long objVer, long newChecksum) {
-        
-        Map<Long, Long> checksums = objChecksums.get(objId);
-        if (checksums == null) {
-            checksums = new HashMap<Long, Long>();
-            objChecksums.put(objId, checksums);
-        }
-        
-        checksums.put(objVer, newChecksum);
+        objChecksums.put(objId, objVer, newChecksum);
     }
     
     public void discardObject(long objId, long objVer) {
         latestObjVersions.remove(objId);
-        objChecksums.remove(objId + "." + objVer);
+        objChecksums.remove(objId, objVer);
+    }
+    
+    /**
+     * @return the approximate number of bytes used by the object versions and
+     *         checksums
+     */
+    public long getMemoryFootprint() {
+        long size = latestObjVersions.getMemoryFootprint() + objChecksums.getMemoryFootprint();
+        if (largestObjVersions != latestObjVersions)
+            size += largestObjVersions.getMemoryFootprint();
+        return size;
     }
     
     public String toString() {
@@ -203,5 +199,13 @@ public class FileMetadata {
     public void setMdFileLength(long mdFileLength) {
         this.mdFileLength = mdFileLength;
     }
+
+    public DirtyObjectLog getDirtyObjectLog() {
+        return dirtyObjectLog;
+    }
+
+    public void setDirtyObjectLog(DirtyObjectLog dirtyObjectLog) {
+        this.dirtyObjectLog = dirtyObjectLog;
+    }
     
 }
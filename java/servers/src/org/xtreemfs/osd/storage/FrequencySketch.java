@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+/**
+ * Approximates the recent access frequency of keys in constant space, as used
+ * by the TinyLFU admission policy. The frequencies are kept in a count-min
+ * sketch with 4-bit counters. All counters are halved after a number of
+ * increments proportional to the capacity, so that the sketch ages and
+ * reflects recent accesses only.
+ * <p>
+ * Not thread-safe.
+ */
+public class FrequencySketch {
+
+    private static final int    DEPTH         = 4;
+
+    private static final int    MAX_COUNT     = 15;
+
+    private static final long[] SEEDS         = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L,
+        0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+    /** number of increments per counter width before the counters are aged */
+    private static final int    SAMPLE_FACTOR = 10;
+
+    private final byte[][]      table;
+
+    private final int           mask;
+
+    private final int           sampleSize;
+
+    private int                 increments;
+
+    /**
+     * @param expectedEntries
+     *            the number of distinct keys to be tracked, e.g. the maximum
+     *            number of cache entries
+     */
+    public FrequencySketch(int expectedEntries) {
+        int width = Integer.highestOneBit(Math.max(16, expectedEntries) - 1) << 1;
+        this.table = new byte[DEPTH][width];
+        this.mask = width - 1;
+        this.sampleSize = SAMPLE_FACTOR * width;
+    }
+
+    /**
+     * Records an access to the key with the given hash code.
+     */
+    public void increment(long hash) {
+
+        // conservative update: only the smallest counters are incremented
+        final int min = frequency(hash);
+        if (min == MAX_COUNT)
+            return;
+
+        for (int i = 0; i < DEPTH; i++) {
+            final int index = indexOf(hash, i);
+            if (table[i][index] == min)
+                table[i][index]++;
+        }
+
+        if (++increments == sampleSize)
+            reset();
+    }
+
+    /**
+     * @return the estimated number of recent accesses to the key with the
+     *         given hash code, at most 15
+     */
+    public int frequency(long hash) {
+        int min = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++)
+            min = Math.min(min, table[i][indexOf(hash, i)]);
+        return min;
+    }
+
+    private void reset() {
+        for (byte[] row : table)
+            for (int i = 0; i < row.length; i++)
+                row[i] >>>= 1;
+        increments /= 2;
+    }
+
+    private int indexOf(long hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h ^= h >>> 32;
+        h ^= h >>> 16;
+        return (int) h & mask;
+    }
+}
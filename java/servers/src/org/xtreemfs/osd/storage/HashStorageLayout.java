@@ -8,6 +8,10 @@
 
 package org.xtreemfs.osd.storage;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.File;
 import java.io.FileFilter;
@@ -24,6 +28,7 @@ import java.util.ArrayList;
 import java.util.EmptyStackException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.Stack;
 
 import org.xtreemfs.common.xloc.StripingPolicyImpl;
@@ -67,6 +72,12 @@ public class HashStorageLayout extends StorageLayout {
      */
     public static final String             CURRENT_VER_FILENAME          = ".curr_file_ver";
 
+    /**
+     * file that stores the objects changed per master epoch, only valid while
+     * the file is not being modified
+     */
+    public static final String             DIRTY_LOG_FILENAME            = ".dlog";
+
     public static final int                SL_TAG                        = 0x00000002;
 
     /** 32bit algorithm */
@@ -103,6 +114,8 @@ public class HashStorageLayout extends StorageLayout {
 
     private final boolean                  checksumsEnabled;
 
+    private final int                      maxDirtyObjects;
+
     private final LRUCache<String, String> hashedPathCache;
 
     private static final boolean           USE_PATH_CACHE                = true;
@@ -113,6 +126,9 @@ public class HashStorageLayout extends StorageLayout {
      */
     private static final int               RETRIES_INCOMPLETE_READ       = 2;
 
+    /** number of object files unlinked between two waits for the limiter */
+    private static final int               DELETE_BATCH_SIZE             = 64;
+
     private static final String            ERROR_MESSAGE_INCOMPLETE_READ = "Failed to read the requested number of bytes from the file on disk. Maybe there's a media error or the file was modified outside the scope of the OSD by another process?";
 
     /** Creates a new instance of HashStorageLayout */
@@ -132,8 +148,25 @@ public class HashStorageLayout extends StorageLayout {
      */
     public HashStorageLayout(OSDConfig config, MetadataCache cache, String hashAlgo, int maxSubdirsPerDir,
             int maxDirDepth) throws IOException {
+        this(config, cache, config.getObjDir(), hashAlgo, maxSubdirsPerDir, maxDirDepth);
+    }
+
+    /**
+     * Creates a new instance of HashStorageLayout that stores files in the given object directory instead of
+     * the one from the configuration.
+     * 
+     * @param config
+     * @param objDir
+     * @throws IOException
+     */
+    public HashStorageLayout(OSDConfig config, MetadataCache cache, String objDir) throws IOException {
+        this(config, cache, objDir, DEFAULT_HASH, DEFAULT_SUBDIRS, DEFAULT_MAX_DIR_DEPTH);
+    }
 
-        super(config, cache);
+    private HashStorageLayout(OSDConfig config, MetadataCache cache, String objDir, String hashAlgo,
+            int maxSubdirsPerDir, int maxDirDepth) throws IOException {
+
+        super(objDir, cache);
 
         /*
          * if (hashAlgo.equals(JAVA_HASH)) { this.hashAlgo = new JavaHash(); }else if
@@ -141,6 +174,7 @@ public class HashStorageLayout extends StorageLayout {
          */
 
         this.checksumsEnabled = config.isUseChecksums();
+        this.maxDirtyObjects = config.getDirtyObjectLogSize();
         if (config.isUseChecksums()) {
 
             // get the algorithm from the factory
@@ -182,6 +216,42 @@ public class HashStorageLayout extends StorageLayout {
     public ObjectInformation readObject(String fileId, FileMetadata md, long objNo, int offset, int length,
             long version) throws IOException {
 
+        // full object reads with length -1 are used to verify the objects on
+        // disk, and bypass the cache
+        if (objectCache == null || length == FULL_OBJECT_LENGTH || version == 0) {
+            return readObjectFromDisk(fileId, md, objNo, offset, length, version);
+        }
+
+        final int stripeSize = md.getStripingPolicy().getStripeSizeForObject(objNo);
+        ReusableBuffer cached = objectCache.get(fileId, objNo, version, offset, length);
+        if (cached != null) {
+            return new ObjectInformation(ObjectInformation.ObjectStatus.EXISTS, cached, stripeSize);
+        }
+
+        if (!objectCache.wouldAdmit(fileId, objNo, stripeSize)) {
+            return readObjectFromDisk(fileId, md, objNo, offset, length, version);
+        }
+
+        // read the entire object, so that it can be cached
+        ObjectInformation obj = readObjectFromDisk(fileId, md, objNo, 0, stripeSize, version);
+        if (obj.getStatus() != ObjectInformation.ObjectStatus.EXISTS || obj.getData().capacity() == 0) {
+            return obj;
+        }
+
+        ReusableBuffer data = obj.getData();
+        objectCache.put(fileId, objNo, version, data);
+        if (offset >= data.capacity()) {
+            BufferPool.free(data);
+            data = BufferPool.allocate(0);
+        } else {
+            data.range(offset, Math.min(length, data.capacity() - offset));
+        }
+        return new ObjectInformation(ObjectInformation.ObjectStatus.EXISTS, data, stripeSize);
+    }
+
+    private ObjectInformation readObjectFromDisk(String fileId, FileMetadata md, long objNo, int offset,
+            int length, long version) throws IOException {
+
         final int stripeSize = md.getStripingPolicy().getStripeSizeForObject(objNo);
         if (Logging.isDebug()) {
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.storage, this,
@@ -358,6 +428,34 @@ public class HashStorageLayout extends StorageLayout {
             return;
         }
 
+        if (objectCache != null)
+            objectCache.invalidate(fileId, objNo);
+
+        boolean isRangeWrite = (offset > 0)
+                || (data.capacity() < md.getStripingPolicy().getStripeSizeForObject(objNo));
+
+        if (journal != null) {
+            if (journal.isFull()) {
+                // write through until the backlog has been reduced
+                destage(fileId, md);
+                journal.bypassed();
+            } else {
+                if (isRangeWrite && (cow || checksumsEnabled)) {
+                    // a partial write creates a new version of the object, and
+                    // the old version may be deleted before the new one has
+                    // been synchronized; thus, the journal has to hold the
+                    // complete object
+                    data = cow(fileId, md, objNo, data, offset, md.getLatestObjectVersion(objNo));
+                    data.position(0);
+                    offset = 0;
+                    isRangeWrite = false;
+                }
+                journal.append(fileId, md.getStripingPolicy(), objNo, offset, newVersion, data, !isRangeWrite,
+                    sync);
+                sync = false;
+            }
+        }
+
         String relPath = generateRelativeFilePath(fileId);
         new File(this.storageDir + relPath).mkdirs();
 
@@ -368,8 +466,6 @@ public class HashStorageLayout extends StorageLayout {
 
         try {
 
-            final boolean isRangeWrite = (offset > 0)
-                    || (data.capacity() < md.getStripingPolicy().getStripeSizeForObject(objNo));
             if (isRangeWrite) {
                 if (cow || checksumsEnabled) {
                     partialWriteCOW(relPath, fileId, md, data, offset, objNo, newVersion, sync, !cow);
@@ -428,14 +524,16 @@ public class HashStorageLayout extends StorageLayout {
             BufferPool.free(fullObj);
         }
 
-        if (deleteOldVersion) {
+        // the old file has been overwritten if version and checksum are
+        // unchanged, e.g. when a journaled write is replayed
+        if (deleteOldVersion && ((oldVersion != newVersion) || (newChecksum != oldChecksum))) {
             String oldFilename = generateAbsoluteObjectPathFromRelPath(relativePath, objNo, oldVersion,
                     oldChecksum);
             File oldFile = new File(oldFilename);
             oldFile.delete();
         }
 
-        md.updateObjectVersion(objNo, newVersion);
+        updateObjectVersion(fileId, md, objNo, newVersion);
         md.updateObjectChecksum(objNo, newVersion, newChecksum);
     }
 
@@ -476,7 +574,7 @@ public class HashStorageLayout extends StorageLayout {
             if (Logging.isDebug()) {
                 Logging.logMessage(Logging.LEVEL_DEBUG, this, "renamed to: %s", newFilename);
             }
-            md.updateObjectVersion(objNo, newVersion);
+            updateObjectVersion(fileId, md, objNo, newVersion);
         }
     }
 
@@ -520,7 +618,7 @@ public class HashStorageLayout extends StorageLayout {
             oldFile.delete();
         }
 
-        md.updateObjectVersion(objNo, newVersion);
+        updateObjectVersion(fileId, md, objNo, newVersion);
 
         if (checksumsEnabled)
             md.updateObjectChecksum(objNo, newVersion, newChecksum);
@@ -565,6 +663,12 @@ public class HashStorageLayout extends StorageLayout {
     public void truncateObject(String fileId, FileMetadata md, long objNo, int newLength, long newVersion,
             boolean cow) throws IOException {
 
+        // journaled writes must not be replayed after the truncate
+        destage(fileId, md);
+
+        if (objectCache != null)
+            objectCache.invalidate(fileId, objNo);
+
         final long oldVersion = md.getLatestObjectVersion(objNo);
         final long oldChecksum = md.getObjectChecksum(objNo, oldVersion);
 
@@ -628,7 +732,7 @@ public class HashStorageLayout extends StorageLayout {
                         "truncate object %d, wrote new version %d: %s", objNo, newVersion, newFilename);
             }
 
-            md.updateObjectVersion(objNo, newVersion);
+            updateObjectVersion(fileId, md, objNo, newVersion);
             if (checksumsEnabled)
                 md.updateObjectChecksum(objNo, newVersion, newChecksum);
 
@@ -646,7 +750,7 @@ public class HashStorageLayout extends StorageLayout {
             if (newVersion != oldVersion) {
                 String newFilename = generateAbsoluteObjectPathFromFileId(fileId, objNo, newVersion, 0l);
                 oldFile.renameTo(new File(newFilename));
-                md.updateObjectVersion(objNo, newVersion);
+                updateObjectVersion(fileId, md, objNo, newVersion);
                 if (Logging.isDebug()) {
                     Logging.logMessage(Logging.LEVEL_DEBUG, Category.storage, this,
                             "truncate object %d, renamed file for new version %d: %s", objNo, newVersion,
@@ -662,6 +766,11 @@ public class HashStorageLayout extends StorageLayout {
 
         assert (size >= 0) : "size is " + size;
 
+        destage(fileId, md);
+
+        if (objectCache != null)
+            objectCache.invalidate(fileId, objNo);
+
         String relPath = generateRelativeFilePath(fileId);
         new File(this.storageDir + relPath).mkdirs();
 
@@ -685,7 +794,7 @@ public class HashStorageLayout extends StorageLayout {
             }
         }
 
-        md.updateObjectVersion(objNo, version);
+        updateObjectVersion(fileId, md, objNo, version);
 
         if (checksumsEnabled)
             md.updateObjectChecksum(objNo, version, checksum);
@@ -693,19 +802,38 @@ public class HashStorageLayout extends StorageLayout {
 
     @Override
     public void deleteFile(String fileId, boolean deleteMetadata) throws IOException {
+        deleteFile(fileId, deleteMetadata, null);
+    }
+
+    @Override
+    public long deleteFile(String fileId, boolean deleteMetadata, IOPSLimiter limiter) throws IOException {
+
+        if (journal != null)
+            journal.discard(fileId);
+
+        if (objectCache != null)
+            objectCache.invalidate(fileId);
 
         File fileDir = new File(generateAbsoluteFilePath(fileId));
         File[] objs = fileDir.listFiles();
 
         if (objs == null) {
-            return;
+            return 0;
         }
 
         // otherwise, delete the file including its metadata
         else {
 
-            for (File obj : objs) {
-                obj.delete();
+            long bytes = 0;
+            for (int i = 0; i < objs.length; i += DELETE_BATCH_SIZE) {
+                final int end = Math.min(objs.length, i + DELETE_BATCH_SIZE);
+                if (limiter != null)
+                    limiter.acquire(end - i);
+                for (int j = i; j < end; j++) {
+                    final long length = objs[j].length();
+                    if (objs[j].delete())
+                        bytes += length;
+                }
             }
 
             // delete all empty dirs along the path
@@ -713,6 +841,7 @@ public class HashStorageLayout extends StorageLayout {
                 del(fileDir);
             }
 
+            return bytes;
         }
     }
 
@@ -727,6 +856,9 @@ public class HashStorageLayout extends StorageLayout {
     @Override
     public void deleteObject(String fileId, FileMetadata md, final long objNo, long version)
             throws IOException {
+        destage(fileId, md);
+        if (objectCache != null)
+            objectCache.invalidate(fileId, objNo);
         final long verToDel = (version == LATEST_VERSION) ? md.getLatestObjectVersion(objNo) : version;
         File fileDir = new File(generateAbsoluteFilePath(fileId));
         File[] objs = fileDir.listFiles(new FileFilter() {
@@ -745,6 +877,36 @@ public class HashStorageLayout extends StorageLayout {
         }
     }
 
+    @Override
+    public void destage(String fileId, FileMetadata md) throws IOException {
+
+        if (journal == null)
+            return;
+        WriteJournal.DirtyFile dirty = journal.getDirtyFile(fileId);
+        if (dirty == null)
+            return;
+
+        // synchronize each written object version once
+        for (Map.Entry<Long, Set<Long>> obj : dirty.getObjects().entrySet()) {
+            for (long version : obj.getValue()) {
+                File file = new File(generateAbsoluteObjectPathFromFileId(fileId, obj.getKey(), version,
+                        md.getObjectChecksum(obj.getKey(), version)));
+                if (!file.exists()) {
+                    // overwritten by a newer version or deleted
+                    continue;
+                }
+                RandomAccessFile raf = new RandomAccessFile(file, "rw");
+                try {
+                    raf.getFD().sync();
+                } finally {
+                    raf.close();
+                }
+            }
+        }
+
+        journal.retire(dirty);
+    }
+
     @Override
     public boolean fileExists(String fileId) {
         File dir = new File(generateAbsoluteFilePath(fileId));
@@ -763,9 +925,9 @@ public class HashStorageLayout extends StorageLayout {
         // file exists already ...
         if (fileDir.exists()) {
 
-            Map<Long, Long> largestObjVersions = new HashMap<Long, Long>();
-            Map<Long, Map<Long, Long>> objChecksums = new HashMap<Long, Map<Long, Long>>();
-            Map<Long, Long> latestObjVersions = null;
+            ObjectVersionMap largestObjVersions = new ObjectVersionMap();
+            ObjectChecksumMap objChecksums = new ObjectChecksumMap();
+            ObjectVersionMap latestObjVersions = null;
 
             long lastObjNum = -1;
             String lastObject = null;
@@ -778,7 +940,7 @@ public class HashStorageLayout extends StorageLayout {
             // file
             if (multiVersionSupport) {
 
-                latestObjVersions = new HashMap<Long, Long>();
+                latestObjVersions = new ObjectVersionMap();
 
                 RandomAccessFile rf = new RandomAccessFile(currVerFile, "r");
                 for (long l = 0;; l++) {
@@ -807,21 +969,13 @@ public class HashStorageLayout extends StorageLayout {
                 ObjFileData ofd = parseFileName(obj);
 
                 // determine the checksum
-                if (ofd.checksum != 0) {
-
-                    Map<Long, Long> checksums = objChecksums.get(ofd.objNo);
-                    if (checksums == null) {
-                        checksums = new HashMap<Long, Long>();
-                        objChecksums.put(ofd.objNo, checksums);
-                    }
-
-                    checksums.put(ofd.objVersion, ofd.checksum);
-                }
+                if (ofd.checksum != 0)
+                    objChecksums.put(ofd.objNo, ofd.objVersion, ofd.checksum);
 
                 // determine the last object
                 if (multiVersionSupport) {
-                    Long latestObjVer = latestObjVersions.get(ofd.objNo);
-                    if (ofd.objNo == lastObjNum && latestObjVer != null && ofd.objVersion == latestObjVer)
+                    long latestObjVer = latestObjVersions.get(ofd.objNo);
+                    if (ofd.objNo == lastObjNum && latestObjVer != 0 && ofd.objVersion == latestObjVer)
                         lastObject = obj;
                 }
 
@@ -833,8 +987,7 @@ public class HashStorageLayout extends StorageLayout {
                 }
 
                 // determine the largest object version
-                Long oldver = largestObjVersions.get(ofd.objNo);
-                if ((oldver == null) || (oldver < ofd.objVersion))
+                if (largestObjVersions.get(ofd.objNo) < ofd.objVersion)
                     largestObjVersions.put(ofd.objNo, ofd.objVersion);
             }
 
@@ -900,15 +1053,36 @@ public class HashStorageLayout extends StorageLayout {
 
             info.initVersionTable(vt);
 
+            // read the log of changed objects, if the file was closed properly
+            File dlogFile = new File(fileDir, DIRTY_LOG_FILENAME);
+            if (dlogFile.exists()) {
+                DataInputStream in = null;
+                try {
+                    in = new DataInputStream(new BufferedInputStream(new FileInputStream(dlogFile)));
+                    DirtyObjectLog dlog = DirtyObjectLog.read(in, maxDirtyObjects);
+                    dlog.setStored(true);
+                    dlog.setModified(false);
+                    info.setDirtyObjectLog(dlog);
+                } catch (IOException ex) {
+                    Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this,
+                            "cannot read dirty object log of file %s, ignoring it: %s", fileId, ex.toString());
+                    dlogFile.delete();
+                } finally {
+                    if (in != null) {
+                        in.close();
+                    }
+                }
+            }
+
         }
 
         // file does not exist
         else {
             info.setFilesize(0);
             info.setLastObjectNumber(-1);
-            info.initLatestObjectVersions(new HashMap<Long, Long>());
-            info.initLargestObjectVersions(new HashMap<Long, Long>());
-            info.initObjectChecksums(new HashMap<Long, Map<Long, Long>>());
+            info.initLatestObjectVersions(new ObjectVersionMap());
+            info.initLargestObjectVersions(new ObjectVersionMap());
+            info.initObjectChecksums(new ObjectChecksumMap());
             info.initVersionTable(new VersionTable(new File(fileDir, VTABLE_FILENAME)));
         }
 
@@ -1310,6 +1484,68 @@ public class HashStorageLayout extends StorageLayout {
         rf.close();
     }
 
+    @Override
+    public DirtyObjectLog getDirtyObjectLog(String fileId, FileMetadata md) {
+        DirtyObjectLog dlog = md.getDirtyObjectLog();
+        if (dlog == null) {
+            // no object stored locally may have a version from an epoch
+            // covered by the new log
+            long maxVersion = 0;
+            for (Map.Entry<Long, Long> e : md.getLatestObjectVersions()) {
+                if (e.getValue() > maxVersion)
+                    maxVersion = e.getValue();
+            }
+            dlog = new DirtyObjectLog(maxDirtyObjects, maxVersion == 0 ? 0
+                    : DirtyObjectLog.getEpoch(maxVersion) + 1);
+            md.setDirtyObjectLog(dlog);
+        }
+        return dlog;
+    }
+
+    @Override
+    public void storeDirtyObjectLog(String fileId, FileMetadata md) throws IOException {
+        final DirtyObjectLog dlog = md.getDirtyObjectLog();
+        if (dlog == null || (dlog.isStored() && !dlog.isModified()))
+            return;
+
+        File fileDir = new File(generateAbsoluteFilePath(fileId));
+        if (!fileDir.exists()) {
+            // the file has been deleted
+            return;
+        }
+        File dlogFile = new File(fileDir, DIRTY_LOG_FILENAME);
+        File tmpFile = new File(fileDir, DIRTY_LOG_FILENAME + ".tmp");
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)));
+        try {
+            dlog.write(out);
+        } finally {
+            out.close();
+        }
+        if (!tmpFile.renameTo(dlogFile))
+            throw new IOException("cannot rename " + tmpFile + " to " + dlogFile);
+        dlog.setStored(true);
+        dlog.setModified(false);
+    }
+
+    /**
+     * Updates the latest version of an object and records the change in the
+     * dirty object log. The copy of the log on disk becomes invalid with the
+     * first change, it must not be used if the OSD crashes before the file is
+     * closed.
+     */
+    private void updateObjectVersion(String fileId, FileMetadata md, long objNo, long newVersion) {
+        md.updateObjectVersion(objNo, newVersion);
+
+        final DirtyObjectLog dlog = md.getDirtyObjectLog();
+        if (dlog != null) {
+            if (dlog.isStored()) {
+                new File(generateAbsoluteFilePath(fileId), DIRTY_LOG_FILENAME).delete();
+                dlog.setStored(false);
+            }
+            dlog.objectChanged(objNo, newVersion);
+        }
+    }
+
     @Override
     public TruncateLog getTruncateLog(String fileId) throws IOException {
         TruncateLog.Builder tlbuilder = TruncateLog.newBuilder();
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+/**
+ * Token bucket limiting the number of I/O operations per second of background
+ * tasks. The limiter may be shared by several threads; each caller reserves its
+ * operations and then waits until the bucket has been refilled, so that
+ * concurrent callers are served in the order of their reservations.
+ */
+public class IOPSLimiter {
+
+    private final int maxIOPS;
+
+    /** available operations, holding at most one second's worth */
+    private double    tokens;
+
+    private long      lastRefill;
+
+    /**
+     * @param maxIOPS
+     *            maximum number of operations per second, 0 for no limit
+     */
+    public IOPSLimiter(int maxIOPS) {
+        this.maxIOPS = maxIOPS;
+        this.tokens = maxIOPS;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Blocks until the given number of operations may be performed. If the
+     * calling thread is interrupted, the method returns immediately and the
+     * interrupt status of the thread is set.
+     *
+     * @param ops
+     *            number of operations
+     */
+    public void acquire(int ops) {
+
+        if (maxIOPS <= 0)
+            return;
+
+        long wait;
+        synchronized (this) {
+            final long now = System.nanoTime();
+            tokens = Math.min(maxIOPS, tokens + (now - lastRefill) / 1e9 * maxIOPS);
+            lastRefill = now;
+            tokens -= ops;
+            wait = tokens < 0 ? (long) (-tokens * 1e9 / maxIOPS) : 0;
+        }
+
+        if (wait > 0) {
+            try {
+                Thread.sleep(wait / 1000000, (int) (wait % 1000000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public int getMaxIOPS() {
+        return maxIOPS;
+    }
+
+}
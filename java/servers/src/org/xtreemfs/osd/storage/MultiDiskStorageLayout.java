@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.foundation.LRUCache;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.replication.ObjectSet;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.TruncateLog;
+
+/**
+ * Distributes the files of an OSD over several object directories ("JBOD"),
+ * each of which is managed by a {@link HashStorageLayout}. All objects and
+ * metadata of a file are stored on a single disk.
+ * <p>
+ * Existing files are looked up on all disks, so that the set of object
+ * directories may be extended. New files are placed either on the disk
+ * determined by the hash of the file ID, or on the disk with the most usable
+ * space. The placement of recently accessed files is cached, since the storage
+ * stage needs it to select the storage thread for each request.
+ */
+public class MultiDiskStorageLayout extends StorageLayout {
+
+    public static final String              PLACEMENT_HASH       = "hash";
+
+    public static final String              PLACEMENT_FREE_SPACE = "free_space";
+
+    private static final int                PLACEMENT_CACHE_SIZE = 100000;
+
+    private final HashStorageLayout[]       disks;
+
+    private final String[]                  dirs;
+
+    private final boolean                   placeByFreeSpace;
+
+    private final LRUCache<String, Integer> placements;
+
+    public MultiDiskStorageLayout(OSDConfig config, MetadataCache cache) throws IOException {
+
+        super(config, cache);
+
+        List<String> objDirs = config.getObjDirs();
+        this.dirs = objDirs.toArray(new String[objDirs.size()]);
+        this.disks = new HashStorageLayout[dirs.length];
+        for (int i = 0; i < dirs.length; i++)
+            disks[i] = new HashStorageLayout(config, cache, dirs[i]);
+
+        this.placeByFreeSpace = PLACEMENT_FREE_SPACE.equals(config.getDiskPlacement());
+        this.placements = new LRUCache<String, Integer>(PLACEMENT_CACHE_SIZE);
+
+        if (Logging.isInfo())
+            Logging.logMessage(Logging.LEVEL_INFO, Category.storage, this,
+                "storing files on %d disks, placement: %s", dirs.length, config.getDiskPlacement());
+    }
+
+    @Override
+    public void setWriteJournal(WriteJournal journal) {
+        super.setWriteJournal(journal);
+        for (HashStorageLayout disk : disks)
+            disk.setWriteJournal(journal);
+    }
+
+    @Override
+    public void setObjectCache(ObjectCache objectCache) {
+        super.setObjectCache(objectCache);
+        for (HashStorageLayout disk : disks)
+            disk.setObjectCache(objectCache);
+    }
+
+    @Override
+    public void destage(String fileId, FileMetadata md) throws IOException {
+        getLayout(fileId).destage(fileId, md);
+    }
+
+    @Override
+    public int getNumDisks() {
+        return disks.length;
+    }
+
+    @Override
+    public int getDisk(String fileId) {
+
+        synchronized (placements) {
+            Integer disk = placements.get(fileId);
+            if (disk != null)
+                return disk;
+        }
+
+        // look up the file, starting with the disk it is placed on by default
+        int home = getHomeDisk(fileId);
+        int disk = -1;
+        for (int i = 0; i < disks.length; i++) {
+            int d = (home + i) % disks.length;
+            if (disks[d].fileExists(fileId)) {
+                disk = d;
+                break;
+            }
+        }
+
+        // place a new file
+        if (disk == -1)
+            disk = placeByFreeSpace ? getDiskWithMostUsableSpace() : home;
+
+        synchronized (placements) {
+            // another thread may have placed the file in the meantime
+            Integer placed = placements.get(fileId);
+            if (placed != null)
+                return placed;
+            placements.put(fileId, disk);
+        }
+
+        return disk;
+    }
+
+    @Override
+    public int getCachedDisk(String fileId) {
+        synchronized (placements) {
+            Integer disk = placements.get(fileId);
+            return disk == null ? -1 : disk;
+        }
+    }
+
+    /**
+     * @return the object directory of the given disk
+     */
+    public String getObjDir(int disk) {
+        return dirs[disk];
+    }
+
+    /**
+     * @return the free space on the given disk in bytes
+     */
+    public long getFreeSpace(int disk) {
+        return FSUtils.getFreeSpace(dirs[disk]);
+    }
+
+    /**
+     * @return the usable space on the given disk in bytes
+     */
+    public long getUsableSpace(int disk) {
+        return FSUtils.getUsableSpace(dirs[disk]);
+    }
+
+    private int getHomeDisk(String fileId) {
+        int hash = fileId.hashCode();
+        return hash == Integer.MIN_VALUE ? 0 : Math.abs(hash) % disks.length;
+    }
+
+    private int getDiskWithMostUsableSpace() {
+        int disk = 0;
+        long maxSpace = -1;
+        for (int i = 0; i < disks.length; i++) {
+            long space = getUsableSpace(i);
+            if (space > maxSpace) {
+                maxSpace = space;
+                disk = i;
+            }
+        }
+        return disk;
+    }
+
+    private HashStorageLayout getLayout(String fileId) {
+        return disks[getDisk(fileId)];
+    }
+
+    @Override
+    protected FileMetadata loadFileMetadata(String fileId, StripingPolicyImpl sp) throws IOException {
+        return getLayout(fileId).loadFileMetadata(fileId, sp);
+    }
+
+    @Override
+    public ObjectInformation readObject(String fileId, FileMetadata md, long objNo, int offset, int length,
+        long version) throws IOException {
+        return getLayout(fileId).readObject(fileId, md, objNo, offset, length, version);
+    }
+
+    @Override
+    public void writeObject(String fileId, FileMetadata md, ReusableBuffer data, long objNo, int offset,
+        long newVersion, boolean sync, boolean cow) throws IOException {
+        getLayout(fileId).writeObject(fileId, md, data, objNo, offset, newVersion, sync, cow);
+    }
+
+    @Override
+    public void truncateObject(String fileId, FileMetadata md, long objNo, int newLength, long newVersion,
+        boolean cow) throws IOException {
+        getLayout(fileId).truncateObject(fileId, md, objNo, newLength, newVersion, cow);
+    }
+
+    @Override
+    public void deleteFile(String fileId, boolean deleteMetadata) throws IOException {
+        getLayout(fileId).deleteFile(fileId, deleteMetadata);
+        if (deleteMetadata) {
+            synchronized (placements) {
+                placements.remove(fileId);
+            }
+        }
+    }
+
+    @Override
+    public long deleteFile(String fileId, boolean deleteMetadata, IOPSLimiter limiter) throws IOException {
+        long bytes = getLayout(fileId).deleteFile(fileId, deleteMetadata, limiter);
+        if (deleteMetadata) {
+            synchronized (placements) {
+                placements.remove(fileId);
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public void deleteObject(String fileId, FileMetadata md, long objNo, long version) throws IOException {
+        getLayout(fileId).deleteObject(fileId, md, objNo, version);
+    }
+
+    @Override
+    public void createPaddingObject(String fileId, FileMetadata md, long objNo, long version, int size)
+        throws IOException {
+        getLayout(fileId).createPaddingObject(fileId, md, objNo, version, size);
+    }
+
+    @Override
+    public void setTruncateEpoch(String fileId, long newTruncateEpoch) throws IOException {
+        getLayout(fileId).setTruncateEpoch(fileId, newTruncateEpoch);
+    }
+
+    @Override
+    public boolean fileExists(String fileId) {
+        return getLayout(fileId).fileExists(fileId);
+    }
+
+    @Override
+    public void updateCurrentObjVersion(String fileId, long objNo, long newVersion) throws IOException {
+        getLayout(fileId).updateCurrentObjVersion(fileId, objNo, newVersion);
+    }
+
+    @Override
+    public void updateCurrentVersionSize(String fileId, long newLastObject) throws IOException {
+        getLayout(fileId).updateCurrentVersionSize(fileId, newLastObject);
+    }
+
+    @Override
+    public long getFileInfoLoadCount() {
+        long count = 0;
+        for (HashStorageLayout disk : disks)
+            count += disk.getFileInfoLoadCount();
+        return count;
+    }
+
+    @Override
+    public ObjectSet getObjectSet(String fileId, FileMetadata md) {
+        return getLayout(fileId).getObjectSet(fileId, md);
+    }
+
+    @Override
+    public FileList getFileList(FileList l, int maxNumEntries) {
+
+        if (l == null) {
+            l = new FileList(new Stack<String>(), new HashMap<String, FileData>());
+            l.status.push("");
+        }
+
+        // fill the batch from as many disks as necessary, so that the batches
+        // do not depend on the number of disks
+        Map<String, FileData> files = new HashMap<String, FileData>();
+        do {
+            l = disks[l.disk].getFileList(l, maxNumEntries - files.size());
+            files.putAll(l.files);
+
+            // continue with the next disk
+            if (!l.hasMore && l.disk < disks.length - 1) {
+                l.disk++;
+                l.status.push("");
+                l.hasMore = true;
+            }
+        } while (l.hasMore && files.size() < maxNumEntries);
+
+        l.files.clear();
+        l.files.putAll(files);
+        return l;
+    }
+
+    @Override
+    public int getLayoutVersionTag() {
+        return HashStorageLayout.SL_TAG;
+    }
+
+    @Override
+    public boolean isCompatibleVersion(int layoutVersionTag) {
+        return layoutVersionTag == HashStorageLayout.SL_TAG;
+    }
+
+    @Override
+    public int getMasterEpoch(String fileId) throws IOException {
+        return getLayout(fileId).getMasterEpoch(fileId);
+    }
+
+    @Override
+    public void setMasterEpoch(String fileId, int masterEpoch) throws IOException {
+        getLayout(fileId).setMasterEpoch(fileId, masterEpoch);
+    }
+
+    @Override
+    public TruncateLog getTruncateLog(String fileId) throws IOException {
+        return getLayout(fileId).getTruncateLog(fileId);
+    }
+
+    @Override
+    public void setTruncateLog(String fileId, TruncateLog log) throws IOException {
+        getLayout(fileId).setTruncateLog(fileId, log);
+    }
+
+    @Override
+    public DirtyObjectLog getDirtyObjectLog(String fileId, FileMetadata md) {
+        return getLayout(fileId).getDirtyObjectLog(fileId, md);
+    }
+
+    @Override
+    public void storeDirtyObjectLog(String fileId, FileMetadata md) throws IOException {
+        getLayout(fileId).storeDirtyObjectLog(fileId, md);
+    }
+
+    @Override
+    public ArrayList<String> getFileIDList() {
+        ArrayList<String> fileList = new ArrayList<String>();
+        for (HashStorageLayout disk : disks)
+            fileList.addAll(disk.getFileIDList());
+        return fileList;
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+
+/**
+ * Caches the content of frequently read objects in off-heap memory.
+ * <p>
+ * Entries are evicted in LRU order. A new object is only admitted to a full
+ * cache if it has been accessed more frequently than the object it would
+ * replace (TinyLFU), so that large scans of objects that are read only once do
+ * not displace the hot objects. Access frequencies are also recorded for
+ * objects that are not cached.
+ * <p>
+ * Cached data is returned as view buffers, which keep the data valid even if
+ * the entry is evicted or invalidated in the meantime. Entries must be
+ * invalidated before the object is modified; since all requests for a file are
+ * processed by the same storage thread, no stale data can be read afterwards.
+ */
+public class ObjectCache {
+
+    /** assumed average object size, to dimension the frequency sketch */
+    private static final int                 AVG_OBJECT_SIZE = 128 * 1024;
+
+    private final long                       capacity;
+
+    private final LinkedHashMap<Key, Entry>  entries;
+
+    private final Map<String, Set<Long>>     objectsPerFile;
+
+    private final FrequencySketch            sketch;
+
+    private long                             size;
+
+    private long                             hits;
+
+    private long                             misses;
+
+    private long                             bytesServed;
+
+    private long                             admissions;
+
+    private long                             rejections;
+
+    private long                             evictions;
+
+    /**
+     * @param capacity
+     *            maximum size of the cached data in bytes
+     */
+    public ObjectCache(long capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true);
+        this.objectsPerFile = new HashMap<String, Set<Long>>();
+        this.sketch = new FrequencySketch((int) Math.min(1 << 24, Math.max(1024, capacity / AVG_OBJECT_SIZE)));
+    }
+
+    /**
+     * Looks up a range of an object and records the access.
+     *
+     * @return a buffer with the requested range, which has to be freed by the
+     *         caller, or <code>null</code> if the given object version is not
+     *         cached
+     */
+    public synchronized ReusableBuffer get(String fileId, long objNo, long version, int offset, int length) {
+
+        final Key key = new Key(fileId, objNo);
+        sketch.increment(key.hash());
+
+        final Entry entry = entries.get(key);
+        if (entry == null || entry.version != version) {
+            misses++;
+            return null;
+        }
+
+        final int dataSize = entry.data.capacity();
+        final ReusableBuffer view = entry.data.createViewBuffer();
+        if (offset >= dataSize)
+            view.range(0, 0);
+        else
+            view.range(offset, Math.min(length, dataSize - offset));
+
+        hits++;
+        bytesServed += view.capacity();
+        return view;
+    }
+
+    /**
+     * Checks whether an object that was not found in the cache would be
+     * admitted, in which case it is worth reading the entire object.
+     */
+    public synchronized boolean wouldAdmit(String fileId, long objNo, int size) {
+        return size <= capacity
+            && (this.size + size <= capacity || isMoreFrequentThanVictim(new Key(fileId, objNo)));
+    }
+
+    /**
+     * Offers an object to the cache. The data is copied if the object is
+     * admitted; the given buffer is not modified.
+     */
+    public void put(String fileId, long objNo, long version, ReusableBuffer data) {
+
+        final int dataSize = data.remaining();
+        final Key key = new Key(fileId, objNo);
+        synchronized (this) {
+            if (!wouldAdmit(fileId, objNo, dataSize)) {
+                rejections++;
+                return;
+            }
+        }
+
+        // copy the data outside the lock
+        final ByteBuffer copy = ByteBuffer.allocateDirect(dataSize);
+        copy.put(data.getBuffer().duplicate());
+        copy.flip();
+
+        synchronized (this) {
+            // the object may have been inserted by another thread in the meantime
+            final Entry old = entries.remove(key);
+            if (old != null)
+                size -= old.data.capacity();
+
+            while (size + dataSize > capacity && !entries.isEmpty()) {
+                final Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+                final Map.Entry<Key, Entry> victim = it.next();
+                it.remove();
+                removeFromFile(victim.getKey());
+                size -= victim.getValue().data.capacity();
+                evictions++;
+            }
+
+            entries.put(key, new Entry(version, new ReusableBuffer(copy)));
+            Set<Long> objects = objectsPerFile.get(fileId);
+            if (objects == null) {
+                objects = new HashSet<Long>();
+                objectsPerFile.put(fileId, objects);
+            }
+            objects.add(objNo);
+            size += dataSize;
+            admissions++;
+        }
+    }
+
+    /**
+     * Removes an object from the cache.
+     */
+    public synchronized void invalidate(String fileId, long objNo) {
+        final Key key = new Key(fileId, objNo);
+        final Entry entry = entries.remove(key);
+        if (entry != null) {
+            size -= entry.data.capacity();
+            removeFromFile(key);
+        }
+    }
+
+    /**
+     * Removes all objects of a file from the cache.
+     */
+    public synchronized void invalidate(String fileId) {
+        final Set<Long> objects = objectsPerFile.remove(fileId);
+        if (objects == null)
+            return;
+        for (long objNo : objects) {
+            final Entry entry = entries.remove(new Key(fileId, objNo));
+            if (entry != null)
+                size -= entry.data.capacity();
+        }
+    }
+
+    public synchronized long getCapacity() {
+        return capacity;
+    }
+
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public synchronized int getNumObjects() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the ratio of cache hits to all lookups, between 0 and 1
+     */
+    public synchronized double getHitRatio() {
+        final long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * @return the number of bytes returned from the cache
+     */
+    public synchronized long getBytesServed() {
+        return bytesServed;
+    }
+
+    public synchronized long getAdmissions() {
+        return admissions;
+    }
+
+    public synchronized long getRejections() {
+        return rejections;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    private boolean isMoreFrequentThanVictim(Key candidate) {
+        if (entries.isEmpty())
+            return true;
+        final Key victim = entries.keySet().iterator().next();
+        return sketch.frequency(candidate.hash()) > sketch.frequency(victim.hash());
+    }
+
+    private void removeFromFile(Key key) {
+        final Set<Long> objects = objectsPerFile.get(key.fileId);
+        if (objects != null) {
+            objects.remove(key.objNo);
+            if (objects.isEmpty())
+                objectsPerFile.remove(key.fileId);
+        }
+    }
+
+    private static final class Key {
+
+        final String fileId;
+
+        final long   objNo;
+
+        Key(String fileId, long objNo) {
+            this.fileId = fileId;
+            this.objNo = objNo;
+        }
+
+        long hash() {
+            return fileId.hashCode() * 0x9e3779b97f4a7c15L + objNo;
+        }
+
+        @Override
+        public int hashCode() {
+            return fileId.hashCode() * 31 + (int) (objNo ^ (objNo >>> 32));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key))
+                return false;
+            final Key other = (Key) obj;
+            return objNo == other.objNo && fileId.equals(other.fileId);
+        }
+    }
+
+    private static final class Entry {
+
+        final long           version;
+
+        final ReusableBuffer data;
+
+        Entry(long version, ReusableBuffer data) {
+            this.version = version;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.util.Arrays;
+
+/**
+ * Maps object numbers and versions to checksums without boxing.
+ * <p>
+ * The checksum of the most recently added version of an object is stored in
+ * dense arrays indexed by the object number, as long as most of the objects in
+ * their range exist. Checksums of other versions (with copy-on-write) and of
+ * objects outside the dense range are stored in an open-addressing hash table
+ * keyed by object number and version.
+ */
+public class ObjectChecksumMap {
+
+    /** object numbers that are always stored in the dense arrays */
+    private static final int  MIN_DENSE_LENGTH = 64;
+
+    private static final int  MAX_DENSE_LENGTH = 1 << 30;
+
+    private static final long ABSENT           = Long.MIN_VALUE;
+
+    private static final long FREE_KEY         = -1;
+
+    private long[]            denseVersions;
+
+    private long[]            denseChecksums;
+
+    private long[]            objNos;
+
+    private long[]            versions;
+
+    private long[]            checksums;
+
+    private int               denseSize;
+
+    private int               sparseSize;
+
+    public ObjectChecksumMap() {
+        denseVersions = new long[0];
+        denseChecksums = new long[0];
+        objNos = new long[0];
+        versions = new long[0];
+        checksums = new long[0];
+    }
+
+    /**
+     * @return the checksum of the object version, or 0 if it is unknown
+     */
+    public long get(long objNo, long version) {
+        if (objNo < denseVersions.length && denseVersions[(int) objNo] == version)
+            return denseChecksums[(int) objNo];
+        if (sparseSize == 0)
+            return 0;
+        final int slot = findSlot(objNos, versions, objNo, version);
+        return objNos[slot] == FREE_KEY ? 0 : checksums[slot];
+    }
+
+    public void put(long objNo, long version, long checksum) {
+
+        assert (objNo >= 0) : "invalid object number: " + objNo;
+
+        if (objNo >= denseVersions.length && objNo < MAX_DENSE_LENGTH
+            && objNo <= Math.max(MIN_DENSE_LENGTH - 1, 2L * size()))
+            growDense(objNo);
+
+        if (objNo < denseVersions.length) {
+            final int i = (int) objNo;
+            if (denseVersions[i] == ABSENT)
+                denseSize++;
+            else if (denseVersions[i] != version)
+                // keep the dense slot for the newest version
+                putSparse(objNo, denseVersions[i], denseChecksums[i]);
+            else {
+                denseChecksums[i] = checksum;
+                return;
+            }
+            removeSparse(objNo, version);
+            denseVersions[i] = version;
+            denseChecksums[i] = checksum;
+            return;
+        }
+
+        putSparse(objNo, version, checksum);
+    }
+
+    public void remove(long objNo, long version) {
+        if (objNo < denseVersions.length && denseVersions[(int) objNo] == version) {
+            denseVersions[(int) objNo] = ABSENT;
+            denseSize--;
+        } else
+            removeSparse(objNo, version);
+    }
+
+    public int size() {
+        return denseSize + sparseSize;
+    }
+
+    /**
+     * @return the approximate number of bytes used by the map
+     */
+    public long getMemoryFootprint() {
+        return 64 + 8L * (denseVersions.length + denseChecksums.length + objNos.length + versions.length
+            + checksums.length);
+    }
+
+    private void putSparse(long objNo, long version, long checksum) {
+        if ((sparseSize + 1) * 4L > objNos.length * 3L)
+            rehash(Math.max(16, objNos.length * 2));
+        final int slot = findSlot(objNos, versions, objNo, version);
+        if (objNos[slot] == FREE_KEY) {
+            objNos[slot] = objNo;
+            versions[slot] = version;
+            sparseSize++;
+        }
+        checksums[slot] = checksum;
+    }
+
+    private void removeSparse(long objNo, long version) {
+
+        if (sparseSize == 0)
+            return;
+        int slot = findSlot(objNos, versions, objNo, version);
+        if (objNos[slot] == FREE_KEY)
+            return;
+
+        // backward-shift deletion, so that no tombstones are needed
+        final int mask = objNos.length - 1;
+        for (int next = (slot + 1) & mask; objNos[next] != FREE_KEY; next = (next + 1) & mask) {
+            final int home = hash(objNos[next], versions[next]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                objNos[slot] = objNos[next];
+                versions[slot] = versions[next];
+                checksums[slot] = checksums[next];
+                slot = next;
+            }
+        }
+        objNos[slot] = FREE_KEY;
+        sparseSize--;
+    }
+
+    private void growDense(long objNo) {
+
+        int length = Math.max(MIN_DENSE_LENGTH, denseVersions.length);
+        while (length <= objNo)
+            length *= 2;
+
+        final int oldLength = denseVersions.length;
+        denseVersions = Arrays.copyOf(denseVersions, length);
+        denseChecksums = Arrays.copyOf(denseChecksums, length);
+        Arrays.fill(denseVersions, oldLength, length, ABSENT);
+
+        // move one version per object now covered by the dense arrays
+        if (sparseSize > 0) {
+            final long[] oldObjNos = objNos;
+            final long[] oldVersions = versions;
+            final long[] oldChecksums = checksums;
+            objNos = new long[oldObjNos.length];
+            versions = new long[oldVersions.length];
+            checksums = new long[oldChecksums.length];
+            Arrays.fill(objNos, FREE_KEY);
+            sparseSize = 0;
+            for (int i = 0; i < oldObjNos.length; i++) {
+                if (oldObjNos[i] == FREE_KEY)
+                    continue;
+                if (oldObjNos[i] < length && denseVersions[(int) oldObjNos[i]] == ABSENT) {
+                    denseVersions[(int) oldObjNos[i]] = oldVersions[i];
+                    denseChecksums[(int) oldObjNos[i]] = oldChecksums[i];
+                    denseSize++;
+                } else
+                    putSparse(oldObjNos[i], oldVersions[i], oldChecksums[i]);
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldObjNos = objNos;
+        final long[] oldVersions = versions;
+        final long[] oldChecksums = checksums;
+        objNos = new long[capacity];
+        versions = new long[capacity];
+        checksums = new long[capacity];
+        Arrays.fill(objNos, FREE_KEY);
+        for (int i = 0; i < oldObjNos.length; i++) {
+            if (oldObjNos[i] == FREE_KEY)
+                continue;
+            final int slot = findSlot(objNos, versions, oldObjNos[i], oldVersions[i]);
+            objNos[slot] = oldObjNos[i];
+            versions[slot] = oldVersions[i];
+            checksums[slot] = oldChecksums[i];
+        }
+    }
+
+    /**
+     * @return the slot containing the key, or the free slot where it has to be
+     *         inserted
+     */
+    private static int findSlot(long[] objNos, long[] versions, long objNo, long version) {
+        final int mask = objNos.length - 1;
+        int slot = hash(objNo, version) & mask;
+        while (objNos[slot] != FREE_KEY && (objNos[slot] != objNo || versions[slot] != version))
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    private static int hash(long objNo, long version) {
+        return ObjectVersionMap.hash(objNo * 31 + version);
+    }
+
+}
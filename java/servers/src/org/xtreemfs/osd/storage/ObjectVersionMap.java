@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Maps object numbers to object versions without boxing.
+ * <p>
+ * Object numbers from 0 up to a limit are stored in a dense array indexed by
+ * the object number, which grows as long as most of the objects in its range
+ * exist. All other objects, e.g. those of striped files, of which each OSD
+ * only stores every n-th object, are stored in an open-addressing hash table.
+ */
+public class ObjectVersionMap {
+
+    /** object numbers that are always stored in the dense array */
+    private static final int  MIN_DENSE_LENGTH = 64;
+
+    private static final int  MAX_DENSE_LENGTH = 1 << 30;
+
+    private static final long ABSENT           = Long.MIN_VALUE;
+
+    private static final long FREE_KEY         = -1;
+
+    private long[]            dense;
+
+    private long[]            keys;
+
+    private long[]            values;
+
+    private int               denseSize;
+
+    private int               sparseSize;
+
+    public ObjectVersionMap() {
+        dense = new long[0];
+        keys = new long[0];
+        values = new long[0];
+    }
+
+    /**
+     * @return the version of the object, or 0 if the object does not exist
+     */
+    public long get(long objNo) {
+        if (objNo < dense.length)
+            return dense[(int) objNo] == ABSENT ? 0 : dense[(int) objNo];
+        if (sparseSize == 0)
+            return 0;
+        final int slot = findSlot(keys, objNo);
+        return keys[slot] == FREE_KEY ? 0 : values[slot];
+    }
+
+    public void put(long objNo, long version) {
+
+        assert (objNo >= 0) : "invalid object number: " + objNo;
+
+        if (objNo >= dense.length && objNo < MAX_DENSE_LENGTH
+            && objNo <= Math.max(MIN_DENSE_LENGTH - 1, 2L * size()))
+            growDense(objNo);
+
+        if (objNo < dense.length) {
+            if (dense[(int) objNo] == ABSENT)
+                denseSize++;
+            dense[(int) objNo] = version;
+            return;
+        }
+
+        if ((sparseSize + 1) * 4L > keys.length * 3L)
+            rehash(Math.max(16, keys.length * 2));
+        final int slot = findSlot(keys, objNo);
+        if (keys[slot] == FREE_KEY) {
+            keys[slot] = objNo;
+            sparseSize++;
+        }
+        values[slot] = version;
+    }
+
+    public void remove(long objNo) {
+
+        if (objNo < dense.length) {
+            if (dense[(int) objNo] != ABSENT) {
+                dense[(int) objNo] = ABSENT;
+                denseSize--;
+            }
+            return;
+        }
+
+        if (sparseSize == 0)
+            return;
+        int slot = findSlot(keys, objNo);
+        if (keys[slot] == FREE_KEY)
+            return;
+
+        // backward-shift deletion, so that no tombstones are needed
+        final int mask = keys.length - 1;
+        for (int next = (slot + 1) & mask; keys[next] != FREE_KEY; next = (next + 1) & mask) {
+            final int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+        }
+        keys[slot] = FREE_KEY;
+        sparseSize--;
+    }
+
+    public void clear() {
+        dense = new long[0];
+        keys = new long[0];
+        values = new long[0];
+        denseSize = 0;
+        sparseSize = 0;
+    }
+
+    public int size() {
+        return denseSize + sparseSize;
+    }
+
+    /**
+     * @return the approximate number of bytes used by the map
+     */
+    public long getMemoryFootprint() {
+        return 64 + 8L * (dense.length + keys.length + values.length);
+    }
+
+    /**
+     * @return a view of the entries of the map, which must not be modified
+     *         while iterating
+     */
+    public Set<Map.Entry<Long, Long>> entrySet() {
+        return new AbstractSet<Map.Entry<Long, Long>>() {
+
+            @Override
+            public Iterator<Map.Entry<Long, Long>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return ObjectVersionMap.this.size();
+            }
+        };
+    }
+
+    private void growDense(long objNo) {
+
+        int length = Math.max(MIN_DENSE_LENGTH, dense.length);
+        while (length <= objNo)
+            length *= 2;
+
+        final int oldLength = dense.length;
+        dense = Arrays.copyOf(dense, length);
+        Arrays.fill(dense, oldLength, length, ABSENT);
+
+        // move the sparse entries now covered by the dense array
+        if (sparseSize > 0) {
+            final long[] oldKeys = keys;
+            final long[] oldValues = values;
+            keys = new long[oldKeys.length];
+            values = new long[oldValues.length];
+            Arrays.fill(keys, FREE_KEY);
+            sparseSize = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == FREE_KEY)
+                    continue;
+                if (oldKeys[i] < length) {
+                    dense[(int) oldKeys[i]] = oldValues[i];
+                    denseSize++;
+                } else {
+                    final int slot = findSlot(keys, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                    sparseSize++;
+                }
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        final long[] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(keys, FREE_KEY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == FREE_KEY)
+                continue;
+            final int slot = findSlot(keys, oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    /**
+     * @return the slot containing the key, or the free slot where it has to be
+     *         inserted
+     */
+    private static int findSlot(long[] keys, long key) {
+        final int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != FREE_KEY && keys[slot] != key)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    static int hash(long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<Long, Long>> {
+
+        private int  denseIndex  = -1;
+
+        private int  sparseIndex = -1;
+
+        private long nextKey;
+
+        private long nextValue;
+
+        private boolean hasNext;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            while (++denseIndex < dense.length) {
+                if (dense[denseIndex] != ABSENT) {
+                    nextKey = denseIndex;
+                    nextValue = dense[denseIndex];
+                    hasNext = true;
+                    return;
+                }
+            }
+            while (++sparseIndex < keys.length) {
+                if (keys[sparseIndex] != FREE_KEY) {
+                    nextKey = keys[sparseIndex];
+                    nextValue = values[sparseIndex];
+                    hasNext = true;
+                    return;
+                }
+            }
+            hasNext = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public Map.Entry<Long, Long> next() {
+            if (!hasNext)
+                throw new NoSuchElementException();
+            final Map.Entry<Long, Long> entry = new SimpleImmutableEntry<Long, Long>(nextKey, nextValue);
+            advance();
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
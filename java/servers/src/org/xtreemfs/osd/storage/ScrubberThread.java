@@ -0,0 +1,532 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.text.DateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.xtreemfs.common.ReplicaUpdatePolicies;
+import org.xtreemfs.common.uuids.ServiceUUID;
+import org.xtreemfs.common.xloc.InvalidXLocationsException;
+import org.xtreemfs.common.xloc.RAID0Impl;
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.common.xloc.XLocations;
+import org.xtreemfs.foundation.LifeCycleThread;
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.OSDRequest;
+import org.xtreemfs.osd.OSDRequestDispatcher;
+import org.xtreemfs.osd.stages.ReplicationStage.FetchObjectCallback;
+import org.xtreemfs.osd.stages.StorageStage;
+import org.xtreemfs.osd.stages.StorageStage.VerifyObjectsCallback;
+import org.xtreemfs.osd.storage.StorageLayout.FileData;
+import org.xtreemfs.osd.storage.StorageLayout.FileList;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+
+/**
+ * Walks through all files in the local object store and verifies the checksums
+ * of their objects. The objects are read by the storage threads, so that the
+ * verification is serialized with concurrent writes. Reads are limited to a
+ * configurable bandwidth and number of objects per second, and suspended while
+ * the storage thread responsible for a file has many pending requests. If
+ * checksums are disabled, objects are only read and counted as unchecked.
+ *
+ * Corrupt objects are recorded and repaired with the next request for the
+ * file, which provides the capability and the replica locations required to
+ * fetch the objects from another replica. Only objects of read-only replicated
+ * files can be repaired.
+ */
+public class ScrubberThread extends LifeCycleThread {
+
+    // PATTERN for the output. Brackets are not allowed to be used at the format strings.
+    public final static String         STATUS_FORMAT         = "files checked: %8d   objects checked: %8d   unchecked objects: %8d   corrupt objects: %8d   running since: %s";
+
+    public final static String         STOPPED_FORMAT        = "not running, last check started %s, %8d corrupt objects, %8d repaired";
+
+    public final static String         CORRUPT_OBJECT_FORMAT = "object %s-%d is corrupt";
+
+    public final static String         REPAIRED_FORMAT       = "object %s-%d was repaired";
+
+    public final static String         REPAIR_FAILED_FORMAT  = "object %s-%d could not be repaired, because: %s";
+
+    public final static String         ERROR_FORMAT          = "ERROR: cannot check file %s, reason: %s";
+
+    public final static String         NO_CHECKSUMS_FORMAT   = "WARNING: checksums are disabled, objects are only checked for read errors";
+
+    /**
+     * maximum number of result messages kept
+     */
+    public final static int            MAX_RESULTS           = 1000;
+
+    /**
+     * maximum number of files with corrupt objects waiting for a repair
+     */
+    public final static int            MAX_PENDING_REPAIRS   = 10000;
+
+    /**
+     * number of verification requests per second if the limits are exhausted
+     */
+    private final static int           REQUESTS_PER_SECOND   = 10;
+
+    /**
+     * time to wait if the storage thread of a file is busy
+     */
+    private final static long          BACKOFF_MS            = 100;
+
+    private final OSDRequestDispatcher master;
+
+    private final StorageLayout        layout;
+
+    private final ServiceUUID          localUUID;
+
+    /**
+     * time between the start of two automatic passes in ms, 0 if disabled
+     */
+    private final long                 interval;
+
+    private final long                 maxBytesPerSecond;
+
+    private final int                  maxObjectsPerSecond;
+
+    private final int                  maxQueueLength;
+
+    /**
+     * without checksums, corrupt objects can only be detected if they cannot
+     * be read
+     */
+    private final boolean              checksumsEnabled;
+
+    private final List<String>         results;
+
+    /**
+     * file ID -> numbers of corrupt objects which have not been repaired yet
+     */
+    private final ConcurrentHashMap<String, Set<Long>> pendingRepairs;
+
+    private volatile boolean           isRunning;
+
+    private volatile boolean           quit;
+
+    private volatile long              startTime;
+
+    private volatile long              filesChecked;
+
+    private final AtomicLong           objectsChecked;
+
+    private final AtomicLong           objectsUnchecked;
+
+    private final AtomicLong           bytesChecked;
+
+    private final AtomicLong           corruptObjects;
+
+    private final AtomicLong           repairedObjects;
+
+    private final AtomicLong           backoffs;
+
+    public ScrubberThread(OSDRequestDispatcher master, StorageLayout layout) {
+        super("ScrubberThr");
+        final OSDConfig config = master.getConfig();
+        this.master = master;
+        this.layout = layout;
+        this.localUUID = config.getUUID();
+        this.interval = config.getScrubberInterval() * 1000L;
+        this.maxBytesPerSecond = config.getScrubberMaxBandwidth() * 1024L * 1024L;
+        this.maxObjectsPerSecond = config.getScrubberMaxIOPS();
+        this.maxQueueLength = config.getScrubberMaxStorageQueueLength();
+        this.checksumsEnabled = config.isUseChecksums();
+        this.results = new LinkedList<String>();
+        this.pendingRepairs = new ConcurrentHashMap<String, Set<Long>>();
+        this.objectsChecked = new AtomicLong();
+        this.objectsUnchecked = new AtomicLong();
+        this.bytesChecked = new AtomicLong();
+        this.corruptObjects = new AtomicLong();
+        this.repairedObjects = new AtomicLong();
+        this.backoffs = new AtomicLong();
+    }
+
+    /**
+     * Starts a pass over all files, independent of the configured interval.
+     *
+     * @return false, if a pass is already running
+     */
+    public boolean scrubStart() {
+        synchronized (this) {
+            if (isRunning) {
+                return false;
+            } else {
+                isRunning = true;
+                this.notifyAll();
+                return true;
+            }
+        }
+    }
+
+    public void scrubStop() {
+        synchronized (this) {
+            if (isRunning) {
+                isRunning = false;
+                this.notifyAll();
+            }
+        }
+    }
+
+    public boolean isRunning() {
+        synchronized (this) {
+            return isRunning;
+        }
+    }
+
+    public List<String> getResult() {
+        synchronized (results) {
+            return new LinkedList<String>(results);
+        }
+    }
+
+    public String getStatus() {
+        String d = DateFormat.getDateTimeInstance().format(new Date(startTime));
+        if (isRunning) {
+            return String.format(STATUS_FORMAT, filesChecked, objectsChecked.get(), objectsUnchecked.get(),
+                corruptObjects.get(), d);
+        } else {
+            return String.format(STOPPED_FORMAT, d, corruptObjects.get(), repairedObjects.get());
+        }
+    }
+
+    /**
+     * @return number of objects whose checksums have been verified
+     */
+    public long getObjectsChecked() {
+        return objectsChecked.get();
+    }
+
+    /**
+     * @return number of objects which have been read, but could not be
+     *         verified because checksums are disabled
+     */
+    public long getObjectsUnchecked() {
+        return objectsUnchecked.get();
+    }
+
+    public long getBytesChecked() {
+        return bytesChecked.get();
+    }
+
+    public long getCorruptObjects() {
+        return corruptObjects.get();
+    }
+
+    public long getRepairedObjects() {
+        return repairedObjects.get();
+    }
+
+    /**
+     * @return number of times the scrubber waited for a busy storage thread
+     */
+    public long getBackoffs() {
+        return backoffs.get();
+    }
+
+    /**
+     * @return number of files with corrupt objects which have not been repaired
+     */
+    public int getNumPendingRepairs() {
+        return pendingRepairs.size();
+    }
+
+    public void shutdown() {
+        synchronized (this) {
+            quit = true;
+            this.notifyAll();
+        }
+    }
+
+    /**
+     * Fetches the corrupt objects of the request's file from another replica,
+     * if any were found. Called for each request that has been authenticated.
+     */
+    public void repairPendingObjects(OSDRequest rq) {
+        if (pendingRepairs.isEmpty())
+            return;
+
+        final String fileId = rq.getFileId();
+        final XLocations xLoc = rq.getLocationList();
+        if (fileId == null || xLoc == null || rq.getCapability() == null)
+            return;
+
+        final Set<Long> pending = pendingRepairs.remove(fileId);
+        if (pending == null)
+            return;
+
+        // objectCorrupt() adds to the set while holding its lock, after
+        // checking that the set is still registered
+        final List<Long> objects;
+        synchronized (pending) {
+            objects = new ArrayList<Long>(pending);
+        }
+
+        if (!ReplicaUpdatePolicies.REPL_UPDATE_PC_RONLY.equals(xLoc.getReplicaUpdatePolicy())
+            || xLoc.getNumReplicas() < 2) {
+            for (long objNo : objects)
+                addResult(String.format(REPAIR_FAILED_FORMAT, fileId, objNo, "no read-only replica available"));
+            return;
+        }
+
+        // a complete replica does not fetch objects, use a copy to leave the
+        // request's locations unchanged
+        final XLocations repairLoc;
+        try {
+            repairLoc = new XLocations(xLoc.getXLocSet(), localUUID);
+        } catch (InvalidXLocationsException ex) {
+            for (long objNo : objects)
+                addResult(String.format(REPAIR_FAILED_FORMAT, fileId, objNo, ex.toString()));
+            return;
+        }
+        if (repairLoc.getLocalReplica().isComplete())
+            repairLoc.getLocalReplica().resetCompleteFlagAndRestoreStrageyFlag();
+
+        for (final long objNo : objects) {
+            master.getReplicationStage().fetchObject(fileId, objNo, repairLoc, rq.getCapability(),
+                rq.getCowPolicy(), null, new FetchObjectCallback() {
+
+                    @Override
+                    public void fetchComplete(ObjectInformation objectInfo, ErrorResponse error) {
+                        if (error == null) {
+                            repairedObjects.incrementAndGet();
+                            addResult(String.format(REPAIRED_FORMAT, fileId, objNo));
+                            if (Logging.isInfo())
+                                Logging.logMessage(Logging.LEVEL_INFO, Category.storage, ScrubberThread.this,
+                                    REPAIRED_FORMAT, fileId, objNo);
+                        } else {
+                            addResult(String.format(REPAIR_FAILED_FORMAT, fileId, objNo, error
+                                    .getErrorMessage()));
+                            Logging.logMessage(Logging.LEVEL_WARN, Category.storage, ScrubberThread.this,
+                                REPAIR_FAILED_FORMAT, fileId, objNo, error.getErrorMessage());
+                        }
+                    }
+                });
+        }
+    }
+
+    public void run() {
+        notifyStarted();
+        try {
+
+            long nextPass = interval > 0 ? TimeSync.getLocalSystemTime() : Long.MAX_VALUE;
+            do {
+                synchronized (this) {
+                    while (!isRunning && !quit) {
+                        final long delay = nextPass - TimeSync.getLocalSystemTime();
+                        if (delay <= 0) {
+                            isRunning = true;
+                            break;
+                        }
+                        this.wait(interval > 0 ? delay : 0);
+                    }
+                    if (quit)
+                        break;
+                }
+
+                startTime = TimeSync.getGlobalTime();
+                if (interval > 0)
+                    nextPass = TimeSync.getLocalSystemTime() + interval;
+                filesChecked = 0;
+                synchronized (results) {
+                    results.clear();
+                }
+
+                if (Logging.isInfo())
+                    Logging.logMessage(Logging.LEVEL_INFO, Category.storage, this, "scrubber pass started");
+                if (!checksumsEnabled) {
+                    addResult(NO_CHECKSUMS_FORMAT);
+                    Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this, NO_CHECKSUMS_FORMAT);
+                }
+
+                scrub();
+
+                if (Logging.isInfo())
+                    Logging.logMessage(Logging.LEVEL_INFO, Category.storage, this,
+                        "scrubber pass finished: %d files, %d corrupt objects", filesChecked, corruptObjects
+                                .get());
+
+                synchronized (this) {
+                    isRunning = false;
+                }
+
+            } while (!quit);
+
+        } catch (InterruptedException ex) {
+            // shutdown
+        } catch (Throwable thr) {
+            this.notifyCrashed(thr);
+        }
+
+        notifyStopped();
+    }
+
+    private void scrub() throws InterruptedException {
+        FileList l = null;
+        do {
+            l = layout.getFileList(l, 1024);
+            for (Entry<String, FileData> file : l.files.entrySet()) {
+                if (!isRunning || quit)
+                    return;
+                scrubFile(file.getKey(), file.getValue());
+                filesChecked++;
+            }
+        } while (l.hasMore);
+    }
+
+    private void scrubFile(String fileId, FileData data) throws InterruptedException {
+        final StorageStage storageStage = master.getStorageStage();
+
+        // objects are never larger than the largest object file
+        final StripingPolicyImpl sp = RAID0Impl.getPolicy(Replica.newBuilder().setReplicationFlags(0)
+                .setStripingPolicy(
+                    StripingPolicy.newBuilder().setType(StripingPolicyType.STRIPING_POLICY_RAID0).setStripeSize(
+                        data.objectSize + 1).setWidth(1).build()).build(), 0);
+
+        final int maxObjects = Math.max(1, maxObjectsPerSecond / REQUESTS_PER_SECOND);
+        final long maxBytes = Math.max(1, maxBytesPerSecond / REQUESTS_PER_SECOND);
+
+        long objNo = 0;
+        while (objNo >= 0) {
+
+            while (storageStage.getQueueLength(fileId) > maxQueueLength) {
+                backoffs.incrementAndGet();
+                if (!pause(BACKOFF_MS))
+                    return;
+            }
+
+            final long start = TimeSync.getLocalSystemTime();
+            final VerifyResult result = new VerifyResult();
+            storageStage.verifyObjects(fileId, sp, objNo, maxObjects, maxBytes, result);
+            if (!result.waitForResult())
+                return;
+
+            if (result.error != null) {
+                // e.g. the file was deleted in the meantime
+                addResult(String.format(ERROR_FORMAT, fileId, result.error.getErrorMessage()));
+                return;
+            }
+
+            if (checksumsEnabled) {
+                objectsChecked.addAndGet(result.numObjects);
+                bytesChecked.addAndGet(result.numBytes);
+            } else {
+                objectsUnchecked.addAndGet(result.numObjects);
+            }
+            if (result.corruptObjects != null) {
+                for (long corrupt : result.corruptObjects)
+                    objectCorrupt(fileId, corrupt);
+            }
+            objNo = result.nextObjNo;
+
+            // keep the average rates below the limits
+            final long duration = Math.max(result.numBytes * 1000 / maxBytesPerSecond, result.numObjects * 1000L
+                / maxObjectsPerSecond);
+            final long elapsed = TimeSync.getLocalSystemTime() - start;
+            if (duration > elapsed && !pause(duration - elapsed))
+                return;
+        }
+    }
+
+    private void objectCorrupt(String fileId, long objNo) {
+        corruptObjects.incrementAndGet();
+        addResult(String.format(CORRUPT_OBJECT_FORMAT, fileId, objNo));
+        Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this, CORRUPT_OBJECT_FORMAT, fileId, objNo);
+
+        for (;;) {
+            Set<Long> objects = pendingRepairs.get(fileId);
+            if (objects == null) {
+                if (pendingRepairs.size() >= MAX_PENDING_REPAIRS)
+                    return;
+                objects = new TreeSet<Long>();
+                final Set<Long> prev = pendingRepairs.putIfAbsent(fileId, objects);
+                if (prev != null)
+                    objects = prev;
+            }
+            synchronized (objects) {
+                // the set may have been taken by repairPendingObjects() in
+                // the meantime
+                if (pendingRepairs.get(fileId) == objects) {
+                    objects.add(objNo);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void addResult(String result) {
+        synchronized (results) {
+            if (results.size() >= MAX_RESULTS)
+                results.remove(0);
+            results.add(result);
+        }
+    }
+
+    /**
+     * @return false, if the pass has been stopped
+     */
+    private boolean pause(long ms) throws InterruptedException {
+        synchronized (this) {
+            if (isRunning && !quit)
+                this.wait(ms);
+            return isRunning && !quit;
+        }
+    }
+
+    private final class VerifyResult implements VerifyObjectsCallback {
+
+        private boolean       done;
+
+        private long          nextObjNo;
+
+        private int           numObjects;
+
+        private long          numBytes;
+
+        private List<Long>    corruptObjects;
+
+        private ErrorResponse error;
+
+        @Override
+        public synchronized void verifyObjectsComplete(long nextObjNo, int numObjects, long numBytes,
+            List<Long> corruptObjects, ErrorResponse error) {
+            this.nextObjNo = nextObjNo;
+            this.numObjects = numObjects;
+            this.numBytes = numBytes;
+            this.corruptObjects = corruptObjects;
+            this.error = error;
+            this.done = true;
+            this.notifyAll();
+        }
+
+        /**
+         * @return false, if the OSD is shut down before the result is
+         *         available
+         */
+        synchronized boolean waitForResult() throws InterruptedException {
+            while (!done && !quit)
+                this.wait(BACKOFF_MS);
+            return done;
+        }
+    }
+}
@@ -14,8 +14,6 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Stack;
 import java.util.Map.Entry;
 import org.xtreemfs.common.xloc.StripingPolicyImpl;
@@ -90,11 +88,11 @@ public class SingleFileStorageLayout extends StorageLayout {
     @Override
     protected FileMetadata loadFileMetadata(String fileId, StripingPolicyImpl sp) throws IOException {
         FileMetadata fi = new FileMetadata(sp);
-        Map<Long,Long> tmp = new HashMap();
+        ObjectVersionMap tmp = new ObjectVersionMap();
         fi.initLatestObjectVersions(tmp);
         fi.initLargestObjectVersions(tmp);
         if (checksumsEnabled)
-            fi.initObjectChecksums(new HashMap());
+            fi.initObjectChecksums(new ObjectChecksumMap());
 
         File f = new File(getFilePath(fileId)+DATA_SUFFIX);
         
@@ -63,12 +63,26 @@ public abstract class StorageLayout {
      */
     protected final MetadataCache cache;
     
+    /**
+     * journal for writes on a fast device, <code>null</code> if disabled
+     */
+    protected WriteJournal        journal;
+    
+    /**
+     * cache for frequently read objects, <code>null</code> if disabled
+     */
+    protected ObjectCache         objectCache;
+    
     protected StorageLayout(OSDConfig config, MetadataCache cache) throws IOException {
+        this(config.getObjDir(), cache);
+    }
+    
+    protected StorageLayout(String objDir, MetadataCache cache) throws IOException {
         
         this.cache = cache;
         
         // initialize the storage directory
-        String tmp = config.getObjDir();
+        String tmp = objDir;
         if (!tmp.endsWith("/"))
             tmp = tmp + "/";
         storageDir = tmp;
@@ -243,7 +257,29 @@ public abstract class StorageLayout {
      *             if an error occurred while deleting the objects
      */
     public abstract void deleteFile(String fileId, boolean deleteMetadata) throws IOException;
-    
+
+    /**
+     * Deletes all versions of all objects of a file in batches, waiting for
+     * the given limiter before each batch, so that deleting large files does
+     * not starve foreground I/O.
+     *
+     * @param fileId
+     *            the ID of the file
+     * @param deleteMetadata
+     *            delete file metadata
+     * @param limiter
+     *            limiter for the unlink operations, may be <code>null</code>
+     * @return the number of bytes reclaimed, or 0 if unknown
+     * @throws IOException
+     *             if an error occurred while deleting the objects
+     */
+    public long deleteFile(String fileId, boolean deleteMetadata, IOPSLimiter limiter) throws IOException {
+        if (limiter != null)
+            limiter.acquire(1);
+        deleteFile(fileId, deleteMetadata);
+        return 0;
+    }
+
     /**
      * Deletes a single version of a single object of a file.
      * 
@@ -446,6 +482,108 @@ public abstract class StorageLayout {
     public abstract TruncateLog getTruncateLog(String fileId) throws IOException;
 
     public abstract void setTruncateLog(String fileId, TruncateLog log) throws IOException;
+
+    /**
+     * Returns the log of changed objects of a read-write replicated file and
+     * starts logging changes if this has not happened yet.
+     * 
+     * @param fileId
+     * @param md
+     *            cached file metadata
+     * @return the log, or <code>null</code> if the storage layout does not
+     *         support dirty object logs
+     */
+    public DirtyObjectLog getDirtyObjectLog(String fileId, FileMetadata md) {
+        return null;
+    }
+
+    /**
+     * Stores the log of changed objects of a file on stable storage. Must be
+     * called before the file metadata is removed from the cache, otherwise the
+     * log is lost and the next replica reset requires a full scan.
+     * 
+     * @param fileId
+     * @param md
+     */
+    public void storeDirtyObjectLog(String fileId, FileMetadata md) throws IOException {
+        // do nothing
+    }
+    
+    /**
+     * Attaches a write journal. Writes are appended to the journal and written
+     * to the object files without synchronization.
+     * 
+     * @param journal
+     */
+    public void setWriteJournal(WriteJournal journal) {
+        this.journal = journal;
+    }
+    
+    public WriteJournal getWriteJournal() {
+        return journal;
+    }
+    
+    /**
+     * Attaches a cache for frequently read objects. Cached objects are
+     * invalidated when they are modified or deleted.
+     * 
+     * @param objectCache
+     */
+    public void setObjectCache(ObjectCache objectCache) {
+        this.objectCache = objectCache;
+    }
+    
+    public ObjectCache getObjectCache() {
+        return objectCache;
+    }
+    
+    /**
+     * Makes all journaled writes of the file durable in the object files and
+     * retires their journal records.
+     * 
+     * @param fileId
+     * @param md
+     *            file metadata
+     * @throws IOException
+     */
+    public void destage(String fileId, FileMetadata md) throws IOException {
+        // do nothing
+    }
+    
+    /**
+     * Returns the number of disks, i.e. object directories, managed by the
+     * storage layout. Requests for files on different disks can be processed
+     * independently of each other.
+     * 
+     * @return the number of disks
+     */
+    public int getNumDisks() {
+        return 1;
+    }
+    
+    /**
+     * Returns the index of the disk on which the file is stored or will be
+     * stored when it is created.
+     * 
+     * @param fileId
+     * @return the index of the disk, between 0 and {@link #getNumDisks()} - 1
+     */
+    public int getDisk(String fileId) {
+        return 0;
+    }
+    
+    /**
+     * Returns the index of the disk on which the file is stored, if it is
+     * known without accessing the disks.
+     * 
+     * @param fileId
+     * @return the index of the disk, or -1 if the disks have to be searched
+     *         for the file by {@link #getDisk(String)}
+     */
+    public int getCachedDisk(String fileId) {
+        return 0;
+    }
+    
     /**
      * returns a list of all files on OSD as fileID
      * 
@@ -462,6 +600,9 @@ public abstract class StorageLayout {
         
         boolean                     hasMore;
         
+        // index of the disk currently scanned
+        int                         disk;
+        
         public FileList(Stack<String> status, Map<String, FileData> files) {
             this.status = status;
             this.files = files;
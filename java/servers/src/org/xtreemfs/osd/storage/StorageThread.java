@@ -34,23 +34,29 @@ import org.xtreemfs.foundation.pbrpc.utils.ErrorUtils;
 import org.xtreemfs.foundation.util.OutputUtils;
 import org.xtreemfs.osd.OSDRequestDispatcher;
 import org.xtreemfs.osd.replication.ObjectSet;
+import org.xtreemfs.osd.stages.QoSPolicy;
 import org.xtreemfs.osd.stages.Stage;
 import org.xtreemfs.osd.stages.StorageStage.CachesFlushedCallback;
 import org.xtreemfs.osd.stages.StorageStage.CreateFileVersionCallback;
 import org.xtreemfs.osd.stages.StorageStage.DeleteObjectsCallback;
+import org.xtreemfs.osd.stages.StorageStage.DestageCallback;
 import org.xtreemfs.osd.stages.StorageStage.GetFileIDListCallback;
 import org.xtreemfs.osd.stages.StorageStage.GetFileSizeCallback;
 import org.xtreemfs.osd.stages.StorageStage.GetObjectListCallback;
 import org.xtreemfs.osd.stages.StorageStage.InternalGetGmaxCallback;
+import org.xtreemfs.osd.stages.StorageStage.InternalGetLocalReplicaStateCallback;
 import org.xtreemfs.osd.stages.StorageStage.InternalGetMaxObjectNoCallback;
 import org.xtreemfs.osd.stages.StorageStage.InternalGetReplicaStateCallback;
 import org.xtreemfs.osd.stages.StorageStage.ReadObjectCallback;
 import org.xtreemfs.osd.stages.StorageStage.TruncateCallback;
+import org.xtreemfs.osd.stages.StorageStage.VerifyObjectsCallback;
 import org.xtreemfs.osd.stages.StorageStage.WriteObjectCallback;
 import org.xtreemfs.osd.storage.VersionTable.Version;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.AuthoritativeReplicaState;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalGmax;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectVersion;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectVersionMapping;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaStatus;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.TruncateLog;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.TruncateRecord;
@@ -87,6 +93,14 @@ public class StorageThread extends Stage {
     
     public static final int      STAGEOP_DELETE_OBJECTS        = 14;
     
+    public static final int      STAGEOP_VERIFY_OBJECTS        = 15;
+
+    public static final int      STAGEOP_GET_LOCAL_REPLICA_STATE = 16;
+
+    public static final int      STAGEOP_SET_REPLICA_COMPLETE  = 17;
+
+    public static final int      STAGEOP_DESTAGE               = 18;
+    
     private MetadataCache        cache;
     
     private StorageLayout        layout;
@@ -104,6 +118,41 @@ public class StorageThread extends Stage {
         this.layout = layout;
         this.master = dispatcher;
         this.checksumsEnabled = master.getConfig().isUseChecksums();
+        
+        if (master.getConfig().isQoSEnabled())
+            enableFairQueuing(new QoSPolicy(master.getConfig().getQoSWeights(), master.getConfig().getQoSLimits()));
+    }
+    
+    /**
+     * Requests are scheduled per volume. Internal requests, e.g. of the
+     * replication or the deletion of files, are attributed to the volume of
+     * their file as well, so that all requests of a file are processed in the
+     * order in which they were enqueued.
+     */
+    @Override
+    protected String getFlowId(StageRequest rq) {
+        // the file ID is the first argument of all operations on files
+        final Object[] args = rq.getArgs();
+        if (args == null || args.length == 0 || !(args[0] instanceof String))
+            return null;
+        final String fileId = (String) args[0];
+        final int i = fileId.indexOf(':');
+        return i == -1 ? fileId : fileId.substring(0, i);
+    }
+    
+    @Override
+    protected long getRequestSize(StageRequest rq) {
+        switch (rq.getStageMethod()) {
+        case STAGEOP_READ_OBJECT:
+            final int length = (Integer) rq.getArgs()[4];
+            return length >= 0 ? length : ((StripingPolicyImpl) rq.getArgs()[2])
+                    .getStripeSizeForObject((Long) rq.getArgs()[1]);
+        case STAGEOP_WRITE_OBJECT:
+            final ReusableBuffer data = (ReusableBuffer) rq.getArgs()[4];
+            return data == null ? 0 : data.remaining();
+        default:
+            return 0;
+        }
     }
     
     @Override
@@ -154,6 +203,18 @@ public class StorageThread extends Stage {
             case STAGEOP_DELETE_OBJECTS:
                 processDeleteObjects(method);
                 break;
+            case STAGEOP_VERIFY_OBJECTS:
+                processVerifyObjects(method);
+                break;
+            case STAGEOP_GET_LOCAL_REPLICA_STATE:
+                processGetLocalReplicaState(method);
+                break;
+            case STAGEOP_SET_REPLICA_COMPLETE:
+                processSetReplicaComplete(method);
+                break;
+            case STAGEOP_DESTAGE:
+                processDestage(method);
+                break;
             }
             
         } catch (Exception ex) {
@@ -237,8 +298,15 @@ public class StorageThread extends Stage {
         try {
             final String fileId = (String) rq.getArgs()[0];
             FileMetadata md = cache.removeFileInfo(fileId);
-            if (md != null)
+            if (md != null) {
+                try {
+                    layout.storeDirtyObjectLog(fileId, md);
+                } catch (IOException ex) {
+                    Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this,
+                        "cannot store dirty object log of file %s: %s", fileId, ex.toString());
+                }
                 layout.closeFile(null);
+            }
             
             if (Logging.isDebug())
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this,
@@ -304,30 +372,69 @@ public class StorageThread extends Stage {
             final StripingPolicyImpl sp = (StripingPolicyImpl) rq.getArgs()[1];
             final long remoteMaxObjVer = (Long) rq.getArgs()[2];
 
-            // Do not assume that objects exist on the remote side based on the maxObjVer.
-            // The reason for that is the remote side may not have seen all consecutive writes
-            // up to maxObjVer. As an optimization, one could implement a marker which contains
-            // the minimal version which was actually seen by all replicas. Until then,
-            // remoteMaxObjVer must not be > 0.
-            assert remoteMaxObjVer == 0 : "Received a request with remoteMaxObjVer != 0." +
-            		" This probably means that you run OSDs with different versions." +
-            		" Please update all OSDs to the same version.";
-            
             final FileMetadata fi = layout.getFileMetadata(sp, fileId);
-            // final boolean rangeRequested = (offset > 0) || (length <
-            // stripeSize);
-            
-            if (Logging.isDebug()) {
-                Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this,
-                    "GET replica state: %s, remote max: %d", fileId, remoteMaxObjVer);
+            cback.getReplicaStateComplete(getReplicaState(fileId, fi, remoteMaxObjVer), null);
+        } catch (IOException ex) {
+            cback.getReplicaStateComplete(null, ErrorUtils.getErrorResponse(ErrorType.ERRNO,
+                POSIXErrno.POSIX_ERROR_EIO, ex.toString()));
+        }
+        
+    }
+
+    private void processGetLocalReplicaState(StageRequest rq) {
+        final InternalGetLocalReplicaStateCallback cback = (InternalGetLocalReplicaStateCallback) rq.getCallback();
+        try {
+            final String fileId = (String) rq.getArgs()[0];
+            final StripingPolicyImpl sp = (StripingPolicyImpl) rq.getArgs()[1];
+
+            final FileMetadata fi = layout.getFileMetadata(sp, fileId);
+            final DirtyObjectLog dlog = layout.getDirtyObjectLog(fileId, fi);
+            cback.getLocalReplicaStateComplete(getReplicaState(fileId, fi, 0), dlog == null ? 0 : dlog
+                    .getCompleteVersion(), null);
+        } catch (IOException ex) {
+            cback.getLocalReplicaStateComplete(null, 0, ErrorUtils.getErrorResponse(ErrorType.ERRNO,
+                POSIXErrno.POSIX_ERROR_EIO, ex.toString()));
+        }
+    }
+
+    /**
+     * Returns the replica state with all objects whose latest version is
+     * larger than <code>remoteMaxObjVer</code>. If the dirty object log covers
+     * the epoch of <code>remoteMaxObjVer</code>, only the objects changed since
+     * that epoch are checked, otherwise all objects.
+     */
+    private ReplicaStatus getReplicaState(String fileId, FileMetadata fi, long remoteMaxObjVer) throws IOException {
+
+        // The remote side must only pass a maxObjVer > 0 if it is known to
+        // have seen all writes up to that version, i.e. if it has completed a
+        // replica reset with an authoritative state of that version.
+        final DirtyObjectLog dlog = layout.getDirtyObjectLog(fileId, fi);
+        final long[] changedObjects = (remoteMaxObjVer > 0 && dlog != null) ? dlog
+                .getObjectsChangedSince(remoteMaxObjVer) : null;
+
+        if (Logging.isDebug()) {
+            Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this,
+                "GET replica state: %s, remote max: %d, changed objects: %s", fileId, remoteMaxObjVer,
+                changedObjects == null ? "unknown" : Integer.toString(changedObjects.length));
+        }
+
+        ReplicaStatus.Builder result = ReplicaStatus.newBuilder();
+
+        result.setFileSize(fi.getFilesize());
+        result.setTruncateEpoch(fi.getTruncateEpoch());
+
+        long localMaxObjVer = 0;
+        if (changedObjects != null) {
+            for (long objNo : changedObjects) {
+                final long objVer = fi.getLatestObjectVersion(objNo);
+                if (objVer > remoteMaxObjVer) {
+                    result.addObjectVersions(ObjectVersion.newBuilder().setObjectNumber(objNo)
+                            .setObjectVersion(objVer));
+                    if (objVer > localMaxObjVer)
+                        localMaxObjVer = objVer;
+                }
             }
-            
-            ReplicaStatus.Builder result = ReplicaStatus.newBuilder();
-            
-            result.setFileSize(fi.getFilesize());
-            result.setTruncateEpoch(fi.getTruncateEpoch());
-            
-            long localMaxObjVer = 0;
+        } else {
             for (Entry<Long, Long> e : fi.getLatestObjectVersions()) {
                 if (e.getValue() > remoteMaxObjVer) {
                     result.addObjectVersions(ObjectVersion.newBuilder().setObjectNumber(e.getKey())
@@ -336,16 +443,40 @@ public class StorageThread extends Stage {
                         localMaxObjVer = e.getValue();
                 }
             }
-            result.setMaxObjVersion(localMaxObjVer);
-            result.setPrimaryEpoch(0);
-            result.setTruncateLog(layout.getTruncateLog(fileId));
-            
-            cback.getReplicaStateComplete(result.build(), null);
+        }
+        result.setMaxObjVersion(localMaxObjVer);
+        result.setPrimaryEpoch(0);
+        result.setTruncateLog(layout.getTruncateLog(fileId));
+
+        return result.build();
+    }
+
+    private void processSetReplicaComplete(StageRequest rq) {
+        try {
+            final String fileId = (String) rq.getArgs()[0];
+            final StripingPolicyImpl sp = (StripingPolicyImpl) rq.getArgs()[1];
+            final AuthoritativeReplicaState authState = (AuthoritativeReplicaState) rq.getArgs()[2];
+
+            final FileMetadata fi = layout.getFileMetadata(sp, fileId);
+            final DirtyObjectLog dlog = layout.getDirtyObjectLog(fileId, fi);
+            if (dlog == null)
+                return;
+
+            // objects fetched during the reset may not have been written
+            for (ObjectVersionMapping obj : authState.getObjectVersionsList()) {
+                if (fi.getLatestObjectVersion(obj.getObjectNumber()) < obj.getObjectVersion()) {
+                    Logging.logMessage(Logging.LEVEL_WARN, Category.replication, this,
+                        "replica of %s is incomplete after reset, object %d is missing", fileId,
+                        obj.getObjectNumber());
+                    return;
+                }
+            }
+            if (authState.getMaxObjVersion() > dlog.getCompleteVersion())
+                dlog.setCompleteVersion(authState.getMaxObjVersion());
         } catch (IOException ex) {
-            cback.getReplicaStateComplete(null, ErrorUtils.getErrorResponse(ErrorType.ERRNO,
-                POSIXErrno.POSIX_ERROR_EIO, ex.toString()));
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.replication, this,
+                "cannot update replica state of %s: %s", rq.getArgs()[0], ex.toString());
         }
-        
     }
     
     /**
@@ -620,6 +751,13 @@ public class StorageThread extends Stage {
 
             final FileMetadata fi = layout.getFileMetadata(sp, fileId);
 
+            // The replica is incomplete until the reset has finished.
+            final DirtyObjectLog dlog = layout.getDirtyObjectLog(fileId, fi);
+            if (dlog != null) {
+                dlog.setCompleteVersion(0);
+                layout.storeDirtyObjectLog(fileId, fi);
+            }
+
             // Delete objects.
             for (Entry<Long,Long> obj : objectsToBeDeleted.entrySet()) {
                 layout.deleteObject(fileId, fi, obj.getKey(), obj.getValue());
@@ -635,6 +773,79 @@ public class StorageThread extends Stage {
         }
     }
     
+    /**
+     * Reads the latest versions of a range of local objects from disk and
+     * checks their checksums. Objects which cannot be read are reported as
+     * corrupt as well.
+     */
+    private void processVerifyObjects(StageRequest rq) {
+
+        final VerifyObjectsCallback cback = (VerifyObjectsCallback) rq.getCallback();
+        try {
+            final String fileId = (String) rq.getArgs()[0];
+            final StripingPolicyImpl sp = (StripingPolicyImpl) rq.getArgs()[1];
+            final long firstObjNo = (Long) rq.getArgs()[2];
+            final int maxObjects = (Integer) rq.getArgs()[3];
+            final long maxBytes = (Long) rq.getArgs()[4];
+
+            // the metadata is not cached, the scrubber does not know the
+            // file's actual striping policy
+            final FileMetadata fi = layout.getFileMetadataNoCaching(sp, fileId);
+            final long lastObjNo = fi.getLastObjectNumber();
+
+            List<Long> corruptObjects = null;
+            int numObjects = 0;
+            long numBytes = 0;
+            long objNo = firstObjNo;
+            for (; objNo <= lastObjNo && numObjects < maxObjects && numBytes < maxBytes; objNo++) {
+
+                final long objVer = fi.getLatestObjectVersion(objNo);
+                if (objVer == 0)
+                    continue;
+
+                numObjects++;
+                try {
+                    ObjectInformation obj = layout.readObject(fileId, fi, objNo, 0,
+                        StorageLayout.FULL_OBJECT_LENGTH, objVer);
+                    if (obj.getData() != null) {
+                        numBytes += obj.getData().remaining();
+                        BufferPool.free(obj.getData());
+                    }
+                    if (!obj.isChecksumInvalidOnOSD())
+                        continue;
+                } catch (IOException ex) {
+                    Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this,
+                        "cannot read object %s-%d: %s", fileId, objNo, ex.toString());
+                }
+
+                if (corruptObjects == null)
+                    corruptObjects = new ArrayList<Long>(1);
+                corruptObjects.add(objNo);
+            }
+
+            cback.verifyObjectsComplete(objNo > lastObjNo ? -1 : objNo, numObjects, numBytes, corruptObjects,
+                null);
+        } catch (Exception ex) {
+            cback.verifyObjectsComplete(-1, 0, 0, null, ErrorUtils.getErrorResponse(ErrorType.ERRNO,
+                POSIXErrno.POSIX_ERROR_EIO, ex.toString()));
+        }
+    }
+    
+    private void processDestage(StageRequest rq) {
+
+        final DestageCallback cback = (DestageCallback) rq.getCallback();
+        try {
+            final String fileId = (String) rq.getArgs()[0];
+            final StripingPolicyImpl sp = (StripingPolicyImpl) rq.getArgs()[1];
+
+            layout.destage(fileId, layout.getFileMetadataNoCaching(sp, fileId));
+            cback.destageComplete(null);
+        } catch (Exception ex) {
+            cback.destageComplete(ErrorUtils.getErrorResponse(ErrorType.ERRNO, POSIXErrno.POSIX_ERROR_EIO,
+                ex.toString()));
+        }
+    }
+
     private void processTruncate(StageRequest rq) throws IOException {
         
         final TruncateCallback cback = (TruncateCallback) rq.getCallback();
@@ -868,7 +1079,7 @@ public class StorageThread extends Stage {
             
             for (long r = oldRow; r >= lastRow; r--) {
                 
-                final long rowObj = r * sp.getWidth() + relOsdId;
+                final long rowObj = sp.getObjectNoInRow(r, relOsdId);
                 
                 if (rowObj == newLastObject) {
                     // currently examined object is new last object and local:
@@ -899,7 +1110,7 @@ public class StorageThread extends Stage {
             final long lastRow = sp.getRow(newLastObject);
             
             for (long r = oldRow; r >= lastRow; r--) {
-                final long rowObj = r * sp.getWidth() + relOsdId;
+                final long rowObj = sp.getObjectNoInRow(r, relOsdId);
                 
                 if (rowObj == newLastObject) {
                     // currently examined object is new last object and local:
@@ -948,7 +1159,7 @@ public class StorageThread extends Stage {
         
         // if no objects need to be added and the last object is stored locally
         // ...
-        if ((sp.getOSDforObject(newLastObject) == relOsdId) && newLastObject == oldLastObject) {
+        if (sp.isLocalObject(newLastObject, relOsdId) && newLastObject == oldLastObject) {
             // ... simply extend the old one
             truncateObject(fileId, newLastObject, sp, (int) (fileSize - sp
                     .getObjectStartOffset(newLastObject)), relOsdId, cow, newObjVer);
@@ -1001,7 +1212,7 @@ public class StorageThread extends Stage {
         assert (newSize > 0) : "new size is " + newSize + " but should be > 0";
         assert (newSize <= sp.getStripeSizeForObject(objNo));
         assert (objNo >= 0) : "objNo is " + objNo;
-        assert (sp.getOSDforObject(objNo) == relOsdId);
+        assert (sp.isLocalObject(objNo, (int) relOsdId));
         
         if (Logging.isDebug())
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this, "truncate object to %d", newSize);
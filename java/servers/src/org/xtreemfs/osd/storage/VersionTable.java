@@ -8,197 +8,417 @@
 
 package org.xtreemfs.osd.storage;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.Map.Entry;
 
 import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
 
 /**
  * This class implements a version table for a file. The version table maps time
  * stamps to lists of object versions.
- * 
+ * <p>
+ * Each file version only stores the object versions that differ from its
+ * predecessor, as ranges of consecutive objects with the same version. Lookups
+ * follow the chain of predecessors until the object is found.
+ * <p>
+ * The table is stored as a log of records that is appended to by
+ * {@link #save()}. The log starts with {@link #MAGIC}, followed by
+ * <code>ADD</code> records (record type, time stamp, file size, object count,
+ * number of ranges and the ranges as triples of first object, number of
+ * objects and object version, relative to the preceding version at the time
+ * the record was written) and <code>DELETE</code> records (record type, time
+ * stamp). The log is compacted when versions are cleaned up. Tables in the
+ * former format, which stored all object versions of all file versions, are
+ * converted with the next save.
+ *
  * @author stender
  */
 public class VersionTable {
-    
-    private static final long D_MAX = 2000; // 2s
-                                         
+
+    private static final long  D_MAX         = 2000;                 // 2s
+
+    /**
+     * first long of the log; tables in the former format start with a (positive)
+     * time stamp
+     */
+    private static final long  MAGIC         = 0xFFFFFFFF56544C31L;
+
+    private static final byte  RECORD_ADD    = 1;
+
+    private static final byte  RECORD_DELETE = 2;
+
+    private static final int[] NO_RANGES     = new int[0];
+
     public static class Version {
-        
-        protected static final Version EMPTY_VERSION = new Version(new int[0], 0);
-        
-        private int[]                  objVersions;
-        
-        private long                   fileSize;
-        
-        public Version(int[] objVersions, long fileSize) {
-            this.objVersions = objVersions;
+
+        protected static final Version EMPTY_VERSION = new Version(0, 0, NO_RANGES, null);
+
+        private final long             fileSize;
+
+        private final int              objCount;
+
+        /**
+         * object versions that differ from the preceding version, as sorted
+         * triples of first object, number of objects and object version
+         */
+        private int[]                  ranges;
+
+        private Version                prev;
+
+        private Version(long fileSize, int objCount, int[] ranges, Version prev) {
             this.fileSize = fileSize;
+            this.objCount = objCount;
+            this.ranges = ranges;
+            this.prev = prev;
         }
-        
+
         public long getFileSize() {
             return fileSize;
         }
-        
+
         public int getObjCount() {
-            return objVersions.length;
+            return objCount;
         }
-        
+
         public int getObjVersion(long objNo) {
             assert (objNo <= Integer.MAX_VALUE);
-            return objNo >= objVersions.length ? 0 : objVersions[(int) objNo];
+
+            for (Version v = this; v != null; v = v.prev) {
+                // objects beyond the end of a version have been truncated
+                if (objNo >= v.objCount)
+                    return 0;
+                final int i = v.find((int) objNo);
+                if (i >= 0)
+                    return v.ranges[i + 2];
+            }
+
+            return 0;
+        }
+
+        /**
+         * @return the index of the range containing the object, or -1
+         */
+        private int find(int objNo) {
+            int low = 0;
+            int high = ranges.length / 3 - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int start = ranges[mid * 3];
+                if (objNo < start)
+                    high = mid - 1;
+                else if (objNo >= start + ranges[mid * 3 + 1])
+                    low = mid + 1;
+                else
+                    return mid * 3;
+            }
+            return -1;
         }
-        
+
+        /**
+         * @return the versions of all objects of the file version
+         */
+        private int[] materialize() {
+
+            List<Version> chain = new ArrayList<Version>();
+            for (Version v = this; v != null; v = v.prev)
+                chain.add(v);
+
+            // objects beyond 'valid' are always 0
+            final int[] objVersions = new int[objCount];
+            int valid = 0;
+            for (int i = chain.size() - 1; i >= 0; i--) {
+                final Version v = chain.get(i);
+                final int count = Math.min(v.objCount, objVersions.length);
+                for (int obj = count; obj < valid; obj++)
+                    objVersions[obj] = 0;
+                valid = count;
+
+                for (int r = 0; r < v.ranges.length; r += 3) {
+                    final int end = Math.min(v.ranges[r] + v.ranges[r + 1], count);
+                    for (int obj = v.ranges[r]; obj < end; obj++)
+                        objVersions[obj] = v.ranges[r + 2];
+                }
+            }
+
+            return objVersions;
+        }
+
     }
-    
+
     /**
      * internal table with file-to-object-list mappings
      */
-    private SortedMap<Long, Version> vt;
-    
-    private File                     vtFile;
-    
+    private TreeMap<Long, Version> vt;
+
+    private File                   vtFile;
+
+    /**
+     * records that have not been appended to the file yet
+     */
+    private ByteArrayOutputStream  pending;
+
+    private int                    numDeleteRecords;
+
+    /**
+     * length of the file after the last load or save, which must match before
+     * records are appended; -1 if unknown
+     */
+    private long                   storedLength;
+
+    /**
+     * whether the file has to be rewritten with the current content of the
+     * table on the next save
+     */
+    private boolean                rewrite;
+
     /**
      * Creates a new empty version table.
-     * 
+     *
      * @param vtFile
      *            the file that persistently stores the table
      */
     public VersionTable(File vtFile) {
         vt = new TreeMap<Long, Version>();
+        pending = new ByteArrayOutputStream();
+        storedLength = -1;
         this.vtFile = vtFile;
     }
-    
+
     /**
      * Loads a version table from a file. Previous content in the table is
      * discarded.
-     * 
+     *
      * @throws IOException
      *             if an I/O error occurs
      */
     public synchronized void load() throws IOException {
-        
+
         if (vtFile == null)
             throw new IOException("no source file specified");
-        
+
         vt.clear();
-        
+        pending.reset();
+        numDeleteRecords = 0;
+        rewrite = false;
+
         FileInputStream fi = new FileInputStream(vtFile);
         ReusableBuffer buf = BufferPool.allocate((int) vtFile.length());
-        fi.getChannel().read(buf.getBuffer());
-        buf.position(0);
-        
+        try {
+            fi.getChannel().read(buf.getBuffer());
+            buf.position(0);
+
+            if (buf.limit() >= 8 && buf.getBuffer().getLong(0) == MAGIC)
+                loadLog(buf);
+            else {
+                loadLegacy(buf);
+                rewrite = true;
+            }
+            storedLength = buf.position();
+
+        } finally {
+            BufferPool.free(buf);
+            fi.close();
+        }
+
+    }
+
+    private void loadLog(ReusableBuffer buf) {
+
+        buf.position(8);
         while (buf.position() < buf.limit()) {
-            
+
+            final int recordStart = buf.position();
+            final byte type = buf.get();
+
+            if (type == RECORD_ADD && buf.remaining() >= 24) {
+
+                final long timestamp = buf.getLong();
+                final long fileSize = buf.getLong();
+                final int objCount = buf.getInt();
+                final int numRanges = buf.getInt();
+
+                if (numRanges >= 0 && numRanges <= buf.remaining() / 12) {
+                    final int[] ranges = new int[numRanges * 3];
+                    for (int i = 0; i < ranges.length; i++)
+                        ranges[i] = buf.getInt();
+                    insert(timestamp, fileSize, objCount, ranges);
+                    continue;
+                }
+
+            } else if (type == RECORD_DELETE && buf.remaining() >= 8) {
+                remove(buf.getLong());
+                numDeleteRecords++;
+                continue;
+            }
+
+            // the last record has not been written completely; it is dropped
+            // with the next save
+            Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this,
+                "ignoring incomplete record at offset %d of version table %s", recordStart, vtFile);
+            buf.position(recordStart);
+            rewrite = true;
+            break;
+        }
+    }
+
+    private void loadLegacy(ReusableBuffer buf) {
+
+        while (buf.position() < buf.limit()) {
+
             final long timestamp = buf.getLong();
             final long fileSize = buf.getLong();
             final long numObjs = buf.getLong();
-            
+
             assert (numObjs <= Integer.MAX_VALUE) : "number of objects: " + numObjs + ", current limit = "
                 + Integer.MAX_VALUE;
             // TODO: solve this problem for files with more than
             // Integer.MAX_VALUE objects
-            
+
             final int[] objVersions = new int[(int) numObjs];
             for (int i = 0; i < objVersions.length; i++)
                 objVersions[i] = buf.getInt();
-            
-            addVersion(timestamp, objVersions, fileSize);
+
+            final Entry<Long, Version> prev = vt.lowerEntry(timestamp);
+            insert(timestamp, fileSize, objVersions.length, diff(prev == null ? NO_RANGES : prev.getValue()
+                    .materialize(), objVersions));
         }
-        
-        BufferPool.free(buf);
-        fi.close();
-        
     }
-    
+
     /**
-     * Stores the current content of the version table in a file.
-     * 
+     * Stores the current content of the version table in a file. Changes since
+     * the last load or save are appended to the file, unless the file has to
+     * be compacted or has been modified by another instance in the meantime.
+     *
      * @throws IOException
      *             if an I/O error occurs
      */
     public synchronized void save() throws IOException {
-        
+
         if (vtFile == null)
             throw new IOException("no target file specified");
-        
-        FileOutputStream fo = new FileOutputStream(vtFile);
-        
-        for (Entry<Long, Version> entry : vt.entrySet()) {
-            
-            ReusableBuffer buf = BufferPool.allocate((Long.SIZE / 8) * 3 + entry.getValue().getObjCount()
-                * Integer.SIZE / 8);
-            buf.putLong(entry.getKey());
-            buf.putLong(entry.getValue().getFileSize());
-            buf.putLong(entry.getValue().getObjCount());
-            for (int i = 0; i < entry.getValue().getObjCount(); i++)
-                buf.putInt(entry.getValue().getObjVersion(i));
-            
-            fo.write(buf.array());
-            BufferPool.free(buf);
+
+        if (!rewrite && pending.size() == 0)
+            return;
+
+        if (!rewrite && storedLength >= 0 && vtFile.length() == storedLength) {
+
+            FileOutputStream fo = new FileOutputStream(vtFile, true);
+            try {
+                pending.writeTo(fo);
+            } finally {
+                fo.close();
+            }
+            storedLength += pending.size();
+
+        } else {
+
+            File tmpFile = new File(vtFile.getPath() + ".tmp");
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)));
+            try {
+                out.writeLong(MAGIC);
+                for (Entry<Long, Version> entry : vt.entrySet())
+                    writeAddRecord(out, entry.getKey(), entry.getValue());
+            } finally {
+                out.close();
+            }
+            if (!tmpFile.renameTo(vtFile))
+                throw new IOException("cannot rename " + tmpFile + " to " + vtFile);
+
+            storedLength = vtFile.length();
+            numDeleteRecords = 0;
+            rewrite = false;
         }
-        
-        fo.close();
+
+        pending.reset();
     }
-    
+
     /**
      * Returns the latest version of a file stored in the table before the given
      * timestamp.
-     * 
+     *
      * @param timestamp
      *            the time stamp
      * @return the latest file version before <code>timestamp</code>.
      */
-    public Version getLatestVersionBefore(long timestamp) {
-        try {
-            return vt.get(vt.headMap(timestamp).lastKey());
-        } catch (NoSuchElementException exc) {
-            // if there is no file version before the given timestamp, return an
-            // empty file
-            return Version.EMPTY_VERSION;
-        }
+    public synchronized Version getLatestVersionBefore(long timestamp) {
+        Entry<Long, Version> entry = vt.lowerEntry(timestamp);
+        // if there is no file version before the given timestamp, return an
+        // empty file
+        return entry == null ? Version.EMPTY_VERSION : entry.getValue();
     }
-    
+
     /**
      * Adds a new file version to the table.
-     * 
+     *
      * @param timestamp
      *            the time stamp attached to the file version
      * @param objVersions
      *            the set of object versions attached to the file version
      */
-    public void addVersion(long timestamp, int[] objVersions, long fileSize) {
-        vt.put(timestamp, new Version(objVersions, fileSize));
+    public synchronized void addVersion(long timestamp, int[] objVersions, long fileSize) {
+
+        final Entry<Long, Version> prev = vt.lowerEntry(timestamp);
+        final int[] ranges = diff(prev == null ? NO_RANGES : prev.getValue().materialize(), objVersions);
+        insert(timestamp, fileSize, objVersions.length, ranges);
+
+        try {
+            writeAddRecord(new DataOutputStream(pending), timestamp, vt.get(timestamp));
+        } catch (IOException exc) {
+            // cannot happen with a ByteArrayOutputStream
+            throw new RuntimeException(exc);
+        }
     }
-    
+
     /**
      * Deletes a file version from the table.
-     * 
+     *
      * @param timestamp
      *            the timestamp attached to the file version
      */
-    public void deleteVersion(long timestamp) {
-        vt.remove(timestamp);
+    public synchronized void deleteVersion(long timestamp) {
+
+        if (!remove(timestamp))
+            return;
+
+        // compact the file once it contains more deletions than versions
+        if (++numDeleteRecords > vt.size()) {
+            rewrite = true;
+            pending.reset();
+            return;
+        }
+
+        try {
+            DataOutputStream out = new DataOutputStream(pending);
+            out.writeByte(RECORD_DELETE);
+            out.writeLong(timestamp);
+        } catch (IOException exc) {
+            // cannot happen with a ByteArrayOutputStream
+            throw new RuntimeException(exc);
+        }
     }
-    
+
     /**
      * Determines the set of object versions that can be cleaned up, under the
      * assumption that snapshots with the given timestamps exist. The
-     * corresponding file versions are removed from the version table.
-     * 
+     * corresponding file versions are removed from the version table, and the
+     * file is compacted with the next save.
+     *
      * @param timestamps
      *            a list of timestamps for which the object versions need to be
      *            preserved
@@ -206,26 +426,24 @@ public class VersionTable {
      *         are obsolete and may be deleted
      */
     public synchronized Map<Integer, Set<Integer>> cleanup(long[] timestamps) {
-        
-        SortedMap<Long, Version> cleanedTable = new TreeMap<Long, Version>(vt);
-        
+
         Map<Integer, Set<Integer>> result = new HashMap<Integer, Set<Integer>>();
-        
+
         // first, determine all file versions that are superseeded
-        
-        Long[] tsArray = cleanedTable.keySet().toArray(new Long[cleanedTable.size()]);
-        
+
+        Long[] tsArray = vt.keySet().toArray(new Long[vt.size()]);
+
         // no object versions to delete if no file versions exist
         if (tsArray.length == 0)
             return result;
-        
+
         // otherwise, check which versions are superseeded
-        SortedMap<Long, Version> superseeded = new TreeMap<Long, Version>();
+        List<Long> superseeded = new ArrayList<Long>();
         for (int i = 0; i < tsArray.length; i++) {
-            
+
             long currentTs = tsArray[i];
             long nextTs = i == tsArray.length - 1? Long.MAX_VALUE: tsArray[i + 1];
-            
+
             // check if there is a timestamp t in 'timestamps' with currentTs -
             // d_max < t < nextTs + d_max
             boolean isSuperseeded = true;
@@ -234,52 +452,58 @@ public class VersionTable {
                     isSuperseeded = false;
                     break;
                 }
-            
+
             if (isSuperseeded)
-                superseeded.put(currentTs, cleanedTable.get(currentTs));
-            
+                superseeded.add(currentTs);
+
         }
-        
-        // remove all superseeded versions
-        for (long ts : superseeded.keySet())
-            cleanedTable.remove(ts);
-        
-        // for all superseeded versions, check which objects do not occur in
-        // non-superseeded versions
-        for (Version v: superseeded.values()) {
-            
-            for (int i = 0; i < v.objVersions.length; i++) {
-                
-                int version = v.objVersions[i];
-                if (!isContained(i, version, cleanedTable)) {
-                    Set<Integer> versions = result.get(i);
-                    if (versions == null) {
-                        versions = new HashSet<Integer>();
-                        result.put(i, versions);
-                    }
-                    versions.add(version);
-                }
+
+        if (superseeded.isEmpty())
+            return result;
+
+        // each object version of a superseeded file version has been
+        // introduced by a superseeded version or is contained in a remaining
+        // one, so only the changes of superseeded versions need to be checked
+        Map<Integer, Set<Integer>> candidates = new HashMap<Integer, Set<Integer>>();
+        for (long ts : superseeded) {
+            int[] ranges = vt.get(ts).ranges;
+            for (int r = 0; r < ranges.length; r += 3) {
+                if (ranges[r + 2] == 0)
+                    continue;
+                for (int obj = ranges[r]; obj < ranges[r] + ranges[r + 1]; obj++)
+                    addTo(candidates, obj, ranges[r + 2]);
             }
         }
-        
-        vt = cleanedTable;
-        
+
+        // remove all superseeded versions
+        for (long ts : superseeded)
+            remove(ts);
+
+        // check which object versions do not occur in non-superseeded versions
+        for (Entry<Integer, Set<Integer>> entry : candidates.entrySet())
+            for (int version : entry.getValue())
+                if (!isContained(entry.getKey(), version))
+                    addTo(result, entry.getKey(), version);
+
+        rewrite = true;
+        pending.reset();
+
         return result;
     }
-    
+
     /**
      * Returns the total number of versions stored in the table.
-     * 
+     *
      * @return the number of versions
      */
-    public long getVersionCount() {
+    public synchronized long getVersionCount() {
         return vt.size();
     }
-    
+
     /**
      * Checks if the given version of the given object is contained in any of
      * the file versions.
-     * 
+     *
      * @param objNo
      *            the object number
      * @param objVer
@@ -287,22 +511,200 @@ public class VersionTable {
      * @return <code>true</code>, if it is contained, <code>false</code>,
      *         otherwise
      */
-    public boolean isContained(long objNo, long objVer) {
-        return isContained(objNo, objVer, vt);
-    }
-    
-    private static boolean isContained(long objNo, long objVer, SortedMap<Long, Version> vtable) {
-        
+    public synchronized boolean isContained(long objNo, long objVer) {
+
         assert (objNo <= Integer.MAX_VALUE);
-        
+
         if (objVer == 0)
             return false;
-        
-        for (Version versions : vtable.values())
-            if (objNo < versions.getObjCount() && objVer == versions.getObjVersion((int) objNo))
+
+        // the first version of the table is stored relative to an empty file,
+        // so any object version of a file version occurs in the changes of
+        // that or an earlier version
+        for (Version v : vt.values()) {
+            final int i = v.find((int) objNo);
+            if (i >= 0 && v.ranges[i + 2] == objVer)
                 return true;
-        
+        }
+
         return false;
     }
-    
+
+    /**
+     * Inserts a file version with the given changes relative to its
+     * predecessor. An existing version with the same time stamp is replaced.
+     */
+    private void insert(long timestamp, long fileSize, int objCount, int[] ranges) {
+
+        remove(timestamp);
+
+        final Entry<Long, Version> prev = vt.lowerEntry(timestamp);
+        final Entry<Long, Version> next = vt.higherEntry(timestamp);
+        final Version version = new Version(fileSize, objCount, ranges, prev == null ? null : prev.getValue());
+
+        // the successor has to be stored relative to the new version
+        if (next != null) {
+            final Version successor = next.getValue();
+            final int[] objVersions = successor.materialize();
+            successor.ranges = diff(version.materialize(), objVersions);
+            successor.prev = version;
+        }
+
+        vt.put(timestamp, version);
+    }
+
+    /**
+     * Removes a file version and merges its changes into the successor.
+     *
+     * @return <code>true</code> if the version existed
+     */
+    private boolean remove(long timestamp) {
+
+        final Version version = vt.remove(timestamp);
+        if (version == null)
+            return false;
+
+        final Entry<Long, Version> next = vt.higherEntry(timestamp);
+        if (next != null) {
+
+            final Version successor = next.getValue();
+
+            // objects truncated by the removed version have to be reset
+            // explicitly for the successor
+            int[] lower = version.ranges;
+            final int prevCount = version.prev == null ? 0 : version.prev.objCount;
+            if (prevCount > version.objCount) {
+                lower = new int[version.ranges.length + 3];
+                System.arraycopy(version.ranges, 0, lower, 0, version.ranges.length);
+                lower[version.ranges.length] = version.objCount;
+                lower[version.ranges.length + 1] = prevCount - version.objCount;
+                lower[version.ranges.length + 2] = 0;
+            }
+
+            successor.ranges = overlay(successor.ranges, lower, successor.objCount);
+            successor.prev = version.prev;
+        }
+
+        return true;
+    }
+
+    private static void writeAddRecord(DataOutputStream out, long timestamp, Version version) throws IOException {
+        out.writeByte(RECORD_ADD);
+        out.writeLong(timestamp);
+        out.writeLong(version.fileSize);
+        out.writeInt(version.objCount);
+        out.writeInt(version.ranges.length / 3);
+        for (int value : version.ranges)
+            out.writeInt(value);
+    }
+
+    /**
+     * @return the ranges of objects whose versions in <code>objVersions</code>
+     *         differ from the ones in <code>base</code>
+     */
+    private static int[] diff(int[] base, int[] objVersions) {
+        RangeBuilder ranges = new RangeBuilder();
+        for (int obj = 0; obj < objVersions.length; obj++)
+            if (objVersions[obj] != (obj < base.length ? base[obj] : 0))
+                ranges.add(obj, 1, objVersions[obj]);
+        return ranges.toArray();
+    }
+
+    /**
+     * Combines two sorted lists of ranges; ranges in <code>upper</code> take
+     * precedence over overlapping ranges in <code>lower</code>. Objects at or
+     * beyond <code>limit</code> are omitted.
+     */
+    private static int[] overlay(int[] upper, int[] lower, int limit) {
+
+        // determine the parts of the lower ranges not covered by upper ranges
+        RangeBuilder uncovered = new RangeBuilder();
+        int u = 0;
+        for (int l = 0; l < lower.length; l += 3) {
+
+            int pos = lower[l];
+            final int end = Math.min(lower[l] + lower[l + 1], limit);
+
+            while (u < upper.length && upper[u] + upper[u + 1] <= pos)
+                u += 3;
+
+            for (int k = u; pos < end; k += 3) {
+                if (k < upper.length && upper[k] < end) {
+                    if (upper[k] > pos)
+                        uncovered.add(pos, upper[k] - pos, lower[l + 2]);
+                    pos = Math.max(pos, upper[k] + upper[k + 1]);
+                } else {
+                    uncovered.add(pos, end - pos, lower[l + 2]);
+                    pos = end;
+                }
+            }
+        }
+        final int[] rest = uncovered.toArray();
+
+        // merge both lists
+        RangeBuilder result = new RangeBuilder();
+        int i = 0;
+        int j = 0;
+        while (i < upper.length || j < rest.length) {
+            if (j >= rest.length || (i < upper.length && upper[i] < rest[j])) {
+                if (upper[i] < limit)
+                    result.add(upper[i], Math.min(upper[i + 1], limit - upper[i]), upper[i + 2]);
+                i += 3;
+            } else {
+                result.add(rest[j], rest[j + 1], rest[j + 2]);
+                j += 3;
+            }
+        }
+
+        return result.toArray();
+    }
+
+    private static void addTo(Map<Integer, Set<Integer>> map, int objNo, int version) {
+        Set<Integer> versions = map.get(objNo);
+        if (versions == null) {
+            versions = new HashSet<Integer>();
+            map.put(objNo, versions);
+        }
+        versions.add(version);
+    }
+
+    /**
+     * Collects ranges in ascending order and joins adjacent ranges with the
+     * same object version.
+     */
+    private static final class RangeBuilder {
+
+        private int[] ranges = new int[12];
+
+        private int   length;
+
+        void add(int start, int count, int version) {
+
+            if (count <= 0)
+                return;
+
+            if (length > 0 && ranges[length - 3] + ranges[length - 2] == start && ranges[length - 1] == version) {
+                ranges[length - 2] += count;
+                return;
+            }
+
+            if (length == ranges.length) {
+                int[] tmp = new int[ranges.length * 2];
+                System.arraycopy(ranges, 0, tmp, 0, length);
+                ranges = tmp;
+            }
+            ranges[length++] = start;
+            ranges[length++] = count;
+            ranges[length++] = version;
+        }
+
+        int[] toArray() {
+            if (length == 0)
+                return NO_RANGES;
+            int[] result = new int[length];
+            System.arraycopy(ranges, 0, result, 0, length);
+            return result;
+        }
+    }
+
 }
@@ -0,0 +1,701 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
+
+/**
+ * A write journal on a fast device (SSD), which allows the OSD to acknowledge
+ * synchronous writes as soon as they have been appended to the journal. The
+ * object files are written without synchronization and are made durable
+ * ("destaged") later on, at which point the journal records of the file are
+ * retired. Repeated writes of the same object between two destage operations
+ * are coalesced into a single synchronization of the object file.
+ * <p>
+ * The journal consists of segment files that are deleted in order once all of
+ * their write records have been retired. A retire record is appended for each
+ * destaged file, so that records retired before a truncate or delete are never
+ * replayed. After a crash, {@link #replay(StorageLayout)} applies all write
+ * records that have not been retired to the storage layout.
+ * <p>
+ * Writes and destage operations of a file are expected to be executed by the
+ * storage thread that is responsible for the file. Synchronous appends of
+ * different storage threads are made stable by a single synchronization of the
+ * journal ("group commit"), which takes place outside of the journal's lock.
+ */
+public class WriteJournal {
+
+    public static final String                      SEGMENT_PREFIX   = "journal.";
+
+    public static final long                        DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+
+    private static final int                        RECORD_WRITE     = 1;
+
+    private static final int                        RECORD_RETIRE    = 2;
+
+    /** a write record that holds the complete object */
+    private static final int                        RECORD_OBJECT    = 3;
+
+    /** size of the length and checksum fields of a record */
+    private static final int                        RECORD_OVERHEAD  = 8;
+
+    private final File                              dir;
+
+    private final long                              maxBacklogBytes;
+
+    private final long                              segmentSize;
+
+    /** number of write records per segment that have not been retired yet */
+    private final TreeMap<Long, Integer>            liveRecords;
+
+    /** files with records that have not been retired, oldest first */
+    private final LinkedHashMap<String, DirtyFile>  dirtyFiles;
+
+    private long                                    currentSegment;
+
+    private FileChannel                             channel;
+
+    private RandomAccessFile                        segmentFile;
+
+    private long                                    segmentBytes;
+
+    /** number of records written to the journal */
+    private long                                    writtenRecords;
+
+    /** number of records known to be stable */
+    private long                                    stableRecords;
+
+    /** true while a thread synchronizes the current segment */
+    private boolean                                 forcing;
+
+    private long                                    backlogBytes;
+
+    private long                                    backlogRecords;
+
+    private long                                    destagedBytes;
+
+    private long                                    bypassedWrites;
+
+    private final CRC32                             crc;
+
+    public WriteJournal(String dir, long maxBacklogBytes, long segmentSize) throws IOException {
+
+        this.dir = new File(dir);
+        this.maxBacklogBytes = maxBacklogBytes;
+        this.segmentSize = segmentSize;
+        this.liveRecords = new TreeMap<Long, Integer>();
+        this.dirtyFiles = new LinkedHashMap<String, DirtyFile>();
+        this.crc = new CRC32();
+
+        if (!this.dir.exists() && !this.dir.mkdirs())
+            throw new IOException("unable to create journal directory: " + this.dir.getAbsolutePath());
+    }
+
+    /**
+     * Applies all write records that have not been retired to the storage
+     * layout, synchronizes the written objects and deletes the journal
+     * segments. Must be called before the journal is used, and before the
+     * journal is attached to the layout.
+     *
+     * @return the number of replayed write records
+     */
+    public int replay(StorageLayout layout) throws IOException {
+
+        List<Long> segments = listSegments();
+
+        // collect the records that have not been retired, per file
+        Map<String, List<Record>> pending = new LinkedHashMap<String, List<Record>>();
+        boolean corrupt = false;
+        for (Iterator<Long> it = segments.iterator(); it.hasNext() && !corrupt;) {
+            long seq = it.next();
+            FileInputStream in = new FileInputStream(getSegmentFile(seq));
+            try {
+                FileChannel ch = in.getChannel();
+                while (true) {
+                    Record rec = readRecord(ch, seq);
+                    if (rec == null) {
+                        // a torn record can only be the last one
+                        corrupt = ch.position() < ch.size();
+                        break;
+                    }
+                    if (rec.type == RECORD_RETIRE) {
+                        pending.remove(rec.fileId);
+                    } else {
+                        List<Record> records = pending.get(rec.fileId);
+                        if (records == null) {
+                            records = new ArrayList<Record>();
+                            pending.put(rec.fileId, records);
+                        }
+                        records.add(rec);
+                    }
+                }
+            } finally {
+                in.close();
+            }
+        }
+        if (corrupt)
+            Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this,
+                "write journal contains an incomplete or corrupt record, skipped the remaining records");
+
+        int numReplayed = 0;
+        for (Map.Entry<String, List<Record>> e : pending.entrySet()) {
+            final String fileId = e.getKey();
+            final List<Record> records = e.getValue();
+            final FileMetadata md = layout.getFileMetadataNoCaching(records.get(0).sp, fileId);
+            for (Record rec : records) {
+                // the object has been overwritten by a newer version
+                if (md.getLatestObjectVersion(rec.objNo) > rec.version)
+                    continue;
+                // the object file may be incomplete, it is replaced by the
+                // record
+                if (rec.type == RECORD_OBJECT && md.getLatestObjectVersion(rec.objNo) == rec.version)
+                    layout.deleteObject(fileId, md, rec.objNo, rec.version);
+                ReusableBuffer data = readData(rec);
+                layout.writeObject(fileId, md, data, rec.objNo, rec.offset, rec.version, true, false);
+                numReplayed++;
+            }
+        }
+
+        for (long seq : segments)
+            getSegmentFile(seq).delete();
+
+        currentSegment = segments.isEmpty() ? 0 : segments.get(segments.size() - 1) + 1;
+        openSegment();
+
+        if (numReplayed > 0)
+            Logging.logMessage(Logging.LEVEL_INFO, Category.storage, this,
+                "replayed %d records from the write journal for %d files", numReplayed, pending.size());
+
+        return numReplayed;
+    }
+
+    /**
+     * Appends a write to the journal. The data buffer is not modified.
+     *
+     * @param completeObject
+     *            if <code>true</code>, the data is the complete object, which
+     *            replaces the object file when the record is replayed
+     * @param sync
+     *            if <code>true</code>, the record is stable when the method
+     *            returns
+     */
+    public void append(String fileId, StripingPolicyImpl sp, long objNo, int offset, long version,
+        ReusableBuffer data, boolean completeObject, boolean sync) throws IOException {
+
+        final long seq;
+        synchronized (this) {
+            seq = appendWrite(fileId, sp, objNo, offset, version, data, completeObject);
+        }
+
+        if (sync)
+            awaitStable(seq);
+    }
+
+    /**
+     * @return the sequence number of the write record
+     */
+    private long appendWrite(String fileId, StripingPolicyImpl sp, long objNo, int offset, long version,
+        ReusableBuffer data, boolean completeObject) throws IOException {
+
+        final byte[] fid = fileId.getBytes("UTF-8");
+        final byte[] policy = sp.getPolicy().toByteArray();
+        final ByteBuffer payload = data.getBuffer().duplicate();
+        payload.position(0);
+
+        final ByteBuffer header = ByteBuffer.allocate(4 + 4 + 2 + fid.length + 4 + policy.length + 4 + 8 + 4 + 8
+            + 4);
+        final int length = header.capacity() - 4 + payload.remaining();
+        header.putInt(length);
+        header.putInt(completeObject ? RECORD_OBJECT : RECORD_WRITE);
+        header.putShort((short) fid.length);
+        header.put(fid);
+        header.putInt(policy.length);
+        header.put(policy);
+        header.putInt(sp.getRelativeOSDPosition());
+        header.putLong(objNo);
+        header.putInt(offset);
+        header.putLong(version);
+        header.putInt(payload.remaining());
+        header.flip();
+
+        final long dataLength = payload.remaining();
+        writeRecord(header, payload, length + RECORD_OVERHEAD);
+
+        DirtyFile file = dirtyFiles.get(fileId);
+        if (file == null) {
+            file = new DirtyFile(fileId, sp);
+            dirtyFiles.put(fileId, file);
+        }
+        file.add(currentSegment, objNo, version, dataLength);
+        Integer live = liveRecords.get(currentSegment);
+        liveRecords.put(currentSegment, live == null ? 1 : live + 1);
+        backlogBytes += dataLength;
+        backlogRecords++;
+
+        return writtenRecords;
+    }
+
+    /**
+     * @return <code>true</code>, if the destage backlog has reached its
+     *         maximum size, in which case writes should bypass the journal
+     */
+    public synchronized boolean isFull() {
+        return backlogBytes >= maxBacklogBytes;
+    }
+
+    /**
+     * Records that a write bypassed the journal because it was full.
+     */
+    public synchronized void bypassed() {
+        bypassedWrites++;
+    }
+
+    /**
+     * @return the records of the file that have not been retired, or
+     *         <code>null</code> if there are none
+     */
+    public synchronized DirtyFile getDirtyFile(String fileId) {
+        return dirtyFiles.get(fileId);
+    }
+
+    /**
+     * @return up to <code>max</code> files with records that have not been
+     *         retired and that were first written before the given time,
+     *         oldest first
+     */
+    public synchronized List<DirtyFile> getDirtyFiles(int max, long writtenBefore) {
+        List<DirtyFile> files = new ArrayList<DirtyFile>();
+        for (DirtyFile file : dirtyFiles.values()) {
+            if (files.size() >= max || file.firstWrite > writtenBefore)
+                break;
+            files.add(file);
+        }
+        return files;
+    }
+
+    /**
+     * Retires all records of a file after its objects have been synchronized,
+     * or because the file has been deleted. The retire record is stable when
+     * the method returns.
+     */
+    public void retire(DirtyFile file) throws IOException {
+
+        final long seq;
+        synchronized (this) {
+            seq = appendRetire(file);
+        }
+
+        if (seq > 0)
+            awaitStable(seq);
+    }
+
+    /**
+     * @return the sequence number of the retire record, 0 if the file has
+     *         already been retired
+     */
+    private long appendRetire(DirtyFile file) throws IOException {
+
+        if (dirtyFiles.get(file.fileId) != file)
+            return 0;
+        dirtyFiles.remove(file.fileId);
+
+        final byte[] fid = file.fileId.getBytes("UTF-8");
+        final ByteBuffer header = ByteBuffer.allocate(4 + 4 + 2 + fid.length);
+        final int length = header.capacity() - 4;
+        header.putInt(length);
+        header.putInt(RECORD_RETIRE);
+        header.putShort((short) fid.length);
+        header.put(fid);
+        header.flip();
+        writeRecord(header, null, length + RECORD_OVERHEAD);
+
+        // the segments deleted below only contain retired records, so that
+        // they may be deleted before the retire record is stable
+        for (Map.Entry<Long, Integer> e : file.segments.entrySet())
+            liveRecords.put(e.getKey(), liveRecords.get(e.getKey()) - e.getValue());
+        backlogBytes -= file.bytes;
+        backlogRecords -= file.records;
+        destagedBytes += file.bytes;
+
+        // segments can only be deleted in order, since a retire record must
+        // not be deleted before the records it refers to
+        for (Iterator<Map.Entry<Long, Integer>> it = liveRecords.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<Long, Integer> e = it.next();
+            if (e.getValue() > 0 || e.getKey() == currentSegment)
+                break;
+            getSegmentFile(e.getKey()).delete();
+            it.remove();
+        }
+
+        return writtenRecords;
+    }
+
+    /**
+     * Retires all records of a deleted file.
+     */
+    public void discard(String fileId) throws IOException {
+        final long seq;
+        synchronized (this) {
+            DirtyFile file = dirtyFiles.get(fileId);
+            if (file == null)
+                return;
+            seq = appendRetire(file);
+            destagedBytes -= file.bytes;
+        }
+        awaitStable(seq);
+    }
+
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            awaitNoForce(Long.MAX_VALUE);
+            force();
+            segmentFile.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * @return the number of bytes written to the journal but not destaged yet
+     */
+    public synchronized long getBacklogBytes() {
+        return backlogBytes;
+    }
+
+    /**
+     * @return the number of writes that have not been destaged yet
+     */
+    public synchronized long getBacklogRecords() {
+        return backlogRecords;
+    }
+
+    /**
+     * @return the number of files with writes that have not been destaged yet
+     */
+    public synchronized int getNumDirtyFiles() {
+        return dirtyFiles.size();
+    }
+
+    /**
+     * @return the number of journal segments on disk
+     */
+    public synchronized int getNumSegments() {
+        return liveRecords.size();
+    }
+
+    /**
+     * @return the number of bytes destaged since the OSD was started
+     */
+    public synchronized long getDestagedBytes() {
+        return destagedBytes;
+    }
+
+    /**
+     * @return the number of writes that bypassed the journal because the
+     *         backlog was full
+     */
+    public synchronized long getBypassedWrites() {
+        return bypassedWrites;
+    }
+
+    private void writeRecord(ByteBuffer header, ByteBuffer payload, int recordLength) throws IOException {
+
+        // the segment must not be closed while another thread synchronizes it
+        if (segmentBytes > 0 && segmentBytes + recordLength > segmentSize)
+            awaitNoForce(Long.MAX_VALUE);
+        if (segmentBytes > 0 && segmentBytes + recordLength > segmentSize) {
+            force();
+            segmentFile.close();
+            currentSegment++;
+            openSegment();
+        }
+
+        crc.reset();
+        crc.update(header.array(), 4, header.limit() - 4);
+        if (payload != null)
+            crc.update(toArray(payload));
+        final ByteBuffer trailer = ByteBuffer.allocate(4);
+        trailer.putInt((int) crc.getValue());
+        trailer.flip();
+
+        final ByteBuffer[] buffers = payload == null ? new ByteBuffer[] { header, trailer } : new ByteBuffer[] {
+            header, payload, trailer };
+        while (trailer.hasRemaining())
+            channel.write(buffers);
+
+        segmentBytes += recordLength;
+        writtenRecords++;
+    }
+
+    /**
+     * Waits until the record with the given sequence number is stable. If no
+     * other thread is synchronizing the journal, the calling thread
+     * synchronizes all records written so far, otherwise it waits for the
+     * other thread and checks again. Must not be called with the lock held.
+     */
+    private void awaitStable(long seq) throws IOException {
+
+        final FileChannel ch;
+        final long written;
+        synchronized (this) {
+            awaitNoForce(seq);
+            if (stableRecords >= seq)
+                return;
+            forcing = true;
+            ch = channel;
+            written = writtenRecords;
+        }
+
+        boolean forced = false;
+        try {
+            ch.force(false);
+            forced = true;
+        } finally {
+            synchronized (this) {
+                forcing = false;
+                if (forced && written > stableRecords)
+                    stableRecords = written;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Synchronizes the current segment. Must be called with the lock held and
+     * no other thread synchronizing the segment.
+     */
+    private void force() throws IOException {
+        if (stableRecords < writtenRecords) {
+            channel.force(false);
+            stableRecords = writtenRecords;
+        }
+    }
+
+    /**
+     * Waits until no other thread synchronizes the current segment, or until
+     * the record with the given sequence number is stable. Must be called with
+     * the lock held.
+     */
+    private void awaitNoForce(long seq) {
+        boolean interrupted = false;
+        while (forcing && stableRecords < seq) {
+            try {
+                wait();
+            } catch (InterruptedException ex) {
+                // the record has been written and has to be made stable
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    private void openSegment() throws IOException {
+        segmentFile = new RandomAccessFile(getSegmentFile(currentSegment), "rw");
+        segmentFile.setLength(0);
+        channel = segmentFile.getChannel();
+        segmentBytes = 0;
+        liveRecords.put(currentSegment, 0);
+    }
+
+    private File getSegmentFile(long seq) {
+        return new File(dir, SEGMENT_PREFIX + String.format("%016d", seq));
+    }
+
+    private List<Long> listSegments() {
+        List<Long> segments = new ArrayList<Long>();
+        String[] names = dir.list();
+        if (names != null) {
+            for (String name : names) {
+                if (!name.startsWith(SEGMENT_PREFIX))
+                    continue;
+                try {
+                    segments.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length())));
+                } catch (NumberFormatException ex) {
+                    // not a segment
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private Record readRecord(FileChannel ch, long seq) throws IOException {
+
+        final long start = ch.position();
+        final ByteBuffer lengthBuf = ByteBuffer.allocate(4);
+        if (!readFully(ch, lengthBuf))
+            return null;
+        final int length = lengthBuf.getInt(0);
+        if (length < 6 || start + length + RECORD_OVERHEAD > ch.size())
+            return null;
+
+        final ByteBuffer body = ByteBuffer.allocate(length);
+        final ByteBuffer trailer = ByteBuffer.allocate(4);
+        readFully(ch, body);
+        readFully(ch, trailer);
+        crc.reset();
+        crc.update(body.array());
+        if ((int) crc.getValue() != trailer.getInt(0)) {
+            ch.position(start);
+            return null;
+        }
+
+        body.flip();
+        Record rec = new Record();
+        rec.type = body.getInt();
+        byte[] fid = new byte[body.getShort()];
+        body.get(fid);
+        rec.fileId = new String(fid, "UTF-8");
+        if (rec.type == RECORD_WRITE || rec.type == RECORD_OBJECT) {
+            byte[] policy = new byte[body.getInt()];
+            body.get(policy);
+            int relOsdPosition = body.getInt();
+            rec.sp = StripingPolicyImpl.getPolicy(Replica.newBuilder().setReplicationFlags(0).setStripingPolicy(
+                StripingPolicy.parseFrom(policy)).build(), relOsdPosition);
+            rec.objNo = body.getLong();
+            rec.offset = body.getInt();
+            rec.version = body.getLong();
+            rec.dataLength = body.getInt();
+            rec.segment = seq;
+            rec.dataPosition = start + 4 + body.position();
+        }
+        return rec;
+    }
+
+    private ReusableBuffer readData(Record rec) throws IOException {
+        ReusableBuffer data = BufferPool.allocate(rec.dataLength);
+        FileInputStream in = new FileInputStream(getSegmentFile(rec.segment));
+        try {
+            FileChannel ch = in.getChannel();
+            ch.position(rec.dataPosition);
+            readFully(ch, data.getBuffer());
+        } finally {
+            in.close();
+        }
+        data.flip();
+        return data;
+    }
+
+    private static boolean readFully(FileChannel ch, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) {
+            if (ch.read(buf) < 0)
+                return false;
+        }
+        return true;
+    }
+
+    private static byte[] toArray(ByteBuffer buf) {
+        ByteBuffer copy = buf.duplicate();
+        byte[] bytes = new byte[copy.remaining()];
+        copy.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * The writes of a file that have not been destaged yet.
+     */
+    public static final class DirtyFile {
+
+        private final String                fileId;
+
+        private final StripingPolicyImpl    sp;
+
+        private final long                  firstWrite;
+
+        /** written versions per object */
+        private final Map<Long, Set<Long>>  objects;
+
+        /** number of records per journal segment */
+        private final Map<Long, Integer>    segments;
+
+        private long                        bytes;
+
+        private long                        records;
+
+        DirtyFile(String fileId, StripingPolicyImpl sp) {
+            this.fileId = fileId;
+            this.sp = sp;
+            this.firstWrite = System.currentTimeMillis();
+            this.objects = new HashMap<Long, Set<Long>>();
+            this.segments = new HashMap<Long, Integer>();
+        }
+
+        void add(long segment, long objNo, long version, long dataLength) {
+            Set<Long> versions = objects.get(objNo);
+            if (versions == null) {
+                versions = new HashSet<Long>();
+                objects.put(objNo, versions);
+            }
+            versions.add(version);
+            Integer count = segments.get(segment);
+            segments.put(segment, count == null ? 1 : count + 1);
+            bytes += dataLength;
+            records++;
+        }
+
+        public String getFileId() {
+            return fileId;
+        }
+
+        public StripingPolicyImpl getStripingPolicy() {
+            return sp;
+        }
+
+        /**
+         * @return the versions written per object
+         */
+        public Map<Long, Set<Long>> getObjects() {
+            return objects;
+        }
+    }
+
+    private static final class Record {
+
+        int                type;
+
+        String             fileId;
+
+        StripingPolicyImpl sp;
+
+        long               objNo;
+
+        int                offset;
+
+        long               version;
+
+        int                dataLength;
+
+        long               segment;
+
+        long               dataPosition;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage.benchmark;
+
+/**
+ * A log-linear latency histogram with a fixed memory footprint. Values below 32 are counted exactly, larger
+ * values are counted in 16 linear sub-buckets per power of two, i.e. with a relative error of at most
+ * 1/16.
+ * <p/>
+ *
+ * Instances are not thread-safe. Each benchmark thread records into its own histogram, the histograms are
+ * merged after the run.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS  = 4;
+
+    private static final int SUB_BUCKETS      = 1 << SUB_BUCKET_BITS;
+
+    private static final int LINEAR_LIMIT     = 2 * SUB_BUCKETS;
+
+    private static final int LINEAR_EXPONENT  = 5;
+
+    private static final int NUM_BUCKETS      = LINEAR_LIMIT + (64 - LINEAR_EXPONENT) * SUB_BUCKETS;
+
+    private final long[]     counts;
+
+    private long             totalCount;
+
+    private long             max;
+
+    private long             sum;
+
+    public LatencyHistogram() {
+        counts = new long[NUM_BUCKETS];
+    }
+
+    /**
+     * Records a single value, e.g. a latency in microseconds.
+     *
+     * @param value
+     *            a value &gt;= 0
+     */
+    public void record(long value) {
+        if (value < 0)
+            value = 0;
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        sum += value;
+        if (value > max)
+            max = value;
+    }
+
+    /**
+     * Adds all values recorded by <code>other</code> to this histogram.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < NUM_BUCKETS; i++)
+            counts[i] += other.counts[i];
+        totalCount += other.totalCount;
+        sum += other.sum;
+        if (other.max > max)
+            max = other.max;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * Returns the (approximated) value at the given percentile.
+     *
+     * @param percentile
+     *            the percentile, between 0 and 100
+     * @return the upper bound of the bucket containing the percentile, but at most the largest recorded
+     *         value
+     */
+    public long getPercentile(double percentile) {
+        if (totalCount == 0)
+            return 0;
+
+        long rank = (long) Math.ceil(percentile / 100.0 * totalCount);
+        if (rank < 1)
+            rank = 1;
+
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank)
+                return Math.min(bucketUpperBound(i), max);
+        }
+        return max;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT)
+            return (int) value;
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - LINEAR_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT)
+            return index;
+        final int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_EXPONENT;
+        final long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        final long lowerBound = (1L << exponent) + (subBucket << (exponent - SUB_BUCKET_BITS));
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
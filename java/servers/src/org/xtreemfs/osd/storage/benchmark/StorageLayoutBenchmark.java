@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage.benchmark;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.checksums.ChecksumFactory;
+import org.xtreemfs.foundation.checksums.provider.JavaChecksumProvider;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.stages.StorageStage;
+import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.osd.storage.ObjectInformation;
+import org.xtreemfs.osd.storage.StorageLayout;
+import org.xtreemfs.osd.storage.benchmark.StorageLayoutBenchmarkResult.Operation;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+
+/**
+ * Drives a {@link StorageLayout} implementation directly, i.e. without any network or stage overhead.
+ * <p/>
+ *
+ * Each benchmark thread plays the role of one {@link org.xtreemfs.osd.storage.StorageThread}: the benchmark
+ * files are distributed over the threads with the same hash function the {@link StorageStage} uses, and a
+ * thread only accesses the files it is responsible for. Object versions are chosen the same way the storage
+ * threads choose them, so that checksums and copy-on-write cause the same on-disk effects as in a running
+ * OSD.
+ */
+public class StorageLayoutBenchmark {
+
+    private static final String                FILE_ID_PREFIX = "BENCHMARK0-0000-0000-0000-000000000000:";
+
+    private final StorageLayoutBenchmarkConfig config;
+
+    private final StorageLayout                layout;
+
+    private final StripingPolicyImpl           sp;
+
+    private final List<List<String>>           filesPerThread;
+
+    public StorageLayoutBenchmark(StorageLayoutBenchmarkConfig config) throws IOException {
+        this.config = config;
+
+        Properties props = new Properties();
+        if (config.getOSDProperties() != null)
+            props.putAll(config.getOSDProperties());
+        else
+            props.putAll(createDefaultOSDProperties());
+        props.setProperty("object_dir", config.getObjectDir());
+        props.setProperty("checksums.enabled", Boolean.toString(config.isChecksums()));
+        props.setProperty("checksums.algorithm", config.getChecksumAlgorithm());
+
+        OSDConfig osdConfig = new OSDConfig(props);
+        osdConfig.setDefaults();
+
+        if (config.isChecksums())
+            ChecksumFactory.getInstance().addProvider(new JavaChecksumProvider());
+
+        layout = createLayout(config.getLayoutName(), osdConfig, new MetadataCache());
+
+        Replica r = Replica.newBuilder().setReplicationFlags(0).setStripingPolicy(
+                StripingPolicy.newBuilder().setType(StripingPolicyType.STRIPING_POLICY_RAID0).setWidth(1)
+                        .setStripeSize(config.getObjectSize() / 1024)).build();
+        sp = StripingPolicyImpl.getPolicy(r, 0);
+
+        // assign the files to the threads like the StorageStage does
+        filesPerThread = new ArrayList<List<String>>(config.getNumThreads());
+        for (int i = 0; i < config.getNumThreads(); i++)
+            filesPerThread.add(new ArrayList<String>(config.getFilesPerThread()));
+
+        int assigned = 0;
+        for (long n = 0; assigned < config.getNumThreads() * config.getFilesPerThread(); n++) {
+            final String fileId = FILE_ID_PREFIX + n;
+            final List<String> files = filesPerThread.get(StorageStage.getTaskId(fileId, config
+                    .getNumThreads()));
+            if (files.size() < config.getFilesPerThread()) {
+                files.add(fileId);
+                assigned++;
+            }
+        }
+    }
+
+    /**
+     * Instantiates a storage layout by its class name.
+     *
+     * @param layoutName
+     *            simple class name of a layout in <code>org.xtreemfs.osd.storage</code> or a fully qualified
+     *            class name
+     * @throws IOException
+     *             if the layout cannot be initialized on the object directory
+     */
+    public static StorageLayout createLayout(String layoutName, OSDConfig osdConfig, MetadataCache cache)
+            throws IOException {
+        final String className = layoutName.indexOf('.') == -1 ? StorageLayout.class.getPackage().getName()
+                + "." + layoutName : layoutName;
+        try {
+            Class<? extends StorageLayout> clazz = Class.forName(className).asSubclass(StorageLayout.class);
+            Constructor<? extends StorageLayout> c = clazz.getConstructor(OSDConfig.class, MetadataCache.class);
+            return c.newInstance(osdConfig, cache);
+        } catch (InvocationTargetException ex) {
+            if (ex.getCause() instanceof IOException)
+                throw (IOException) ex.getCause();
+            throw new IllegalArgumentException("cannot instantiate storage layout " + className, ex.getCause());
+        } catch (Exception ex) {
+            throw new IllegalArgumentException("unknown storage layout: " + layoutName, ex);
+        }
+    }
+
+    public StorageLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Executes the fill phase and the mixed phase.
+     *
+     * @return one result for the fill phase and one for each operation type of the mixed phase that was
+     *         executed at least once
+     * @throws Exception
+     *             if one of the benchmark threads failed
+     */
+    public List<StorageLayoutBenchmarkResult> run() throws Exception {
+
+        List<StorageLayoutBenchmarkResult> results = new ArrayList<StorageLayoutBenchmarkResult>();
+
+        Logging.logMessage(Logging.LEVEL_INFO, Category.tool, this, "starting fill phase: %s", config);
+        results.addAll(runPhase(true));
+
+        if (config.getOperationsPerThread() > 0) {
+            Logging.logMessage(Logging.LEVEL_INFO, Category.tool, this, "starting mixed phase");
+            results.addAll(runPhase(false));
+        }
+
+        return results;
+    }
+
+    /**
+     * Deletes all files written by the benchmark.
+     */
+    public void cleanup() throws IOException {
+        for (List<String> files : filesPerThread)
+            for (String fileId : files)
+                layout.deleteFile(fileId, true);
+    }
+
+    private List<StorageLayoutBenchmarkResult> runPhase(boolean fill) throws Exception {
+
+        final CountDownLatch startGate = new CountDownLatch(1);
+        final BenchmarkThread[] threads = new BenchmarkThread[config.getNumThreads()];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new BenchmarkThread(i, filesPerThread.get(i), fill, startGate);
+            threads[i].start();
+        }
+
+        final long tStart = System.nanoTime();
+        startGate.countDown();
+        for (BenchmarkThread th : threads)
+            th.join();
+        final double timeInSec = (System.nanoTime() - tStart) / 1e9;
+
+        for (BenchmarkThread th : threads) {
+            if (th.error != null)
+                throw new Exception("benchmark thread " + th.getName() + " failed: " + th.error, th.error);
+        }
+
+        // merge the per-thread statistics
+        List<StorageLayoutBenchmarkResult> results = new ArrayList<StorageLayoutBenchmarkResult>();
+        for (Operation op : Operation.values()) {
+            LatencyHistogram merged = new LatencyHistogram();
+            long bytes = 0;
+            for (BenchmarkThread th : threads) {
+                OperationStats stats = th.stats.get(op);
+                merged.add(stats.latencies);
+                bytes += stats.bytes;
+            }
+            if (merged.getTotalCount() > 0)
+                results.add(new StorageLayoutBenchmarkResult(op, threads.length, timeInSec, bytes, merged));
+        }
+        return results;
+    }
+
+    private static Properties createDefaultOSDProperties() {
+        Properties props = new Properties();
+        props.setProperty("dir_service.host", "localhost");
+        props.setProperty("dir_service.port", "32638");
+        props.setProperty("listen.port", "32640");
+        props.setProperty("http_port", "30640");
+        props.setProperty("local_clock_renewal", "0");
+        props.setProperty("remote_time_sync", "60000");
+        props.setProperty("ssl.enabled", "false");
+        props.setProperty("report_free_space", "true");
+        props.setProperty("capability_secret", "secretPassphrase");
+        props.setProperty("uuid", "storage-layout-benchmark");
+        return props;
+    }
+
+    private static final class OperationStats {
+
+        final LatencyHistogram latencies = new LatencyHistogram();
+
+        long                   bytes;
+
+        void record(long tStartNanos, long bytes) {
+            latencies.record((System.nanoTime() - tStartNanos) / 1000);
+            this.bytes += bytes;
+        }
+    }
+
+    private final class BenchmarkThread extends Thread {
+
+        private final List<String>                      files;
+
+        private final boolean                           fill;
+
+        private final CountDownLatch                    startGate;
+
+        private final Random                            random;
+
+        private final ReusableBuffer                    data;
+
+        private final EnumMap<Operation, OperationStats> stats;
+
+        private volatile Throwable                      error;
+
+        BenchmarkThread(int index, List<String> files, boolean fill, CountDownLatch startGate) {
+            super("LayoutBenchmark-" + index);
+            this.files = files;
+            this.fill = fill;
+            this.startGate = startGate;
+            this.random = new Random(config.getSeed() + index + (fill ? 0 : config.getNumThreads()));
+            this.stats = new EnumMap<Operation, OperationStats>(Operation.class);
+            for (Operation op : Operation.values())
+                stats.put(op, new OperationStats());
+
+            byte[] pattern = new byte[config.getObjectSize()];
+            random.nextBytes(pattern);
+            data = BufferPool.allocate(pattern.length);
+            data.put(pattern);
+            data.flip();
+        }
+
+        @Override
+        public void run() {
+            try {
+                startGate.await();
+                if (fill)
+                    fill();
+                else
+                    mix();
+            } catch (Throwable th) {
+                error = th;
+            } finally {
+                BufferPool.free(data);
+            }
+        }
+
+        private void fill() throws IOException {
+            for (String fileId : files) {
+                final FileMetadata md = layout.getFileMetadata(sp, fileId);
+                for (long objNo = 0; objNo < config.getObjectsPerFile(); objNo++) {
+                    final long tStart = System.nanoTime();
+                    write(fileId, md, objNo, 0, config.getObjectSize());
+                    stats.get(Operation.FILL).record(tStart, config.getObjectSize());
+                }
+            }
+        }
+
+        private void mix() throws IOException {
+            final int total = config.getReadWeight() + config.getWriteWeight() + config.getOverwriteWeight()
+                    + config.getTruncateWeight();
+
+            for (int i = 0; i < config.getOperationsPerThread(); i++) {
+
+                final String fileId = files.get(random.nextInt(files.size()));
+                final FileMetadata md = layout.getFileMetadata(sp, fileId);
+                final long objNo = random.nextInt(config.getObjectsPerFile());
+
+                int r = random.nextInt(total);
+                final long tStart = System.nanoTime();
+
+                if ((r -= config.getReadWeight()) < 0) {
+                    ObjectInformation obj = layout.readObject(fileId, md, objNo, 0,
+                            StorageLayout.FULL_OBJECT_LENGTH, md.getLatestObjectVersion(objNo));
+                    int length = 0;
+                    if (obj.getData() != null) {
+                        length = obj.getData().remaining();
+                        BufferPool.free(obj.getData());
+                    }
+                    stats.get(Operation.READ).record(tStart, length);
+
+                } else if ((r -= config.getWriteWeight()) < 0) {
+                    write(fileId, md, objNo, 0, config.getObjectSize());
+                    stats.get(Operation.WRITE).record(tStart, config.getObjectSize());
+
+                } else if ((r -= config.getOverwriteWeight()) < 0) {
+                    final int slots = config.getObjectSize() / config.getIoSize();
+                    final int offset = random.nextInt(slots) * config.getIoSize();
+                    write(fileId, md, objNo, offset, config.getIoSize());
+                    stats.get(Operation.OVERWRITE).record(tStart, config.getIoSize());
+
+                } else {
+                    final int newLength = 1 + random.nextInt(config.getObjectSize());
+                    final long newVersion = config.isCow() ? md.getLargestObjectVersion(objNo) + 1 : Math.max(1,
+                            md.getLatestObjectVersion(objNo));
+                    layout.truncateObject(fileId, md, objNo, newLength, newVersion, config.isCow());
+                    stats.get(Operation.TRUNCATE).record(tStart, 0);
+                }
+            }
+        }
+
+        private void write(String fileId, FileMetadata md, long objNo, int offset, int length)
+                throws IOException {
+
+            // determine the object version like the StorageThread does
+            final long largestV = md.getLargestObjectVersion(objNo);
+            final long newVersion = (config.isCow() || config.isChecksums()) ? largestV + 1 : Math.max(1,
+                    largestV);
+
+            if (objNo > md.getLastObjectNumber()) {
+                md.setLastObjectNumber(objNo);
+                md.setFilesize(sp.getObjectEndOffset(objNo) + 1);
+            }
+
+            // the layout frees the buffer
+            ReusableBuffer view = data.createViewBuffer();
+            view.range(0, length);
+            view.position(0);
+            layout.writeObject(fileId, md, view, objNo, offset, newVersion, config.isSync(), config.isCow());
+
+            if (config.isCow())
+                layout.updateCurrentObjVersion(fileId, objNo, newVersion);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage.benchmark;
+
+import java.util.Properties;
+
+import org.xtreemfs.osd.storage.HashStorageLayout;
+
+/**
+ * Parameters of a {@link StorageLayoutBenchmark} run. Instances are created with a {@link ConfigBuilder}.
+ * <p/>
+ *
+ * A run consists of a fill phase, in which each benchmark thread writes all objects of the files it is
+ * responsible for, and a mixed phase, in which each thread executes a fixed number of randomly chosen
+ * operations. The ratio of the operations in the mixed phase is given by the operation weights.
+ */
+public class StorageLayoutBenchmarkConfig {
+
+    private final Properties osdProperties;
+
+    private final String     layoutName;
+
+    private final String     objectDir;
+
+    private final int        objectSize;
+
+    private final int        ioSize;
+
+    private final int        objectsPerFile;
+
+    private final int        filesPerThread;
+
+    private final int        numThreads;
+
+    private final int        operationsPerThread;
+
+    private final int        readWeight;
+
+    private final int        writeWeight;
+
+    private final int        overwriteWeight;
+
+    private final int        truncateWeight;
+
+    private final boolean    checksums;
+
+    private final String     checksumAlgorithm;
+
+    private final boolean    cow;
+
+    private final boolean    sync;
+
+    private final long       seed;
+
+    private StorageLayoutBenchmarkConfig(ConfigBuilder builder) {
+        this.osdProperties = builder.osdProperties;
+        this.layoutName = builder.layoutName;
+        this.objectDir = builder.objectDir;
+        this.objectSize = builder.objectSize;
+        this.ioSize = builder.ioSize > 0 ? builder.ioSize : builder.objectSize;
+        this.objectsPerFile = builder.objectsPerFile;
+        this.filesPerThread = builder.filesPerThread;
+        this.numThreads = builder.numThreads;
+        this.operationsPerThread = builder.operationsPerThread;
+        this.readWeight = builder.readWeight;
+        this.writeWeight = builder.writeWeight;
+        this.overwriteWeight = builder.overwriteWeight;
+        this.truncateWeight = builder.truncateWeight;
+        this.checksums = builder.checksums;
+        this.checksumAlgorithm = builder.checksumAlgorithm;
+        this.cow = builder.cow;
+        this.sync = builder.sync;
+        this.seed = builder.seed;
+    }
+
+    /**
+     * Properties used as a base for the OSD configuration passed to the storage layout, may be
+     * <code>null</code>. The object directory and the checksum settings are always overridden by the values
+     * of this config.
+     */
+    public Properties getOSDProperties() {
+        return osdProperties;
+    }
+
+    /**
+     * The simple or fully qualified class name of the {@link org.xtreemfs.osd.storage.StorageLayout} to
+     * benchmark.
+     */
+    public String getLayoutName() {
+        return layoutName;
+    }
+
+    public String getObjectDir() {
+        return objectDir;
+    }
+
+    /** The stripe size of the benchmark files in bytes, a multiple of 1 KiB. */
+    public int getObjectSize() {
+        return objectSize;
+    }
+
+    /** The number of bytes written by a partial overwrite. */
+    public int getIoSize() {
+        return ioSize;
+    }
+
+    public int getObjectsPerFile() {
+        return objectsPerFile;
+    }
+
+    public int getFilesPerThread() {
+        return filesPerThread;
+    }
+
+    /** The number of benchmark threads, i.e. the number of simulated storage threads. */
+    public int getNumThreads() {
+        return numThreads;
+    }
+
+    public int getOperationsPerThread() {
+        return operationsPerThread;
+    }
+
+    public int getReadWeight() {
+        return readWeight;
+    }
+
+    public int getWriteWeight() {
+        return writeWeight;
+    }
+
+    public int getOverwriteWeight() {
+        return overwriteWeight;
+    }
+
+    public int getTruncateWeight() {
+        return truncateWeight;
+    }
+
+    public boolean isChecksums() {
+        return checksums;
+    }
+
+    public String getChecksumAlgorithm() {
+        return checksumAlgorithm;
+    }
+
+    public boolean isCow() {
+        return cow;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return "layout=" + layoutName + " objectDir=" + objectDir + " objectSize=" + objectSize + " ioSize="
+                + ioSize + " objectsPerFile=" + objectsPerFile + " filesPerThread=" + filesPerThread
+                + " threads=" + numThreads + " operationsPerThread=" + operationsPerThread + " mix(r/w/o/t)="
+                + readWeight + "/" + writeWeight + "/" + overwriteWeight + "/" + truncateWeight + " checksums="
+                + (checksums ? checksumAlgorithm : "off") + " cow=" + cow + " sync=" + sync + " seed=" + seed;
+    }
+
+    public static ConfigBuilder newBuilder() {
+        return new ConfigBuilder();
+    }
+
+    /**
+     * Builder for {@link StorageLayoutBenchmarkConfig}. All parameters have defaults, only the object
+     * directory should always be set explicitly.
+     */
+    public static class ConfigBuilder {
+
+        private Properties osdProperties       = null;
+
+        private String     layoutName          = HashStorageLayout.class.getSimpleName();
+
+        private String     objectDir           = "/tmp/xtreemfs-layout-benchmark";
+
+        private int        objectSize          = 128 * 1024;
+
+        private int        ioSize              = 0;
+
+        private int        objectsPerFile      = 128;
+
+        private int        filesPerThread      = 16;
+
+        private int        numThreads          = 1;
+
+        private int        operationsPerThread = 10000;
+
+        private int        readWeight          = 70;
+
+        private int        writeWeight         = 10;
+
+        private int        overwriteWeight     = 15;
+
+        private int        truncateWeight      = 5;
+
+        private boolean    checksums           = false;
+
+        private String     checksumAlgorithm   = "Adler32";
+
+        private boolean    cow                 = false;
+
+        private boolean    sync                = false;
+
+        private long       seed                = 42;
+
+        private ConfigBuilder() {
+        }
+
+        public ConfigBuilder setOSDProperties(Properties osdProperties) {
+            this.osdProperties = osdProperties;
+            return this;
+        }
+
+        public ConfigBuilder setLayoutName(String layoutName) {
+            this.layoutName = layoutName;
+            return this;
+        }
+
+        public ConfigBuilder setObjectDir(String objectDir) {
+            this.objectDir = objectDir;
+            return this;
+        }
+
+        public ConfigBuilder setObjectSize(int objectSize) {
+            this.objectSize = objectSize;
+            return this;
+        }
+
+        /**
+         * Sets the size of partial overwrites. Defaults to the object size.
+         */
+        public ConfigBuilder setIoSize(int ioSize) {
+            this.ioSize = ioSize;
+            return this;
+        }
+
+        public ConfigBuilder setObjectsPerFile(int objectsPerFile) {
+            this.objectsPerFile = objectsPerFile;
+            return this;
+        }
+
+        public ConfigBuilder setFilesPerThread(int filesPerThread) {
+            this.filesPerThread = filesPerThread;
+            return this;
+        }
+
+        public ConfigBuilder setNumThreads(int numThreads) {
+            this.numThreads = numThreads;
+            return this;
+        }
+
+        public ConfigBuilder setOperationsPerThread(int operationsPerThread) {
+            this.operationsPerThread = operationsPerThread;
+            return this;
+        }
+
+        /**
+         * Sets the relative weights of reads, full object writes, partial overwrites and truncates in the
+         * mixed phase.
+         */
+        public ConfigBuilder setMix(int readWeight, int writeWeight, int overwriteWeight, int truncateWeight) {
+            this.readWeight = readWeight;
+            this.writeWeight = writeWeight;
+            this.overwriteWeight = overwriteWeight;
+            this.truncateWeight = truncateWeight;
+            return this;
+        }
+
+        public ConfigBuilder setChecksums(boolean checksums) {
+            this.checksums = checksums;
+            return this;
+        }
+
+        public ConfigBuilder setChecksumAlgorithm(String checksumAlgorithm) {
+            this.checksumAlgorithm = checksumAlgorithm;
+            return this;
+        }
+
+        public ConfigBuilder setCow(boolean cow) {
+            this.cow = cow;
+            return this;
+        }
+
+        public ConfigBuilder setSync(boolean sync) {
+            this.sync = sync;
+            return this;
+        }
+
+        public ConfigBuilder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public StorageLayoutBenchmarkConfig build() {
+            if (objectSize <= 0 || objectSize % 1024 != 0 || ioSize < 0 || ioSize > objectSize)
+                throw new IllegalArgumentException("invalid object size (" + objectSize + ") or IO size ("
+                        + ioSize + ")");
+            if (objectsPerFile <= 0 || filesPerThread <= 0 || numThreads <= 0 || operationsPerThread < 0)
+                throw new IllegalArgumentException("number of objects, files, threads and operations must be positive");
+            if (readWeight < 0 || writeWeight < 0 || overwriteWeight < 0 || truncateWeight < 0
+                    || (operationsPerThread > 0 && readWeight + writeWeight + overwriteWeight + truncateWeight == 0))
+                throw new IllegalArgumentException("invalid operation mix");
+            return new StorageLayoutBenchmarkConfig(this);
+        }
+    }
+}
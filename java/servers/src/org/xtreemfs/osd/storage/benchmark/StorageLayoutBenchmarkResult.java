@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage.benchmark;
+
+/**
+ * Result of one operation type in one phase of a {@link StorageLayoutBenchmark} run.
+ */
+public class StorageLayoutBenchmarkResult {
+
+    public static enum Operation {
+        FILL, READ, WRITE, OVERWRITE, TRUNCATE
+    };
+
+    private final Operation        operation;
+
+    private final int              numThreads;
+
+    private final double           timeInSec;
+
+    private final long             bytes;
+
+    private final LatencyHistogram latencies;
+
+    StorageLayoutBenchmarkResult(Operation operation, int numThreads, double timeInSec, long bytes,
+            LatencyHistogram latencies) {
+        this.operation = operation;
+        this.numThreads = numThreads;
+        this.timeInSec = timeInSec;
+        this.bytes = bytes;
+        this.latencies = latencies;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public int getNumThreads() {
+        return numThreads;
+    }
+
+    /** Wall clock time of the phase in which the operations were executed. */
+    public double getTimeInSec() {
+        return timeInSec;
+    }
+
+    public long getOperations() {
+        return latencies.getTotalCount();
+    }
+
+    /** Number of bytes read or written, truncates do not count. */
+    public long getBytes() {
+        return bytes;
+    }
+
+    public double getOperationsPerSec() {
+        return timeInSec == 0 ? 0 : getOperations() / timeInSec;
+    }
+
+    public double getMiBPerSec() {
+        return timeInSec == 0 ? 0 : bytes / (1024.0 * 1024.0) / timeInSec;
+    }
+
+    /** Latency histogram, values in microseconds. */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    public static String getCSVHeader() {
+        return "Operation;Threads;TimeInSec;Ops;Ops/Sec;MiB/Sec;MeanUs;P50Us;P90Us;P99Us;P999Us;MaxUs";
+    }
+
+    public String toCSV() {
+        return operation + ";" + numThreads + ";" + round(timeInSec) + ";" + getOperations() + ";"
+                + round(getOperationsPerSec()) + ";" + round(getMiBPerSec()) + ";" + round(latencies.getMean())
+                + ";" + latencies.getPercentile(50) + ";" + latencies.getPercentile(90) + ";"
+                + latencies.getPercentile(99) + ";" + latencies.getPercentile(99.9) + ";" + latencies.getMax();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-9s ops=%d time=%.2fs %.1f ops/s %.2f MiB/s latency[us] mean=%.1f p50=%d p90=%d "
+                + "p99=%d p99.9=%d max=%d", operation, getOperations(), timeInSec, getOperationsPerSec(),
+                getMiBPerSec(), latencies.getMean(), latencies.getPercentile(50), latencies.getPercentile(90),
+                latencies.getPercentile(99), latencies.getPercentile(99.9), latencies.getMax());
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
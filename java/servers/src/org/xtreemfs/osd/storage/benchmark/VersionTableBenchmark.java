@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.osd.storage.VersionTable;
+
+/**
+ * Compares the memory consumption and the save and load times of
+ * {@link VersionTable} with the former format, which kept and stored the
+ * versions of all objects for each file version.
+ * <p>
+ * A file is created with the given number of objects, and each of the given
+ * number of file versions rewrites a number of randomly placed runs of
+ * consecutive objects, like copy-on-write snapshots of a file that is
+ * partially updated between snapshots.
+ * <p>
+ * Usage:
+ * <code>VersionTableBenchmark [objects [versions [changed objects per version [directory]]]]</code>
+ */
+public class VersionTableBenchmark {
+
+    /** number of consecutive objects rewritten at once */
+    private static final int RUN_LENGTH = 16;
+
+    public static void main(String[] args) throws Exception {
+
+        Logging.start(Logging.LEVEL_WARN, Category.tool);
+
+        final int numObjs = args.length > 0 ? Integer.parseInt(args[0]) : 256 * 1024;
+        final int numVersions = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        final int changesPerVersion = args.length > 2 ? Integer.parseInt(args[2]) : 1024;
+        final File dir = new File(args.length > 3 ? args[3] : System.getProperty("java.io.tmpdir"));
+
+        System.out.format("%d objects, %d versions, %d changed objects per version%n", numObjs, numVersions,
+            changesPerVersion);
+
+        final File legacyFile = new File(dir, "vtbench-full");
+        final File deltaFile = new File(dir, "vtbench-delta");
+        legacyFile.delete();
+        deltaFile.delete();
+
+        try {
+            // former format: all object versions of each file version
+            long heapBefore = usedHeap();
+            SortedMap<Long, int[]> legacy = new TreeMap<Long, int[]>();
+            Random rnd = new Random(1);
+            int[] objVersions = new int[numObjs];
+            for (int v = 1; v <= numVersions; v++) {
+                objVersions = nextVersion(objVersions, v, changesPerVersion, rnd);
+                legacy.put((long) v, objVersions);
+            }
+            final long legacyHeap = usedHeap() - heapBefore;
+
+            long start = System.nanoTime();
+            saveLegacy(legacy, legacyFile);
+            final long legacySave = System.nanoTime() - start;
+
+            legacy = null;
+            objVersions = null;
+            start = System.nanoTime();
+            legacy = loadLegacy(legacyFile);
+            final long legacyLoad = System.nanoTime() - start;
+            legacy = null;
+
+            // delta-encoded version table, saved after each version like the
+            // storage thread does
+            heapBefore = usedHeap();
+            VersionTable vt = new VersionTable(deltaFile);
+            rnd = new Random(1);
+            objVersions = new int[numObjs];
+            long appendTime = 0;
+            for (int v = 1; v <= numVersions; v++) {
+                objVersions = nextVersion(objVersions, v, changesPerVersion, rnd);
+                vt.addVersion(v, objVersions, (long) numObjs * 1024 * 1024);
+                start = System.nanoTime();
+                vt.save();
+                appendTime += System.nanoTime() - start;
+            }
+            objVersions = null;
+            final long deltaHeap = usedHeap() - heapBefore;
+            final long deltaSize = deltaFile.length();
+
+            vt = null;
+            start = System.nanoTime();
+            vt = new VersionTable(deltaFile);
+            vt.load();
+            final long deltaLoad = System.nanoTime() - start;
+
+            // a cleanup compacts the file
+            start = System.nanoTime();
+            vt.cleanup(new long[] { numVersions / 2 + 1, numVersions + 1 });
+            vt.save();
+            final long compaction = System.nanoTime() - start;
+
+            System.out.format("%-6s %12s %12s %12s %12s%n", "format", "heap [MiB]", "file [MiB]", "save [ms]",
+                "load [ms]");
+            System.out.format("%-6s %12.1f %12.1f %12.1f %12.1f%n", "full", legacyHeap / 1048576.0, legacyFile
+                    .length() / 1048576.0, legacySave / 1e6, legacyLoad / 1e6);
+            System.out.format("%-6s %12.1f %12.1f %12.1f %12.1f%n", "delta", deltaHeap / 1048576.0,
+                deltaSize / 1048576.0, appendTime / 1e6 / numVersions, deltaLoad / 1e6);
+            System.out.format("save times: full = entire table, delta = average append per version; "
+                + "cleanup and compaction of the delta table: %.1f ms%n", compaction / 1e6);
+
+        } finally {
+            legacyFile.delete();
+            deltaFile.delete();
+        }
+    }
+
+    private static int[] nextVersion(int[] objVersions, int version, int changes, Random rnd) {
+        int[] next = objVersions.clone();
+        for (int i = 0; i < changes; i += RUN_LENGTH) {
+            final int first = rnd.nextInt(next.length);
+            for (int obj = first; obj < Math.min(first + RUN_LENGTH, next.length); obj++)
+                next[obj] = version;
+        }
+        return next;
+    }
+
+    private static void saveLegacy(SortedMap<Long, int[]> vt, File file) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        try {
+            for (Entry<Long, int[]> entry : vt.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeLong((long) entry.getValue().length * 1024 * 1024);
+                out.writeLong(entry.getValue().length);
+                for (int objVersion : entry.getValue())
+                    out.writeInt(objVersion);
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    private static SortedMap<Long, int[]> loadLegacy(File file) throws IOException {
+        SortedMap<Long, int[]> vt = new TreeMap<Long, int[]>();
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        try {
+            long remaining = file.length();
+            while (remaining > 0) {
+                final long timestamp = in.readLong();
+                in.readLong();
+                final int[] objVersions = new int[(int) in.readLong()];
+                for (int i = 0; i < objVersions.length; i++)
+                    objVersions[i] = in.readInt();
+                vt.put(timestamp, objVersions);
+                remaining -= 24 + objVersions.length * 4L;
+            }
+        } finally {
+            in.close();
+        }
+        return vt;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        final Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+}
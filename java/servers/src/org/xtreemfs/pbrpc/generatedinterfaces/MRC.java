@@ -33686,7 +33686,8 @@ public final class MRC {
      * <code>required fixed32 num_osds = 2;</code>
      *
      * <pre>
-     * the number of OSDs for the new replicas
+     * the number of OSDs required in a valid group
+     * ignored by filtering and sorting policies
      * </pre>
      */
     boolean hasNumOsds();
@@ -33694,7 +33695,8 @@ public final class MRC {
      * <code>required fixed32 num_osds = 2;</code>
      *
      * <pre>
-     * the number of OSDs for the new replicas
+     * the number of OSDs required in a valid group
+     * ignored by filtering and sorting policies
      * </pre>
      */
     int getNumOsds();
@@ -33974,7 +33976,8 @@ public final class MRC {
      * <code>required fixed32 num_osds = 2;</code>
      *
      * <pre>
-     * the number of OSDs for the new replicas
+     * the number of OSDs required in a valid group
+     * ignored by filtering and sorting policies
      * </pre>
      */
     public boolean hasNumOsds() {
@@ -33984,7 +33987,8 @@ public final class MRC {
      * <code>required fixed32 num_osds = 2;</code>
      *
      * <pre>
-     * the number of OSDs for the new replicas
+     * the number of OSDs required in a valid group
+     * ignored by filtering and sorting policies
      * </pre>
      */
     public int getNumOsds() {
@@ -34563,7 +34567,8 @@ public final class MRC {
        * <code>required fixed32 num_osds = 2;</code>
        *
        * <pre>
-       * the number of OSDs for the new replicas
+       * the number of OSDs required in a valid group
+       * ignored by filtering and sorting policies
        * </pre>
        */
       public boolean hasNumOsds() {
@@ -34573,7 +34578,8 @@ public final class MRC {
        * <code>required fixed32 num_osds = 2;</code>
        *
        * <pre>
-       * the number of OSDs for the new replicas
+       * the number of OSDs required in a valid group
+       * ignored by filtering and sorting policies
        * </pre>
        */
       public int getNumOsds() {
@@ -34583,7 +34589,8 @@ public final class MRC {
        * <code>required fixed32 num_osds = 2;</code>
        *
        * <pre>
-       * the number of OSDs for the new replicas
+       * the number of OSDs required in a valid group
+       * ignored by filtering and sorting policies
        * </pre>
        */
       public Builder setNumOsds(int value) {
@@ -34596,7 +34603,8 @@ public final class MRC {
        * <code>required fixed32 num_osds = 2;</code>
        *
        * <pre>
-       * the number of OSDs for the new replicas
+       * the number of OSDs required in a valid group
+       * ignored by filtering and sorting policies
        * </pre>
        */
       public Builder clearNumOsds() {
@@ -46401,6 +46409,5468 @@ public final class MRC {
     // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_get_file_credentialsRequest)
   }
 
+  public interface xtreemfs_update_batchRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+     *
+     * <pre>
+     * the file size updates; closing files is not supported in batches
+     * </pre>
+     */
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest> 
+        getFileSizeUpdatesList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+     *
+     * <pre>
+     * the file size updates; closing files is not supported in batches
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest getFileSizeUpdates(int index);
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+     *
+     * <pre>
+     * the file size updates; closing files is not supported in batches
+     * </pre>
+     */
+    int getFileSizeUpdatesCount();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+     *
+     * <pre>
+     * the file size updates; closing files is not supported in batches
+     * </pre>
+     */
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder> 
+        getFileSizeUpdatesOrBuilderList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+     *
+     * <pre>
+     * the file size updates; closing files is not supported in batches
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder getFileSizeUpdatesOrBuilder(
+        int index);
+
+    // repeated .xtreemfs.pbrpc.XCap xcaps = 2;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+     *
+     * <pre>
+     * the capabilities to renew
+     * </pre>
+     */
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> 
+        getXcapsList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+     *
+     * <pre>
+     * the capabilities to renew
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcaps(int index);
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+     *
+     * <pre>
+     * the capabilities to renew
+     * </pre>
+     */
+    int getXcapsCount();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+     *
+     * <pre>
+     * the capabilities to renew
+     * </pre>
+     */
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+        getXcapsOrBuilderList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+     *
+     * <pre>
+     * the capabilities to renew
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_update_batchRequest}
+   *
+   * <pre>
+   * updates the sizes of multiple open files and renews multiple capabilities
+   * </pre>
+   */
+  public static final class xtreemfs_update_batchRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_update_batchRequestOrBuilder {
+    // Use xtreemfs_update_batchRequest.newBuilder() to construct.
+    private xtreemfs_update_batchRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_update_batchRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_update_batchRequest defaultInstance;
+    public static xtreemfs_update_batchRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_update_batchRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_update_batchRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                fileSizeUpdates_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              fileSizeUpdates_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.PARSER, extensionRegistry));
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                xcaps_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              xcaps_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          fileSizeUpdates_ = java.util.Collections.unmodifiableList(fileSizeUpdates_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          xcaps_ = java.util.Collections.unmodifiableList(xcaps_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_batchRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_batchRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_update_batchRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_update_batchRequest>() {
+      public xtreemfs_update_batchRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_update_batchRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_update_batchRequest> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;
+    public static final int FILE_SIZE_UPDATES_FIELD_NUMBER = 1;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest> fileSizeUpdates_;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+     *
+     * <pre>
+     * the file size updates; closing files is not supported in batches
+     * </pre>
+     */
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest> getFileSizeUpdatesList() {
+      return fileSizeUpdates_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+     *
+     * <pre>
+     * the file size updates; closing files is not supported in batches
+     * </pre>
+     */
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder> 
+        getFileSizeUpdatesOrBuilderList() {
+      return fileSizeUpdates_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+     *
+     * <pre>
+     * the file size updates; closing files is not supported in batches
+     * </pre>
+     */
+    public int getFileSizeUpdatesCount() {
+      return fileSizeUpdates_.size();
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+     *
+     * <pre>
+     * the file size updates; closing files is not supported in batches
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest getFileSizeUpdates(int index) {
+      return fileSizeUpdates_.get(index);
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+     *
+     * <pre>
+     * the file size updates; closing files is not supported in batches
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder getFileSizeUpdatesOrBuilder(
+        int index) {
+      return fileSizeUpdates_.get(index);
+    }
+
+    // repeated .xtreemfs.pbrpc.XCap xcaps = 2;
+    public static final int XCAPS_FIELD_NUMBER = 2;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> xcaps_;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+     *
+     * <pre>
+     * the capabilities to renew
+     * </pre>
+     */
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> getXcapsList() {
+      return xcaps_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+     *
+     * <pre>
+     * the capabilities to renew
+     * </pre>
+     */
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+        getXcapsOrBuilderList() {
+      return xcaps_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+     *
+     * <pre>
+     * the capabilities to renew
+     * </pre>
+     */
+    public int getXcapsCount() {
+      return xcaps_.size();
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+     *
+     * <pre>
+     * the capabilities to renew
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcaps(int index) {
+      return xcaps_.get(index);
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+     *
+     * <pre>
+     * the capabilities to renew
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapsOrBuilder(
+        int index) {
+      return xcaps_.get(index);
+    }
+
+    private void initFields() {
+      fileSizeUpdates_ = java.util.Collections.emptyList();
+      xcaps_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getFileSizeUpdatesCount(); i++) {
+        if (!getFileSizeUpdates(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getXcapsCount(); i++) {
+        if (!getXcaps(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < fileSizeUpdates_.size(); i++) {
+        output.writeMessage(1, fileSizeUpdates_.get(i));
+      }
+      for (int i = 0; i < xcaps_.size(); i++) {
+        output.writeMessage(2, xcaps_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < fileSizeUpdates_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, fileSizeUpdates_.get(i));
+      }
+      for (int i = 0; i < xcaps_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, xcaps_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_update_batchRequest}
+     *
+     * <pre>
+     * updates the sizes of multiple open files and renews multiple capabilities
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_batchRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_batchRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getFileSizeUpdatesFieldBuilder();
+          getXcapsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (fileSizeUpdatesBuilder_ == null) {
+          fileSizeUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          fileSizeUpdatesBuilder_.clear();
+        }
+        if (xcapsBuilder_ == null) {
+          xcaps_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          xcapsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_batchRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest(this);
+        int from_bitField0_ = bitField0_;
+        if (fileSizeUpdatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            fileSizeUpdates_ = java.util.Collections.unmodifiableList(fileSizeUpdates_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.fileSizeUpdates_ = fileSizeUpdates_;
+        } else {
+          result.fileSizeUpdates_ = fileSizeUpdatesBuilder_.build();
+        }
+        if (xcapsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            xcaps_ = java.util.Collections.unmodifiableList(xcaps_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.xcaps_ = xcaps_;
+        } else {
+          result.xcaps_ = xcapsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest.getDefaultInstance()) return this;
+        if (fileSizeUpdatesBuilder_ == null) {
+          if (!other.fileSizeUpdates_.isEmpty()) {
+            if (fileSizeUpdates_.isEmpty()) {
+              fileSizeUpdates_ = other.fileSizeUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureFileSizeUpdatesIsMutable();
+              fileSizeUpdates_.addAll(other.fileSizeUpdates_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.fileSizeUpdates_.isEmpty()) {
+            if (fileSizeUpdatesBuilder_.isEmpty()) {
+              fileSizeUpdatesBuilder_.dispose();
+              fileSizeUpdatesBuilder_ = null;
+              fileSizeUpdates_ = other.fileSizeUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              fileSizeUpdatesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getFileSizeUpdatesFieldBuilder() : null;
+            } else {
+              fileSizeUpdatesBuilder_.addAllMessages(other.fileSizeUpdates_);
+            }
+          }
+        }
+        if (xcapsBuilder_ == null) {
+          if (!other.xcaps_.isEmpty()) {
+            if (xcaps_.isEmpty()) {
+              xcaps_ = other.xcaps_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureXcapsIsMutable();
+              xcaps_.addAll(other.xcaps_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.xcaps_.isEmpty()) {
+            if (xcapsBuilder_.isEmpty()) {
+              xcapsBuilder_.dispose();
+              xcapsBuilder_ = null;
+              xcaps_ = other.xcaps_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              xcapsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getXcapsFieldBuilder() : null;
+            } else {
+              xcapsBuilder_.addAllMessages(other.xcaps_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getFileSizeUpdatesCount(); i++) {
+          if (!getFileSizeUpdates(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getXcapsCount(); i++) {
+          if (!getXcaps(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest> fileSizeUpdates_ =
+        java.util.Collections.emptyList();
+      private void ensureFileSizeUpdatesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          fileSizeUpdates_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest>(fileSizeUpdates_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder> fileSizeUpdatesBuilder_;
+
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest> getFileSizeUpdatesList() {
+        if (fileSizeUpdatesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(fileSizeUpdates_);
+        } else {
+          return fileSizeUpdatesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public int getFileSizeUpdatesCount() {
+        if (fileSizeUpdatesBuilder_ == null) {
+          return fileSizeUpdates_.size();
+        } else {
+          return fileSizeUpdatesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest getFileSizeUpdates(int index) {
+        if (fileSizeUpdatesBuilder_ == null) {
+          return fileSizeUpdates_.get(index);
+        } else {
+          return fileSizeUpdatesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public Builder setFileSizeUpdates(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest value) {
+        if (fileSizeUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFileSizeUpdatesIsMutable();
+          fileSizeUpdates_.set(index, value);
+          onChanged();
+        } else {
+          fileSizeUpdatesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public Builder setFileSizeUpdates(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder builderForValue) {
+        if (fileSizeUpdatesBuilder_ == null) {
+          ensureFileSizeUpdatesIsMutable();
+          fileSizeUpdates_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          fileSizeUpdatesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public Builder addFileSizeUpdates(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest value) {
+        if (fileSizeUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFileSizeUpdatesIsMutable();
+          fileSizeUpdates_.add(value);
+          onChanged();
+        } else {
+          fileSizeUpdatesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public Builder addFileSizeUpdates(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest value) {
+        if (fileSizeUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFileSizeUpdatesIsMutable();
+          fileSizeUpdates_.add(index, value);
+          onChanged();
+        } else {
+          fileSizeUpdatesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public Builder addFileSizeUpdates(
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder builderForValue) {
+        if (fileSizeUpdatesBuilder_ == null) {
+          ensureFileSizeUpdatesIsMutable();
+          fileSizeUpdates_.add(builderForValue.build());
+          onChanged();
+        } else {
+          fileSizeUpdatesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public Builder addFileSizeUpdates(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder builderForValue) {
+        if (fileSizeUpdatesBuilder_ == null) {
+          ensureFileSizeUpdatesIsMutable();
+          fileSizeUpdates_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          fileSizeUpdatesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public Builder addAllFileSizeUpdates(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest> values) {
+        if (fileSizeUpdatesBuilder_ == null) {
+          ensureFileSizeUpdatesIsMutable();
+          super.addAll(values, fileSizeUpdates_);
+          onChanged();
+        } else {
+          fileSizeUpdatesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public Builder clearFileSizeUpdates() {
+        if (fileSizeUpdatesBuilder_ == null) {
+          fileSizeUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          fileSizeUpdatesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public Builder removeFileSizeUpdates(int index) {
+        if (fileSizeUpdatesBuilder_ == null) {
+          ensureFileSizeUpdatesIsMutable();
+          fileSizeUpdates_.remove(index);
+          onChanged();
+        } else {
+          fileSizeUpdatesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder getFileSizeUpdatesBuilder(
+          int index) {
+        return getFileSizeUpdatesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder getFileSizeUpdatesOrBuilder(
+          int index) {
+        if (fileSizeUpdatesBuilder_ == null) {
+          return fileSizeUpdates_.get(index);  } else {
+          return fileSizeUpdatesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder> 
+           getFileSizeUpdatesOrBuilderList() {
+        if (fileSizeUpdatesBuilder_ != null) {
+          return fileSizeUpdatesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(fileSizeUpdates_);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder addFileSizeUpdatesBuilder() {
+        return getFileSizeUpdatesFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder addFileSizeUpdatesBuilder(
+          int index) {
+        return getFileSizeUpdatesFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest file_size_updates = 1;</code>
+       *
+       * <pre>
+       * the file size updates; closing files is not supported in batches
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder> 
+           getFileSizeUpdatesBuilderList() {
+        return getFileSizeUpdatesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder> 
+          getFileSizeUpdatesFieldBuilder() {
+        if (fileSizeUpdatesBuilder_ == null) {
+          fileSizeUpdatesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder>(
+                  fileSizeUpdates_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          fileSizeUpdates_ = null;
+        }
+        return fileSizeUpdatesBuilder_;
+      }
+
+      // repeated .xtreemfs.pbrpc.XCap xcaps = 2;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> xcaps_ =
+        java.util.Collections.emptyList();
+      private void ensureXcapsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          xcaps_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap>(xcaps_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> xcapsBuilder_;
+
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> getXcapsList() {
+        if (xcapsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(xcaps_);
+        } else {
+          return xcapsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public int getXcapsCount() {
+        if (xcapsBuilder_ == null) {
+          return xcaps_.size();
+        } else {
+          return xcapsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcaps(int index) {
+        if (xcapsBuilder_ == null) {
+          return xcaps_.get(index);
+        } else {
+          return xcapsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public Builder setXcaps(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXcapsIsMutable();
+          xcaps_.set(index, value);
+          onChanged();
+        } else {
+          xcapsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public Builder setXcaps(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          xcaps_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          xcapsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public Builder addXcaps(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXcapsIsMutable();
+          xcaps_.add(value);
+          onChanged();
+        } else {
+          xcapsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public Builder addXcaps(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXcapsIsMutable();
+          xcaps_.add(index, value);
+          onChanged();
+        } else {
+          xcapsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public Builder addXcaps(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          xcaps_.add(builderForValue.build());
+          onChanged();
+        } else {
+          xcapsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public Builder addXcaps(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          xcaps_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          xcapsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public Builder addAllXcaps(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> values) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          super.addAll(values, xcaps_);
+          onChanged();
+        } else {
+          xcapsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public Builder clearXcaps() {
+        if (xcapsBuilder_ == null) {
+          xcaps_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          xcapsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public Builder removeXcaps(int index) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          xcaps_.remove(index);
+          onChanged();
+        } else {
+          xcapsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder getXcapsBuilder(
+          int index) {
+        return getXcapsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapsOrBuilder(
+          int index) {
+        if (xcapsBuilder_ == null) {
+          return xcaps_.get(index);  } else {
+          return xcapsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+           getXcapsOrBuilderList() {
+        if (xcapsBuilder_ != null) {
+          return xcapsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(xcaps_);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder addXcapsBuilder() {
+        return getXcapsFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder addXcapsBuilder(
+          int index) {
+        return getXcapsFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 2;</code>
+       *
+       * <pre>
+       * the capabilities to renew
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder> 
+           getXcapsBuilderList() {
+        return getXcapsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+          getXcapsFieldBuilder() {
+        if (xcapsBuilder_ == null) {
+          xcapsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder>(
+                  xcaps_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          xcaps_ = null;
+        }
+        return xcapsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_update_batchRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_update_batchRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_update_batchRequest)
+  }
+
+  public interface UpdateBatchResultOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;
+    /**
+     * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+     *
+     * <pre>
+     * the error that occurred, if the update or renewal failed
+     * </pre>
+     */
+    boolean hasError();
+    /**
+     * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+     *
+     * <pre>
+     * the error that occurred, if the update or renewal failed
+     * </pre>
+     */
+    org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse getError();
+    /**
+     * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+     *
+     * <pre>
+     * the error that occurred, if the update or renewal failed
+     * </pre>
+     */
+    org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponseOrBuilder getErrorOrBuilder();
+
+    // optional .xtreemfs.pbrpc.XCap xcap = 2;
+    /**
+     * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+     *
+     * <pre>
+     * the renewed capability, if a capability was renewed successfully
+     * </pre>
+     */
+    boolean hasXcap();
+    /**
+     * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+     *
+     * <pre>
+     * the renewed capability, if a capability was renewed successfully
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap();
+    /**
+     * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+     *
+     * <pre>
+     * the renewed capability, if a capability was renewed successfully
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.UpdateBatchResult}
+   *
+   * <pre>
+   * the result of a single file size update or capability renewal of a batch
+   * </pre>
+   */
+  public static final class UpdateBatchResult extends
+      com.google.protobuf.GeneratedMessage
+      implements UpdateBatchResultOrBuilder {
+    // Use UpdateBatchResult.newBuilder() to construct.
+    private UpdateBatchResult(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private UpdateBatchResult(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final UpdateBatchResult defaultInstance;
+    public static UpdateBatchResult getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public UpdateBatchResult getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private UpdateBatchResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = error_.toBuilder();
+              }
+              error_ = input.readMessage(org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(error_);
+                error_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = xcap_.toBuilder();
+              }
+              xcap_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(xcap_);
+                xcap_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_UpdateBatchResult_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_UpdateBatchResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<UpdateBatchResult> PARSER =
+        new com.google.protobuf.AbstractParser<UpdateBatchResult>() {
+      public UpdateBatchResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new UpdateBatchResult(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UpdateBatchResult> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;
+    public static final int ERROR_FIELD_NUMBER = 1;
+    private org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse error_;
+    /**
+     * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+     *
+     * <pre>
+     * the error that occurred, if the update or renewal failed
+     * </pre>
+     */
+    public boolean hasError() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+     *
+     * <pre>
+     * the error that occurred, if the update or renewal failed
+     * </pre>
+     */
+    public org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse getError() {
+      return error_;
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+     *
+     * <pre>
+     * the error that occurred, if the update or renewal failed
+     * </pre>
+     */
+    public org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponseOrBuilder getErrorOrBuilder() {
+      return error_;
+    }
+
+    // optional .xtreemfs.pbrpc.XCap xcap = 2;
+    public static final int XCAP_FIELD_NUMBER = 2;
+    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap xcap_;
+    /**
+     * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+     *
+     * <pre>
+     * the renewed capability, if a capability was renewed successfully
+     * </pre>
+     */
+    public boolean hasXcap() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+     *
+     * <pre>
+     * the renewed capability, if a capability was renewed successfully
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap() {
+      return xcap_;
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+     *
+     * <pre>
+     * the renewed capability, if a capability was renewed successfully
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder() {
+      return xcap_;
+    }
+
+    private void initFields() {
+      error_ = org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.getDefaultInstance();
+      xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (hasError()) {
+        if (!getError().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasXcap()) {
+        if (!getXcap().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, error_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, xcap_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, error_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, xcap_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.UpdateBatchResult}
+     *
+     * <pre>
+     * the result of a single file size update or capability renewal of a batch
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_UpdateBatchResult_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_UpdateBatchResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getErrorFieldBuilder();
+          getXcapFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (errorBuilder_ == null) {
+          error_ = org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.getDefaultInstance();
+        } else {
+          errorBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (xcapBuilder_ == null) {
+          xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
+        } else {
+          xcapBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_UpdateBatchResult_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (errorBuilder_ == null) {
+          result.error_ = error_;
+        } else {
+          result.error_ = errorBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (xcapBuilder_ == null) {
+          result.xcap_ = xcap_;
+        } else {
+          result.xcap_ = xcapBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.getDefaultInstance()) return this;
+        if (other.hasError()) {
+          mergeError(other.getError());
+        }
+        if (other.hasXcap()) {
+          mergeXcap(other.getXcap());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (hasError()) {
+          if (!getError().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasXcap()) {
+          if (!getXcap().isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;
+      private org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse error_ = org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse, org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.Builder, org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponseOrBuilder> errorBuilder_;
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+       *
+       * <pre>
+       * the error that occurred, if the update or renewal failed
+       * </pre>
+       */
+      public boolean hasError() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+       *
+       * <pre>
+       * the error that occurred, if the update or renewal failed
+       * </pre>
+       */
+      public org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse getError() {
+        if (errorBuilder_ == null) {
+          return error_;
+        } else {
+          return errorBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+       *
+       * <pre>
+       * the error that occurred, if the update or renewal failed
+       * </pre>
+       */
+      public Builder setError(org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse value) {
+        if (errorBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          error_ = value;
+          onChanged();
+        } else {
+          errorBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+       *
+       * <pre>
+       * the error that occurred, if the update or renewal failed
+       * </pre>
+       */
+      public Builder setError(
+          org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.Builder builderForValue) {
+        if (errorBuilder_ == null) {
+          error_ = builderForValue.build();
+          onChanged();
+        } else {
+          errorBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+       *
+       * <pre>
+       * the error that occurred, if the update or renewal failed
+       * </pre>
+       */
+      public Builder mergeError(org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse value) {
+        if (errorBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              error_ != org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.getDefaultInstance()) {
+            error_ =
+              org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.newBuilder(error_).mergeFrom(value).buildPartial();
+          } else {
+            error_ = value;
+          }
+          onChanged();
+        } else {
+          errorBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+       *
+       * <pre>
+       * the error that occurred, if the update or renewal failed
+       * </pre>
+       */
+      public Builder clearError() {
+        if (errorBuilder_ == null) {
+          error_ = org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.getDefaultInstance();
+          onChanged();
+        } else {
+          errorBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+       *
+       * <pre>
+       * the error that occurred, if the update or renewal failed
+       * </pre>
+       */
+      public org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.Builder getErrorBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getErrorFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+       *
+       * <pre>
+       * the error that occurred, if the update or renewal failed
+       * </pre>
+       */
+      public org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponseOrBuilder getErrorOrBuilder() {
+        if (errorBuilder_ != null) {
+          return errorBuilder_.getMessageOrBuilder();
+        } else {
+          return error_;
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 1;</code>
+       *
+       * <pre>
+       * the error that occurred, if the update or renewal failed
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse, org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.Builder, org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponseOrBuilder> 
+          getErrorFieldBuilder() {
+        if (errorBuilder_ == null) {
+          errorBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse, org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.Builder, org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponseOrBuilder>(
+                  error_,
+                  getParentForChildren(),
+                  isClean());
+          error_ = null;
+        }
+        return errorBuilder_;
+      }
+
+      // optional .xtreemfs.pbrpc.XCap xcap = 2;
+      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> xcapBuilder_;
+      /**
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+       *
+       * <pre>
+       * the renewed capability, if a capability was renewed successfully
+       * </pre>
+       */
+      public boolean hasXcap() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+       *
+       * <pre>
+       * the renewed capability, if a capability was renewed successfully
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap() {
+        if (xcapBuilder_ == null) {
+          return xcap_;
+        } else {
+          return xcapBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+       *
+       * <pre>
+       * the renewed capability, if a capability was renewed successfully
+       * </pre>
+       */
+      public Builder setXcap(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          xcap_ = value;
+          onChanged();
+        } else {
+          xcapBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+       *
+       * <pre>
+       * the renewed capability, if a capability was renewed successfully
+       * </pre>
+       */
+      public Builder setXcap(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
+        if (xcapBuilder_ == null) {
+          xcap_ = builderForValue.build();
+          onChanged();
+        } else {
+          xcapBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+       *
+       * <pre>
+       * the renewed capability, if a capability was renewed successfully
+       * </pre>
+       */
+      public Builder mergeXcap(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              xcap_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance()) {
+            xcap_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.newBuilder(xcap_).mergeFrom(value).buildPartial();
+          } else {
+            xcap_ = value;
+          }
+          onChanged();
+        } else {
+          xcapBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+       *
+       * <pre>
+       * the renewed capability, if a capability was renewed successfully
+       * </pre>
+       */
+      public Builder clearXcap() {
+        if (xcapBuilder_ == null) {
+          xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
+          onChanged();
+        } else {
+          xcapBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+       *
+       * <pre>
+       * the renewed capability, if a capability was renewed successfully
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder getXcapBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getXcapFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+       *
+       * <pre>
+       * the renewed capability, if a capability was renewed successfully
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder() {
+        if (xcapBuilder_ != null) {
+          return xcapBuilder_.getMessageOrBuilder();
+        } else {
+          return xcap_;
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 2;</code>
+       *
+       * <pre>
+       * the renewed capability, if a capability was renewed successfully
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+          getXcapFieldBuilder() {
+        if (xcapBuilder_ == null) {
+          xcapBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder>(
+                  xcap_,
+                  getParentForChildren(),
+                  isClean());
+          xcap_ = null;
+        }
+        return xcapBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.UpdateBatchResult)
+    }
+
+    static {
+      defaultInstance = new UpdateBatchResult(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.UpdateBatchResult)
+  }
+
+  public interface xtreemfs_update_batchResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+     *
+     * <pre>
+     * the results of the file size updates
+     * </pre>
+     */
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult> 
+        getFileSizeUpdateResultsList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+     *
+     * <pre>
+     * the results of the file size updates
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult getFileSizeUpdateResults(int index);
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+     *
+     * <pre>
+     * the results of the file size updates
+     * </pre>
+     */
+    int getFileSizeUpdateResultsCount();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+     *
+     * <pre>
+     * the results of the file size updates
+     * </pre>
+     */
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder> 
+        getFileSizeUpdateResultsOrBuilderList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+     *
+     * <pre>
+     * the results of the file size updates
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder getFileSizeUpdateResultsOrBuilder(
+        int index);
+
+    // repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+     *
+     * <pre>
+     * the results of the capability renewals
+     * </pre>
+     */
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult> 
+        getXcapResultsList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+     *
+     * <pre>
+     * the results of the capability renewals
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult getXcapResults(int index);
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+     *
+     * <pre>
+     * the results of the capability renewals
+     * </pre>
+     */
+    int getXcapResultsCount();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+     *
+     * <pre>
+     * the results of the capability renewals
+     * </pre>
+     */
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder> 
+        getXcapResultsOrBuilderList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+     *
+     * <pre>
+     * the results of the capability renewals
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder getXcapResultsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_update_batchResponse}
+   *
+   * <pre>
+   * the results of a batch, in the order of the request
+   * </pre>
+   */
+  public static final class xtreemfs_update_batchResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_update_batchResponseOrBuilder {
+    // Use xtreemfs_update_batchResponse.newBuilder() to construct.
+    private xtreemfs_update_batchResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_update_batchResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_update_batchResponse defaultInstance;
+    public static xtreemfs_update_batchResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_update_batchResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_update_batchResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                fileSizeUpdateResults_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              fileSizeUpdateResults_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.PARSER, extensionRegistry));
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                xcapResults_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              xcapResults_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          fileSizeUpdateResults_ = java.util.Collections.unmodifiableList(fileSizeUpdateResults_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          xcapResults_ = java.util.Collections.unmodifiableList(xcapResults_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_batchResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_batchResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_update_batchResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_update_batchResponse>() {
+      public xtreemfs_update_batchResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_update_batchResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_update_batchResponse> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;
+    public static final int FILE_SIZE_UPDATE_RESULTS_FIELD_NUMBER = 1;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult> fileSizeUpdateResults_;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+     *
+     * <pre>
+     * the results of the file size updates
+     * </pre>
+     */
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult> getFileSizeUpdateResultsList() {
+      return fileSizeUpdateResults_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+     *
+     * <pre>
+     * the results of the file size updates
+     * </pre>
+     */
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder> 
+        getFileSizeUpdateResultsOrBuilderList() {
+      return fileSizeUpdateResults_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+     *
+     * <pre>
+     * the results of the file size updates
+     * </pre>
+     */
+    public int getFileSizeUpdateResultsCount() {
+      return fileSizeUpdateResults_.size();
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+     *
+     * <pre>
+     * the results of the file size updates
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult getFileSizeUpdateResults(int index) {
+      return fileSizeUpdateResults_.get(index);
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+     *
+     * <pre>
+     * the results of the file size updates
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder getFileSizeUpdateResultsOrBuilder(
+        int index) {
+      return fileSizeUpdateResults_.get(index);
+    }
+
+    // repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;
+    public static final int XCAP_RESULTS_FIELD_NUMBER = 2;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult> xcapResults_;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+     *
+     * <pre>
+     * the results of the capability renewals
+     * </pre>
+     */
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult> getXcapResultsList() {
+      return xcapResults_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+     *
+     * <pre>
+     * the results of the capability renewals
+     * </pre>
+     */
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder> 
+        getXcapResultsOrBuilderList() {
+      return xcapResults_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+     *
+     * <pre>
+     * the results of the capability renewals
+     * </pre>
+     */
+    public int getXcapResultsCount() {
+      return xcapResults_.size();
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+     *
+     * <pre>
+     * the results of the capability renewals
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult getXcapResults(int index) {
+      return xcapResults_.get(index);
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+     *
+     * <pre>
+     * the results of the capability renewals
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder getXcapResultsOrBuilder(
+        int index) {
+      return xcapResults_.get(index);
+    }
+
+    private void initFields() {
+      fileSizeUpdateResults_ = java.util.Collections.emptyList();
+      xcapResults_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getFileSizeUpdateResultsCount(); i++) {
+        if (!getFileSizeUpdateResults(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getXcapResultsCount(); i++) {
+        if (!getXcapResults(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < fileSizeUpdateResults_.size(); i++) {
+        output.writeMessage(1, fileSizeUpdateResults_.get(i));
+      }
+      for (int i = 0; i < xcapResults_.size(); i++) {
+        output.writeMessage(2, xcapResults_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < fileSizeUpdateResults_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, fileSizeUpdateResults_.get(i));
+      }
+      for (int i = 0; i < xcapResults_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, xcapResults_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_update_batchResponse}
+     *
+     * <pre>
+     * the results of a batch, in the order of the request
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_batchResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_batchResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getFileSizeUpdateResultsFieldBuilder();
+          getXcapResultsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          fileSizeUpdateResults_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          fileSizeUpdateResultsBuilder_.clear();
+        }
+        if (xcapResultsBuilder_ == null) {
+          xcapResults_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          xcapResultsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_batchResponse_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            fileSizeUpdateResults_ = java.util.Collections.unmodifiableList(fileSizeUpdateResults_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.fileSizeUpdateResults_ = fileSizeUpdateResults_;
+        } else {
+          result.fileSizeUpdateResults_ = fileSizeUpdateResultsBuilder_.build();
+        }
+        if (xcapResultsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            xcapResults_ = java.util.Collections.unmodifiableList(xcapResults_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.xcapResults_ = xcapResults_;
+        } else {
+          result.xcapResults_ = xcapResultsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse.getDefaultInstance()) return this;
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          if (!other.fileSizeUpdateResults_.isEmpty()) {
+            if (fileSizeUpdateResults_.isEmpty()) {
+              fileSizeUpdateResults_ = other.fileSizeUpdateResults_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureFileSizeUpdateResultsIsMutable();
+              fileSizeUpdateResults_.addAll(other.fileSizeUpdateResults_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.fileSizeUpdateResults_.isEmpty()) {
+            if (fileSizeUpdateResultsBuilder_.isEmpty()) {
+              fileSizeUpdateResultsBuilder_.dispose();
+              fileSizeUpdateResultsBuilder_ = null;
+              fileSizeUpdateResults_ = other.fileSizeUpdateResults_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              fileSizeUpdateResultsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getFileSizeUpdateResultsFieldBuilder() : null;
+            } else {
+              fileSizeUpdateResultsBuilder_.addAllMessages(other.fileSizeUpdateResults_);
+            }
+          }
+        }
+        if (xcapResultsBuilder_ == null) {
+          if (!other.xcapResults_.isEmpty()) {
+            if (xcapResults_.isEmpty()) {
+              xcapResults_ = other.xcapResults_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureXcapResultsIsMutable();
+              xcapResults_.addAll(other.xcapResults_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.xcapResults_.isEmpty()) {
+            if (xcapResultsBuilder_.isEmpty()) {
+              xcapResultsBuilder_.dispose();
+              xcapResultsBuilder_ = null;
+              xcapResults_ = other.xcapResults_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              xcapResultsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getXcapResultsFieldBuilder() : null;
+            } else {
+              xcapResultsBuilder_.addAllMessages(other.xcapResults_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getFileSizeUpdateResultsCount(); i++) {
+          if (!getFileSizeUpdateResults(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getXcapResultsCount(); i++) {
+          if (!getXcapResults(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_batchResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult> fileSizeUpdateResults_ =
+        java.util.Collections.emptyList();
+      private void ensureFileSizeUpdateResultsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          fileSizeUpdateResults_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult>(fileSizeUpdateResults_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder> fileSizeUpdateResultsBuilder_;
+
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult> getFileSizeUpdateResultsList() {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(fileSizeUpdateResults_);
+        } else {
+          return fileSizeUpdateResultsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public int getFileSizeUpdateResultsCount() {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          return fileSizeUpdateResults_.size();
+        } else {
+          return fileSizeUpdateResultsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult getFileSizeUpdateResults(int index) {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          return fileSizeUpdateResults_.get(index);
+        } else {
+          return fileSizeUpdateResultsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public Builder setFileSizeUpdateResults(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult value) {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFileSizeUpdateResultsIsMutable();
+          fileSizeUpdateResults_.set(index, value);
+          onChanged();
+        } else {
+          fileSizeUpdateResultsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public Builder setFileSizeUpdateResults(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder builderForValue) {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          ensureFileSizeUpdateResultsIsMutable();
+          fileSizeUpdateResults_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          fileSizeUpdateResultsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public Builder addFileSizeUpdateResults(org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult value) {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFileSizeUpdateResultsIsMutable();
+          fileSizeUpdateResults_.add(value);
+          onChanged();
+        } else {
+          fileSizeUpdateResultsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public Builder addFileSizeUpdateResults(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult value) {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFileSizeUpdateResultsIsMutable();
+          fileSizeUpdateResults_.add(index, value);
+          onChanged();
+        } else {
+          fileSizeUpdateResultsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public Builder addFileSizeUpdateResults(
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder builderForValue) {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          ensureFileSizeUpdateResultsIsMutable();
+          fileSizeUpdateResults_.add(builderForValue.build());
+          onChanged();
+        } else {
+          fileSizeUpdateResultsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public Builder addFileSizeUpdateResults(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder builderForValue) {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          ensureFileSizeUpdateResultsIsMutable();
+          fileSizeUpdateResults_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          fileSizeUpdateResultsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public Builder addAllFileSizeUpdateResults(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult> values) {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          ensureFileSizeUpdateResultsIsMutable();
+          super.addAll(values, fileSizeUpdateResults_);
+          onChanged();
+        } else {
+          fileSizeUpdateResultsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public Builder clearFileSizeUpdateResults() {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          fileSizeUpdateResults_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          fileSizeUpdateResultsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public Builder removeFileSizeUpdateResults(int index) {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          ensureFileSizeUpdateResultsIsMutable();
+          fileSizeUpdateResults_.remove(index);
+          onChanged();
+        } else {
+          fileSizeUpdateResultsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder getFileSizeUpdateResultsBuilder(
+          int index) {
+        return getFileSizeUpdateResultsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder getFileSizeUpdateResultsOrBuilder(
+          int index) {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          return fileSizeUpdateResults_.get(index);  } else {
+          return fileSizeUpdateResultsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder> 
+           getFileSizeUpdateResultsOrBuilderList() {
+        if (fileSizeUpdateResultsBuilder_ != null) {
+          return fileSizeUpdateResultsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(fileSizeUpdateResults_);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder addFileSizeUpdateResultsBuilder() {
+        return getFileSizeUpdateResultsFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder addFileSizeUpdateResultsBuilder(
+          int index) {
+        return getFileSizeUpdateResultsFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult file_size_update_results = 1;</code>
+       *
+       * <pre>
+       * the results of the file size updates
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder> 
+           getFileSizeUpdateResultsBuilderList() {
+        return getFileSizeUpdateResultsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder> 
+          getFileSizeUpdateResultsFieldBuilder() {
+        if (fileSizeUpdateResultsBuilder_ == null) {
+          fileSizeUpdateResultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder>(
+                  fileSizeUpdateResults_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          fileSizeUpdateResults_ = null;
+        }
+        return fileSizeUpdateResultsBuilder_;
+      }
+
+      // repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult> xcapResults_ =
+        java.util.Collections.emptyList();
+      private void ensureXcapResultsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          xcapResults_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult>(xcapResults_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder> xcapResultsBuilder_;
+
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult> getXcapResultsList() {
+        if (xcapResultsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(xcapResults_);
+        } else {
+          return xcapResultsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public int getXcapResultsCount() {
+        if (xcapResultsBuilder_ == null) {
+          return xcapResults_.size();
+        } else {
+          return xcapResultsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult getXcapResults(int index) {
+        if (xcapResultsBuilder_ == null) {
+          return xcapResults_.get(index);
+        } else {
+          return xcapResultsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public Builder setXcapResults(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult value) {
+        if (xcapResultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXcapResultsIsMutable();
+          xcapResults_.set(index, value);
+          onChanged();
+        } else {
+          xcapResultsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public Builder setXcapResults(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder builderForValue) {
+        if (xcapResultsBuilder_ == null) {
+          ensureXcapResultsIsMutable();
+          xcapResults_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          xcapResultsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public Builder addXcapResults(org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult value) {
+        if (xcapResultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXcapResultsIsMutable();
+          xcapResults_.add(value);
+          onChanged();
+        } else {
+          xcapResultsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public Builder addXcapResults(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult value) {
+        if (xcapResultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXcapResultsIsMutable();
+          xcapResults_.add(index, value);
+          onChanged();
+        } else {
+          xcapResultsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public Builder addXcapResults(
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder builderForValue) {
+        if (xcapResultsBuilder_ == null) {
+          ensureXcapResultsIsMutable();
+          xcapResults_.add(builderForValue.build());
+          onChanged();
+        } else {
+          xcapResultsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public Builder addXcapResults(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder builderForValue) {
+        if (xcapResultsBuilder_ == null) {
+          ensureXcapResultsIsMutable();
+          xcapResults_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          xcapResultsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public Builder addAllXcapResults(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult> values) {
+        if (xcapResultsBuilder_ == null) {
+          ensureXcapResultsIsMutable();
+          super.addAll(values, xcapResults_);
+          onChanged();
+        } else {
+          xcapResultsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public Builder clearXcapResults() {
+        if (xcapResultsBuilder_ == null) {
+          xcapResults_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          xcapResultsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public Builder removeXcapResults(int index) {
+        if (xcapResultsBuilder_ == null) {
+          ensureXcapResultsIsMutable();
+          xcapResults_.remove(index);
+          onChanged();
+        } else {
+          xcapResultsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder getXcapResultsBuilder(
+          int index) {
+        return getXcapResultsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder getXcapResultsOrBuilder(
+          int index) {
+        if (xcapResultsBuilder_ == null) {
+          return xcapResults_.get(index);  } else {
+          return xcapResultsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder> 
+           getXcapResultsOrBuilderList() {
+        if (xcapResultsBuilder_ != null) {
+          return xcapResultsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(xcapResults_);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder addXcapResultsBuilder() {
+        return getXcapResultsFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder addXcapResultsBuilder(
+          int index) {
+        return getXcapResultsFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.UpdateBatchResult xcap_results = 2;</code>
+       *
+       * <pre>
+       * the results of the capability renewals
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder> 
+           getXcapResultsBuilderList() {
+        return getXcapResultsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder> 
+          getXcapResultsFieldBuilder() {
+        if (xcapResultsBuilder_ == null) {
+          xcapResultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResult.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.UpdateBatchResultOrBuilder>(
+                  xcapResults_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          xcapResults_ = null;
+        }
+        return xcapResultsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_update_batchResponse)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_update_batchResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_update_batchResponse)
+  }
+
+  public interface xtreemfs_delete_recursiveRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string volume_name = 1;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the name of the volume
+     * </pre>
+     */
+    boolean hasVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the name of the volume
+     * </pre>
+     */
+    java.lang.String getVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the name of the volume
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getVolumeNameBytes();
+
+    // repeated string paths = 2;
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths of the files and directories to delete, in the order of deletion
+     * </pre>
+     */
+    java.util.List<java.lang.String>
+    getPathsList();
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths of the files and directories to delete, in the order of deletion
+     * </pre>
+     */
+    int getPathsCount();
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths of the files and directories to delete, in the order of deletion
+     * </pre>
+     */
+    java.lang.String getPaths(int index);
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths of the files and directories to delete, in the order of deletion
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getPathsBytes(int index);
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_delete_recursiveRequest}
+   *
+   * <pre>
+   * deletes files and directories including their content
+   * </pre>
+   */
+  public static final class xtreemfs_delete_recursiveRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_delete_recursiveRequestOrBuilder {
+    // Use xtreemfs_delete_recursiveRequest.newBuilder() to construct.
+    private xtreemfs_delete_recursiveRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_delete_recursiveRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_delete_recursiveRequest defaultInstance;
+    public static xtreemfs_delete_recursiveRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_delete_recursiveRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_delete_recursiveRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              volumeName_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                paths_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              paths_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.UnmodifiableLazyStringList(paths_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_delete_recursiveRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_delete_recursiveRequest>() {
+      public xtreemfs_delete_recursiveRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_delete_recursiveRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_delete_recursiveRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string volume_name = 1;
+    public static final int VOLUME_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object volumeName_;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the name of the volume
+     * </pre>
+     */
+    public boolean hasVolumeName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the name of the volume
+     * </pre>
+     */
+    public java.lang.String getVolumeName() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          volumeName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the name of the volume
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getVolumeNameBytes() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        volumeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated string paths = 2;
+    public static final int PATHS_FIELD_NUMBER = 2;
+    private com.google.protobuf.LazyStringList paths_;
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths of the files and directories to delete, in the order of deletion
+     * </pre>
+     */
+    public java.util.List<java.lang.String>
+        getPathsList() {
+      return paths_;
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths of the files and directories to delete, in the order of deletion
+     * </pre>
+     */
+    public int getPathsCount() {
+      return paths_.size();
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths of the files and directories to delete, in the order of deletion
+     * </pre>
+     */
+    public java.lang.String getPaths(int index) {
+      return paths_.get(index);
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths of the files and directories to delete, in the order of deletion
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getPathsBytes(int index) {
+      return paths_.getByteString(index);
+    }
+
+    private void initFields() {
+      volumeName_ = "";
+      paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasVolumeName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getVolumeNameBytes());
+      }
+      for (int i = 0; i < paths_.size(); i++) {
+        output.writeBytes(2, paths_.getByteString(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getVolumeNameBytes());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < paths_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(paths_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getPathsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_delete_recursiveRequest}
+     *
+     * <pre>
+     * deletes files and directories including their content
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        volumeName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.volumeName_ = volumeName_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              paths_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.paths_ = paths_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest.getDefaultInstance()) return this;
+        if (other.hasVolumeName()) {
+          bitField0_ |= 0x00000001;
+          volumeName_ = other.volumeName_;
+          onChanged();
+        }
+        if (!other.paths_.isEmpty()) {
+          if (paths_.isEmpty()) {
+            paths_ = other.paths_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePathsIsMutable();
+            paths_.addAll(other.paths_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVolumeName()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string volume_name = 1;
+      private java.lang.Object volumeName_ = "";
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the name of the volume
+       * </pre>
+       */
+      public boolean hasVolumeName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the name of the volume
+       * </pre>
+       */
+      public java.lang.String getVolumeName() {
+        java.lang.Object ref = volumeName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          volumeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the name of the volume
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getVolumeNameBytes() {
+        java.lang.Object ref = volumeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volumeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the name of the volume
+       * </pre>
+       */
+      public Builder setVolumeName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the name of the volume
+       * </pre>
+       */
+      public Builder clearVolumeName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        volumeName_ = getDefaultInstance().getVolumeName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the name of the volume
+       * </pre>
+       */
+      public Builder setVolumeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // repeated string paths = 2;
+      private com.google.protobuf.LazyStringList paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePathsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.LazyStringArrayList(paths_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths of the files and directories to delete, in the order of deletion
+       * </pre>
+       */
+      public java.util.List<java.lang.String>
+          getPathsList() {
+        return java.util.Collections.unmodifiableList(paths_);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths of the files and directories to delete, in the order of deletion
+       * </pre>
+       */
+      public int getPathsCount() {
+        return paths_.size();
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths of the files and directories to delete, in the order of deletion
+       * </pre>
+       */
+      public java.lang.String getPaths(int index) {
+        return paths_.get(index);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths of the files and directories to delete, in the order of deletion
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getPathsBytes(int index) {
+        return paths_.getByteString(index);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths of the files and directories to delete, in the order of deletion
+       * </pre>
+       */
+      public Builder setPaths(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths of the files and directories to delete, in the order of deletion
+       * </pre>
+       */
+      public Builder addPaths(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths of the files and directories to delete, in the order of deletion
+       * </pre>
+       */
+      public Builder addAllPaths(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePathsIsMutable();
+        super.addAll(values, paths_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths of the files and directories to delete, in the order of deletion
+       * </pre>
+       */
+      public Builder clearPaths() {
+        paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths of the files and directories to delete, in the order of deletion
+       * </pre>
+       */
+      public Builder addPathsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_delete_recursiveRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_delete_recursiveRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_delete_recursiveRequest)
+  }
+
+  public interface xtreemfs_delete_recursiveResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required fixed32 completed_paths = 1;
+    /**
+     * <code>required fixed32 completed_paths = 1;</code>
+     *
+     * <pre>
+     * the number of paths that have been deleted completely
+     * </pre>
+     */
+    boolean hasCompletedPaths();
+    /**
+     * <code>required fixed32 completed_paths = 1;</code>
+     *
+     * <pre>
+     * the number of paths that have been deleted completely
+     * </pre>
+     */
+    int getCompletedPaths();
+
+    // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;
+    /**
+     * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+     *
+     * <pre>
+     * the error that occurred when deleting the path following the completed
+     * paths, if any
+     * </pre>
+     */
+    boolean hasError();
+    /**
+     * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+     *
+     * <pre>
+     * the error that occurred when deleting the path following the completed
+     * paths, if any
+     * </pre>
+     */
+    org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse getError();
+    /**
+     * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+     *
+     * <pre>
+     * the error that occurred when deleting the path following the completed
+     * paths, if any
+     * </pre>
+     */
+    org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponseOrBuilder getErrorOrBuilder();
+
+    // repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+     *
+     * <pre>
+     * the credentials of the deleted files whose objects have to be deleted on
+     * the OSDs
+     * </pre>
+     */
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials> 
+        getDeletedFilesList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+     *
+     * <pre>
+     * the credentials of the deleted files whose objects have to be deleted on
+     * the OSDs
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getDeletedFiles(int index);
+    /**
+     * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+     *
+     * <pre>
+     * the credentials of the deleted files whose objects have to be deleted on
+     * the OSDs
+     * </pre>
+     */
+    int getDeletedFilesCount();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+     *
+     * <pre>
+     * the credentials of the deleted files whose objects have to be deleted on
+     * the OSDs
+     * </pre>
+     */
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> 
+        getDeletedFilesOrBuilderList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+     *
+     * <pre>
+     * the credentials of the deleted files whose objects have to be deleted on
+     * the OSDs
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getDeletedFilesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_delete_recursiveResponse}
+   *
+   * <pre>
+   * the result of a recursive deletion; if neither all paths have been deleted
+   * nor an error occurred, the remaining paths have to be sent again
+   * </pre>
+   */
+  public static final class xtreemfs_delete_recursiveResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_delete_recursiveResponseOrBuilder {
+    // Use xtreemfs_delete_recursiveResponse.newBuilder() to construct.
+    private xtreemfs_delete_recursiveResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_delete_recursiveResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_delete_recursiveResponse defaultInstance;
+    public static xtreemfs_delete_recursiveResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_delete_recursiveResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_delete_recursiveResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 13: {
+              bitField0_ |= 0x00000001;
+              completedPaths_ = input.readFixed32();
+              break;
+            }
+            case 18: {
+              org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = error_.toBuilder();
+              }
+              error_ = input.readMessage(org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(error_);
+                error_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                deletedFiles_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              deletedFiles_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          deletedFiles_ = java.util.Collections.unmodifiableList(deletedFiles_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_delete_recursiveResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_delete_recursiveResponse>() {
+      public xtreemfs_delete_recursiveResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_delete_recursiveResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_delete_recursiveResponse> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required fixed32 completed_paths = 1;
+    public static final int COMPLETED_PATHS_FIELD_NUMBER = 1;
+    private int completedPaths_;
+    /**
+     * <code>required fixed32 completed_paths = 1;</code>
+     *
+     * <pre>
+     * the number of paths that have been deleted completely
+     * </pre>
+     */
+    public boolean hasCompletedPaths() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required fixed32 completed_paths = 1;</code>
+     *
+     * <pre>
+     * the number of paths that have been deleted completely
+     * </pre>
+     */
+    public int getCompletedPaths() {
+      return completedPaths_;
+    }
+
+    // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;
+    public static final int ERROR_FIELD_NUMBER = 2;
+    private org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse error_;
+    /**
+     * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+     *
+     * <pre>
+     * the error that occurred when deleting the path following the completed
+     * paths, if any
+     * </pre>
+     */
+    public boolean hasError() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+     *
+     * <pre>
+     * the error that occurred when deleting the path following the completed
+     * paths, if any
+     * </pre>
+     */
+    public org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse getError() {
+      return error_;
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+     *
+     * <pre>
+     * the error that occurred when deleting the path following the completed
+     * paths, if any
+     * </pre>
+     */
+    public org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponseOrBuilder getErrorOrBuilder() {
+      return error_;
+    }
+
+    // repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;
+    public static final int DELETED_FILES_FIELD_NUMBER = 3;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials> deletedFiles_;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+     *
+     * <pre>
+     * the credentials of the deleted files whose objects have to be deleted on
+     * the OSDs
+     * </pre>
+     */
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials> getDeletedFilesList() {
+      return deletedFiles_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+     *
+     * <pre>
+     * the credentials of the deleted files whose objects have to be deleted on
+     * the OSDs
+     * </pre>
+     */
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> 
+        getDeletedFilesOrBuilderList() {
+      return deletedFiles_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+     *
+     * <pre>
+     * the credentials of the deleted files whose objects have to be deleted on
+     * the OSDs
+     * </pre>
+     */
+    public int getDeletedFilesCount() {
+      return deletedFiles_.size();
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+     *
+     * <pre>
+     * the credentials of the deleted files whose objects have to be deleted on
+     * the OSDs
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getDeletedFiles(int index) {
+      return deletedFiles_.get(index);
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+     *
+     * <pre>
+     * the credentials of the deleted files whose objects have to be deleted on
+     * the OSDs
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getDeletedFilesOrBuilder(
+        int index) {
+      return deletedFiles_.get(index);
+    }
+
+    private void initFields() {
+      completedPaths_ = 0;
+      error_ = org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.getDefaultInstance();
+      deletedFiles_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasCompletedPaths()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasError()) {
+        if (!getError().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getDeletedFilesCount(); i++) {
+        if (!getDeletedFiles(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeFixed32(1, completedPaths_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, error_);
+      }
+      for (int i = 0; i < deletedFiles_.size(); i++) {
+        output.writeMessage(3, deletedFiles_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(1, completedPaths_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, error_);
+      }
+      for (int i = 0; i < deletedFiles_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, deletedFiles_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_delete_recursiveResponse}
+     *
+     * <pre>
+     * the result of a recursive deletion; if neither all paths have been deleted
+     * nor an error occurred, the remaining paths have to be sent again
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getErrorFieldBuilder();
+          getDeletedFilesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        completedPaths_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (errorBuilder_ == null) {
+          error_ = org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.getDefaultInstance();
+        } else {
+          errorBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (deletedFilesBuilder_ == null) {
+          deletedFiles_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          deletedFilesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveResponse_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.completedPaths_ = completedPaths_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (errorBuilder_ == null) {
+          result.error_ = error_;
+        } else {
+          result.error_ = errorBuilder_.build();
+        }
+        if (deletedFilesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            deletedFiles_ = java.util.Collections.unmodifiableList(deletedFiles_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.deletedFiles_ = deletedFiles_;
+        } else {
+          result.deletedFiles_ = deletedFilesBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse.getDefaultInstance()) return this;
+        if (other.hasCompletedPaths()) {
+          setCompletedPaths(other.getCompletedPaths());
+        }
+        if (other.hasError()) {
+          mergeError(other.getError());
+        }
+        if (deletedFilesBuilder_ == null) {
+          if (!other.deletedFiles_.isEmpty()) {
+            if (deletedFiles_.isEmpty()) {
+              deletedFiles_ = other.deletedFiles_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureDeletedFilesIsMutable();
+              deletedFiles_.addAll(other.deletedFiles_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.deletedFiles_.isEmpty()) {
+            if (deletedFilesBuilder_.isEmpty()) {
+              deletedFilesBuilder_.dispose();
+              deletedFilesBuilder_ = null;
+              deletedFiles_ = other.deletedFiles_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              deletedFilesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getDeletedFilesFieldBuilder() : null;
+            } else {
+              deletedFilesBuilder_.addAllMessages(other.deletedFiles_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasCompletedPaths()) {
+          
+          return false;
+        }
+        if (hasError()) {
+          if (!getError().isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getDeletedFilesCount(); i++) {
+          if (!getDeletedFiles(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_delete_recursiveResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required fixed32 completed_paths = 1;
+      private int completedPaths_ ;
+      /**
+       * <code>required fixed32 completed_paths = 1;</code>
+       *
+       * <pre>
+       * the number of paths that have been deleted completely
+       * </pre>
+       */
+      public boolean hasCompletedPaths() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required fixed32 completed_paths = 1;</code>
+       *
+       * <pre>
+       * the number of paths that have been deleted completely
+       * </pre>
+       */
+      public int getCompletedPaths() {
+        return completedPaths_;
+      }
+      /**
+       * <code>required fixed32 completed_paths = 1;</code>
+       *
+       * <pre>
+       * the number of paths that have been deleted completely
+       * </pre>
+       */
+      public Builder setCompletedPaths(int value) {
+        bitField0_ |= 0x00000001;
+        completedPaths_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 completed_paths = 1;</code>
+       *
+       * <pre>
+       * the number of paths that have been deleted completely
+       * </pre>
+       */
+      public Builder clearCompletedPaths() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        completedPaths_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;
+      private org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse error_ = org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse, org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.Builder, org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponseOrBuilder> errorBuilder_;
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+       *
+       * <pre>
+       * the error that occurred when deleting the path following the completed
+       * paths, if any
+       * </pre>
+       */
+      public boolean hasError() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+       *
+       * <pre>
+       * the error that occurred when deleting the path following the completed
+       * paths, if any
+       * </pre>
+       */
+      public org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse getError() {
+        if (errorBuilder_ == null) {
+          return error_;
+        } else {
+          return errorBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+       *
+       * <pre>
+       * the error that occurred when deleting the path following the completed
+       * paths, if any
+       * </pre>
+       */
+      public Builder setError(org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse value) {
+        if (errorBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          error_ = value;
+          onChanged();
+        } else {
+          errorBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+       *
+       * <pre>
+       * the error that occurred when deleting the path following the completed
+       * paths, if any
+       * </pre>
+       */
+      public Builder setError(
+          org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.Builder builderForValue) {
+        if (errorBuilder_ == null) {
+          error_ = builderForValue.build();
+          onChanged();
+        } else {
+          errorBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+       *
+       * <pre>
+       * the error that occurred when deleting the path following the completed
+       * paths, if any
+       * </pre>
+       */
+      public Builder mergeError(org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse value) {
+        if (errorBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              error_ != org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.getDefaultInstance()) {
+            error_ =
+              org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.newBuilder(error_).mergeFrom(value).buildPartial();
+          } else {
+            error_ = value;
+          }
+          onChanged();
+        } else {
+          errorBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+       *
+       * <pre>
+       * the error that occurred when deleting the path following the completed
+       * paths, if any
+       * </pre>
+       */
+      public Builder clearError() {
+        if (errorBuilder_ == null) {
+          error_ = org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.getDefaultInstance();
+          onChanged();
+        } else {
+          errorBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+       *
+       * <pre>
+       * the error that occurred when deleting the path following the completed
+       * paths, if any
+       * </pre>
+       */
+      public org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.Builder getErrorBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getErrorFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+       *
+       * <pre>
+       * the error that occurred when deleting the path following the completed
+       * paths, if any
+       * </pre>
+       */
+      public org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponseOrBuilder getErrorOrBuilder() {
+        if (errorBuilder_ != null) {
+          return errorBuilder_.getMessageOrBuilder();
+        } else {
+          return error_;
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.RPCHeader.ErrorResponse error = 2;</code>
+       *
+       * <pre>
+       * the error that occurred when deleting the path following the completed
+       * paths, if any
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse, org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.Builder, org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponseOrBuilder> 
+          getErrorFieldBuilder() {
+        if (errorBuilder_ == null) {
+          errorBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse, org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse.Builder, org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponseOrBuilder>(
+                  error_,
+                  getParentForChildren(),
+                  isClean());
+          error_ = null;
+        }
+        return errorBuilder_;
+      }
+
+      // repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials> deletedFiles_ =
+        java.util.Collections.emptyList();
+      private void ensureDeletedFilesIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          deletedFiles_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials>(deletedFiles_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> deletedFilesBuilder_;
+
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials> getDeletedFilesList() {
+        if (deletedFilesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(deletedFiles_);
+        } else {
+          return deletedFilesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public int getDeletedFilesCount() {
+        if (deletedFilesBuilder_ == null) {
+          return deletedFiles_.size();
+        } else {
+          return deletedFilesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getDeletedFiles(int index) {
+        if (deletedFilesBuilder_ == null) {
+          return deletedFiles_.get(index);
+        } else {
+          return deletedFilesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public Builder setDeletedFiles(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
+        if (deletedFilesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeletedFilesIsMutable();
+          deletedFiles_.set(index, value);
+          onChanged();
+        } else {
+          deletedFilesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public Builder setDeletedFiles(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder builderForValue) {
+        if (deletedFilesBuilder_ == null) {
+          ensureDeletedFilesIsMutable();
+          deletedFiles_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          deletedFilesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public Builder addDeletedFiles(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
+        if (deletedFilesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeletedFilesIsMutable();
+          deletedFiles_.add(value);
+          onChanged();
+        } else {
+          deletedFilesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public Builder addDeletedFiles(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
+        if (deletedFilesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeletedFilesIsMutable();
+          deletedFiles_.add(index, value);
+          onChanged();
+        } else {
+          deletedFilesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public Builder addDeletedFiles(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder builderForValue) {
+        if (deletedFilesBuilder_ == null) {
+          ensureDeletedFilesIsMutable();
+          deletedFiles_.add(builderForValue.build());
+          onChanged();
+        } else {
+          deletedFilesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public Builder addDeletedFiles(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder builderForValue) {
+        if (deletedFilesBuilder_ == null) {
+          ensureDeletedFilesIsMutable();
+          deletedFiles_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          deletedFilesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public Builder addAllDeletedFiles(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials> values) {
+        if (deletedFilesBuilder_ == null) {
+          ensureDeletedFilesIsMutable();
+          super.addAll(values, deletedFiles_);
+          onChanged();
+        } else {
+          deletedFilesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public Builder clearDeletedFiles() {
+        if (deletedFilesBuilder_ == null) {
+          deletedFiles_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          deletedFilesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public Builder removeDeletedFiles(int index) {
+        if (deletedFilesBuilder_ == null) {
+          ensureDeletedFilesIsMutable();
+          deletedFiles_.remove(index);
+          onChanged();
+        } else {
+          deletedFilesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder getDeletedFilesBuilder(
+          int index) {
+        return getDeletedFilesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getDeletedFilesOrBuilder(
+          int index) {
+        if (deletedFilesBuilder_ == null) {
+          return deletedFiles_.get(index);  } else {
+          return deletedFilesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> 
+           getDeletedFilesOrBuilderList() {
+        if (deletedFilesBuilder_ != null) {
+          return deletedFilesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(deletedFiles_);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder addDeletedFilesBuilder() {
+        return getDeletedFilesFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder addDeletedFilesBuilder(
+          int index) {
+        return getDeletedFilesFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.FileCredentials deleted_files = 3;</code>
+       *
+       * <pre>
+       * the credentials of the deleted files whose objects have to be deleted on
+       * the OSDs
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder> 
+           getDeletedFilesBuilderList() {
+        return getDeletedFilesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> 
+          getDeletedFilesFieldBuilder() {
+        if (deletedFilesBuilder_ == null) {
+          deletedFilesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder>(
+                  deletedFiles_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          deletedFiles_ = null;
+        }
+        return deletedFilesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_delete_recursiveResponse)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_delete_recursiveResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_delete_recursiveResponse)
+  }
+
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_xtreemfs_pbrpc_Stat_descriptor;
   private static
@@ -46661,6 +52131,31 @@ public final class MRC {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_xtreemfs_pbrpc_xtreemfs_get_file_credentialsRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_update_batchRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_update_batchRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_UpdateBatchResult_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_UpdateBatchResult_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_update_batchResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_update_batchResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -46672,235 +52167,258 @@ public final class MRC {
     java.lang.String[] descriptorData = {
       "\n\022xtreemfs/MRC.proto\022\016xtreemfs.pbrpc\032\023in" +
       "clude/PBRPC.proto\032\024include/Common.proto\032" +
-      "\032xtreemfs/GlobalTypes.proto\"\357\001\n\004Stat\022\013\n\003" +
-      "dev\030\001 \002(\006\022\013\n\003ino\030\002 \002(\006\022\014\n\004mode\030\003 \002(\007\022\r\n\005" +
-      "nlink\030\004 \002(\007\022\017\n\007user_id\030\005 \002(\t\022\020\n\010group_id" +
-      "\030\006 \002(\t\022\014\n\004size\030\007 \002(\006\022\020\n\010atime_ns\030\010 \002(\006\022\020" +
-      "\n\010mtime_ns\030\t \002(\006\022\020\n\010ctime_ns\030\n \002(\006\022\017\n\007bl" +
-      "ksize\030\013 \002(\007\022\014\n\004etag\030\014 \001(\006\022\026\n\016truncate_ep" +
-      "och\030\r \002(\007\022\022\n\nattributes\030\016 \001(\007\"C\n\016Directo" +
-      "ryEntry\022\014\n\004name\030\001 \002(\t\022#\n\005stbuf\030\002 \001(\0132\024.x",
-      "treemfs.pbrpc.Stat\"C\n\020DirectoryEntries\022/" +
-      "\n\007entries\030\001 \003(\0132\036.xtreemfs.pbrpc.Directo" +
-      "ryEntry\"@\n\005XAttr\022\014\n\004name\030\001 \002(\t\022\r\n\005value\030" +
-      "\002 \001(\t\022\032\n\022value_bytes_string\030\003 \001(\014\"\244\002\n\006Vo" +
-      "lume\022F\n\025access_control_policy\030\001 \002(\0162\'.xt" +
-      "reemfs.pbrpc.AccessControlPolicyType\022?\n\027" +
-      "default_striping_policy\030\002 \002(\0132\036.xtreemfs" +
-      ".pbrpc.StripingPolicy\022\n\n\002id\030\003 \002(\t\022\014\n\004mod" +
-      "e\030\004 \002(\007\022\014\n\004name\030\005 \002(\t\022\026\n\016owner_group_id\030" +
-      "\006 \002(\t\022\025\n\rowner_user_id\030\007 \002(\t\022+\n\005attrs\030\010 ",
-      "\003(\0132\034.xtreemfs.pbrpc.KeyValuePair\022\r\n\005quo" +
-      "ta\030\t \001(\006\"2\n\007Volumes\022\'\n\007volumes\030\001 \003(\0132\026.x" +
-      "treemfs.pbrpc.Volume\"\310\002\n\007StatVFS\022\r\n\005bsiz" +
-      "e\030\001 \002(\007\022\016\n\006bavail\030\002 \002(\006\022\r\n\005bfree\030\r \001(\006\022\016" +
-      "\n\006blocks\030\003 \002(\006\022\014\n\004fsid\030\004 \002(\t\022\017\n\007namemax\030" +
-      "\005 \002(\007\022F\n\025access_control_policy\030\006 \002(\0162\'.x" +
-      "treemfs.pbrpc.AccessControlPolicyType\022?\n" +
-      "\027default_striping_policy\030\007 \002(\0132\036.xtreemf" +
-      "s.pbrpc.StripingPolicy\022\014\n\004etag\030\010 \002(\006\022\014\n\004" +
-      "mode\030\t \002(\007\022\014\n\004name\030\n \002(\t\022\026\n\016owner_group_",
-      "id\030\013 \002(\t\022\025\n\rowner_user_id\030\014 \002(\t\"i\n\017fseta" +
-      "ttrRequest\022#\n\005stbuf\030\001 \002(\0132\024.xtreemfs.pbr" +
-      "pc.Stat\022\016\n\006to_set\030\002 \002(\007\022!\n\003cap\030\003 \002(\0132\024.x" +
-      "treemfs.pbrpc.XCap\"G\n\016getattrRequest\022\023\n\013" +
-      "volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\022\n\nknown" +
-      "_etag\030\003 \002(\006\"6\n\017getattrResponse\022#\n\005stbuf\030" +
-      "\001 \001(\0132\024.xtreemfs.pbrpc.Stat\"B\n\017getxattrR" +
-      "equest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(" +
-      "\t\022\014\n\004name\030\003 \002(\t\"=\n\020getxattrResponse\022\r\n\005v" +
-      "alue\030\001 \002(\t\022\032\n\022value_bytes_string\030\002 \001(\014\"J",
-      "\n\013linkRequest\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013ta" +
-      "rget_path\030\002 \002(\t\022\021\n\tlink_path\030\003 \002(\t\"I\n\020li" +
-      "stxattrRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004p" +
-      "ath\030\002 \002(\t\022\022\n\nnames_only\030\003 \002(\010\":\n\021listxat" +
-      "trResponse\022%\n\006xattrs\030\001 \003(\0132\025.xtreemfs.pb" +
-      "rpc.XAttr\"?\n\014mkdirRequest\022\023\n\013volume_name" +
-      "\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004mode\030\003 \002(\007\"\232\001\n\013o" +
-      "penRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030" +
-      "\002 \002(\t\022\r\n\005flags\030\003 \002(\007\022\014\n\004mode\030\004 \002(\007\022\022\n\nat" +
-      "tributes\030\005 \002(\007\0227\n\013coordinates\030\006 \001(\0132\".xt",
-      "reemfs.pbrpc.VivaldiCoordinates\"S\n\014openR" +
-      "esponse\022.\n\005creds\030\001 \002(\0132\037.xtreemfs.pbrpc." +
-      "FileCredentials\022\023\n\013timestamp_s\030\002 \002(\007\"\250\001\n" +
-      "\016readdirRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004" +
-      "path\030\002 \002(\t\022\022\n\nknown_etag\030\003 \002(\006\022%\n\035limit_" +
-      "directory_entries_count\030\004 \002(\007\022\022\n\nnames_o" +
-      "nly\030\005 \002(\010\022$\n\034seen_directory_entries_coun" +
-      "t\030\006 \002(\006\"4\n\017readlinkRequest\022\023\n\013volume_nam" +
-      "e\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\",\n\020readlinkRespons" +
-      "e\022\030\n\020link_target_path\030\001 \003(\t\"E\n\022removexat",
-      "trRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002" +
-      " \002(\t\022\014\n\004name\030\003 \002(\t\"N\n\rrenameRequest\022\023\n\013v" +
-      "olume_name\030\001 \002(\t\022\023\n\013source_path\030\002 \002(\t\022\023\n" +
-      "\013target_path\030\003 \002(\t\"U\n\016renameResponse\022\023\n\013" +
-      "timestamp_s\030\001 \002(\007\022.\n\005creds\030\002 \001(\0132\037.xtree" +
-      "mfs.pbrpc.FileCredentials\"1\n\014rmdirReques" +
-      "t\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\"h\n\016" +
-      "setattrRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004p" +
-      "ath\030\002 \002(\t\022#\n\005stbuf\030\003 \002(\0132\024.xtreemfs.pbrp" +
-      "c.Stat\022\016\n\006to_set\030\004 \002(\007\"|\n\017setxattrReques",
-      "t\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004" +
-      "name\030\003 \002(\t\022\r\n\005value\030\004 \002(\t\022\032\n\022value_bytes" +
-      "_string\030\006 \001(\014\022\r\n\005flags\030\005 \002(\007\"9\n\016statvfsR" +
-      "equest\022\023\n\013volume_name\030\001 \002(\t\022\022\n\nknown_eta" +
-      "g\030\005 \002(\006\"M\n\016symlinkRequest\022\023\n\013volume_name" +
-      "\030\001 \002(\t\022\023\n\013target_path\030\002 \002(\t\022\021\n\tlink_path" +
-      "\030\003 \002(\t\"2\n\runlinkRequest\022\023\n\013volume_name\030\001" +
-      " \002(\t\022\014\n\004path\030\002 \002(\t\"U\n\016unlinkResponse\022\023\n\013" +
-      "timestamp_s\030\001 \002(\007\022.\n\005creds\030\002 \001(\0132\037.xtree" +
-      "mfs.pbrpc.FileCredentials\"A\n\raccessReque",
-      "st\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\r\n" +
-      "\005flags\030\003 \002(\007\"Z\n!xtreemfs_check_file_exis" +
-      "tsRequest\022\021\n\tvolume_id\030\001 \002(\t\022\020\n\010file_ids" +
-      "\030\002 \003(\t\022\020\n\010osd_uuid\030\003 \002(\t\":\n%xtreemfs_dum" +
-      "p_restore_databaseRequest\022\021\n\tdump_file\030\001" +
-      " \002(\t\"i\n!xtreemfs_get_suitable_osdsReques" +
-      "t\022\017\n\007file_id\030\001 \001(\t\022\014\n\004path\030\003 \001(\t\022\023\n\013volu" +
-      "me_name\030\004 \001(\t\022\020\n\010num_osds\030\002 \002(\007\"7\n\"xtree" +
-      "mfs_get_suitable_osdsResponse\022\021\n\tosd_uui" +
-      "ds\030\001 \003(\t\"4\n\"xtreemfs_check_file_existsRe",
-      "sponse\022\016\n\006bitmap\030\001 \002(\t\"(\n\021timestampRespo" +
-      "nse\022\023\n\013timestamp_s\030\001 \002(\007\"!\n\rstringMessag" +
-      "e\022\020\n\010a_string\030\001 \002(\t\"\'\n\027xtreemfs_listdirR" +
-      "equest\022\014\n\004path\030\001 \002(\t\")\n\030xtreemfs_listdir" +
-      "Response\022\r\n\005names\030\001 \003(\t\"\177\n\033xtreemfs_repl" +
-      "ica_addRequest\022\017\n\007file_id\030\001 \001(\t\022\014\n\004path\030" +
-      "\003 \001(\t\022\023\n\013volume_name\030\004 \001(\t\022,\n\013new_replic" +
-      "a\030\002 \002(\0132\027.xtreemfs.pbrpc.Replica\"R\n\034xtre" +
-      "emfs_replica_listRequest\022\017\n\007file_id\030\001 \001(" +
-      "\t\022\014\n\004path\030\002 \001(\t\022\023\n\013volume_name\030\003 \001(\t\"f\n\036",
-      "xtreemfs_replica_removeRequest\022\017\n\007file_i" +
-      "d\030\001 \001(\t\022\014\n\004path\030\003 \001(\t\022\023\n\013volume_name\030\004 \001" +
-      "(\t\022\020\n\010osd_uuid\030\002 \002(\t\"|\n\034xtreemfs_restore" +
-      "_fileRequest\022\021\n\tfile_path\030\001 \002(\t\022\017\n\007file_" +
-      "id\030\002 \002(\t\022\021\n\tfile_size\030\003 \002(\006\022\020\n\010osd_uuid\030" +
-      "\004 \002(\t\022\023\n\013stripe_size\030\005 \002(\007\",\n\025xtreemfs_r" +
-      "mvolRequest\022\023\n\013volume_name\030\001 \002(\t\"\321\001\n xtr" +
-      "eemfs_update_file_sizeRequest\022\"\n\004xcap\030\001 " +
-      "\002(\0132\024.xtreemfs.pbrpc.XCap\022<\n\022osd_write_r" +
-      "esponse\030\002 \002(\0132 .xtreemfs.pbrpc.OSDWriteR",
-      "esponse\022\022\n\nclose_file\030\003 \001(\010\0227\n\013coordinat" +
-      "es\030\004 \001(\0132\".xtreemfs.pbrpc.VivaldiCoordin" +
-      "ates\"S\n)xtreemfs_set_replica_update_poli" +
-      "cyRequest\022\017\n\007file_id\030\001 \002(\t\022\025\n\rupdate_pol" +
-      "icy\030\002 \002(\t\"G\n*xtreemfs_set_replica_update" +
-      "_policyResponse\022\031\n\021old_update_policy\030\001 \002" +
-      "(\t\"E\n#xtreemfs_set_read_only_xattrReques" +
-      "t\022\017\n\007file_id\030\001 \002(\t\022\r\n\005value\030\002 \002(\010\"7\n$xtr" +
-      "eemfs_set_read_only_xattrResponse\022\017\n\007was" +
-      "_set\030\001 \002(\010\"7\n$xtreemfs_get_file_credenti",
-      "alsRequest\022\017\n\007file_id\030\001 \002(\t*\242\001\n\010Setattrs" +
-      "\022\020\n\014SETATTR_MODE\020\001\022\017\n\013SETATTR_UID\020\002\022\017\n\013S" +
-      "ETATTR_GID\020\004\022\020\n\014SETATTR_SIZE\020\010\022\021\n\rSETATT" +
-      "R_ATIME\020\020\022\021\n\rSETATTR_MTIME\020 \022\021\n\rSETATTR_" +
-      "CTIME\020@\022\027\n\022SETATTR_ATTRIBUTES\020\200\001*>\n\013XATT" +
-      "R_FLAGS\022\026\n\022XATTR_FLAGS_CREATE\020\001\022\027\n\023XATTR" +
-      "_FLAGS_REPLACE\020\002*j\n\014ACCESS_FLAGS\022\025\n\021ACCE" +
-      "SS_FLAGS_F_OK\020\000\022\025\n\021ACCESS_FLAGS_X_OK\020\001\022\025" +
-      "\n\021ACCESS_FLAGS_W_OK\020\002\022\025\n\021ACCESS_FLAGS_R_" +
-      "OK\020\0042\234\037\n\nMRCService\022S\n\010fsetattr\022\037.xtreem",
-      "fs.pbrpc.fsetattrRequest\032\035.xtreemfs.pbrp" +
-      "c.emptyResponse\"\007\215\265\030\002\000\000\000\022@\n\tftruncate\022\024." +
-      "xtreemfs.pbrpc.XCap\032\024.xtreemfs.pbrpc.XCa" +
-      "p\"\007\215\265\030\003\000\000\000\022S\n\007getattr\022\036.xtreemfs.pbrpc.g" +
-      "etattrRequest\032\037.xtreemfs.pbrpc.getattrRe" +
-      "sponse\"\007\215\265\030\004\000\000\000\022V\n\010getxattr\022\037.xtreemfs.p" +
-      "brpc.getxattrRequest\032 .xtreemfs.pbrpc.ge" +
-      "txattrResponse\"\007\215\265\030\005\000\000\000\022O\n\004link\022\033.xtreem" +
-      "fs.pbrpc.linkRequest\032!.xtreemfs.pbrpc.ti" +
-      "mestampResponse\"\007\215\265\030\006\000\000\000\022Y\n\tlistxattr\022 .",
-      "xtreemfs.pbrpc.listxattrRequest\032!.xtreem" +
-      "fs.pbrpc.listxattrResponse\"\007\215\265\030\007\000\000\000\022Q\n\005m" +
-      "kdir\022\034.xtreemfs.pbrpc.mkdirRequest\032!.xtr" +
-      "eemfs.pbrpc.timestampResponse\"\007\215\265\030\010\000\000\000\022J" +
-      "\n\004open\022\033.xtreemfs.pbrpc.openRequest\032\034.xt" +
-      "reemfs.pbrpc.openResponse\"\007\215\265\030\t\000\000\000\022T\n\007re" +
-      "addir\022\036.xtreemfs.pbrpc.readdirRequest\032 ." +
-      "xtreemfs.pbrpc.DirectoryEntries\"\007\215\265\030\n\000\000\000" +
-      "\022V\n\010readlink\022\037.xtreemfs.pbrpc.readlinkRe" +
-      "quest\032 .xtreemfs.pbrpc.readlinkResponse\"",
-      "\007\215\265\030\013\000\000\000\022]\n\013removexattr\022\".xtreemfs.pbrpc" +
-      ".removexattrRequest\032!.xtreemfs.pbrpc.tim" +
-      "estampResponse\"\007\215\265\030\014\000\000\000\022P\n\006rename\022\035.xtre" +
-      "emfs.pbrpc.renameRequest\032\036.xtreemfs.pbrp" +
-      "c.renameResponse\"\007\215\265\030\r\000\000\000\022Q\n\005rmdir\022\034.xtr" +
-      "eemfs.pbrpc.rmdirRequest\032!.xtreemfs.pbrp" +
-      "c.timestampResponse\"\007\215\265\030\016\000\000\000\022U\n\007setattr\022" +
-      "\036.xtreemfs.pbrpc.setattrRequest\032!.xtreem" +
-      "fs.pbrpc.timestampResponse\"\007\215\265\030\017\000\000\000\022W\n\010s" +
-      "etxattr\022\037.xtreemfs.pbrpc.setxattrRequest",
-      "\032!.xtreemfs.pbrpc.timestampResponse\"\007\215\265\030" +
-      "\020\000\000\000\022K\n\007statvfs\022\036.xtreemfs.pbrpc.statvfs" +
-      "Request\032\027.xtreemfs.pbrpc.StatVFS\"\007\215\265\030\021\000\000" +
-      "\000\022U\n\007symlink\022\036.xtreemfs.pbrpc.symlinkReq" +
+      "\017pbrpc/RPC.proto\032\032xtreemfs/GlobalTypes.p" +
+      "roto\"\357\001\n\004Stat\022\013\n\003dev\030\001 \002(\006\022\013\n\003ino\030\002 \002(\006\022" +
+      "\014\n\004mode\030\003 \002(\007\022\r\n\005nlink\030\004 \002(\007\022\017\n\007user_id\030" +
+      "\005 \002(\t\022\020\n\010group_id\030\006 \002(\t\022\014\n\004size\030\007 \002(\006\022\020\n" +
+      "\010atime_ns\030\010 \002(\006\022\020\n\010mtime_ns\030\t \002(\006\022\020\n\010cti" +
+      "me_ns\030\n \002(\006\022\017\n\007blksize\030\013 \002(\007\022\014\n\004etag\030\014 \001" +
+      "(\006\022\026\n\016truncate_epoch\030\r \002(\007\022\022\n\nattributes" +
+      "\030\016 \001(\007\"C\n\016DirectoryEntry\022\014\n\004name\030\001 \002(\t\022#",
+      "\n\005stbuf\030\002 \001(\0132\024.xtreemfs.pbrpc.Stat\"C\n\020D" +
+      "irectoryEntries\022/\n\007entries\030\001 \003(\0132\036.xtree" +
+      "mfs.pbrpc.DirectoryEntry\"@\n\005XAttr\022\014\n\004nam" +
+      "e\030\001 \002(\t\022\r\n\005value\030\002 \001(\t\022\032\n\022value_bytes_st" +
+      "ring\030\003 \001(\014\"\244\002\n\006Volume\022F\n\025access_control_" +
+      "policy\030\001 \002(\0162\'.xtreemfs.pbrpc.AccessCont" +
+      "rolPolicyType\022?\n\027default_striping_policy" +
+      "\030\002 \002(\0132\036.xtreemfs.pbrpc.StripingPolicy\022\n" +
+      "\n\002id\030\003 \002(\t\022\014\n\004mode\030\004 \002(\007\022\014\n\004name\030\005 \002(\t\022\026" +
+      "\n\016owner_group_id\030\006 \002(\t\022\025\n\rowner_user_id\030",
+      "\007 \002(\t\022+\n\005attrs\030\010 \003(\0132\034.xtreemfs.pbrpc.Ke" +
+      "yValuePair\022\r\n\005quota\030\t \001(\006\"2\n\007Volumes\022\'\n\007" +
+      "volumes\030\001 \003(\0132\026.xtreemfs.pbrpc.Volume\"\310\002" +
+      "\n\007StatVFS\022\r\n\005bsize\030\001 \002(\007\022\016\n\006bavail\030\002 \002(\006" +
+      "\022\r\n\005bfree\030\r \001(\006\022\016\n\006blocks\030\003 \002(\006\022\014\n\004fsid\030" +
+      "\004 \002(\t\022\017\n\007namemax\030\005 \002(\007\022F\n\025access_control" +
+      "_policy\030\006 \002(\0162\'.xtreemfs.pbrpc.AccessCon" +
+      "trolPolicyType\022?\n\027default_striping_polic" +
+      "y\030\007 \002(\0132\036.xtreemfs.pbrpc.StripingPolicy\022" +
+      "\014\n\004etag\030\010 \002(\006\022\014\n\004mode\030\t \002(\007\022\014\n\004name\030\n \002(",
+      "\t\022\026\n\016owner_group_id\030\013 \002(\t\022\025\n\rowner_user_" +
+      "id\030\014 \002(\t\"i\n\017fsetattrRequest\022#\n\005stbuf\030\001 \002" +
+      "(\0132\024.xtreemfs.pbrpc.Stat\022\016\n\006to_set\030\002 \002(\007" +
+      "\022!\n\003cap\030\003 \002(\0132\024.xtreemfs.pbrpc.XCap\"G\n\016g" +
+      "etattrRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004pa" +
+      "th\030\002 \002(\t\022\022\n\nknown_etag\030\003 \002(\006\"6\n\017getattrR" +
+      "esponse\022#\n\005stbuf\030\001 \001(\0132\024.xtreemfs.pbrpc." +
+      "Stat\"B\n\017getxattrRequest\022\023\n\013volume_name\030\001" +
+      " \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004name\030\003 \002(\t\"=\n\020getx" +
+      "attrResponse\022\r\n\005value\030\001 \002(\t\022\032\n\022value_byt",
+      "es_string\030\002 \001(\014\"J\n\013linkRequest\022\023\n\013volume" +
+      "_name\030\001 \002(\t\022\023\n\013target_path\030\002 \002(\t\022\021\n\tlink" +
+      "_path\030\003 \002(\t\"I\n\020listxattrRequest\022\023\n\013volum" +
+      "e_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\022\n\nnames_only" +
+      "\030\003 \002(\010\":\n\021listxattrResponse\022%\n\006xattrs\030\001 " +
+      "\003(\0132\025.xtreemfs.pbrpc.XAttr\"?\n\014mkdirReque" +
+      "st\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n" +
+      "\004mode\030\003 \002(\007\"\232\001\n\013openRequest\022\023\n\013volume_na" +
+      "me\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\r\n\005flags\030\003 \002(\007\022\014\n" +
+      "\004mode\030\004 \002(\007\022\022\n\nattributes\030\005 \002(\007\0227\n\013coord",
+      "inates\030\006 \001(\0132\".xtreemfs.pbrpc.VivaldiCoo" +
+      "rdinates\"S\n\014openResponse\022.\n\005creds\030\001 \002(\0132" +
+      "\037.xtreemfs.pbrpc.FileCredentials\022\023\n\013time" +
+      "stamp_s\030\002 \002(\007\"\250\001\n\016readdirRequest\022\023\n\013volu" +
+      "me_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\022\n\nknown_eta" +
+      "g\030\003 \002(\006\022%\n\035limit_directory_entries_count" +
+      "\030\004 \002(\007\022\022\n\nnames_only\030\005 \002(\010\022$\n\034seen_direc" +
+      "tory_entries_count\030\006 \002(\006\"4\n\017readlinkRequ" +
+      "est\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\"," +
+      "\n\020readlinkResponse\022\030\n\020link_target_path\030\001",
+      " \003(\t\"E\n\022removexattrRequest\022\023\n\013volume_nam" +
+      "e\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004name\030\003 \002(\t\"N\n\rr" +
+      "enameRequest\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013sou" +
+      "rce_path\030\002 \002(\t\022\023\n\013target_path\030\003 \002(\t\"U\n\016r" +
+      "enameResponse\022\023\n\013timestamp_s\030\001 \002(\007\022.\n\005cr" +
+      "eds\030\002 \001(\0132\037.xtreemfs.pbrpc.FileCredentia" +
+      "ls\"1\n\014rmdirRequest\022\023\n\013volume_name\030\001 \002(\t\022" +
+      "\014\n\004path\030\002 \002(\t\"h\n\016setattrRequest\022\023\n\013volum" +
+      "e_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022#\n\005stbuf\030\003 \002(" +
+      "\0132\024.xtreemfs.pbrpc.Stat\022\016\n\006to_set\030\004 \002(\007\"",
+      "|\n\017setxattrRequest\022\023\n\013volume_name\030\001 \002(\t\022" +
+      "\014\n\004path\030\002 \002(\t\022\014\n\004name\030\003 \002(\t\022\r\n\005value\030\004 \002" +
+      "(\t\022\032\n\022value_bytes_string\030\006 \001(\014\022\r\n\005flags\030" +
+      "\005 \002(\007\"9\n\016statvfsRequest\022\023\n\013volume_name\030\001" +
+      " \002(\t\022\022\n\nknown_etag\030\005 \002(\006\"M\n\016symlinkReque" +
+      "st\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013target_path\030\002" +
+      " \002(\t\022\021\n\tlink_path\030\003 \002(\t\"2\n\runlinkRequest" +
+      "\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\"U\n\016u" +
+      "nlinkResponse\022\023\n\013timestamp_s\030\001 \002(\007\022.\n\005cr" +
+      "eds\030\002 \001(\0132\037.xtreemfs.pbrpc.FileCredentia",
+      "ls\"A\n\raccessRequest\022\023\n\013volume_name\030\001 \002(\t" +
+      "\022\014\n\004path\030\002 \002(\t\022\r\n\005flags\030\003 \002(\007\"Z\n!xtreemf" +
+      "s_check_file_existsRequest\022\021\n\tvolume_id\030" +
+      "\001 \002(\t\022\020\n\010file_ids\030\002 \003(\t\022\020\n\010osd_uuid\030\003 \002(" +
+      "\t\":\n%xtreemfs_dump_restore_databaseReque" +
+      "st\022\021\n\tdump_file\030\001 \002(\t\"i\n!xtreemfs_get_su" +
+      "itable_osdsRequest\022\017\n\007file_id\030\001 \001(\t\022\014\n\004p" +
+      "ath\030\003 \001(\t\022\023\n\013volume_name\030\004 \001(\t\022\020\n\010num_os" +
+      "ds\030\002 \002(\007\"7\n\"xtreemfs_get_suitable_osdsRe" +
+      "sponse\022\021\n\tosd_uuids\030\001 \003(\t\"4\n\"xtreemfs_ch",
+      "eck_file_existsResponse\022\016\n\006bitmap\030\001 \002(\t\"" +
+      "(\n\021timestampResponse\022\023\n\013timestamp_s\030\001 \002(" +
+      "\007\"!\n\rstringMessage\022\020\n\010a_string\030\001 \002(\t\"\'\n\027" +
+      "xtreemfs_listdirRequest\022\014\n\004path\030\001 \002(\t\")\n" +
+      "\030xtreemfs_listdirResponse\022\r\n\005names\030\001 \003(\t" +
+      "\"\177\n\033xtreemfs_replica_addRequest\022\017\n\007file_" +
+      "id\030\001 \001(\t\022\014\n\004path\030\003 \001(\t\022\023\n\013volume_name\030\004 " +
+      "\001(\t\022,\n\013new_replica\030\002 \002(\0132\027.xtreemfs.pbrp" +
+      "c.Replica\"R\n\034xtreemfs_replica_listReques" +
+      "t\022\017\n\007file_id\030\001 \001(\t\022\014\n\004path\030\002 \001(\t\022\023\n\013volu",
+      "me_name\030\003 \001(\t\"f\n\036xtreemfs_replica_remove" +
+      "Request\022\017\n\007file_id\030\001 \001(\t\022\014\n\004path\030\003 \001(\t\022\023" +
+      "\n\013volume_name\030\004 \001(\t\022\020\n\010osd_uuid\030\002 \002(\t\"|\n" +
+      "\034xtreemfs_restore_fileRequest\022\021\n\tfile_pa" +
+      "th\030\001 \002(\t\022\017\n\007file_id\030\002 \002(\t\022\021\n\tfile_size\030\003" +
+      " \002(\006\022\020\n\010osd_uuid\030\004 \002(\t\022\023\n\013stripe_size\030\005 " +
+      "\002(\007\",\n\025xtreemfs_rmvolRequest\022\023\n\013volume_n" +
+      "ame\030\001 \002(\t\"\321\001\n xtreemfs_update_file_sizeR" +
+      "equest\022\"\n\004xcap\030\001 \002(\0132\024.xtreemfs.pbrpc.XC" +
+      "ap\022<\n\022osd_write_response\030\002 \002(\0132 .xtreemf",
+      "s.pbrpc.OSDWriteResponse\022\022\n\nclose_file\030\003" +
+      " \001(\010\0227\n\013coordinates\030\004 \001(\0132\".xtreemfs.pbr" +
+      "pc.VivaldiCoordinates\"S\n)xtreemfs_set_re" +
+      "plica_update_policyRequest\022\017\n\007file_id\030\001 " +
+      "\002(\t\022\025\n\rupdate_policy\030\002 \002(\t\"G\n*xtreemfs_s" +
+      "et_replica_update_policyResponse\022\031\n\021old_" +
+      "update_policy\030\001 \002(\t\"E\n#xtreemfs_set_read" +
+      "_only_xattrRequest\022\017\n\007file_id\030\001 \002(\t\022\r\n\005v" +
+      "alue\030\002 \002(\010\"7\n$xtreemfs_set_read_only_xat" +
+      "trResponse\022\017\n\007was_set\030\001 \002(\010\"7\n$xtreemfs_",
+      "get_file_credentialsRequest\022\017\n\007file_id\030\001" +
+      " \002(\t\"\220\001\n\034xtreemfs_update_batchRequest\022K\n" +
+      "\021file_size_updates\030\001 \003(\01320.xtreemfs.pbrp" +
+      "c.xtreemfs_update_file_sizeRequest\022#\n\005xc" +
+      "aps\030\002 \003(\0132\024.xtreemfs.pbrpc.XCap\"o\n\021Updat" +
+      "eBatchResult\0226\n\005error\030\001 \001(\0132\'.xtreemfs.p" +
+      "brpc.RPCHeader.ErrorResponse\022\"\n\004xcap\030\002 \001" +
+      "(\0132\024.xtreemfs.pbrpc.XCap\"\235\001\n\035xtreemfs_up" +
+      "date_batchResponse\022C\n\030file_size_update_r" +
+      "esults\030\001 \003(\0132!.xtreemfs.pbrpc.UpdateBatc",
+      "hResult\0227\n\014xcap_results\030\002 \003(\0132!.xtreemfs" +
+      ".pbrpc.UpdateBatchResult\"F\n xtreemfs_del" +
+      "ete_recursiveRequest\022\023\n\013volume_name\030\001 \002(" +
+      "\t\022\r\n\005paths\030\002 \003(\t\"\254\001\n!xtreemfs_delete_rec" +
+      "ursiveResponse\022\027\n\017completed_paths\030\001 \002(\007\022" +
+      "6\n\005error\030\002 \001(\0132\'.xtreemfs.pbrpc.RPCHeade" +
+      "r.ErrorResponse\0226\n\rdeleted_files\030\003 \003(\0132\037" +
+      ".xtreemfs.pbrpc.FileCredentials*\242\001\n\010Seta" +
+      "ttrs\022\020\n\014SETATTR_MODE\020\001\022\017\n\013SETATTR_UID\020\002\022" +
+      "\017\n\013SETATTR_GID\020\004\022\020\n\014SETATTR_SIZE\020\010\022\021\n\rSE",
+      "TATTR_ATIME\020\020\022\021\n\rSETATTR_MTIME\020 \022\021\n\rSETA" +
+      "TTR_CTIME\020@\022\027\n\022SETATTR_ATTRIBUTES\020\200\001*>\n\013" +
+      "XATTR_FLAGS\022\026\n\022XATTR_FLAGS_CREATE\020\001\022\027\n\023X" +
+      "ATTR_FLAGS_REPLACE\020\002*j\n\014ACCESS_FLAGS\022\025\n\021" +
+      "ACCESS_FLAGS_F_OK\020\000\022\025\n\021ACCESS_FLAGS_X_OK" +
+      "\020\001\022\025\n\021ACCESS_FLAGS_W_OK\020\002\022\025\n\021ACCESS_FLAG" +
+      "S_R_OK\020\0042\247!\n\nMRCService\022S\n\010fsetattr\022\037.xt" +
+      "reemfs.pbrpc.fsetattrRequest\032\035.xtreemfs." +
+      "pbrpc.emptyResponse\"\007\215\265\030\002\000\000\000\022@\n\tftruncat" +
+      "e\022\024.xtreemfs.pbrpc.XCap\032\024.xtreemfs.pbrpc",
+      ".XCap\"\007\215\265\030\003\000\000\000\022S\n\007getattr\022\036.xtreemfs.pbr" +
+      "pc.getattrRequest\032\037.xtreemfs.pbrpc.getat" +
+      "trResponse\"\007\215\265\030\004\000\000\000\022V\n\010getxattr\022\037.xtreem" +
+      "fs.pbrpc.getxattrRequest\032 .xtreemfs.pbrp" +
+      "c.getxattrResponse\"\007\215\265\030\005\000\000\000\022O\n\004link\022\033.xt" +
+      "reemfs.pbrpc.linkRequest\032!.xtreemfs.pbrp" +
+      "c.timestampResponse\"\007\215\265\030\006\000\000\000\022Y\n\tlistxatt" +
+      "r\022 .xtreemfs.pbrpc.listxattrRequest\032!.xt" +
+      "reemfs.pbrpc.listxattrResponse\"\007\215\265\030\007\000\000\000\022" +
+      "Q\n\005mkdir\022\034.xtreemfs.pbrpc.mkdirRequest\032!",
+      ".xtreemfs.pbrpc.timestampResponse\"\007\215\265\030\010\000" +
+      "\000\000\022J\n\004open\022\033.xtreemfs.pbrpc.openRequest\032" +
+      "\034.xtreemfs.pbrpc.openResponse\"\007\215\265\030\t\000\000\000\022T" +
+      "\n\007readdir\022\036.xtreemfs.pbrpc.readdirReques" +
+      "t\032 .xtreemfs.pbrpc.DirectoryEntries\"\007\215\265\030" +
+      "\n\000\000\000\022V\n\010readlink\022\037.xtreemfs.pbrpc.readli" +
+      "nkRequest\032 .xtreemfs.pbrpc.readlinkRespo" +
+      "nse\"\007\215\265\030\013\000\000\000\022]\n\013removexattr\022\".xtreemfs.p" +
+      "brpc.removexattrRequest\032!.xtreemfs.pbrpc" +
+      ".timestampResponse\"\007\215\265\030\014\000\000\000\022P\n\006rename\022\035.",
+      "xtreemfs.pbrpc.renameRequest\032\036.xtreemfs." +
+      "pbrpc.renameResponse\"\007\215\265\030\r\000\000\000\022Q\n\005rmdir\022\034" +
+      ".xtreemfs.pbrpc.rmdirRequest\032!.xtreemfs." +
+      "pbrpc.timestampResponse\"\007\215\265\030\016\000\000\000\022U\n\007seta" +
+      "ttr\022\036.xtreemfs.pbrpc.setattrRequest\032!.xt" +
+      "reemfs.pbrpc.timestampResponse\"\007\215\265\030\017\000\000\000\022" +
+      "W\n\010setxattr\022\037.xtreemfs.pbrpc.setxattrReq" +
       "uest\032!.xtreemfs.pbrpc.timestampResponse\"" +
-      "\007\215\265\030\022\000\000\000\022P\n\006unlink\022\035.xtreemfs.pbrpc.unli" +
-      "nkRequest\032\036.xtreemfs.pbrpc.unlinkRespons" +
-      "e\"\007\215\265\030\023\000\000\000\022O\n\006access\022\035.xtreemfs.pbrpc.ac" +
-      "cessRequest\032\035.xtreemfs.pbrpc.emptyRespon" +
-      "se\"\007\215\265\030\024\000\000\000\022[\n\023xtreemfs_checkpoint\022\034.xtr",
-      "eemfs.pbrpc.emptyRequest\032\035.xtreemfs.pbrp" +
-      "c.emptyResponse\"\007\215\265\030\036\000\000\000\022\214\001\n\032xtreemfs_ch" +
-      "eck_file_exists\0221.xtreemfs.pbrpc.xtreemf" +
-      "s_check_file_existsRequest\0322.xtreemfs.pb" +
-      "rpc.xtreemfs_check_file_existsResponse\"\007" +
-      "\215\265\030\037\000\000\000\022w\n\026xtreemfs_dump_database\0225.xtre" +
-      "emfs.pbrpc.xtreemfs_dump_restore_databas" +
-      "eRequest\032\035.xtreemfs.pbrpc.emptyResponse\"" +
-      "\007\215\265\030 \000\000\000\022\214\001\n\032xtreemfs_get_suitable_osds\022" +
-      "1.xtreemfs.pbrpc.xtreemfs_get_suitable_o",
-      "sdsRequest\0322.xtreemfs.pbrpc.xtreemfs_get" +
-      "_suitable_osdsResponse\"\007\215\265\030!\000\000\000\022`\n\027xtree" +
-      "mfs_internal_debug\022\035.xtreemfs.pbrpc.stri" +
-      "ngMessage\032\035.xtreemfs.pbrpc.stringMessage" +
-      "\"\007\215\265\030\"\000\000\000\022n\n\020xtreemfs_listdir\022\'.xtreemfs" +
-      ".pbrpc.xtreemfs_listdirRequest\032(.xtreemf" +
-      "s.pbrpc.xtreemfs_listdirResponse\"\007\215\265\030#\000\000" +
-      "\000\022P\n\016xtreemfs_lsvol\022\034.xtreemfs.pbrpc.emp" +
-      "tyRequest\032\027.xtreemfs.pbrpc.Volumes\"\007\215\265\030$" +
-      "\000\000\000\022P\n\016xtreemfs_mkvol\022\026.xtreemfs.pbrpc.V",
-      "olume\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265" +
-      "\030/\000\000\000\022P\n\031xtreemfs_renew_capability\022\024.xtr" +
-      "eemfs.pbrpc.XCap\032\024.xtreemfs.pbrpc.XCap\"\007" +
-      "\215\265\030%\000\000\000\022f\n\036xtreemfs_replication_to_maste" +
-      "r\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xtreem" +
-      "fs.pbrpc.emptyResponse\"\007\215\265\030&\000\000\000\022k\n\024xtree" +
-      "mfs_replica_add\022+.xtreemfs.pbrpc.xtreemf" +
-      "s_replica_addRequest\032\035.xtreemfs.pbrpc.em" +
-      "ptyResponse\"\007\215\265\030\'\000\000\000\022h\n\025xtreemfs_replica" +
-      "_list\022,.xtreemfs.pbrpc.xtreemfs_replica_",
-      "listRequest\032\030.xtreemfs.pbrpc.Replicas\"\007\215" +
-      "\265\030(\000\000\000\022s\n\027xtreemfs_replica_remove\022..xtre" +
-      "emfs.pbrpc.xtreemfs_replica_removeReques" +
-      "t\032\037.xtreemfs.pbrpc.FileCredentials\"\007\215\265\030)" +
-      "\000\000\000\022z\n\031xtreemfs_restore_database\0225.xtree" +
-      "mfs.pbrpc.xtreemfs_dump_restore_database" +
-      "Request\032\035.xtreemfs.pbrpc.emptyResponse\"\007" +
-      "\215\265\030*\000\000\000\022m\n\025xtreemfs_restore_file\022,.xtree" +
-      "mfs.pbrpc.xtreemfs_restore_fileRequest\032\035" +
-      ".xtreemfs.pbrpc.emptyResponse\"\007\215\265\030+\000\000\000\022_",
-      "\n\016xtreemfs_rmvol\022%.xtreemfs.pbrpc.xtreem" +
-      "fs_rmvolRequest\032\035.xtreemfs.pbrpc.emptyRe" +
-      "sponse\"\007\215\265\030,\000\000\000\022Y\n\021xtreemfs_shutdown\022\034.x" +
-      "treemfs.pbrpc.emptyRequest\032\035.xtreemfs.pb" +
-      "rpc.emptyResponse\"\007\215\265\030-\000\000\000\022y\n\031xtreemfs_u" +
-      "pdate_file_size\0220.xtreemfs.pbrpc.xtreemf" +
-      "s_update_file_sizeRequest\032!.xtreemfs.pbr" +
-      "pc.timestampResponse\"\007\215\265\030.\000\000\000\022\244\001\n\"xtreem" +
-      "fs_set_replica_update_policy\0229.xtreemfs." +
-      "pbrpc.xtreemfs_set_replica_update_policy",
-      "Request\032:.xtreemfs.pbrpc.xtreemfs_set_re" +
-      "plica_update_policyResponse\"\007\215\265\0300\000\000\000\022\222\001\n" +
-      "\034xtreemfs_set_read_only_xattr\0223.xtreemfs" +
-      ".pbrpc.xtreemfs_set_read_only_xattrReque" +
-      "st\0324.xtreemfs.pbrpc.xtreemfs_set_read_on" +
-      "ly_xattrResponse\"\007\215\265\0301\000\000\000\022\177\n\035xtreemfs_ge" +
-      "t_file_credentials\0224.xtreemfs.pbrpc.xtre" +
-      "emfs_get_file_credentialsRequest\032\037.xtree" +
-      "mfs.pbrpc.FileCredentials\"\007\215\265\0302\000\000\000\032\007\225\265\030!" +
-      "N\000\000B(\n&org.xtreemfs.pbrpc.generatedinter",
-      "faces"
+      "\007\215\265\030\020\000\000\000\022K\n\007statvfs\022\036.xtreemfs.pbrpc.sta" +
+      "tvfsRequest\032\027.xtreemfs.pbrpc.StatVFS\"\007\215\265",
+      "\030\021\000\000\000\022U\n\007symlink\022\036.xtreemfs.pbrpc.symlin" +
+      "kRequest\032!.xtreemfs.pbrpc.timestampRespo" +
+      "nse\"\007\215\265\030\022\000\000\000\022P\n\006unlink\022\035.xtreemfs.pbrpc." +
+      "unlinkRequest\032\036.xtreemfs.pbrpc.unlinkRes" +
+      "ponse\"\007\215\265\030\023\000\000\000\022O\n\006access\022\035.xtreemfs.pbrp" +
+      "c.accessRequest\032\035.xtreemfs.pbrpc.emptyRe" +
+      "sponse\"\007\215\265\030\024\000\000\000\022[\n\023xtreemfs_checkpoint\022\034" +
+      ".xtreemfs.pbrpc.emptyRequest\032\035.xtreemfs." +
+      "pbrpc.emptyResponse\"\007\215\265\030\036\000\000\000\022\214\001\n\032xtreemf" +
+      "s_check_file_exists\0221.xtreemfs.pbrpc.xtr",
+      "eemfs_check_file_existsRequest\0322.xtreemf" +
+      "s.pbrpc.xtreemfs_check_file_existsRespon" +
+      "se\"\007\215\265\030\037\000\000\000\022w\n\026xtreemfs_dump_database\0225." +
+      "xtreemfs.pbrpc.xtreemfs_dump_restore_dat" +
+      "abaseRequest\032\035.xtreemfs.pbrpc.emptyRespo" +
+      "nse\"\007\215\265\030 \000\000\000\022\214\001\n\032xtreemfs_get_suitable_o" +
+      "sds\0221.xtreemfs.pbrpc.xtreemfs_get_suitab" +
+      "le_osdsRequest\0322.xtreemfs.pbrpc.xtreemfs" +
+      "_get_suitable_osdsResponse\"\007\215\265\030!\000\000\000\022`\n\027x" +
+      "treemfs_internal_debug\022\035.xtreemfs.pbrpc.",
+      "stringMessage\032\035.xtreemfs.pbrpc.stringMes" +
+      "sage\"\007\215\265\030\"\000\000\000\022n\n\020xtreemfs_listdir\022\'.xtre" +
+      "emfs.pbrpc.xtreemfs_listdirRequest\032(.xtr" +
+      "eemfs.pbrpc.xtreemfs_listdirResponse\"\007\215\265" +
+      "\030#\000\000\000\022P\n\016xtreemfs_lsvol\022\034.xtreemfs.pbrpc" +
+      ".emptyRequest\032\027.xtreemfs.pbrpc.Volumes\"\007" +
+      "\215\265\030$\000\000\000\022P\n\016xtreemfs_mkvol\022\026.xtreemfs.pbr" +
+      "pc.Volume\032\035.xtreemfs.pbrpc.emptyResponse" +
+      "\"\007\215\265\030/\000\000\000\022P\n\031xtreemfs_renew_capability\022\024" +
+      ".xtreemfs.pbrpc.XCap\032\024.xtreemfs.pbrpc.XC",
+      "ap\"\007\215\265\030%\000\000\000\022f\n\036xtreemfs_replication_to_m" +
+      "aster\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xt" +
+      "reemfs.pbrpc.emptyResponse\"\007\215\265\030&\000\000\000\022k\n\024x" +
+      "treemfs_replica_add\022+.xtreemfs.pbrpc.xtr" +
+      "eemfs_replica_addRequest\032\035.xtreemfs.pbrp" +
+      "c.emptyResponse\"\007\215\265\030\'\000\000\000\022h\n\025xtreemfs_rep" +
+      "lica_list\022,.xtreemfs.pbrpc.xtreemfs_repl" +
+      "ica_listRequest\032\030.xtreemfs.pbrpc.Replica" +
+      "s\"\007\215\265\030(\000\000\000\022s\n\027xtreemfs_replica_remove\022.." +
+      "xtreemfs.pbrpc.xtreemfs_replica_removeRe",
+      "quest\032\037.xtreemfs.pbrpc.FileCredentials\"\007" +
+      "\215\265\030)\000\000\000\022z\n\031xtreemfs_restore_database\0225.x" +
+      "treemfs.pbrpc.xtreemfs_dump_restore_data" +
+      "baseRequest\032\035.xtreemfs.pbrpc.emptyRespon" +
+      "se\"\007\215\265\030*\000\000\000\022m\n\025xtreemfs_restore_file\022,.x" +
+      "treemfs.pbrpc.xtreemfs_restore_fileReque" +
+      "st\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030+\000" +
+      "\000\000\022_\n\016xtreemfs_rmvol\022%.xtreemfs.pbrpc.xt" +
+      "reemfs_rmvolRequest\032\035.xtreemfs.pbrpc.emp" +
+      "tyResponse\"\007\215\265\030,\000\000\000\022Y\n\021xtreemfs_shutdown",
+      "\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xtreemf" +
+      "s.pbrpc.emptyResponse\"\007\215\265\030-\000\000\000\022y\n\031xtreem" +
+      "fs_update_file_size\0220.xtreemfs.pbrpc.xtr" +
+      "eemfs_update_file_sizeRequest\032!.xtreemfs" +
+      ".pbrpc.timestampResponse\"\007\215\265\030.\000\000\000\022\244\001\n\"xt" +
+      "reemfs_set_replica_update_policy\0229.xtree" +
+      "mfs.pbrpc.xtreemfs_set_replica_update_po" +
+      "licyRequest\032:.xtreemfs.pbrpc.xtreemfs_se" +
+      "t_replica_update_policyResponse\"\007\215\265\0300\000\000\000" +
+      "\022\222\001\n\034xtreemfs_set_read_only_xattr\0223.xtre",
+      "emfs.pbrpc.xtreemfs_set_read_only_xattrR" +
+      "equest\0324.xtreemfs.pbrpc.xtreemfs_set_rea" +
+      "d_only_xattrResponse\"\007\215\265\0301\000\000\000\022\177\n\035xtreemf" +
+      "s_get_file_credentials\0224.xtreemfs.pbrpc." +
+      "xtreemfs_get_file_credentialsRequest\032\037.x" +
+      "treemfs.pbrpc.FileCredentials\"\007\215\265\0302\000\000\000\022}" +
+      "\n\025xtreemfs_update_batch\022,.xtreemfs.pbrpc" +
+      ".xtreemfs_update_batchRequest\032-.xtreemfs" +
+      ".pbrpc.xtreemfs_update_batchResponse\"\007\215\265" +
+      "\0303\000\000\000\022\211\001\n\031xtreemfs_delete_recursive\0220.xt",
+      "reemfs.pbrpc.xtreemfs_delete_recursiveRe" +
+      "quest\0321.xtreemfs.pbrpc.xtreemfs_delete_r" +
+      "ecursiveResponse\"\007\215\265\0304\000\000\000\032\007\225\265\030!N\000\000B(\n&or" +
+      "g.xtreemfs.pbrpc.generatedinterfaces"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -47219,6 +52737,36 @@ public final class MRC {
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_get_file_credentialsRequest_descriptor,
               new java.lang.String[] { "FileId", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_update_batchRequest_descriptor =
+            getDescriptor().getMessageTypes().get(52);
+          internal_static_xtreemfs_pbrpc_xtreemfs_update_batchRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_update_batchRequest_descriptor,
+              new java.lang.String[] { "FileSizeUpdates", "Xcaps", });
+          internal_static_xtreemfs_pbrpc_UpdateBatchResult_descriptor =
+            getDescriptor().getMessageTypes().get(53);
+          internal_static_xtreemfs_pbrpc_UpdateBatchResult_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_UpdateBatchResult_descriptor,
+              new java.lang.String[] { "Error", "Xcap", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_update_batchResponse_descriptor =
+            getDescriptor().getMessageTypes().get(54);
+          internal_static_xtreemfs_pbrpc_xtreemfs_update_batchResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_update_batchResponse_descriptor,
+              new java.lang.String[] { "FileSizeUpdateResults", "XcapResults", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveRequest_descriptor =
+            getDescriptor().getMessageTypes().get(55);
+          internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveRequest_descriptor,
+              new java.lang.String[] { "VolumeName", "Paths", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveResponse_descriptor =
+            getDescriptor().getMessageTypes().get(56);
+          internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_delete_recursiveResponse_descriptor,
+              new java.lang.String[] { "CompletedPaths", "Error", "DeletedFiles", });
           com.google.protobuf.ExtensionRegistry registry =
             com.google.protobuf.ExtensionRegistry.newInstance();
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
@@ -47261,6 +52809,8 @@ public final class MRC {
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
+          registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
+          registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.interfaceId);
           return registry;
         }
@@ -47270,6 +52820,7 @@ public final class MRC {
         new com.google.protobuf.Descriptors.FileDescriptor[] {
           org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.getDescriptor(),
           org.xtreemfs.pbrpc.generatedinterfaces.Common.getDescriptor(),
+          org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.getDescriptor(),
           org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.getDescriptor(),
         }, assigner);
   }
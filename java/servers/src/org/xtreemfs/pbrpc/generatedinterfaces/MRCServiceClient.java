@@ -1,5 +1,5 @@
-//automatically generated from MRC.proto at Thu Jul 10 14:56:46 CEST 2014
-//(c) 2014. See LICENSE file for details.
+//automatically generated from MRC.proto at Mon Oct 19 08:01:15 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 package org.xtreemfs.pbrpc.generatedinterfaces;
 
@@ -544,6 +544,32 @@ public class MRCServiceClient {
          return xtreemfs_get_file_credentials(server, authHeader, userCreds,msg);
     }
 
+    public RPCResponse<MRC.xtreemfs_update_batchResponse> xtreemfs_update_batch(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, MRC.xtreemfs_update_batchRequest input) throws IOException {
+         if (server == null) server = defaultServer;
+         if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
+         RPCResponse<MRC.xtreemfs_update_batchResponse> response = new RPCResponse<MRC.xtreemfs_update_batchResponse>(MRC.xtreemfs_update_batchResponse.getDefaultInstance());
+         client.sendRequest(server, authHeader, userCreds, 20001, 51, input, null, response, false);
+         return response;
+    }
+
+    public RPCResponse<MRC.xtreemfs_update_batchResponse> xtreemfs_update_batch(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, List<MRC.xtreemfs_update_file_sizeRequest> file_size_updates, List<GlobalTypes.XCap> xcaps) throws IOException {
+         final MRC.xtreemfs_update_batchRequest msg = MRC.xtreemfs_update_batchRequest.newBuilder().addAllFileSizeUpdates(file_size_updates).addAllXcaps(xcaps).build();
+         return xtreemfs_update_batch(server, authHeader, userCreds,msg);
+    }
+
+    public RPCResponse<MRC.xtreemfs_delete_recursiveResponse> xtreemfs_delete_recursive(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, MRC.xtreemfs_delete_recursiveRequest input) throws IOException {
+         if (server == null) server = defaultServer;
+         if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
+         RPCResponse<MRC.xtreemfs_delete_recursiveResponse> response = new RPCResponse<MRC.xtreemfs_delete_recursiveResponse>(MRC.xtreemfs_delete_recursiveResponse.getDefaultInstance());
+         client.sendRequest(server, authHeader, userCreds, 20001, 52, input, null, response, false);
+         return response;
+    }
+
+    public RPCResponse<MRC.xtreemfs_delete_recursiveResponse> xtreemfs_delete_recursive(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, String volume_name, List<String> paths) throws IOException {
+         final MRC.xtreemfs_delete_recursiveRequest msg = MRC.xtreemfs_delete_recursiveRequest.newBuilder().setVolumeName(volume_name).addAllPaths(paths).build();
+         return xtreemfs_delete_recursive(server, authHeader, userCreds,msg);
+    }
+
     public boolean clientIsAlive() {
         return client.isAlive();
     }
@@ -8120,92 +8120,83 @@ public final class OSD {
     // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.AuthoritativeReplicaState)
   }
 
-  public interface InternalReadLocalResponseOrBuilder
+  public interface ReplicaUpdateChainOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // required .xtreemfs.pbrpc.ObjectData data = 1;
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-     */
-    boolean hasData();
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getData();
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getDataOrBuilder();
-
-    // repeated .xtreemfs.pbrpc.ObjectList object_set = 2;
+    // required fixed32 num_acks = 1;
     /**
-     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+     * <code>required fixed32 num_acks = 1;</code>
      *
      * <pre>
-     * List of objects the OSD has.
+     * Number of acknowledgments required from the receiver
+     * and its successors.
      * </pre>
      */
-    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList> 
-        getObjectSetList();
+    boolean hasNumAcks();
     /**
-     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+     * <code>required fixed32 num_acks = 1;</code>
      *
      * <pre>
-     * List of objects the OSD has.
+     * Number of acknowledgments required from the receiver
+     * and its successors.
      * </pre>
      */
-    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList getObjectSet(int index);
+    int getNumAcks();
+
+    // repeated fixed32 replica_indices = 2;
     /**
-     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+     * <code>repeated fixed32 replica_indices = 2;</code>
      *
      * <pre>
-     * List of objects the OSD has.
+     * Indices of the replicas in the XLocSet the update still
+     * has to be forwarded to, in forwarding order.
      * </pre>
      */
-    int getObjectSetCount();
+    java.util.List<java.lang.Integer> getReplicaIndicesList();
     /**
-     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+     * <code>repeated fixed32 replica_indices = 2;</code>
      *
      * <pre>
-     * List of objects the OSD has.
+     * Indices of the replicas in the XLocSet the update still
+     * has to be forwarded to, in forwarding order.
      * </pre>
      */
-    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder> 
-        getObjectSetOrBuilderList();
+    int getReplicaIndicesCount();
     /**
-     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+     * <code>repeated fixed32 replica_indices = 2;</code>
      *
      * <pre>
-     * List of objects the OSD has.
+     * Indices of the replicas in the XLocSet the update still
+     * has to be forwarded to, in forwarding order.
      * </pre>
      */
-    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder getObjectSetOrBuilder(
-        int index);
+    int getReplicaIndices(int index);
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.InternalReadLocalResponse}
+   * Protobuf type {@code xtreemfs.pbrpc.ReplicaUpdateChain}
    *
    * <pre>
-   * Response sent by an OSD when reading objects for
-   * the ro/rw replication.
+   * Chain of backups a replica update is forwarded along.
+   * Used by the read-write replication if chained updates
+   * are enabled.
    * </pre>
    */
-  public static final class InternalReadLocalResponse extends
+  public static final class ReplicaUpdateChain extends
       com.google.protobuf.GeneratedMessage
-      implements InternalReadLocalResponseOrBuilder {
-    // Use InternalReadLocalResponse.newBuilder() to construct.
-    private InternalReadLocalResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements ReplicaUpdateChainOrBuilder {
+    // Use ReplicaUpdateChain.newBuilder() to construct.
+    private ReplicaUpdateChain(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private InternalReadLocalResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private ReplicaUpdateChain(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final InternalReadLocalResponse defaultInstance;
-    public static InternalReadLocalResponse getDefaultInstance() {
+    private static final ReplicaUpdateChain defaultInstance;
+    public static ReplicaUpdateChain getDefaultInstance() {
       return defaultInstance;
     }
 
-    public InternalReadLocalResponse getDefaultInstanceForType() {
+    public ReplicaUpdateChain getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -8215,7 +8206,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private InternalReadLocalResponse(
+    private ReplicaUpdateChain(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -8238,25 +8229,30 @@ public final class OSD {
               }
               break;
             }
-            case 10: {
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = data_.toBuilder();
-              }
-              data_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(data_);
-                data_ = subBuilder.buildPartial();
-              }
+            case 13: {
               bitField0_ |= 0x00000001;
+              numAcks_ = input.readFixed32();
               break;
             }
-            case 18: {
+            case 21: {
               if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                objectSet_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList>();
+                replicaIndices_ = new java.util.ArrayList<java.lang.Integer>();
                 mutable_bitField0_ |= 0x00000002;
               }
-              objectSet_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.PARSER, extensionRegistry));
+              replicaIndices_.add(input.readFixed32());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                replicaIndices_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                replicaIndices_.add(input.readFixed32());
+              }
+              input.popLimit(limit);
               break;
             }
           }
@@ -8268,7 +8264,7 @@ public final class OSD {
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
         if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          objectSet_ = java.util.Collections.unmodifiableList(objectSet_);
+          replicaIndices_ = java.util.Collections.unmodifiableList(replicaIndices_);
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -8276,133 +8272,109 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_ReplicaUpdateChain_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_ReplicaUpdateChain_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<InternalReadLocalResponse> PARSER =
-        new com.google.protobuf.AbstractParser<InternalReadLocalResponse>() {
-      public InternalReadLocalResponse parsePartialFrom(
+    public static com.google.protobuf.Parser<ReplicaUpdateChain> PARSER =
+        new com.google.protobuf.AbstractParser<ReplicaUpdateChain>() {
+      public ReplicaUpdateChain parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new InternalReadLocalResponse(input, extensionRegistry);
+        return new ReplicaUpdateChain(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<InternalReadLocalResponse> getParserForType() {
+    public com.google.protobuf.Parser<ReplicaUpdateChain> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // required .xtreemfs.pbrpc.ObjectData data = 1;
-    public static final int DATA_FIELD_NUMBER = 1;
-    private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData data_;
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-     */
-    public boolean hasData() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getData() {
-      return data_;
-    }
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getDataOrBuilder() {
-      return data_;
-    }
-
-    // repeated .xtreemfs.pbrpc.ObjectList object_set = 2;
-    public static final int OBJECT_SET_FIELD_NUMBER = 2;
-    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList> objectSet_;
+    // required fixed32 num_acks = 1;
+    public static final int NUM_ACKS_FIELD_NUMBER = 1;
+    private int numAcks_;
     /**
-     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+     * <code>required fixed32 num_acks = 1;</code>
      *
      * <pre>
-     * List of objects the OSD has.
+     * Number of acknowledgments required from the receiver
+     * and its successors.
      * </pre>
      */
-    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList> getObjectSetList() {
-      return objectSet_;
+    public boolean hasNumAcks() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+     * <code>required fixed32 num_acks = 1;</code>
      *
      * <pre>
-     * List of objects the OSD has.
+     * Number of acknowledgments required from the receiver
+     * and its successors.
      * </pre>
      */
-    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder> 
-        getObjectSetOrBuilderList() {
-      return objectSet_;
+    public int getNumAcks() {
+      return numAcks_;
     }
+
+    // repeated fixed32 replica_indices = 2;
+    public static final int REPLICA_INDICES_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Integer> replicaIndices_;
     /**
-     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+     * <code>repeated fixed32 replica_indices = 2;</code>
      *
      * <pre>
-     * List of objects the OSD has.
+     * Indices of the replicas in the XLocSet the update still
+     * has to be forwarded to, in forwarding order.
      * </pre>
      */
-    public int getObjectSetCount() {
-      return objectSet_.size();
+    public java.util.List<java.lang.Integer>
+        getReplicaIndicesList() {
+      return replicaIndices_;
     }
     /**
-     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+     * <code>repeated fixed32 replica_indices = 2;</code>
      *
      * <pre>
-     * List of objects the OSD has.
+     * Indices of the replicas in the XLocSet the update still
+     * has to be forwarded to, in forwarding order.
      * </pre>
      */
-    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList getObjectSet(int index) {
-      return objectSet_.get(index);
+    public int getReplicaIndicesCount() {
+      return replicaIndices_.size();
     }
     /**
-     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+     * <code>repeated fixed32 replica_indices = 2;</code>
      *
      * <pre>
-     * List of objects the OSD has.
+     * Indices of the replicas in the XLocSet the update still
+     * has to be forwarded to, in forwarding order.
      * </pre>
      */
-    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder getObjectSetOrBuilder(
-        int index) {
-      return objectSet_.get(index);
+    public int getReplicaIndices(int index) {
+      return replicaIndices_.get(index);
     }
 
     private void initFields() {
-      data_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
-      objectSet_ = java.util.Collections.emptyList();
+      numAcks_ = 0;
+      replicaIndices_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasData()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!getData().isInitialized()) {
+      if (!hasNumAcks()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      for (int i = 0; i < getObjectSetCount(); i++) {
-        if (!getObjectSet(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -8411,10 +8383,10 @@ public final class OSD {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, data_);
+        output.writeFixed32(1, numAcks_);
       }
-      for (int i = 0; i < objectSet_.size(); i++) {
-        output.writeMessage(2, objectSet_.get(i));
+      for (int i = 0; i < replicaIndices_.size(); i++) {
+        output.writeFixed32(2, replicaIndices_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -8427,11 +8399,13 @@ public final class OSD {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, data_);
+          .computeFixed32Size(1, numAcks_);
       }
-      for (int i = 0; i < objectSet_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, objectSet_.get(i));
+      {
+        int dataSize = 0;
+        dataSize = 4 * getReplicaIndicesList().size();
+        size += dataSize;
+        size += 1 * getReplicaIndicesList().size();
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -8445,53 +8419,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8500,7 +8474,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -8512,29 +8486,30 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.InternalReadLocalResponse}
+     * Protobuf type {@code xtreemfs.pbrpc.ReplicaUpdateChain}
      *
      * <pre>
-     * Response sent by an OSD when reading objects for
-     * the ro/rw replication.
+     * Chain of backups a replica update is forwarded along.
+     * Used by the read-write replication if chained updates
+     * are enabled.
      * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponseOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChainOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_ReplicaUpdateChain_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_ReplicaUpdateChain_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -8546,8 +8521,6 @@ public final class OSD {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getDataFieldBuilder();
-          getObjectSetFieldBuilder();
         }
       }
       private static Builder create() {
@@ -8556,18 +8529,10 @@ public final class OSD {
 
       public Builder clear() {
         super.clear();
-        if (dataBuilder_ == null) {
-          data_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
-        } else {
-          dataBuilder_.clear();
-        }
+        numAcks_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
-        if (objectSetBuilder_ == null) {
-          objectSet_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
-        } else {
-          objectSetBuilder_.clear();
-        }
+        replicaIndices_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -8577,106 +8542,72 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_ReplicaUpdateChain_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        if (dataBuilder_ == null) {
-          result.data_ = data_;
-        } else {
-          result.data_ = dataBuilder_.build();
-        }
-        if (objectSetBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) == 0x00000002)) {
-            objectSet_ = java.util.Collections.unmodifiableList(objectSet_);
-            bitField0_ = (bitField0_ & ~0x00000002);
-          }
-          result.objectSet_ = objectSet_;
-        } else {
-          result.objectSet_ = objectSetBuilder_.build();
+        result.numAcks_ = numAcks_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          replicaIndices_ = java.util.Collections.unmodifiableList(replicaIndices_);
+          bitField0_ = (bitField0_ & ~0x00000002);
         }
+        result.replicaIndices_ = replicaIndices_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.getDefaultInstance()) return this;
-        if (other.hasData()) {
-          mergeData(other.getData());
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.getDefaultInstance()) return this;
+        if (other.hasNumAcks()) {
+          setNumAcks(other.getNumAcks());
         }
-        if (objectSetBuilder_ == null) {
-          if (!other.objectSet_.isEmpty()) {
-            if (objectSet_.isEmpty()) {
-              objectSet_ = other.objectSet_;
-              bitField0_ = (bitField0_ & ~0x00000002);
-            } else {
-              ensureObjectSetIsMutable();
-              objectSet_.addAll(other.objectSet_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.objectSet_.isEmpty()) {
-            if (objectSetBuilder_.isEmpty()) {
-              objectSetBuilder_.dispose();
-              objectSetBuilder_ = null;
-              objectSet_ = other.objectSet_;
-              bitField0_ = (bitField0_ & ~0x00000002);
-              objectSetBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getObjectSetFieldBuilder() : null;
-            } else {
-              objectSetBuilder_.addAllMessages(other.objectSet_);
-            }
+        if (!other.replicaIndices_.isEmpty()) {
+          if (replicaIndices_.isEmpty()) {
+            replicaIndices_ = other.replicaIndices_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureReplicaIndicesIsMutable();
+            replicaIndices_.addAll(other.replicaIndices_);
           }
+          onChanged();
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasData()) {
-          
-          return false;
-        }
-        if (!getData().isInitialized()) {
+        if (!hasNumAcks()) {
           
           return false;
         }
-        for (int i = 0; i < getObjectSetCount(); i++) {
-          if (!getObjectSet(i).isInitialized()) {
-            
-            return false;
-          }
-        }
         return true;
       }
 
@@ -8684,11 +8615,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -8699,569 +8630,257 @@ public final class OSD {
       }
       private int bitField0_;
 
-      // required .xtreemfs.pbrpc.ObjectData data = 1;
-      private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData data_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder> dataBuilder_;
+      // required fixed32 num_acks = 1;
+      private int numAcks_ ;
       /**
-       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-       */
-      public boolean hasData() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getData() {
-        if (dataBuilder_ == null) {
-          return data_;
-        } else {
-          return dataBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-       */
-      public Builder setData(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData value) {
-        if (dataBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          data_ = value;
-          onChanged();
-        } else {
-          dataBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-       */
-      public Builder setData(
-          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder builderForValue) {
-        if (dataBuilder_ == null) {
-          data_ = builderForValue.build();
-          onChanged();
-        } else {
-          dataBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-       */
-      public Builder mergeData(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData value) {
-        if (dataBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              data_ != org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance()) {
-            data_ =
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.newBuilder(data_).mergeFrom(value).buildPartial();
-          } else {
-            data_ = value;
-          }
-          onChanged();
-        } else {
-          dataBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-       */
-      public Builder clearData() {
-        if (dataBuilder_ == null) {
-          data_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
-          onChanged();
-        } else {
-          dataBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder getDataBuilder() {
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return getDataFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getDataOrBuilder() {
-        if (dataBuilder_ != null) {
-          return dataBuilder_.getMessageOrBuilder();
-        } else {
-          return data_;
-        }
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder> 
-          getDataFieldBuilder() {
-        if (dataBuilder_ == null) {
-          dataBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder>(
-                  data_,
-                  getParentForChildren(),
-                  isClean());
-          data_ = null;
-        }
-        return dataBuilder_;
-      }
-
-      // repeated .xtreemfs.pbrpc.ObjectList object_set = 2;
-      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList> objectSet_ =
-        java.util.Collections.emptyList();
-      private void ensureObjectSetIsMutable() {
-        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          objectSet_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList>(objectSet_);
-          bitField0_ |= 0x00000002;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder> objectSetBuilder_;
-
-      /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+       * <code>required fixed32 num_acks = 1;</code>
        *
        * <pre>
-       * List of objects the OSD has.
+       * Number of acknowledgments required from the receiver
+       * and its successors.
        * </pre>
        */
-      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList> getObjectSetList() {
-        if (objectSetBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(objectSet_);
-        } else {
-          return objectSetBuilder_.getMessageList();
-        }
+      public boolean hasNumAcks() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+       * <code>required fixed32 num_acks = 1;</code>
        *
        * <pre>
-       * List of objects the OSD has.
+       * Number of acknowledgments required from the receiver
+       * and its successors.
        * </pre>
        */
-      public int getObjectSetCount() {
-        if (objectSetBuilder_ == null) {
-          return objectSet_.size();
-        } else {
-          return objectSetBuilder_.getCount();
-        }
+      public int getNumAcks() {
+        return numAcks_;
       }
       /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+       * <code>required fixed32 num_acks = 1;</code>
        *
        * <pre>
-       * List of objects the OSD has.
+       * Number of acknowledgments required from the receiver
+       * and its successors.
        * </pre>
        */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList getObjectSet(int index) {
-        if (objectSetBuilder_ == null) {
-          return objectSet_.get(index);
-        } else {
-          return objectSetBuilder_.getMessage(index);
-        }
+      public Builder setNumAcks(int value) {
+        bitField0_ |= 0x00000001;
+        numAcks_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+       * <code>required fixed32 num_acks = 1;</code>
        *
        * <pre>
-       * List of objects the OSD has.
+       * Number of acknowledgments required from the receiver
+       * and its successors.
        * </pre>
        */
-      public Builder setObjectSet(
-          int index, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList value) {
-        if (objectSetBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureObjectSetIsMutable();
-          objectSet_.set(index, value);
-          onChanged();
-        } else {
-          objectSetBuilder_.setMessage(index, value);
-        }
+      public Builder clearNumAcks() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        numAcks_ = 0;
+        onChanged();
         return this;
       }
+
+      // repeated fixed32 replica_indices = 2;
+      private java.util.List<java.lang.Integer> replicaIndices_ = java.util.Collections.emptyList();
+      private void ensureReplicaIndicesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          replicaIndices_ = new java.util.ArrayList<java.lang.Integer>(replicaIndices_);
+          bitField0_ |= 0x00000002;
+         }
+      }
       /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+       * <code>repeated fixed32 replica_indices = 2;</code>
        *
        * <pre>
-       * List of objects the OSD has.
+       * Indices of the replicas in the XLocSet the update still
+       * has to be forwarded to, in forwarding order.
        * </pre>
        */
-      public Builder setObjectSet(
-          int index, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder builderForValue) {
-        if (objectSetBuilder_ == null) {
-          ensureObjectSetIsMutable();
-          objectSet_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          objectSetBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
+      public java.util.List<java.lang.Integer>
+          getReplicaIndicesList() {
+        return java.util.Collections.unmodifiableList(replicaIndices_);
       }
       /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+       * <code>repeated fixed32 replica_indices = 2;</code>
        *
        * <pre>
-       * List of objects the OSD has.
+       * Indices of the replicas in the XLocSet the update still
+       * has to be forwarded to, in forwarding order.
        * </pre>
        */
-      public Builder addObjectSet(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList value) {
-        if (objectSetBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureObjectSetIsMutable();
-          objectSet_.add(value);
-          onChanged();
-        } else {
-          objectSetBuilder_.addMessage(value);
-        }
-        return this;
+      public int getReplicaIndicesCount() {
+        return replicaIndices_.size();
       }
       /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+       * <code>repeated fixed32 replica_indices = 2;</code>
        *
        * <pre>
-       * List of objects the OSD has.
+       * Indices of the replicas in the XLocSet the update still
+       * has to be forwarded to, in forwarding order.
        * </pre>
        */
-      public Builder addObjectSet(
-          int index, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList value) {
-        if (objectSetBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureObjectSetIsMutable();
-          objectSet_.add(index, value);
-          onChanged();
-        } else {
-          objectSetBuilder_.addMessage(index, value);
-        }
-        return this;
+      public int getReplicaIndices(int index) {
+        return replicaIndices_.get(index);
       }
       /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+       * <code>repeated fixed32 replica_indices = 2;</code>
        *
        * <pre>
-       * List of objects the OSD has.
+       * Indices of the replicas in the XLocSet the update still
+       * has to be forwarded to, in forwarding order.
        * </pre>
        */
-      public Builder addObjectSet(
-          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder builderForValue) {
-        if (objectSetBuilder_ == null) {
-          ensureObjectSetIsMutable();
-          objectSet_.add(builderForValue.build());
-          onChanged();
-        } else {
-          objectSetBuilder_.addMessage(builderForValue.build());
-        }
+      public Builder setReplicaIndices(
+          int index, int value) {
+        ensureReplicaIndicesIsMutable();
+        replicaIndices_.set(index, value);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+       * <code>repeated fixed32 replica_indices = 2;</code>
        *
        * <pre>
-       * List of objects the OSD has.
+       * Indices of the replicas in the XLocSet the update still
+       * has to be forwarded to, in forwarding order.
        * </pre>
        */
-      public Builder addObjectSet(
-          int index, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder builderForValue) {
-        if (objectSetBuilder_ == null) {
-          ensureObjectSetIsMutable();
-          objectSet_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          objectSetBuilder_.addMessage(index, builderForValue.build());
-        }
+      public Builder addReplicaIndices(int value) {
+        ensureReplicaIndicesIsMutable();
+        replicaIndices_.add(value);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+       * <code>repeated fixed32 replica_indices = 2;</code>
        *
        * <pre>
-       * List of objects the OSD has.
+       * Indices of the replicas in the XLocSet the update still
+       * has to be forwarded to, in forwarding order.
        * </pre>
        */
-      public Builder addAllObjectSet(
-          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList> values) {
-        if (objectSetBuilder_ == null) {
-          ensureObjectSetIsMutable();
-          super.addAll(values, objectSet_);
-          onChanged();
-        } else {
-          objectSetBuilder_.addAllMessages(values);
-        }
+      public Builder addAllReplicaIndices(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureReplicaIndicesIsMutable();
+        super.addAll(values, replicaIndices_);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+       * <code>repeated fixed32 replica_indices = 2;</code>
        *
        * <pre>
-       * List of objects the OSD has.
+       * Indices of the replicas in the XLocSet the update still
+       * has to be forwarded to, in forwarding order.
        * </pre>
        */
-      public Builder clearObjectSet() {
-        if (objectSetBuilder_ == null) {
-          objectSet_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
-          onChanged();
-        } else {
-          objectSetBuilder_.clear();
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
-       *
-       * <pre>
-       * List of objects the OSD has.
-       * </pre>
-       */
-      public Builder removeObjectSet(int index) {
-        if (objectSetBuilder_ == null) {
-          ensureObjectSetIsMutable();
-          objectSet_.remove(index);
-          onChanged();
-        } else {
-          objectSetBuilder_.remove(index);
-        }
+      public Builder clearReplicaIndices() {
+        replicaIndices_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
         return this;
       }
-      /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
-       *
-       * <pre>
-       * List of objects the OSD has.
-       * </pre>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder getObjectSetBuilder(
-          int index) {
-        return getObjectSetFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
-       *
-       * <pre>
-       * List of objects the OSD has.
-       * </pre>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder getObjectSetOrBuilder(
-          int index) {
-        if (objectSetBuilder_ == null) {
-          return objectSet_.get(index);  } else {
-          return objectSetBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
-       *
-       * <pre>
-       * List of objects the OSD has.
-       * </pre>
-       */
-      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder> 
-           getObjectSetOrBuilderList() {
-        if (objectSetBuilder_ != null) {
-          return objectSetBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(objectSet_);
-        }
-      }
-      /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
-       *
-       * <pre>
-       * List of objects the OSD has.
-       * </pre>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder addObjectSetBuilder() {
-        return getObjectSetFieldBuilder().addBuilder(
-            org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
-       *
-       * <pre>
-       * List of objects the OSD has.
-       * </pre>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder addObjectSetBuilder(
-          int index) {
-        return getObjectSetFieldBuilder().addBuilder(
-            index, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
-       *
-       * <pre>
-       * List of objects the OSD has.
-       * </pre>
-       */
-      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder> 
-           getObjectSetBuilderList() {
-        return getObjectSetFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder> 
-          getObjectSetFieldBuilder() {
-        if (objectSetBuilder_ == null) {
-          objectSetBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder>(
-                  objectSet_,
-                  ((bitField0_ & 0x00000002) == 0x00000002),
-                  getParentForChildren(),
-                  isClean());
-          objectSet_ = null;
-        }
-        return objectSetBuilder_;
-      }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.InternalReadLocalResponse)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.ReplicaUpdateChain)
     }
 
     static {
-      defaultInstance = new InternalReadLocalResponse(true);
+      defaultInstance = new ReplicaUpdateChain(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.InternalReadLocalResponse)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.ReplicaUpdateChain)
   }
 
-  public interface readRequestOrBuilder
+  public interface InternalReadLocalResponseOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
-    /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    boolean hasFileCredentials();
-    /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials();
-    /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder();
-
-    // required string file_id = 2;
-    /**
-     * <code>required string file_id = 2;</code>
-     */
-    boolean hasFileId();
-    /**
-     * <code>required string file_id = 2;</code>
-     */
-    java.lang.String getFileId();
+    // required .xtreemfs.pbrpc.ObjectData data = 1;
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getFileIdBytes();
-
-    // required fixed64 object_number = 3;
+    boolean hasData();
     /**
-     * <code>required fixed64 object_number = 3;</code>
-     *
-     * <pre>
-     * Object number starting at 0.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
      */
-    boolean hasObjectNumber();
+    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getData();
     /**
-     * <code>required fixed64 object_number = 3;</code>
-     *
-     * <pre>
-     * Object number starting at 0.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
      */
-    long getObjectNumber();
+    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getDataOrBuilder();
 
-    // required fixed64 object_version = 4;
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     *
-     * <pre>
-     * Version, currently ignored.
-     * </pre>
-     */
-    boolean hasObjectVersion();
+    // repeated .xtreemfs.pbrpc.ObjectList object_set = 2;
     /**
-     * <code>required fixed64 object_version = 4;</code>
+     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
      *
      * <pre>
-     * Version, currently ignored.
+     * List of objects the OSD has.
      * </pre>
      */
-    long getObjectVersion();
-
-    // required fixed32 offset = 5;
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList> 
+        getObjectSetList();
     /**
-     * <code>required fixed32 offset = 5;</code>
+     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
      *
      * <pre>
-     * Offset within the object.
+     * List of objects the OSD has.
      * </pre>
      */
-    boolean hasOffset();
+    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList getObjectSet(int index);
     /**
-     * <code>required fixed32 offset = 5;</code>
+     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
      *
      * <pre>
-     * Offset within the object.
+     * List of objects the OSD has.
      * </pre>
      */
-    int getOffset();
-
-    // required fixed32 length = 6;
+    int getObjectSetCount();
     /**
-     * <code>required fixed32 length = 6;</code>
+     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
      *
      * <pre>
-     * Length of data to be read, must be &lt;= stripe_size - offset.
+     * List of objects the OSD has.
      * </pre>
      */
-    boolean hasLength();
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder> 
+        getObjectSetOrBuilderList();
     /**
-     * <code>required fixed32 length = 6;</code>
+     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
      *
      * <pre>
-     * Length of data to be read, must be &lt;= stripe_size - offset.
+     * List of objects the OSD has.
      * </pre>
      */
-    int getLength();
+    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder getObjectSetOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.readRequest}
+   * Protobuf type {@code xtreemfs.pbrpc.InternalReadLocalResponse}
+   *
+   * <pre>
+   * Response sent by an OSD when reading objects for
+   * the ro/rw replication.
+   * </pre>
    */
-  public static final class readRequest extends
+  public static final class InternalReadLocalResponse extends
       com.google.protobuf.GeneratedMessage
-      implements readRequestOrBuilder {
-    // Use readRequest.newBuilder() to construct.
-    private readRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements InternalReadLocalResponseOrBuilder {
+    // Use InternalReadLocalResponse.newBuilder() to construct.
+    private InternalReadLocalResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private readRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private InternalReadLocalResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final readRequest defaultInstance;
-    public static readRequest getDefaultInstance() {
+    private static final InternalReadLocalResponse defaultInstance;
+    public static InternalReadLocalResponse getDefaultInstance() {
       return defaultInstance;
     }
 
-    public readRequest getDefaultInstanceForType() {
+    public InternalReadLocalResponse getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -9271,7 +8890,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private readRequest(
+    private InternalReadLocalResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -9295,41 +8914,24 @@ public final class OSD {
               break;
             }
             case 10: {
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder subBuilder = null;
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder subBuilder = null;
               if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = fileCredentials_.toBuilder();
+                subBuilder = data_.toBuilder();
               }
-              fileCredentials_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.PARSER, extensionRegistry);
+              data_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(fileCredentials_);
-                fileCredentials_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(data_);
+                data_ = subBuilder.buildPartial();
               }
               bitField0_ |= 0x00000001;
               break;
             }
             case 18: {
-              bitField0_ |= 0x00000002;
-              fileId_ = input.readBytes();
-              break;
-            }
-            case 25: {
-              bitField0_ |= 0x00000004;
-              objectNumber_ = input.readFixed64();
-              break;
-            }
-            case 33: {
-              bitField0_ |= 0x00000008;
-              objectVersion_ = input.readFixed64();
-              break;
-            }
-            case 45: {
-              bitField0_ |= 0x00000010;
-              offset_ = input.readFixed32();
-              break;
-            }
-            case 53: {
-              bitField0_ |= 0x00000020;
-              length_ = input.readFixed32();
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                objectSet_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              objectSet_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.PARSER, extensionRegistry));
               break;
             }
           }
@@ -9340,239 +8942,141 @@ public final class OSD {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          objectSet_ = java.util.Collections.unmodifiableList(objectSet_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_readRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_readRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<readRequest> PARSER =
-        new com.google.protobuf.AbstractParser<readRequest>() {
-      public readRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<InternalReadLocalResponse> PARSER =
+        new com.google.protobuf.AbstractParser<InternalReadLocalResponse>() {
+      public InternalReadLocalResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new readRequest(input, extensionRegistry);
+        return new InternalReadLocalResponse(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<readRequest> getParserForType() {
+    public com.google.protobuf.Parser<InternalReadLocalResponse> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
-    public static final int FILE_CREDENTIALS_FIELD_NUMBER = 1;
-    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_;
+    // required .xtreemfs.pbrpc.ObjectData data = 1;
+    public static final int DATA_FIELD_NUMBER = 1;
+    private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData data_;
     /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
      */
-    public boolean hasFileCredentials() {
+    public boolean hasData() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
-      return fileCredentials_;
-    }
-    /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
-      return fileCredentials_;
-    }
-
-    // required string file_id = 2;
-    public static final int FILE_ID_FIELD_NUMBER = 2;
-    private java.lang.Object fileId_;
-    /**
-     * <code>required string file_id = 2;</code>
-     */
-    public boolean hasFileId() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>required string file_id = 2;</code>
-     */
-    public java.lang.String getFileId() {
-      java.lang.Object ref = fileId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          fileId_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>required string file_id = 2;</code>
-     */
-    public com.google.protobuf.ByteString
-        getFileIdBytes() {
-      java.lang.Object ref = fileId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        fileId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    // required fixed64 object_number = 3;
-    public static final int OBJECT_NUMBER_FIELD_NUMBER = 3;
-    private long objectNumber_;
-    /**
-     * <code>required fixed64 object_number = 3;</code>
-     *
-     * <pre>
-     * Object number starting at 0.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
      */
-    public boolean hasObjectNumber() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getData() {
+      return data_;
     }
     /**
-     * <code>required fixed64 object_number = 3;</code>
-     *
-     * <pre>
-     * Object number starting at 0.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
      */
-    public long getObjectNumber() {
-      return objectNumber_;
+    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getDataOrBuilder() {
+      return data_;
     }
 
-    // required fixed64 object_version = 4;
-    public static final int OBJECT_VERSION_FIELD_NUMBER = 4;
-    private long objectVersion_;
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     *
-     * <pre>
-     * Version, currently ignored.
-     * </pre>
-     */
-    public boolean hasObjectVersion() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
-    }
+    // repeated .xtreemfs.pbrpc.ObjectList object_set = 2;
+    public static final int OBJECT_SET_FIELD_NUMBER = 2;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList> objectSet_;
     /**
-     * <code>required fixed64 object_version = 4;</code>
+     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
      *
      * <pre>
-     * Version, currently ignored.
+     * List of objects the OSD has.
      * </pre>
      */
-    public long getObjectVersion() {
-      return objectVersion_;
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList> getObjectSetList() {
+      return objectSet_;
     }
-
-    // required fixed32 offset = 5;
-    public static final int OFFSET_FIELD_NUMBER = 5;
-    private int offset_;
     /**
-     * <code>required fixed32 offset = 5;</code>
+     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
      *
      * <pre>
-     * Offset within the object.
+     * List of objects the OSD has.
      * </pre>
      */
-    public boolean hasOffset() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder> 
+        getObjectSetOrBuilderList() {
+      return objectSet_;
     }
     /**
-     * <code>required fixed32 offset = 5;</code>
+     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
      *
      * <pre>
-     * Offset within the object.
+     * List of objects the OSD has.
      * </pre>
      */
-    public int getOffset() {
-      return offset_;
+    public int getObjectSetCount() {
+      return objectSet_.size();
     }
-
-    // required fixed32 length = 6;
-    public static final int LENGTH_FIELD_NUMBER = 6;
-    private int length_;
     /**
-     * <code>required fixed32 length = 6;</code>
+     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
      *
      * <pre>
-     * Length of data to be read, must be &lt;= stripe_size - offset.
+     * List of objects the OSD has.
      * </pre>
      */
-    public boolean hasLength() {
-      return ((bitField0_ & 0x00000020) == 0x00000020);
+    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList getObjectSet(int index) {
+      return objectSet_.get(index);
     }
     /**
-     * <code>required fixed32 length = 6;</code>
+     * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
      *
      * <pre>
-     * Length of data to be read, must be &lt;= stripe_size - offset.
+     * List of objects the OSD has.
      * </pre>
      */
-    public int getLength() {
-      return length_;
+    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder getObjectSetOrBuilder(
+        int index) {
+      return objectSet_.get(index);
     }
 
     private void initFields() {
-      fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
-      fileId_ = "";
-      objectNumber_ = 0L;
-      objectVersion_ = 0L;
-      offset_ = 0;
-      length_ = 0;
+      data_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
+      objectSet_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasFileCredentials()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasFileId()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasObjectNumber()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasObjectVersion()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasOffset()) {
+      if (!hasData()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasLength()) {
+      if (!getData().isInitialized()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!getFileCredentials().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
+      for (int i = 0; i < getObjectSetCount(); i++) {
+        if (!getObjectSet(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
       memoizedIsInitialized = 1;
       return true;
@@ -9582,22 +9086,10 @@ public final class OSD {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, fileCredentials_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getFileIdBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeFixed64(3, objectNumber_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeFixed64(4, objectVersion_);
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeFixed32(5, offset_);
+        output.writeMessage(1, data_);
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        output.writeFixed32(6, length_);
+      for (int i = 0; i < objectSet_.size(); i++) {
+        output.writeMessage(2, objectSet_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -9610,27 +9102,11 @@ public final class OSD {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, fileCredentials_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getFileIdBytes());
+          .computeMessageSize(1, data_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      for (int i = 0; i < objectSet_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(3, objectNumber_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(4, objectVersion_);
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed32Size(5, offset_);
-      }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed32Size(6, length_);
+          .computeMessageSize(2, objectSet_.get(i));
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -9644,53 +9120,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -9699,7 +9175,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -9711,24 +9187,29 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.readRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.InternalReadLocalResponse}
+     *
+     * <pre>
+     * Response sent by an OSD when reading objects for
+     * the ro/rw replication.
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_readRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_readRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -9740,7 +9221,8 @@ public final class OSD {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getFileCredentialsFieldBuilder();
+          getDataFieldBuilder();
+          getObjectSetFieldBuilder();
         }
       }
       private static Builder create() {
@@ -9749,22 +9231,18 @@ public final class OSD {
 
       public Builder clear() {
         super.clear();
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+        if (dataBuilder_ == null) {
+          data_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
         } else {
-          fileCredentialsBuilder_.clear();
+          dataBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
-        fileId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
-        objectNumber_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000004);
-        objectVersion_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000008);
-        offset_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000010);
-        length_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000020);
+        if (objectSetBuilder_ == null) {
+          objectSet_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          objectSetBuilder_.clear();
+        }
         return this;
       }
 
@@ -9774,121 +9252,105 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_readRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        if (fileCredentialsBuilder_ == null) {
-          result.fileCredentials_ = fileCredentials_;
+        if (dataBuilder_ == null) {
+          result.data_ = data_;
         } else {
-          result.fileCredentials_ = fileCredentialsBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.fileId_ = fileId_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.objectNumber_ = objectNumber_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        result.objectVersion_ = objectVersion_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
+          result.data_ = dataBuilder_.build();
         }
-        result.offset_ = offset_;
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-          to_bitField0_ |= 0x00000020;
+        if (objectSetBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            objectSet_ = java.util.Collections.unmodifiableList(objectSet_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.objectSet_ = objectSet_;
+        } else {
+          result.objectSet_ = objectSetBuilder_.build();
         }
-        result.length_ = length_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.getDefaultInstance()) return this;
-        if (other.hasFileCredentials()) {
-          mergeFileCredentials(other.getFileCredentials());
-        }
-        if (other.hasFileId()) {
-          bitField0_ |= 0x00000002;
-          fileId_ = other.fileId_;
-          onChanged();
-        }
-        if (other.hasObjectNumber()) {
-          setObjectNumber(other.getObjectNumber());
-        }
-        if (other.hasObjectVersion()) {
-          setObjectVersion(other.getObjectVersion());
-        }
-        if (other.hasOffset()) {
-          setOffset(other.getOffset());
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse.getDefaultInstance()) return this;
+        if (other.hasData()) {
+          mergeData(other.getData());
         }
-        if (other.hasLength()) {
-          setLength(other.getLength());
+        if (objectSetBuilder_ == null) {
+          if (!other.objectSet_.isEmpty()) {
+            if (objectSet_.isEmpty()) {
+              objectSet_ = other.objectSet_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureObjectSetIsMutable();
+              objectSet_.addAll(other.objectSet_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.objectSet_.isEmpty()) {
+            if (objectSetBuilder_.isEmpty()) {
+              objectSetBuilder_.dispose();
+              objectSetBuilder_ = null;
+              objectSet_ = other.objectSet_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              objectSetBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getObjectSetFieldBuilder() : null;
+            } else {
+              objectSetBuilder_.addAllMessages(other.objectSet_);
+            }
+          }
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasFileCredentials()) {
-          
-          return false;
-        }
-        if (!hasFileId()) {
-          
-          return false;
-        }
-        if (!hasObjectNumber()) {
-          
-          return false;
-        }
-        if (!hasObjectVersion()) {
-          
-          return false;
-        }
-        if (!hasOffset()) {
+        if (!hasData()) {
           
           return false;
         }
-        if (!hasLength()) {
+        if (!getData().isInitialized()) {
           
           return false;
         }
-        if (!getFileCredentials().isInitialized()) {
-          
-          return false;
+        for (int i = 0; i < getObjectSetCount(); i++) {
+          if (!getObjectSet(i).isInitialized()) {
+            
+            return false;
+          }
         }
         return true;
       }
@@ -9897,11 +9359,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -9912,405 +9374,447 @@ public final class OSD {
       }
       private int bitField0_;
 
-      // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
-      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+      // required .xtreemfs.pbrpc.ObjectData data = 1;
+      private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData data_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> fileCredentialsBuilder_;
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder> dataBuilder_;
       /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
        */
-      public boolean hasFileCredentials() {
+      public boolean hasData() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
        */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
-        if (fileCredentialsBuilder_ == null) {
-          return fileCredentials_;
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getData() {
+        if (dataBuilder_ == null) {
+          return data_;
         } else {
-          return fileCredentialsBuilder_.getMessage();
+          return dataBuilder_.getMessage();
         }
       }
       /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
        */
-      public Builder setFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
-        if (fileCredentialsBuilder_ == null) {
+      public Builder setData(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData value) {
+        if (dataBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          fileCredentials_ = value;
+          data_ = value;
           onChanged();
         } else {
-          fileCredentialsBuilder_.setMessage(value);
+          dataBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
        */
-      public Builder setFileCredentials(
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder builderForValue) {
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentials_ = builderForValue.build();
+      public Builder setData(
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
           onChanged();
         } else {
-          fileCredentialsBuilder_.setMessage(builderForValue.build());
+          dataBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
        */
-      public Builder mergeFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
-        if (fileCredentialsBuilder_ == null) {
+      public Builder mergeData(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData value) {
+        if (dataBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              fileCredentials_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance()) {
-            fileCredentials_ =
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.newBuilder(fileCredentials_).mergeFrom(value).buildPartial();
+              data_ != org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance()) {
+            data_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.newBuilder(data_).mergeFrom(value).buildPartial();
           } else {
-            fileCredentials_ = value;
+            data_ = value;
           }
           onChanged();
         } else {
-          fileCredentialsBuilder_.mergeFrom(value);
+          dataBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
        */
-      public Builder clearFileCredentials() {
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+      public Builder clearData() {
+        if (dataBuilder_ == null) {
+          data_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
           onChanged();
         } else {
-          fileCredentialsBuilder_.clear();
+          dataBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
       /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
        */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder getFileCredentialsBuilder() {
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder getDataBuilder() {
         bitField0_ |= 0x00000001;
         onChanged();
-        return getFileCredentialsFieldBuilder().getBuilder();
+        return getDataFieldBuilder().getBuilder();
       }
       /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
        */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
-        if (fileCredentialsBuilder_ != null) {
-          return fileCredentialsBuilder_.getMessageOrBuilder();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
         } else {
-          return fileCredentials_;
+          return data_;
         }
       }
       /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       * <code>required .xtreemfs.pbrpc.ObjectData data = 1;</code>
        */
       private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> 
-          getFileCredentialsFieldBuilder() {
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentialsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder>(
-                  fileCredentials_,
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder>(
+                  data_,
                   getParentForChildren(),
                   isClean());
-          fileCredentials_ = null;
+          data_ = null;
         }
-        return fileCredentialsBuilder_;
+        return dataBuilder_;
       }
 
-      // required string file_id = 2;
-      private java.lang.Object fileId_ = "";
-      /**
-       * <code>required string file_id = 2;</code>
-       */
-      public boolean hasFileId() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      // repeated .xtreemfs.pbrpc.ObjectList object_set = 2;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList> objectSet_ =
+        java.util.Collections.emptyList();
+      private void ensureObjectSetIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          objectSet_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList>(objectSet_);
+          bitField0_ |= 0x00000002;
+         }
       }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder> objectSetBuilder_;
+
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+       *
+       * <pre>
+       * List of objects the OSD has.
+       * </pre>
        */
-      public java.lang.String getFileId() {
-        java.lang.Object ref = fileId_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          fileId_ = s;
-          return s;
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList> getObjectSetList() {
+        if (objectSetBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(objectSet_);
         } else {
-          return (java.lang.String) ref;
+          return objectSetBuilder_.getMessageList();
         }
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
+       *
+       * <pre>
+       * List of objects the OSD has.
+       * </pre>
        */
-      public com.google.protobuf.ByteString
-          getFileIdBytes() {
-        java.lang.Object ref = fileId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          fileId_ = b;
-          return b;
+      public int getObjectSetCount() {
+        if (objectSetBuilder_ == null) {
+          return objectSet_.size();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return objectSetBuilder_.getCount();
         }
       }
       /**
-       * <code>required string file_id = 2;</code>
-       */
-      public Builder setFileId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        fileId_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required string file_id = 2;</code>
-       */
-      public Builder clearFileId() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        fileId_ = getDefaultInstance().getFileId();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required string file_id = 2;</code>
-       */
-      public Builder setFileIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        fileId_ = value;
-        onChanged();
-        return this;
-      }
-
-      // required fixed64 object_number = 3;
-      private long objectNumber_ ;
-      /**
-       * <code>required fixed64 object_number = 3;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Object number starting at 0.
+       * List of objects the OSD has.
        * </pre>
        */
-      public boolean hasObjectNumber() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList getObjectSet(int index) {
+        if (objectSetBuilder_ == null) {
+          return objectSet_.get(index);
+        } else {
+          return objectSetBuilder_.getMessage(index);
+        }
       }
       /**
-       * <code>required fixed64 object_number = 3;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Object number starting at 0.
+       * List of objects the OSD has.
        * </pre>
        */
-      public long getObjectNumber() {
-        return objectNumber_;
+      public Builder setObjectSet(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList value) {
+        if (objectSetBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjectSetIsMutable();
+          objectSet_.set(index, value);
+          onChanged();
+        } else {
+          objectSetBuilder_.setMessage(index, value);
+        }
+        return this;
       }
       /**
-       * <code>required fixed64 object_number = 3;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Object number starting at 0.
+       * List of objects the OSD has.
        * </pre>
        */
-      public Builder setObjectNumber(long value) {
-        bitField0_ |= 0x00000004;
-        objectNumber_ = value;
-        onChanged();
+      public Builder setObjectSet(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder builderForValue) {
+        if (objectSetBuilder_ == null) {
+          ensureObjectSetIsMutable();
+          objectSet_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          objectSetBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>required fixed64 object_number = 3;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Object number starting at 0.
+       * List of objects the OSD has.
        * </pre>
        */
-      public Builder clearObjectNumber() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        objectNumber_ = 0L;
-        onChanged();
+      public Builder addObjectSet(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList value) {
+        if (objectSetBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjectSetIsMutable();
+          objectSet_.add(value);
+          onChanged();
+        } else {
+          objectSetBuilder_.addMessage(value);
+        }
         return this;
       }
-
-      // required fixed64 object_version = 4;
-      private long objectVersion_ ;
       /**
-       * <code>required fixed64 object_version = 4;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Version, currently ignored.
+       * List of objects the OSD has.
        * </pre>
        */
-      public boolean hasObjectVersion() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public Builder addObjectSet(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList value) {
+        if (objectSetBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjectSetIsMutable();
+          objectSet_.add(index, value);
+          onChanged();
+        } else {
+          objectSetBuilder_.addMessage(index, value);
+        }
+        return this;
       }
       /**
-       * <code>required fixed64 object_version = 4;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Version, currently ignored.
+       * List of objects the OSD has.
        * </pre>
        */
-      public long getObjectVersion() {
-        return objectVersion_;
+      public Builder addObjectSet(
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder builderForValue) {
+        if (objectSetBuilder_ == null) {
+          ensureObjectSetIsMutable();
+          objectSet_.add(builderForValue.build());
+          onChanged();
+        } else {
+          objectSetBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>required fixed64 object_version = 4;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Version, currently ignored.
+       * List of objects the OSD has.
        * </pre>
        */
-      public Builder setObjectVersion(long value) {
-        bitField0_ |= 0x00000008;
-        objectVersion_ = value;
-        onChanged();
+      public Builder addObjectSet(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder builderForValue) {
+        if (objectSetBuilder_ == null) {
+          ensureObjectSetIsMutable();
+          objectSet_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          objectSetBuilder_.addMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>required fixed64 object_version = 4;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Version, currently ignored.
+       * List of objects the OSD has.
        * </pre>
        */
-      public Builder clearObjectVersion() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        objectVersion_ = 0L;
-        onChanged();
+      public Builder addAllObjectSet(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList> values) {
+        if (objectSetBuilder_ == null) {
+          ensureObjectSetIsMutable();
+          super.addAll(values, objectSet_);
+          onChanged();
+        } else {
+          objectSetBuilder_.addAllMessages(values);
+        }
         return this;
       }
-
-      // required fixed32 offset = 5;
-      private int offset_ ;
       /**
-       * <code>required fixed32 offset = 5;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Offset within the object.
+       * List of objects the OSD has.
        * </pre>
        */
-      public boolean hasOffset() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+      public Builder clearObjectSet() {
+        if (objectSetBuilder_ == null) {
+          objectSet_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          objectSetBuilder_.clear();
+        }
+        return this;
       }
       /**
-       * <code>required fixed32 offset = 5;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Offset within the object.
+       * List of objects the OSD has.
        * </pre>
        */
-      public int getOffset() {
-        return offset_;
+      public Builder removeObjectSet(int index) {
+        if (objectSetBuilder_ == null) {
+          ensureObjectSetIsMutable();
+          objectSet_.remove(index);
+          onChanged();
+        } else {
+          objectSetBuilder_.remove(index);
+        }
+        return this;
       }
       /**
-       * <code>required fixed32 offset = 5;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Offset within the object.
+       * List of objects the OSD has.
        * </pre>
        */
-      public Builder setOffset(int value) {
-        bitField0_ |= 0x00000010;
-        offset_ = value;
-        onChanged();
-        return this;
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder getObjectSetBuilder(
+          int index) {
+        return getObjectSetFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>required fixed32 offset = 5;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Offset within the object.
+       * List of objects the OSD has.
        * </pre>
        */
-      public Builder clearOffset() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        offset_ = 0;
-        onChanged();
-        return this;
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder getObjectSetOrBuilder(
+          int index) {
+        if (objectSetBuilder_ == null) {
+          return objectSet_.get(index);  } else {
+          return objectSetBuilder_.getMessageOrBuilder(index);
+        }
       }
-
-      // required fixed32 length = 6;
-      private int length_ ;
       /**
-       * <code>required fixed32 length = 6;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Length of data to be read, must be &lt;= stripe_size - offset.
+       * List of objects the OSD has.
        * </pre>
        */
-      public boolean hasLength() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder> 
+           getObjectSetOrBuilderList() {
+        if (objectSetBuilder_ != null) {
+          return objectSetBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(objectSet_);
+        }
       }
       /**
-       * <code>required fixed32 length = 6;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Length of data to be read, must be &lt;= stripe_size - offset.
+       * List of objects the OSD has.
        * </pre>
        */
-      public int getLength() {
-        return length_;
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder addObjectSetBuilder() {
+        return getObjectSetFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.getDefaultInstance());
       }
       /**
-       * <code>required fixed32 length = 6;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Length of data to be read, must be &lt;= stripe_size - offset.
+       * List of objects the OSD has.
        * </pre>
        */
-      public Builder setLength(int value) {
-        bitField0_ |= 0x00000020;
-        length_ = value;
-        onChanged();
-        return this;
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder addObjectSetBuilder(
+          int index) {
+        return getObjectSetFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.getDefaultInstance());
       }
       /**
-       * <code>required fixed32 length = 6;</code>
+       * <code>repeated .xtreemfs.pbrpc.ObjectList object_set = 2;</code>
        *
        * <pre>
-       * Length of data to be read, must be &lt;= stripe_size - offset.
+       * List of objects the OSD has.
        * </pre>
        */
-      public Builder clearLength() {
-        bitField0_ = (bitField0_ & ~0x00000020);
-        length_ = 0;
-        onChanged();
-        return this;
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder> 
+           getObjectSetBuilderList() {
+        return getObjectSetFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder> 
+          getObjectSetFieldBuilder() {
+        if (objectSetBuilder_ == null) {
+          objectSetBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder>(
+                  objectSet_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          objectSet_ = null;
+        }
+        return objectSetBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.readRequest)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.InternalReadLocalResponse)
     }
 
     static {
-      defaultInstance = new readRequest(true);
+      defaultInstance = new InternalReadLocalResponse(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.readRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.InternalReadLocalResponse)
   }
 
-  public interface truncateRequestOrBuilder
+  public interface readRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
     // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
@@ -10342,43 +9846,97 @@ public final class OSD {
     com.google.protobuf.ByteString
         getFileIdBytes();
 
-    // required fixed64 new_file_size = 3;
+    // required fixed64 object_number = 3;
     /**
-     * <code>required fixed64 new_file_size = 3;</code>
+     * <code>required fixed64 object_number = 3;</code>
      *
      * <pre>
-     * New file size in bytes.
+     * Object number starting at 0.
      * </pre>
      */
-    boolean hasNewFileSize();
+    boolean hasObjectNumber();
     /**
-     * <code>required fixed64 new_file_size = 3;</code>
+     * <code>required fixed64 object_number = 3;</code>
      *
      * <pre>
-     * New file size in bytes.
+     * Object number starting at 0.
      * </pre>
      */
-    long getNewFileSize();
+    long getObjectNumber();
+
+    // required fixed64 object_version = 4;
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     *
+     * <pre>
+     * Version, currently ignored.
+     * </pre>
+     */
+    boolean hasObjectVersion();
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     *
+     * <pre>
+     * Version, currently ignored.
+     * </pre>
+     */
+    long getObjectVersion();
+
+    // required fixed32 offset = 5;
+    /**
+     * <code>required fixed32 offset = 5;</code>
+     *
+     * <pre>
+     * Offset within the object.
+     * </pre>
+     */
+    boolean hasOffset();
+    /**
+     * <code>required fixed32 offset = 5;</code>
+     *
+     * <pre>
+     * Offset within the object.
+     * </pre>
+     */
+    int getOffset();
+
+    // required fixed32 length = 6;
+    /**
+     * <code>required fixed32 length = 6;</code>
+     *
+     * <pre>
+     * Length of data to be read, must be &lt;= stripe_size - offset.
+     * </pre>
+     */
+    boolean hasLength();
+    /**
+     * <code>required fixed32 length = 6;</code>
+     *
+     * <pre>
+     * Length of data to be read, must be &lt;= stripe_size - offset.
+     * </pre>
+     */
+    int getLength();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.truncateRequest}
+   * Protobuf type {@code xtreemfs.pbrpc.readRequest}
    */
-  public static final class truncateRequest extends
+  public static final class readRequest extends
       com.google.protobuf.GeneratedMessage
-      implements truncateRequestOrBuilder {
-    // Use truncateRequest.newBuilder() to construct.
-    private truncateRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements readRequestOrBuilder {
+    // Use readRequest.newBuilder() to construct.
+    private readRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private truncateRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private readRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final truncateRequest defaultInstance;
-    public static truncateRequest getDefaultInstance() {
+    private static final readRequest defaultInstance;
+    public static readRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public truncateRequest getDefaultInstanceForType() {
+    public readRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -10388,7 +9946,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private truncateRequest(
+    private readRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -10431,14 +9989,29 @@ public final class OSD {
             }
             case 25: {
               bitField0_ |= 0x00000004;
-              newFileSize_ = input.readFixed64();
+              objectNumber_ = input.readFixed64();
               break;
             }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
+            case 33: {
+              bitField0_ |= 0x00000008;
+              objectVersion_ = input.readFixed64();
+              break;
+            }
+            case 45: {
+              bitField0_ |= 0x00000010;
+              offset_ = input.readFixed32();
+              break;
+            }
+            case 53: {
+              bitField0_ |= 0x00000020;
+              length_ = input.readFixed32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
@@ -10448,28 +10021,28 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_truncateRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_readRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_truncateRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_readRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<truncateRequest> PARSER =
-        new com.google.protobuf.AbstractParser<truncateRequest>() {
-      public truncateRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<readRequest> PARSER =
+        new com.google.protobuf.AbstractParser<readRequest>() {
+      public readRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new truncateRequest(input, extensionRegistry);
+        return new readRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<truncateRequest> getParserForType() {
+    public com.google.protobuf.Parser<readRequest> getParserForType() {
       return PARSER;
     }
 
@@ -10539,34 +10112,109 @@ public final class OSD {
       }
     }
 
-    // required fixed64 new_file_size = 3;
-    public static final int NEW_FILE_SIZE_FIELD_NUMBER = 3;
-    private long newFileSize_;
+    // required fixed64 object_number = 3;
+    public static final int OBJECT_NUMBER_FIELD_NUMBER = 3;
+    private long objectNumber_;
     /**
-     * <code>required fixed64 new_file_size = 3;</code>
+     * <code>required fixed64 object_number = 3;</code>
      *
      * <pre>
-     * New file size in bytes.
+     * Object number starting at 0.
      * </pre>
      */
-    public boolean hasNewFileSize() {
+    public boolean hasObjectNumber() {
       return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>required fixed64 new_file_size = 3;</code>
+     * <code>required fixed64 object_number = 3;</code>
      *
      * <pre>
-     * New file size in bytes.
+     * Object number starting at 0.
      * </pre>
      */
-    public long getNewFileSize() {
-      return newFileSize_;
+    public long getObjectNumber() {
+      return objectNumber_;
+    }
+
+    // required fixed64 object_version = 4;
+    public static final int OBJECT_VERSION_FIELD_NUMBER = 4;
+    private long objectVersion_;
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     *
+     * <pre>
+     * Version, currently ignored.
+     * </pre>
+     */
+    public boolean hasObjectVersion() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     *
+     * <pre>
+     * Version, currently ignored.
+     * </pre>
+     */
+    public long getObjectVersion() {
+      return objectVersion_;
+    }
+
+    // required fixed32 offset = 5;
+    public static final int OFFSET_FIELD_NUMBER = 5;
+    private int offset_;
+    /**
+     * <code>required fixed32 offset = 5;</code>
+     *
+     * <pre>
+     * Offset within the object.
+     * </pre>
+     */
+    public boolean hasOffset() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>required fixed32 offset = 5;</code>
+     *
+     * <pre>
+     * Offset within the object.
+     * </pre>
+     */
+    public int getOffset() {
+      return offset_;
+    }
+
+    // required fixed32 length = 6;
+    public static final int LENGTH_FIELD_NUMBER = 6;
+    private int length_;
+    /**
+     * <code>required fixed32 length = 6;</code>
+     *
+     * <pre>
+     * Length of data to be read, must be &lt;= stripe_size - offset.
+     * </pre>
+     */
+    public boolean hasLength() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>required fixed32 length = 6;</code>
+     *
+     * <pre>
+     * Length of data to be read, must be &lt;= stripe_size - offset.
+     * </pre>
+     */
+    public int getLength() {
+      return length_;
     }
 
     private void initFields() {
       fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
       fileId_ = "";
-      newFileSize_ = 0L;
+      objectNumber_ = 0L;
+      objectVersion_ = 0L;
+      offset_ = 0;
+      length_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -10581,7 +10229,19 @@ public final class OSD {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasNewFileSize()) {
+      if (!hasObjectNumber()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasObjectVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasOffset()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasLength()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -10603,7 +10263,16 @@ public final class OSD {
         output.writeBytes(2, getFileIdBytes());
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeFixed64(3, newFileSize_);
+        output.writeFixed64(3, objectNumber_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeFixed64(4, objectVersion_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeFixed32(5, offset_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeFixed32(6, length_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -10624,7 +10293,19 @@ public final class OSD {
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(3, newFileSize_);
+          .computeFixed64Size(3, objectNumber_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(4, objectVersion_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(5, offset_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(6, length_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -10638,53 +10319,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -10693,7 +10374,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -10705,24 +10386,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.truncateRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.readRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_truncateRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_readRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_truncateRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_readRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -10751,8 +10432,14 @@ public final class OSD {
         bitField0_ = (bitField0_ & ~0x00000001);
         fileId_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
-        newFileSize_ = 0L;
+        objectNumber_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000004);
+        objectVersion_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        offset_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        length_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
 
@@ -10762,23 +10449,23 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_truncateRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_readRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -10796,23 +10483,35 @@ public final class OSD {
         if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000004;
         }
-        result.newFileSize_ = newFileSize_;
+        result.objectNumber_ = objectNumber_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.objectVersion_ = objectVersion_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.offset_ = offset_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.length_ = length_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.getDefaultInstance()) return this;
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest.getDefaultInstance()) return this;
         if (other.hasFileCredentials()) {
           mergeFileCredentials(other.getFileCredentials());
         }
@@ -10821,11 +10520,20 @@ public final class OSD {
           fileId_ = other.fileId_;
           onChanged();
         }
-        if (other.hasNewFileSize()) {
-          setNewFileSize(other.getNewFileSize());
+        if (other.hasObjectNumber()) {
+          setObjectNumber(other.getObjectNumber());
         }
-        this.mergeUnknownFields(other.getUnknownFields());
-        return this;
+        if (other.hasObjectVersion()) {
+          setObjectVersion(other.getObjectVersion());
+        }
+        if (other.hasOffset()) {
+          setOffset(other.getOffset());
+        }
+        if (other.hasLength()) {
+          setLength(other.getLength());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
       }
 
       public final boolean isInitialized() {
@@ -10837,7 +10545,19 @@ public final class OSD {
           
           return false;
         }
-        if (!hasNewFileSize()) {
+        if (!hasObjectNumber()) {
+          
+          return false;
+        }
+        if (!hasObjectVersion()) {
+          
+          return false;
+        }
+        if (!hasOffset()) {
+          
+          return false;
+        }
+        if (!hasLength()) {
           
           return false;
         }
@@ -10852,11 +10572,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.readRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -11058,67 +10778,214 @@ public final class OSD {
         return this;
       }
 
-      // required fixed64 new_file_size = 3;
-      private long newFileSize_ ;
+      // required fixed64 object_number = 3;
+      private long objectNumber_ ;
       /**
-       * <code>required fixed64 new_file_size = 3;</code>
+       * <code>required fixed64 object_number = 3;</code>
        *
        * <pre>
-       * New file size in bytes.
+       * Object number starting at 0.
        * </pre>
        */
-      public boolean hasNewFileSize() {
+      public boolean hasObjectNumber() {
         return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>required fixed64 new_file_size = 3;</code>
+       * <code>required fixed64 object_number = 3;</code>
        *
        * <pre>
-       * New file size in bytes.
+       * Object number starting at 0.
        * </pre>
        */
-      public long getNewFileSize() {
-        return newFileSize_;
+      public long getObjectNumber() {
+        return objectNumber_;
       }
       /**
-       * <code>required fixed64 new_file_size = 3;</code>
+       * <code>required fixed64 object_number = 3;</code>
        *
        * <pre>
-       * New file size in bytes.
+       * Object number starting at 0.
        * </pre>
        */
-      public Builder setNewFileSize(long value) {
+      public Builder setObjectNumber(long value) {
         bitField0_ |= 0x00000004;
-        newFileSize_ = value;
+        objectNumber_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required fixed64 new_file_size = 3;</code>
+       * <code>required fixed64 object_number = 3;</code>
        *
        * <pre>
-       * New file size in bytes.
+       * Object number starting at 0.
        * </pre>
        */
-      public Builder clearNewFileSize() {
+      public Builder clearObjectNumber() {
         bitField0_ = (bitField0_ & ~0x00000004);
-        newFileSize_ = 0L;
+        objectNumber_ = 0L;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.truncateRequest)
+      // required fixed64 object_version = 4;
+      private long objectVersion_ ;
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       *
+       * <pre>
+       * Version, currently ignored.
+       * </pre>
+       */
+      public boolean hasObjectVersion() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       *
+       * <pre>
+       * Version, currently ignored.
+       * </pre>
+       */
+      public long getObjectVersion() {
+        return objectVersion_;
+      }
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       *
+       * <pre>
+       * Version, currently ignored.
+       * </pre>
+       */
+      public Builder setObjectVersion(long value) {
+        bitField0_ |= 0x00000008;
+        objectVersion_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       *
+       * <pre>
+       * Version, currently ignored.
+       * </pre>
+       */
+      public Builder clearObjectVersion() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        objectVersion_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // required fixed32 offset = 5;
+      private int offset_ ;
+      /**
+       * <code>required fixed32 offset = 5;</code>
+       *
+       * <pre>
+       * Offset within the object.
+       * </pre>
+       */
+      public boolean hasOffset() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>required fixed32 offset = 5;</code>
+       *
+       * <pre>
+       * Offset within the object.
+       * </pre>
+       */
+      public int getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>required fixed32 offset = 5;</code>
+       *
+       * <pre>
+       * Offset within the object.
+       * </pre>
+       */
+      public Builder setOffset(int value) {
+        bitField0_ |= 0x00000010;
+        offset_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 offset = 5;</code>
+       *
+       * <pre>
+       * Offset within the object.
+       * </pre>
+       */
+      public Builder clearOffset() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        offset_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required fixed32 length = 6;
+      private int length_ ;
+      /**
+       * <code>required fixed32 length = 6;</code>
+       *
+       * <pre>
+       * Length of data to be read, must be &lt;= stripe_size - offset.
+       * </pre>
+       */
+      public boolean hasLength() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>required fixed32 length = 6;</code>
+       *
+       * <pre>
+       * Length of data to be read, must be &lt;= stripe_size - offset.
+       * </pre>
+       */
+      public int getLength() {
+        return length_;
+      }
+      /**
+       * <code>required fixed32 length = 6;</code>
+       *
+       * <pre>
+       * Length of data to be read, must be &lt;= stripe_size - offset.
+       * </pre>
+       */
+      public Builder setLength(int value) {
+        bitField0_ |= 0x00000020;
+        length_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 length = 6;</code>
+       *
+       * <pre>
+       * Length of data to be read, must be &lt;= stripe_size - offset.
+       * </pre>
+       */
+      public Builder clearLength() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        length_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.readRequest)
     }
 
     static {
-      defaultInstance = new truncateRequest(true);
+      defaultInstance = new readRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.truncateRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.readRequest)
   }
 
-  public interface unlink_osd_RequestOrBuilder
+  public interface truncateRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
     // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
@@ -11149,26 +11016,44 @@ public final class OSD {
      */
     com.google.protobuf.ByteString
         getFileIdBytes();
+
+    // required fixed64 new_file_size = 3;
+    /**
+     * <code>required fixed64 new_file_size = 3;</code>
+     *
+     * <pre>
+     * New file size in bytes.
+     * </pre>
+     */
+    boolean hasNewFileSize();
+    /**
+     * <code>required fixed64 new_file_size = 3;</code>
+     *
+     * <pre>
+     * New file size in bytes.
+     * </pre>
+     */
+    long getNewFileSize();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.unlink_osd_Request}
+   * Protobuf type {@code xtreemfs.pbrpc.truncateRequest}
    */
-  public static final class unlink_osd_Request extends
+  public static final class truncateRequest extends
       com.google.protobuf.GeneratedMessage
-      implements unlink_osd_RequestOrBuilder {
-    // Use unlink_osd_Request.newBuilder() to construct.
-    private unlink_osd_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements truncateRequestOrBuilder {
+    // Use truncateRequest.newBuilder() to construct.
+    private truncateRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private unlink_osd_Request(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private truncateRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final unlink_osd_Request defaultInstance;
-    public static unlink_osd_Request getDefaultInstance() {
+    private static final truncateRequest defaultInstance;
+    public static truncateRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public unlink_osd_Request getDefaultInstanceForType() {
+    public truncateRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -11178,7 +11063,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private unlink_osd_Request(
+    private truncateRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -11219,6 +11104,11 @@ public final class OSD {
               fileId_ = input.readBytes();
               break;
             }
+            case 25: {
+              bitField0_ |= 0x00000004;
+              newFileSize_ = input.readFixed64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -11233,28 +11123,28 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_unlink_osd_Request_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_truncateRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_unlink_osd_Request_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_truncateRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<unlink_osd_Request> PARSER =
-        new com.google.protobuf.AbstractParser<unlink_osd_Request>() {
-      public unlink_osd_Request parsePartialFrom(
+    public static com.google.protobuf.Parser<truncateRequest> PARSER =
+        new com.google.protobuf.AbstractParser<truncateRequest>() {
+      public truncateRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new unlink_osd_Request(input, extensionRegistry);
+        return new truncateRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<unlink_osd_Request> getParserForType() {
+    public com.google.protobuf.Parser<truncateRequest> getParserForType() {
       return PARSER;
     }
 
@@ -11324,9 +11214,34 @@ public final class OSD {
       }
     }
 
+    // required fixed64 new_file_size = 3;
+    public static final int NEW_FILE_SIZE_FIELD_NUMBER = 3;
+    private long newFileSize_;
+    /**
+     * <code>required fixed64 new_file_size = 3;</code>
+     *
+     * <pre>
+     * New file size in bytes.
+     * </pre>
+     */
+    public boolean hasNewFileSize() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required fixed64 new_file_size = 3;</code>
+     *
+     * <pre>
+     * New file size in bytes.
+     * </pre>
+     */
+    public long getNewFileSize() {
+      return newFileSize_;
+    }
+
     private void initFields() {
       fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
       fileId_ = "";
+      newFileSize_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -11341,6 +11256,10 @@ public final class OSD {
         memoizedIsInitialized = 0;
         return false;
       }
+      if (!hasNewFileSize()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
       if (!getFileCredentials().isInitialized()) {
         memoizedIsInitialized = 0;
         return false;
@@ -11358,6 +11277,9 @@ public final class OSD {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeBytes(2, getFileIdBytes());
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeFixed64(3, newFileSize_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -11375,6 +11297,10 @@ public final class OSD {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(2, getFileIdBytes());
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(3, newFileSize_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -11387,53 +11313,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -11442,7 +11368,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -11454,24 +11380,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.unlink_osd_Request}
+     * Protobuf type {@code xtreemfs.pbrpc.truncateRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_RequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_unlink_osd_Request_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_truncateRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_unlink_osd_Request_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_truncateRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -11500,6 +11426,8 @@ public final class OSD {
         bitField0_ = (bitField0_ & ~0x00000001);
         fileId_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
+        newFileSize_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -11509,23 +11437,23 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_unlink_osd_Request_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_truncateRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -11540,22 +11468,26 @@ public final class OSD {
           to_bitField0_ |= 0x00000002;
         }
         result.fileId_ = fileId_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.newFileSize_ = newFileSize_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.getDefaultInstance()) return this;
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest.getDefaultInstance()) return this;
         if (other.hasFileCredentials()) {
           mergeFileCredentials(other.getFileCredentials());
         }
@@ -11564,6 +11496,9 @@ public final class OSD {
           fileId_ = other.fileId_;
           onChanged();
         }
+        if (other.hasNewFileSize()) {
+          setNewFileSize(other.getNewFileSize());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -11577,6 +11512,10 @@ public final class OSD {
           
           return false;
         }
+        if (!hasNewFileSize()) {
+          
+          return false;
+        }
         if (!getFileCredentials().isInitialized()) {
           
           return false;
@@ -11588,11 +11527,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.truncateRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -11794,18 +11733,67 @@ public final class OSD {
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.unlink_osd_Request)
+      // required fixed64 new_file_size = 3;
+      private long newFileSize_ ;
+      /**
+       * <code>required fixed64 new_file_size = 3;</code>
+       *
+       * <pre>
+       * New file size in bytes.
+       * </pre>
+       */
+      public boolean hasNewFileSize() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required fixed64 new_file_size = 3;</code>
+       *
+       * <pre>
+       * New file size in bytes.
+       * </pre>
+       */
+      public long getNewFileSize() {
+        return newFileSize_;
+      }
+      /**
+       * <code>required fixed64 new_file_size = 3;</code>
+       *
+       * <pre>
+       * New file size in bytes.
+       * </pre>
+       */
+      public Builder setNewFileSize(long value) {
+        bitField0_ |= 0x00000004;
+        newFileSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 new_file_size = 3;</code>
+       *
+       * <pre>
+       * New file size in bytes.
+       * </pre>
+       */
+      public Builder clearNewFileSize() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        newFileSize_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.truncateRequest)
     }
 
     static {
-      defaultInstance = new unlink_osd_Request(true);
+      defaultInstance = new truncateRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.unlink_osd_Request)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.truncateRequest)
   }
 
-  public interface writeRequestOrBuilder
+  public interface unlink_osd_RequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
     // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
@@ -11836,128 +11824,28 @@ public final class OSD {
      */
     com.google.protobuf.ByteString
         getFileIdBytes();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.unlink_osd_Request}
+   */
+  public static final class unlink_osd_Request extends
+      com.google.protobuf.GeneratedMessage
+      implements unlink_osd_RequestOrBuilder {
+    // Use unlink_osd_Request.newBuilder() to construct.
+    private unlink_osd_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private unlink_osd_Request(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    // required fixed64 object_number = 3;
-    /**
-     * <code>required fixed64 object_number = 3;</code>
-     *
-     * <pre>
-     * Object number starting at 0.
-     * </pre>
-     */
-    boolean hasObjectNumber();
-    /**
-     * <code>required fixed64 object_number = 3;</code>
-     *
-     * <pre>
-     * Object number starting at 0.
-     * </pre>
-     */
-    long getObjectNumber();
+    private static final unlink_osd_Request defaultInstance;
+    public static unlink_osd_Request getDefaultInstance() {
+      return defaultInstance;
+    }
 
-    // required fixed64 object_version = 4;
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     *
-     * <pre>
-     * Version, currently ignored.
-     * </pre>
-     */
-    boolean hasObjectVersion();
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     *
-     * <pre>
-     * Version, currently ignored.
-     * </pre>
-     */
-    long getObjectVersion();
-
-    // required fixed32 offset = 5;
-    /**
-     * <code>required fixed32 offset = 5;</code>
-     *
-     * <pre>
-     * Offset within the object.
-     * </pre>
-     */
-    boolean hasOffset();
-    /**
-     * <code>required fixed32 offset = 5;</code>
-     *
-     * <pre>
-     * Offset within the object.
-     * </pre>
-     */
-    int getOffset();
-
-    // required fixed64 lease_timeout = 6;
-    /**
-     * <code>required fixed64 lease_timeout = 6;</code>
-     *
-     * <pre>
-     * Timeout of the client lease, if set.
-     * Reserved for client-side-caching, currently not used.
-     * </pre>
-     */
-    boolean hasLeaseTimeout();
-    /**
-     * <code>required fixed64 lease_timeout = 6;</code>
-     *
-     * <pre>
-     * Timeout of the client lease, if set.
-     * Reserved for client-side-caching, currently not used.
-     * </pre>
-     */
-    long getLeaseTimeout();
-
-    // required .xtreemfs.pbrpc.ObjectData object_data = 7;
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-     *
-     * <pre>
-     * Only the checksum of ObjectData is used.
-     * </pre>
-     */
-    boolean hasObjectData();
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-     *
-     * <pre>
-     * Only the checksum of ObjectData is used.
-     * </pre>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getObjectData();
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-     *
-     * <pre>
-     * Only the checksum of ObjectData is used.
-     * </pre>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getObjectDataOrBuilder();
-  }
-  /**
-   * Protobuf type {@code xtreemfs.pbrpc.writeRequest}
-   */
-  public static final class writeRequest extends
-      com.google.protobuf.GeneratedMessage
-      implements writeRequestOrBuilder {
-    // Use writeRequest.newBuilder() to construct.
-    private writeRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-      this.unknownFields = builder.getUnknownFields();
-    }
-    private writeRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
-
-    private static final writeRequest defaultInstance;
-    public static writeRequest getDefaultInstance() {
-      return defaultInstance;
-    }
-
-    public writeRequest getDefaultInstanceForType() {
-      return defaultInstance;
-    }
+    public unlink_osd_Request getDefaultInstanceForType() {
+      return defaultInstance;
+    }
 
     private final com.google.protobuf.UnknownFieldSet unknownFields;
     @java.lang.Override
@@ -11965,7 +11853,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private writeRequest(
+    private unlink_osd_Request(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -12006,39 +11894,6 @@ public final class OSD {
               fileId_ = input.readBytes();
               break;
             }
-            case 25: {
-              bitField0_ |= 0x00000004;
-              objectNumber_ = input.readFixed64();
-              break;
-            }
-            case 33: {
-              bitField0_ |= 0x00000008;
-              objectVersion_ = input.readFixed64();
-              break;
-            }
-            case 45: {
-              bitField0_ |= 0x00000010;
-              offset_ = input.readFixed32();
-              break;
-            }
-            case 49: {
-              bitField0_ |= 0x00000020;
-              leaseTimeout_ = input.readFixed64();
-              break;
-            }
-            case 58: {
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000040) == 0x00000040)) {
-                subBuilder = objectData_.toBuilder();
-              }
-              objectData_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(objectData_);
-                objectData_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000040;
-              break;
-            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -12053,28 +11908,28 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_writeRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_unlink_osd_Request_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_writeRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_unlink_osd_Request_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<writeRequest> PARSER =
-        new com.google.protobuf.AbstractParser<writeRequest>() {
-      public writeRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<unlink_osd_Request> PARSER =
+        new com.google.protobuf.AbstractParser<unlink_osd_Request>() {
+      public unlink_osd_Request parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new writeRequest(input, extensionRegistry);
+        return new unlink_osd_Request(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<writeRequest> getParserForType() {
+    public com.google.protobuf.Parser<unlink_osd_Request> getParserForType() {
       return PARSER;
     }
 
@@ -12144,312 +11999,116 @@ public final class OSD {
       }
     }
 
-    // required fixed64 object_number = 3;
-    public static final int OBJECT_NUMBER_FIELD_NUMBER = 3;
-    private long objectNumber_;
-    /**
-     * <code>required fixed64 object_number = 3;</code>
-     *
-     * <pre>
-     * Object number starting at 0.
-     * </pre>
-     */
-    public boolean hasObjectNumber() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
-    /**
-     * <code>required fixed64 object_number = 3;</code>
-     *
-     * <pre>
-     * Object number starting at 0.
-     * </pre>
-     */
-    public long getObjectNumber() {
-      return objectNumber_;
+    private void initFields() {
+      fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+      fileId_ = "";
     }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
 
-    // required fixed64 object_version = 4;
-    public static final int OBJECT_VERSION_FIELD_NUMBER = 4;
-    private long objectVersion_;
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     *
-     * <pre>
-     * Version, currently ignored.
-     * </pre>
-     */
-    public boolean hasObjectVersion() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
-    }
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     *
-     * <pre>
-     * Version, currently ignored.
-     * </pre>
-     */
-    public long getObjectVersion() {
-      return objectVersion_;
+      if (!hasFileCredentials()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFileId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getFileCredentials().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
     }
 
-    // required fixed32 offset = 5;
-    public static final int OFFSET_FIELD_NUMBER = 5;
-    private int offset_;
-    /**
-     * <code>required fixed32 offset = 5;</code>
-     *
-     * <pre>
-     * Offset within the object.
-     * </pre>
-     */
-    public boolean hasOffset() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, fileCredentials_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getFileIdBytes());
+      }
+      getUnknownFields().writeTo(output);
     }
-    /**
-     * <code>required fixed32 offset = 5;</code>
-     *
-     * <pre>
-     * Offset within the object.
-     * </pre>
-     */
-    public int getOffset() {
-      return offset_;
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, fileCredentials_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getFileIdBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
     }
 
-    // required fixed64 lease_timeout = 6;
-    public static final int LEASE_TIMEOUT_FIELD_NUMBER = 6;
-    private long leaseTimeout_;
-    /**
-     * <code>required fixed64 lease_timeout = 6;</code>
-     *
-     * <pre>
-     * Timeout of the client lease, if set.
-     * Reserved for client-side-caching, currently not used.
-     * </pre>
-     */
-    public boolean hasLeaseTimeout() {
-      return ((bitField0_ & 0x00000020) == 0x00000020);
-    }
-    /**
-     * <code>required fixed64 lease_timeout = 6;</code>
-     *
-     * <pre>
-     * Timeout of the client lease, if set.
-     * Reserved for client-side-caching, currently not used.
-     * </pre>
-     */
-    public long getLeaseTimeout() {
-      return leaseTimeout_;
-    }
-
-    // required .xtreemfs.pbrpc.ObjectData object_data = 7;
-    public static final int OBJECT_DATA_FIELD_NUMBER = 7;
-    private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData objectData_;
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-     *
-     * <pre>
-     * Only the checksum of ObjectData is used.
-     * </pre>
-     */
-    public boolean hasObjectData() {
-      return ((bitField0_ & 0x00000040) == 0x00000040);
-    }
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-     *
-     * <pre>
-     * Only the checksum of ObjectData is used.
-     * </pre>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getObjectData() {
-      return objectData_;
-    }
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-     *
-     * <pre>
-     * Only the checksum of ObjectData is used.
-     * </pre>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getObjectDataOrBuilder() {
-      return objectData_;
-    }
-
-    private void initFields() {
-      fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
-      fileId_ = "";
-      objectNumber_ = 0L;
-      objectVersion_ = 0L;
-      offset_ = 0;
-      leaseTimeout_ = 0L;
-      objectData_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
-    }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
-
-      if (!hasFileCredentials()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasFileId()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasObjectNumber()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasObjectVersion()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasOffset()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasLeaseTimeout()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasObjectData()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!getFileCredentials().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!getObjectData().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, fileCredentials_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getFileIdBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeFixed64(3, objectNumber_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeFixed64(4, objectVersion_);
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeFixed32(5, offset_);
-      }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        output.writeFixed64(6, leaseTimeout_);
-      }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        output.writeMessage(7, objectData_);
-      }
-      getUnknownFields().writeTo(output);
-    }
-
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, fileCredentials_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getFileIdBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(3, objectNumber_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(4, objectVersion_);
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed32Size(5, offset_);
-      }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(6, leaseTimeout_);
-      }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(7, objectData_);
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
-    }
-
-    private static final long serialVersionUID = 0L;
-    @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
-      return super.writeReplace();
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -12458,7 +12117,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -12470,24 +12129,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.writeRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.unlink_osd_Request}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_RequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_writeRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_unlink_osd_Request_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_writeRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_unlink_osd_Request_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -12500,7 +12159,6 @@ public final class OSD {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
           getFileCredentialsFieldBuilder();
-          getObjectDataFieldBuilder();
         }
       }
       private static Builder create() {
@@ -12517,20 +12175,6 @@ public final class OSD {
         bitField0_ = (bitField0_ & ~0x00000001);
         fileId_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
-        objectNumber_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000004);
-        objectVersion_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000008);
-        offset_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000010);
-        leaseTimeout_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000020);
-        if (objectDataBuilder_ == null) {
-          objectData_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
-        } else {
-          objectDataBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -12540,23 +12184,23 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_writeRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_unlink_osd_Request_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -12571,69 +12215,30 @@ public final class OSD {
           to_bitField0_ |= 0x00000002;
         }
         result.fileId_ = fileId_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
         }
-        result.objectNumber_ = objectNumber_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        result.objectVersion_ = objectVersion_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
-        }
-        result.offset_ = offset_;
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-          to_bitField0_ |= 0x00000020;
-        }
-        result.leaseTimeout_ = leaseTimeout_;
-        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
-          to_bitField0_ |= 0x00000040;
-        }
-        if (objectDataBuilder_ == null) {
-          result.objectData_ = objectData_;
-        } else {
-          result.objectData_ = objectDataBuilder_.build();
-        }
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
-      }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.getDefaultInstance()) return this;
-        if (other.hasFileCredentials()) {
-          mergeFileCredentials(other.getFileCredentials());
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request.getDefaultInstance()) return this;
+        if (other.hasFileCredentials()) {
+          mergeFileCredentials(other.getFileCredentials());
         }
         if (other.hasFileId()) {
           bitField0_ |= 0x00000002;
           fileId_ = other.fileId_;
           onChanged();
         }
-        if (other.hasObjectNumber()) {
-          setObjectNumber(other.getObjectNumber());
-        }
-        if (other.hasObjectVersion()) {
-          setObjectVersion(other.getObjectVersion());
-        }
-        if (other.hasOffset()) {
-          setOffset(other.getOffset());
-        }
-        if (other.hasLeaseTimeout()) {
-          setLeaseTimeout(other.getLeaseTimeout());
-        }
-        if (other.hasObjectData()) {
-          mergeObjectData(other.getObjectData());
-        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -12647,34 +12252,10 @@ public final class OSD {
           
           return false;
         }
-        if (!hasObjectNumber()) {
-          
-          return false;
-        }
-        if (!hasObjectVersion()) {
-          
-          return false;
-        }
-        if (!hasOffset()) {
-          
-          return false;
-        }
-        if (!hasLeaseTimeout()) {
-          
-          return false;
-        }
-        if (!hasObjectData()) {
-          
-          return false;
-        }
         if (!getFileCredentials().isInitialized()) {
           
           return false;
         }
-        if (!getObjectData().isInitialized()) {
-          
-          return false;
-        }
         return true;
       }
 
@@ -12682,11 +12263,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -12888,442 +12469,168 @@ public final class OSD {
         return this;
       }
 
-      // required fixed64 object_number = 3;
-      private long objectNumber_ ;
-      /**
-       * <code>required fixed64 object_number = 3;</code>
-       *
-       * <pre>
-       * Object number starting at 0.
-       * </pre>
-       */
-      public boolean hasObjectNumber() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
-      /**
-       * <code>required fixed64 object_number = 3;</code>
-       *
-       * <pre>
-       * Object number starting at 0.
-       * </pre>
-       */
-      public long getObjectNumber() {
-        return objectNumber_;
-      }
-      /**
-       * <code>required fixed64 object_number = 3;</code>
-       *
-       * <pre>
-       * Object number starting at 0.
-       * </pre>
-       */
-      public Builder setObjectNumber(long value) {
-        bitField0_ |= 0x00000004;
-        objectNumber_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required fixed64 object_number = 3;</code>
-       *
-       * <pre>
-       * Object number starting at 0.
-       * </pre>
-       */
-      public Builder clearObjectNumber() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        objectNumber_ = 0L;
-        onChanged();
-        return this;
-      }
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.unlink_osd_Request)
+    }
 
-      // required fixed64 object_version = 4;
-      private long objectVersion_ ;
-      /**
-       * <code>required fixed64 object_version = 4;</code>
-       *
-       * <pre>
-       * Version, currently ignored.
-       * </pre>
-       */
-      public boolean hasObjectVersion() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
-      }
-      /**
-       * <code>required fixed64 object_version = 4;</code>
-       *
-       * <pre>
-       * Version, currently ignored.
-       * </pre>
-       */
-      public long getObjectVersion() {
-        return objectVersion_;
-      }
-      /**
-       * <code>required fixed64 object_version = 4;</code>
-       *
-       * <pre>
-       * Version, currently ignored.
-       * </pre>
-       */
-      public Builder setObjectVersion(long value) {
-        bitField0_ |= 0x00000008;
-        objectVersion_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required fixed64 object_version = 4;</code>
-       *
-       * <pre>
-       * Version, currently ignored.
-       * </pre>
-       */
-      public Builder clearObjectVersion() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        objectVersion_ = 0L;
-        onChanged();
-        return this;
-      }
+    static {
+      defaultInstance = new unlink_osd_Request(true);
+      defaultInstance.initFields();
+    }
 
-      // required fixed32 offset = 5;
-      private int offset_ ;
-      /**
-       * <code>required fixed32 offset = 5;</code>
-       *
-       * <pre>
-       * Offset within the object.
-       * </pre>
-       */
-      public boolean hasOffset() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
-      }
-      /**
-       * <code>required fixed32 offset = 5;</code>
-       *
-       * <pre>
-       * Offset within the object.
-       * </pre>
-       */
-      public int getOffset() {
-        return offset_;
-      }
-      /**
-       * <code>required fixed32 offset = 5;</code>
-       *
-       * <pre>
-       * Offset within the object.
-       * </pre>
-       */
-      public Builder setOffset(int value) {
-        bitField0_ |= 0x00000010;
-        offset_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required fixed32 offset = 5;</code>
-       *
-       * <pre>
-       * Offset within the object.
-       * </pre>
-       */
-      public Builder clearOffset() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        offset_ = 0;
-        onChanged();
-        return this;
-      }
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.unlink_osd_Request)
+  }
 
-      // required fixed64 lease_timeout = 6;
-      private long leaseTimeout_ ;
-      /**
-       * <code>required fixed64 lease_timeout = 6;</code>
-       *
-       * <pre>
-       * Timeout of the client lease, if set.
-       * Reserved for client-side-caching, currently not used.
-       * </pre>
-       */
-      public boolean hasLeaseTimeout() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
-      }
-      /**
-       * <code>required fixed64 lease_timeout = 6;</code>
-       *
-       * <pre>
-       * Timeout of the client lease, if set.
-       * Reserved for client-side-caching, currently not used.
-       * </pre>
-       */
-      public long getLeaseTimeout() {
-        return leaseTimeout_;
-      }
-      /**
-       * <code>required fixed64 lease_timeout = 6;</code>
-       *
-       * <pre>
-       * Timeout of the client lease, if set.
-       * Reserved for client-side-caching, currently not used.
-       * </pre>
-       */
-      public Builder setLeaseTimeout(long value) {
-        bitField0_ |= 0x00000020;
-        leaseTimeout_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required fixed64 lease_timeout = 6;</code>
-       *
-       * <pre>
-       * Timeout of the client lease, if set.
-       * Reserved for client-side-caching, currently not used.
-       * </pre>
-       */
-      public Builder clearLeaseTimeout() {
-        bitField0_ = (bitField0_ & ~0x00000020);
-        leaseTimeout_ = 0L;
-        onChanged();
-        return this;
-      }
-
-      // required .xtreemfs.pbrpc.ObjectData object_data = 7;
-      private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData objectData_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder> objectDataBuilder_;
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-       *
-       * <pre>
-       * Only the checksum of ObjectData is used.
-       * </pre>
-       */
-      public boolean hasObjectData() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-       *
-       * <pre>
-       * Only the checksum of ObjectData is used.
-       * </pre>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getObjectData() {
-        if (objectDataBuilder_ == null) {
-          return objectData_;
-        } else {
-          return objectDataBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-       *
-       * <pre>
-       * Only the checksum of ObjectData is used.
-       * </pre>
-       */
-      public Builder setObjectData(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData value) {
-        if (objectDataBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          objectData_ = value;
-          onChanged();
-        } else {
-          objectDataBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000040;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-       *
-       * <pre>
-       * Only the checksum of ObjectData is used.
-       * </pre>
-       */
-      public Builder setObjectData(
-          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder builderForValue) {
-        if (objectDataBuilder_ == null) {
-          objectData_ = builderForValue.build();
-          onChanged();
-        } else {
-          objectDataBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000040;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-       *
-       * <pre>
-       * Only the checksum of ObjectData is used.
-       * </pre>
-       */
-      public Builder mergeObjectData(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData value) {
-        if (objectDataBuilder_ == null) {
-          if (((bitField0_ & 0x00000040) == 0x00000040) &&
-              objectData_ != org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance()) {
-            objectData_ =
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.newBuilder(objectData_).mergeFrom(value).buildPartial();
-          } else {
-            objectData_ = value;
-          }
-          onChanged();
-        } else {
-          objectDataBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000040;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-       *
-       * <pre>
-       * Only the checksum of ObjectData is used.
-       * </pre>
-       */
-      public Builder clearObjectData() {
-        if (objectDataBuilder_ == null) {
-          objectData_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
-          onChanged();
-        } else {
-          objectDataBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000040);
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-       *
-       * <pre>
-       * Only the checksum of ObjectData is used.
-       * </pre>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder getObjectDataBuilder() {
-        bitField0_ |= 0x00000040;
-        onChanged();
-        return getObjectDataFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-       *
-       * <pre>
-       * Only the checksum of ObjectData is used.
-       * </pre>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getObjectDataOrBuilder() {
-        if (objectDataBuilder_ != null) {
-          return objectDataBuilder_.getMessageOrBuilder();
-        } else {
-          return objectData_;
-        }
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
-       *
-       * <pre>
-       * Only the checksum of ObjectData is used.
-       * </pre>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder> 
-          getObjectDataFieldBuilder() {
-        if (objectDataBuilder_ == null) {
-          objectDataBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder>(
-                  objectData_,
-                  getParentForChildren(),
-                  isClean());
-          objectData_ = null;
-        }
-        return objectDataBuilder_;
-      }
-
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.writeRequest)
-    }
-
-    static {
-      defaultInstance = new writeRequest(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.writeRequest)
-  }
-
-  public interface xtreemfs_broadcast_gmaxRequestOrBuilder
+  public interface writeRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // required string file_id = 1;
+    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
     /**
-     * <code>required string file_id = 1;</code>
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    boolean hasFileCredentials();
+    /**
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials();
+    /**
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder();
+
+    // required string file_id = 2;
+    /**
+     * <code>required string file_id = 2;</code>
      */
     boolean hasFileId();
     /**
-     * <code>required string file_id = 1;</code>
+     * <code>required string file_id = 2;</code>
      */
     java.lang.String getFileId();
     /**
-     * <code>required string file_id = 1;</code>
+     * <code>required string file_id = 2;</code>
      */
     com.google.protobuf.ByteString
         getFileIdBytes();
 
-    // required fixed64 truncate_epoch = 2;
+    // required fixed64 object_number = 3;
     /**
-     * <code>required fixed64 truncate_epoch = 2;</code>
+     * <code>required fixed64 object_number = 3;</code>
+     *
+     * <pre>
+     * Object number starting at 0.
+     * </pre>
      */
-    boolean hasTruncateEpoch();
+    boolean hasObjectNumber();
     /**
-     * <code>required fixed64 truncate_epoch = 2;</code>
+     * <code>required fixed64 object_number = 3;</code>
+     *
+     * <pre>
+     * Object number starting at 0.
+     * </pre>
      */
-    long getTruncateEpoch();
+    long getObjectNumber();
 
-    // required fixed64 last_object = 3;
+    // required fixed64 object_version = 4;
     /**
-     * <code>required fixed64 last_object = 3;</code>
+     * <code>required fixed64 object_version = 4;</code>
+     *
+     * <pre>
+     * Version, currently ignored.
+     * </pre>
      */
-    boolean hasLastObject();
+    boolean hasObjectVersion();
     /**
-     * <code>required fixed64 last_object = 3;</code>
+     * <code>required fixed64 object_version = 4;</code>
+     *
+     * <pre>
+     * Version, currently ignored.
+     * </pre>
      */
-    long getLastObject();
+    long getObjectVersion();
 
-    // required fixed64 file_size = 4;
+    // required fixed32 offset = 5;
     /**
-     * <code>required fixed64 file_size = 4;</code>
-     */
-    boolean hasFileSize();
+     * <code>required fixed32 offset = 5;</code>
+     *
+     * <pre>
+     * Offset within the object.
+     * </pre>
+     */
+    boolean hasOffset();
     /**
-     * <code>required fixed64 file_size = 4;</code>
+     * <code>required fixed32 offset = 5;</code>
+     *
+     * <pre>
+     * Offset within the object.
+     * </pre>
      */
-    long getFileSize();
+    int getOffset();
+
+    // required fixed64 lease_timeout = 6;
+    /**
+     * <code>required fixed64 lease_timeout = 6;</code>
+     *
+     * <pre>
+     * Timeout of the client lease, if set.
+     * Reserved for client-side-caching, currently not used.
+     * </pre>
+     */
+    boolean hasLeaseTimeout();
+    /**
+     * <code>required fixed64 lease_timeout = 6;</code>
+     *
+     * <pre>
+     * Timeout of the client lease, if set.
+     * Reserved for client-side-caching, currently not used.
+     * </pre>
+     */
+    long getLeaseTimeout();
+
+    // required .xtreemfs.pbrpc.ObjectData object_data = 7;
+    /**
+     * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+     *
+     * <pre>
+     * Only the checksum of ObjectData is used.
+     * </pre>
+     */
+    boolean hasObjectData();
+    /**
+     * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+     *
+     * <pre>
+     * Only the checksum of ObjectData is used.
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getObjectData();
+    /**
+     * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+     *
+     * <pre>
+     * Only the checksum of ObjectData is used.
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getObjectDataOrBuilder();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_broadcast_gmaxRequest}
-   *
-   * <pre>
-   * Internal message sent between OSDs of a striped file.
-   * Transmitted via UDP.
-   * </pre>
+   * Protobuf type {@code xtreemfs.pbrpc.writeRequest}
    */
-  public static final class xtreemfs_broadcast_gmaxRequest extends
+  public static final class writeRequest extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_broadcast_gmaxRequestOrBuilder {
-    // Use xtreemfs_broadcast_gmaxRequest.newBuilder() to construct.
-    private xtreemfs_broadcast_gmaxRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements writeRequestOrBuilder {
+    // Use writeRequest.newBuilder() to construct.
+    private writeRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_broadcast_gmaxRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private writeRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_broadcast_gmaxRequest defaultInstance;
-    public static xtreemfs_broadcast_gmaxRequest getDefaultInstance() {
+    private static final writeRequest defaultInstance;
+    public static writeRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_broadcast_gmaxRequest getDefaultInstanceForType() {
+    public writeRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -13333,7 +12640,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_broadcast_gmaxRequest(
+    private writeRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -13357,23 +12664,54 @@ public final class OSD {
               break;
             }
             case 10: {
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = fileCredentials_.toBuilder();
+              }
+              fileCredentials_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fileCredentials_);
+                fileCredentials_ = subBuilder.buildPartial();
+              }
               bitField0_ |= 0x00000001;
-              fileId_ = input.readBytes();
               break;
             }
-            case 17: {
+            case 18: {
               bitField0_ |= 0x00000002;
-              truncateEpoch_ = input.readFixed64();
+              fileId_ = input.readBytes();
               break;
             }
             case 25: {
               bitField0_ |= 0x00000004;
-              lastObject_ = input.readFixed64();
+              objectNumber_ = input.readFixed64();
               break;
             }
             case 33: {
               bitField0_ |= 0x00000008;
-              fileSize_ = input.readFixed64();
+              objectVersion_ = input.readFixed64();
+              break;
+            }
+            case 45: {
+              bitField0_ |= 0x00000010;
+              offset_ = input.readFixed32();
+              break;
+            }
+            case 49: {
+              bitField0_ |= 0x00000020;
+              leaseTimeout_ = input.readFixed64();
+              break;
+            }
+            case 58: {
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000040) == 0x00000040)) {
+                subBuilder = objectData_.toBuilder();
+              }
+              objectData_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(objectData_);
+                objectData_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000040;
               break;
             }
           }
@@ -13390,43 +12728,65 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_broadcast_gmaxRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_writeRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_broadcast_gmaxRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_writeRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_broadcast_gmaxRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_broadcast_gmaxRequest>() {
-      public xtreemfs_broadcast_gmaxRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<writeRequest> PARSER =
+        new com.google.protobuf.AbstractParser<writeRequest>() {
+      public writeRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_broadcast_gmaxRequest(input, extensionRegistry);
+        return new writeRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_broadcast_gmaxRequest> getParserForType() {
+    public com.google.protobuf.Parser<writeRequest> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // required string file_id = 1;
-    public static final int FILE_ID_FIELD_NUMBER = 1;
+    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
+    public static final int FILE_CREDENTIALS_FIELD_NUMBER = 1;
+    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_;
+    /**
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    public boolean hasFileCredentials() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
+      return fileCredentials_;
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
+      return fileCredentials_;
+    }
+
+    // required string file_id = 2;
+    public static final int FILE_ID_FIELD_NUMBER = 2;
     private java.lang.Object fileId_;
     /**
-     * <code>required string file_id = 1;</code>
+     * <code>required string file_id = 2;</code>
      */
     public boolean hasFileId() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>required string file_id = 1;</code>
+     * <code>required string file_id = 2;</code>
      */
     public java.lang.String getFileId() {
       java.lang.Object ref = fileId_;
@@ -13443,7 +12803,7 @@ public final class OSD {
       }
     }
     /**
-     * <code>required string file_id = 1;</code>
+     * <code>required string file_id = 2;</code>
      */
     public com.google.protobuf.ByteString
         getFileIdBytes() {
@@ -13459,78 +12819,185 @@ public final class OSD {
       }
     }
 
-    // required fixed64 truncate_epoch = 2;
-    public static final int TRUNCATE_EPOCH_FIELD_NUMBER = 2;
-    private long truncateEpoch_;
+    // required fixed64 object_number = 3;
+    public static final int OBJECT_NUMBER_FIELD_NUMBER = 3;
+    private long objectNumber_;
     /**
-     * <code>required fixed64 truncate_epoch = 2;</code>
+     * <code>required fixed64 object_number = 3;</code>
+     *
+     * <pre>
+     * Object number starting at 0.
+     * </pre>
      */
-    public boolean hasTruncateEpoch() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasObjectNumber() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>required fixed64 truncate_epoch = 2;</code>
+     * <code>required fixed64 object_number = 3;</code>
+     *
+     * <pre>
+     * Object number starting at 0.
+     * </pre>
      */
-    public long getTruncateEpoch() {
-      return truncateEpoch_;
+    public long getObjectNumber() {
+      return objectNumber_;
     }
 
-    // required fixed64 last_object = 3;
-    public static final int LAST_OBJECT_FIELD_NUMBER = 3;
-    private long lastObject_;
+    // required fixed64 object_version = 4;
+    public static final int OBJECT_VERSION_FIELD_NUMBER = 4;
+    private long objectVersion_;
     /**
-     * <code>required fixed64 last_object = 3;</code>
+     * <code>required fixed64 object_version = 4;</code>
+     *
+     * <pre>
+     * Version, currently ignored.
+     * </pre>
      */
-    public boolean hasLastObject() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public boolean hasObjectVersion() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
     }
     /**
-     * <code>required fixed64 last_object = 3;</code>
+     * <code>required fixed64 object_version = 4;</code>
+     *
+     * <pre>
+     * Version, currently ignored.
+     * </pre>
      */
-    public long getLastObject() {
-      return lastObject_;
+    public long getObjectVersion() {
+      return objectVersion_;
     }
 
-    // required fixed64 file_size = 4;
-    public static final int FILE_SIZE_FIELD_NUMBER = 4;
-    private long fileSize_;
+    // required fixed32 offset = 5;
+    public static final int OFFSET_FIELD_NUMBER = 5;
+    private int offset_;
     /**
-     * <code>required fixed64 file_size = 4;</code>
+     * <code>required fixed32 offset = 5;</code>
+     *
+     * <pre>
+     * Offset within the object.
+     * </pre>
      */
-    public boolean hasFileSize() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+    public boolean hasOffset() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
     }
     /**
-     * <code>required fixed64 file_size = 4;</code>
+     * <code>required fixed32 offset = 5;</code>
+     *
+     * <pre>
+     * Offset within the object.
+     * </pre>
      */
-    public long getFileSize() {
-      return fileSize_;
+    public int getOffset() {
+      return offset_;
     }
 
-    private void initFields() {
+    // required fixed64 lease_timeout = 6;
+    public static final int LEASE_TIMEOUT_FIELD_NUMBER = 6;
+    private long leaseTimeout_;
+    /**
+     * <code>required fixed64 lease_timeout = 6;</code>
+     *
+     * <pre>
+     * Timeout of the client lease, if set.
+     * Reserved for client-side-caching, currently not used.
+     * </pre>
+     */
+    public boolean hasLeaseTimeout() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>required fixed64 lease_timeout = 6;</code>
+     *
+     * <pre>
+     * Timeout of the client lease, if set.
+     * Reserved for client-side-caching, currently not used.
+     * </pre>
+     */
+    public long getLeaseTimeout() {
+      return leaseTimeout_;
+    }
+
+    // required .xtreemfs.pbrpc.ObjectData object_data = 7;
+    public static final int OBJECT_DATA_FIELD_NUMBER = 7;
+    private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData objectData_;
+    /**
+     * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+     *
+     * <pre>
+     * Only the checksum of ObjectData is used.
+     * </pre>
+     */
+    public boolean hasObjectData() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+     *
+     * <pre>
+     * Only the checksum of ObjectData is used.
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getObjectData() {
+      return objectData_;
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+     *
+     * <pre>
+     * Only the checksum of ObjectData is used.
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getObjectDataOrBuilder() {
+      return objectData_;
+    }
+
+    private void initFields() {
+      fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
       fileId_ = "";
-      truncateEpoch_ = 0L;
-      lastObject_ = 0L;
-      fileSize_ = 0L;
+      objectNumber_ = 0L;
+      objectVersion_ = 0L;
+      offset_ = 0;
+      leaseTimeout_ = 0L;
+      objectData_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
+      if (!hasFileCredentials()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
       if (!hasFileId()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasTruncateEpoch()) {
+      if (!hasObjectNumber()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasLastObject()) {
+      if (!hasObjectVersion()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasFileSize()) {
+      if (!hasOffset()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasLeaseTimeout()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasObjectData()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getFileCredentials().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getObjectData().isInitialized()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -13542,16 +13009,25 @@ public final class OSD {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getFileIdBytes());
+        output.writeMessage(1, fileCredentials_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeFixed64(2, truncateEpoch_);
+        output.writeBytes(2, getFileIdBytes());
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeFixed64(3, lastObject_);
+        output.writeFixed64(3, objectNumber_);
       }
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeFixed64(4, fileSize_);
+        output.writeFixed64(4, objectVersion_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeFixed32(5, offset_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeFixed64(6, leaseTimeout_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeMessage(7, objectData_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -13564,19 +13040,31 @@ public final class OSD {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getFileIdBytes());
+          .computeMessageSize(1, fileCredentials_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(2, truncateEpoch_);
+          .computeBytesSize(2, getFileIdBytes());
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(3, lastObject_);
+          .computeFixed64Size(3, objectNumber_);
       }
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(4, fileSize_);
+          .computeFixed64Size(4, objectVersion_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(5, offset_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(6, leaseTimeout_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, objectData_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -13590,53 +13078,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -13645,7 +13133,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -13657,29 +13145,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_broadcast_gmaxRequest}
-     *
-     * <pre>
-     * Internal message sent between OSDs of a striped file.
-     * Transmitted via UDP.
-     * </pre>
+     * Protobuf type {@code xtreemfs.pbrpc.writeRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_broadcast_gmaxRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_writeRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_broadcast_gmaxRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_writeRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -13691,6 +13174,8 @@ public final class OSD {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getFileCredentialsFieldBuilder();
+          getObjectDataFieldBuilder();
         }
       }
       private static Builder create() {
@@ -13699,14 +13184,28 @@ public final class OSD {
 
       public Builder clear() {
         super.clear();
-        fileId_ = "";
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+        } else {
+          fileCredentialsBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000001);
-        truncateEpoch_ = 0L;
+        fileId_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
-        lastObject_ = 0L;
+        objectNumber_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000004);
-        fileSize_ = 0L;
+        objectVersion_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000008);
+        offset_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        leaseTimeout_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        if (objectDataBuilder_ == null) {
+          objectData_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
+        } else {
+          objectDataBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -13716,89 +13215,138 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_broadcast_gmaxRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_writeRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.fileId_ = fileId_;
+        if (fileCredentialsBuilder_ == null) {
+          result.fileCredentials_ = fileCredentials_;
+        } else {
+          result.fileCredentials_ = fileCredentialsBuilder_.build();
+        }
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.truncateEpoch_ = truncateEpoch_;
+        result.fileId_ = fileId_;
         if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000004;
         }
-        result.lastObject_ = lastObject_;
+        result.objectNumber_ = objectNumber_;
         if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
           to_bitField0_ |= 0x00000008;
         }
-        result.fileSize_ = fileSize_;
+        result.objectVersion_ = objectVersion_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.offset_ = offset_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.leaseTimeout_ = leaseTimeout_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        if (objectDataBuilder_ == null) {
+          result.objectData_ = objectData_;
+        } else {
+          result.objectData_ = objectDataBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.getDefaultInstance()) return this;
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest.getDefaultInstance()) return this;
+        if (other.hasFileCredentials()) {
+          mergeFileCredentials(other.getFileCredentials());
+        }
         if (other.hasFileId()) {
-          bitField0_ |= 0x00000001;
+          bitField0_ |= 0x00000002;
           fileId_ = other.fileId_;
           onChanged();
         }
-        if (other.hasTruncateEpoch()) {
-          setTruncateEpoch(other.getTruncateEpoch());
+        if (other.hasObjectNumber()) {
+          setObjectNumber(other.getObjectNumber());
         }
-        if (other.hasLastObject()) {
-          setLastObject(other.getLastObject());
+        if (other.hasObjectVersion()) {
+          setObjectVersion(other.getObjectVersion());
         }
-        if (other.hasFileSize()) {
-          setFileSize(other.getFileSize());
+        if (other.hasOffset()) {
+          setOffset(other.getOffset());
+        }
+        if (other.hasLeaseTimeout()) {
+          setLeaseTimeout(other.getLeaseTimeout());
+        }
+        if (other.hasObjectData()) {
+          mergeObjectData(other.getObjectData());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
+        if (!hasFileCredentials()) {
+          
+          return false;
+        }
         if (!hasFileId()) {
           
           return false;
         }
-        if (!hasTruncateEpoch()) {
+        if (!hasObjectNumber()) {
           
           return false;
         }
-        if (!hasLastObject()) {
+        if (!hasObjectVersion()) {
           
           return false;
         }
-        if (!hasFileSize()) {
+        if (!hasOffset()) {
+          
+          return false;
+        }
+        if (!hasLeaseTimeout()) {
+          
+          return false;
+        }
+        if (!hasObjectData()) {
+          
+          return false;
+        }
+        if (!getFileCredentials().isInitialized()) {
+          
+          return false;
+        }
+        if (!getObjectData().isInitialized()) {
           
           return false;
         }
@@ -13809,11 +13357,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.writeRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -13824,16 +13372,133 @@ public final class OSD {
       }
       private int bitField0_;
 
-      // required string file_id = 1;
+      // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
+      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> fileCredentialsBuilder_;
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public boolean hasFileCredentials() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
+        if (fileCredentialsBuilder_ == null) {
+          return fileCredentials_;
+        } else {
+          return fileCredentialsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public Builder setFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
+        if (fileCredentialsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fileCredentials_ = value;
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public Builder setFileCredentials(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder builderForValue) {
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentials_ = builderForValue.build();
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public Builder mergeFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
+        if (fileCredentialsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              fileCredentials_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance()) {
+            fileCredentials_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.newBuilder(fileCredentials_).mergeFrom(value).buildPartial();
+          } else {
+            fileCredentials_ = value;
+          }
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public Builder clearFileCredentials() {
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder getFileCredentialsBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getFileCredentialsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
+        if (fileCredentialsBuilder_ != null) {
+          return fileCredentialsBuilder_.getMessageOrBuilder();
+        } else {
+          return fileCredentials_;
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> 
+          getFileCredentialsFieldBuilder() {
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentialsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder>(
+                  fileCredentials_,
+                  getParentForChildren(),
+                  isClean());
+          fileCredentials_ = null;
+        }
+        return fileCredentialsBuilder_;
+      }
+
+      // required string file_id = 2;
       private java.lang.Object fileId_ = "";
       /**
-       * <code>required string file_id = 1;</code>
+       * <code>required string file_id = 2;</code>
        */
       public boolean hasFileId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>required string file_id = 1;</code>
+       * <code>required string file_id = 2;</code>
        */
       public java.lang.String getFileId() {
         java.lang.Object ref = fileId_;
@@ -13847,7 +13512,7 @@ public final class OSD {
         }
       }
       /**
-       * <code>required string file_id = 1;</code>
+       * <code>required string file_id = 2;</code>
        */
       public com.google.protobuf.ByteString
           getFileIdBytes() {
@@ -13863,372 +13528,597 @@ public final class OSD {
         }
       }
       /**
-       * <code>required string file_id = 1;</code>
+       * <code>required string file_id = 2;</code>
        */
       public Builder setFileId(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
+  bitField0_ |= 0x00000002;
         fileId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string file_id = 1;</code>
+       * <code>required string file_id = 2;</code>
        */
       public Builder clearFileId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
+        bitField0_ = (bitField0_ & ~0x00000002);
         fileId_ = getDefaultInstance().getFileId();
         onChanged();
         return this;
       }
       /**
-       * <code>required string file_id = 1;</code>
+       * <code>required string file_id = 2;</code>
        */
       public Builder setFileIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
+  bitField0_ |= 0x00000002;
         fileId_ = value;
         onChanged();
         return this;
       }
 
-      // required fixed64 truncate_epoch = 2;
-      private long truncateEpoch_ ;
+      // required fixed64 object_number = 3;
+      private long objectNumber_ ;
       /**
-       * <code>required fixed64 truncate_epoch = 2;</code>
+       * <code>required fixed64 object_number = 3;</code>
+       *
+       * <pre>
+       * Object number starting at 0.
+       * </pre>
        */
-      public boolean hasTruncateEpoch() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasObjectNumber() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>required fixed64 truncate_epoch = 2;</code>
+       * <code>required fixed64 object_number = 3;</code>
+       *
+       * <pre>
+       * Object number starting at 0.
+       * </pre>
        */
-      public long getTruncateEpoch() {
-        return truncateEpoch_;
+      public long getObjectNumber() {
+        return objectNumber_;
       }
       /**
-       * <code>required fixed64 truncate_epoch = 2;</code>
+       * <code>required fixed64 object_number = 3;</code>
+       *
+       * <pre>
+       * Object number starting at 0.
+       * </pre>
        */
-      public Builder setTruncateEpoch(long value) {
-        bitField0_ |= 0x00000002;
-        truncateEpoch_ = value;
+      public Builder setObjectNumber(long value) {
+        bitField0_ |= 0x00000004;
+        objectNumber_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required fixed64 truncate_epoch = 2;</code>
+       * <code>required fixed64 object_number = 3;</code>
+       *
+       * <pre>
+       * Object number starting at 0.
+       * </pre>
        */
-      public Builder clearTruncateEpoch() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        truncateEpoch_ = 0L;
+      public Builder clearObjectNumber() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        objectNumber_ = 0L;
         onChanged();
         return this;
       }
 
-      // required fixed64 last_object = 3;
-      private long lastObject_ ;
+      // required fixed64 object_version = 4;
+      private long objectVersion_ ;
       /**
-       * <code>required fixed64 last_object = 3;</code>
+       * <code>required fixed64 object_version = 4;</code>
+       *
+       * <pre>
+       * Version, currently ignored.
+       * </pre>
        */
-      public boolean hasLastObject() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public boolean hasObjectVersion() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
       /**
-       * <code>required fixed64 last_object = 3;</code>
+       * <code>required fixed64 object_version = 4;</code>
+       *
+       * <pre>
+       * Version, currently ignored.
+       * </pre>
        */
-      public long getLastObject() {
-        return lastObject_;
+      public long getObjectVersion() {
+        return objectVersion_;
       }
       /**
-       * <code>required fixed64 last_object = 3;</code>
-       */
-      public Builder setLastObject(long value) {
-        bitField0_ |= 0x00000004;
-        lastObject_ = value;
+       * <code>required fixed64 object_version = 4;</code>
+       *
+       * <pre>
+       * Version, currently ignored.
+       * </pre>
+       */
+      public Builder setObjectVersion(long value) {
+        bitField0_ |= 0x00000008;
+        objectVersion_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required fixed64 last_object = 3;</code>
+       * <code>required fixed64 object_version = 4;</code>
+       *
+       * <pre>
+       * Version, currently ignored.
+       * </pre>
        */
-      public Builder clearLastObject() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        lastObject_ = 0L;
+      public Builder clearObjectVersion() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        objectVersion_ = 0L;
         onChanged();
         return this;
       }
 
-      // required fixed64 file_size = 4;
-      private long fileSize_ ;
+      // required fixed32 offset = 5;
+      private int offset_ ;
       /**
-       * <code>required fixed64 file_size = 4;</code>
+       * <code>required fixed32 offset = 5;</code>
+       *
+       * <pre>
+       * Offset within the object.
+       * </pre>
        */
-      public boolean hasFileSize() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public boolean hasOffset() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
       }
       /**
-       * <code>required fixed64 file_size = 4;</code>
+       * <code>required fixed32 offset = 5;</code>
+       *
+       * <pre>
+       * Offset within the object.
+       * </pre>
        */
-      public long getFileSize() {
-        return fileSize_;
+      public int getOffset() {
+        return offset_;
       }
       /**
-       * <code>required fixed64 file_size = 4;</code>
+       * <code>required fixed32 offset = 5;</code>
+       *
+       * <pre>
+       * Offset within the object.
+       * </pre>
        */
-      public Builder setFileSize(long value) {
-        bitField0_ |= 0x00000008;
-        fileSize_ = value;
+      public Builder setOffset(int value) {
+        bitField0_ |= 0x00000010;
+        offset_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required fixed64 file_size = 4;</code>
+       * <code>required fixed32 offset = 5;</code>
+       *
+       * <pre>
+       * Offset within the object.
+       * </pre>
        */
-      public Builder clearFileSize() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        fileSize_ = 0L;
+      public Builder clearOffset() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        offset_ = 0;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_broadcast_gmaxRequest)
-    }
-
-    static {
-      defaultInstance = new xtreemfs_broadcast_gmaxRequest(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_broadcast_gmaxRequest)
-  }
-
-  public interface xtreemfs_check_objectRequestOrBuilder
-      extends com.google.protobuf.MessageOrBuilder {
-
-    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
-    /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    boolean hasFileCredentials();
-    /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials();
-    /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder();
-
-    // required string file_id = 2;
-    /**
-     * <code>required string file_id = 2;</code>
-     */
-    boolean hasFileId();
-    /**
-     * <code>required string file_id = 2;</code>
-     */
-    java.lang.String getFileId();
-    /**
-     * <code>required string file_id = 2;</code>
-     */
-    com.google.protobuf.ByteString
-        getFileIdBytes();
-
-    // required fixed64 object_number = 3;
-    /**
-     * <code>required fixed64 object_number = 3;</code>
-     */
-    boolean hasObjectNumber();
-    /**
-     * <code>required fixed64 object_number = 3;</code>
-     */
-    long getObjectNumber();
-
-    // required fixed64 object_version = 4;
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     */
-    boolean hasObjectVersion();
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     */
-    long getObjectVersion();
-  }
-  /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_check_objectRequest}
-   */
-  public static final class xtreemfs_check_objectRequest extends
-      com.google.protobuf.GeneratedMessage
-      implements xtreemfs_check_objectRequestOrBuilder {
-    // Use xtreemfs_check_objectRequest.newBuilder() to construct.
-    private xtreemfs_check_objectRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-      this.unknownFields = builder.getUnknownFields();
-    }
-    private xtreemfs_check_objectRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
-
-    private static final xtreemfs_check_objectRequest defaultInstance;
-    public static xtreemfs_check_objectRequest getDefaultInstance() {
-      return defaultInstance;
-    }
-
-    public xtreemfs_check_objectRequest getDefaultInstanceForType() {
-      return defaultInstance;
-    }
-
-    private final com.google.protobuf.UnknownFieldSet unknownFields;
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-        getUnknownFields() {
-      return this.unknownFields;
-    }
-    private xtreemfs_check_objectRequest(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      initFields();
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownField(input, unknownFields,
-                                     extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 10: {
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = fileCredentials_.toBuilder();
-              }
-              fileCredentials_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(fileCredentials_);
-                fileCredentials_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000001;
-              break;
-            }
-            case 18: {
-              bitField0_ |= 0x00000002;
-              fileId_ = input.readBytes();
-              break;
-            }
-            case 25: {
-              bitField0_ |= 0x00000004;
-              objectNumber_ = input.readFixed64();
-              break;
-            }
-            case 33: {
-              bitField0_ |= 0x00000008;
-              objectVersion_ = input.readFixed64();
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e.getMessage()).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
+      // required fixed64 lease_timeout = 6;
+      private long leaseTimeout_ ;
+      /**
+       * <code>required fixed64 lease_timeout = 6;</code>
+       *
+       * <pre>
+       * Timeout of the client lease, if set.
+       * Reserved for client-side-caching, currently not used.
+       * </pre>
+       */
+      public boolean hasLeaseTimeout() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
       }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_check_objectRequest_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_check_objectRequest_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.Builder.class);
-    }
-
-    public static com.google.protobuf.Parser<xtreemfs_check_objectRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_check_objectRequest>() {
-      public xtreemfs_check_objectRequest parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_check_objectRequest(input, extensionRegistry);
+      /**
+       * <code>required fixed64 lease_timeout = 6;</code>
+       *
+       * <pre>
+       * Timeout of the client lease, if set.
+       * Reserved for client-side-caching, currently not used.
+       * </pre>
+       */
+      public long getLeaseTimeout() {
+        return leaseTimeout_;
+      }
+      /**
+       * <code>required fixed64 lease_timeout = 6;</code>
+       *
+       * <pre>
+       * Timeout of the client lease, if set.
+       * Reserved for client-side-caching, currently not used.
+       * </pre>
+       */
+      public Builder setLeaseTimeout(long value) {
+        bitField0_ |= 0x00000020;
+        leaseTimeout_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 lease_timeout = 6;</code>
+       *
+       * <pre>
+       * Timeout of the client lease, if set.
+       * Reserved for client-side-caching, currently not used.
+       * </pre>
+       */
+      public Builder clearLeaseTimeout() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        leaseTimeout_ = 0L;
+        onChanged();
+        return this;
       }
-    };
 
-    @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_check_objectRequest> getParserForType() {
-      return PARSER;
+      // required .xtreemfs.pbrpc.ObjectData object_data = 7;
+      private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData objectData_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder> objectDataBuilder_;
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+       *
+       * <pre>
+       * Only the checksum of ObjectData is used.
+       * </pre>
+       */
+      public boolean hasObjectData() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+       *
+       * <pre>
+       * Only the checksum of ObjectData is used.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getObjectData() {
+        if (objectDataBuilder_ == null) {
+          return objectData_;
+        } else {
+          return objectDataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+       *
+       * <pre>
+       * Only the checksum of ObjectData is used.
+       * </pre>
+       */
+      public Builder setObjectData(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData value) {
+        if (objectDataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          objectData_ = value;
+          onChanged();
+        } else {
+          objectDataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+       *
+       * <pre>
+       * Only the checksum of ObjectData is used.
+       * </pre>
+       */
+      public Builder setObjectData(
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder builderForValue) {
+        if (objectDataBuilder_ == null) {
+          objectData_ = builderForValue.build();
+          onChanged();
+        } else {
+          objectDataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+       *
+       * <pre>
+       * Only the checksum of ObjectData is used.
+       * </pre>
+       */
+      public Builder mergeObjectData(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData value) {
+        if (objectDataBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) == 0x00000040) &&
+              objectData_ != org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance()) {
+            objectData_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.newBuilder(objectData_).mergeFrom(value).buildPartial();
+          } else {
+            objectData_ = value;
+          }
+          onChanged();
+        } else {
+          objectDataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+       *
+       * <pre>
+       * Only the checksum of ObjectData is used.
+       * </pre>
+       */
+      public Builder clearObjectData() {
+        if (objectDataBuilder_ == null) {
+          objectData_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
+          onChanged();
+        } else {
+          objectDataBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+       *
+       * <pre>
+       * Only the checksum of ObjectData is used.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder getObjectDataBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getObjectDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+       *
+       * <pre>
+       * Only the checksum of ObjectData is used.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getObjectDataOrBuilder() {
+        if (objectDataBuilder_ != null) {
+          return objectDataBuilder_.getMessageOrBuilder();
+        } else {
+          return objectData_;
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData object_data = 7;</code>
+       *
+       * <pre>
+       * Only the checksum of ObjectData is used.
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder> 
+          getObjectDataFieldBuilder() {
+        if (objectDataBuilder_ == null) {
+          objectDataBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder>(
+                  objectData_,
+                  getParentForChildren(),
+                  isClean());
+          objectData_ = null;
+        }
+        return objectDataBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.writeRequest)
     }
 
-    private int bitField0_;
-    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
-    public static final int FILE_CREDENTIALS_FIELD_NUMBER = 1;
-    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_;
+    static {
+      defaultInstance = new writeRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.writeRequest)
+  }
+
+  public interface xtreemfs_broadcast_gmaxRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string file_id = 1;
     /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     * <code>required string file_id = 1;</code>
      */
-    public boolean hasFileCredentials() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
+    boolean hasFileId();
     /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     * <code>required string file_id = 1;</code>
      */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
-      return fileCredentials_;
-    }
+    java.lang.String getFileId();
     /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     * <code>required string file_id = 1;</code>
      */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
-      return fileCredentials_;
-    }
+    com.google.protobuf.ByteString
+        getFileIdBytes();
 
-    // required string file_id = 2;
-    public static final int FILE_ID_FIELD_NUMBER = 2;
-    private java.lang.Object fileId_;
+    // required fixed64 truncate_epoch = 2;
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>required fixed64 truncate_epoch = 2;</code>
      */
-    public boolean hasFileId() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
+    boolean hasTruncateEpoch();
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>required fixed64 truncate_epoch = 2;</code>
      */
-    public java.lang.String getFileId() {
-      java.lang.Object ref = fileId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          fileId_ = s;
-        }
-        return s;
-      }
+    long getTruncateEpoch();
+
+    // required fixed64 last_object = 3;
+    /**
+     * <code>required fixed64 last_object = 3;</code>
+     */
+    boolean hasLastObject();
+    /**
+     * <code>required fixed64 last_object = 3;</code>
+     */
+    long getLastObject();
+
+    // required fixed64 file_size = 4;
+    /**
+     * <code>required fixed64 file_size = 4;</code>
+     */
+    boolean hasFileSize();
+    /**
+     * <code>required fixed64 file_size = 4;</code>
+     */
+    long getFileSize();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_broadcast_gmaxRequest}
+   *
+   * <pre>
+   * Internal message sent between OSDs of a striped file.
+   * Transmitted via UDP.
+   * </pre>
+   */
+  public static final class xtreemfs_broadcast_gmaxRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_broadcast_gmaxRequestOrBuilder {
+    // Use xtreemfs_broadcast_gmaxRequest.newBuilder() to construct.
+    private xtreemfs_broadcast_gmaxRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_broadcast_gmaxRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_broadcast_gmaxRequest defaultInstance;
+    public static xtreemfs_broadcast_gmaxRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_broadcast_gmaxRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_broadcast_gmaxRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              fileId_ = input.readBytes();
+              break;
+            }
+            case 17: {
+              bitField0_ |= 0x00000002;
+              truncateEpoch_ = input.readFixed64();
+              break;
+            }
+            case 25: {
+              bitField0_ |= 0x00000004;
+              lastObject_ = input.readFixed64();
+              break;
+            }
+            case 33: {
+              bitField0_ |= 0x00000008;
+              fileSize_ = input.readFixed64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_broadcast_gmaxRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_broadcast_gmaxRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_broadcast_gmaxRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_broadcast_gmaxRequest>() {
+      public xtreemfs_broadcast_gmaxRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_broadcast_gmaxRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_broadcast_gmaxRequest> getParserForType() {
+      return PARSER;
     }
+
+    private int bitField0_;
+    // required string file_id = 1;
+    public static final int FILE_ID_FIELD_NUMBER = 1;
+    private java.lang.Object fileId_;
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>required string file_id = 1;</code>
+     */
+    public boolean hasFileId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string file_id = 1;</code>
+     */
+    public java.lang.String getFileId() {
+      java.lang.Object ref = fileId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          fileId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string file_id = 1;</code>
      */
     public com.google.protobuf.ByteString
         getFileIdBytes() {
@@ -14244,66 +14134,78 @@ public final class OSD {
       }
     }
 
-    // required fixed64 object_number = 3;
-    public static final int OBJECT_NUMBER_FIELD_NUMBER = 3;
-    private long objectNumber_;
+    // required fixed64 truncate_epoch = 2;
+    public static final int TRUNCATE_EPOCH_FIELD_NUMBER = 2;
+    private long truncateEpoch_;
     /**
-     * <code>required fixed64 object_number = 3;</code>
+     * <code>required fixed64 truncate_epoch = 2;</code>
      */
-    public boolean hasObjectNumber() {
+    public boolean hasTruncateEpoch() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required fixed64 truncate_epoch = 2;</code>
+     */
+    public long getTruncateEpoch() {
+      return truncateEpoch_;
+    }
+
+    // required fixed64 last_object = 3;
+    public static final int LAST_OBJECT_FIELD_NUMBER = 3;
+    private long lastObject_;
+    /**
+     * <code>required fixed64 last_object = 3;</code>
+     */
+    public boolean hasLastObject() {
       return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>required fixed64 object_number = 3;</code>
+     * <code>required fixed64 last_object = 3;</code>
      */
-    public long getObjectNumber() {
-      return objectNumber_;
+    public long getLastObject() {
+      return lastObject_;
     }
 
-    // required fixed64 object_version = 4;
-    public static final int OBJECT_VERSION_FIELD_NUMBER = 4;
-    private long objectVersion_;
+    // required fixed64 file_size = 4;
+    public static final int FILE_SIZE_FIELD_NUMBER = 4;
+    private long fileSize_;
     /**
-     * <code>required fixed64 object_version = 4;</code>
+     * <code>required fixed64 file_size = 4;</code>
      */
-    public boolean hasObjectVersion() {
+    public boolean hasFileSize() {
       return ((bitField0_ & 0x00000008) == 0x00000008);
     }
     /**
-     * <code>required fixed64 object_version = 4;</code>
+     * <code>required fixed64 file_size = 4;</code>
      */
-    public long getObjectVersion() {
-      return objectVersion_;
+    public long getFileSize() {
+      return fileSize_;
     }
 
     private void initFields() {
-      fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
       fileId_ = "";
-      objectNumber_ = 0L;
-      objectVersion_ = 0L;
+      truncateEpoch_ = 0L;
+      lastObject_ = 0L;
+      fileSize_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasFileCredentials()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       if (!hasFileId()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasObjectNumber()) {
+      if (!hasTruncateEpoch()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasObjectVersion()) {
+      if (!hasLastObject()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!getFileCredentials().isInitialized()) {
+      if (!hasFileSize()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -14315,16 +14217,16 @@ public final class OSD {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, fileCredentials_);
+        output.writeBytes(1, getFileIdBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getFileIdBytes());
+        output.writeFixed64(2, truncateEpoch_);
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeFixed64(3, objectNumber_);
+        output.writeFixed64(3, lastObject_);
       }
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeFixed64(4, objectVersion_);
+        output.writeFixed64(4, fileSize_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -14337,19 +14239,19 @@ public final class OSD {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, fileCredentials_);
+          .computeBytesSize(1, getFileIdBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getFileIdBytes());
+          .computeFixed64Size(2, truncateEpoch_);
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(3, objectNumber_);
+          .computeFixed64Size(3, lastObject_);
       }
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(4, objectVersion_);
+          .computeFixed64Size(4, fileSize_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -14363,53 +14265,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -14418,7 +14320,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -14430,24 +14332,29 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_check_objectRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_broadcast_gmaxRequest}
+     *
+     * <pre>
+     * Internal message sent between OSDs of a striped file.
+     * Transmitted via UDP.
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_check_objectRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_broadcast_gmaxRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_check_objectRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_broadcast_gmaxRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -14459,7 +14366,6 @@ public final class OSD {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getFileCredentialsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -14468,17 +14374,13 @@ public final class OSD {
 
       public Builder clear() {
         super.clear();
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
-        } else {
-          fileCredentialsBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
         fileId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        truncateEpoch_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000002);
-        objectNumber_ = 0L;
+        lastObject_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000004);
-        objectVersion_ = 0L;
+        fileSize_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
@@ -14489,97 +14391,89 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_check_objectRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_broadcast_gmaxRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        if (fileCredentialsBuilder_ == null) {
-          result.fileCredentials_ = fileCredentials_;
-        } else {
-          result.fileCredentials_ = fileCredentialsBuilder_.build();
-        }
+        result.fileId_ = fileId_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.fileId_ = fileId_;
+        result.truncateEpoch_ = truncateEpoch_;
         if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000004;
         }
-        result.objectNumber_ = objectNumber_;
+        result.lastObject_ = lastObject_;
         if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
           to_bitField0_ |= 0x00000008;
         }
-        result.objectVersion_ = objectVersion_;
+        result.fileSize_ = fileSize_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.getDefaultInstance()) return this;
-        if (other.hasFileCredentials()) {
-          mergeFileCredentials(other.getFileCredentials());
-        }
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest.getDefaultInstance()) return this;
         if (other.hasFileId()) {
-          bitField0_ |= 0x00000002;
+          bitField0_ |= 0x00000001;
           fileId_ = other.fileId_;
           onChanged();
         }
-        if (other.hasObjectNumber()) {
-          setObjectNumber(other.getObjectNumber());
+        if (other.hasTruncateEpoch()) {
+          setTruncateEpoch(other.getTruncateEpoch());
         }
-        if (other.hasObjectVersion()) {
-          setObjectVersion(other.getObjectVersion());
+        if (other.hasLastObject()) {
+          setLastObject(other.getLastObject());
+        }
+        if (other.hasFileSize()) {
+          setFileSize(other.getFileSize());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasFileCredentials()) {
-          
-          return false;
-        }
         if (!hasFileId()) {
           
           return false;
         }
-        if (!hasObjectNumber()) {
+        if (!hasTruncateEpoch()) {
           
           return false;
         }
-        if (!hasObjectVersion()) {
+        if (!hasLastObject()) {
           
           return false;
         }
-        if (!getFileCredentials().isInitialized()) {
+        if (!hasFileSize()) {
           
           return false;
         }
@@ -14590,11 +14484,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_broadcast_gmaxRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -14605,133 +14499,16 @@ public final class OSD {
       }
       private int bitField0_;
 
-      // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
-      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> fileCredentialsBuilder_;
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public boolean hasFileCredentials() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
-        if (fileCredentialsBuilder_ == null) {
-          return fileCredentials_;
-        } else {
-          return fileCredentialsBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public Builder setFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
-        if (fileCredentialsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          fileCredentials_ = value;
-          onChanged();
-        } else {
-          fileCredentialsBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public Builder setFileCredentials(
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder builderForValue) {
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentials_ = builderForValue.build();
-          onChanged();
-        } else {
-          fileCredentialsBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public Builder mergeFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
-        if (fileCredentialsBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              fileCredentials_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance()) {
-            fileCredentials_ =
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.newBuilder(fileCredentials_).mergeFrom(value).buildPartial();
-          } else {
-            fileCredentials_ = value;
-          }
-          onChanged();
-        } else {
-          fileCredentialsBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public Builder clearFileCredentials() {
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
-          onChanged();
-        } else {
-          fileCredentialsBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder getFileCredentialsBuilder() {
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return getFileCredentialsFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
-        if (fileCredentialsBuilder_ != null) {
-          return fileCredentialsBuilder_.getMessageOrBuilder();
-        } else {
-          return fileCredentials_;
-        }
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> 
-          getFileCredentialsFieldBuilder() {
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentialsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder>(
-                  fileCredentials_,
-                  getParentForChildren(),
-                  isClean());
-          fileCredentials_ = null;
-        }
-        return fileCredentialsBuilder_;
-      }
-
-      // required string file_id = 2;
+      // required string file_id = 1;
       private java.lang.Object fileId_ = "";
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string file_id = 1;</code>
        */
       public boolean hasFileId() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string file_id = 1;</code>
        */
       public java.lang.String getFileId() {
         java.lang.Object ref = fileId_;
@@ -14745,7 +14522,7 @@ public final class OSD {
         }
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string file_id = 1;</code>
        */
       public com.google.protobuf.ByteString
           getFileIdBytes() {
@@ -14761,176 +14538,222 @@ public final class OSD {
         }
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string file_id = 1;</code>
        */
       public Builder setFileId(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
+  bitField0_ |= 0x00000001;
         fileId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string file_id = 1;</code>
        */
       public Builder clearFileId() {
-        bitField0_ = (bitField0_ & ~0x00000002);
+        bitField0_ = (bitField0_ & ~0x00000001);
         fileId_ = getDefaultInstance().getFileId();
         onChanged();
         return this;
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string file_id = 1;</code>
        */
       public Builder setFileIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
+  bitField0_ |= 0x00000001;
         fileId_ = value;
         onChanged();
         return this;
       }
 
-      // required fixed64 object_number = 3;
-      private long objectNumber_ ;
+      // required fixed64 truncate_epoch = 2;
+      private long truncateEpoch_ ;
       /**
-       * <code>required fixed64 object_number = 3;</code>
+       * <code>required fixed64 truncate_epoch = 2;</code>
        */
-      public boolean hasObjectNumber() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public boolean hasTruncateEpoch() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>required fixed64 object_number = 3;</code>
+       * <code>required fixed64 truncate_epoch = 2;</code>
        */
-      public long getObjectNumber() {
-        return objectNumber_;
+      public long getTruncateEpoch() {
+        return truncateEpoch_;
       }
       /**
-       * <code>required fixed64 object_number = 3;</code>
+       * <code>required fixed64 truncate_epoch = 2;</code>
        */
-      public Builder setObjectNumber(long value) {
+      public Builder setTruncateEpoch(long value) {
+        bitField0_ |= 0x00000002;
+        truncateEpoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 truncate_epoch = 2;</code>
+       */
+      public Builder clearTruncateEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        truncateEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // required fixed64 last_object = 3;
+      private long lastObject_ ;
+      /**
+       * <code>required fixed64 last_object = 3;</code>
+       */
+      public boolean hasLastObject() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required fixed64 last_object = 3;</code>
+       */
+      public long getLastObject() {
+        return lastObject_;
+      }
+      /**
+       * <code>required fixed64 last_object = 3;</code>
+       */
+      public Builder setLastObject(long value) {
         bitField0_ |= 0x00000004;
-        objectNumber_ = value;
+        lastObject_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required fixed64 object_number = 3;</code>
+       * <code>required fixed64 last_object = 3;</code>
        */
-      public Builder clearObjectNumber() {
+      public Builder clearLastObject() {
         bitField0_ = (bitField0_ & ~0x00000004);
-        objectNumber_ = 0L;
+        lastObject_ = 0L;
         onChanged();
         return this;
       }
 
-      // required fixed64 object_version = 4;
-      private long objectVersion_ ;
+      // required fixed64 file_size = 4;
+      private long fileSize_ ;
       /**
-       * <code>required fixed64 object_version = 4;</code>
+       * <code>required fixed64 file_size = 4;</code>
        */
-      public boolean hasObjectVersion() {
+      public boolean hasFileSize() {
         return ((bitField0_ & 0x00000008) == 0x00000008);
       }
       /**
-       * <code>required fixed64 object_version = 4;</code>
+       * <code>required fixed64 file_size = 4;</code>
        */
-      public long getObjectVersion() {
-        return objectVersion_;
+      public long getFileSize() {
+        return fileSize_;
       }
       /**
-       * <code>required fixed64 object_version = 4;</code>
+       * <code>required fixed64 file_size = 4;</code>
        */
-      public Builder setObjectVersion(long value) {
+      public Builder setFileSize(long value) {
         bitField0_ |= 0x00000008;
-        objectVersion_ = value;
+        fileSize_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required fixed64 object_version = 4;</code>
+       * <code>required fixed64 file_size = 4;</code>
        */
-      public Builder clearObjectVersion() {
+      public Builder clearFileSize() {
         bitField0_ = (bitField0_ & ~0x00000008);
-        objectVersion_ = 0L;
+        fileSize_ = 0L;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_check_objectRequest)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_broadcast_gmaxRequest)
     }
 
     static {
-      defaultInstance = new xtreemfs_check_objectRequest(true);
+      defaultInstance = new xtreemfs_broadcast_gmaxRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_check_objectRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_broadcast_gmaxRequest)
   }
 
-  public interface xtreemfs_cleanup_get_resultsResponseOrBuilder
+  public interface xtreemfs_check_objectRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // repeated string results = 1;
+    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
     /**
-     * <code>repeated string results = 1;</code>
-     *
-     * <pre>
-     * Human readable English status and error messages.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
      */
-    java.util.List<java.lang.String>
-    getResultsList();
+    boolean hasFileCredentials();
     /**
-     * <code>repeated string results = 1;</code>
-     *
-     * <pre>
-     * Human readable English status and error messages.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
      */
-    int getResultsCount();
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials();
     /**
-     * <code>repeated string results = 1;</code>
-     *
-     * <pre>
-     * Human readable English status and error messages.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
      */
-    java.lang.String getResults(int index);
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder();
+
+    // required string file_id = 2;
     /**
-     * <code>repeated string results = 1;</code>
-     *
-     * <pre>
-     * Human readable English status and error messages.
-     * </pre>
+     * <code>required string file_id = 2;</code>
+     */
+    boolean hasFileId();
+    /**
+     * <code>required string file_id = 2;</code>
+     */
+    java.lang.String getFileId();
+    /**
+     * <code>required string file_id = 2;</code>
      */
     com.google.protobuf.ByteString
-        getResultsBytes(int index);
+        getFileIdBytes();
+
+    // required fixed64 object_number = 3;
+    /**
+     * <code>required fixed64 object_number = 3;</code>
+     */
+    boolean hasObjectNumber();
+    /**
+     * <code>required fixed64 object_number = 3;</code>
+     */
+    long getObjectNumber();
+
+    // required fixed64 object_version = 4;
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     */
+    boolean hasObjectVersion();
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     */
+    long getObjectVersion();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_get_resultsResponse}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_check_objectRequest}
    */
-  public static final class xtreemfs_cleanup_get_resultsResponse extends
+  public static final class xtreemfs_check_objectRequest extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_cleanup_get_resultsResponseOrBuilder {
-    // Use xtreemfs_cleanup_get_resultsResponse.newBuilder() to construct.
-    private xtreemfs_cleanup_get_resultsResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_check_objectRequestOrBuilder {
+    // Use xtreemfs_check_objectRequest.newBuilder() to construct.
+    private xtreemfs_check_objectRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_cleanup_get_resultsResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_check_objectRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_cleanup_get_resultsResponse defaultInstance;
-    public static xtreemfs_cleanup_get_resultsResponse getDefaultInstance() {
+    private static final xtreemfs_check_objectRequest defaultInstance;
+    public static xtreemfs_check_objectRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_cleanup_get_resultsResponse getDefaultInstanceForType() {
+    public xtreemfs_check_objectRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -14940,7 +14763,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_cleanup_get_resultsResponse(
+    private xtreemfs_check_objectRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -14964,11 +14787,31 @@ public final class OSD {
               break;
             }
             case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                results_ = new com.google.protobuf.LazyStringArrayList();
-                mutable_bitField0_ |= 0x00000001;
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = fileCredentials_.toBuilder();
               }
-              results_.add(input.readBytes());
+              fileCredentials_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fileCredentials_);
+                fileCredentials_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              fileId_ = input.readBytes();
+              break;
+            }
+            case 25: {
+              bitField0_ |= 0x00000004;
+              objectNumber_ = input.readFixed64();
+              break;
+            }
+            case 33: {
+              bitField0_ |= 0x00000008;
+              objectVersion_ = input.readFixed64();
               break;
             }
           }
@@ -14979,94 +14822,166 @@ public final class OSD {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          results_ = new com.google.protobuf.UnmodifiableLazyStringList(results_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_get_resultsResponse_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_check_objectRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_get_resultsResponse_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_check_objectRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_cleanup_get_resultsResponse> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_cleanup_get_resultsResponse>() {
-      public xtreemfs_cleanup_get_resultsResponse parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_check_objectRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_check_objectRequest>() {
+      public xtreemfs_check_objectRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_cleanup_get_resultsResponse(input, extensionRegistry);
+        return new xtreemfs_check_objectRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_cleanup_get_resultsResponse> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_check_objectRequest> getParserForType() {
       return PARSER;
     }
 
-    // repeated string results = 1;
-    public static final int RESULTS_FIELD_NUMBER = 1;
-    private com.google.protobuf.LazyStringList results_;
+    private int bitField0_;
+    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
+    public static final int FILE_CREDENTIALS_FIELD_NUMBER = 1;
+    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_;
     /**
-     * <code>repeated string results = 1;</code>
-     *
-     * <pre>
-     * Human readable English status and error messages.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
      */
-    public java.util.List<java.lang.String>
-        getResultsList() {
-      return results_;
+    public boolean hasFileCredentials() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>repeated string results = 1;</code>
-     *
-     * <pre>
-     * Human readable English status and error messages.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
      */
-    public int getResultsCount() {
-      return results_.size();
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
+      return fileCredentials_;
     }
     /**
-     * <code>repeated string results = 1;</code>
-     *
-     * <pre>
-     * Human readable English status and error messages.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
      */
-    public java.lang.String getResults(int index) {
-      return results_.get(index);
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
+      return fileCredentials_;
     }
-    /**
-     * <code>repeated string results = 1;</code>
-     *
-     * <pre>
-     * Human readable English status and error messages.
-     * </pre>
+
+    // required string file_id = 2;
+    public static final int FILE_ID_FIELD_NUMBER = 2;
+    private java.lang.Object fileId_;
+    /**
+     * <code>required string file_id = 2;</code>
+     */
+    public boolean hasFileId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string file_id = 2;</code>
+     */
+    public java.lang.String getFileId() {
+      java.lang.Object ref = fileId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          fileId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string file_id = 2;</code>
      */
     public com.google.protobuf.ByteString
-        getResultsBytes(int index) {
-      return results_.getByteString(index);
+        getFileIdBytes() {
+      java.lang.Object ref = fileId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required fixed64 object_number = 3;
+    public static final int OBJECT_NUMBER_FIELD_NUMBER = 3;
+    private long objectNumber_;
+    /**
+     * <code>required fixed64 object_number = 3;</code>
+     */
+    public boolean hasObjectNumber() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required fixed64 object_number = 3;</code>
+     */
+    public long getObjectNumber() {
+      return objectNumber_;
+    }
+
+    // required fixed64 object_version = 4;
+    public static final int OBJECT_VERSION_FIELD_NUMBER = 4;
+    private long objectVersion_;
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     */
+    public boolean hasObjectVersion() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     */
+    public long getObjectVersion() {
+      return objectVersion_;
     }
 
     private void initFields() {
-      results_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+      fileId_ = "";
+      objectNumber_ = 0L;
+      objectVersion_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
+      if (!hasFileCredentials()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFileId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasObjectNumber()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasObjectVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getFileCredentials().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -15074,8 +14989,17 @@ public final class OSD {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      for (int i = 0; i < results_.size(); i++) {
-        output.writeBytes(1, results_.getByteString(i));
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, fileCredentials_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getFileIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeFixed64(3, objectNumber_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeFixed64(4, objectVersion_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -15086,14 +15010,21 @@ public final class OSD {
       if (size != -1) return size;
 
       size = 0;
-      {
-        int dataSize = 0;
-        for (int i = 0; i < results_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeBytesSizeNoTag(results_.getByteString(i));
-        }
-        size += dataSize;
-        size += 1 * getResultsList().size();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, fileCredentials_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getFileIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(3, objectNumber_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(4, objectVersion_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -15107,53 +15038,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -15162,7 +15093,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -15174,24 +15105,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_get_resultsResponse}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_check_objectRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponseOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_get_resultsResponse_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_check_objectRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_get_resultsResponse_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_check_objectRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -15203,6 +15134,7 @@ public final class OSD {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getFileCredentialsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -15211,8 +15143,18 @@ public final class OSD {
 
       public Builder clear() {
         super.clear();
-        results_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+        } else {
+          fileCredentialsBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000001);
+        fileId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        objectNumber_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        objectVersion_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -15222,72 +15164,112 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_get_resultsResponse_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_check_objectRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest(this);
         int from_bitField0_ = bitField0_;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          results_ = new com.google.protobuf.UnmodifiableLazyStringList(
-              results_);
-          bitField0_ = (bitField0_ & ~0x00000001);
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
         }
-        result.results_ = results_;
+        if (fileCredentialsBuilder_ == null) {
+          result.fileCredentials_ = fileCredentials_;
+        } else {
+          result.fileCredentials_ = fileCredentialsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.fileId_ = fileId_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.objectNumber_ = objectNumber_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.objectVersion_ = objectVersion_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.getDefaultInstance()) return this;
-        if (!other.results_.isEmpty()) {
-          if (results_.isEmpty()) {
-            results_ = other.results_;
-            bitField0_ = (bitField0_ & ~0x00000001);
-          } else {
-            ensureResultsIsMutable();
-            results_.addAll(other.results_);
-          }
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest.getDefaultInstance()) return this;
+        if (other.hasFileCredentials()) {
+          mergeFileCredentials(other.getFileCredentials());
+        }
+        if (other.hasFileId()) {
+          bitField0_ |= 0x00000002;
+          fileId_ = other.fileId_;
           onChanged();
         }
+        if (other.hasObjectNumber()) {
+          setObjectNumber(other.getObjectNumber());
+        }
+        if (other.hasObjectVersion()) {
+          setObjectVersion(other.getObjectVersion());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        return true;
-      }
-
+        if (!hasFileCredentials()) {
+          
+          return false;
+        }
+        if (!hasFileId()) {
+          
+          return false;
+        }
+        if (!hasObjectNumber()) {
+          
+          return false;
+        }
+        if (!hasObjectVersion()) {
+          
+          return false;
+        }
+        if (!getFileCredentials().isInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
       public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_check_objectRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -15298,178 +15280,332 @@ public final class OSD {
       }
       private int bitField0_;
 
-      // repeated string results = 1;
-      private com.google.protobuf.LazyStringList results_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      private void ensureResultsIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          results_ = new com.google.protobuf.LazyStringArrayList(results_);
-          bitField0_ |= 0x00000001;
-         }
+      // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
+      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> fileCredentialsBuilder_;
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public boolean hasFileCredentials() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated string results = 1;</code>
-       *
-       * <pre>
-       * Human readable English status and error messages.
-       * </pre>
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
        */
-      public java.util.List<java.lang.String>
-          getResultsList() {
-        return java.util.Collections.unmodifiableList(results_);
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
+        if (fileCredentialsBuilder_ == null) {
+          return fileCredentials_;
+        } else {
+          return fileCredentialsBuilder_.getMessage();
+        }
       }
       /**
-       * <code>repeated string results = 1;</code>
-       *
-       * <pre>
-       * Human readable English status and error messages.
-       * </pre>
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
        */
-      public int getResultsCount() {
-        return results_.size();
+      public Builder setFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
+        if (fileCredentialsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fileCredentials_ = value;
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
       }
       /**
-       * <code>repeated string results = 1;</code>
-       *
-       * <pre>
-       * Human readable English status and error messages.
-       * </pre>
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
        */
-      public java.lang.String getResults(int index) {
-        return results_.get(index);
+      public Builder setFileCredentials(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder builderForValue) {
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentials_ = builderForValue.build();
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
       }
       /**
-       * <code>repeated string results = 1;</code>
-       *
-       * <pre>
-       * Human readable English status and error messages.
-       * </pre>
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getResultsBytes(int index) {
-        return results_.getByteString(index);
+      public Builder mergeFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
+        if (fileCredentialsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              fileCredentials_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance()) {
+            fileCredentials_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.newBuilder(fileCredentials_).mergeFrom(value).buildPartial();
+          } else {
+            fileCredentials_ = value;
+          }
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
       }
       /**
-       * <code>repeated string results = 1;</code>
-       *
-       * <pre>
-       * Human readable English status and error messages.
-       * </pre>
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
        */
-      public Builder setResults(
-          int index, java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureResultsIsMutable();
-        results_.set(index, value);
-        onChanged();
+      public Builder clearFileCredentials() {
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
       /**
-       * <code>repeated string results = 1;</code>
-       *
-       * <pre>
-       * Human readable English status and error messages.
-       * </pre>
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
        */
-      public Builder addResults(
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder getFileCredentialsBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getFileCredentialsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
+        if (fileCredentialsBuilder_ != null) {
+          return fileCredentialsBuilder_.getMessageOrBuilder();
+        } else {
+          return fileCredentials_;
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> 
+          getFileCredentialsFieldBuilder() {
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentialsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder>(
+                  fileCredentials_,
+                  getParentForChildren(),
+                  isClean());
+          fileCredentials_ = null;
+        }
+        return fileCredentialsBuilder_;
+      }
+
+      // required string file_id = 2;
+      private java.lang.Object fileId_ = "";
+      /**
+       * <code>required string file_id = 2;</code>
+       */
+      public boolean hasFileId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       */
+      public java.lang.String getFileId() {
+        java.lang.Object ref = fileId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          fileId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFileIdBytes() {
+        java.lang.Object ref = fileId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       */
+      public Builder setFileId(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  ensureResultsIsMutable();
-        results_.add(value);
+  bitField0_ |= 0x00000002;
+        fileId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string results = 1;</code>
-       *
-       * <pre>
-       * Human readable English status and error messages.
-       * </pre>
+       * <code>required string file_id = 2;</code>
        */
-      public Builder addAllResults(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureResultsIsMutable();
-        super.addAll(values, results_);
+      public Builder clearFileId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fileId_ = getDefaultInstance().getFileId();
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string results = 1;</code>
-       *
-       * <pre>
-       * Human readable English status and error messages.
-       * </pre>
+       * <code>required string file_id = 2;</code>
        */
-      public Builder clearResults() {
-        results_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000001);
+      public Builder setFileIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        fileId_ = value;
         onChanged();
         return this;
       }
+
+      // required fixed64 object_number = 3;
+      private long objectNumber_ ;
       /**
-       * <code>repeated string results = 1;</code>
-       *
-       * <pre>
-       * Human readable English status and error messages.
-       * </pre>
+       * <code>required fixed64 object_number = 3;</code>
        */
-      public Builder addResultsBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureResultsIsMutable();
-        results_.add(value);
+      public boolean hasObjectNumber() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required fixed64 object_number = 3;</code>
+       */
+      public long getObjectNumber() {
+        return objectNumber_;
+      }
+      /**
+       * <code>required fixed64 object_number = 3;</code>
+       */
+      public Builder setObjectNumber(long value) {
+        bitField0_ |= 0x00000004;
+        objectNumber_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 object_number = 3;</code>
+       */
+      public Builder clearObjectNumber() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        objectNumber_ = 0L;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_cleanup_get_resultsResponse)
+      // required fixed64 object_version = 4;
+      private long objectVersion_ ;
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       */
+      public boolean hasObjectVersion() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       */
+      public long getObjectVersion() {
+        return objectVersion_;
+      }
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       */
+      public Builder setObjectVersion(long value) {
+        bitField0_ |= 0x00000008;
+        objectVersion_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       */
+      public Builder clearObjectVersion() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        objectVersion_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_check_objectRequest)
     }
 
     static {
-      defaultInstance = new xtreemfs_cleanup_get_resultsResponse(true);
+      defaultInstance = new xtreemfs_check_objectRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_cleanup_get_resultsResponse)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_check_objectRequest)
   }
 
-  public interface xtreemfs_cleanup_is_runningResponseOrBuilder
+  public interface xtreemfs_cleanup_get_resultsResponseOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // required bool is_running = 1;
+    // repeated string results = 1;
     /**
-     * <code>required bool is_running = 1;</code>
+     * <code>repeated string results = 1;</code>
+     *
+     * <pre>
+     * Human readable English status and error messages.
+     * </pre>
      */
-    boolean hasIsRunning();
+    java.util.List<java.lang.String>
+    getResultsList();
     /**
-     * <code>required bool is_running = 1;</code>
+     * <code>repeated string results = 1;</code>
+     *
+     * <pre>
+     * Human readable English status and error messages.
+     * </pre>
      */
-    boolean getIsRunning();
+    int getResultsCount();
+    /**
+     * <code>repeated string results = 1;</code>
+     *
+     * <pre>
+     * Human readable English status and error messages.
+     * </pre>
+     */
+    java.lang.String getResults(int index);
+    /**
+     * <code>repeated string results = 1;</code>
+     *
+     * <pre>
+     * Human readable English status and error messages.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getResultsBytes(int index);
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_is_runningResponse}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_get_resultsResponse}
    */
-  public static final class xtreemfs_cleanup_is_runningResponse extends
+  public static final class xtreemfs_cleanup_get_resultsResponse extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_cleanup_is_runningResponseOrBuilder {
-    // Use xtreemfs_cleanup_is_runningResponse.newBuilder() to construct.
-    private xtreemfs_cleanup_is_runningResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_cleanup_get_resultsResponseOrBuilder {
+    // Use xtreemfs_cleanup_get_resultsResponse.newBuilder() to construct.
+    private xtreemfs_cleanup_get_resultsResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_cleanup_is_runningResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_cleanup_get_resultsResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_cleanup_is_runningResponse defaultInstance;
-    public static xtreemfs_cleanup_is_runningResponse getDefaultInstance() {
+    private static final xtreemfs_cleanup_get_resultsResponse defaultInstance;
+    public static xtreemfs_cleanup_get_resultsResponse getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_cleanup_is_runningResponse getDefaultInstanceForType() {
+    public xtreemfs_cleanup_get_resultsResponse getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -15479,7 +15615,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_cleanup_is_runningResponse(
+    private xtreemfs_cleanup_get_resultsResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -15502,9 +15638,12 @@ public final class OSD {
               }
               break;
             }
-            case 8: {
-              bitField0_ |= 0x00000001;
-              isRunning_ = input.readBool();
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                results_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              results_.add(input.readBytes());
               break;
             }
           }
@@ -15515,66 +15654,94 @@ public final class OSD {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          results_ = new com.google.protobuf.UnmodifiableLazyStringList(results_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_is_runningResponse_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_get_resultsResponse_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_is_runningResponse_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_get_resultsResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_cleanup_is_runningResponse> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_cleanup_is_runningResponse>() {
-      public xtreemfs_cleanup_is_runningResponse parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_cleanup_get_resultsResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_cleanup_get_resultsResponse>() {
+      public xtreemfs_cleanup_get_resultsResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_cleanup_is_runningResponse(input, extensionRegistry);
+        return new xtreemfs_cleanup_get_resultsResponse(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_cleanup_is_runningResponse> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_cleanup_get_resultsResponse> getParserForType() {
       return PARSER;
     }
 
-    private int bitField0_;
-    // required bool is_running = 1;
-    public static final int IS_RUNNING_FIELD_NUMBER = 1;
-    private boolean isRunning_;
+    // repeated string results = 1;
+    public static final int RESULTS_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList results_;
     /**
-     * <code>required bool is_running = 1;</code>
+     * <code>repeated string results = 1;</code>
+     *
+     * <pre>
+     * Human readable English status and error messages.
+     * </pre>
      */
-    public boolean hasIsRunning() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+    public java.util.List<java.lang.String>
+        getResultsList() {
+      return results_;
     }
     /**
-     * <code>required bool is_running = 1;</code>
+     * <code>repeated string results = 1;</code>
+     *
+     * <pre>
+     * Human readable English status and error messages.
+     * </pre>
      */
-    public boolean getIsRunning() {
-      return isRunning_;
+    public int getResultsCount() {
+      return results_.size();
+    }
+    /**
+     * <code>repeated string results = 1;</code>
+     *
+     * <pre>
+     * Human readable English status and error messages.
+     * </pre>
+     */
+    public java.lang.String getResults(int index) {
+      return results_.get(index);
+    }
+    /**
+     * <code>repeated string results = 1;</code>
+     *
+     * <pre>
+     * Human readable English status and error messages.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getResultsBytes(int index) {
+      return results_.getByteString(index);
     }
 
     private void initFields() {
-      isRunning_ = false;
+      results_ = com.google.protobuf.LazyStringArrayList.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasIsRunning()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -15582,8 +15749,8 @@ public final class OSD {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBool(1, isRunning_);
+      for (int i = 0; i < results_.size(); i++) {
+        output.writeBytes(1, results_.getByteString(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -15594,9 +15761,14 @@ public final class OSD {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, isRunning_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < results_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(results_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getResultsList().size();
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -15610,53 +15782,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -15665,7 +15837,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -15677,24 +15849,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_is_runningResponse}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_get_resultsResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponseOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_is_runningResponse_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_get_resultsResponse_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_is_runningResponse_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_get_resultsResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -15714,7 +15886,7 @@ public final class OSD {
 
       public Builder clear() {
         super.clear();
-        isRunning_ = false;
+        results_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
@@ -15725,57 +15897,60 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_is_runningResponse_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_get_resultsResponse_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          results_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              results_);
+          bitField0_ = (bitField0_ & ~0x00000001);
         }
-        result.isRunning_ = isRunning_;
-        result.bitField0_ = to_bitField0_;
+        result.results_ = results_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.getDefaultInstance()) return this;
-        if (other.hasIsRunning()) {
-          setIsRunning(other.getIsRunning());
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse.getDefaultInstance()) return this;
+        if (!other.results_.isEmpty()) {
+          if (results_.isEmpty()) {
+            results_ = other.results_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureResultsIsMutable();
+            results_.addAll(other.results_);
+          }
+          onChanged();
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasIsRunning()) {
-          
-          return false;
-        }
         return true;
       }
 
@@ -15783,11 +15958,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_get_resultsResponse) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -15798,128 +15973,178 @@ public final class OSD {
       }
       private int bitField0_;
 
-      // required bool is_running = 1;
-      private boolean isRunning_ ;
+      // repeated string results = 1;
+      private com.google.protobuf.LazyStringList results_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureResultsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          results_ = new com.google.protobuf.LazyStringArrayList(results_);
+          bitField0_ |= 0x00000001;
+         }
+      }
       /**
-       * <code>required bool is_running = 1;</code>
+       * <code>repeated string results = 1;</code>
+       *
+       * <pre>
+       * Human readable English status and error messages.
+       * </pre>
        */
-      public boolean hasIsRunning() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public java.util.List<java.lang.String>
+          getResultsList() {
+        return java.util.Collections.unmodifiableList(results_);
       }
       /**
-       * <code>required bool is_running = 1;</code>
+       * <code>repeated string results = 1;</code>
+       *
+       * <pre>
+       * Human readable English status and error messages.
+       * </pre>
        */
-      public boolean getIsRunning() {
-        return isRunning_;
+      public int getResultsCount() {
+        return results_.size();
       }
       /**
-       * <code>required bool is_running = 1;</code>
+       * <code>repeated string results = 1;</code>
+       *
+       * <pre>
+       * Human readable English status and error messages.
+       * </pre>
        */
-      public Builder setIsRunning(boolean value) {
-        bitField0_ |= 0x00000001;
-        isRunning_ = value;
+      public java.lang.String getResults(int index) {
+        return results_.get(index);
+      }
+      /**
+       * <code>repeated string results = 1;</code>
+       *
+       * <pre>
+       * Human readable English status and error messages.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getResultsBytes(int index) {
+        return results_.getByteString(index);
+      }
+      /**
+       * <code>repeated string results = 1;</code>
+       *
+       * <pre>
+       * Human readable English status and error messages.
+       * </pre>
+       */
+      public Builder setResults(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureResultsIsMutable();
+        results_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>required bool is_running = 1;</code>
+       * <code>repeated string results = 1;</code>
+       *
+       * <pre>
+       * Human readable English status and error messages.
+       * </pre>
        */
-      public Builder clearIsRunning() {
+      public Builder addResults(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureResultsIsMutable();
+        results_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string results = 1;</code>
+       *
+       * <pre>
+       * Human readable English status and error messages.
+       * </pre>
+       */
+      public Builder addAllResults(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureResultsIsMutable();
+        super.addAll(values, results_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string results = 1;</code>
+       *
+       * <pre>
+       * Human readable English status and error messages.
+       * </pre>
+       */
+      public Builder clearResults() {
+        results_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
-        isRunning_ = false;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string results = 1;</code>
+       *
+       * <pre>
+       * Human readable English status and error messages.
+       * </pre>
+       */
+      public Builder addResultsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureResultsIsMutable();
+        results_.add(value);
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_cleanup_is_runningResponse)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_cleanup_get_resultsResponse)
     }
 
     static {
-      defaultInstance = new xtreemfs_cleanup_is_runningResponse(true);
+      defaultInstance = new xtreemfs_cleanup_get_resultsResponse(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_cleanup_is_runningResponse)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_cleanup_get_resultsResponse)
   }
 
-  public interface xtreemfs_cleanup_startRequestOrBuilder
+  public interface xtreemfs_cleanup_is_runningResponseOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // required bool remove_zombies = 1;
-    /**
-     * <code>required bool remove_zombies = 1;</code>
-     *
-     * <pre>
-     * If true, objects for deleted files are deleted as well.
-     * </pre>
-     */
-    boolean hasRemoveZombies();
-    /**
-     * <code>required bool remove_zombies = 1;</code>
-     *
-     * <pre>
-     * If true, objects for deleted files are deleted as well.
-     * </pre>
-     */
-    boolean getRemoveZombies();
-
-    // required bool remove_unavail_volume = 2;
-    /**
-     * <code>required bool remove_unavail_volume = 2;</code>
-     *
-     * <pre>
-     * If true, files for which the MRC cannot be contacted or
-     * where no volume DIR entry exists are deleted.
-     * </pre>
-     */
-    boolean hasRemoveUnavailVolume();
-    /**
-     * <code>required bool remove_unavail_volume = 2;</code>
-     *
-     * <pre>
-     * If true, files for which the MRC cannot be contacted or
-     * where no volume DIR entry exists are deleted.
-     * </pre>
-     */
-    boolean getRemoveUnavailVolume();
-
-    // required bool lost_and_found = 3;
+    // required bool is_running = 1;
     /**
-     * <code>required bool lost_and_found = 3;</code>
-     *
-     * <pre>
-     * If true, objects are not deleted but moved to lost and found.
-     * </pre>
+     * <code>required bool is_running = 1;</code>
      */
-    boolean hasLostAndFound();
+    boolean hasIsRunning();
     /**
-     * <code>required bool lost_and_found = 3;</code>
-     *
-     * <pre>
-     * If true, objects are not deleted but moved to lost and found.
-     * </pre>
+     * <code>required bool is_running = 1;</code>
      */
-    boolean getLostAndFound();
+    boolean getIsRunning();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_startRequest}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_is_runningResponse}
    */
-  public static final class xtreemfs_cleanup_startRequest extends
+  public static final class xtreemfs_cleanup_is_runningResponse extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_cleanup_startRequestOrBuilder {
-    // Use xtreemfs_cleanup_startRequest.newBuilder() to construct.
-    private xtreemfs_cleanup_startRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_cleanup_is_runningResponseOrBuilder {
+    // Use xtreemfs_cleanup_is_runningResponse.newBuilder() to construct.
+    private xtreemfs_cleanup_is_runningResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_cleanup_startRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_cleanup_is_runningResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_cleanup_startRequest defaultInstance;
-    public static xtreemfs_cleanup_startRequest getDefaultInstance() {
+    private static final xtreemfs_cleanup_is_runningResponse defaultInstance;
+    public static xtreemfs_cleanup_is_runningResponse getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_cleanup_startRequest getDefaultInstanceForType() {
+    public xtreemfs_cleanup_is_runningResponse getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -15929,7 +16154,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_cleanup_startRequest(
+    private xtreemfs_cleanup_is_runningResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -15954,17 +16179,7 @@ public final class OSD {
             }
             case 8: {
               bitField0_ |= 0x00000001;
-              removeZombies_ = input.readBool();
-              break;
-            }
-            case 16: {
-              bitField0_ |= 0x00000002;
-              removeUnavailVolume_ = input.readBool();
-              break;
-            }
-            case 24: {
-              bitField0_ |= 0x00000004;
-              lostAndFound_ = input.readBool();
+              isRunning_ = input.readBool();
               break;
             }
           }
@@ -15981,125 +16196,57 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_startRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_is_runningResponse_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_startRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_is_runningResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_cleanup_startRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_cleanup_startRequest>() {
-      public xtreemfs_cleanup_startRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_cleanup_is_runningResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_cleanup_is_runningResponse>() {
+      public xtreemfs_cleanup_is_runningResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_cleanup_startRequest(input, extensionRegistry);
+        return new xtreemfs_cleanup_is_runningResponse(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_cleanup_startRequest> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_cleanup_is_runningResponse> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // required bool remove_zombies = 1;
-    public static final int REMOVE_ZOMBIES_FIELD_NUMBER = 1;
-    private boolean removeZombies_;
+    // required bool is_running = 1;
+    public static final int IS_RUNNING_FIELD_NUMBER = 1;
+    private boolean isRunning_;
     /**
-     * <code>required bool remove_zombies = 1;</code>
-     *
-     * <pre>
-     * If true, objects for deleted files are deleted as well.
-     * </pre>
+     * <code>required bool is_running = 1;</code>
      */
-    public boolean hasRemoveZombies() {
+    public boolean hasIsRunning() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required bool remove_zombies = 1;</code>
-     *
-     * <pre>
-     * If true, objects for deleted files are deleted as well.
-     * </pre>
-     */
-    public boolean getRemoveZombies() {
-      return removeZombies_;
-    }
-
-    // required bool remove_unavail_volume = 2;
-    public static final int REMOVE_UNAVAIL_VOLUME_FIELD_NUMBER = 2;
-    private boolean removeUnavailVolume_;
-    /**
-     * <code>required bool remove_unavail_volume = 2;</code>
-     *
-     * <pre>
-     * If true, files for which the MRC cannot be contacted or
-     * where no volume DIR entry exists are deleted.
-     * </pre>
-     */
-    public boolean hasRemoveUnavailVolume() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>required bool remove_unavail_volume = 2;</code>
-     *
-     * <pre>
-     * If true, files for which the MRC cannot be contacted or
-     * where no volume DIR entry exists are deleted.
-     * </pre>
-     */
-    public boolean getRemoveUnavailVolume() {
-      return removeUnavailVolume_;
-    }
-
-    // required bool lost_and_found = 3;
-    public static final int LOST_AND_FOUND_FIELD_NUMBER = 3;
-    private boolean lostAndFound_;
-    /**
-     * <code>required bool lost_and_found = 3;</code>
-     *
-     * <pre>
-     * If true, objects are not deleted but moved to lost and found.
-     * </pre>
-     */
-    public boolean hasLostAndFound() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
-    /**
-     * <code>required bool lost_and_found = 3;</code>
-     *
-     * <pre>
-     * If true, objects are not deleted but moved to lost and found.
-     * </pre>
+     * <code>required bool is_running = 1;</code>
      */
-    public boolean getLostAndFound() {
-      return lostAndFound_;
+    public boolean getIsRunning() {
+      return isRunning_;
     }
 
     private void initFields() {
-      removeZombies_ = false;
-      removeUnavailVolume_ = false;
-      lostAndFound_ = false;
+      isRunning_ = false;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasRemoveZombies()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasRemoveUnavailVolume()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasLostAndFound()) {
+      if (!hasIsRunning()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -16111,13 +16258,7 @@ public final class OSD {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBool(1, removeZombies_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBool(2, removeUnavailVolume_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBool(3, lostAndFound_);
+        output.writeBool(1, isRunning_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -16130,15 +16271,7 @@ public final class OSD {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, removeZombies_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(2, removeUnavailVolume_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(3, lostAndFound_);
+          .computeBoolSize(1, isRunning_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -16152,53 +16285,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -16207,7 +16340,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -16219,24 +16352,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_startRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_is_runningResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_startRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_is_runningResponse_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_startRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_is_runningResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -16256,12 +16389,8 @@ public final class OSD {
 
       public Builder clear() {
         super.clear();
-        removeZombies_ = false;
+        isRunning_ = false;
         bitField0_ = (bitField0_ & ~0x00000001);
-        removeUnavailVolume_ = false;
-        bitField0_ = (bitField0_ & ~0x00000002);
-        lostAndFound_ = false;
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -16271,76 +16400,54 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_startRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_is_runningResponse_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.removeZombies_ = removeZombies_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.removeUnavailVolume_ = removeUnavailVolume_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.lostAndFound_ = lostAndFound_;
+        result.isRunning_ = isRunning_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.getDefaultInstance()) return this;
-        if (other.hasRemoveZombies()) {
-          setRemoveZombies(other.getRemoveZombies());
-        }
-        if (other.hasRemoveUnavailVolume()) {
-          setRemoveUnavailVolume(other.getRemoveUnavailVolume());
-        }
-        if (other.hasLostAndFound()) {
-          setLostAndFound(other.getLostAndFound());
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse.getDefaultInstance()) return this;
+        if (other.hasIsRunning()) {
+          setIsRunning(other.getIsRunning());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasRemoveZombies()) {
-          
-          return false;
-        }
-        if (!hasRemoveUnavailVolume()) {
-          
-          return false;
-        }
-        if (!hasLostAndFound()) {
+        if (!hasIsRunning()) {
           
           return false;
         }
@@ -16351,11 +16458,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_is_runningResponse) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -16366,205 +16473,128 @@ public final class OSD {
       }
       private int bitField0_;
 
-      // required bool remove_zombies = 1;
-      private boolean removeZombies_ ;
+      // required bool is_running = 1;
+      private boolean isRunning_ ;
       /**
-       * <code>required bool remove_zombies = 1;</code>
-       *
-       * <pre>
-       * If true, objects for deleted files are deleted as well.
-       * </pre>
+       * <code>required bool is_running = 1;</code>
        */
-      public boolean hasRemoveZombies() {
+      public boolean hasIsRunning() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required bool remove_zombies = 1;</code>
-       *
-       * <pre>
-       * If true, objects for deleted files are deleted as well.
-       * </pre>
+       * <code>required bool is_running = 1;</code>
        */
-      public boolean getRemoveZombies() {
-        return removeZombies_;
+      public boolean getIsRunning() {
+        return isRunning_;
       }
       /**
-       * <code>required bool remove_zombies = 1;</code>
-       *
-       * <pre>
-       * If true, objects for deleted files are deleted as well.
-       * </pre>
+       * <code>required bool is_running = 1;</code>
        */
-      public Builder setRemoveZombies(boolean value) {
+      public Builder setIsRunning(boolean value) {
         bitField0_ |= 0x00000001;
-        removeZombies_ = value;
+        isRunning_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required bool remove_zombies = 1;</code>
-       *
-       * <pre>
-       * If true, objects for deleted files are deleted as well.
-       * </pre>
+       * <code>required bool is_running = 1;</code>
        */
-      public Builder clearRemoveZombies() {
+      public Builder clearIsRunning() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        removeZombies_ = false;
-        onChanged();
-        return this;
-      }
-
-      // required bool remove_unavail_volume = 2;
-      private boolean removeUnavailVolume_ ;
-      /**
-       * <code>required bool remove_unavail_volume = 2;</code>
-       *
-       * <pre>
-       * If true, files for which the MRC cannot be contacted or
-       * where no volume DIR entry exists are deleted.
-       * </pre>
-       */
-      public boolean hasRemoveUnavailVolume() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>required bool remove_unavail_volume = 2;</code>
-       *
-       * <pre>
-       * If true, files for which the MRC cannot be contacted or
-       * where no volume DIR entry exists are deleted.
-       * </pre>
-       */
-      public boolean getRemoveUnavailVolume() {
-        return removeUnavailVolume_;
-      }
-      /**
-       * <code>required bool remove_unavail_volume = 2;</code>
-       *
-       * <pre>
-       * If true, files for which the MRC cannot be contacted or
-       * where no volume DIR entry exists are deleted.
-       * </pre>
-       */
-      public Builder setRemoveUnavailVolume(boolean value) {
-        bitField0_ |= 0x00000002;
-        removeUnavailVolume_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required bool remove_unavail_volume = 2;</code>
-       *
-       * <pre>
-       * If true, files for which the MRC cannot be contacted or
-       * where no volume DIR entry exists are deleted.
-       * </pre>
-       */
-      public Builder clearRemoveUnavailVolume() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        removeUnavailVolume_ = false;
-        onChanged();
-        return this;
-      }
-
-      // required bool lost_and_found = 3;
-      private boolean lostAndFound_ ;
-      /**
-       * <code>required bool lost_and_found = 3;</code>
-       *
-       * <pre>
-       * If true, objects are not deleted but moved to lost and found.
-       * </pre>
-       */
-      public boolean hasLostAndFound() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
-      /**
-       * <code>required bool lost_and_found = 3;</code>
-       *
-       * <pre>
-       * If true, objects are not deleted but moved to lost and found.
-       * </pre>
-       */
-      public boolean getLostAndFound() {
-        return lostAndFound_;
-      }
-      /**
-       * <code>required bool lost_and_found = 3;</code>
-       *
-       * <pre>
-       * If true, objects are not deleted but moved to lost and found.
-       * </pre>
-       */
-      public Builder setLostAndFound(boolean value) {
-        bitField0_ |= 0x00000004;
-        lostAndFound_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required bool lost_and_found = 3;</code>
-       *
-       * <pre>
-       * If true, objects are not deleted but moved to lost and found.
-       * </pre>
-       */
-      public Builder clearLostAndFound() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        lostAndFound_ = false;
+        isRunning_ = false;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_cleanup_startRequest)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_cleanup_is_runningResponse)
     }
 
     static {
-      defaultInstance = new xtreemfs_cleanup_startRequest(true);
+      defaultInstance = new xtreemfs_cleanup_is_runningResponse(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_cleanup_startRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_cleanup_is_runningResponse)
   }
 
-  public interface xtreemfs_cleanup_statusResponseOrBuilder
+  public interface xtreemfs_cleanup_startRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // required string status = 1;
+    // required bool remove_zombies = 1;
     /**
-     * <code>required string status = 1;</code>
+     * <code>required bool remove_zombies = 1;</code>
+     *
+     * <pre>
+     * If true, objects for deleted files are deleted as well.
+     * </pre>
      */
-    boolean hasStatus();
+    boolean hasRemoveZombies();
     /**
-     * <code>required string status = 1;</code>
+     * <code>required bool remove_zombies = 1;</code>
+     *
+     * <pre>
+     * If true, objects for deleted files are deleted as well.
+     * </pre>
      */
-    java.lang.String getStatus();
+    boolean getRemoveZombies();
+
+    // required bool remove_unavail_volume = 2;
     /**
-     * <code>required string status = 1;</code>
+     * <code>required bool remove_unavail_volume = 2;</code>
+     *
+     * <pre>
+     * If true, files for which the MRC cannot be contacted or
+     * where no volume DIR entry exists are deleted.
+     * </pre>
      */
-    com.google.protobuf.ByteString
-        getStatusBytes();
+    boolean hasRemoveUnavailVolume();
+    /**
+     * <code>required bool remove_unavail_volume = 2;</code>
+     *
+     * <pre>
+     * If true, files for which the MRC cannot be contacted or
+     * where no volume DIR entry exists are deleted.
+     * </pre>
+     */
+    boolean getRemoveUnavailVolume();
+
+    // required bool lost_and_found = 3;
+    /**
+     * <code>required bool lost_and_found = 3;</code>
+     *
+     * <pre>
+     * If true, objects are not deleted but moved to lost and found.
+     * </pre>
+     */
+    boolean hasLostAndFound();
+    /**
+     * <code>required bool lost_and_found = 3;</code>
+     *
+     * <pre>
+     * If true, objects are not deleted but moved to lost and found.
+     * </pre>
+     */
+    boolean getLostAndFound();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_statusResponse}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_startRequest}
    */
-  public static final class xtreemfs_cleanup_statusResponse extends
+  public static final class xtreemfs_cleanup_startRequest extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_cleanup_statusResponseOrBuilder {
-    // Use xtreemfs_cleanup_statusResponse.newBuilder() to construct.
-    private xtreemfs_cleanup_statusResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_cleanup_startRequestOrBuilder {
+    // Use xtreemfs_cleanup_startRequest.newBuilder() to construct.
+    private xtreemfs_cleanup_startRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_cleanup_statusResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_cleanup_startRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_cleanup_statusResponse defaultInstance;
-    public static xtreemfs_cleanup_statusResponse getDefaultInstance() {
+    private static final xtreemfs_cleanup_startRequest defaultInstance;
+    public static xtreemfs_cleanup_startRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_cleanup_statusResponse getDefaultInstanceForType() {
+    public xtreemfs_cleanup_startRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -16574,7 +16604,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_cleanup_statusResponse(
+    private xtreemfs_cleanup_startRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -16597,9 +16627,19 @@ public final class OSD {
               }
               break;
             }
-            case 10: {
+            case 8: {
               bitField0_ |= 0x00000001;
-              status_ = input.readBytes();
+              removeZombies_ = input.readBool();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              removeUnavailVolume_ = input.readBool();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              lostAndFound_ = input.readBool();
               break;
             }
           }
@@ -16616,84 +16656,125 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_statusResponse_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_startRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_statusResponse_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_startRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_cleanup_statusResponse> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_cleanup_statusResponse>() {
-      public xtreemfs_cleanup_statusResponse parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_cleanup_startRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_cleanup_startRequest>() {
+      public xtreemfs_cleanup_startRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_cleanup_statusResponse(input, extensionRegistry);
+        return new xtreemfs_cleanup_startRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_cleanup_statusResponse> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_cleanup_startRequest> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // required string status = 1;
-    public static final int STATUS_FIELD_NUMBER = 1;
-    private java.lang.Object status_;
+    // required bool remove_zombies = 1;
+    public static final int REMOVE_ZOMBIES_FIELD_NUMBER = 1;
+    private boolean removeZombies_;
     /**
-     * <code>required string status = 1;</code>
+     * <code>required bool remove_zombies = 1;</code>
+     *
+     * <pre>
+     * If true, objects for deleted files are deleted as well.
+     * </pre>
      */
-    public boolean hasStatus() {
+    public boolean hasRemoveZombies() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required string status = 1;</code>
+     * <code>required bool remove_zombies = 1;</code>
+     *
+     * <pre>
+     * If true, objects for deleted files are deleted as well.
+     * </pre>
      */
-    public java.lang.String getStatus() {
-      java.lang.Object ref = status_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          status_ = s;
-        }
-        return s;
-      }
+    public boolean getRemoveZombies() {
+      return removeZombies_;
     }
+
+    // required bool remove_unavail_volume = 2;
+    public static final int REMOVE_UNAVAIL_VOLUME_FIELD_NUMBER = 2;
+    private boolean removeUnavailVolume_;
     /**
-     * <code>required string status = 1;</code>
+     * <code>required bool remove_unavail_volume = 2;</code>
+     *
+     * <pre>
+     * If true, files for which the MRC cannot be contacted or
+     * where no volume DIR entry exists are deleted.
+     * </pre>
      */
-    public com.google.protobuf.ByteString
-        getStatusBytes() {
-      java.lang.Object ref = status_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        status_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public boolean hasRemoveUnavailVolume() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required bool remove_unavail_volume = 2;</code>
+     *
+     * <pre>
+     * If true, files for which the MRC cannot be contacted or
+     * where no volume DIR entry exists are deleted.
+     * </pre>
+     */
+    public boolean getRemoveUnavailVolume() {
+      return removeUnavailVolume_;
+    }
+
+    // required bool lost_and_found = 3;
+    public static final int LOST_AND_FOUND_FIELD_NUMBER = 3;
+    private boolean lostAndFound_;
+    /**
+     * <code>required bool lost_and_found = 3;</code>
+     *
+     * <pre>
+     * If true, objects are not deleted but moved to lost and found.
+     * </pre>
+     */
+    public boolean hasLostAndFound() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required bool lost_and_found = 3;</code>
+     *
+     * <pre>
+     * If true, objects are not deleted but moved to lost and found.
+     * </pre>
+     */
+    public boolean getLostAndFound() {
+      return lostAndFound_;
     }
 
     private void initFields() {
-      status_ = "";
+      removeZombies_ = false;
+      removeUnavailVolume_ = false;
+      lostAndFound_ = false;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasStatus()) {
+      if (!hasRemoveZombies()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasRemoveUnavailVolume()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasLostAndFound()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -16705,7 +16786,13 @@ public final class OSD {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getStatusBytes());
+        output.writeBool(1, removeZombies_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(2, removeUnavailVolume_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(3, lostAndFound_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -16718,7 +16805,15 @@ public final class OSD {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getStatusBytes());
+          .computeBoolSize(1, removeZombies_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, removeUnavailVolume_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, lostAndFound_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -16732,53 +16827,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -16787,7 +16882,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -16799,24 +16894,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_statusResponse}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_startRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponseOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_statusResponse_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_startRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_statusResponse_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_startRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -16836,8 +16931,12 @@ public final class OSD {
 
       public Builder clear() {
         super.clear();
-        status_ = "";
+        removeZombies_ = false;
         bitField0_ = (bitField0_ & ~0x00000001);
+        removeUnavailVolume_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        lostAndFound_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -16847,56 +16946,76 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_statusResponse_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_startRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.status_ = status_;
+        result.removeZombies_ = removeZombies_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.removeUnavailVolume_ = removeUnavailVolume_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.lostAndFound_ = lostAndFound_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.getDefaultInstance()) return this;
-        if (other.hasStatus()) {
-          bitField0_ |= 0x00000001;
-          status_ = other.status_;
-          onChanged();
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest.getDefaultInstance()) return this;
+        if (other.hasRemoveZombies()) {
+          setRemoveZombies(other.getRemoveZombies());
+        }
+        if (other.hasRemoveUnavailVolume()) {
+          setRemoveUnavailVolume(other.getRemoveUnavailVolume());
+        }
+        if (other.hasLostAndFound()) {
+          setLostAndFound(other.getLostAndFound());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasStatus()) {
+        if (!hasRemoveZombies()) {
+          
+          return false;
+        }
+        if (!hasRemoveUnavailVolume()) {
+          
+          return false;
+        }
+        if (!hasLostAndFound()) {
           
           return false;
         }
@@ -16907,11 +17026,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_startRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -16922,162 +17041,205 @@ public final class OSD {
       }
       private int bitField0_;
 
-      // required string status = 1;
-      private java.lang.Object status_ = "";
+      // required bool remove_zombies = 1;
+      private boolean removeZombies_ ;
       /**
-       * <code>required string status = 1;</code>
+       * <code>required bool remove_zombies = 1;</code>
+       *
+       * <pre>
+       * If true, objects for deleted files are deleted as well.
+       * </pre>
        */
-      public boolean hasStatus() {
+      public boolean hasRemoveZombies() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required string status = 1;</code>
+       * <code>required bool remove_zombies = 1;</code>
+       *
+       * <pre>
+       * If true, objects for deleted files are deleted as well.
+       * </pre>
        */
-      public java.lang.String getStatus() {
-        java.lang.Object ref = status_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          status_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public boolean getRemoveZombies() {
+        return removeZombies_;
       }
       /**
-       * <code>required string status = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getStatusBytes() {
-        java.lang.Object ref = status_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          status_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+       * <code>required bool remove_zombies = 1;</code>
+       *
+       * <pre>
+       * If true, objects for deleted files are deleted as well.
+       * </pre>
+       */
+      public Builder setRemoveZombies(boolean value) {
+        bitField0_ |= 0x00000001;
+        removeZombies_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>required string status = 1;</code>
+       * <code>required bool remove_zombies = 1;</code>
+       *
+       * <pre>
+       * If true, objects for deleted files are deleted as well.
+       * </pre>
        */
-      public Builder setStatus(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        status_ = value;
+      public Builder clearRemoveZombies() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        removeZombies_ = false;
         onChanged();
         return this;
       }
+
+      // required bool remove_unavail_volume = 2;
+      private boolean removeUnavailVolume_ ;
       /**
-       * <code>required string status = 1;</code>
+       * <code>required bool remove_unavail_volume = 2;</code>
+       *
+       * <pre>
+       * If true, files for which the MRC cannot be contacted or
+       * where no volume DIR entry exists are deleted.
+       * </pre>
        */
-      public Builder clearStatus() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        status_ = getDefaultInstance().getStatus();
+      public boolean hasRemoveUnavailVolume() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bool remove_unavail_volume = 2;</code>
+       *
+       * <pre>
+       * If true, files for which the MRC cannot be contacted or
+       * where no volume DIR entry exists are deleted.
+       * </pre>
+       */
+      public boolean getRemoveUnavailVolume() {
+        return removeUnavailVolume_;
+      }
+      /**
+       * <code>required bool remove_unavail_volume = 2;</code>
+       *
+       * <pre>
+       * If true, files for which the MRC cannot be contacted or
+       * where no volume DIR entry exists are deleted.
+       * </pre>
+       */
+      public Builder setRemoveUnavailVolume(boolean value) {
+        bitField0_ |= 0x00000002;
+        removeUnavailVolume_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string status = 1;</code>
+       * <code>required bool remove_unavail_volume = 2;</code>
+       *
+       * <pre>
+       * If true, files for which the MRC cannot be contacted or
+       * where no volume DIR entry exists are deleted.
+       * </pre>
        */
-      public Builder setStatusBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        status_ = value;
+      public Builder clearRemoveUnavailVolume() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        removeUnavailVolume_ = false;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_cleanup_statusResponse)
+      // required bool lost_and_found = 3;
+      private boolean lostAndFound_ ;
+      /**
+       * <code>required bool lost_and_found = 3;</code>
+       *
+       * <pre>
+       * If true, objects are not deleted but moved to lost and found.
+       * </pre>
+       */
+      public boolean hasLostAndFound() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required bool lost_and_found = 3;</code>
+       *
+       * <pre>
+       * If true, objects are not deleted but moved to lost and found.
+       * </pre>
+       */
+      public boolean getLostAndFound() {
+        return lostAndFound_;
+      }
+      /**
+       * <code>required bool lost_and_found = 3;</code>
+       *
+       * <pre>
+       * If true, objects are not deleted but moved to lost and found.
+       * </pre>
+       */
+      public Builder setLostAndFound(boolean value) {
+        bitField0_ |= 0x00000004;
+        lostAndFound_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool lost_and_found = 3;</code>
+       *
+       * <pre>
+       * If true, objects are not deleted but moved to lost and found.
+       * </pre>
+       */
+      public Builder clearLostAndFound() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        lostAndFound_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_cleanup_startRequest)
     }
 
     static {
-      defaultInstance = new xtreemfs_cleanup_statusResponse(true);
+      defaultInstance = new xtreemfs_cleanup_startRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_cleanup_statusResponse)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_cleanup_startRequest)
   }
 
-  public interface xtreemfs_rwr_fetchRequestOrBuilder
+  public interface xtreemfs_cleanup_statusResponseOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
-    /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    boolean hasFileCredentials();
-    /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials();
-    /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder();
-
-    // required string file_id = 2;
+    // required string status = 1;
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>required string status = 1;</code>
      */
-    boolean hasFileId();
+    boolean hasStatus();
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>required string status = 1;</code>
      */
-    java.lang.String getFileId();
+    java.lang.String getStatus();
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>required string status = 1;</code>
      */
     com.google.protobuf.ByteString
-        getFileIdBytes();
-
-    // required fixed64 object_number = 3;
-    /**
-     * <code>required fixed64 object_number = 3;</code>
-     */
-    boolean hasObjectNumber();
-    /**
-     * <code>required fixed64 object_number = 3;</code>
-     */
-    long getObjectNumber();
-
-    // required fixed64 object_version = 4;
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     */
-    boolean hasObjectVersion();
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     */
-    long getObjectVersion();
+        getStatusBytes();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_fetchRequest}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_statusResponse}
    */
-  public static final class xtreemfs_rwr_fetchRequest extends
+  public static final class xtreemfs_cleanup_statusResponse extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_rwr_fetchRequestOrBuilder {
-    // Use xtreemfs_rwr_fetchRequest.newBuilder() to construct.
-    private xtreemfs_rwr_fetchRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_cleanup_statusResponseOrBuilder {
+    // Use xtreemfs_cleanup_statusResponse.newBuilder() to construct.
+    private xtreemfs_cleanup_statusResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_rwr_fetchRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_cleanup_statusResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_rwr_fetchRequest defaultInstance;
-    public static xtreemfs_rwr_fetchRequest getDefaultInstance() {
+    private static final xtreemfs_cleanup_statusResponse defaultInstance;
+    public static xtreemfs_cleanup_statusResponse getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_rwr_fetchRequest getDefaultInstanceForType() {
+    public xtreemfs_cleanup_statusResponse getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -17087,7 +17249,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_rwr_fetchRequest(
+    private xtreemfs_cleanup_statusResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -17111,31 +17273,8 @@ public final class OSD {
               break;
             }
             case 10: {
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = fileCredentials_.toBuilder();
-              }
-              fileCredentials_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(fileCredentials_);
-                fileCredentials_ = subBuilder.buildPartial();
-              }
               bitField0_ |= 0x00000001;
-              break;
-            }
-            case 18: {
-              bitField0_ |= 0x00000002;
-              fileId_ = input.readBytes();
-              break;
-            }
-            case 25: {
-              bitField0_ |= 0x00000004;
-              objectNumber_ = input.readFixed64();
-              break;
-            }
-            case 33: {
-              bitField0_ |= 0x00000008;
-              objectVersion_ = input.readFixed64();
+              status_ = input.readBytes();
               break;
             }
           }
@@ -17152,68 +17291,46 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_fetchRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_statusResponse_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_fetchRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_statusResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_rwr_fetchRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_rwr_fetchRequest>() {
-      public xtreemfs_rwr_fetchRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_cleanup_statusResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_cleanup_statusResponse>() {
+      public xtreemfs_cleanup_statusResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_rwr_fetchRequest(input, extensionRegistry);
+        return new xtreemfs_cleanup_statusResponse(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_rwr_fetchRequest> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_cleanup_statusResponse> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
-    public static final int FILE_CREDENTIALS_FIELD_NUMBER = 1;
-    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_;
+    // required string status = 1;
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private java.lang.Object status_;
     /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     * <code>required string status = 1;</code>
      */
-    public boolean hasFileCredentials() {
+    public boolean hasStatus() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
-      return fileCredentials_;
-    }
-    /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
-      return fileCredentials_;
-    }
-
-    // required string file_id = 2;
-    public static final int FILE_ID_FIELD_NUMBER = 2;
-    private java.lang.Object fileId_;
-    /**
-     * <code>required string file_id = 2;</code>
-     */
-    public boolean hasFileId() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>required string file_id = 2;</code>
+     * <code>required string status = 1;</code>
      */
-    public java.lang.String getFileId() {
-      java.lang.Object ref = fileId_;
+    public java.lang.String getStatus() {
+      java.lang.Object ref = status_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
@@ -17221,88 +17338,37 @@ public final class OSD {
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
-          fileId_ = s;
+          status_ = s;
         }
         return s;
       }
     }
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>required string status = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getFileIdBytes() {
-      java.lang.Object ref = fileId_;
+        getStatusBytes() {
+      java.lang.Object ref = status_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        fileId_ = b;
+        status_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    // required fixed64 object_number = 3;
-    public static final int OBJECT_NUMBER_FIELD_NUMBER = 3;
-    private long objectNumber_;
-    /**
-     * <code>required fixed64 object_number = 3;</code>
-     */
-    public boolean hasObjectNumber() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
-    /**
-     * <code>required fixed64 object_number = 3;</code>
-     */
-    public long getObjectNumber() {
-      return objectNumber_;
-    }
-
-    // required fixed64 object_version = 4;
-    public static final int OBJECT_VERSION_FIELD_NUMBER = 4;
-    private long objectVersion_;
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     */
-    public boolean hasObjectVersion() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
-    }
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     */
-    public long getObjectVersion() {
-      return objectVersion_;
-    }
-
     private void initFields() {
-      fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
-      fileId_ = "";
-      objectNumber_ = 0L;
-      objectVersion_ = 0L;
+      status_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasFileCredentials()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasFileId()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasObjectNumber()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasObjectVersion()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!getFileCredentials().isInitialized()) {
+      if (!hasStatus()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -17314,16 +17380,7 @@ public final class OSD {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, fileCredentials_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getFileIdBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeFixed64(3, objectNumber_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeFixed64(4, objectVersion_);
+        output.writeBytes(1, getStatusBytes());
       }
       getUnknownFields().writeTo(output);
     }
@@ -17336,19 +17393,7 @@ public final class OSD {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, fileCredentials_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getFileIdBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(3, objectNumber_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(4, objectVersion_);
+          .computeBytesSize(1, getStatusBytes());
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -17362,53 +17407,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -17417,7 +17462,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -17429,24 +17474,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_fetchRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_cleanup_statusResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_fetchRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_statusResponse_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_fetchRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_statusResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -17458,7 +17503,6 @@ public final class OSD {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getFileCredentialsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -17467,18 +17511,8 @@ public final class OSD {
 
       public Builder clear() {
         super.clear();
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
-        } else {
-          fileCredentialsBuilder_.clear();
-        }
+        status_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        fileId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
-        objectNumber_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000004);
-        objectVersion_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -17488,97 +17522,56 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_fetchRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_statusResponse_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        if (fileCredentialsBuilder_ == null) {
-          result.fileCredentials_ = fileCredentials_;
-        } else {
-          result.fileCredentials_ = fileCredentialsBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.fileId_ = fileId_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.objectNumber_ = objectNumber_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        result.objectVersion_ = objectVersion_;
+        result.status_ = status_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.getDefaultInstance()) return this;
-        if (other.hasFileCredentials()) {
-          mergeFileCredentials(other.getFileCredentials());
-        }
-        if (other.hasFileId()) {
-          bitField0_ |= 0x00000002;
-          fileId_ = other.fileId_;
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          bitField0_ |= 0x00000001;
+          status_ = other.status_;
           onChanged();
         }
-        if (other.hasObjectNumber()) {
-          setObjectNumber(other.getObjectNumber());
-        }
-        if (other.hasObjectVersion()) {
-          setObjectVersion(other.getObjectVersion());
-        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasFileCredentials()) {
-          
-          return false;
-        }
-        if (!hasFileId()) {
-          
-          return false;
-        }
-        if (!hasObjectNumber()) {
-          
-          return false;
-        }
-        if (!hasObjectVersion()) {
-          
-          return false;
-        }
-        if (!getFileCredentials().isInitialized()) {
+        if (!hasStatus()) {
           
           return false;
         }
@@ -17589,11 +17582,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_cleanup_statusResponse) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -17604,275 +17597,92 @@ public final class OSD {
       }
       private int bitField0_;
 
-      // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
-      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> fileCredentialsBuilder_;
+      // required string status = 1;
+      private java.lang.Object status_ = "";
       /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       * <code>required string status = 1;</code>
        */
-      public boolean hasFileCredentials() {
+      public boolean hasStatus() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
-        if (fileCredentialsBuilder_ == null) {
-          return fileCredentials_;
-        } else {
-          return fileCredentialsBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public Builder setFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
-        if (fileCredentialsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          fileCredentials_ = value;
-          onChanged();
-        } else {
-          fileCredentialsBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public Builder setFileCredentials(
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder builderForValue) {
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentials_ = builderForValue.build();
-          onChanged();
-        } else {
-          fileCredentialsBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public Builder mergeFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
-        if (fileCredentialsBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              fileCredentials_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance()) {
-            fileCredentials_ =
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.newBuilder(fileCredentials_).mergeFrom(value).buildPartial();
-          } else {
-            fileCredentials_ = value;
-          }
-          onChanged();
-        } else {
-          fileCredentialsBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public Builder clearFileCredentials() {
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
-          onChanged();
-        } else {
-          fileCredentialsBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder getFileCredentialsBuilder() {
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return getFileCredentialsFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
-        if (fileCredentialsBuilder_ != null) {
-          return fileCredentialsBuilder_.getMessageOrBuilder();
-        } else {
-          return fileCredentials_;
-        }
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> 
-          getFileCredentialsFieldBuilder() {
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentialsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder>(
-                  fileCredentials_,
-                  getParentForChildren(),
-                  isClean());
-          fileCredentials_ = null;
-        }
-        return fileCredentialsBuilder_;
-      }
-
-      // required string file_id = 2;
-      private java.lang.Object fileId_ = "";
-      /**
-       * <code>required string file_id = 2;</code>
-       */
-      public boolean hasFileId() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string status = 1;</code>
        */
-      public java.lang.String getFileId() {
-        java.lang.Object ref = fileId_;
+      public java.lang.String getStatus() {
+        java.lang.Object ref = status_;
         if (!(ref instanceof java.lang.String)) {
           java.lang.String s = ((com.google.protobuf.ByteString) ref)
               .toStringUtf8();
-          fileId_ = s;
+          status_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string status = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getFileIdBytes() {
-        java.lang.Object ref = fileId_;
+          getStatusBytes() {
+        java.lang.Object ref = status_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          fileId_ = b;
+          status_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string status = 1;</code>
        */
-      public Builder setFileId(
+      public Builder setStatus(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        fileId_ = value;
+  bitField0_ |= 0x00000001;
+        status_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string status = 1;</code>
        */
-      public Builder clearFileId() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        fileId_ = getDefaultInstance().getFileId();
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = getDefaultInstance().getStatus();
         onChanged();
         return this;
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string status = 1;</code>
        */
-      public Builder setFileIdBytes(
+      public Builder setStatusBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        fileId_ = value;
-        onChanged();
-        return this;
-      }
-
-      // required fixed64 object_number = 3;
-      private long objectNumber_ ;
-      /**
-       * <code>required fixed64 object_number = 3;</code>
-       */
-      public boolean hasObjectNumber() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
-      /**
-       * <code>required fixed64 object_number = 3;</code>
-       */
-      public long getObjectNumber() {
-        return objectNumber_;
-      }
-      /**
-       * <code>required fixed64 object_number = 3;</code>
-       */
-      public Builder setObjectNumber(long value) {
-        bitField0_ |= 0x00000004;
-        objectNumber_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required fixed64 object_number = 3;</code>
-       */
-      public Builder clearObjectNumber() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        objectNumber_ = 0L;
-        onChanged();
-        return this;
-      }
-
-      // required fixed64 object_version = 4;
-      private long objectVersion_ ;
-      /**
-       * <code>required fixed64 object_version = 4;</code>
-       */
-      public boolean hasObjectVersion() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
-      }
-      /**
-       * <code>required fixed64 object_version = 4;</code>
-       */
-      public long getObjectVersion() {
-        return objectVersion_;
-      }
-      /**
-       * <code>required fixed64 object_version = 4;</code>
-       */
-      public Builder setObjectVersion(long value) {
-        bitField0_ |= 0x00000008;
-        objectVersion_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required fixed64 object_version = 4;</code>
-       */
-      public Builder clearObjectVersion() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        objectVersion_ = 0L;
+  bitField0_ |= 0x00000001;
+        status_ = value;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rwr_fetchRequest)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_cleanup_statusResponse)
     }
 
     static {
-      defaultInstance = new xtreemfs_rwr_fetchRequest(true);
+      defaultInstance = new xtreemfs_cleanup_statusResponse(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_fetchRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_cleanup_statusResponse)
   }
 
-  public interface xtreemfs_repair_objectRequestOrBuilder
+  public interface xtreemfs_rwr_fetchRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
     // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
@@ -17925,24 +17735,24 @@ public final class OSD {
     long getObjectVersion();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_repair_objectRequest}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_fetchRequest}
    */
-  public static final class xtreemfs_repair_objectRequest extends
+  public static final class xtreemfs_rwr_fetchRequest extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_repair_objectRequestOrBuilder {
-    // Use xtreemfs_repair_objectRequest.newBuilder() to construct.
-    private xtreemfs_repair_objectRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_rwr_fetchRequestOrBuilder {
+    // Use xtreemfs_rwr_fetchRequest.newBuilder() to construct.
+    private xtreemfs_rwr_fetchRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_repair_objectRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_rwr_fetchRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_repair_objectRequest defaultInstance;
-    public static xtreemfs_repair_objectRequest getDefaultInstance() {
+    private static final xtreemfs_rwr_fetchRequest defaultInstance;
+    public static xtreemfs_rwr_fetchRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_repair_objectRequest getDefaultInstanceForType() {
+    public xtreemfs_rwr_fetchRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -17952,7 +17762,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_repair_objectRequest(
+    private xtreemfs_rwr_fetchRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -18017,28 +17827,28 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_repair_objectRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_fetchRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_repair_objectRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_fetchRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_repair_objectRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_repair_objectRequest>() {
-      public xtreemfs_repair_objectRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_rwr_fetchRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_rwr_fetchRequest>() {
+      public xtreemfs_rwr_fetchRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_repair_objectRequest(input, extensionRegistry);
+        return new xtreemfs_rwr_fetchRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_repair_objectRequest> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_rwr_fetchRequest> getParserForType() {
       return PARSER;
     }
 
@@ -18227,53 +18037,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -18282,7 +18092,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -18294,24 +18104,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_repair_objectRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_fetchRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_repair_objectRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_fetchRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_repair_objectRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_fetchRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -18353,23 +18163,23 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_repair_objectRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_fetchRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -18398,16 +18208,16 @@ public final class OSD {
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.getDefaultInstance()) return this;
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest.getDefaultInstance()) return this;
         if (other.hasFileCredentials()) {
           mergeFileCredentials(other.getFileCredentials());
         }
@@ -18454,11 +18264,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_fetchRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -18726,76 +18536,88 @@ public final class OSD {
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_repair_objectRequest)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rwr_fetchRequest)
     }
 
     static {
-      defaultInstance = new xtreemfs_repair_objectRequest(true);
+      defaultInstance = new xtreemfs_rwr_fetchRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_repair_objectRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_fetchRequest)
   }
 
-  public interface xtreemfs_rwr_flease_msgRequestOrBuilder
+  public interface xtreemfs_repair_objectRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // required string sender_hostname = 1;
+    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
     /**
-     * <code>required string sender_hostname = 1;</code>
-     *
-     * <pre>
-     * The actual flease message is sent in data.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
      */
-    boolean hasSenderHostname();
+    boolean hasFileCredentials();
     /**
-     * <code>required string sender_hostname = 1;</code>
-     *
-     * <pre>
-     * The actual flease message is sent in data.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
      */
-    java.lang.String getSenderHostname();
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials();
     /**
-     * <code>required string sender_hostname = 1;</code>
-     *
-     * <pre>
-     * The actual flease message is sent in data.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder();
+
+    // required string file_id = 2;
+    /**
+     * <code>required string file_id = 2;</code>
+     */
+    boolean hasFileId();
+    /**
+     * <code>required string file_id = 2;</code>
+     */
+    java.lang.String getFileId();
+    /**
+     * <code>required string file_id = 2;</code>
      */
     com.google.protobuf.ByteString
-        getSenderHostnameBytes();
+        getFileIdBytes();
 
-    // required fixed32 sender_port = 2;
+    // required fixed64 object_number = 3;
     /**
-     * <code>required fixed32 sender_port = 2;</code>
+     * <code>required fixed64 object_number = 3;</code>
      */
-    boolean hasSenderPort();
+    boolean hasObjectNumber();
     /**
-     * <code>required fixed32 sender_port = 2;</code>
+     * <code>required fixed64 object_number = 3;</code>
      */
-    int getSenderPort();
+    long getObjectNumber();
+
+    // required fixed64 object_version = 4;
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     */
+    boolean hasObjectVersion();
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     */
+    long getObjectVersion();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_flease_msgRequest}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_repair_objectRequest}
    */
-  public static final class xtreemfs_rwr_flease_msgRequest extends
+  public static final class xtreemfs_repair_objectRequest extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_rwr_flease_msgRequestOrBuilder {
-    // Use xtreemfs_rwr_flease_msgRequest.newBuilder() to construct.
-    private xtreemfs_rwr_flease_msgRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_repair_objectRequestOrBuilder {
+    // Use xtreemfs_repair_objectRequest.newBuilder() to construct.
+    private xtreemfs_repair_objectRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_rwr_flease_msgRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_repair_objectRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_rwr_flease_msgRequest defaultInstance;
-    public static xtreemfs_rwr_flease_msgRequest getDefaultInstance() {
+    private static final xtreemfs_repair_objectRequest defaultInstance;
+    public static xtreemfs_repair_objectRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_rwr_flease_msgRequest getDefaultInstanceForType() {
+    public xtreemfs_repair_objectRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -18805,7 +18627,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_rwr_flease_msgRequest(
+    private xtreemfs_repair_objectRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -18829,13 +18651,31 @@ public final class OSD {
               break;
             }
             case 10: {
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = fileCredentials_.toBuilder();
+              }
+              fileCredentials_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fileCredentials_);
+                fileCredentials_ = subBuilder.buildPartial();
+              }
               bitField0_ |= 0x00000001;
-              senderHostname_ = input.readBytes();
               break;
             }
-            case 21: {
+            case 18: {
               bitField0_ |= 0x00000002;
-              senderPort_ = input.readFixed32();
+              fileId_ = input.readBytes();
+              break;
+            }
+            case 25: {
+              bitField0_ |= 0x00000004;
+              objectNumber_ = input.readFixed64();
+              break;
+            }
+            case 33: {
+              bitField0_ |= 0x00000008;
+              objectVersion_ = input.readFixed64();
               break;
             }
           }
@@ -18852,54 +18692,68 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_flease_msgRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_repair_objectRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_flease_msgRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_repair_objectRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_rwr_flease_msgRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_rwr_flease_msgRequest>() {
-      public xtreemfs_rwr_flease_msgRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_repair_objectRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_repair_objectRequest>() {
+      public xtreemfs_repair_objectRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_rwr_flease_msgRequest(input, extensionRegistry);
+        return new xtreemfs_repair_objectRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_rwr_flease_msgRequest> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_repair_objectRequest> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // required string sender_hostname = 1;
-    public static final int SENDER_HOSTNAME_FIELD_NUMBER = 1;
-    private java.lang.Object senderHostname_;
+    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
+    public static final int FILE_CREDENTIALS_FIELD_NUMBER = 1;
+    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_;
     /**
-     * <code>required string sender_hostname = 1;</code>
-     *
-     * <pre>
-     * The actual flease message is sent in data.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
      */
-    public boolean hasSenderHostname() {
+    public boolean hasFileCredentials() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required string sender_hostname = 1;</code>
-     *
-     * <pre>
-     * The actual flease message is sent in data.
-     * </pre>
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
      */
-    public java.lang.String getSenderHostname() {
-      java.lang.Object ref = senderHostname_;
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
+      return fileCredentials_;
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
+      return fileCredentials_;
+    }
+
+    // required string file_id = 2;
+    public static final int FILE_ID_FIELD_NUMBER = 2;
+    private java.lang.Object fileId_;
+    /**
+     * <code>required string file_id = 2;</code>
+     */
+    public boolean hasFileId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string file_id = 2;</code>
+     */
+    public java.lang.String getFileId() {
+      java.lang.Object ref = fileId_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
@@ -18907,62 +18761,88 @@ public final class OSD {
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
-          senderHostname_ = s;
+          fileId_ = s;
         }
         return s;
       }
     }
     /**
-     * <code>required string sender_hostname = 1;</code>
-     *
-     * <pre>
-     * The actual flease message is sent in data.
-     * </pre>
+     * <code>required string file_id = 2;</code>
      */
     public com.google.protobuf.ByteString
-        getSenderHostnameBytes() {
-      java.lang.Object ref = senderHostname_;
+        getFileIdBytes() {
+      java.lang.Object ref = fileId_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        senderHostname_ = b;
+        fileId_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    // required fixed32 sender_port = 2;
-    public static final int SENDER_PORT_FIELD_NUMBER = 2;
-    private int senderPort_;
+    // required fixed64 object_number = 3;
+    public static final int OBJECT_NUMBER_FIELD_NUMBER = 3;
+    private long objectNumber_;
     /**
-     * <code>required fixed32 sender_port = 2;</code>
+     * <code>required fixed64 object_number = 3;</code>
      */
-    public boolean hasSenderPort() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasObjectNumber() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>required fixed32 sender_port = 2;</code>
+     * <code>required fixed64 object_number = 3;</code>
      */
-    public int getSenderPort() {
-      return senderPort_;
+    public long getObjectNumber() {
+      return objectNumber_;
+    }
+
+    // required fixed64 object_version = 4;
+    public static final int OBJECT_VERSION_FIELD_NUMBER = 4;
+    private long objectVersion_;
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     */
+    public boolean hasObjectVersion() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     */
+    public long getObjectVersion() {
+      return objectVersion_;
     }
 
     private void initFields() {
-      senderHostname_ = "";
-      senderPort_ = 0;
+      fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+      fileId_ = "";
+      objectNumber_ = 0L;
+      objectVersion_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasSenderHostname()) {
+      if (!hasFileCredentials()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasSenderPort()) {
+      if (!hasFileId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasObjectNumber()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasObjectVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getFileCredentials().isInitialized()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -18974,10 +18854,16 @@ public final class OSD {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getSenderHostnameBytes());
+        output.writeMessage(1, fileCredentials_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeFixed32(2, senderPort_);
+        output.writeBytes(2, getFileIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeFixed64(3, objectNumber_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeFixed64(4, objectVersion_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -18990,11 +18876,19 @@ public final class OSD {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getSenderHostnameBytes());
+          .computeMessageSize(1, fileCredentials_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFixed32Size(2, senderPort_);
+          .computeBytesSize(2, getFileIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(3, objectNumber_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(4, objectVersion_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -19008,53 +18902,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -19063,7 +18957,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -19075,24 +18969,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_flease_msgRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_repair_objectRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_flease_msgRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_repair_objectRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_flease_msgRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_repair_objectRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -19104,6 +18998,7 @@ public final class OSD {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getFileCredentialsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -19112,10 +19007,18 @@ public final class OSD {
 
       public Builder clear() {
         super.clear();
-        senderHostname_ = "";
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+        } else {
+          fileCredentialsBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000001);
-        senderPort_ = 0;
+        fileId_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
+        objectNumber_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        objectVersion_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -19125,67 +19028,97 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_flease_msgRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_repair_objectRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.senderHostname_ = senderHostname_;
+        if (fileCredentialsBuilder_ == null) {
+          result.fileCredentials_ = fileCredentials_;
+        } else {
+          result.fileCredentials_ = fileCredentialsBuilder_.build();
+        }
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.senderPort_ = senderPort_;
+        result.fileId_ = fileId_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.objectNumber_ = objectNumber_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.objectVersion_ = objectVersion_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.getDefaultInstance()) return this;
-        if (other.hasSenderHostname()) {
-          bitField0_ |= 0x00000001;
-          senderHostname_ = other.senderHostname_;
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest.getDefaultInstance()) return this;
+        if (other.hasFileCredentials()) {
+          mergeFileCredentials(other.getFileCredentials());
+        }
+        if (other.hasFileId()) {
+          bitField0_ |= 0x00000002;
+          fileId_ = other.fileId_;
           onChanged();
         }
-        if (other.hasSenderPort()) {
-          setSenderPort(other.getSenderPort());
+        if (other.hasObjectNumber()) {
+          setObjectNumber(other.getObjectNumber());
+        }
+        if (other.hasObjectVersion()) {
+          setObjectVersion(other.getObjectVersion());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasSenderHostname()) {
+        if (!hasFileCredentials()) {
           
           return false;
         }
-        if (!hasSenderPort()) {
+        if (!hasFileId()) {
+          
+          return false;
+        }
+        if (!hasObjectNumber()) {
+          
+          return false;
+        }
+        if (!hasObjectVersion()) {
+          
+          return false;
+        }
+        if (!getFileCredentials().isInitialized()) {
           
           return false;
         }
@@ -19196,11 +19129,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -19211,209 +19144,333 @@ public final class OSD {
       }
       private int bitField0_;
 
-      // required string sender_hostname = 1;
-      private java.lang.Object senderHostname_ = "";
+      // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
+      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> fileCredentialsBuilder_;
       /**
-       * <code>required string sender_hostname = 1;</code>
-       *
-       * <pre>
-       * The actual flease message is sent in data.
-       * </pre>
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
        */
-      public boolean hasSenderHostname() {
+      public boolean hasFileCredentials() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required string sender_hostname = 1;</code>
-       *
-       * <pre>
-       * The actual flease message is sent in data.
-       * </pre>
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
        */
-      public java.lang.String getSenderHostname() {
-        java.lang.Object ref = senderHostname_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          senderHostname_ = s;
-          return s;
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
+        if (fileCredentialsBuilder_ == null) {
+          return fileCredentials_;
         } else {
-          return (java.lang.String) ref;
+          return fileCredentialsBuilder_.getMessage();
         }
       }
       /**
-       * <code>required string sender_hostname = 1;</code>
-       *
-       * <pre>
-       * The actual flease message is sent in data.
-       * </pre>
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getSenderHostnameBytes() {
-        java.lang.Object ref = senderHostname_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          senderHostname_ = b;
-          return b;
-        } else {
+      public Builder setFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
+        if (fileCredentialsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fileCredentials_ = value;
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public Builder setFileCredentials(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder builderForValue) {
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentials_ = builderForValue.build();
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public Builder mergeFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
+        if (fileCredentialsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              fileCredentials_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance()) {
+            fileCredentials_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.newBuilder(fileCredentials_).mergeFrom(value).buildPartial();
+          } else {
+            fileCredentials_ = value;
+          }
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public Builder clearFileCredentials() {
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder getFileCredentialsBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getFileCredentialsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
+        if (fileCredentialsBuilder_ != null) {
+          return fileCredentialsBuilder_.getMessageOrBuilder();
+        } else {
+          return fileCredentials_;
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> 
+          getFileCredentialsFieldBuilder() {
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentialsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder>(
+                  fileCredentials_,
+                  getParentForChildren(),
+                  isClean());
+          fileCredentials_ = null;
+        }
+        return fileCredentialsBuilder_;
+      }
+
+      // required string file_id = 2;
+      private java.lang.Object fileId_ = "";
+      /**
+       * <code>required string file_id = 2;</code>
+       */
+      public boolean hasFileId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       */
+      public java.lang.String getFileId() {
+        java.lang.Object ref = fileId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          fileId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFileIdBytes() {
+        java.lang.Object ref = fileId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileId_ = b;
+          return b;
+        } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>required string sender_hostname = 1;</code>
-       *
-       * <pre>
-       * The actual flease message is sent in data.
-       * </pre>
+       * <code>required string file_id = 2;</code>
        */
-      public Builder setSenderHostname(
+      public Builder setFileId(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
-        senderHostname_ = value;
+  bitField0_ |= 0x00000002;
+        fileId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string sender_hostname = 1;</code>
-       *
-       * <pre>
-       * The actual flease message is sent in data.
-       * </pre>
+       * <code>required string file_id = 2;</code>
        */
-      public Builder clearSenderHostname() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        senderHostname_ = getDefaultInstance().getSenderHostname();
+      public Builder clearFileId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fileId_ = getDefaultInstance().getFileId();
         onChanged();
         return this;
       }
       /**
-       * <code>required string sender_hostname = 1;</code>
-       *
-       * <pre>
-       * The actual flease message is sent in data.
-       * </pre>
+       * <code>required string file_id = 2;</code>
        */
-      public Builder setSenderHostnameBytes(
+      public Builder setFileIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
-        senderHostname_ = value;
+  bitField0_ |= 0x00000002;
+        fileId_ = value;
         onChanged();
         return this;
       }
 
-      // required fixed32 sender_port = 2;
-      private int senderPort_ ;
+      // required fixed64 object_number = 3;
+      private long objectNumber_ ;
       /**
-       * <code>required fixed32 sender_port = 2;</code>
+       * <code>required fixed64 object_number = 3;</code>
        */
-      public boolean hasSenderPort() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasObjectNumber() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>required fixed32 sender_port = 2;</code>
+       * <code>required fixed64 object_number = 3;</code>
        */
-      public int getSenderPort() {
-        return senderPort_;
+      public long getObjectNumber() {
+        return objectNumber_;
       }
       /**
-       * <code>required fixed32 sender_port = 2;</code>
+       * <code>required fixed64 object_number = 3;</code>
        */
-      public Builder setSenderPort(int value) {
-        bitField0_ |= 0x00000002;
-        senderPort_ = value;
+      public Builder setObjectNumber(long value) {
+        bitField0_ |= 0x00000004;
+        objectNumber_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required fixed32 sender_port = 2;</code>
+       * <code>required fixed64 object_number = 3;</code>
        */
-      public Builder clearSenderPort() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        senderPort_ = 0;
+      public Builder clearObjectNumber() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        objectNumber_ = 0L;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rwr_flease_msgRequest)
+      // required fixed64 object_version = 4;
+      private long objectVersion_ ;
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       */
+      public boolean hasObjectVersion() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       */
+      public long getObjectVersion() {
+        return objectVersion_;
+      }
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       */
+      public Builder setObjectVersion(long value) {
+        bitField0_ |= 0x00000008;
+        objectVersion_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       */
+      public Builder clearObjectVersion() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        objectVersion_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_repair_objectRequest)
     }
 
     static {
-      defaultInstance = new xtreemfs_rwr_flease_msgRequest(true);
+      defaultInstance = new xtreemfs_repair_objectRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_flease_msgRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_repair_objectRequest)
   }
 
-  public interface xtreemfs_rwr_set_primary_epochRequestOrBuilder
+  public interface xtreemfs_rwr_flease_msgRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
+    // required string sender_hostname = 1;
     /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     * <code>required string sender_hostname = 1;</code>
+     *
+     * <pre>
+     * The actual flease message is sent in data.
+     * </pre>
      */
-    boolean hasFileCredentials();
+    boolean hasSenderHostname();
     /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     * <code>required string sender_hostname = 1;</code>
+     *
+     * <pre>
+     * The actual flease message is sent in data.
+     * </pre>
      */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials();
+    java.lang.String getSenderHostname();
     /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder();
-
-    // required string file_id = 2;
-    /**
-     * <code>required string file_id = 2;</code>
-     */
-    boolean hasFileId();
-    /**
-     * <code>required string file_id = 2;</code>
-     */
-    java.lang.String getFileId();
-    /**
-     * <code>required string file_id = 2;</code>
+     * <code>required string sender_hostname = 1;</code>
+     *
+     * <pre>
+     * The actual flease message is sent in data.
+     * </pre>
      */
     com.google.protobuf.ByteString
-        getFileIdBytes();
+        getSenderHostnameBytes();
 
-    // required fixed32 primary_epoch = 3;
+    // required fixed32 sender_port = 2;
     /**
-     * <code>required fixed32 primary_epoch = 3;</code>
+     * <code>required fixed32 sender_port = 2;</code>
      */
-    boolean hasPrimaryEpoch();
+    boolean hasSenderPort();
     /**
-     * <code>required fixed32 primary_epoch = 3;</code>
+     * <code>required fixed32 sender_port = 2;</code>
      */
-    int getPrimaryEpoch();
+    int getSenderPort();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_set_primary_epochRequest}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_flease_msgRequest}
    */
-  public static final class xtreemfs_rwr_set_primary_epochRequest extends
+  public static final class xtreemfs_rwr_flease_msgRequest extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_rwr_set_primary_epochRequestOrBuilder {
-    // Use xtreemfs_rwr_set_primary_epochRequest.newBuilder() to construct.
-    private xtreemfs_rwr_set_primary_epochRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_rwr_flease_msgRequestOrBuilder {
+    // Use xtreemfs_rwr_flease_msgRequest.newBuilder() to construct.
+    private xtreemfs_rwr_flease_msgRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_rwr_set_primary_epochRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_rwr_flease_msgRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_rwr_set_primary_epochRequest defaultInstance;
-    public static xtreemfs_rwr_set_primary_epochRequest getDefaultInstance() {
+    private static final xtreemfs_rwr_flease_msgRequest defaultInstance;
+    public static xtreemfs_rwr_flease_msgRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_rwr_set_primary_epochRequest getDefaultInstanceForType() {
+    public xtreemfs_rwr_flease_msgRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -19423,7 +19480,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_rwr_set_primary_epochRequest(
+    private xtreemfs_rwr_flease_msgRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -19447,26 +19504,13 @@ public final class OSD {
               break;
             }
             case 10: {
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = fileCredentials_.toBuilder();
-              }
-              fileCredentials_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(fileCredentials_);
-                fileCredentials_ = subBuilder.buildPartial();
-              }
               bitField0_ |= 0x00000001;
+              senderHostname_ = input.readBytes();
               break;
             }
-            case 18: {
+            case 21: {
               bitField0_ |= 0x00000002;
-              fileId_ = input.readBytes();
-              break;
-            }
-            case 29: {
-              bitField0_ |= 0x00000004;
-              primaryEpoch_ = input.readFixed32();
+              senderPort_ = input.readFixed32();
               break;
             }
           }
@@ -19483,68 +19527,54 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_set_primary_epochRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_flease_msgRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_set_primary_epochRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_flease_msgRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_rwr_set_primary_epochRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_rwr_set_primary_epochRequest>() {
-      public xtreemfs_rwr_set_primary_epochRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_rwr_flease_msgRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_rwr_flease_msgRequest>() {
+      public xtreemfs_rwr_flease_msgRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_rwr_set_primary_epochRequest(input, extensionRegistry);
+        return new xtreemfs_rwr_flease_msgRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_rwr_set_primary_epochRequest> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_rwr_flease_msgRequest> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
-    public static final int FILE_CREDENTIALS_FIELD_NUMBER = 1;
-    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_;
+    // required string sender_hostname = 1;
+    public static final int SENDER_HOSTNAME_FIELD_NUMBER = 1;
+    private java.lang.Object senderHostname_;
     /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     * <code>required string sender_hostname = 1;</code>
+     *
+     * <pre>
+     * The actual flease message is sent in data.
+     * </pre>
      */
-    public boolean hasFileCredentials() {
+    public boolean hasSenderHostname() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
-      return fileCredentials_;
-    }
-    /**
-     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
-      return fileCredentials_;
-    }
-
-    // required string file_id = 2;
-    public static final int FILE_ID_FIELD_NUMBER = 2;
-    private java.lang.Object fileId_;
-    /**
-     * <code>required string file_id = 2;</code>
-     */
-    public boolean hasFileId() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>required string file_id = 2;</code>
+     * <code>required string sender_hostname = 1;</code>
+     *
+     * <pre>
+     * The actual flease message is sent in data.
+     * </pre>
      */
-    public java.lang.String getFileId() {
-      java.lang.Object ref = fileId_;
+    public java.lang.String getSenderHostname() {
+      java.lang.Object ref = senderHostname_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
@@ -19552,67 +19582,62 @@ public final class OSD {
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
-          fileId_ = s;
+          senderHostname_ = s;
         }
         return s;
       }
     }
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>required string sender_hostname = 1;</code>
+     *
+     * <pre>
+     * The actual flease message is sent in data.
+     * </pre>
      */
     public com.google.protobuf.ByteString
-        getFileIdBytes() {
-      java.lang.Object ref = fileId_;
+        getSenderHostnameBytes() {
+      java.lang.Object ref = senderHostname_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        fileId_ = b;
+        senderHostname_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    // required fixed32 primary_epoch = 3;
-    public static final int PRIMARY_EPOCH_FIELD_NUMBER = 3;
-    private int primaryEpoch_;
+    // required fixed32 sender_port = 2;
+    public static final int SENDER_PORT_FIELD_NUMBER = 2;
+    private int senderPort_;
     /**
-     * <code>required fixed32 primary_epoch = 3;</code>
+     * <code>required fixed32 sender_port = 2;</code>
      */
-    public boolean hasPrimaryEpoch() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public boolean hasSenderPort() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>required fixed32 primary_epoch = 3;</code>
+     * <code>required fixed32 sender_port = 2;</code>
      */
-    public int getPrimaryEpoch() {
-      return primaryEpoch_;
+    public int getSenderPort() {
+      return senderPort_;
     }
 
     private void initFields() {
-      fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
-      fileId_ = "";
-      primaryEpoch_ = 0;
+      senderHostname_ = "";
+      senderPort_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasFileCredentials()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasFileId()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasPrimaryEpoch()) {
+      if (!hasSenderHostname()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!getFileCredentials().isInitialized()) {
+      if (!hasSenderPort()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -19624,13 +19649,10 @@ public final class OSD {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, fileCredentials_);
+        output.writeBytes(1, getSenderHostnameBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getFileIdBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeFixed32(3, primaryEpoch_);
+        output.writeFixed32(2, senderPort_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -19643,15 +19665,11 @@ public final class OSD {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, fileCredentials_);
+          .computeBytesSize(1, getSenderHostnameBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getFileIdBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed32Size(3, primaryEpoch_);
+          .computeFixed32Size(2, senderPort_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -19665,53 +19683,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -19720,7 +19738,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -19732,24 +19750,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_set_primary_epochRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_flease_msgRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_set_primary_epochRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_flease_msgRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_set_primary_epochRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_flease_msgRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -19761,7 +19779,6 @@ public final class OSD {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getFileCredentialsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -19770,16 +19787,10 @@ public final class OSD {
 
       public Builder clear() {
         super.clear();
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
-        } else {
-          fileCredentialsBuilder_.clear();
-        }
+        senderHostname_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        fileId_ = "";
+        senderPort_ = 0;
         bitField0_ = (bitField0_ & ~0x00000002);
-        primaryEpoch_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -19789,86 +19800,67 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_set_primary_epochRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_flease_msgRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        if (fileCredentialsBuilder_ == null) {
-          result.fileCredentials_ = fileCredentials_;
-        } else {
-          result.fileCredentials_ = fileCredentialsBuilder_.build();
-        }
+        result.senderHostname_ = senderHostname_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.fileId_ = fileId_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.primaryEpoch_ = primaryEpoch_;
+        result.senderPort_ = senderPort_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.getDefaultInstance()) return this;
-        if (other.hasFileCredentials()) {
-          mergeFileCredentials(other.getFileCredentials());
-        }
-        if (other.hasFileId()) {
-          bitField0_ |= 0x00000002;
-          fileId_ = other.fileId_;
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest.getDefaultInstance()) return this;
+        if (other.hasSenderHostname()) {
+          bitField0_ |= 0x00000001;
+          senderHostname_ = other.senderHostname_;
           onChanged();
         }
-        if (other.hasPrimaryEpoch()) {
-          setPrimaryEpoch(other.getPrimaryEpoch());
+        if (other.hasSenderPort()) {
+          setSenderPort(other.getSenderPort());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasFileCredentials()) {
-          
-          return false;
-        }
-        if (!hasFileId()) {
-          
-          return false;
-        }
-        if (!hasPrimaryEpoch()) {
+        if (!hasSenderHostname()) {
           
           return false;
         }
-        if (!getFileCredentials().isInitialized()) {
+        if (!hasSenderPort()) {
           
           return false;
         }
@@ -19879,11 +19871,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_flease_msgRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -19894,242 +19886,149 @@ public final class OSD {
       }
       private int bitField0_;
 
-      // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
-      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> fileCredentialsBuilder_;
+      // required string sender_hostname = 1;
+      private java.lang.Object senderHostname_ = "";
       /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       * <code>required string sender_hostname = 1;</code>
+       *
+       * <pre>
+       * The actual flease message is sent in data.
+       * </pre>
        */
-      public boolean hasFileCredentials() {
+      public boolean hasSenderHostname() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
-        if (fileCredentialsBuilder_ == null) {
-          return fileCredentials_;
-        } else {
-          return fileCredentialsBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public Builder setFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
-        if (fileCredentialsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          fileCredentials_ = value;
-          onChanged();
-        } else {
-          fileCredentialsBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public Builder setFileCredentials(
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder builderForValue) {
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentials_ = builderForValue.build();
-          onChanged();
-        } else {
-          fileCredentialsBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public Builder mergeFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
-        if (fileCredentialsBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              fileCredentials_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance()) {
-            fileCredentials_ =
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.newBuilder(fileCredentials_).mergeFrom(value).buildPartial();
-          } else {
-            fileCredentials_ = value;
-          }
-          onChanged();
-        } else {
-          fileCredentialsBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public Builder clearFileCredentials() {
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
-          onChanged();
-        } else {
-          fileCredentialsBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder getFileCredentialsBuilder() {
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return getFileCredentialsFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
-        if (fileCredentialsBuilder_ != null) {
-          return fileCredentialsBuilder_.getMessageOrBuilder();
-        } else {
-          return fileCredentials_;
-        }
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> 
-          getFileCredentialsFieldBuilder() {
-        if (fileCredentialsBuilder_ == null) {
-          fileCredentialsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder>(
-                  fileCredentials_,
-                  getParentForChildren(),
-                  isClean());
-          fileCredentials_ = null;
-        }
-        return fileCredentialsBuilder_;
-      }
-
-      // required string file_id = 2;
-      private java.lang.Object fileId_ = "";
-      /**
-       * <code>required string file_id = 2;</code>
-       */
-      public boolean hasFileId() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string sender_hostname = 1;</code>
+       *
+       * <pre>
+       * The actual flease message is sent in data.
+       * </pre>
        */
-      public java.lang.String getFileId() {
-        java.lang.Object ref = fileId_;
+      public java.lang.String getSenderHostname() {
+        java.lang.Object ref = senderHostname_;
         if (!(ref instanceof java.lang.String)) {
           java.lang.String s = ((com.google.protobuf.ByteString) ref)
               .toStringUtf8();
-          fileId_ = s;
+          senderHostname_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string sender_hostname = 1;</code>
+       *
+       * <pre>
+       * The actual flease message is sent in data.
+       * </pre>
        */
       public com.google.protobuf.ByteString
-          getFileIdBytes() {
-        java.lang.Object ref = fileId_;
+          getSenderHostnameBytes() {
+        java.lang.Object ref = senderHostname_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          fileId_ = b;
+          senderHostname_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string sender_hostname = 1;</code>
+       *
+       * <pre>
+       * The actual flease message is sent in data.
+       * </pre>
        */
-      public Builder setFileId(
+      public Builder setSenderHostname(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        fileId_ = value;
+  bitField0_ |= 0x00000001;
+        senderHostname_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string sender_hostname = 1;</code>
+       *
+       * <pre>
+       * The actual flease message is sent in data.
+       * </pre>
        */
-      public Builder clearFileId() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        fileId_ = getDefaultInstance().getFileId();
+      public Builder clearSenderHostname() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        senderHostname_ = getDefaultInstance().getSenderHostname();
         onChanged();
         return this;
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>required string sender_hostname = 1;</code>
+       *
+       * <pre>
+       * The actual flease message is sent in data.
+       * </pre>
        */
-      public Builder setFileIdBytes(
+      public Builder setSenderHostnameBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        fileId_ = value;
+  bitField0_ |= 0x00000001;
+        senderHostname_ = value;
         onChanged();
         return this;
       }
 
-      // required fixed32 primary_epoch = 3;
-      private int primaryEpoch_ ;
+      // required fixed32 sender_port = 2;
+      private int senderPort_ ;
       /**
-       * <code>required fixed32 primary_epoch = 3;</code>
+       * <code>required fixed32 sender_port = 2;</code>
        */
-      public boolean hasPrimaryEpoch() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public boolean hasSenderPort() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>required fixed32 primary_epoch = 3;</code>
+       * <code>required fixed32 sender_port = 2;</code>
        */
-      public int getPrimaryEpoch() {
-        return primaryEpoch_;
+      public int getSenderPort() {
+        return senderPort_;
       }
       /**
-       * <code>required fixed32 primary_epoch = 3;</code>
+       * <code>required fixed32 sender_port = 2;</code>
        */
-      public Builder setPrimaryEpoch(int value) {
-        bitField0_ |= 0x00000004;
-        primaryEpoch_ = value;
+      public Builder setSenderPort(int value) {
+        bitField0_ |= 0x00000002;
+        senderPort_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required fixed32 primary_epoch = 3;</code>
+       * <code>required fixed32 sender_port = 2;</code>
        */
-      public Builder clearPrimaryEpoch() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        primaryEpoch_ = 0;
+      public Builder clearSenderPort() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        senderPort_ = 0;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rwr_set_primary_epochRequest)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rwr_flease_msgRequest)
     }
 
     static {
-      defaultInstance = new xtreemfs_rwr_set_primary_epochRequest(true);
+      defaultInstance = new xtreemfs_rwr_flease_msgRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_set_primary_epochRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_flease_msgRequest)
   }
 
-  public interface xtreemfs_rwr_statusRequestOrBuilder
+  public interface xtreemfs_rwr_set_primary_epochRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
     // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
@@ -20161,43 +20060,35 @@ public final class OSD {
     com.google.protobuf.ByteString
         getFileIdBytes();
 
-    // required fixed64 max_local_obj_version = 3;
+    // required fixed32 primary_epoch = 3;
     /**
-     * <code>required fixed64 max_local_obj_version = 3;</code>
-     *
-     * <pre>
-     * Maximum local object version stored on an OSD.
-     * </pre>
+     * <code>required fixed32 primary_epoch = 3;</code>
      */
-    boolean hasMaxLocalObjVersion();
+    boolean hasPrimaryEpoch();
     /**
-     * <code>required fixed64 max_local_obj_version = 3;</code>
-     *
-     * <pre>
-     * Maximum local object version stored on an OSD.
-     * </pre>
+     * <code>required fixed32 primary_epoch = 3;</code>
      */
-    long getMaxLocalObjVersion();
+    int getPrimaryEpoch();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_statusRequest}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_set_primary_epochRequest}
    */
-  public static final class xtreemfs_rwr_statusRequest extends
+  public static final class xtreemfs_rwr_set_primary_epochRequest extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_rwr_statusRequestOrBuilder {
-    // Use xtreemfs_rwr_statusRequest.newBuilder() to construct.
-    private xtreemfs_rwr_statusRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_rwr_set_primary_epochRequestOrBuilder {
+    // Use xtreemfs_rwr_set_primary_epochRequest.newBuilder() to construct.
+    private xtreemfs_rwr_set_primary_epochRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_rwr_statusRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_rwr_set_primary_epochRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_rwr_statusRequest defaultInstance;
-    public static xtreemfs_rwr_statusRequest getDefaultInstance() {
+    private static final xtreemfs_rwr_set_primary_epochRequest defaultInstance;
+    public static xtreemfs_rwr_set_primary_epochRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_rwr_statusRequest getDefaultInstanceForType() {
+    public xtreemfs_rwr_set_primary_epochRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -20207,7 +20098,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_rwr_statusRequest(
+    private xtreemfs_rwr_set_primary_epochRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -20248,9 +20139,9 @@ public final class OSD {
               fileId_ = input.readBytes();
               break;
             }
-            case 25: {
+            case 29: {
               bitField0_ |= 0x00000004;
-              maxLocalObjVersion_ = input.readFixed64();
+              primaryEpoch_ = input.readFixed32();
               break;
             }
           }
@@ -20267,28 +20158,28 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_statusRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_set_primary_epochRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_statusRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_set_primary_epochRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_rwr_statusRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_rwr_statusRequest>() {
-      public xtreemfs_rwr_statusRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_rwr_set_primary_epochRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_rwr_set_primary_epochRequest>() {
+      public xtreemfs_rwr_set_primary_epochRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_rwr_statusRequest(input, extensionRegistry);
+        return new xtreemfs_rwr_set_primary_epochRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_rwr_statusRequest> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_rwr_set_primary_epochRequest> getParserForType() {
       return PARSER;
     }
 
@@ -20358,34 +20249,26 @@ public final class OSD {
       }
     }
 
-    // required fixed64 max_local_obj_version = 3;
-    public static final int MAX_LOCAL_OBJ_VERSION_FIELD_NUMBER = 3;
-    private long maxLocalObjVersion_;
+    // required fixed32 primary_epoch = 3;
+    public static final int PRIMARY_EPOCH_FIELD_NUMBER = 3;
+    private int primaryEpoch_;
     /**
-     * <code>required fixed64 max_local_obj_version = 3;</code>
-     *
-     * <pre>
-     * Maximum local object version stored on an OSD.
-     * </pre>
+     * <code>required fixed32 primary_epoch = 3;</code>
      */
-    public boolean hasMaxLocalObjVersion() {
+    public boolean hasPrimaryEpoch() {
       return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>required fixed64 max_local_obj_version = 3;</code>
-     *
-     * <pre>
-     * Maximum local object version stored on an OSD.
-     * </pre>
+     * <code>required fixed32 primary_epoch = 3;</code>
      */
-    public long getMaxLocalObjVersion() {
-      return maxLocalObjVersion_;
+    public int getPrimaryEpoch() {
+      return primaryEpoch_;
     }
 
     private void initFields() {
       fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
       fileId_ = "";
-      maxLocalObjVersion_ = 0L;
+      primaryEpoch_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -20400,7 +20283,7 @@ public final class OSD {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasMaxLocalObjVersion()) {
+      if (!hasPrimaryEpoch()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -20422,7 +20305,7 @@ public final class OSD {
         output.writeBytes(2, getFileIdBytes());
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeFixed64(3, maxLocalObjVersion_);
+        output.writeFixed32(3, primaryEpoch_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -20443,7 +20326,7 @@ public final class OSD {
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(3, maxLocalObjVersion_);
+          .computeFixed32Size(3, primaryEpoch_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -20457,53 +20340,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -20512,7 +20395,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -20524,24 +20407,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_statusRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_set_primary_epochRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_statusRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_set_primary_epochRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_statusRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_set_primary_epochRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -20570,7 +20453,7 @@ public final class OSD {
         bitField0_ = (bitField0_ & ~0x00000001);
         fileId_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
-        maxLocalObjVersion_ = 0L;
+        primaryEpoch_ = 0;
         bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
@@ -20581,23 +20464,23 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_statusRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_set_primary_epochRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -20615,23 +20498,23 @@ public final class OSD {
         if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000004;
         }
-        result.maxLocalObjVersion_ = maxLocalObjVersion_;
+        result.primaryEpoch_ = primaryEpoch_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.getDefaultInstance()) return this;
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest.getDefaultInstance()) return this;
         if (other.hasFileCredentials()) {
           mergeFileCredentials(other.getFileCredentials());
         }
@@ -20640,8 +20523,8 @@ public final class OSD {
           fileId_ = other.fileId_;
           onChanged();
         }
-        if (other.hasMaxLocalObjVersion()) {
-          setMaxLocalObjVersion(other.getMaxLocalObjVersion());
+        if (other.hasPrimaryEpoch()) {
+          setPrimaryEpoch(other.getPrimaryEpoch());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -20656,7 +20539,7 @@ public final class OSD {
           
           return false;
         }
-        if (!hasMaxLocalObjVersion()) {
+        if (!hasPrimaryEpoch()) {
           
           return false;
         }
@@ -20671,11 +20554,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_set_primary_epochRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -20877,67 +20760,51 @@ public final class OSD {
         return this;
       }
 
-      // required fixed64 max_local_obj_version = 3;
-      private long maxLocalObjVersion_ ;
+      // required fixed32 primary_epoch = 3;
+      private int primaryEpoch_ ;
       /**
-       * <code>required fixed64 max_local_obj_version = 3;</code>
-       *
-       * <pre>
-       * Maximum local object version stored on an OSD.
-       * </pre>
+       * <code>required fixed32 primary_epoch = 3;</code>
        */
-      public boolean hasMaxLocalObjVersion() {
+      public boolean hasPrimaryEpoch() {
         return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>required fixed64 max_local_obj_version = 3;</code>
-       *
-       * <pre>
-       * Maximum local object version stored on an OSD.
-       * </pre>
+       * <code>required fixed32 primary_epoch = 3;</code>
        */
-      public long getMaxLocalObjVersion() {
-        return maxLocalObjVersion_;
+      public int getPrimaryEpoch() {
+        return primaryEpoch_;
       }
       /**
-       * <code>required fixed64 max_local_obj_version = 3;</code>
-       *
-       * <pre>
-       * Maximum local object version stored on an OSD.
-       * </pre>
+       * <code>required fixed32 primary_epoch = 3;</code>
        */
-      public Builder setMaxLocalObjVersion(long value) {
+      public Builder setPrimaryEpoch(int value) {
         bitField0_ |= 0x00000004;
-        maxLocalObjVersion_ = value;
+        primaryEpoch_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required fixed64 max_local_obj_version = 3;</code>
-       *
-       * <pre>
-       * Maximum local object version stored on an OSD.
-       * </pre>
+       * <code>required fixed32 primary_epoch = 3;</code>
        */
-      public Builder clearMaxLocalObjVersion() {
+      public Builder clearPrimaryEpoch() {
         bitField0_ = (bitField0_ & ~0x00000004);
-        maxLocalObjVersion_ = 0L;
+        primaryEpoch_ = 0;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rwr_statusRequest)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rwr_set_primary_epochRequest)
     }
 
     static {
-      defaultInstance = new xtreemfs_rwr_statusRequest(true);
+      defaultInstance = new xtreemfs_rwr_set_primary_epochRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_statusRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_set_primary_epochRequest)
   }
 
-  public interface xtreemfs_rwr_truncateRequestOrBuilder
+  public interface xtreemfs_rwr_statusRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
     // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
@@ -20969,45 +20836,43 @@ public final class OSD {
     com.google.protobuf.ByteString
         getFileIdBytes();
 
-    // required fixed64 new_file_size = 3;
-    /**
-     * <code>required fixed64 new_file_size = 3;</code>
-     */
-    boolean hasNewFileSize();
+    // required fixed64 max_local_obj_version = 3;
     /**
-     * <code>required fixed64 new_file_size = 3;</code>
+     * <code>required fixed64 max_local_obj_version = 3;</code>
+     *
+     * <pre>
+     * Maximum local object version stored on an OSD.
+     * </pre>
      */
-    long getNewFileSize();
-
-    // required fixed64 object_version = 4;
+    boolean hasMaxLocalObjVersion();
     /**
-     * <code>required fixed64 object_version = 4;</code>
+     * <code>required fixed64 max_local_obj_version = 3;</code>
+     *
+     * <pre>
+     * Maximum local object version stored on an OSD.
+     * </pre>
      */
-    boolean hasObjectVersion();
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     */
-    long getObjectVersion();
+    long getMaxLocalObjVersion();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_truncateRequest}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_statusRequest}
    */
-  public static final class xtreemfs_rwr_truncateRequest extends
+  public static final class xtreemfs_rwr_statusRequest extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_rwr_truncateRequestOrBuilder {
-    // Use xtreemfs_rwr_truncateRequest.newBuilder() to construct.
-    private xtreemfs_rwr_truncateRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_rwr_statusRequestOrBuilder {
+    // Use xtreemfs_rwr_statusRequest.newBuilder() to construct.
+    private xtreemfs_rwr_statusRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_rwr_truncateRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_rwr_statusRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_rwr_truncateRequest defaultInstance;
-    public static xtreemfs_rwr_truncateRequest getDefaultInstance() {
+    private static final xtreemfs_rwr_statusRequest defaultInstance;
+    public static xtreemfs_rwr_statusRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_rwr_truncateRequest getDefaultInstanceForType() {
+    public xtreemfs_rwr_statusRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -21017,7 +20882,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_rwr_truncateRequest(
+    private xtreemfs_rwr_statusRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -21060,12 +20925,7 @@ public final class OSD {
             }
             case 25: {
               bitField0_ |= 0x00000004;
-              newFileSize_ = input.readFixed64();
-              break;
-            }
-            case 33: {
-              bitField0_ |= 0x00000008;
-              objectVersion_ = input.readFixed64();
+              maxLocalObjVersion_ = input.readFixed64();
               break;
             }
           }
@@ -21082,28 +20942,28 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_truncateRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_statusRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_truncateRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_statusRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_rwr_truncateRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_rwr_truncateRequest>() {
-      public xtreemfs_rwr_truncateRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_rwr_statusRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_rwr_statusRequest>() {
+      public xtreemfs_rwr_statusRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_rwr_truncateRequest(input, extensionRegistry);
+        return new xtreemfs_rwr_statusRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_rwr_truncateRequest> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_rwr_statusRequest> getParserForType() {
       return PARSER;
     }
 
@@ -21173,43 +21033,34 @@ public final class OSD {
       }
     }
 
-    // required fixed64 new_file_size = 3;
-    public static final int NEW_FILE_SIZE_FIELD_NUMBER = 3;
-    private long newFileSize_;
+    // required fixed64 max_local_obj_version = 3;
+    public static final int MAX_LOCAL_OBJ_VERSION_FIELD_NUMBER = 3;
+    private long maxLocalObjVersion_;
     /**
-     * <code>required fixed64 new_file_size = 3;</code>
+     * <code>required fixed64 max_local_obj_version = 3;</code>
+     *
+     * <pre>
+     * Maximum local object version stored on an OSD.
+     * </pre>
      */
-    public boolean hasNewFileSize() {
+    public boolean hasMaxLocalObjVersion() {
       return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>required fixed64 new_file_size = 3;</code>
-     */
-    public long getNewFileSize() {
-      return newFileSize_;
-    }
-
-    // required fixed64 object_version = 4;
-    public static final int OBJECT_VERSION_FIELD_NUMBER = 4;
-    private long objectVersion_;
-    /**
-     * <code>required fixed64 object_version = 4;</code>
-     */
-    public boolean hasObjectVersion() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
-    }
-    /**
-     * <code>required fixed64 object_version = 4;</code>
+     * <code>required fixed64 max_local_obj_version = 3;</code>
+     *
+     * <pre>
+     * Maximum local object version stored on an OSD.
+     * </pre>
      */
-    public long getObjectVersion() {
-      return objectVersion_;
+    public long getMaxLocalObjVersion() {
+      return maxLocalObjVersion_;
     }
 
     private void initFields() {
       fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
       fileId_ = "";
-      newFileSize_ = 0L;
-      objectVersion_ = 0L;
+      maxLocalObjVersion_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -21224,11 +21075,7 @@ public final class OSD {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasNewFileSize()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasObjectVersion()) {
+      if (!hasMaxLocalObjVersion()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -21250,10 +21097,7 @@ public final class OSD {
         output.writeBytes(2, getFileIdBytes());
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeFixed64(3, newFileSize_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeFixed64(4, objectVersion_);
+        output.writeFixed64(3, maxLocalObjVersion_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -21274,11 +21118,7 @@ public final class OSD {
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(3, newFileSize_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(4, objectVersion_);
+          .computeFixed64Size(3, maxLocalObjVersion_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -21292,53 +21132,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -21347,7 +21187,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -21359,24 +21199,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_truncateRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_statusRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_truncateRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_statusRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_truncateRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_statusRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -21405,10 +21245,8 @@ public final class OSD {
         bitField0_ = (bitField0_ & ~0x00000001);
         fileId_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
-        newFileSize_ = 0L;
+        maxLocalObjVersion_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000004);
-        objectVersion_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -21418,23 +21256,23 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_truncateRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_statusRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -21452,27 +21290,23 @@ public final class OSD {
         if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000004;
         }
-        result.newFileSize_ = newFileSize_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        result.objectVersion_ = objectVersion_;
+        result.maxLocalObjVersion_ = maxLocalObjVersion_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.getDefaultInstance()) return this;
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest.getDefaultInstance()) return this;
         if (other.hasFileCredentials()) {
           mergeFileCredentials(other.getFileCredentials());
         }
@@ -21481,11 +21315,8 @@ public final class OSD {
           fileId_ = other.fileId_;
           onChanged();
         }
-        if (other.hasNewFileSize()) {
-          setNewFileSize(other.getNewFileSize());
-        }
-        if (other.hasObjectVersion()) {
-          setObjectVersion(other.getObjectVersion());
+        if (other.hasMaxLocalObjVersion()) {
+          setMaxLocalObjVersion(other.getMaxLocalObjVersion());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -21500,11 +21331,7 @@ public final class OSD {
           
           return false;
         }
-        if (!hasNewFileSize()) {
-          
-          return false;
-        }
-        if (!hasObjectVersion()) {
+        if (!hasMaxLocalObjVersion()) {
           
           return false;
         }
@@ -21519,11 +21346,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_statusRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -21725,84 +21552,67 @@ public final class OSD {
         return this;
       }
 
-      // required fixed64 new_file_size = 3;
-      private long newFileSize_ ;
+      // required fixed64 max_local_obj_version = 3;
+      private long maxLocalObjVersion_ ;
       /**
-       * <code>required fixed64 new_file_size = 3;</code>
+       * <code>required fixed64 max_local_obj_version = 3;</code>
+       *
+       * <pre>
+       * Maximum local object version stored on an OSD.
+       * </pre>
        */
-      public boolean hasNewFileSize() {
+      public boolean hasMaxLocalObjVersion() {
         return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>required fixed64 new_file_size = 3;</code>
+       * <code>required fixed64 max_local_obj_version = 3;</code>
+       *
+       * <pre>
+       * Maximum local object version stored on an OSD.
+       * </pre>
        */
-      public long getNewFileSize() {
-        return newFileSize_;
+      public long getMaxLocalObjVersion() {
+        return maxLocalObjVersion_;
       }
       /**
-       * <code>required fixed64 new_file_size = 3;</code>
+       * <code>required fixed64 max_local_obj_version = 3;</code>
+       *
+       * <pre>
+       * Maximum local object version stored on an OSD.
+       * </pre>
        */
-      public Builder setNewFileSize(long value) {
+      public Builder setMaxLocalObjVersion(long value) {
         bitField0_ |= 0x00000004;
-        newFileSize_ = value;
+        maxLocalObjVersion_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required fixed64 new_file_size = 3;</code>
+       * <code>required fixed64 max_local_obj_version = 3;</code>
+       *
+       * <pre>
+       * Maximum local object version stored on an OSD.
+       * </pre>
        */
-      public Builder clearNewFileSize() {
+      public Builder clearMaxLocalObjVersion() {
         bitField0_ = (bitField0_ & ~0x00000004);
-        newFileSize_ = 0L;
+        maxLocalObjVersion_ = 0L;
         onChanged();
         return this;
       }
 
-      // required fixed64 object_version = 4;
-      private long objectVersion_ ;
-      /**
-       * <code>required fixed64 object_version = 4;</code>
-       */
-      public boolean hasObjectVersion() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
-      }
-      /**
-       * <code>required fixed64 object_version = 4;</code>
-       */
-      public long getObjectVersion() {
-        return objectVersion_;
-      }
-      /**
-       * <code>required fixed64 object_version = 4;</code>
-       */
-      public Builder setObjectVersion(long value) {
-        bitField0_ |= 0x00000008;
-        objectVersion_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required fixed64 object_version = 4;</code>
-       */
-      public Builder clearObjectVersion() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        objectVersion_ = 0L;
-        onChanged();
-        return this;
-      }
-
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rwr_truncateRequest)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rwr_statusRequest)
     }
 
     static {
-      defaultInstance = new xtreemfs_rwr_truncateRequest(true);
+      defaultInstance = new xtreemfs_rwr_statusRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_truncateRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_statusRequest)
   }
 
-  public interface xtreemfs_rwr_updateRequestOrBuilder
+  public interface xtreemfs_rwr_truncateRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
     // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
@@ -21844,16 +21654,6 @@ public final class OSD {
      */
     long getNewFileSize();
 
-    // required fixed64 object_number = 7;
-    /**
-     * <code>required fixed64 object_number = 7;</code>
-     */
-    boolean hasObjectNumber();
-    /**
-     * <code>required fixed64 object_number = 7;</code>
-     */
-    long getObjectNumber();
-
     // required fixed64 object_version = 4;
     /**
      * <code>required fixed64 object_version = 4;</code>
@@ -21863,50 +21663,26 @@ public final class OSD {
      * <code>required fixed64 object_version = 4;</code>
      */
     long getObjectVersion();
-
-    // required fixed32 offset = 5;
-    /**
-     * <code>required fixed32 offset = 5;</code>
-     */
-    boolean hasOffset();
-    /**
-     * <code>required fixed32 offset = 5;</code>
-     */
-    int getOffset();
-
-    // required .xtreemfs.pbrpc.ObjectData obj = 6;
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
-     */
-    boolean hasObj();
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getObj();
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getObjOrBuilder();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_updateRequest}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_truncateRequest}
    */
-  public static final class xtreemfs_rwr_updateRequest extends
+  public static final class xtreemfs_rwr_truncateRequest extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_rwr_updateRequestOrBuilder {
-    // Use xtreemfs_rwr_updateRequest.newBuilder() to construct.
-    private xtreemfs_rwr_updateRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_rwr_truncateRequestOrBuilder {
+    // Use xtreemfs_rwr_truncateRequest.newBuilder() to construct.
+    private xtreemfs_rwr_truncateRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_rwr_updateRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_rwr_truncateRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_rwr_updateRequest defaultInstance;
-    public static xtreemfs_rwr_updateRequest getDefaultInstance() {
+    private static final xtreemfs_rwr_truncateRequest defaultInstance;
+    public static xtreemfs_rwr_truncateRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_rwr_updateRequest getDefaultInstanceForType() {
+    public xtreemfs_rwr_truncateRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -21916,7 +21692,7 @@ public final class OSD {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_rwr_updateRequest(
+    private xtreemfs_rwr_truncateRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -21963,31 +21739,8 @@ public final class OSD {
               break;
             }
             case 33: {
-              bitField0_ |= 0x00000010;
-              objectVersion_ = input.readFixed64();
-              break;
-            }
-            case 45: {
-              bitField0_ |= 0x00000020;
-              offset_ = input.readFixed32();
-              break;
-            }
-            case 50: {
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000040) == 0x00000040)) {
-                subBuilder = obj_.toBuilder();
-              }
-              obj_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(obj_);
-                obj_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000040;
-              break;
-            }
-            case 57: {
               bitField0_ |= 0x00000008;
-              objectNumber_ = input.readFixed64();
+              objectVersion_ = input.readFixed64();
               break;
             }
           }
@@ -22004,28 +21757,28 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_truncateRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_truncateRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_rwr_updateRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_rwr_updateRequest>() {
-      public xtreemfs_rwr_updateRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_rwr_truncateRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_rwr_truncateRequest>() {
+      public xtreemfs_rwr_truncateRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_rwr_updateRequest(input, extensionRegistry);
+        return new xtreemfs_rwr_truncateRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_rwr_updateRequest> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_rwr_truncateRequest> getParserForType() {
       return PARSER;
     }
 
@@ -22111,22 +21864,6 @@ public final class OSD {
       return newFileSize_;
     }
 
-    // required fixed64 object_number = 7;
-    public static final int OBJECT_NUMBER_FIELD_NUMBER = 7;
-    private long objectNumber_;
-    /**
-     * <code>required fixed64 object_number = 7;</code>
-     */
-    public boolean hasObjectNumber() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
-    }
-    /**
-     * <code>required fixed64 object_number = 7;</code>
-     */
-    public long getObjectNumber() {
-      return objectNumber_;
-    }
-
     // required fixed64 object_version = 4;
     public static final int OBJECT_VERSION_FIELD_NUMBER = 4;
     private long objectVersion_;
@@ -22134,7 +21871,7 @@ public final class OSD {
      * <code>required fixed64 object_version = 4;</code>
      */
     public boolean hasObjectVersion() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+      return ((bitField0_ & 0x00000008) == 0x00000008);
     }
     /**
      * <code>required fixed64 object_version = 4;</code>
@@ -22143,52 +21880,11 @@ public final class OSD {
       return objectVersion_;
     }
 
-    // required fixed32 offset = 5;
-    public static final int OFFSET_FIELD_NUMBER = 5;
-    private int offset_;
-    /**
-     * <code>required fixed32 offset = 5;</code>
-     */
-    public boolean hasOffset() {
-      return ((bitField0_ & 0x00000020) == 0x00000020);
-    }
-    /**
-     * <code>required fixed32 offset = 5;</code>
-     */
-    public int getOffset() {
-      return offset_;
-    }
-
-    // required .xtreemfs.pbrpc.ObjectData obj = 6;
-    public static final int OBJ_FIELD_NUMBER = 6;
-    private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData obj_;
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
-     */
-    public boolean hasObj() {
-      return ((bitField0_ & 0x00000040) == 0x00000040);
-    }
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getObj() {
-      return obj_;
-    }
-    /**
-     * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getObjOrBuilder() {
-      return obj_;
-    }
-
     private void initFields() {
       fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
       fileId_ = "";
       newFileSize_ = 0L;
-      objectNumber_ = 0L;
       objectVersion_ = 0L;
-      offset_ = 0;
-      obj_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -22207,30 +21903,14 @@ public final class OSD {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasObjectNumber()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       if (!hasObjectVersion()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasOffset()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasObj()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       if (!getFileCredentials().isInitialized()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!getObj().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -22247,17 +21927,8 @@ public final class OSD {
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeFixed64(3, newFileSize_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeFixed64(4, objectVersion_);
-      }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        output.writeFixed32(5, offset_);
-      }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        output.writeMessage(6, obj_);
-      }
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeFixed64(7, objectNumber_);
+        output.writeFixed64(4, objectVersion_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -22280,21 +21951,9 @@ public final class OSD {
         size += com.google.protobuf.CodedOutputStream
           .computeFixed64Size(3, newFileSize_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(4, objectVersion_);
-      }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed32Size(5, offset_);
-      }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(6, obj_);
-      }
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(7, objectNumber_);
+          .computeFixed64Size(4, objectVersion_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -22308,53 +21967,53 @@ public final class OSD {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -22363,7 +22022,7 @@ public final class OSD {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -22375,24 +22034,24 @@ public final class OSD {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_updateRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_truncateRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_truncateRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_truncateRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -22405,7 +22064,6 @@ public final class OSD {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
           getFileCredentialsFieldBuilder();
-          getObjFieldBuilder();
         }
       }
       private static Builder create() {
@@ -22424,18 +22082,8 @@ public final class OSD {
         bitField0_ = (bitField0_ & ~0x00000002);
         newFileSize_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000004);
-        objectNumber_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000008);
         objectVersion_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000010);
-        offset_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000020);
-        if (objBuilder_ == null) {
-          obj_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
-        } else {
-          objBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000040);
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -22445,23 +22093,23 @@ public final class OSD {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_truncateRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -22483,39 +22131,23 @@ public final class OSD {
         if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
           to_bitField0_ |= 0x00000008;
         }
-        result.objectNumber_ = objectNumber_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
-        }
         result.objectVersion_ = objectVersion_;
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-          to_bitField0_ |= 0x00000020;
-        }
-        result.offset_ = offset_;
-        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
-          to_bitField0_ |= 0x00000040;
-        }
-        if (objBuilder_ == null) {
-          result.obj_ = obj_;
-        } else {
-          result.obj_ = objBuilder_.build();
-        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.getDefaultInstance()) return this;
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest.getDefaultInstance()) return this;
         if (other.hasFileCredentials()) {
           mergeFileCredentials(other.getFileCredentials());
         }
@@ -22527,18 +22159,9 @@ public final class OSD {
         if (other.hasNewFileSize()) {
           setNewFileSize(other.getNewFileSize());
         }
-        if (other.hasObjectNumber()) {
-          setObjectNumber(other.getObjectNumber());
-        }
         if (other.hasObjectVersion()) {
           setObjectVersion(other.getObjectVersion());
         }
-        if (other.hasOffset()) {
-          setOffset(other.getOffset());
-        }
-        if (other.hasObj()) {
-          mergeObj(other.getObj());
-        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -22556,30 +22179,14 @@ public final class OSD {
           
           return false;
         }
-        if (!hasObjectNumber()) {
-          
-          return false;
-        }
         if (!hasObjectVersion()) {
           
           return false;
         }
-        if (!hasOffset()) {
-          
-          return false;
-        }
-        if (!hasObj()) {
-          
-          return false;
-        }
         if (!getFileCredentials().isInitialized()) {
           
           return false;
         }
-        if (!getObj().isInitialized()) {
-          
-          return false;
-        }
         return true;
       }
 
@@ -22587,11 +22194,11 @@ public final class OSD {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_truncateRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -22826,46 +22433,13 @@ public final class OSD {
         return this;
       }
 
-      // required fixed64 object_number = 7;
-      private long objectNumber_ ;
-      /**
-       * <code>required fixed64 object_number = 7;</code>
-       */
-      public boolean hasObjectNumber() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
-      }
-      /**
-       * <code>required fixed64 object_number = 7;</code>
-       */
-      public long getObjectNumber() {
-        return objectNumber_;
-      }
-      /**
-       * <code>required fixed64 object_number = 7;</code>
-       */
-      public Builder setObjectNumber(long value) {
-        bitField0_ |= 0x00000008;
-        objectNumber_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required fixed64 object_number = 7;</code>
-       */
-      public Builder clearObjectNumber() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        objectNumber_ = 0L;
-        onChanged();
-        return this;
-      }
-
       // required fixed64 object_version = 4;
       private long objectVersion_ ;
       /**
        * <code>required fixed64 object_version = 4;</code>
        */
       public boolean hasObjectVersion() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
       /**
        * <code>required fixed64 object_version = 4;</code>
@@ -22877,7 +22451,7 @@ public final class OSD {
        * <code>required fixed64 object_version = 4;</code>
        */
       public Builder setObjectVersion(long value) {
-        bitField0_ |= 0x00000010;
+        bitField0_ |= 0x00000008;
         objectVersion_ = value;
         onChanged();
         return this;
@@ -22886,171 +22460,1995 @@ public final class OSD {
        * <code>required fixed64 object_version = 4;</code>
        */
       public Builder clearObjectVersion() {
-        bitField0_ = (bitField0_ & ~0x00000010);
+        bitField0_ = (bitField0_ & ~0x00000008);
         objectVersion_ = 0L;
         onChanged();
         return this;
       }
 
-      // required fixed32 offset = 5;
-      private int offset_ ;
-      /**
-       * <code>required fixed32 offset = 5;</code>
-       */
-      public boolean hasOffset() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rwr_truncateRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_rwr_truncateRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_truncateRequest)
+  }
+
+  public interface xtreemfs_rwr_updateRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
+    /**
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    boolean hasFileCredentials();
+    /**
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials();
+    /**
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder();
+
+    // required string file_id = 2;
+    /**
+     * <code>required string file_id = 2;</code>
+     */
+    boolean hasFileId();
+    /**
+     * <code>required string file_id = 2;</code>
+     */
+    java.lang.String getFileId();
+    /**
+     * <code>required string file_id = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getFileIdBytes();
+
+    // required fixed64 new_file_size = 3;
+    /**
+     * <code>required fixed64 new_file_size = 3;</code>
+     */
+    boolean hasNewFileSize();
+    /**
+     * <code>required fixed64 new_file_size = 3;</code>
+     */
+    long getNewFileSize();
+
+    // required fixed64 object_number = 7;
+    /**
+     * <code>required fixed64 object_number = 7;</code>
+     */
+    boolean hasObjectNumber();
+    /**
+     * <code>required fixed64 object_number = 7;</code>
+     */
+    long getObjectNumber();
+
+    // required fixed64 object_version = 4;
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     */
+    boolean hasObjectVersion();
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     */
+    long getObjectVersion();
+
+    // required fixed32 offset = 5;
+    /**
+     * <code>required fixed32 offset = 5;</code>
+     */
+    boolean hasOffset();
+    /**
+     * <code>required fixed32 offset = 5;</code>
+     */
+    int getOffset();
+
+    // required .xtreemfs.pbrpc.ObjectData obj = 6;
+    /**
+     * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+     */
+    boolean hasObj();
+    /**
+     * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getObj();
+    /**
+     * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getObjOrBuilder();
+
+    // optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;
+    /**
+     * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+     *
+     * <pre>
+     * Replicas the update has to be forwarded to by the receiver.
+     * Not set if the update is sent to all backups by the primary.
+     * </pre>
+     */
+    boolean hasChain();
+    /**
+     * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+     *
+     * <pre>
+     * Replicas the update has to be forwarded to by the receiver.
+     * Not set if the update is sent to all backups by the primary.
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain getChain();
+    /**
+     * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+     *
+     * <pre>
+     * Replicas the update has to be forwarded to by the receiver.
+     * Not set if the update is sent to all backups by the primary.
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChainOrBuilder getChainOrBuilder();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_updateRequest}
+   */
+  public static final class xtreemfs_rwr_updateRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_rwr_updateRequestOrBuilder {
+    // Use xtreemfs_rwr_updateRequest.newBuilder() to construct.
+    private xtreemfs_rwr_updateRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_rwr_updateRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_rwr_updateRequest defaultInstance;
+    public static xtreemfs_rwr_updateRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_rwr_updateRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_rwr_updateRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = fileCredentials_.toBuilder();
+              }
+              fileCredentials_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fileCredentials_);
+                fileCredentials_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              fileId_ = input.readBytes();
+              break;
+            }
+            case 25: {
+              bitField0_ |= 0x00000004;
+              newFileSize_ = input.readFixed64();
+              break;
+            }
+            case 33: {
+              bitField0_ |= 0x00000010;
+              objectVersion_ = input.readFixed64();
+              break;
+            }
+            case 45: {
+              bitField0_ |= 0x00000020;
+              offset_ = input.readFixed32();
+              break;
+            }
+            case 50: {
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000040) == 0x00000040)) {
+                subBuilder = obj_.toBuilder();
+              }
+              obj_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(obj_);
+                obj_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000040;
+              break;
+            }
+            case 57: {
+              bitField0_ |= 0x00000008;
+              objectNumber_ = input.readFixed64();
+              break;
+            }
+            case 66: {
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000080) == 0x00000080)) {
+                subBuilder = chain_.toBuilder();
+              }
+              chain_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(chain_);
+                chain_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000080;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_rwr_updateRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_rwr_updateRequest>() {
+      public xtreemfs_rwr_updateRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_rwr_updateRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_rwr_updateRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
+    public static final int FILE_CREDENTIALS_FIELD_NUMBER = 1;
+    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_;
+    /**
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    public boolean hasFileCredentials() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
+      return fileCredentials_;
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
+      return fileCredentials_;
+    }
+
+    // required string file_id = 2;
+    public static final int FILE_ID_FIELD_NUMBER = 2;
+    private java.lang.Object fileId_;
+    /**
+     * <code>required string file_id = 2;</code>
+     */
+    public boolean hasFileId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string file_id = 2;</code>
+     */
+    public java.lang.String getFileId() {
+      java.lang.Object ref = fileId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          fileId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string file_id = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFileIdBytes() {
+      java.lang.Object ref = fileId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required fixed64 new_file_size = 3;
+    public static final int NEW_FILE_SIZE_FIELD_NUMBER = 3;
+    private long newFileSize_;
+    /**
+     * <code>required fixed64 new_file_size = 3;</code>
+     */
+    public boolean hasNewFileSize() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required fixed64 new_file_size = 3;</code>
+     */
+    public long getNewFileSize() {
+      return newFileSize_;
+    }
+
+    // required fixed64 object_number = 7;
+    public static final int OBJECT_NUMBER_FIELD_NUMBER = 7;
+    private long objectNumber_;
+    /**
+     * <code>required fixed64 object_number = 7;</code>
+     */
+    public boolean hasObjectNumber() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required fixed64 object_number = 7;</code>
+     */
+    public long getObjectNumber() {
+      return objectNumber_;
+    }
+
+    // required fixed64 object_version = 4;
+    public static final int OBJECT_VERSION_FIELD_NUMBER = 4;
+    private long objectVersion_;
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     */
+    public boolean hasObjectVersion() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>required fixed64 object_version = 4;</code>
+     */
+    public long getObjectVersion() {
+      return objectVersion_;
+    }
+
+    // required fixed32 offset = 5;
+    public static final int OFFSET_FIELD_NUMBER = 5;
+    private int offset_;
+    /**
+     * <code>required fixed32 offset = 5;</code>
+     */
+    public boolean hasOffset() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>required fixed32 offset = 5;</code>
+     */
+    public int getOffset() {
+      return offset_;
+    }
+
+    // required .xtreemfs.pbrpc.ObjectData obj = 6;
+    public static final int OBJ_FIELD_NUMBER = 6;
+    private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData obj_;
+    /**
+     * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+     */
+    public boolean hasObj() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getObj() {
+      return obj_;
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getObjOrBuilder() {
+      return obj_;
+    }
+
+    // optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;
+    public static final int CHAIN_FIELD_NUMBER = 8;
+    private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain chain_;
+    /**
+     * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+     *
+     * <pre>
+     * Replicas the update has to be forwarded to by the receiver.
+     * Not set if the update is sent to all backups by the primary.
+     * </pre>
+     */
+    public boolean hasChain() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+     *
+     * <pre>
+     * Replicas the update has to be forwarded to by the receiver.
+     * Not set if the update is sent to all backups by the primary.
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain getChain() {
+      return chain_;
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+     *
+     * <pre>
+     * Replicas the update has to be forwarded to by the receiver.
+     * Not set if the update is sent to all backups by the primary.
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChainOrBuilder getChainOrBuilder() {
+      return chain_;
+    }
+
+    private void initFields() {
+      fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+      fileId_ = "";
+      newFileSize_ = 0L;
+      objectNumber_ = 0L;
+      objectVersion_ = 0L;
+      offset_ = 0;
+      obj_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
+      chain_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasFileCredentials()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFileId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasNewFileSize()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasObjectNumber()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasObjectVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasOffset()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasObj()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getFileCredentials().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getObj().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasChain()) {
+        if (!getChain().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, fileCredentials_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getFileIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeFixed64(3, newFileSize_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeFixed64(4, objectVersion_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeFixed32(5, offset_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeMessage(6, obj_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeFixed64(7, objectNumber_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeMessage(8, chain_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, fileCredentials_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getFileIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(3, newFileSize_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(4, objectVersion_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(5, offset_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, obj_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(7, objectNumber_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, chain_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_updateRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getFileCredentialsFieldBuilder();
+          getObjFieldBuilder();
+          getChainFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+        } else {
+          fileCredentialsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        fileId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        newFileSize_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        objectNumber_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        objectVersion_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        offset_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        if (objBuilder_ == null) {
+          obj_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
+        } else {
+          objBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        if (chainBuilder_ == null) {
+          chain_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.getDefaultInstance();
+        } else {
+          chainBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000080);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (fileCredentialsBuilder_ == null) {
+          result.fileCredentials_ = fileCredentials_;
+        } else {
+          result.fileCredentials_ = fileCredentialsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.fileId_ = fileId_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.newFileSize_ = newFileSize_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.objectNumber_ = objectNumber_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.objectVersion_ = objectVersion_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.offset_ = offset_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        if (objBuilder_ == null) {
+          result.obj_ = obj_;
+        } else {
+          result.obj_ = objBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        if (chainBuilder_ == null) {
+          result.chain_ = chain_;
+        } else {
+          result.chain_ = chainBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest.getDefaultInstance()) return this;
+        if (other.hasFileCredentials()) {
+          mergeFileCredentials(other.getFileCredentials());
+        }
+        if (other.hasFileId()) {
+          bitField0_ |= 0x00000002;
+          fileId_ = other.fileId_;
+          onChanged();
+        }
+        if (other.hasNewFileSize()) {
+          setNewFileSize(other.getNewFileSize());
+        }
+        if (other.hasObjectNumber()) {
+          setObjectNumber(other.getObjectNumber());
+        }
+        if (other.hasObjectVersion()) {
+          setObjectVersion(other.getObjectVersion());
+        }
+        if (other.hasOffset()) {
+          setOffset(other.getOffset());
+        }
+        if (other.hasObj()) {
+          mergeObj(other.getObj());
+        }
+        if (other.hasChain()) {
+          mergeChain(other.getChain());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasFileCredentials()) {
+          
+          return false;
+        }
+        if (!hasFileId()) {
+          
+          return false;
+        }
+        if (!hasNewFileSize()) {
+          
+          return false;
+        }
+        if (!hasObjectNumber()) {
+          
+          return false;
+        }
+        if (!hasObjectVersion()) {
+          
+          return false;
+        }
+        if (!hasOffset()) {
+          
+          return false;
+        }
+        if (!hasObj()) {
+          
+          return false;
+        }
+        if (!getFileCredentials().isInitialized()) {
+          
+          return false;
+        }
+        if (!getObj().isInitialized()) {
+          
+          return false;
+        }
+        if (hasChain()) {
+          if (!getChain().isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;
+      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> fileCredentialsBuilder_;
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public boolean hasFileCredentials() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getFileCredentials() {
+        if (fileCredentialsBuilder_ == null) {
+          return fileCredentials_;
+        } else {
+          return fileCredentialsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public Builder setFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
+        if (fileCredentialsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fileCredentials_ = value;
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public Builder setFileCredentials(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder builderForValue) {
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentials_ = builderForValue.build();
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public Builder mergeFileCredentials(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
+        if (fileCredentialsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              fileCredentials_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance()) {
+            fileCredentials_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.newBuilder(fileCredentials_).mergeFrom(value).buildPartial();
+          } else {
+            fileCredentials_ = value;
+          }
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public Builder clearFileCredentials() {
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+          onChanged();
+        } else {
+          fileCredentialsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder getFileCredentialsBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getFileCredentialsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getFileCredentialsOrBuilder() {
+        if (fileCredentialsBuilder_ != null) {
+          return fileCredentialsBuilder_.getMessageOrBuilder();
+        } else {
+          return fileCredentials_;
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.FileCredentials file_credentials = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> 
+          getFileCredentialsFieldBuilder() {
+        if (fileCredentialsBuilder_ == null) {
+          fileCredentialsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder>(
+                  fileCredentials_,
+                  getParentForChildren(),
+                  isClean());
+          fileCredentials_ = null;
+        }
+        return fileCredentialsBuilder_;
+      }
+
+      // required string file_id = 2;
+      private java.lang.Object fileId_ = "";
+      /**
+       * <code>required string file_id = 2;</code>
+       */
+      public boolean hasFileId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       */
+      public java.lang.String getFileId() {
+        java.lang.Object ref = fileId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          fileId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFileIdBytes() {
+        java.lang.Object ref = fileId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       */
+      public Builder setFileId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        fileId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       */
+      public Builder clearFileId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fileId_ = getDefaultInstance().getFileId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       */
+      public Builder setFileIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        fileId_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required fixed64 new_file_size = 3;
+      private long newFileSize_ ;
+      /**
+       * <code>required fixed64 new_file_size = 3;</code>
+       */
+      public boolean hasNewFileSize() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required fixed64 new_file_size = 3;</code>
+       */
+      public long getNewFileSize() {
+        return newFileSize_;
+      }
+      /**
+       * <code>required fixed64 new_file_size = 3;</code>
+       */
+      public Builder setNewFileSize(long value) {
+        bitField0_ |= 0x00000004;
+        newFileSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 new_file_size = 3;</code>
+       */
+      public Builder clearNewFileSize() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        newFileSize_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // required fixed64 object_number = 7;
+      private long objectNumber_ ;
+      /**
+       * <code>required fixed64 object_number = 7;</code>
+       */
+      public boolean hasObjectNumber() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required fixed64 object_number = 7;</code>
+       */
+      public long getObjectNumber() {
+        return objectNumber_;
+      }
+      /**
+       * <code>required fixed64 object_number = 7;</code>
+       */
+      public Builder setObjectNumber(long value) {
+        bitField0_ |= 0x00000008;
+        objectNumber_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 object_number = 7;</code>
+       */
+      public Builder clearObjectNumber() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        objectNumber_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // required fixed64 object_version = 4;
+      private long objectVersion_ ;
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       */
+      public boolean hasObjectVersion() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       */
+      public long getObjectVersion() {
+        return objectVersion_;
+      }
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       */
+      public Builder setObjectVersion(long value) {
+        bitField0_ |= 0x00000010;
+        objectVersion_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 object_version = 4;</code>
+       */
+      public Builder clearObjectVersion() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        objectVersion_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // required fixed32 offset = 5;
+      private int offset_ ;
+      /**
+       * <code>required fixed32 offset = 5;</code>
+       */
+      public boolean hasOffset() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>required fixed32 offset = 5;</code>
+       */
+      public int getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>required fixed32 offset = 5;</code>
+       */
+      public Builder setOffset(int value) {
+        bitField0_ |= 0x00000020;
+        offset_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 offset = 5;</code>
+       */
+      public Builder clearOffset() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        offset_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required .xtreemfs.pbrpc.ObjectData obj = 6;
+      private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData obj_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder> objBuilder_;
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+       */
+      public boolean hasObj() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getObj() {
+        if (objBuilder_ == null) {
+          return obj_;
+        } else {
+          return objBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+       */
+      public Builder setObj(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData value) {
+        if (objBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          obj_ = value;
+          onChanged();
+        } else {
+          objBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+       */
+      public Builder setObj(
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder builderForValue) {
+        if (objBuilder_ == null) {
+          obj_ = builderForValue.build();
+          onChanged();
+        } else {
+          objBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+       */
+      public Builder mergeObj(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData value) {
+        if (objBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) == 0x00000040) &&
+              obj_ != org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance()) {
+            obj_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.newBuilder(obj_).mergeFrom(value).buildPartial();
+          } else {
+            obj_ = value;
+          }
+          onChanged();
+        } else {
+          objBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+       */
+      public Builder clearObj() {
+        if (objBuilder_ == null) {
+          obj_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
+          onChanged();
+        } else {
+          objBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder getObjBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getObjFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getObjOrBuilder() {
+        if (objBuilder_ != null) {
+          return objBuilder_.getMessageOrBuilder();
+        } else {
+          return obj_;
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder> 
+          getObjFieldBuilder() {
+        if (objBuilder_ == null) {
+          objBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder>(
+                  obj_,
+                  getParentForChildren(),
+                  isClean());
+          obj_ = null;
+        }
+        return objBuilder_;
+      }
+
+      // optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;
+      private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain chain_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChainOrBuilder> chainBuilder_;
+      /**
+       * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+       *
+       * <pre>
+       * Replicas the update has to be forwarded to by the receiver.
+       * Not set if the update is sent to all backups by the primary.
+       * </pre>
+       */
+      public boolean hasChain() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+       *
+       * <pre>
+       * Replicas the update has to be forwarded to by the receiver.
+       * Not set if the update is sent to all backups by the primary.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain getChain() {
+        if (chainBuilder_ == null) {
+          return chain_;
+        } else {
+          return chainBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+       *
+       * <pre>
+       * Replicas the update has to be forwarded to by the receiver.
+       * Not set if the update is sent to all backups by the primary.
+       * </pre>
+       */
+      public Builder setChain(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain value) {
+        if (chainBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          chain_ = value;
+          onChanged();
+        } else {
+          chainBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+       *
+       * <pre>
+       * Replicas the update has to be forwarded to by the receiver.
+       * Not set if the update is sent to all backups by the primary.
+       * </pre>
+       */
+      public Builder setChain(
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.Builder builderForValue) {
+        if (chainBuilder_ == null) {
+          chain_ = builderForValue.build();
+          onChanged();
+        } else {
+          chainBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+       *
+       * <pre>
+       * Replicas the update has to be forwarded to by the receiver.
+       * Not set if the update is sent to all backups by the primary.
+       * </pre>
+       */
+      public Builder mergeChain(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain value) {
+        if (chainBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) == 0x00000080) &&
+              chain_ != org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.getDefaultInstance()) {
+            chain_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.newBuilder(chain_).mergeFrom(value).buildPartial();
+          } else {
+            chain_ = value;
+          }
+          onChanged();
+        } else {
+          chainBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+       *
+       * <pre>
+       * Replicas the update has to be forwarded to by the receiver.
+       * Not set if the update is sent to all backups by the primary.
+       * </pre>
+       */
+      public Builder clearChain() {
+        if (chainBuilder_ == null) {
+          chain_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.getDefaultInstance();
+          onChanged();
+        } else {
+          chainBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000080);
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+       *
+       * <pre>
+       * Replicas the update has to be forwarded to by the receiver.
+       * Not set if the update is sent to all backups by the primary.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.Builder getChainBuilder() {
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return getChainFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+       *
+       * <pre>
+       * Replicas the update has to be forwarded to by the receiver.
+       * Not set if the update is sent to all backups by the primary.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChainOrBuilder getChainOrBuilder() {
+        if (chainBuilder_ != null) {
+          return chainBuilder_.getMessageOrBuilder();
+        } else {
+          return chain_;
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ReplicaUpdateChain chain = 8;</code>
+       *
+       * <pre>
+       * Replicas the update has to be forwarded to by the receiver.
+       * Not set if the update is sent to all backups by the primary.
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChainOrBuilder> 
+          getChainFieldBuilder() {
+        if (chainBuilder_ == null) {
+          chainBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChainOrBuilder>(
+                  chain_,
+                  getParentForChildren(),
+                  isClean());
+          chain_ = null;
+        }
+        return chainBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rwr_updateRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_rwr_updateRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_updateRequest)
+  }
+
+  public interface xtreemfs_rwr_updateResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional fixed32 num_acks = 1;
+    /**
+     * <code>optional fixed32 num_acks = 1;</code>
+     *
+     * <pre>
+     * Number of replicas that have written the update, i.e. the
+     * receiver and its successors in the chain. OSDs that do not
+     * support chained updates do not set it, which counts as one.
+     * </pre>
+     */
+    boolean hasNumAcks();
+    /**
+     * <code>optional fixed32 num_acks = 1;</code>
+     *
+     * <pre>
+     * Number of replicas that have written the update, i.e. the
+     * receiver and its successors in the chain. OSDs that do not
+     * support chained updates do not set it, which counts as one.
+     * </pre>
+     */
+    int getNumAcks();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_updateResponse}
+   */
+  public static final class xtreemfs_rwr_updateResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_rwr_updateResponseOrBuilder {
+    // Use xtreemfs_rwr_updateResponse.newBuilder() to construct.
+    private xtreemfs_rwr_updateResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_rwr_updateResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_rwr_updateResponse defaultInstance;
+    public static xtreemfs_rwr_updateResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_rwr_updateResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_rwr_updateResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 13: {
+              bitField0_ |= 0x00000001;
+              numAcks_ = input.readFixed32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_rwr_updateResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_rwr_updateResponse>() {
+      public xtreemfs_rwr_updateResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_rwr_updateResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_rwr_updateResponse> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional fixed32 num_acks = 1;
+    public static final int NUM_ACKS_FIELD_NUMBER = 1;
+    private int numAcks_;
+    /**
+     * <code>optional fixed32 num_acks = 1;</code>
+     *
+     * <pre>
+     * Number of replicas that have written the update, i.e. the
+     * receiver and its successors in the chain. OSDs that do not
+     * support chained updates do not set it, which counts as one.
+     * </pre>
+     */
+    public boolean hasNumAcks() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional fixed32 num_acks = 1;</code>
+     *
+     * <pre>
+     * Number of replicas that have written the update, i.e. the
+     * receiver and its successors in the chain. OSDs that do not
+     * support chained updates do not set it, which counts as one.
+     * </pre>
+     */
+    public int getNumAcks() {
+      return numAcks_;
+    }
+
+    private void initFields() {
+      numAcks_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeFixed32(1, numAcks_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(1, numAcks_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rwr_updateResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        numAcks_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
       }
-      /**
-       * <code>required fixed32 offset = 5;</code>
-       */
-      public int getOffset() {
-        return offset_;
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
-      /**
-       * <code>required fixed32 offset = 5;</code>
-       */
-      public Builder setOffset(int value) {
-        bitField0_ |= 0x00000020;
-        offset_ = value;
-        onChanged();
-        return this;
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateResponse_descriptor;
       }
-      /**
-       * <code>required fixed32 offset = 5;</code>
-       */
-      public Builder clearOffset() {
-        bitField0_ = (bitField0_ & ~0x00000020);
-        offset_ = 0;
-        onChanged();
-        return this;
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse.getDefaultInstance();
       }
 
-      // required .xtreemfs.pbrpc.ObjectData obj = 6;
-      private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData obj_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder> objBuilder_;
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
-       */
-      public boolean hasObj() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
       }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData getObj() {
-        if (objBuilder_ == null) {
-          return obj_;
-        } else {
-          return objBuilder_.getMessage();
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
         }
+        result.numAcks_ = numAcks_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
       }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
-       */
-      public Builder setObj(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData value) {
-        if (objBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          obj_ = value;
-          onChanged();
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse)other);
         } else {
-          objBuilder_.setMessage(value);
+          super.mergeFrom(other);
+          return this;
         }
-        bitField0_ |= 0x00000040;
-        return this;
       }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
-       */
-      public Builder setObj(
-          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder builderForValue) {
-        if (objBuilder_ == null) {
-          obj_ = builderForValue.build();
-          onChanged();
-        } else {
-          objBuilder_.setMessage(builderForValue.build());
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse.getDefaultInstance()) return this;
+        if (other.hasNumAcks()) {
+          setNumAcks(other.getNumAcks());
         }
-        bitField0_ |= 0x00000040;
+        this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
-      /**
-       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
-       */
-      public Builder mergeObj(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData value) {
-        if (objBuilder_ == null) {
-          if (((bitField0_ & 0x00000040) == 0x00000040) &&
-              obj_ != org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance()) {
-            obj_ =
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.newBuilder(obj_).mergeFrom(value).buildPartial();
-          } else {
-            obj_ = value;
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
           }
-          onChanged();
-        } else {
-          objBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000040;
         return this;
       }
+      private int bitField0_;
+
+      // optional fixed32 num_acks = 1;
+      private int numAcks_ ;
       /**
-       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+       * <code>optional fixed32 num_acks = 1;</code>
+       *
+       * <pre>
+       * Number of replicas that have written the update, i.e. the
+       * receiver and its successors in the chain. OSDs that do not
+       * support chained updates do not set it, which counts as one.
+       * </pre>
        */
-      public Builder clearObj() {
-        if (objBuilder_ == null) {
-          obj_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.getDefaultInstance();
-          onChanged();
-        } else {
-          objBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000040);
-        return this;
+      public boolean hasNumAcks() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+       * <code>optional fixed32 num_acks = 1;</code>
+       *
+       * <pre>
+       * Number of replicas that have written the update, i.e. the
+       * receiver and its successors in the chain. OSDs that do not
+       * support chained updates do not set it, which counts as one.
+       * </pre>
        */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder getObjBuilder() {
-        bitField0_ |= 0x00000040;
-        onChanged();
-        return getObjFieldBuilder().getBuilder();
+      public int getNumAcks() {
+        return numAcks_;
       }
       /**
-       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+       * <code>optional fixed32 num_acks = 1;</code>
+       *
+       * <pre>
+       * Number of replicas that have written the update, i.e. the
+       * receiver and its successors in the chain. OSDs that do not
+       * support chained updates do not set it, which counts as one.
+       * </pre>
        */
-      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder getObjOrBuilder() {
-        if (objBuilder_ != null) {
-          return objBuilder_.getMessageOrBuilder();
-        } else {
-          return obj_;
-        }
+      public Builder setNumAcks(int value) {
+        bitField0_ |= 0x00000001;
+        numAcks_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>required .xtreemfs.pbrpc.ObjectData obj = 6;</code>
+       * <code>optional fixed32 num_acks = 1;</code>
+       *
+       * <pre>
+       * Number of replicas that have written the update, i.e. the
+       * receiver and its successors in the chain. OSDs that do not
+       * support chained updates do not set it, which counts as one.
+       * </pre>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder> 
-          getObjFieldBuilder() {
-        if (objBuilder_ == null) {
-          objBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData.Builder, org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectDataOrBuilder>(
-                  obj_,
-                  getParentForChildren(),
-                  isClean());
-          obj_ = null;
-        }
-        return objBuilder_;
+      public Builder clearNumAcks() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        numAcks_ = 0;
+        onChanged();
+        return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rwr_updateRequest)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rwr_updateResponse)
     }
 
     static {
-      defaultInstance = new xtreemfs_rwr_updateRequest(true);
+      defaultInstance = new xtreemfs_rwr_updateResponse(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_updateRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rwr_updateResponse)
   }
 
   public interface xtreemfs_internal_get_gmaxRequestOrBuilder
@@ -30617,6 +32015,11 @@ public final class OSD {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_xtreemfs_pbrpc_AuthoritativeReplicaState_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_ReplicaUpdateChain_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_ReplicaUpdateChain_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_descriptor;
   private static
@@ -30707,6 +32110,11 @@ public final class OSD {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateResponse_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_gmaxRequest_descriptor;
   private static
@@ -30794,193 +32202,197 @@ public final class OSD {
       "on\030\004 \002(\006\022<\n\016objectVersions\030\002 \003(\0132$.xtree" +
       "mfs.pbrpc.ObjectVersionMapping\0221\n\014trunca" +
       "te_log\030\003 \002(\0132\033.xtreemfs.pbrpc.TruncateLo" +
-      "g\"u\n\031InternalReadLocalResponse\022(\n\004data\030\001" +
-      " \002(\0132\032.xtreemfs.pbrpc.ObjectData\022.\n\nobje",
-      "ct_set\030\002 \003(\0132\032.xtreemfs.pbrpc.ObjectList" +
-      "\"\250\001\n\013readRequest\0229\n\020file_credentials\030\001 \002" +
+      "g\"?\n\022ReplicaUpdateChain\022\020\n\010num_acks\030\001 \002(" +
+      "\007\022\027\n\017replica_indices\030\002 \003(\007\"u\n\031InternalRe",
+      "adLocalResponse\022(\n\004data\030\001 \002(\0132\032.xtreemfs" +
+      ".pbrpc.ObjectData\022.\n\nobject_set\030\002 \003(\0132\032." +
+      "xtreemfs.pbrpc.ObjectList\"\250\001\n\013readReques" +
+      "t\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemfs.p" +
+      "brpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n" +
+      "\robject_number\030\003 \002(\006\022\026\n\016object_version\030\004" +
+      " \002(\006\022\016\n\006offset\030\005 \002(\007\022\016\n\006length\030\006 \002(\007\"t\n\017" +
+      "truncateRequest\0229\n\020file_credentials\030\001 \002(" +
+      "\0132\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007fi" +
+      "le_id\030\002 \002(\t\022\025\n\rnew_file_size\030\003 \002(\006\"`\n\022un",
+      "link_osd_Request\0229\n\020file_credentials\030\001 \002" +
       "(\0132\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007f" +
-      "ile_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016o" +
-      "bject_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\016\n\006l" +
-      "ength\030\006 \002(\007\"t\n\017truncateRequest\0229\n\020file_c" +
-      "redentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCr" +
-      "edentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rnew_file_s" +
-      "ize\030\003 \002(\006\"`\n\022unlink_osd_Request\0229\n\020file_" +
-      "credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileC",
-      "redentials\022\017\n\007file_id\030\002 \002(\t\"\341\001\n\014writeReq" +
-      "uest\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemf" +
-      "s.pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t" +
-      "\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object_versio" +
-      "n\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\025\n\rlease_timeout" +
-      "\030\006 \002(\006\022/\n\013object_data\030\007 \002(\0132\032.xtreemfs.p" +
-      "brpc.ObjectData\"q\n\036xtreemfs_broadcast_gm" +
-      "axRequest\022\017\n\007file_id\030\001 \002(\t\022\026\n\016truncate_e" +
-      "poch\030\002 \002(\006\022\023\n\013last_object\030\003 \002(\006\022\021\n\tfile_" +
-      "size\030\004 \002(\006\"\231\001\n\034xtreemfs_check_objectRequ",
-      "est\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemfs" +
-      ".pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t\022" +
-      "\025\n\robject_number\030\003 \002(\006\022\026\n\016object_version" +
-      "\030\004 \002(\006\"7\n$xtreemfs_cleanup_get_resultsRe" +
-      "sponse\022\017\n\007results\030\001 \003(\t\"9\n#xtreemfs_clea" +
-      "nup_is_runningResponse\022\022\n\nis_running\030\001 \002" +
-      "(\010\"n\n\035xtreemfs_cleanup_startRequest\022\026\n\016r" +
-      "emove_zombies\030\001 \002(\010\022\035\n\025remove_unavail_vo" +
-      "lume\030\002 \002(\010\022\026\n\016lost_and_found\030\003 \002(\010\"1\n\037xt" +
-      "reemfs_cleanup_statusResponse\022\016\n\006status\030",
-      "\001 \002(\t\"\226\001\n\031xtreemfs_rwr_fetchRequest\0229\n\020f" +
-      "ile_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.F" +
-      "ileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\robjec" +
-      "t_number\030\003 \002(\006\022\026\n\016object_version\030\004 \002(\006\"\232" +
-      "\001\n\035xtreemfs_repair_objectRequest\0229\n\020file" +
+      "ile_id\030\002 \002(\t\"\341\001\n\014writeRequest\0229\n\020file_cr" +
+      "edentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCre" +
+      "dentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\robject_numb" +
+      "er\030\003 \002(\006\022\026\n\016object_version\030\004 \002(\006\022\016\n\006offs" +
+      "et\030\005 \002(\007\022\025\n\rlease_timeout\030\006 \002(\006\022/\n\013objec" +
+      "t_data\030\007 \002(\0132\032.xtreemfs.pbrpc.ObjectData" +
+      "\"q\n\036xtreemfs_broadcast_gmaxRequest\022\017\n\007fi" +
+      "le_id\030\001 \002(\t\022\026\n\016truncate_epoch\030\002 \002(\006\022\023\n\013l",
+      "ast_object\030\003 \002(\006\022\021\n\tfile_size\030\004 \002(\006\"\231\001\n\034" +
+      "xtreemfs_check_objectRequest\0229\n\020file_cre" +
+      "dentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCred" +
+      "entials\022\017\n\007file_id\030\002 \002(\t\022\025\n\robject_numbe" +
+      "r\030\003 \002(\006\022\026\n\016object_version\030\004 \002(\006\"7\n$xtree" +
+      "mfs_cleanup_get_resultsResponse\022\017\n\007resul" +
+      "ts\030\001 \003(\t\"9\n#xtreemfs_cleanup_is_runningR" +
+      "esponse\022\022\n\nis_running\030\001 \002(\010\"n\n\035xtreemfs_" +
+      "cleanup_startRequest\022\026\n\016remove_zombies\030\001" +
+      " \002(\010\022\035\n\025remove_unavail_volume\030\002 \002(\010\022\026\n\016l",
+      "ost_and_found\030\003 \002(\010\"1\n\037xtreemfs_cleanup_" +
+      "statusResponse\022\016\n\006status\030\001 \002(\t\"\226\001\n\031xtree" +
+      "mfs_rwr_fetchRequest\0229\n\020file_credentials" +
+      "\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentials\022" +
+      "\017\n\007file_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022" +
+      "\026\n\016object_version\030\004 \002(\006\"\232\001\n\035xtreemfs_rep" +
+      "air_objectRequest\0229\n\020file_credentials\030\001 " +
+      "\002(\0132\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007" +
+      "file_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016" +
+      "object_version\030\004 \002(\006\"N\n\036xtreemfs_rwr_fle",
+      "ase_msgRequest\022\027\n\017sender_hostname\030\001 \002(\t\022" +
+      "\023\n\013sender_port\030\002 \002(\007\"\212\001\n%xtreemfs_rwr_se" +
+      "t_primary_epochRequest\0229\n\020file_credentia" +
+      "ls\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredential" +
+      "s\022\017\n\007file_id\030\002 \002(\t\022\025\n\rprimary_epoch\030\003 \002(" +
+      "\007\"\207\001\n\032xtreemfs_rwr_statusRequest\0229\n\020file" +
       "_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.File" +
-      "Credentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\robject_n" +
-      "umber\030\003 \002(\006\022\026\n\016object_version\030\004 \002(\006\"N\n\036x" +
-      "treemfs_rwr_flease_msgRequest\022\027\n\017sender_" +
-      "hostname\030\001 \002(\t\022\023\n\013sender_port\030\002 \002(\007\"\212\001\n%",
-      "xtreemfs_rwr_set_primary_epochRequest\0229\n" +
-      "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc" +
-      ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rpri" +
-      "mary_epoch\030\003 \002(\007\"\207\001\n\032xtreemfs_rwr_status" +
-      "Request\0229\n\020file_credentials\030\001 \002(\0132\037.xtre" +
-      "emfs.pbrpc.FileCredentials\022\017\n\007file_id\030\002 " +
-      "\002(\t\022\035\n\025max_local_obj_version\030\003 \002(\006\"\231\001\n\034x" +
-      "treemfs_rwr_truncateRequest\0229\n\020file_cred" +
-      "entials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCrede" +
-      "ntials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rnew_file_size",
-      "\030\003 \002(\006\022\026\n\016object_version\030\004 \002(\006\"\347\001\n\032xtree" +
-      "mfs_rwr_updateRequest\0229\n\020file_credential" +
-      "s\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentials" +
-      "\022\017\n\007file_id\030\002 \002(\t\022\025\n\rnew_file_size\030\003 \002(\006" +
-      "\022\025\n\robject_number\030\007 \002(\006\022\026\n\016object_versio" +
-      "n\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\'\n\003obj\030\006 \002(\0132\032.x" +
-      "treemfs.pbrpc.ObjectData\"o\n!xtreemfs_int" +
-      "ernal_get_gmaxRequest\0229\n\020file_credential" +
-      "s\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentials" +
-      "\022\017\n\007file_id\030\002 \002(\t\"t\n&xtreemfs_internal_g",
-      "et_file_sizeRequest\0229\n\020file_credentials\030" +
-      "\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentials\022\017" +
-      "\n\007file_id\030\002 \002(\t\"<\n\'xtreemfs_internal_get" +
-      "_file_sizeResponse\022\021\n\tfile_size\030\001 \002(\006\"\222\002" +
-      "\n#xtreemfs_internal_read_localRequest\0229\n" +
-      "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc" +
-      ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\robj" +
-      "ect_number\030\003 \002(\006\022\026\n\016object_version\030\004 \002(\006" +
-      "\022\016\n\006offset\030\005 \002(\007\022\016\n\006length\030\006 \002(\007\022\032\n\022atta" +
-      "ch_object_list\030\007 \002(\010\0224\n\020required_objects",
-      "\030\010 \003(\0132\032.xtreemfs.pbrpc.ObjectList\"u\n\'xt" +
-      "reemfs_internal_get_object_setRequest\0229\n" +
-      "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc" +
-      ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\"=\n)xtr" +
-      "eemfs_internal_get_fileid_listResponse\022\020" +
-      "\n\010file_ids\030\001 \003(\t\"t\n\013lockRequest\0229\n\020file_" +
-      "credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileC" +
-      "redentials\022*\n\014lock_request\030\002 \002(\0132\024.xtree" +
-      "mfs.pbrpc.Lock\"j\n\025xtreemfs_pingMesssage\022" +
-      "7\n\013coordinates\030\001 \002(\0132\".xtreemfs.pbrpc.Vi",
-      "valdiCoordinates\022\030\n\020request_response\030\002 \002" +
-      "(\010\"\246\001\n\036xtreemfs_rwr_auth_stateRequest\0229\n" +
-      "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc" +
-      ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\0228\n\005sta" +
-      "te\030\003 \002(\0132).xtreemfs.pbrpc.AuthoritativeR" +
-      "eplicaState\"\207\001\n\"xtreemfs_rwr_reset_compl" +
-      "eteRequest\0229\n\020file_credentials\030\001 \002(\0132\037.x" +
-      "treemfs.pbrpc.FileCredentials\022\017\n\007file_id" +
-      "\030\002 \002(\t\022\025\n\rprimary_epoch\030\003 \002(\007*\215\001\n\017OSDHea" +
-      "lthResult\022\034\n\030OSD_HEALTH_RESULT_PASSED\020\000\022",
-      "\035\n\031OSD_HEALTH_RESULT_WARNING\020\001\022\034\n\030OSD_HE" +
-      "ALTH_RESULT_FAILED\020\002\022\037\n\033OSD_HEALTH_RESUL" +
-      "T_NOT_AVAIL\020\0032\253\034\n\nOSDService\022L\n\004read\022\033.x" +
-      "treemfs.pbrpc.readRequest\032\032.xtreemfs.pbr" +
-      "pc.ObjectData\"\013\215\265\030\n\000\000\000\230\265\030\001\022V\n\010truncate\022\037" +
-      ".xtreemfs.pbrpc.truncateRequest\032 .xtreem" +
-      "fs.pbrpc.OSDWriteResponse\"\007\215\265\030\013\000\000\000\022T\n\006un" +
-      "link\022\".xtreemfs.pbrpc.unlink_osd_Request" +
-      "\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\014\000\000\000" +
-      "\022T\n\005write\022\034.xtreemfs.pbrpc.writeRequest\032",
-      " .xtreemfs.pbrpc.OSDWriteResponse\"\013\215\265\030\r\000" +
-      "\000\000\240\265\030\001\022q\n\027xtreemfs_broadcast_gmax\022..xtre" +
-      "emfs.pbrpc.xtreemfs_broadcast_gmaxReques" +
-      "t\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\024\000\000" +
-      "\000\022j\n\025xtreemfs_check_object\022,.xtreemfs.pb" +
-      "rpc.xtreemfs_check_objectRequest\032\032.xtree" +
-      "mfs.pbrpc.ObjectData\"\007\215\265\030\025\000\000\000\022{\n\034xtreemf" +
-      "s_cleanup_get_results\022\034.xtreemfs.pbrpc.e" +
-      "mptyRequest\0324.xtreemfs.pbrpc.xtreemfs_cl" +
-      "eanup_get_resultsResponse\"\007\215\265\030\036\000\000\000\022y\n\033xt",
-      "reemfs_cleanup_is_running\022\034.xtreemfs.pbr" +
-      "pc.emptyRequest\0323.xtreemfs.pbrpc.xtreemf" +
-      "s_cleanup_is_runningResponse\"\007\215\265\030\037\000\000\000\022o\n" +
-      "\026xtreemfs_cleanup_start\022-.xtreemfs.pbrpc" +
-      ".xtreemfs_cleanup_startRequest\032\035.xtreemf" +
-      "s.pbrpc.emptyResponse\"\007\215\265\030 \000\000\000\022q\n\027xtreem" +
-      "fs_cleanup_status\022\034.xtreemfs.pbrpc.empty" +
-      "Request\032/.xtreemfs.pbrpc.xtreemfs_cleanu" +
-      "p_statusResponse\"\007\215\265\030!\000\000\000\022]\n\025xtreemfs_cl" +
-      "eanup_stop\022\034.xtreemfs.pbrpc.emptyRequest",
-      "\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\"\000\000\000" +
-      "\022g\n\037xtreemfs_cleanup_versions_start\022\034.xt" +
-      "reemfs.pbrpc.emptyRequest\032\035.xtreemfs.pbr" +
-      "pc.emptyResponse\"\007\215\265\030#\000\000\000\022o\n\026xtreemfs_re" +
-      "pair_object\022-.xtreemfs.pbrpc.xtreemfs_re" +
-      "pair_objectRequest\032\035.xtreemfs.pbrpc.empt" +
-      "yResponse\"\007\215\265\030$\000\000\000\022d\n\022xtreemfs_rwr_fetch" +
-      "\022).xtreemfs.pbrpc.xtreemfs_rwr_fetchRequ" +
-      "est\032\032.xtreemfs.pbrpc.ObjectData\"\007\215\265\030I\000\000\000" +
-      "\022u\n\027xtreemfs_rwr_flease_msg\022..xtreemfs.p",
-      "brpc.xtreemfs_rwr_flease_msgRequest\032\035.xt" +
-      "reemfs.pbrpc.emptyResponse\"\013\215\265\030G\000\000\000\240\265\030\001\022" +
-      "^\n\023xtreemfs_rwr_notify\022\037.xtreemfs.pbrpc." +
-      "FileCredentials\032\035.xtreemfs.pbrpc.emptyRe" +
-      "sponse\"\007\215\265\030K\000\000\000\022|\n\036xtreemfs_rwr_set_prim" +
-      "ary_epoch\0225.xtreemfs.pbrpc.xtreemfs_rwr_" +
-      "set_primary_epochRequest\032\032.xtreemfs.pbrp" +
-      "c.ObjectData\"\007\215\265\030N\000\000\000\022i\n\023xtreemfs_rwr_st" +
-      "atus\022*.xtreemfs.pbrpc.xtreemfs_rwr_statu" +
-      "sRequest\032\035.xtreemfs.pbrpc.ReplicaStatus\"",
-      "\007\215\265\030L\000\000\000\022m\n\025xtreemfs_rwr_truncate\022,.xtre" +
-      "emfs.pbrpc.xtreemfs_rwr_truncateRequest\032" +
-      "\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030J\000\000\000\022" +
-      "m\n\023xtreemfs_rwr_update\022*.xtreemfs.pbrpc." +
-      "xtreemfs_rwr_updateRequest\032\035.xtreemfs.pb" +
-      "rpc.emptyResponse\"\013\215\265\030H\000\000\000\240\265\030\001\022q\n\027xtreem" +
-      "fs_rwr_auth_state\022..xtreemfs.pbrpc.xtree" +
-      "mfs_rwr_auth_stateRequest\032\035.xtreemfs.pbr" +
-      "pc.emptyResponse\"\007\215\265\030O\000\000\000\022y\n\033xtreemfs_rw" +
-      "r_reset_complete\0222.xtreemfs.pbrpc.xtreem",
-      "fs_rwr_reset_completeRequest\032\035.xtreemfs." +
-      "pbrpc.emptyResponse\"\007\215\265\030P\000\000\000\022v\n\032xtreemfs" +
-      "_internal_get_gmax\0221.xtreemfs.pbrpc.xtre" +
-      "emfs_internal_get_gmaxRequest\032\034.xtreemfs" +
-      ".pbrpc.InternalGmax\"\007\215\265\030(\000\000\000\022h\n\032xtreemfs" +
-      "_internal_truncate\022\037.xtreemfs.pbrpc.trun" +
-      "cateRequest\032 .xtreemfs.pbrpc.OSDWriteRes" +
-      "ponse\"\007\215\265\030)\000\000\000\022\233\001\n\037xtreemfs_internal_get" +
-      "_file_size\0226.xtreemfs.pbrpc.xtreemfs_int" +
-      "ernal_get_file_sizeRequest\0327.xtreemfs.pb",
-      "rpc.xtreemfs_internal_get_file_sizeRespo" +
-      "nse\"\007\215\265\030*\000\000\000\022\207\001\n\034xtreemfs_internal_read_" +
-      "local\0223.xtreemfs.pbrpc.xtreemfs_internal" +
-      "_read_localRequest\032).xtreemfs.pbrpc.Inte" +
-      "rnalReadLocalResponse\"\007\215\265\030+\000\000\000\022\200\001\n xtree" +
-      "mfs_internal_get_object_set\0227.xtreemfs.p" +
-      "brpc.xtreemfs_internal_get_object_setReq" +
-      "uest\032\032.xtreemfs.pbrpc.ObjectList\"\007\215\265\030,\000\000" +
-      "\000\022\205\001\n!xtreemfs_internal_get_fileid_list\022" +
-      "\034.xtreemfs.pbrpc.emptyRequest\0329.xtreemfs",
-      ".pbrpc.xtreemfs_internal_get_fileid_list" +
-      "Response\"\007\215\265\030-\000\000\000\022S\n\025xtreemfs_lock_acqui" +
-      "re\022\033.xtreemfs.pbrpc.lockRequest\032\024.xtreem" +
-      "fs.pbrpc.Lock\"\007\215\265\0302\000\000\000\022Q\n\023xtreemfs_lock_" +
-      "check\022\033.xtreemfs.pbrpc.lockRequest\032\024.xtr" +
-      "eemfs.pbrpc.Lock\"\007\215\265\0303\000\000\000\022\\\n\025xtreemfs_lo" +
-      "ck_release\022\033.xtreemfs.pbrpc.lockRequest\032" +
-      "\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\0304\000\000\000\022" +
-      "f\n\rxtreemfs_ping\022%.xtreemfs.pbrpc.xtreem" +
-      "fs_pingMesssage\032%.xtreemfs.pbrpc.xtreemf",
-      "s_pingMesssage\"\007\215\265\030<\000\000\000\022Y\n\021xtreemfs_shut" +
-      "down\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xtr" +
-      "eemfs.pbrpc.emptyResponse\"\007\215\265\030F\000\000\000\032\007\225\265\0301" +
-      "u\000\000B(\n&org.xtreemfs.pbrpc.generatedinter" +
-      "faces"
+      "Credentials\022\017\n\007file_id\030\002 \002(\t\022\035\n\025max_loca" +
+      "l_obj_version\030\003 \002(\006\"\231\001\n\034xtreemfs_rwr_tru" +
+      "ncateRequest\0229\n\020file_credentials\030\001 \002(\0132\037",
+      ".xtreemfs.pbrpc.FileCredentials\022\017\n\007file_" +
+      "id\030\002 \002(\t\022\025\n\rnew_file_size\030\003 \002(\006\022\026\n\016objec" +
+      "t_version\030\004 \002(\006\"\232\002\n\032xtreemfs_rwr_updateR" +
+      "equest\0229\n\020file_credentials\030\001 \002(\0132\037.xtree" +
+      "mfs.pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002" +
+      "(\t\022\025\n\rnew_file_size\030\003 \002(\006\022\025\n\robject_numb" +
+      "er\030\007 \002(\006\022\026\n\016object_version\030\004 \002(\006\022\016\n\006offs" +
+      "et\030\005 \002(\007\022\'\n\003obj\030\006 \002(\0132\032.xtreemfs.pbrpc.O" +
+      "bjectData\0221\n\005chain\030\010 \001(\0132\".xtreemfs.pbrp" +
+      "c.ReplicaUpdateChain\"/\n\033xtreemfs_rwr_upd",
+      "ateResponse\022\020\n\010num_acks\030\001 \001(\007\"o\n!xtreemf" +
+      "s_internal_get_gmaxRequest\0229\n\020file_crede" +
+      "ntials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCreden" +
+      "tials\022\017\n\007file_id\030\002 \002(\t\"t\n&xtreemfs_inter" +
+      "nal_get_file_sizeRequest\0229\n\020file_credent" +
+      "ials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredenti" +
+      "als\022\017\n\007file_id\030\002 \002(\t\"<\n\'xtreemfs_interna" +
+      "l_get_file_sizeResponse\022\021\n\tfile_size\030\001 \002" +
+      "(\006\"\222\002\n#xtreemfs_internal_read_localReque" +
+      "st\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemfs.",
+      "pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025" +
+      "\n\robject_number\030\003 \002(\006\022\026\n\016object_version\030" +
+      "\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\016\n\006length\030\006 \002(\007\022\032\n" +
+      "\022attach_object_list\030\007 \002(\010\0224\n\020required_ob" +
+      "jects\030\010 \003(\0132\032.xtreemfs.pbrpc.ObjectList\"" +
+      "u\n\'xtreemfs_internal_get_object_setReque" +
+      "st\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemfs." +
+      "pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t\"=" +
+      "\n)xtreemfs_internal_get_fileid_listRespo" +
+      "nse\022\020\n\010file_ids\030\001 \003(\t\"t\n\013lockRequest\0229\n\020",
+      "file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc." +
+      "FileCredentials\022*\n\014lock_request\030\002 \002(\0132\024." +
+      "xtreemfs.pbrpc.Lock\"j\n\025xtreemfs_pingMess" +
+      "sage\0227\n\013coordinates\030\001 \002(\0132\".xtreemfs.pbr" +
+      "pc.VivaldiCoordinates\022\030\n\020request_respons" +
+      "e\030\002 \002(\010\"\246\001\n\036xtreemfs_rwr_auth_stateReque" +
+      "st\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemfs." +
+      "pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t\0228" +
+      "\n\005state\030\003 \002(\0132).xtreemfs.pbrpc.Authorita" +
+      "tiveReplicaState\"\207\001\n\"xtreemfs_rwr_reset_",
+      "completeRequest\0229\n\020file_credentials\030\001 \002(" +
+      "\0132\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007fi" +
+      "le_id\030\002 \002(\t\022\025\n\rprimary_epoch\030\003 \002(\007*\215\001\n\017O" +
+      "SDHealthResult\022\034\n\030OSD_HEALTH_RESULT_PASS" +
+      "ED\020\000\022\035\n\031OSD_HEALTH_RESULT_WARNING\020\001\022\034\n\030O" +
+      "SD_HEALTH_RESULT_FAILED\020\002\022\037\n\033OSD_HEALTH_" +
+      "RESULT_NOT_AVAIL\020\0032\271\034\n\nOSDService\022L\n\004rea" +
+      "d\022\033.xtreemfs.pbrpc.readRequest\032\032.xtreemf" +
+      "s.pbrpc.ObjectData\"\013\215\265\030\n\000\000\000\230\265\030\001\022V\n\010trunc" +
+      "ate\022\037.xtreemfs.pbrpc.truncateRequest\032 .x",
+      "treemfs.pbrpc.OSDWriteResponse\"\007\215\265\030\013\000\000\000\022" +
+      "T\n\006unlink\022\".xtreemfs.pbrpc.unlink_osd_Re" +
+      "quest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265" +
+      "\030\014\000\000\000\022T\n\005write\022\034.xtreemfs.pbrpc.writeReq" +
+      "uest\032 .xtreemfs.pbrpc.OSDWriteResponse\"\013" +
+      "\215\265\030\r\000\000\000\240\265\030\001\022q\n\027xtreemfs_broadcast_gmax\022." +
+      ".xtreemfs.pbrpc.xtreemfs_broadcast_gmaxR" +
+      "equest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215" +
+      "\265\030\024\000\000\000\022j\n\025xtreemfs_check_object\022,.xtreem" +
+      "fs.pbrpc.xtreemfs_check_objectRequest\032\032.",
+      "xtreemfs.pbrpc.ObjectData\"\007\215\265\030\025\000\000\000\022{\n\034xt" +
+      "reemfs_cleanup_get_results\022\034.xtreemfs.pb" +
+      "rpc.emptyRequest\0324.xtreemfs.pbrpc.xtreem" +
+      "fs_cleanup_get_resultsResponse\"\007\215\265\030\036\000\000\000\022" +
+      "y\n\033xtreemfs_cleanup_is_running\022\034.xtreemf" +
+      "s.pbrpc.emptyRequest\0323.xtreemfs.pbrpc.xt" +
+      "reemfs_cleanup_is_runningResponse\"\007\215\265\030\037\000" +
+      "\000\000\022o\n\026xtreemfs_cleanup_start\022-.xtreemfs." +
+      "pbrpc.xtreemfs_cleanup_startRequest\032\035.xt" +
+      "reemfs.pbrpc.emptyResponse\"\007\215\265\030 \000\000\000\022q\n\027x",
+      "treemfs_cleanup_status\022\034.xtreemfs.pbrpc." +
+      "emptyRequest\032/.xtreemfs.pbrpc.xtreemfs_c" +
+      "leanup_statusResponse\"\007\215\265\030!\000\000\000\022]\n\025xtreem" +
+      "fs_cleanup_stop\022\034.xtreemfs.pbrpc.emptyRe" +
+      "quest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265" +
+      "\030\"\000\000\000\022g\n\037xtreemfs_cleanup_versions_start" +
+      "\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xtreemf" +
+      "s.pbrpc.emptyResponse\"\007\215\265\030#\000\000\000\022o\n\026xtreem" +
+      "fs_repair_object\022-.xtreemfs.pbrpc.xtreem" +
+      "fs_repair_objectRequest\032\035.xtreemfs.pbrpc",
+      ".emptyResponse\"\007\215\265\030$\000\000\000\022d\n\022xtreemfs_rwr_" +
+      "fetch\022).xtreemfs.pbrpc.xtreemfs_rwr_fetc" +
+      "hRequest\032\032.xtreemfs.pbrpc.ObjectData\"\007\215\265" +
+      "\030I\000\000\000\022u\n\027xtreemfs_rwr_flease_msg\022..xtree" +
+      "mfs.pbrpc.xtreemfs_rwr_flease_msgRequest" +
+      "\032\035.xtreemfs.pbrpc.emptyResponse\"\013\215\265\030G\000\000\000" +
+      "\240\265\030\001\022^\n\023xtreemfs_rwr_notify\022\037.xtreemfs.p" +
+      "brpc.FileCredentials\032\035.xtreemfs.pbrpc.em" +
+      "ptyResponse\"\007\215\265\030K\000\000\000\022|\n\036xtreemfs_rwr_set" +
+      "_primary_epoch\0225.xtreemfs.pbrpc.xtreemfs",
+      "_rwr_set_primary_epochRequest\032\032.xtreemfs" +
+      ".pbrpc.ObjectData\"\007\215\265\030N\000\000\000\022i\n\023xtreemfs_r" +
+      "wr_status\022*.xtreemfs.pbrpc.xtreemfs_rwr_" +
+      "statusRequest\032\035.xtreemfs.pbrpc.ReplicaSt" +
+      "atus\"\007\215\265\030L\000\000\000\022m\n\025xtreemfs_rwr_truncate\022," +
+      ".xtreemfs.pbrpc.xtreemfs_rwr_truncateReq" +
+      "uest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030" +
+      "J\000\000\000\022{\n\023xtreemfs_rwr_update\022*.xtreemfs.p" +
+      "brpc.xtreemfs_rwr_updateRequest\032+.xtreem" +
+      "fs.pbrpc.xtreemfs_rwr_updateResponse\"\013\215\265",
+      "\030H\000\000\000\240\265\030\001\022q\n\027xtreemfs_rwr_auth_state\022..x" +
+      "treemfs.pbrpc.xtreemfs_rwr_auth_stateReq" +
+      "uest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030" +
+      "O\000\000\000\022y\n\033xtreemfs_rwr_reset_complete\0222.xt" +
+      "reemfs.pbrpc.xtreemfs_rwr_reset_complete" +
+      "Request\032\035.xtreemfs.pbrpc.emptyResponse\"\007" +
+      "\215\265\030P\000\000\000\022v\n\032xtreemfs_internal_get_gmax\0221." +
+      "xtreemfs.pbrpc.xtreemfs_internal_get_gma" +
+      "xRequest\032\034.xtreemfs.pbrpc.InternalGmax\"\007" +
+      "\215\265\030(\000\000\000\022h\n\032xtreemfs_internal_truncate\022\037.",
+      "xtreemfs.pbrpc.truncateRequest\032 .xtreemf" +
+      "s.pbrpc.OSDWriteResponse\"\007\215\265\030)\000\000\000\022\233\001\n\037xt" +
+      "reemfs_internal_get_file_size\0226.xtreemfs" +
+      ".pbrpc.xtreemfs_internal_get_file_sizeRe" +
+      "quest\0327.xtreemfs.pbrpc.xtreemfs_internal" +
+      "_get_file_sizeResponse\"\007\215\265\030*\000\000\000\022\207\001\n\034xtre" +
+      "emfs_internal_read_local\0223.xtreemfs.pbrp" +
+      "c.xtreemfs_internal_read_localRequest\032)." +
+      "xtreemfs.pbrpc.InternalReadLocalResponse" +
+      "\"\007\215\265\030+\000\000\000\022\200\001\n xtreemfs_internal_get_obje",
+      "ct_set\0227.xtreemfs.pbrpc.xtreemfs_interna" +
+      "l_get_object_setRequest\032\032.xtreemfs.pbrpc" +
+      ".ObjectList\"\007\215\265\030,\000\000\000\022\205\001\n!xtreemfs_intern" +
+      "al_get_fileid_list\022\034.xtreemfs.pbrpc.empt" +
+      "yRequest\0329.xtreemfs.pbrpc.xtreemfs_inter" +
+      "nal_get_fileid_listResponse\"\007\215\265\030-\000\000\000\022S\n\025" +
+      "xtreemfs_lock_acquire\022\033.xtreemfs.pbrpc.l" +
+      "ockRequest\032\024.xtreemfs.pbrpc.Lock\"\007\215\265\0302\000\000" +
+      "\000\022Q\n\023xtreemfs_lock_check\022\033.xtreemfs.pbrp" +
+      "c.lockRequest\032\024.xtreemfs.pbrpc.Lock\"\007\215\265\030",
+      "3\000\000\000\022\\\n\025xtreemfs_lock_release\022\033.xtreemfs" +
+      ".pbrpc.lockRequest\032\035.xtreemfs.pbrpc.empt" +
+      "yResponse\"\007\215\265\0304\000\000\000\022f\n\rxtreemfs_ping\022%.xt" +
+      "reemfs.pbrpc.xtreemfs_pingMesssage\032%.xtr" +
+      "eemfs.pbrpc.xtreemfs_pingMesssage\"\007\215\265\030<\000" +
+      "\000\000\022Y\n\021xtreemfs_shutdown\022\034.xtreemfs.pbrpc" +
+      ".emptyRequest\032\035.xtreemfs.pbrpc.emptyResp" +
+      "onse\"\007\215\265\030F\000\000\000\032\007\225\265\0301u\000\000B(\n&org.xtreemfs.p" +
+      "brpc.generatedinterfaces"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -31047,170 +32459,182 @@ public final class OSD {
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_AuthoritativeReplicaState_descriptor,
               new java.lang.String[] { "TruncateEpoch", "MaxObjVersion", "ObjectVersions", "TruncateLog", });
-          internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_descriptor =
+          internal_static_xtreemfs_pbrpc_ReplicaUpdateChain_descriptor =
             getDescriptor().getMessageTypes().get(10);
+          internal_static_xtreemfs_pbrpc_ReplicaUpdateChain_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_ReplicaUpdateChain_descriptor,
+              new java.lang.String[] { "NumAcks", "ReplicaIndices", });
+          internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_descriptor =
+            getDescriptor().getMessageTypes().get(11);
           internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_InternalReadLocalResponse_descriptor,
               new java.lang.String[] { "Data", "ObjectSet", });
           internal_static_xtreemfs_pbrpc_readRequest_descriptor =
-            getDescriptor().getMessageTypes().get(11);
+            getDescriptor().getMessageTypes().get(12);
           internal_static_xtreemfs_pbrpc_readRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_readRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", "ObjectNumber", "ObjectVersion", "Offset", "Length", });
           internal_static_xtreemfs_pbrpc_truncateRequest_descriptor =
-            getDescriptor().getMessageTypes().get(12);
+            getDescriptor().getMessageTypes().get(13);
           internal_static_xtreemfs_pbrpc_truncateRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_truncateRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", "NewFileSize", });
           internal_static_xtreemfs_pbrpc_unlink_osd_Request_descriptor =
-            getDescriptor().getMessageTypes().get(13);
+            getDescriptor().getMessageTypes().get(14);
           internal_static_xtreemfs_pbrpc_unlink_osd_Request_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_unlink_osd_Request_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", });
           internal_static_xtreemfs_pbrpc_writeRequest_descriptor =
-            getDescriptor().getMessageTypes().get(14);
+            getDescriptor().getMessageTypes().get(15);
           internal_static_xtreemfs_pbrpc_writeRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_writeRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", "ObjectNumber", "ObjectVersion", "Offset", "LeaseTimeout", "ObjectData", });
           internal_static_xtreemfs_pbrpc_xtreemfs_broadcast_gmaxRequest_descriptor =
-            getDescriptor().getMessageTypes().get(15);
+            getDescriptor().getMessageTypes().get(16);
           internal_static_xtreemfs_pbrpc_xtreemfs_broadcast_gmaxRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_broadcast_gmaxRequest_descriptor,
               new java.lang.String[] { "FileId", "TruncateEpoch", "LastObject", "FileSize", });
           internal_static_xtreemfs_pbrpc_xtreemfs_check_objectRequest_descriptor =
-            getDescriptor().getMessageTypes().get(16);
+            getDescriptor().getMessageTypes().get(17);
           internal_static_xtreemfs_pbrpc_xtreemfs_check_objectRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_check_objectRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", "ObjectNumber", "ObjectVersion", });
           internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_get_resultsResponse_descriptor =
-            getDescriptor().getMessageTypes().get(17);
+            getDescriptor().getMessageTypes().get(18);
           internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_get_resultsResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_get_resultsResponse_descriptor,
               new java.lang.String[] { "Results", });
           internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_is_runningResponse_descriptor =
-            getDescriptor().getMessageTypes().get(18);
+            getDescriptor().getMessageTypes().get(19);
           internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_is_runningResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_is_runningResponse_descriptor,
               new java.lang.String[] { "IsRunning", });
           internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_startRequest_descriptor =
-            getDescriptor().getMessageTypes().get(19);
+            getDescriptor().getMessageTypes().get(20);
           internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_startRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_startRequest_descriptor,
               new java.lang.String[] { "RemoveZombies", "RemoveUnavailVolume", "LostAndFound", });
           internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_statusResponse_descriptor =
-            getDescriptor().getMessageTypes().get(20);
+            getDescriptor().getMessageTypes().get(21);
           internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_statusResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_cleanup_statusResponse_descriptor,
               new java.lang.String[] { "Status", });
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_fetchRequest_descriptor =
-            getDescriptor().getMessageTypes().get(21);
+            getDescriptor().getMessageTypes().get(22);
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_fetchRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_rwr_fetchRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", "ObjectNumber", "ObjectVersion", });
           internal_static_xtreemfs_pbrpc_xtreemfs_repair_objectRequest_descriptor =
-            getDescriptor().getMessageTypes().get(22);
+            getDescriptor().getMessageTypes().get(23);
           internal_static_xtreemfs_pbrpc_xtreemfs_repair_objectRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_repair_objectRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", "ObjectNumber", "ObjectVersion", });
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_flease_msgRequest_descriptor =
-            getDescriptor().getMessageTypes().get(23);
+            getDescriptor().getMessageTypes().get(24);
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_flease_msgRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_rwr_flease_msgRequest_descriptor,
               new java.lang.String[] { "SenderHostname", "SenderPort", });
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_set_primary_epochRequest_descriptor =
-            getDescriptor().getMessageTypes().get(24);
+            getDescriptor().getMessageTypes().get(25);
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_set_primary_epochRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_rwr_set_primary_epochRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", "PrimaryEpoch", });
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_statusRequest_descriptor =
-            getDescriptor().getMessageTypes().get(25);
+            getDescriptor().getMessageTypes().get(26);
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_statusRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_rwr_statusRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", "MaxLocalObjVersion", });
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_truncateRequest_descriptor =
-            getDescriptor().getMessageTypes().get(26);
+            getDescriptor().getMessageTypes().get(27);
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_truncateRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_rwr_truncateRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", "NewFileSize", "ObjectVersion", });
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_descriptor =
-            getDescriptor().getMessageTypes().get(27);
+            getDescriptor().getMessageTypes().get(28);
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateRequest_descriptor,
-              new java.lang.String[] { "FileCredentials", "FileId", "NewFileSize", "ObjectNumber", "ObjectVersion", "Offset", "Obj", });
+              new java.lang.String[] { "FileCredentials", "FileId", "NewFileSize", "ObjectNumber", "ObjectVersion", "Offset", "Obj", "Chain", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateResponse_descriptor =
+            getDescriptor().getMessageTypes().get(29);
+          internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_rwr_updateResponse_descriptor,
+              new java.lang.String[] { "NumAcks", });
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_gmaxRequest_descriptor =
-            getDescriptor().getMessageTypes().get(28);
+            getDescriptor().getMessageTypes().get(30);
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_gmaxRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_gmaxRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", });
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_file_sizeRequest_descriptor =
-            getDescriptor().getMessageTypes().get(29);
+            getDescriptor().getMessageTypes().get(31);
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_file_sizeRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_file_sizeRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", });
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_file_sizeResponse_descriptor =
-            getDescriptor().getMessageTypes().get(30);
+            getDescriptor().getMessageTypes().get(32);
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_file_sizeResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_file_sizeResponse_descriptor,
               new java.lang.String[] { "FileSize", });
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_read_localRequest_descriptor =
-            getDescriptor().getMessageTypes().get(31);
+            getDescriptor().getMessageTypes().get(33);
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_read_localRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_internal_read_localRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", "ObjectNumber", "ObjectVersion", "Offset", "Length", "AttachObjectList", "RequiredObjects", });
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_object_setRequest_descriptor =
-            getDescriptor().getMessageTypes().get(32);
+            getDescriptor().getMessageTypes().get(34);
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_object_setRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_object_setRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", });
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_fileid_listResponse_descriptor =
-            getDescriptor().getMessageTypes().get(33);
+            getDescriptor().getMessageTypes().get(35);
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_fileid_listResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_fileid_listResponse_descriptor,
               new java.lang.String[] { "FileIds", });
           internal_static_xtreemfs_pbrpc_lockRequest_descriptor =
-            getDescriptor().getMessageTypes().get(34);
+            getDescriptor().getMessageTypes().get(36);
           internal_static_xtreemfs_pbrpc_lockRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_lockRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "LockRequest", });
           internal_static_xtreemfs_pbrpc_xtreemfs_pingMesssage_descriptor =
-            getDescriptor().getMessageTypes().get(35);
+            getDescriptor().getMessageTypes().get(37);
           internal_static_xtreemfs_pbrpc_xtreemfs_pingMesssage_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_pingMesssage_descriptor,
               new java.lang.String[] { "Coordinates", "RequestResponse", });
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_auth_stateRequest_descriptor =
-            getDescriptor().getMessageTypes().get(36);
+            getDescriptor().getMessageTypes().get(38);
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_auth_stateRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_rwr_auth_stateRequest_descriptor,
               new java.lang.String[] { "FileCredentials", "FileId", "State", });
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_reset_completeRequest_descriptor =
-            getDescriptor().getMessageTypes().get(37);
+            getDescriptor().getMessageTypes().get(39);
           internal_static_xtreemfs_pbrpc_xtreemfs_rwr_reset_completeRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_rwr_reset_completeRequest_descriptor,
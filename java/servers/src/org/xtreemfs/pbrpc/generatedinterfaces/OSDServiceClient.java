@@ -1,5 +1,5 @@
-//automatically generated from OSD.proto at Thu Jul 10 14:56:46 CEST 2014
-//(c) 2014. See LICENSE file for details.
+//automatically generated from OSD.proto at Mon Oct 19 07:36:24 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 package org.xtreemfs.pbrpc.generatedinterfaces;
 
@@ -271,16 +271,16 @@ public class OSDServiceClient {
          return xtreemfs_rwr_truncate(server, authHeader, userCreds,msg);
     }
 
-    public RPCResponse xtreemfs_rwr_update(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, OSD.xtreemfs_rwr_updateRequest input, ReusableBuffer data) throws IOException {
+    public RPCResponse<OSD.xtreemfs_rwr_updateResponse> xtreemfs_rwr_update(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, OSD.xtreemfs_rwr_updateRequest input, ReusableBuffer data) throws IOException {
          if (server == null) server = defaultServer;
          if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
-         RPCResponse response = new RPCResponse(null);
+         RPCResponse<OSD.xtreemfs_rwr_updateResponse> response = new RPCResponse<OSD.xtreemfs_rwr_updateResponse>(OSD.xtreemfs_rwr_updateResponse.getDefaultInstance());
          client.sendRequest(server, authHeader, userCreds, 30001, 72, input, data, response, false);
          return response;
     }
 
-    public RPCResponse xtreemfs_rwr_update(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, GlobalTypes.FileCredentials file_credentials, String file_id, long new_file_size, long object_number, long object_version, int offset, OSD.ObjectData obj, ReusableBuffer data) throws IOException {
-         final OSD.xtreemfs_rwr_updateRequest msg = OSD.xtreemfs_rwr_updateRequest.newBuilder().setFileCredentials(file_credentials).setFileId(file_id).setNewFileSize(new_file_size).setObjectNumber(object_number).setObjectVersion(object_version).setOffset(offset).setObj(obj).build();
+    public RPCResponse<OSD.xtreemfs_rwr_updateResponse> xtreemfs_rwr_update(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, GlobalTypes.FileCredentials file_credentials, String file_id, long new_file_size, long object_number, long object_version, int offset, OSD.ObjectData obj, OSD.ReplicaUpdateChain chain, ReusableBuffer data) throws IOException {
+         final OSD.xtreemfs_rwr_updateRequest msg = OSD.xtreemfs_rwr_updateRequest.newBuilder().setFileCredentials(file_credentials).setFileId(file_id).setNewFileSize(new_file_size).setObjectNumber(object_number).setObjectVersion(object_version).setOffset(offset).setObj(obj).setChain(chain).build();
          return xtreemfs_rwr_update(server, authHeader, userCreds,msg, data);
     }
 
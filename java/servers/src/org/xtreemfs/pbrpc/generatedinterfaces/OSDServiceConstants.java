@@ -1,5 +1,5 @@
-//automatically generated from OSD.proto at Thu Jul 10 14:56:46 CEST 2014
-//(c) 2014. See LICENSE file for details.
+//automatically generated from OSD.proto at Mon Oct 19 07:50:08 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 package org.xtreemfs.pbrpc.generatedinterfaces;
 
@@ -103,7 +103,7 @@ public class OSDServiceConstants {
            case 78: return OSD.ObjectData.getDefaultInstance();
            case 76: return OSD.ReplicaStatus.getDefaultInstance();
            case 74: return null;
-           case 72: return null;
+           case 72: return OSD.xtreemfs_rwr_updateResponse.getDefaultInstance();
            case 79: return null;
            case 80: return null;
            case 40: return OSD.InternalGmax.getDefaultInstance();
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.utils;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.util.CLIParser;
+import org.xtreemfs.foundation.util.CLIParser.CliOption;
+import org.xtreemfs.osd.storage.benchmark.StorageLayoutBenchmark;
+import org.xtreemfs.osd.storage.benchmark.StorageLayoutBenchmarkConfig;
+import org.xtreemfs.osd.storage.benchmark.StorageLayoutBenchmarkConfig.ConfigBuilder;
+import org.xtreemfs.osd.storage.benchmark.StorageLayoutBenchmarkResult;
+
+/**
+ * Benchmarks an OSD storage layout on a local directory, without starting an OSD.
+ */
+public class xtfs_layout_benchmark {
+
+    public static void main(String[] args) {
+
+        Logging.start(Logging.LEVEL_WARN, Category.tool);
+
+        Map<String, CliOption> options = new HashMap<String, CliOption>();
+        List<String> arguments = new ArrayList<String>(1);
+        options.put(utils.OPTION_HELP, new CliOption(CliOption.OPTIONTYPE.SWITCH, "show usage information", ""));
+        options.put(utils.OPTION_HELP_LONG, new CliOption(CliOption.OPTIONTYPE.SWITCH, "show usage information",
+                ""));
+        options.put("c", new CliOption(CliOption.OPTIONTYPE.STRING,
+                "OSD config file to take the object directory, storage layout and storage threads from",
+                "<osdconfig.properties>"));
+        options.put("layout", new CliOption(CliOption.OPTIONTYPE.STRING,
+                "storage layout class (default: HashStorageLayout)", "<class>"));
+        options.put("s", new CliOption(CliOption.OPTIONTYPE.NUMBER, "object size in KiB (default: 128)", "<size>"));
+        options.put("io", new CliOption(CliOption.OPTIONTYPE.NUMBER,
+                "size of partial overwrites in KiB (default: object size)", "<size>"));
+        options.put("o", new CliOption(CliOption.OPTIONTYPE.NUMBER, "objects per file (default: 128)", "<num>"));
+        options.put("f", new CliOption(CliOption.OPTIONTYPE.NUMBER, "files per thread (default: 16)", "<num>"));
+        options.put("t", new CliOption(CliOption.OPTIONTYPE.NUMBER,
+                "number of storage threads (default: storage_threads of the OSD config or 1)", "<num>"));
+        options.put("n", new CliOption(CliOption.OPTIONTYPE.NUMBER,
+                "operations per thread in the mixed phase (default: 10000)", "<num>"));
+        options.put("mix", new CliOption(CliOption.OPTIONTYPE.STRING,
+                "weights of read, write, overwrite and truncate operations (default: 70,10,15,5)",
+                "<r,w,o,t>"));
+        options.put("checksums", new CliOption(CliOption.OPTIONTYPE.SWITCH, "enable object checksums", ""));
+        options.put("checksum-algorithm", new CliOption(CliOption.OPTIONTYPE.STRING,
+                "checksum algorithm (default: Adler32)", "<algorithm>"));
+        options.put("cow", new CliOption(CliOption.OPTIONTYPE.SWITCH, "copy-on-write every write", ""));
+        options.put("sync", new CliOption(CliOption.OPTIONTYPE.SWITCH, "write synchronously", ""));
+        options.put("seed", new CliOption(CliOption.OPTIONTYPE.NUMBER, "random seed (default: 42)", "<seed>"));
+        options.put("csv", new CliOption(CliOption.OPTIONTYPE.SWITCH, "print the results as CSV", ""));
+        options.put("no-cleanup", new CliOption(CliOption.OPTIONTYPE.SWITCH,
+                "do not delete the benchmark files afterwards", ""));
+
+        try {
+            CLIParser.parseCLI(args, options, arguments);
+        } catch (IllegalArgumentException exc) {
+            error(exc.getMessage(), options);
+        }
+
+        if (options.get(utils.OPTION_HELP).switchValue || options.get(utils.OPTION_HELP_LONG).switchValue) {
+            usage(options);
+            return;
+        }
+
+        ConfigBuilder builder = StorageLayoutBenchmarkConfig.newBuilder();
+        String objectDir = null;
+        int numThreads = 1;
+
+        try {
+            if (options.get("c").stringValue != null) {
+                Properties props = new Properties();
+                FileInputStream in = new FileInputStream(options.get("c").stringValue);
+                try {
+                    props.load(in);
+                } finally {
+                    in.close();
+                }
+                builder.setOSDProperties(props);
+                objectDir = props.getProperty("object_dir");
+                if (props.getProperty("storage_layout") != null)
+                    builder.setLayoutName(props.getProperty("storage_layout").trim());
+                if (props.getProperty("storage_threads") != null)
+                    numThreads = Integer.parseInt(props.getProperty("storage_threads").trim());
+            }
+        } catch (IOException exc) {
+            error("cannot read OSD config file: " + exc.getMessage(), options);
+        }
+
+        if (arguments.size() == 1)
+            objectDir = arguments.get(0);
+        else if (arguments.size() > 1 || objectDir == null)
+            error("invalid number of arguments", options);
+
+        builder.setObjectDir(objectDir);
+
+        if (options.get("layout").stringValue != null)
+            builder.setLayoutName(options.get("layout").stringValue);
+        if (options.get("s").numValue != null)
+            builder.setObjectSize(options.get("s").numValue.intValue() * 1024);
+        if (options.get("io").numValue != null)
+            builder.setIoSize(options.get("io").numValue.intValue() * 1024);
+        if (options.get("o").numValue != null)
+            builder.setObjectsPerFile(options.get("o").numValue.intValue());
+        if (options.get("f").numValue != null)
+            builder.setFilesPerThread(options.get("f").numValue.intValue());
+        if (options.get("t").numValue != null)
+            numThreads = options.get("t").numValue.intValue();
+        builder.setNumThreads(numThreads);
+        if (options.get("n").numValue != null)
+            builder.setOperationsPerThread(options.get("n").numValue.intValue());
+        if (options.get("mix").stringValue != null) {
+            String[] weights = options.get("mix").stringValue.split(",");
+            if (weights.length != 4)
+                error("invalid operation mix: " + options.get("mix").stringValue, options);
+            try {
+                builder.setMix(Integer.parseInt(weights[0].trim()), Integer.parseInt(weights[1].trim()), Integer
+                        .parseInt(weights[2].trim()), Integer.parseInt(weights[3].trim()));
+            } catch (NumberFormatException exc) {
+                error("invalid operation mix: " + options.get("mix").stringValue, options);
+            }
+        }
+        builder.setChecksums(options.get("checksums").switchValue);
+        if (options.get("checksum-algorithm").stringValue != null)
+            builder.setChecksumAlgorithm(options.get("checksum-algorithm").stringValue);
+        builder.setCow(options.get("cow").switchValue);
+        builder.setSync(options.get("sync").switchValue);
+        if (options.get("seed").numValue != null)
+            builder.setSeed(options.get("seed").numValue);
+
+        StorageLayoutBenchmarkConfig config = null;
+        try {
+            config = builder.build();
+        } catch (IllegalArgumentException exc) {
+            error(exc.getMessage(), options);
+        }
+
+        StorageLayoutBenchmark benchmark = null;
+        try {
+            benchmark = new StorageLayoutBenchmark(config);
+            System.err.println("running storage layout benchmark: " + config);
+
+            List<StorageLayoutBenchmarkResult> results = benchmark.run();
+
+            if (options.get("csv").switchValue) {
+                System.out.println(StorageLayoutBenchmarkResult.getCSVHeader());
+                for (StorageLayoutBenchmarkResult result : results)
+                    System.out.println(result.toCSV());
+            } else {
+                for (StorageLayoutBenchmarkResult result : results)
+                    System.out.println(result);
+            }
+        } catch (Exception exc) {
+            System.err.println("benchmark failed: " + exc);
+            if (exc.getCause() != null)
+                exc.getCause().printStackTrace();
+            System.exit(1);
+        } finally {
+            if (benchmark != null && !options.get("no-cleanup").switchValue) {
+                try {
+                    benchmark.cleanup();
+                } catch (IOException exc) {
+                    System.err.println("could not delete benchmark files: " + exc);
+                }
+            }
+        }
+    }
+
+    private static void error(String message, Map<String, CliOption> options) {
+        System.err.println(message);
+        System.out.println();
+        usage(options);
+        System.exit(1);
+    }
+
+    private static void usage(Map<String, CliOption> options) {
+
+        System.out.println("usage: xtfs_layout_benchmark [options] [<object directory>]");
+        System.out.println("Writes all objects of a set of files (fill phase) and then executes a random mix of");
+        System.out.println("reads, writes, partial overwrites and truncates on them (mixed phase), directly on");
+        System.out.println("the storage layout. The object directory is taken from the OSD config file if no");
+        System.out.println("directory is given. Existing data in the directory is not touched.");
+        System.out.println();
+        System.out.println("Options:");
+        utils.printOptions(options);
+    }
+
+}
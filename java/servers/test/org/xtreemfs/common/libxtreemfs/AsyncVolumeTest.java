@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SYSTEM_V_FCNTL;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntry;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.XATTR_FLAGS;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestEnvironment;
+import org.xtreemfs.test.TestHelper;
+
+/**
+ * Tests the asynchronous operations of {@link Volume} and {@link FileHandle} on a volume whose files are
+ * striped across three OSDs.
+ */
+public class AsyncVolumeTest {
+    @Rule
+    public final TestRule       testLog     = TestHelper.testLog;
+
+    private static final int    WIDTH       = 3;
+
+    private static final int    STRIPE_SIZE = 4 * 1024;
+
+    private static final String VOLUME_NAME = "asyncVolume";
+
+    private static final int    FLAGS_CREAT = SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                                                    | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber();
+
+    private TestEnvironment     testEnv;
+
+    private UserCredentials     userCredentials;
+
+    private AdminClient         client;
+
+    private AdminVolume         volume;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL, SetupUtils.DEBUG_CATEGORIES);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        FSUtils.delTree(new java.io.File(SetupUtils.TEST_DIR));
+
+        testEnv = new TestEnvironment(new TestEnvironment.Services[] { TestEnvironment.Services.DIR_SERVICE,
+                TestEnvironment.Services.DIR_CLIENT, TestEnvironment.Services.TIME_SYNC,
+                TestEnvironment.Services.RPC_CLIENT, TestEnvironment.Services.MRC, TestEnvironment.Services.OSD,
+                TestEnvironment.Services.OSD, TestEnvironment.Services.OSD });
+        testEnv.start();
+
+        userCredentials = UserCredentials.newBuilder().setUsername("test").addGroups("test").build();
+        String dirAddress = testEnv.getDIRAddress().getHostName() + ":" + testEnv.getDIRAddress().getPort();
+        String mrcAddress = testEnv.getMRCAddress().getHostName() + ":" + testEnv.getMRCAddress().getPort();
+
+        Options options = new Options();
+        client = ClientFactory.createAdminClient(dirAddress, userCredentials, null, options);
+        client.start();
+
+        client.createVolume(mrcAddress, RPCAuthentication.authNone, userCredentials, VOLUME_NAME);
+        volume = client.openVolume(VOLUME_NAME, null, options);
+        volume.setXAttr(userCredentials, "/", "xtreemfs.default_sp",
+                "{\"pattern\":\"" + StripingPolicyType.STRIPING_POLICY_RAID0 + "\",\"width\":" + WIDTH
+                        + ",\"size\":" + STRIPE_SIZE / 1024 + "}", XATTR_FLAGS.XATTR_FLAGS_REPLACE);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        try {
+            if (client != null)
+                client.shutdown();
+        } finally {
+            testEnv.shutdown();
+        }
+    }
+
+    @Test
+    public void testMetadataOperations() throws Exception {
+        volume.createDirectory(userCredentials, "/dir", 0777);
+        final int files = 20;
+        List<ClientFuture<FileHandle>> opened = new ArrayList<ClientFuture<FileHandle>>();
+        for (int i = 0; i < files; i++) {
+            opened.add(volume.openFileAsync(userCredentials, "/dir/file" + i, FLAGS_CREAT, 0644));
+        }
+        for (ClientFuture<FileHandle> future : opened) {
+            future.await().close();
+        }
+
+        DirectoryEntries entries = volume.readDirAsync(userCredentials, "/dir", 0, 0, false).await();
+        Set<String> names = new HashSet<String>();
+        for (DirectoryEntry entry : entries.getEntriesList()) {
+            names.add(entry.getName());
+        }
+        for (int i = 0; i < files; i++) {
+            assertTrue(names.contains("file" + i));
+        }
+
+        Stat stat = volume.getAttrAsync(userCredentials, "/dir/file0").await();
+        assertEquals(0, stat.getSize());
+        assertEquals(0644, stat.getMode() & 0777);
+
+        // errors are reported by the future
+        ClientFuture<Stat> missing = volume.getAttrAsync(userCredentials, "/dir/missing");
+        try {
+            missing.await();
+            fail("the file does not exist");
+        } catch (PosixErrorException e) {
+            assertEquals(POSIXErrno.POSIX_ERROR_ENOENT, e.getPosixError());
+        }
+        assertTrue(missing.hasFailed());
+        try {
+            missing.get();
+            fail("the file does not exist");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof PosixErrorException);
+        }
+    }
+
+    @Test
+    public void testReadAndWrite() throws Exception {
+        FileHandle file = volume.openFileAsync(userCredentials, "/file", FLAGS_CREAT, 0777).await();
+
+        // write 32 blocks concurrently, each of which spans two objects
+        final int blocks = 32;
+        final int blockSize = STRIPE_SIZE;
+        byte[] data = new byte[blocks * blockSize + STRIPE_SIZE / 2];
+        new Random(42).nextBytes(data);
+        List<ClientFuture<Integer>> writes = new ArrayList<ClientFuture<Integer>>();
+        writes.add(file.writeAsync(userCredentials, data, 0, STRIPE_SIZE / 2, 0));
+        for (int i = 0; i < blocks; i++) {
+            int offset = STRIPE_SIZE / 2 + i * blockSize;
+            writes.add(file.writeAsync(userCredentials, data, offset, blockSize, offset));
+        }
+        for (ClientFuture<Integer> write : writes) {
+            assertTrue(write.await() > 0);
+        }
+        assertEquals(data.length, file.getAttr(userCredentials).getSize());
+
+        // read the whole file at once and in blocks
+        byte[] result = new byte[data.length + STRIPE_SIZE];
+        assertEquals(data.length, file.readAsync(userCredentials, result, 0, result.length, 0).await()
+                .intValue());
+        for (int i = 0; i < data.length; i++) {
+            assertEquals(data[i], result[i]);
+        }
+
+        byte[] blockResult = new byte[blocks * blockSize];
+        List<ClientFuture<Integer>> reads = new ArrayList<ClientFuture<Integer>>();
+        for (int i = 0; i < blocks; i++) {
+            reads.add(file.readAsync(userCredentials, blockResult, i * blockSize, blockSize, i * blockSize));
+        }
+        for (ClientFuture<Integer> read : reads) {
+            assertEquals(blockSize, read.await().intValue());
+        }
+        for (int i = 0; i < blockResult.length; i++) {
+            assertEquals(data[i], blockResult[i]);
+        }
+
+        // reads beyond the end of the file return nothing
+        assertEquals(0, file.readAsync(userCredentials, result, 0, STRIPE_SIZE, data.length).await().intValue());
+        file.close();
+    }
+
+    @Test
+    public void testListeners() throws Exception {
+        final byte[] data = new byte[3 * STRIPE_SIZE];
+        new Random(42).nextBytes(data);
+        final byte[] result = new byte[data.length];
+        final CountDownLatch done = new CountDownLatch(1);
+        final List<Throwable> errors = new ArrayList<Throwable>();
+
+        // open, write and read the file by chaining listeners, i.e. without waiting
+        ClientFuture<FileHandle> opened = volume.openFileAsync(userCredentials, "/file", FLAGS_CREAT, 0777);
+        opened.addListener(
+                new ClientFutureListener<FileHandle>() {
+                    @Override
+                    public void futureCompleted(ClientFuture<FileHandle> future) {
+                        try {
+                            final FileHandle file = future.await();
+                            file.writeAsync(userCredentials, data, 0, data.length, 0).addListener(
+                                    new ClientFutureListener<Integer>() {
+                                        @Override
+                                        public void futureCompleted(ClientFuture<Integer> future) {
+                                            try {
+                                                future.await();
+                                                file.readAsync(userCredentials, result, 0, result.length, 0)
+                                                        .addListener(new ClientFutureListener<Integer>() {
+                                                            @Override
+                                                            public void futureCompleted(
+                                                                    ClientFuture<Integer> future) {
+                                                                done.countDown();
+                                                            }
+                                                        });
+                                            } catch (Exception e) {
+                                                errors.add(e);
+                                                done.countDown();
+                                            }
+                                        }
+                                    });
+                        } catch (Exception e) {
+                            errors.add(e);
+                            done.countDown();
+                        }
+                    }
+                });
+
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        assertTrue(errors.toString(), errors.isEmpty());
+        assertArrayEquals(data, result);
+        opened.await().close();
+
+        // listeners of completed futures are executed immediately
+        ClientFuture<Stat> stat = volume.getAttrAsync(userCredentials, "/file");
+        stat.await();
+        final boolean[] called = new boolean[1];
+        stat.addListener(new ClientFutureListener<Stat>() {
+            @Override
+            public void futureCompleted(ClientFuture<Stat> future) {
+                called[0] = true;
+            }
+        });
+        assertTrue(called[0]);
+        assertFalse(stat.cancel(true));
+    }
+
+    @Test
+    public void testCloseWaitsForWrites() throws Exception {
+        byte[] data = new byte[10 * STRIPE_SIZE];
+        new Random(42).nextBytes(data);
+
+        FileHandle file = volume.openFile(userCredentials, "/file", FLAGS_CREAT, 0777);
+        for (int i = 0; i < 10; i++) {
+            file.writeAsync(userCredentials, data, i * STRIPE_SIZE, STRIPE_SIZE, i * STRIPE_SIZE);
+        }
+        file.close();
+        assertEquals(data.length, volume.getAttr(userCredentials, "/file").getSize());
+
+        // O_TRUNC is processed before the future is completed
+        file = volume.openFileAsync(userCredentials, "/file",
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_TRUNC.getNumber() | FLAGS_CREAT, 0777).await();
+        assertEquals(0, file.getAttr(userCredentials).getSize());
+        file.close();
+    }
+}
@@ -7,9 +7,12 @@
 package org.xtreemfs.common.libxtreemfs;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.AfterClass;
@@ -17,12 +20,14 @@ import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestRule;
+import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
 import org.xtreemfs.dir.DIRClient;
 import org.xtreemfs.dir.DIRConfig;
 import org.xtreemfs.dir.DIRRequestDispatcher;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
 import org.xtreemfs.foundation.util.FSUtils;
 import org.xtreemfs.mrc.MRCConfig;
@@ -379,4 +384,80 @@ public class ClientTest {
         fileHandle.close();
         client.shutdown();
     }
+
+    @Test
+    public void testRemoveRecursive() throws Exception {
+        final String VOLUME_NAME = "testRemoveRecursive";
+
+        Options options = new Options();
+        String dirAddress = testEnv.getDIRAddress().getHostName() + ":" + testEnv.getDIRAddress().getPort();
+        String mrcAddress = testEnv.getMRCAddress().getHostName() + ":" + testEnv.getMRCAddress().getPort();
+
+        Client client = ClientFactory.createClient(dirAddress, userCredentials, null, options);
+        client.start();
+
+        client.createVolume(mrcAddress, auth, userCredentials, VOLUME_NAME);
+        Volume volume = client.openVolume(VOLUME_NAME, null, options);
+
+        // Create a directory tree with files that have objects on the OSDs, and entries to be kept.
+        final int flags = SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber();
+        List<String> fileIds = new ArrayList<String>();
+        volume.createDirectory(userCredentials, "/tree", 0777);
+        volume.createDirectory(userCredentials, "/keep", 0777);
+        for (int i = 0; i < 3; i++) {
+            volume.createDirectory(userCredentials, "/tree/dir" + i, 0777);
+            volume.createDirectory(userCredentials, "/tree/dir" + i + "/sub", 0777);
+            for (int j = 0; j < 5; j++) {
+                String path = "/tree/dir" + i + (j % 2 == 0 ? "" : "/sub") + "/file" + j;
+                FileHandle fileHandle = volume.openFile(userCredentials, path, flags, 0777);
+                fileHandle.write(userCredentials, "data".getBytes(), 4, 0);
+                fileHandle.close();
+                fileIds.add(volume.getXAttr(userCredentials, path, "xtreemfs.file_id"));
+            }
+        }
+        volume.symlink(userCredentials, "/keep", "/tree/link");
+        volume.openFile(userCredentials, "/file", flags, 0777).close();
+        volume.openFile(userCredentials, "/keep/file", flags, 0777).close();
+        assertEquals("17", volume.getXAttr(userCredentials, "/", "xtreemfs.num_files"));
+        assertEquals("9", volume.getXAttr(userCredentials, "/", "xtreemfs.num_dirs"));
+
+        // A hard link outside of the tree keeps the file, and the deletion continues after the
+        // pending deletions have been written to the database.
+        volume.link(userCredentials, "/tree/dir0/file0", "/keep/hardlink");
+        fileIds.remove(0);
+
+        volume.removeRecursive(userCredentials, Arrays.asList("/tree", "/file"));
+
+        assertEquals(3, volume.readDir(userCredentials, "/", 0, 0, true).getEntriesCount());
+        volume.getAttr(userCredentials, "/keep/file");
+        assertEquals(1, volume.getAttr(userCredentials, "/keep/hardlink").getNlink());
+        try {
+            volume.getAttr(userCredentials, "/tree/dir0/file0");
+            fail("deleted file still exists");
+        } catch (PosixErrorException e) {
+            assertEquals(POSIXErrno.POSIX_ERROR_ENOENT, e.getPosixError());
+        }
+        assertEquals("2", volume.getXAttr(userCredentials, "/", "xtreemfs.num_files"));
+        assertEquals("2", volume.getXAttr(userCredentials, "/", "xtreemfs.num_dirs"));
+
+        // The objects of the deleted files have been deleted on the OSDs.
+        for (String fileId : fileIds) {
+            for (OSD osd : osds) {
+                assertFalse(osd.getDispatcher().getStorageStage().getStorageLayout().fileExists(fileId));
+            }
+        }
+
+        // Deleting the root directory or a missing path fails.
+        try {
+            volume.removeRecursive(userCredentials, Arrays.asList("/keep", "/missing"));
+            fail("missing path was deleted");
+        } catch (PosixErrorException e) {
+            assertEquals(POSIXErrno.POSIX_ERROR_ENOENT, e.getPosixError());
+        }
+        assertEquals(2, volume.readDir(userCredentials, "/", 0, 0, true).getEntriesCount());
+
+        client.deleteVolume(mrcAddress, auth, userCredentials, VOLUME_NAME);
+        client.shutdown();
+    }
 }
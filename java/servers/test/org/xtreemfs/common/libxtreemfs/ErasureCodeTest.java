@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SYSTEM_V_FCNTL;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.XATTR_FLAGS;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestEnvironment;
+import org.xtreemfs.test.TestHelper;
+
+/**
+ * Writes erasure-coded files and reads them back while some of their OSDs are
+ * unavailable.
+ */
+public class ErasureCodeTest {
+    @Rule
+    public final TestRule        testLog      = TestHelper.testLog;
+
+    private static final int     WIDTH        = 3;
+
+    private static final int     PARITY_WIDTH = 2;
+
+    private static final int     STRIPE_SIZE  = 4 * 1024;
+
+    private static final String  VOLUME_NAME  = "ecVolume";
+
+    private TestEnvironment      testEnv;
+
+    private UserCredentials      userCredentials;
+
+    private Auth                 auth         = RPCAuthentication.authNone;
+
+    private AdminClient          client;
+
+    private AdminVolume          volume;
+
+    private Options              options;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL, SetupUtils.DEBUG_CATEGORIES);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        FSUtils.delTree(new java.io.File(SetupUtils.TEST_DIR));
+
+        TestEnvironment.Services[] services = new TestEnvironment.Services[5 + WIDTH + PARITY_WIDTH];
+        services[0] = TestEnvironment.Services.DIR_SERVICE;
+        services[1] = TestEnvironment.Services.DIR_CLIENT;
+        services[2] = TestEnvironment.Services.TIME_SYNC;
+        services[3] = TestEnvironment.Services.RPC_CLIENT;
+        services[4] = TestEnvironment.Services.MRC;
+        Arrays.fill(services, 5, services.length, TestEnvironment.Services.OSD);
+        testEnv = new TestEnvironment(services);
+        testEnv.start();
+
+        userCredentials = UserCredentials.newBuilder().setUsername("test").addGroups("test").build();
+        String dirAddress = testEnv.getDIRAddress().getHostName() + ":" + testEnv.getDIRAddress().getPort();
+        String mrcAddress = testEnv.getMRCAddress().getHostName() + ":" + testEnv.getMRCAddress().getPort();
+
+        options = new Options();
+        // do not wait for retries before falling back to degraded reads
+        options.setMaxTries(1);
+        client = ClientFactory.createAdminClient(dirAddress, userCredentials, null, options);
+        client.start();
+
+        client.createVolume(mrcAddress, auth, userCredentials, VOLUME_NAME);
+        volume = client.openVolume(VOLUME_NAME, null, options);
+        volume.setXAttr(userCredentials, "/", "xtreemfs.default_sp",
+                "{\"pattern\":\"" + StripingPolicyType.STRIPING_POLICY_ERASURECODE + "\",\"width\":" + WIDTH
+                        + ",\"size\":" + STRIPE_SIZE / 1024 + ",\"parity-width\":" + PARITY_WIDTH + "}",
+                XATTR_FLAGS.XATTR_FLAGS_REPLACE);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        try {
+            if (client != null)
+                client.shutdown();
+        } finally {
+            testEnv.shutdown();
+        }
+    }
+
+    @Test
+    public void testDegradedRead() throws Exception {
+
+        // 3.5 rows of data
+        byte[] data = createData(7 * STRIPE_SIZE * WIDTH / 2);
+        Replica replica = writeFile("/file", data);
+        assertEquals(WIDTH + PARITY_WIDTH, replica.getOsdUuidsCount());
+        assertEquals(PARITY_WIDTH, replica.getStripingPolicy().getParityWidth());
+
+        // lose one data and one parity OSD
+        testEnv.stopOSD(replica.getOsdUuids(1));
+        testEnv.stopOSD(replica.getOsdUuids(WIDTH));
+
+        assertArrayEquals(data, readFile("/file", data.length));
+    }
+
+    @Test
+    public void testDegradedReadAfterOverwrite() throws Exception {
+
+        byte[] data = createData(2 * STRIPE_SIZE * WIDTH + 100);
+        Replica replica = writeFile("/file", data);
+
+        // partially overwrite the first and the second row
+        byte[] update = createData(STRIPE_SIZE * WIDTH);
+        AdminFileHandle fileHandle = volume.openFile(userCredentials, "/file",
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber());
+        fileHandle.write(userCredentials, update, update.length, STRIPE_SIZE + 10);
+        fileHandle.close();
+        System.arraycopy(update, 0, data, STRIPE_SIZE + 10, update.length);
+
+        // lose two data OSDs
+        testEnv.stopOSD(replica.getOsdUuids(0));
+        testEnv.stopOSD(replica.getOsdUuids(1));
+
+        assertArrayEquals(data, readFile("/file", data.length));
+    }
+
+    @Test
+    public void testDegradedReadAfterTruncate() throws Exception {
+
+        byte[] data = createData(2 * STRIPE_SIZE * WIDTH);
+        Replica replica = writeFile("/file", data);
+
+        AdminFileHandle fileHandle = volume.openFile(userCredentials, "/file",
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber());
+        fileHandle.truncate(userCredentials, STRIPE_SIZE * WIDTH + STRIPE_SIZE / 2);
+        fileHandle.close();
+        data = Arrays.copyOf(data, STRIPE_SIZE * WIDTH + STRIPE_SIZE / 2);
+
+        testEnv.stopOSD(replica.getOsdUuids(0));
+
+        assertArrayEquals(data, readFile("/file", data.length));
+    }
+
+    @Test
+    public void testDegradedReadAfterSmallWrites() throws Exception {
+
+        // the parity of all but the first write to a row is computed without reading the row back
+        byte[] data = createData(2 * STRIPE_SIZE * WIDTH + 100);
+        AdminFileHandle fileHandle = volume.openFile(userCredentials, "/file",
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                        | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(), 0777);
+        for (int offset = 0; offset < data.length; offset += 1000) {
+            int length = Math.min(1000, data.length - offset);
+            fileHandle.write(userCredentials, data, offset, length, offset);
+        }
+        Replica replica = fileHandle.getReplica(0);
+        fileHandle.close();
+
+        testEnv.stopOSD(replica.getOsdUuids(0));
+        testEnv.stopOSD(replica.getOsdUuids(WIDTH + 1));
+
+        assertArrayEquals(data, readFile("/file", data.length));
+    }
+
+    @Test
+    public void testStaleParity() throws Exception {
+
+        byte[] data = createData(100);
+        AdminFileHandle fileHandle = volume.openFile(userCredentials, "/file",
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                        | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(), 0777);
+        fileHandle.write(userCredentials, data, data.length, 0);
+        fileHandle.flush();
+
+        // a second client writes to the same row, which the first client does not notice
+        String dirAddress = testEnv.getDIRAddress().getHostName() + ":" + testEnv.getDIRAddress().getPort();
+        AdminClient otherClient = ClientFactory.createAdminClient(dirAddress, userCredentials, null, options);
+        otherClient.start();
+        try {
+            AdminFileHandle otherFileHandle = otherClient.openVolume(VOLUME_NAME, null, options).openFile(
+                    userCredentials, "/file", SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber());
+            otherFileHandle.write(userCredentials, data, data.length, STRIPE_SIZE);
+            otherFileHandle.close();
+        } finally {
+            otherClient.shutdown();
+        }
+
+        // the parity written by the first client does not include the data of the second one
+        fileHandle.write(userCredentials, data, data.length, 2 * data.length);
+        Replica replica = fileHandle.getReplica(0);
+        fileHandle.close();
+
+        testEnv.stopOSD(replica.getOsdUuids(0));
+
+        try {
+            readFile("/file", STRIPE_SIZE + data.length);
+            fail("object was reconstructed from stale parity");
+        } catch (PosixErrorException exc) {
+            assertEquals(POSIXErrno.POSIX_ERROR_EIO, exc.getPosixError());
+        }
+    }
+
+    @Test
+    public void testTooManyFailures() throws Exception {
+
+        byte[] data = createData(STRIPE_SIZE * WIDTH);
+        Replica replica = writeFile("/file", data);
+
+        for (int i = 0; i <= PARITY_WIDTH; i++)
+            testEnv.stopOSD(replica.getOsdUuids(i));
+
+        try {
+            readFile("/file", data.length);
+            fail("object cannot be reconstructed from less than " + WIDTH + " objects");
+        } catch (PosixErrorException exc) {
+            assertEquals(POSIXErrno.POSIX_ERROR_EIO, exc.getPosixError());
+        }
+    }
+
+    private Replica writeFile(String path, byte[] data) throws Exception {
+        AdminFileHandle fileHandle = volume.openFile(userCredentials, path,
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                        | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(), 0777);
+        fileHandle.write(userCredentials, data, data.length, 0);
+        Replica replica = fileHandle.getReplica(0);
+        fileHandle.close();
+        return replica;
+    }
+
+    private byte[] readFile(String path, int length) throws Exception {
+        FileHandle fileHandle = volume.openFile(userCredentials, path,
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDONLY.getNumber());
+        try {
+            byte[] result = new byte[length + STRIPE_SIZE];
+            int read = fileHandle.read(userCredentials, result, result.length, 0);
+            return Arrays.copyOf(result, read);
+        } finally {
+            fileHandle.close();
+        }
+    }
+
+    private static byte[] createData(int length) {
+        byte[] data = new byte[length];
+        new Random(length).nextBytes(data);
+        return data;
+    }
+
+}
@@ -7,6 +7,7 @@
 package org.xtreemfs.common.libxtreemfs;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -128,4 +129,63 @@ public class FileSizeUpdateThreadTest {
         fileHandle.close();
         client.shutdown();
     }
+
+    @Test
+    public void testBatchedUpdates() throws Exception {
+
+        final String VOLUME_NAME_1 = "testBatchedUpdates";
+        final int NUM_FILES = 20;
+
+        Options options = new Options();
+        options.setPeriodicFileSizeUpdatesIntervalS(3600);
+        options.setMetadataCacheSize(0);
+
+        String dirAddress = testEnv.getDIRAddress().getHostName() + ":" + testEnv.getDIRAddress().getPort();
+        String mrcAddress = testEnv.getMRCAddress().getHostName() + ":" + testEnv.getMRCAddress().getPort();
+
+        Client client = ClientFactory.createClient(dirAddress, userCredentials, null, options);
+        client.start();
+
+        client.createVolume(mrcAddress, auth, userCredentials, VOLUME_NAME_1);
+        VolumeImplementation volume = (VolumeImplementation) client.openVolume(VOLUME_NAME_1, null, options);
+
+        FileHandleImplementation[] fileHandles = new FileHandleImplementation[NUM_FILES];
+        for (int i = 0; i < NUM_FILES; i++) {
+            fileHandles[i] = (FileHandleImplementation) volume.openFile(userCredentials, "/file" + i,
+                    SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                            | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber());
+            byte[] data = new byte[i + 1];
+            fileHandles[i].write(userCredentials, data, data.length, 0);
+        }
+
+        // send all file sizes with a single request and wait for the response
+        volume.getMrcUpdateBatcher().writeBackFileSizes();
+        for (FileInfo fileInfo : volume.getOpenFileTable().values()) {
+            fileInfo.waitForPendingFileSizeUpdates();
+        }
+
+        for (int i = 0; i < NUM_FILES; i++) {
+            Stat stat = mrcClient
+                    .getattr(testEnv.getMRCAddress(), auth, userCredentials, VOLUME_NAME_1, "/file" + i, 0)
+                    .get().getStbuf();
+            assertEquals(i + 1, stat.getSize());
+        }
+
+        // renew the XCaps of all files with a single request
+        long[] expireTimes = new long[NUM_FILES];
+        for (int i = 0; i < NUM_FILES; i++) {
+            expireTimes[i] = fileHandles[i].getXcap().getExpireTimeS();
+        }
+        Thread.sleep(1100);
+        volume.getMrcUpdateBatcher().renewXCaps();
+        for (int i = 0; i < NUM_FILES; i++) {
+            fileHandles[i].waitForAsyncXcapRenewalFinished();
+            assertTrue(fileHandles[i].getXcap().getExpireTimeS() > expireTimes[i]);
+        }
+
+        for (int i = 0; i < NUM_FILES; i++) {
+            fileHandles[i].close();
+        }
+        client.shutdown();
+    }
 }
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.ReplicaUpdatePolicies;
+import org.xtreemfs.common.xloc.ReplicationFlags;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.Schemes;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.AddressMapping;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.AddressMappingSet;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.addressMappingSetResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SYSTEM_V_FCNTL;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestEnvironment;
+import org.xtreemfs.test.TestHelper;
+
+/**
+ * Reads a read-only replicated file while one of its replicas is slowed down by a proxy in front of its OSD.
+ */
+public class LatencyAwareReadTest {
+    @Rule
+    public final TestRule               testLog     = TestHelper.testLog;
+
+    private static final String         VOLUME_NAME = "latencyVolume";
+
+    private static final int            DELAY_MS    = 500;
+
+    private TestEnvironment             testEnv;
+
+    private UserCredentials             userCredentials;
+
+    private AdminClient                 client;
+
+    private AdminVolume                 volume;
+
+    private Options                     options;
+
+    private Map<String, DelayProxy>     proxies;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL, SetupUtils.DEBUG_CATEGORIES);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        FSUtils.delTree(new java.io.File(SetupUtils.TEST_DIR));
+
+        testEnv = new TestEnvironment(new TestEnvironment.Services[] { TestEnvironment.Services.DIR_SERVICE,
+                TestEnvironment.Services.DIR_CLIENT, TestEnvironment.Services.TIME_SYNC,
+                TestEnvironment.Services.RPC_CLIENT, TestEnvironment.Services.MRC, TestEnvironment.Services.OSD,
+                TestEnvironment.Services.OSD });
+        testEnv.start();
+
+        userCredentials = UserCredentials.newBuilder().setUsername("test").addGroups("test").build();
+        String dirAddress = testEnv.getDIRAddress().getHostName() + ":" + testEnv.getDIRAddress().getPort();
+        String mrcAddress = testEnv.getMRCAddress().getHostName() + ":" + testEnv.getMRCAddress().getPort();
+
+        options = new Options();
+        client = ClientFactory.createAdminClient(dirAddress, userCredentials, null, options);
+        client.start();
+
+        // route all requests to the OSDs through proxies before the client resolves their UUIDs
+        proxies = new HashMap<String, DelayProxy>();
+        for (String osdUuid : client.listOSDsAndAttributes().keySet()) {
+            proxies.put(osdUuid, startProxy(osdUuid));
+        }
+
+        client.createVolume(mrcAddress, RPCAuthentication.authNone, userCredentials, VOLUME_NAME);
+        volume = client.openVolume(VOLUME_NAME, null, options);
+        int flags = ReplicationFlags.setSequentialStrategy(0);
+        flags = ReplicationFlags.setFullReplica(flags);
+        volume.setDefaultReplicationPolicy(userCredentials, "/", ReplicaUpdatePolicies.REPL_UPDATE_PC_RONLY, 2,
+                flags);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        try {
+            if (client != null)
+                client.shutdown();
+        } finally {
+            for (DelayProxy proxy : proxies.values()) {
+                proxy.close();
+            }
+            testEnv.shutdown();
+        }
+    }
+
+    @Test
+    public void testFastestReplicaIsPreferred() throws Exception {
+
+        options.setLatencyAwareReplicaSelection(true);
+
+        byte[] data = writeFile("/file", 64 * 1024);
+        List<String> replicas = getReplicas("/file");
+        assertEquals(2, replicas.size());
+        // slow down the new replica, as the original replica has all objects
+        String fastOSD = replicas.get(0);
+        String slowOSD = replicas.get(1);
+        proxies.get(slowOSD).setDelay(DELAY_MS);
+
+        // each replica is tried once, then all reads go to the fast replica
+        final int reads = 10;
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < reads; i++) {
+            assertArrayEquals(data, readFile("/file", data.length));
+        }
+        assertTrue(System.currentTimeMillis() - start < reads * DELAY_MS / 2);
+
+        Map<String, OSDLatencyStats> stats = client.getOSDLatencyStats();
+        assertEquals(1, stats.get(slowOSD).getRequestCount());
+        assertEquals(reads - 1, stats.get(fastOSD).getRequestCount());
+        assertTrue(stats.get(slowOSD).getAverageLatencyNs() > stats.get(fastOSD).getAverageLatencyNs());
+    }
+
+    @Test
+    public void testHedgedRead() throws Exception {
+
+        options.setLatencyAwareReplicaSelection(true);
+        options.setHedgedReadPercentile(90);
+
+        byte[] data = writeFile("/file", 4 * 1024);
+
+        // learn the latencies of both replicas
+        for (int i = 0; i < 30; i++) {
+            assertArrayEquals(data, readFile("/file", data.length));
+        }
+        Map<String, OSDLatencyStats> stats = client.getOSDLatencyStats();
+        assertEquals(2, stats.size());
+        List<String> osds = new ArrayList<String>(stats.keySet());
+        if (stats.get(osds.get(0)).getRequestCount() < stats.get(osds.get(1)).getRequestCount()) {
+            Collections.reverse(osds);
+        }
+        String preferredOSD = osds.get(0);
+        String otherOSD = osds.get(1);
+        long otherRequests = stats.get(otherOSD).getRequestCount();
+
+        // the preferred replica becomes slow, the hedged read to the other replica answers first
+        proxies.get(preferredOSD).setDelay(4 * DELAY_MS);
+        long start = System.currentTimeMillis();
+        assertArrayEquals(data, readFile("/file", data.length));
+        assertTrue(System.currentTimeMillis() - start < 2 * DELAY_MS);
+        assertEquals(otherRequests + 1, client.getOSDLatencyStats().get(otherOSD).getRequestCount());
+
+        // once the late response of the slow replica has arrived, the other replica is preferred
+        long preferredRequests = stats.get(preferredOSD).getRequestCount();
+        while (client.getOSDLatencyStats().get(preferredOSD).getRequestCount() == preferredRequests) {
+            Thread.sleep(100);
+        }
+        assertArrayEquals(data, readFile("/file", data.length));
+        assertEquals(otherRequests + 2, client.getOSDLatencyStats().get(otherOSD).getRequestCount());
+    }
+
+    private byte[] writeFile(String path, int length) throws Exception {
+        byte[] data = new byte[length];
+        new Random(length).nextBytes(data);
+        FileHandle fileHandle = volume.openFile(userCredentials, path,
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                        | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(), 0777);
+        fileHandle.write(userCredentials, data, data.length, 0);
+        fileHandle.close();
+        return data;
+    }
+
+    private byte[] readFile(String path, int length) throws Exception {
+        FileHandle fileHandle = volume.openFile(userCredentials, path,
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDONLY.getNumber());
+        try {
+            byte[] result = new byte[length];
+            int read = fileHandle.read(userCredentials, result, length, 0);
+            return Arrays.copyOf(result, read);
+        } finally {
+            fileHandle.close();
+        }
+    }
+
+    private List<String> getReplicas(String path) throws Exception {
+        AdminFileHandle fileHandle = volume.openFile(userCredentials, path,
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDONLY.getNumber());
+        try {
+            List<String> replicas = new ArrayList<String>();
+            for (Replica replica : fileHandle.getReplicasList()) {
+                replicas.add(replica.getOsdUuids(0));
+            }
+            return replicas;
+        } finally {
+            fileHandle.close();
+        }
+    }
+
+    /**
+     * Starts a proxy in front of the OSD and replaces its address mapping at the DIR by the address of the
+     * proxy.
+     */
+    private DelayProxy startProxy(String osdUuid) throws Exception {
+        RPCResponse<AddressMappingSet> r = testEnv.getDirClient().xtreemfs_address_mappings_get(null,
+                RPCAuthentication.authNone, RPCAuthentication.userService, osdUuid);
+        AddressMappingSet mappings = r.get();
+        r.freeBuffers();
+
+        DelayProxy proxy = null;
+        AddressMappingSet.Builder newMappings = AddressMappingSet.newBuilder();
+        for (AddressMapping mapping : mappings.getMappingsList()) {
+            if (mapping.getProtocol().equals(Schemes.SCHEME_PBRPC)) {
+                proxy = new DelayProxy(new InetSocketAddress(mapping.getAddress(), mapping.getPort()));
+                proxy.start();
+                mapping = mapping.toBuilder().setAddress("localhost").setPort(proxy.getPort())
+                        .setUri(Schemes.SCHEME_PBRPC + "://localhost:" + proxy.getPort()).build();
+            }
+            newMappings.addMappings(mapping);
+        }
+
+        RPCResponse<addressMappingSetResponse> r2 = testEnv.getDirClient().xtreemfs_address_mappings_set(null,
+                RPCAuthentication.authNone, RPCAuthentication.userService, newMappings.build());
+        r2.get();
+        r2.freeBuffers();
+        return proxy;
+    }
+
+    /**
+     * Forwards TCP connections to a server. Data sent to the server is delayed by a configurable time.
+     */
+    private static class DelayProxy extends Thread {
+
+        private final InetSocketAddress target;
+
+        private final ServerSocket      serverSocket;
+
+        private final List<Socket>      sockets;
+
+        private volatile int            delay_ms;
+
+        DelayProxy(InetSocketAddress target) throws IOException {
+            super("DelayProxy");
+            setDaemon(true);
+            this.target = target;
+            this.serverSocket = new ServerSocket(0);
+            this.sockets = new ArrayList<Socket>();
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        void setDelay(int delay_ms) {
+            this.delay_ms = delay_ms;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Socket clientSocket = serverSocket.accept();
+                    Socket serverSocket = new Socket(target.getAddress(), target.getPort());
+                    synchronized (sockets) {
+                        sockets.add(clientSocket);
+                        sockets.add(serverSocket);
+                    }
+                    forward(clientSocket, serverSocket, true);
+                    forward(serverSocket, clientSocket, false);
+                }
+            } catch (IOException e) {
+                // the proxy was closed
+            }
+        }
+
+        void close() throws IOException {
+            serverSocket.close();
+            synchronized (sockets) {
+                for (Socket socket : sockets) {
+                    socket.close();
+                }
+            }
+        }
+
+        private void forward(final Socket from, final Socket to, final boolean delayed) {
+            Thread thread = new Thread("DelayProxy forwarder") {
+                @Override
+                public void run() {
+                    byte[] buffer = new byte[64 * 1024];
+                    try {
+                        InputStream in = from.getInputStream();
+                        OutputStream out = to.getOutputStream();
+                        int length;
+                        while ((length = in.read(buffer)) > 0) {
+                            if (delayed && delay_ms > 0) {
+                                Thread.sleep(delay_ms);
+                            }
+                            out.write(buffer, 0, length);
+                            out.flush();
+                        }
+                    } catch (Exception e) {
+                        // one of the sockets was closed
+                    } finally {
+                        try {
+                            from.close();
+                            to.close();
+                        } catch (IOException e) {
+                            // ignore
+                        }
+                    }
+                }
+            };
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntry;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Setattrs;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
+
+/**
+ * Measures the throughput of the {@link MetadataCache} with an increasing number of threads, once with a
+ * single shard (i.e. one lock for the whole cache) and once with the default number of shards.
+ * <p>
+ * The scenarios are the operations of {@link MetadataCacheTest}: "lookup" only reads cached Stat objects and
+ * directory entries, "mixed" additionally updates and invalidates entries like the concurrent modification
+ * test and "prefix" adds prefix invalidations and renames of whole directories. Like JMH, every measurement
+ * is preceded by warm-up iterations and the mean and standard deviation of the measurement iterations are
+ * reported.
+ * <p>
+ * Usage: <code>MetadataCacheBenchmark [max threads [iteration seconds]]</code>
+ */
+public class MetadataCacheBenchmark {
+
+    private static final int      DIRS              = 256;
+
+    private static final int      FILES_PER_DIR     = 64;
+
+    private static final int      CACHE_SIZE        = 100000;
+
+    private static final int      WARMUP_ITERATIONS = 3;
+
+    private static final int      ITERATIONS        = 5;
+
+    private static final String[] SCENARIOS         = { "lookup", "mixed", "prefix" };
+
+    /**
+     * Stat objects and directory entries are created in advance, so that only the cache is measured.
+     */
+    private static Stat[]             stats;
+
+    private static DirectoryEntries[] dirEntries;
+
+    public static void main(String[] args) throws Exception {
+
+        Logging.start(Logging.LEVEL_WARN, Category.all);
+
+        final int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime()
+                .availableProcessors() * 2;
+        final int iterationSeconds = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        stats = new Stat[DIRS * FILES_PER_DIR];
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = createStat(i);
+        }
+        dirEntries = new DirectoryEntries[DIRS];
+        for (int d = 0; d < DIRS; d++) {
+            dirEntries[d] = createDirEntries(d);
+        }
+
+        System.out.format("%d entries, %d shards by default, %d s per iteration%n", CACHE_SIZE,
+                MetadataCache.getDefaultNumberOfShards(CACHE_SIZE), iterationSeconds);
+        System.out.format("%-8s %7s %7s %16s %16s%n", "scenario", "threads", "shards", "ops/s", "stddev");
+
+        for (String scenario : SCENARIOS) {
+            for (int threads = 1; threads <= maxThreads; threads *= 2) {
+                for (int shards : new int[] { 1, MetadataCache.getDefaultNumberOfShards(CACHE_SIZE) }) {
+                    double[] results = new double[ITERATIONS];
+                    MetadataCache cache = createCache(shards);
+                    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                        runIteration(cache, scenario, threads, iterationSeconds);
+                    }
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        results[i] = runIteration(cache, scenario, threads, iterationSeconds);
+                    }
+                    System.out.format("%-8s %7d %7d %16.0f %16.0f%n", scenario, threads, shards, mean(results),
+                            stddev(results));
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a cache which contains the Stat objects and directory entries of all directories and files.
+     */
+    private static MetadataCache createCache(int shards) {
+        MetadataCache cache = new MetadataCache(CACHE_SIZE, 3600, 0, shards);
+        for (int d = 0; d < DIRS; d++) {
+            cache.updateStat(dirPath(d), stats[d]);
+            cache.updateDirEntries(dirPath(d), dirEntries[d]);
+            for (int f = 0; f < FILES_PER_DIR; f++) {
+                cache.updateStat(filePath(d, f), stats[d * FILES_PER_DIR + f]);
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Runs "scenario" with "threads" threads for "seconds" seconds and returns the number of operations per
+     * second.
+     */
+    private static double runIteration(final MetadataCache cache, final String scenario, int threads,
+            int seconds) throws InterruptedException {
+        final AtomicBoolean stop = new AtomicBoolean();
+        final CountDownLatch start = new CountDownLatch(1);
+        final long[] operations = new long[threads];
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            workers[t] = new Thread() {
+                @Override
+                public void run() {
+                    Random random = new Random(thread);
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    long count = 0;
+                    while (!stop.get()) {
+                        runOperation(cache, scenario, random);
+                        count++;
+                    }
+                    operations[thread] = count;
+                }
+            };
+            workers[t].start();
+        }
+
+        long startTime = System.nanoTime();
+        start.countDown();
+        Thread.sleep(seconds * 1000L);
+        stop.set(true);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long duration = System.nanoTime() - startTime;
+
+        long total = 0;
+        for (long count : operations) {
+            total += count;
+        }
+        return total / (duration / 1e9);
+    }
+
+    private static void runOperation(MetadataCache cache, String scenario, Random random) {
+        int d = random.nextInt(DIRS);
+        int f = random.nextInt(FILES_PER_DIR);
+        int operation = random.nextInt(100);
+
+        if (scenario.equals("lookup") || operation < 80) {
+            if (operation % 4 == 0) {
+                cache.getDirEntries(dirPath(d), 0, FILES_PER_DIR);
+            } else {
+                cache.getStat(filePath(d, f));
+            }
+            return;
+        }
+
+        if (scenario.equals("prefix") && operation >= 98) {
+            if (operation == 98) {
+                cache.invalidatePrefix(dirPath(d));
+            } else {
+                cache.renamePrefix(dirPath(d), dirPath(random.nextInt(DIRS)));
+            }
+            return;
+        }
+
+        switch (operation % 6) {
+        case 0:
+            cache.updateStat(filePath(d, f), stats[d * FILES_PER_DIR + f]);
+            break;
+        case 1:
+            cache.updateStatTime(filePath(d, f), System.currentTimeMillis() / 1000,
+                    Setattrs.SETATTR_ATIME.getNumber());
+            break;
+        case 2:
+            cache.updateStatAttributes(filePath(d, f), stats[f], Setattrs.SETATTR_MODE.getNumber());
+            break;
+        case 3:
+            cache.updateDirEntries(dirPath(d), dirEntries[d]);
+            break;
+        case 4:
+            cache.invalidate(filePath(d, f));
+            break;
+        default:
+            cache.size();
+        }
+    }
+
+    private static String dirPath(int d) {
+        return "/dir" + d;
+    }
+
+    private static String filePath(int d, int f) {
+        return "/dir" + d + "/file" + f;
+    }
+
+    private static Stat createStat(long ino) {
+        return Stat.newBuilder().setDev(0).setIno(ino).setMode(0).setNlink(1).setUserId("").setGroupId("")
+                .setSize(0).setAtimeNs(0).setMtimeNs(0).setCtimeNs(0).setBlksize(0).setTruncateEpoch(0).build();
+    }
+
+    private static DirectoryEntries createDirEntries(int d) {
+        DirectoryEntries.Builder entries = DirectoryEntries.newBuilder();
+        for (int f = 0; f < FILES_PER_DIR; f++) {
+            entries.addEntries(DirectoryEntry.newBuilder().setName("file" + f)
+                    .setStbuf(stats[d * FILES_PER_DIR + f]));
+        }
+        return entries.build();
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    private static double stddev(double[] values) {
+        double mean = mean(values);
+        double sum = 0;
+        for (double value : values) {
+            sum += (value - mean) * (value - mean);
+        }
+        return Math.sqrt(sum / values.length);
+    }
+}
@@ -526,6 +526,106 @@ public class MetadataCacheTest {
     
      }
 
+    /**
+     * Prefix operations have to find the entries in all shards, and every shard must not hold more than its
+     * part of the capacity.
+     */
+    @Test
+    public void testShardedCache() throws Exception {
+        final int shards = 8;
+        metadataCache = new MetadataCache(1024, 3600, 0, shards);
+
+        for (int i = 0; i < 16; i++) {
+            metadataCache.updateStat("/dir/file" + i, getIntializedStatBuilder().setIno(i).build());
+        }
+        metadataCache.updateStat("/dir", getIntializedStatBuilder().setIno(100).build());
+        metadataCache.updateStat("/dir2", getIntializedStatBuilder().setIno(200).build());
+        assertEquals(18l, metadataCache.size());
+
+        metadataCache.renamePrefix("/dir", "/newDir");
+        assertEquals(18l, metadataCache.size());
+        assertNull(metadataCache.getStat("/dir"));
+        assertEquals(100, metadataCache.getStat("/newDir").getIno());
+        for (int i = 0; i < 16; i++) {
+            assertNull(metadataCache.getStat("/dir/file" + i));
+            assertEquals(i, metadataCache.getStat("/newDir/file" + i).getIno());
+        }
+
+        metadataCache.invalidatePrefix("/newDir");
+        assertEquals(1l, metadataCache.size());
+        assertEquals(200, metadataCache.getStat("/dir2").getIno());
+
+        // fill the cache beyond its capacity
+        metadataCache = new MetadataCache(shards * 4, 3600, 0, shards);
+        for (int i = 0; i < 1000; i++) {
+            metadataCache.updateStat("/file" + i, getIntializedStatBuilder().setIno(i).build());
+            assertTrue(metadataCache.size() <= metadataCache.capacity());
+        }
+        // the most recently used entry is never evicted
+        assertEquals(999, metadataCache.getStat("/file999").getIno());
+
+        assertEquals(1, MetadataCache.getDefaultNumberOfShards(2));
+        assertEquals(MetadataCache.MAX_SHARDS, MetadataCache.getDefaultNumberOfShards(100000));
+    }
+
+    @Test
+    public void testNegativeEntries() throws Exception {
+        // without a TTL for negative entries, nothing is cached
+        metadataCache.updateNegativeEntry("/dir/missing");
+        assertFalse(metadataCache.hasNegativeEntry("/dir/missing"));
+
+        metadataCache = new MetadataCache(1024, 3600, 1);
+        metadataCache.updateStat("/dir/missing", getIntializedStatBuilder().build());
+        metadataCache.updateNegativeEntry("/dir/missing");
+        assertTrue(metadataCache.hasNegativeEntry("/dir/missing"));
+        assertNull(metadataCache.getStat("/dir/missing"));
+        assertFalse(metadataCache.hasNegativeEntry("/dir/other"));
+        assertFalse(metadataCache.hasNegativeEntry("/dir"));
+
+        // the path was created
+        metadataCache.updateStat("/dir/missing", getIntializedStatBuilder().build());
+        assertFalse(metadataCache.hasNegativeEntry("/dir/missing"));
+
+        // the listing of the parent directory changed
+        metadataCache.updateNegativeEntry("/dir/missing");
+        metadataCache.updateNegativeEntry("/dir/missing2");
+        metadataCache.updateDirEntries("/dir", getDummyDirEntries());
+        assertFalse(metadataCache.hasNegativeEntry("/dir/missing"));
+        assertFalse(metadataCache.hasNegativeEntry("/dir/missing2"));
+
+        metadataCache.updateNegativeEntry("/dir/missing");
+        metadataCache.invalidateDirEntries("/dir");
+        assertFalse(metadataCache.hasNegativeEntry("/dir/missing"));
+
+        metadataCache.updateNegativeEntry("/dir/missing");
+        metadataCache.invalidateDirEntry("/dir", "other");
+        assertFalse(metadataCache.hasNegativeEntry("/dir/missing"));
+
+        metadataCache.updateNegativeEntry("/dir/missing");
+        metadataCache.invalidate("/dir");
+        assertFalse(metadataCache.hasNegativeEntry("/dir/missing"));
+
+        // negative entries move with their directory
+        metadataCache.updateNegativeEntry("/dir/missing");
+        metadataCache.updateNegativeEntry("/missing");
+        metadataCache.renamePrefix("/dir", "/newDir");
+        assertFalse(metadataCache.hasNegativeEntry("/dir/missing"));
+        assertTrue(metadataCache.hasNegativeEntry("/newDir/missing"));
+        assertTrue(metadataCache.hasNegativeEntry("/missing"));
+
+        // the number of negative entries per directory is limited
+        for (int i = 0; i < MetadataCache.MAX_NEGATIVE_ENTRIES + 10; i++) {
+            metadataCache.updateNegativeEntry("/full/missing" + i);
+        }
+        assertTrue(metadataCache.hasNegativeEntry("/full/missing0"));
+        assertFalse(metadataCache.hasNegativeEntry("/full/missing" + MetadataCache.MAX_NEGATIVE_ENTRIES));
+
+        // negative entries expire
+        metadataCache.updateNegativeEntry("/dir/expired");
+        Thread.sleep(2100);
+        assertFalse(metadataCache.hasNegativeEntry("/dir/expired"));
+    }
+
     @Test
     public void testUnenabledMdCache() {
         metadataCache = new MetadataCache(0, 10000);
@@ -196,5 +196,28 @@ public class RPCCallerTest {
         for (int i = 0; i < overwriteData.length(); i++) {
             assertEquals(readData[i], overwriteData.getBytes()[i]);
         }
+
+        // asynchronous calls have to follow the redirect as well
+        uuidIterator.clearAndAddUUID(response.getCreds().getXlocs().getReplicas(1).getOsdUuids(0));
+        uuidIterator.addUUID(response.getCreds().getXlocs().getReplicas(0).getOsdUuids(0));
+
+        final String asyncOverwriteData = "2222222222222222222222222222222222222222222222222222";
+        final ReusableBuffer asyncOverwriteBuf = ReusableBuffer.wrap(asyncOverwriteData.getBytes());
+        ClientFuture<OSDWriteResponse> future = RPCCaller.<writeRequest, OSDWriteResponse> asyncCall(
+                SERVICES.OSD, userCredentials, auth, options, client, uuidIterator, false, writeReq.build(),
+                new CallGenerator<writeRequest, OSDWriteResponse>() {
+
+                    @Override
+                    public RPCResponse<OSDWriteResponse> executeCall(InetSocketAddress server,
+                            Auth authHeader, UserCredentials userCreds, writeRequest input)
+                            throws IOException {
+                        return osdServiceClient.write(server, authHeader, userCreds, input,
+                                asyncOverwriteBuf.createViewBuffer());
+                    }
+                });
+        future.await();
+
+        readCount = fileHandle.read(userCredentials, readData, asyncOverwriteData.length(), 0);
+        assertEquals(asyncOverwriteData, new String(readData, 0, readCount));
     }
 }
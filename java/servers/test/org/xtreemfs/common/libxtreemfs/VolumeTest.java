@@ -987,4 +987,56 @@ public class VolumeTest {
             }
         }
     }
+
+    @Test
+    public void testNegativeMetadataCache() throws Exception {
+        final String VOLUME_NAME = "testNegativeMetadataCache";
+        client.createVolume(mrcAddress, auth, userCredentials, VOLUME_NAME);
+
+        Options cachingOptions = new Options();
+        cachingOptions.setMetadataCacheNegativeTTLs(3600);
+        Volume volume = client.openVolume(VOLUME_NAME, null, cachingOptions);
+        // a second client view of the volume without a cache for non-existing paths
+        Volume otherVolume = client.openVolume(VOLUME_NAME, null, options);
+
+        int flags = SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber();
+        volume.createDirectory(userCredentials, "/dir", 0777);
+
+        assertGetAttrFailsWithENOENT(volume, "/dir/file");
+        assertGetAttrFailsWithENOENT(volume, "/dir/file2");
+
+        // files created by other clients are not visible until the parent directory is modified by this
+        // client
+        otherVolume.openFile(userCredentials, "/dir/file", flags, 0777).close();
+        otherVolume.openFile(userCredentials, "/dir/file2", flags, 0777).close();
+        assertGetAttrFailsWithENOENT(volume, "/dir/file");
+
+        // a rename into the directory drops all negative entries of the directory
+        volume.openFile(userCredentials, "/file3", flags, 0777).close();
+        volume.rename(userCredentials, "/file3", "/dir/file3");
+        assertEquals(0, volume.getAttr(userCredentials, "/dir/file").getSize());
+        assertEquals(0, volume.getAttr(userCredentials, "/dir/file2").getSize());
+
+        // files created by this client are visible immediately
+        assertGetAttrFailsWithENOENT(volume, "/dir/file4");
+        volume.openFile(userCredentials, "/dir/file4", flags, 0777).close();
+        assertEquals(0, volume.getAttr(userCredentials, "/dir/file4").getSize());
+
+        assertGetAttrFailsWithENOENT(volume, "/dir/link");
+        volume.link(userCredentials, "/dir/file4", "/dir/link");
+        assertEquals(2, volume.getAttr(userCredentials, "/dir/link").getNlink());
+
+        volume.close();
+        otherVolume.close();
+    }
+
+    private void assertGetAttrFailsWithENOENT(Volume volume, String path) throws Exception {
+        try {
+            volume.getAttr(userCredentials, path);
+            fail(path + " should not exist");
+        } catch (PosixErrorException e) {
+            assertEquals(POSIXErrno.POSIX_ERROR_ENOENT, e.getPosixError());
+        }
+    }
 }
@@ -85,7 +85,7 @@ public class SetupUtils {
         props.setProperty("checksums.algorithm", "Adler32");
         props.setProperty("capability_secret", "secretPassphrase");
         props.setProperty("uuid", getUUID("localhost", port).toString());
-        props.setProperty("snmp.enabled", "true");
+        props.setProperty("snmp.enabled", "false");
         props.setProperty("snmp.port", "" + (port + 1000));
         props.setProperty("snmp.address", "localhost");
         props.setProperty("measure_requests", "false");
@@ -163,7 +163,7 @@ public class SetupUtils {
         props.setProperty("ssl.trusted_certs.pw", "passphrase");
         props.setProperty("ssl.trusted_certs.container", "jks");
         props.setProperty("authentication_provider", "org.xtreemfs.common.auth.NullAuthProvider");
-        props.setProperty("snmp.enabled", "true");
+        props.setProperty("snmp.enabled", "false");
         props.setProperty("snmp.port", new Integer(34638 + PORT_RANGE_OFFSET).toString());
         props.setProperty("snmp.address", "localhost");
         props.setProperty("measure_requests", "false");
@@ -217,7 +217,7 @@ public class SetupUtils {
         props.setProperty("authentication_provider", "org.xtreemfs.common.auth.NullAuthProvider");
         props.setProperty("capability_secret", "secretPassphrase");
         props.setProperty("uuid", getMRC1UUID().toString());
-        props.setProperty("snmp.enabled", "true");
+        props.setProperty("snmp.enabled", "false");
         props.setProperty("snmp.port", new Integer(34636 + PORT_RANGE_OFFSET).toString());
         props.setProperty("snmp.address", "localhost");
         props.setProperty("measure_requests", "false");
@@ -270,7 +270,7 @@ public class SetupUtils {
         props.setProperty("authentication_provider", "org.xtreemfs.common.auth.NullAuthProvider");
         props.setProperty("capability_secret", "secretPassphrase");
         props.setProperty("uuid", getMRC2UUID().toString());
-        props.setProperty("snmp.enabled", "true");
+        props.setProperty("snmp.enabled", "false");
         props.setProperty("snmp.port", new Integer(34639 + PORT_RANGE_OFFSET).toString());
         props.setProperty("snmp.address", "localhost");
         
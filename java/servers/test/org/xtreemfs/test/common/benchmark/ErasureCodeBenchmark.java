@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.common.benchmark;
+
+import java.util.Random;
+
+import org.xtreemfs.common.ReplicaUpdatePolicies;
+import org.xtreemfs.common.libxtreemfs.Client;
+import org.xtreemfs.common.libxtreemfs.ClientFactory;
+import org.xtreemfs.common.libxtreemfs.FileHandle;
+import org.xtreemfs.common.libxtreemfs.Options;
+import org.xtreemfs.common.libxtreemfs.Volume;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.osd.OSD;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SYSTEM_V_FCNTL;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.XATTR_FLAGS;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestEnvironment;
+
+/**
+ * Compares sequential writes to an erasure-coded file with writes to a file
+ * with three WqRq replicas. Both files are written by the same client to a
+ * local set of <code>width + parity width</code> OSDs; for each of them, the
+ * write throughput and the number of bytes received and sent by all OSDs
+ * (including the data forwarded between replicas) are reported.
+ * <p>
+ * Usage:
+ * <code>ErasureCodeBenchmark [file size in MiB [width [parity width [stripe size in KiB]]]]</code>
+ */
+public class ErasureCodeBenchmark {
+
+    private static final int    REPLICATION_FACTOR = 3;
+
+    private static final int    MiB                = 1024 * 1024;
+
+    private static final String VOLUME_NAME        = "ecBenchmark";
+
+    public static void main(String[] args) throws Exception {
+
+        Logging.start(Logging.LEVEL_WARN, Category.tool);
+
+        final int fileSizeMiB = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        final int width = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        final int parityWidth = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        final int stripeSizeKiB = args.length > 3 ? Integer.parseInt(args[3]) : 128;
+
+        // write whole rows of objects, so that no stripe has to be read back
+        // to compute its parity
+        final int rowSize = stripeSizeKiB * 1024 * width;
+        final int chunkSize = Math.max(1, MiB / rowSize) * rowSize;
+
+        System.out.format("%d MiB, %d + %d OSDs, %d KiB objects, %d KiB writes%n", fileSizeMiB, width,
+            parityWidth, stripeSizeKiB, chunkSize / 1024);
+
+        TestEnvironment testEnv = new TestEnvironment(new TestEnvironment.Services[] {
+                TestEnvironment.Services.DIR_SERVICE, TestEnvironment.Services.DIR_CLIENT,
+                TestEnvironment.Services.TIME_SYNC, TestEnvironment.Services.RPC_CLIENT,
+                TestEnvironment.Services.MRC });
+        testEnv.start();
+
+        OSD[] osds = new OSD[Math.max(width + parityWidth, REPLICATION_FACTOR)];
+        OSDConfig[] configs = SetupUtils.createMultipleOSDConfigs(osds.length);
+        for (int i = 0; i < osds.length; i++)
+            osds[i] = new OSD(configs[i]);
+
+        UserCredentials userCredentials = UserCredentials.newBuilder().setUsername("test").addGroups("test")
+                .build();
+        String dirAddress = testEnv.getDIRAddress().getHostName() + ":" + testEnv.getDIRAddress().getPort();
+        String mrcAddress = testEnv.getMRCAddress().getHostName() + ":" + testEnv.getMRCAddress().getPort();
+
+        Options options = new Options();
+        Client client = ClientFactory.createClient(dirAddress, userCredentials, null, options);
+        client.start();
+
+        try {
+            client.createVolume(mrcAddress, RPCAuthentication.authNone, userCredentials, VOLUME_NAME);
+            Volume volume = client.openVolume(VOLUME_NAME, null, options);
+
+            volume.createDirectory(userCredentials, "/replicated", 0777);
+            volume.setXAttr(userCredentials, "/replicated", "xtreemfs.default_sp",
+                "{\"pattern\":\"" + StripingPolicyType.STRIPING_POLICY_RAID0 + "\",\"width\":1,\"size\":"
+                    + stripeSizeKiB + "}", XATTR_FLAGS.XATTR_FLAGS_CREATE);
+            volume.setDefaultReplicationPolicy(userCredentials, "/replicated",
+                ReplicaUpdatePolicies.REPL_UPDATE_PC_WQRQ, REPLICATION_FACTOR, 0);
+
+            volume.createDirectory(userCredentials, "/erasurecoded", 0777);
+            volume.setXAttr(userCredentials, "/erasurecoded", "xtreemfs.default_sp", "{\"pattern\":\""
+                + StripingPolicyType.STRIPING_POLICY_ERASURECODE + "\",\"width\":" + width + ",\"size\":"
+                + stripeSizeKiB + ",\"parity-width\":" + parityWidth + "}", XATTR_FLAGS.XATTR_FLAGS_CREATE);
+
+            byte[] data = new byte[chunkSize];
+            new Random(1).nextBytes(data);
+            final long fileSize = (long) fileSizeMiB * MiB;
+
+            System.out.format("%-16s %10s %12s %12s %8s%n", "policy", "MiB/s", "OSD RX MiB", "OSD TX MiB",
+                "RX/size");
+            for (String dir : new String[] { "/replicated", "/erasurecoded" }) {
+
+                long rx = getBytesReceived(osds);
+                long tx = getBytesSent(osds);
+
+                long start = System.nanoTime();
+                FileHandle fileHandle = volume.openFile(userCredentials, dir + "/file",
+                    SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                        | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(), 0777);
+                for (long offset = 0; offset < fileSize; offset += chunkSize)
+                    fileHandle.write(userCredentials, data, (int) Math.min(chunkSize, fileSize - offset), offset);
+                fileHandle.close();
+                final double secs = (System.nanoTime() - start) / 1e9;
+
+                rx = getBytesReceived(osds) - rx;
+                tx = getBytesSent(osds) - tx;
+                System.out.format("%-16s %10.1f %12.1f %12.1f %8.2f%n", dir.substring(1), fileSizeMiB / secs,
+                    (double) rx / MiB, (double) tx / MiB, (double) rx / fileSize);
+            }
+
+            volume.close();
+
+        } finally {
+            client.shutdown();
+            for (OSD osd : osds)
+                osd.shutdown();
+            testEnv.shutdown();
+        }
+    }
+
+    private static long getBytesReceived(OSD[] osds) {
+        long bytes = 0;
+        for (OSD osd : osds)
+            bytes += osd.getDispatcher().getBytesReceived() + osd.getDispatcher().getReplicatedBytesReceived();
+        return bytes;
+    }
+
+    private static long getBytesSent(OSD[] osds) {
+        long bytes = 0;
+        for (OSD osd : osds)
+            bytes += osd.getDispatcher().getBytesSent();
+        return bytes;
+    }
+
+}
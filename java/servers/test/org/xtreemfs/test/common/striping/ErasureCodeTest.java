@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.common.striping;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.xloc.ErasureCodeImpl;
+import org.xtreemfs.common.xloc.ReedSolomonCode;
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestHelper;
+
+/**
+ * Tests the Reed-Solomon code and the erasure-coded striping policy.
+ */
+public class ErasureCodeTest {
+    @Rule
+    public final TestRule testLog = TestHelper.testLog;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL);
+    }
+
+    @Test
+    public void testReconstructAnyCombination() throws Exception {
+
+        final int k = 4, m = 2, len = 1000;
+        final ReedSolomonCode code = new ReedSolomonCode(k, m);
+
+        final Random rnd = new Random(1);
+        final byte[][] data = new byte[k][len];
+        for (byte[] shard : data)
+            rnd.nextBytes(shard);
+        final byte[][] parity = new byte[m][len];
+        code.encode(data, parity, len);
+
+        // remove every combination of up to m shards and reconstruct them
+        for (int missing = 0; missing < 1 << (k + m); missing++) {
+            if (Integer.bitCount(missing) > m)
+                continue;
+
+            final byte[][] shards = new byte[k + m][len];
+            final boolean[] present = new boolean[k + m];
+            for (int i = 0; i < k + m; i++) {
+                present[i] = (missing & (1 << i)) == 0;
+                if (present[i])
+                    System.arraycopy(i < k ? data[i] : parity[i - k], 0, shards[i], 0, len);
+            }
+
+            code.reconstruct(shards, present, len);
+
+            for (int i = 0; i < k; i++)
+                assertArrayEquals(data[i], shards[i]);
+            for (int i = 0; i < m; i++)
+                assertArrayEquals(parity[i], shards[k + i]);
+        }
+    }
+
+    @Test
+    public void testTooManyMissingShards() throws Exception {
+
+        final ReedSolomonCode code = new ReedSolomonCode(3, 1);
+        final byte[][] shards = new byte[4][16];
+        try {
+            code.reconstruct(shards, new boolean[] { true, false, true, false }, 16);
+            fail("reconstruction must fail if less than 3 shards are available");
+        } catch (IllegalArgumentException exc) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testZeroPaddedShards() throws Exception {
+
+        // encoding a shorter data object is equivalent to encoding the object
+        // padded with zeros
+        final ReedSolomonCode code = new ReedSolomonCode(3, 2);
+        final byte[][] data = new byte[][] { { 1, 2, 3, 4 }, { 5, 6, 0, 0 }, { 0, 0, 0, 0 } };
+        final byte[][] parity = new byte[2][4];
+        code.encode(data, parity, 4);
+
+        final byte[][] shortParity = new byte[2][2];
+        code.encode(data, shortParity, 2);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(parity[i][0], shortParity[i][0]);
+            assertEquals(parity[i][1], shortParity[i][1]);
+        }
+    }
+
+    @Test
+    public void testObjectsOfParityOSDs() throws Exception {
+
+        StripingPolicyImpl policy = StripingPolicyImpl.getPolicy(getReplica(3, 2), 0);
+        assertTrue(policy instanceof ErasureCodeImpl);
+        assertEquals(3, policy.getWidth());
+        assertEquals(2, policy.getParityWidth());
+
+        // data objects are striped like RAID0
+        assertEquals(0, policy.getOSDforObject(3));
+        assertEquals(2, policy.getOSDforObject(5));
+        assertTrue(policy.isLocalObject(4, 1));
+        assertEquals(7, policy.getObjectNoInRow(2, 1));
+
+        // parity objects have the number of the first data object in the row
+        assertTrue(policy.isLocalObject(6, 3));
+        assertTrue(policy.isLocalObject(6, 4));
+        assertFalse(policy.isLocalObject(7, 3));
+        assertEquals(6, policy.getObjectNoInRow(2, 4));
+
+        Iterator<Long> it = policy.getObjectsOfOSD(3, 2, 9);
+        assertEquals(0, it.next().longValue());
+        assertEquals(3, it.next().longValue());
+        assertEquals(6, it.next().longValue());
+        assertEquals(9, it.next().longValue());
+        assertFalse(it.hasNext());
+
+        StripingPolicyImpl parityPolicy = StripingPolicyImpl.getPolicy(getReplica(3, 2), 4);
+        assertEquals(6, parityPolicy.getGloablObjectNumber(2));
+    }
+
+    @Test
+    public void testInvalidReplica() throws Exception {
+
+        Replica r = Replica.newBuilder().setStripingPolicy(getReplica(3, 2).getStripingPolicy())
+                .setReplicationFlags(0).addOsdUuids("osd0").build();
+        try {
+            StripingPolicyImpl.getPolicy(r, 0);
+            fail("an erasure-coded replica must have width + parity width OSDs");
+        } catch (IllegalArgumentException exc) {
+            // expected
+        }
+    }
+
+    private static Replica getReplica(int width, int parityWidth) {
+        StripingPolicy sp = StripingPolicy.newBuilder().setType(StripingPolicyType.STRIPING_POLICY_ERASURECODE)
+                .setStripeSize(128).setWidth(width).setParityWidth(parityWidth).build();
+        Replica.Builder r = Replica.newBuilder().setStripingPolicy(sp).setReplicationFlags(0);
+        for (int i = 0; i < width + parityWidth; i++)
+            r.addOsdUuids("osd" + i);
+        return r.build();
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.mrc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.mrc.ac.ACLCache;
+import org.xtreemfs.mrc.ac.ACLCache.CompiledACL;
+import org.xtreemfs.test.TestHelper;
+
+public class ACLCacheTest {
+    @Rule
+    public final TestRule testLog = TestHelper.testLog;
+
+    @Test
+    public void testCompile() throws Exception {
+
+        Map<String, Short> acl = new HashMap<String, Short>();
+        assertSame(CompiledACL.NONE, CompiledACL.compile(acl));
+        assertFalse(CompiledACL.NONE.exists());
+
+        acl.put("u:", (short) 7);
+        acl.put("g:", (short) 5);
+        acl.put("o:", (short) 0);
+        acl.put("m:", (short) 6);
+        acl.put("u:someone", (short) 4);
+        acl.put("g:somegroup", (short) 2);
+        acl.put("u:removed", null);
+
+        CompiledACL compiled = CompiledACL.compile(acl);
+        assertTrue(compiled.exists());
+        assertEquals(7, compiled.getOwner());
+        assertEquals(5, compiled.getOwningGroup());
+        assertEquals(0, compiled.getOther());
+        assertEquals(6, compiled.getMask());
+        assertEquals(4, compiled.getNamedUser("someone"));
+        assertEquals(2, compiled.getNamedGroup("somegroup"));
+        assertEquals(CompiledACL.MISSING, compiled.getNamedUser("removed"));
+        assertEquals(CompiledACL.MISSING, compiled.getNamedGroup("someone"));
+
+        // an ACL whose entries have all been removed does not exist
+        acl.clear();
+        acl.put("u:", null);
+        assertSame(CompiledACL.NONE, CompiledACL.compile(acl));
+    }
+
+    @Test
+    public void testCache() throws Exception {
+
+        ACLCache cache = new ACLCache(2);
+        assertNull(cache.get("vol", 1));
+
+        cache.put("vol", 1, CompiledACL.NONE);
+        cache.put("vol", 2, CompiledACL.NONE);
+        assertNotNull(cache.get("vol", 1));
+        assertNull(cache.get("otherVol", 1));
+
+        // the least recently used entry is evicted
+        cache.put("vol", 3, CompiledACL.NONE);
+        assertEquals(2, cache.getSize());
+        assertNull(cache.get("vol", 2));
+        assertNotNull(cache.get("vol", 1));
+
+        cache.invalidate("vol", 1);
+        assertNull(cache.get("vol", 1));
+        assertEquals(1, cache.getSize());
+
+        // an ACL read before a concurrent change is not cached
+        long modCount = cache.getModCount();
+        cache.put("vol", 3, CompiledACL.NONE);
+        cache.putIfUnmodified("vol", 1, CompiledACL.NONE, modCount);
+        assertEquals(1, cache.getSize());
+        cache.putIfUnmodified("vol", 1, CompiledACL.NONE, cache.getModCount());
+        assertEquals(2, cache.getSize());
+
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+        assertEquals(1.0 / 3, cache.getHitRatio(), 1e-9);
+    }
+}
@@ -112,6 +112,30 @@ public class BufferBackedMetadataTest {
             BufferBackedStripingPolicy sp2 = new BufferBackedStripingPolicy(sp1.getBuffer());
             checkSP(pattern, stripeSize, width, sp2);
         }
+
+        {
+            final String pattern = "STRIPING_POLICY_ERASURECODE";
+            final int stripeSize = 128;
+            final int width = 4;
+            final int parityWidth = 2;
+
+            // create striping policy
+            BufferBackedStripingPolicy sp1 = new BufferBackedStripingPolicy(pattern, stripeSize, width, parityWidth);
+            checkSP(pattern, stripeSize, width, sp1);
+            assertEquals(parityWidth, sp1.getParityWidth());
+
+            // copy striping policy
+            BufferBackedStripingPolicy sp2 = new BufferBackedStripingPolicy(sp1.getBuffer());
+            checkSP(pattern, stripeSize, width, sp2);
+            assertEquals(parityWidth, sp2.getParityWidth());
+
+            // embedded in an XLoc
+            BufferBackedXLoc xLoc = new BufferBackedXLoc(sp1, new String[] { "1", "2", "3", "4", "5", "6" }, 0);
+            BufferBackedXLoc xLoc2 = new BufferBackedXLoc(xLoc.getBuffer());
+            checkSP(pattern, stripeSize, width, (BufferBackedStripingPolicy) xLoc2.getStripingPolicy());
+            assertEquals(parityWidth, xLoc2.getStripingPolicy().getParityWidth());
+            assertEquals(6, xLoc2.getOSDCount());
+        }
     }
 
     @Test
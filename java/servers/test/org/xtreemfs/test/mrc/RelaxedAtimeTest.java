@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.mrc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.client.PBRPCException;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.mrc.MRCConfig;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.AtimeTable;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.AccessControlPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.KeyValuePair;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntry;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Setattrs;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRCServiceClient;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestEnvironment;
+import org.xtreemfs.test.TestEnvironment.Services;
+import org.xtreemfs.test.TestHelper;
+
+import com.google.protobuf.Message;
+
+public class RelaxedAtimeTest {
+    @Rule
+    public final TestRule         testLog   = TestHelper.testLog;
+
+    private static final String   VOLUME    = "atimeVolume";
+
+    private static final long     OLD_ATIME = 1000;
+
+    private final UserCredentials uc        = UserCredentials.newBuilder().setUsername("userXY")
+                                                    .addGroups("groupZ").build();
+
+    private TestEnvironment       testEnv;
+
+    private MRCConfig             mrcConfig;
+
+    private MRCRequestDispatcher  mrc;
+
+    private MRCServiceClient      client;
+
+    private InetSocketAddress     mrcAddress;
+
+    public RelaxedAtimeTest() {
+        Logging.start(SetupUtils.DEBUG_LEVEL);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        testEnv = new TestEnvironment(Services.DIR_CLIENT, Services.TIME_SYNC, Services.UUID_RESOLVER,
+            Services.MRC_CLIENT, Services.DIR_SERVICE, Services.MOCKUP_OSD);
+        testEnv.start();
+        client = testEnv.getMrcClient();
+
+        HashMap<String, String> props = SetupUtils.createMRC1Config().toHashMap();
+        props.put("no_atime", "false");
+        props.put("relaxed_atime", "true");
+        // no periodic flushes during the test
+        props.put("atime_flush_interval", "3600");
+        mrcConfig = new MRCConfig(props);
+        mrcAddress = new InetSocketAddress("localhost", mrcConfig.getPort());
+
+        mrc = new MRCRequestDispatcher(mrcConfig, SetupUtils.createMRC1dbsConfig());
+        mrc.startup();
+
+        invokeSync(client.xtreemfs_mkvol(mrcAddress, RPCAuthentication.authNone, uc,
+            AccessControlPolicyType.ACCESS_CONTROL_POLICY_POSIX, getDefaultStripingPolicy(), "", 0775, VOLUME,
+            "", "", new ArrayList<KeyValuePair>(), 0));
+        invokeSync(client.open(mrcAddress, RPCAuthentication.authNone, uc, VOLUME, "file",
+            FileAccessManager.O_CREAT, 0774, 0, getDefaultCoordinates()));
+        invokeSync(client.mkdir(mrcAddress, RPCAuthentication.authNone, uc, VOLUME, "dir", 0775));
+
+        setAtime("file", OLD_ATIME);
+        setAtime("dir", OLD_ATIME);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (mrc != null)
+            mrc.shutdown();
+        testEnv.shutdown();
+    }
+
+    @Test
+    public void testOpenAndStat() throws Exception {
+
+        AtimeTable atimes = mrc.getAtimeTable();
+        assertNotNull(atimes);
+        assertEquals(0, atimes.size());
+
+        // opening the file repeatedly results in a single pending atime
+        for (int i = 0; i < 3; i++)
+            invokeSync(client.open(mrcAddress, RPCAuthentication.authNone, uc, VOLUME, "file",
+                FileAccessManager.O_RDONLY, 0, 0, getDefaultCoordinates()));
+        assertEquals(1, atimes.size());
+
+        // stat returns and writes the pending atime
+        assertTrue(getAtime("file") > OLD_ATIME);
+        assertEquals(0, atimes.size());
+        assertTrue(getAtime("file") > OLD_ATIME);
+
+        // an explicitly set atime overrides the pending one
+        invokeSync(client.open(mrcAddress, RPCAuthentication.authNone, uc, VOLUME, "file",
+            FileAccessManager.O_RDONLY, 0, 0, getDefaultCoordinates()));
+        assertEquals(1, atimes.size());
+        setAtime("file", OLD_ATIME);
+        assertEquals(0, atimes.size());
+        assertEquals(OLD_ATIME, getAtime("file"));
+    }
+
+    @Test
+    public void testReaddir() throws Exception {
+
+        DirectoryEntries entries = invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc, VOLUME,
+            "dir", -1, 1000, false, 0));
+        assertEquals(1, mrc.getAtimeTable().size());
+
+        // the pending atime is reflected by the listing and by stat
+        for (DirectoryEntry entry : entries.getEntriesList())
+            if (entry.getName().equals("."))
+                assertTrue(entry.getStbuf().getAtimeNs() / (long) 1e9 > OLD_ATIME);
+        assertTrue(getAtime("dir") > OLD_ATIME);
+    }
+
+    @Test
+    public void testFlush() throws Exception {
+
+        invokeSync(client.open(mrcAddress, RPCAuthentication.authNone, uc, VOLUME, "file",
+            FileAccessManager.O_RDONLY, 0, 0, getDefaultCoordinates()));
+        invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc, VOLUME, "dir", -1, 1000, false, 0));
+        assertEquals(2, mrc.getAtimeTable().size());
+
+        mrc.flushAtimes();
+        for (int i = 0; i < 100 && mrc.getAtimeTable().size() > 0; i++)
+            Thread.sleep(50);
+        assertEquals(0, mrc.getAtimeTable().size());
+        assertTrue(getAtime("file") > OLD_ATIME);
+        assertTrue(getAtime("dir") > OLD_ATIME);
+    }
+
+    @Test
+    public void testFlushOnShutdown() throws Exception {
+
+        invokeSync(client.open(mrcAddress, RPCAuthentication.authNone, uc, VOLUME, "file",
+            FileAccessManager.O_RDONLY, 0, 0, getDefaultCoordinates()));
+        assertEquals(1, mrc.getAtimeTable().size());
+
+        // pending atimes must survive a restart
+        mrc.shutdown();
+        mrc = null;
+        mrc = new MRCRequestDispatcher(mrcConfig, SetupUtils.createMRC1dbsConfig());
+        mrc.startup();
+
+        assertEquals(0, mrc.getAtimeTable().size());
+        assertTrue(getAtime("file") > OLD_ATIME);
+    }
+
+    private long getAtime(String path) throws Exception {
+        Stat stat = invokeSync(client.getattr(mrcAddress, RPCAuthentication.authNone, uc, VOLUME, path, -1))
+                .getStbuf();
+        return stat.getAtimeNs() / (long) 1e9;
+    }
+
+    private void setAtime(String path, long atimeS) throws Exception {
+        Stat stat = Stat.newBuilder().setAtimeNs(atimeS * (long) 1e9).setAttributes(0).setBlksize(0)
+                .setCtimeNs(0).setDev(0).setEtag(0).setGroupId("").setIno(0).setMode(0).setMtimeNs(0)
+                .setNlink(0).setSize(0).setTruncateEpoch(0).setUserId("").build();
+        invokeSync(client.setattr(mrcAddress, RPCAuthentication.authNone, uc, VOLUME, path, stat,
+            Setattrs.SETATTR_ATIME.getNumber()));
+    }
+
+    private static <T extends Message> T invokeSync(RPCResponse<T> response) throws PBRPCException,
+        IOException, InterruptedException {
+        try {
+            return response.get();
+        } finally {
+            response.freeBuffers();
+        }
+    }
+
+    private static StripingPolicy getDefaultStripingPolicy() {
+        return StripingPolicy.newBuilder().setType(StripingPolicyType.STRIPING_POLICY_RAID0).setStripeSize(1000)
+                .setWidth(1).build();
+    }
+
+    private static VivaldiCoordinates getDefaultCoordinates() {
+        return VivaldiCoordinates.newBuilder().setXCoordinate(0).setYCoordinate(0).setLocalError(0).build();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.stages.DeletionStage;
+import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.HashStorageLayout;
+import org.xtreemfs.osd.storage.IOPSLimiter;
+import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestHelper;
+
+public class DeletionStageTest {
+    @Rule
+    public final TestRule     testLog  = TestHelper.testLog;
+
+    private static final int  OBJ_SIZE = 4096;
+
+    private static OSDConfig  config;
+
+    private MetadataCache     cache;
+
+    private HashStorageLayout layout;
+
+    private StripingPolicyImpl sp;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL);
+        config = SetupUtils.createOSD1Config();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        FSUtils.delTree(new File(config.getObjDir()));
+        cache = new MetadataCache();
+        layout = new HashStorageLayout(config, cache);
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, OBJ_SIZE / 1024))
+                .setReplicationFlags(0).build();
+        sp = StripingPolicyImpl.getPolicy(r, 0);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        FSUtils.delTree(new File(config.getObjDir()));
+    }
+
+    @Test
+    public void testLimiter() throws Exception {
+
+        // the bucket initially holds one second's worth of operations
+        IOPSLimiter limiter = new IOPSLimiter(100);
+        long start = System.nanoTime();
+        limiter.acquire(100);
+        assertTrue(System.nanoTime() - start < 500L * 1000 * 1000);
+
+        start = System.nanoTime();
+        for (int i = 0; i < 5; i++)
+            limiter.acquire(10);
+        final long elapsed = System.nanoTime() - start;
+        assertTrue("elapsed: " + elapsed, elapsed >= 400L * 1000 * 1000);
+
+        // no limit
+        limiter = new IOPSLimiter(0);
+        start = System.nanoTime();
+        limiter.acquire(1000000);
+        assertTrue(System.nanoTime() - start < 500L * 1000 * 1000);
+    }
+
+    @Test
+    public void testBatchedFileDeletion() throws Exception {
+
+        final String fileId = "ABCDEFG:0001";
+        writeFile(fileId, 300);
+        assertTrue(layout.fileExists(fileId));
+
+        // with 200 deletes per second and an initially full bucket, deleting
+        // 300 objects takes about half a second
+        final long start = System.nanoTime();
+        final long bytes = layout.deleteFile(fileId, true, new IOPSLimiter(200));
+        final long elapsed = System.nanoTime() - start;
+
+        assertFalse(layout.fileExists(fileId));
+        assertTrue("reclaimed: " + bytes, bytes >= 300L * OBJ_SIZE);
+        assertTrue("elapsed: " + elapsed, elapsed >= 400L * 1000 * 1000);
+    }
+
+    @Test
+    public void testDeletionThreads() throws Exception {
+
+        final int numFiles = 20;
+        final int objsPerFile = 10;
+
+        DeletionStage stage = new DeletionStage(null, cache, layout, 4, 0, 1000);
+        stage.start();
+        stage.waitForStartup();
+        try {
+            assertEquals(4, stage.getNumDeletionThreads());
+
+            for (int i = 0; i < numFiles; i++)
+                writeFile("ABCDEFG:" + i, objsPerFile);
+
+            final int[] completed = new int[1];
+            for (int i = 0; i < numFiles; i++) {
+                stage.deleteObjects("ABCDEFG:" + i, null, false, null, new DeletionStage.DeleteObjectsCallback() {
+                    @Override
+                    public void deleteComplete(ErrorResponse error) {
+                        assertTrue(error == null);
+                        synchronized (completed) {
+                            completed[0]++;
+                        }
+                    }
+                });
+            }
+
+            for (int i = 0; i < 100 && stage.getNumFilesReclaimed() < numFiles; i++)
+                Thread.sleep(50);
+
+            assertEquals(numFiles, stage.getNumFilesReclaimed());
+            assertEquals(numFiles, completed[0]);
+            assertEquals(numFiles, stage.getNumFilesDeleted());
+            assertEquals(0, stage.getNumPendingFiles());
+            assertTrue(stage.getBytesReclaimed() >= (long) numFiles * objsPerFile * OBJ_SIZE);
+            for (int i = 0; i < numFiles; i++)
+                assertFalse(layout.fileExists("ABCDEFG:" + i));
+
+        } finally {
+            stage.shutdown();
+            stage.waitForShutdown();
+        }
+    }
+
+    private void writeFile(String fileId, int numObjs) throws Exception {
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+        ReusableBuffer data = BufferPool.allocate(OBJ_SIZE);
+        data.put(new byte[OBJ_SIZE]);
+        data.flip();
+        for (int objNo = 0; objNo < numObjs; objNo++)
+            layout.writeObject(fileId, md, data.createViewBuffer(), objNo, 0, 1, false, false);
+        BufferPool.free(data);
+        cache.removeFileInfo(fileId);
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.storage.DirtyObjectLog;
+import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.HashStorageLayout;
+import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestHelper;
+
+public class DirtyObjectLogTest {
+    @Rule
+    public final TestRule testLog = TestHelper.testLog;
+
+    static OSDConfig      config;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL);
+        config = SetupUtils.createOSD1Config();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        FSUtils.delTree(new File(config.getObjDir()));
+    }
+
+    @Test
+    public void testChangedObjects() throws Exception {
+        DirtyObjectLog log = new DirtyObjectLog(100, 2);
+
+        // epoch 1 is not covered
+        log.objectChanged(7, version(1, 1));
+        assertEquals(0, log.size());
+        assertNull(log.getObjectsChangedSince(version(1, 1)));
+
+        for (int i = 0; i < 50; i++)
+            log.objectChanged(i % 5, version(2, i + 1));
+        log.objectChanged(3, version(3, 1));
+        log.objectChanged(9, version(3, 2));
+        log.objectChanged(9, version(3, 3));
+
+        assertArrayEquals(new long[] { 0, 1, 2, 3, 4, 9 }, log.getObjectsChangedSince(version(2, 10)));
+        assertArrayEquals(new long[] { 3, 9 }, log.getObjectsChangedSince(version(3, 0)));
+        assertArrayEquals(new long[0], log.getObjectsChangedSince(version(4, 0)));
+        assertEquals(7, log.size());
+    }
+
+    @Test
+    public void testTruncation() throws Exception {
+        DirtyObjectLog log = new DirtyObjectLog(10, 0);
+
+        for (int i = 0; i < 8; i++)
+            log.objectChanged(i, version(1, i + 1));
+        for (int i = 0; i < 5; i++)
+            log.objectChanged(100 + i, version(2, i + 1));
+
+        // epoch 1 has been dropped
+        assertEquals(2, log.getFirstEpoch());
+        assertEquals(5, log.size());
+        assertNull(log.getObjectsChangedSince(version(1, 0)));
+        assertEquals(5, log.getObjectsChangedSince(version(2, 0)).length);
+
+        // an epoch that does not fit at all
+        for (int i = 0; i < 11; i++)
+            log.objectChanged(i, version(3, i + 1));
+        assertEquals(4, log.getFirstEpoch());
+        assertEquals(0, log.size());
+        assertNull(log.getObjectsChangedSince(version(3, 0)));
+        assertNotNull(log.getObjectsChangedSince(version(4, 0)));
+    }
+
+    @Test
+    public void testHashStorageLayout() throws Exception {
+        final String fileId = "ABCDEFG:0001";
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, 64))
+                .setReplicationFlags(0).build();
+        StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+        MetadataCache cache = new MetadataCache();
+        HashStorageLayout layout = new HashStorageLayout(config, cache);
+        File dlogFile = new File(layout.generateAbsoluteFilePath(fileId), HashStorageLayout.DIRTY_LOG_FILENAME);
+
+        // changes are not logged before the log has been requested
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+        write(layout, md, fileId, 0, version(1, 1));
+        assertNull(md.getDirtyObjectLog());
+
+        // the new log covers only epochs after the one of the largest version
+        DirtyObjectLog log = layout.getDirtyObjectLog(fileId, md);
+        assertEquals(2, log.getFirstEpoch());
+        write(layout, md, fileId, 1, version(2, 1));
+        write(layout, md, fileId, 2, version(2, 2));
+        log.setCompleteVersion(version(1, 1));
+
+        // the log is stored when the file is closed ...
+        cache.removeFileInfo(fileId);
+        layout.storeDirtyObjectLog(fileId, md);
+        assertTrue(dlogFile.exists());
+
+        md = layout.getFileMetadata(sp, fileId);
+        log = md.getDirtyObjectLog();
+        assertNotNull(log);
+        assertEquals(version(1, 1), log.getCompleteVersion());
+        assertArrayEquals(new long[] { 1, 2 }, log.getObjectsChangedSince(version(2, 0)));
+
+        // ... and becomes invalid with the next change
+        write(layout, md, fileId, 3, version(3, 1));
+        assertFalse(dlogFile.exists());
+        assertArrayEquals(new long[] { 1, 2, 3 }, log.getObjectsChangedSince(version(2, 0)));
+    }
+
+    private static long version(int epoch, int counter) {
+        return ((long) epoch << 32) + counter;
+    }
+
+    private static void write(HashStorageLayout layout, FileMetadata md, String fileId, long objNo, long version)
+            throws Exception {
+        ReusableBuffer data = BufferPool.allocate(64);
+        data.put(new byte[64]);
+        data.flip();
+        layout.writeObject(fileId, md, data, objNo, 0, version, false, false);
+    }
+}
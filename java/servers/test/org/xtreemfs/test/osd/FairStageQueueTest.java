@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.osd.stages.FairStageQueue;
+import org.xtreemfs.osd.stages.FairStageQueue.FlowStatistics;
+import org.xtreemfs.osd.stages.QoSPolicy;
+import org.xtreemfs.osd.stages.Stage;
+import org.xtreemfs.osd.stages.Stage.StageRequest;
+import org.xtreemfs.test.TestHelper;
+
+public class FairStageQueueTest {
+    @Rule
+    public final TestRule testLog = TestHelper.testLog;
+
+    @Test
+    public void testWeights() throws Exception {
+        FairStageQueue q = new TestStage("a=1,b=3", "").getFairQueue();
+
+        for (int i = 0; i < 100; i++)
+            q.put(request("a", i, 4096));
+        for (int i = 0; i < 100; i++)
+            q.put(request("b", i, 4096));
+        assertEquals(200, q.size());
+        assertEquals(100, q.getQueueLength("a"));
+
+        // backlogged flows are served in proportion to their weights, and in
+        // FIFO order within each flow
+        int a = 0, b = 0;
+        for (int i = 0; i < 40; i++) {
+            StageRequest rq = q.take();
+            if (rq.getArgs()[0].equals("a"))
+                assertEquals(a++, rq.getArgs()[1]);
+            else
+                assertEquals(b++, rq.getArgs()[1]);
+        }
+        assertTrue("a=" + a + ", b=" + b, a >= 9 && a <= 11);
+        assertEquals(160, q.size());
+    }
+
+    @Test
+    public void testNoStarvation() throws Exception {
+        FairStageQueue q = new TestStage("", "").getFairQueue();
+
+        for (int i = 0; i < 1000; i++)
+            q.put(request("batch", i, 1024 * 1024));
+        q.take();
+
+        // a request of an interactive client does not wait for the backlog of
+        // the batch job
+        q.put(request("interactive", 0, 4096));
+        StageRequest first = q.take();
+        StageRequest second = q.take();
+        assertTrue(first.getArgs()[0].equals("interactive") || second.getArgs()[0].equals("interactive"));
+    }
+
+    @Test
+    public void testLargeRequestsCostMore() throws Exception {
+        FairStageQueue q = new TestStage("", "").getFairQueue();
+
+        for (int i = 0; i < 100; i++) {
+            q.put(request("large", i, 1024 * 1024));
+            q.put(request("small", i, 0));
+        }
+
+        int small = 0;
+        for (int i = 0; i < 20; i++)
+            if (q.take().getArgs()[0].equals("small"))
+                small++;
+        assertTrue(small > 15);
+    }
+
+    @Test
+    public void testLimits() throws Exception {
+        FairStageQueue q = new TestStage("", "limited=0:10").getFairQueue();
+
+        for (int i = 0; i < 20; i++)
+            q.put(request("limited", i, 4096));
+        q.put(request("other", 0, 4096));
+
+        // the burst of the limited flow is bounded by one second's worth of
+        // requests, other flows are not affected
+        int n = 0;
+        StageRequest rq;
+        while ((rq = q.poll()) != null)
+            if (rq.getArgs()[0].equals("limited"))
+                n++;
+        assertEquals(10, n);
+        assertEquals(10, q.size());
+
+        // the next request becomes eligible after 1/10 s
+        long start = System.nanoTime();
+        assertNotNull(q.poll(5, TimeUnit.SECONDS));
+        long elapsedMs = (System.nanoTime() - start) / 1000000;
+        assertTrue("elapsed: " + elapsedMs, elapsedMs >= 50 && elapsedMs < 1000);
+
+        assertNull(q.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+        FairStageQueue q = new TestStage("vol=2", "").getFairQueue();
+        q.put(request("vol", 0, 4096));
+        q.put(request("vol", 1, 4096));
+
+        assertEquals(1, q.getStatistics().size());
+        FlowStatistics stats = q.getStatistics().get(0);
+        assertEquals("vol", stats.getFlowId());
+        assertEquals(2, stats.getWeight());
+        assertEquals(2, stats.getQueueLength());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPolicy() throws Exception {
+        new QoSPolicy("vol=0", "");
+    }
+
+    private static StageRequest request(String flow, int seqNo, long size) {
+        return new StageRequest(0, new Object[] { flow, seqNo, size }, null, null);
+    }
+
+    private static class TestStage extends Stage {
+
+        TestStage(String weights, String limits) {
+            super("TestStage", 1000);
+            enableFairQueuing(new QoSPolicy(weights, limits));
+        }
+
+        @Override
+        protected String getFlowId(StageRequest rq) {
+            return (String) rq.getArgs()[0];
+        }
+
+        @Override
+        protected long getRequestSize(StageRequest rq) {
+            return (Long) rq.getArgs()[2];
+        }
+
+        @Override
+        protected void processMethod(StageRequest method) {
+        }
+    }
+}
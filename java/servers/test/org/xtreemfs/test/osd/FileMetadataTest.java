@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.ObjectChecksumMap;
+import org.xtreemfs.osd.storage.ObjectVersionMap;
+import org.xtreemfs.test.TestHelper;
+
+public class FileMetadataTest {
+    @Rule
+    public final TestRule    testLog  = TestHelper.testLog;
+
+    private static final int NUM_OBJS = 1000000;
+
+    @Test
+    public void testObjectVersionMap() throws Exception {
+
+        for (int stride : new int[] { 1, 3, 1000 }) {
+
+            ObjectVersionMap map = new ObjectVersionMap();
+            Map<Long, Long> expected = new HashMap<Long, Long>();
+            Random rnd = new Random(stride);
+
+            for (int i = 0; i < 20000; i++) {
+                final long objNo = (long) rnd.nextInt(5000) * stride;
+                if (rnd.nextInt(4) == 0) {
+                    map.remove(objNo);
+                    expected.remove(objNo);
+                } else {
+                    final long version = rnd.nextInt(3);
+                    map.put(objNo, version);
+                    expected.put(objNo, version);
+                }
+            }
+
+            assertEquals(expected.size(), map.size());
+            for (long objNo = 0; objNo < 5000L * stride; objNo++) {
+                Long v = expected.get(objNo);
+                assertEquals(v == null ? 0 : v, map.get(objNo));
+            }
+
+            Map<Long, Long> entries = new HashMap<Long, Long>();
+            for (Entry<Long, Long> entry : map.entrySet())
+                entries.put(entry.getKey(), entry.getValue());
+            assertEquals(expected, entries);
+
+            map.clear();
+            assertEquals(0, map.size());
+            assertEquals(0, map.get(0));
+        }
+    }
+
+    @Test
+    public void testObjectChecksumMap() throws Exception {
+
+        for (int stride : new int[] { 1, 3, 1000 }) {
+
+            ObjectChecksumMap map = new ObjectChecksumMap();
+            Map<String, Long> expected = new HashMap<String, Long>();
+            Random rnd = new Random(stride);
+
+            for (int i = 0; i < 20000; i++) {
+                final long objNo = (long) rnd.nextInt(2000) * stride;
+                final long version = rnd.nextInt(4) + 1;
+                if (rnd.nextInt(4) == 0) {
+                    map.remove(objNo, version);
+                    expected.remove(objNo + "." + version);
+                } else {
+                    final long checksum = rnd.nextLong();
+                    map.put(objNo, version, checksum);
+                    expected.put(objNo + "." + version, checksum);
+                }
+            }
+
+            assertEquals(expected.size(), map.size());
+            for (long objNo = 0; objNo < 2000L * stride; objNo += stride) {
+                for (long version = 0; version <= 5; version++) {
+                    Long c = expected.get(objNo + "." + version);
+                    assertEquals(c == null ? 0 : c, map.get(objNo, version));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMemoryFootprint() throws Exception {
+
+        // all objects of a file on a single OSD
+        long heapBefore = usedHeap();
+        FileMetadata md = createMetadata(1);
+        long heap = usedHeap() - heapBefore;
+        assertEquals(NUM_OBJS, md.getLatestObjectVersions().size());
+        assertEquals(NUM_OBJS, md.getLatestObjectVersion(NUM_OBJS - 1));
+        assertEquals(NUM_OBJS - 1, md.getObjectChecksum(NUM_OBJS - 1, NUM_OBJS));
+
+        // dense arrays: 8 bytes per version, 16 bytes per checksum
+        assertTrue("footprint: " + md.getMemoryFootprint(), md.getMemoryFootprint() <= 32L * NUM_OBJS);
+        assertTrue("heap: " + heap, heap < 48L * NUM_OBJS);
+        md = null;
+
+        // every fourth object of a striped file
+        heapBefore = usedHeap();
+        md = createMetadata(4);
+        heap = usedHeap() - heapBefore;
+        assertEquals(NUM_OBJS / 4, md.getLatestObjectVersions().size());
+        assertEquals(0, md.getLatestObjectVersion(1));
+
+        // hash tables: 16 bytes per version and 24 bytes per checksum slot
+        assertTrue("footprint: " + md.getMemoryFootprint(), md.getMemoryFootprint() <= 96L * NUM_OBJS / 4);
+        assertTrue("heap: " + heap, heap < 128L * NUM_OBJS / 4);
+    }
+
+    private static FileMetadata createMetadata(int stride) {
+        FileMetadata md = new FileMetadata(null);
+        ObjectVersionMap versions = new ObjectVersionMap();
+        md.initLatestObjectVersions(versions);
+        md.initLargestObjectVersions(versions);
+        md.initObjectChecksums(new ObjectChecksumMap());
+        for (long objNo = 0; objNo < NUM_OBJS; objNo += stride) {
+            md.updateObjectVersion(objNo, objNo + 1);
+            md.updateObjectChecksum(objNo, objNo + 1, objNo);
+        }
+        return md;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        final Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+}
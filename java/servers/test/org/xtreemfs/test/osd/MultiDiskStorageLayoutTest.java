@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.HashStorageLayout;
+import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.osd.storage.MultiDiskStorageLayout;
+import org.xtreemfs.osd.storage.ObjectInformation;
+import org.xtreemfs.osd.storage.StorageLayout;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestHelper;
+
+public class MultiDiskStorageLayoutTest {
+    @Rule
+    public final TestRule         testLog   = TestHelper.testLog;
+
+    private static final int      NUM_FILES = 20;
+
+    static OSDConfig              config;
+
+    static StripingPolicyImpl     sp;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL);
+
+        OSDConfig osdConfig = SetupUtils.createOSD1Config();
+        HashMap<String, String> props = osdConfig.toHashMap();
+        String objDir = new File(osdConfig.getObjDir()).getAbsolutePath();
+        props.put("object_dirs", objDir + "_disk1," + objDir + "_disk2");
+        config = new OSDConfig(props);
+        config.setDefaults();
+
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, 64))
+                .setReplicationFlags(0).build();
+        sp = StripingPolicyImpl.getPolicy(r, 0);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        for (String dir : config.getObjDirs())
+            FSUtils.delTree(new File(dir));
+    }
+
+    @Test
+    public void testPlacement() throws Exception {
+
+        assertEquals(3, config.getObjDirs().size());
+        MultiDiskStorageLayout layout = new MultiDiskStorageLayout(config, new MetadataCache());
+        assertEquals(3, layout.getNumDisks());
+
+        // files are spread over all disks, and each file is stored on a single
+        // disk
+        int[] filesPerDisk = new int[3];
+        for (int i = 0; i < NUM_FILES; i++) {
+            String fileId = "volume:" + i;
+            write(layout, fileId, 0);
+            write(layout, fileId, 1);
+
+            int disk = layout.getDisk(fileId);
+            filesPerDisk[disk]++;
+            for (int d = 0; d < 3; d++)
+                assertEquals(d == disk, new HashStorageLayout(config, new MetadataCache(), config.getObjDirs()
+                        .get(d)).fileExists(fileId));
+        }
+        for (int count : filesPerDisk)
+            assertTrue(count > 0);
+
+        // files are found on their disk by a new instance
+        layout = new MultiDiskStorageLayout(config, new MetadataCache());
+        for (int i = 0; i < NUM_FILES; i++) {
+            String fileId = "volume:" + i;
+            assertTrue(layout.fileExists(fileId));
+            FileMetadata md = layout.getFileMetadata(sp, fileId);
+            assertEquals(1, md.getLastObjectNumber());
+            ObjectInformation obj = layout.readObject(fileId, md, 1, 0, StorageLayout.FULL_OBJECT_LENGTH, md
+                    .getLatestObjectVersion(1));
+            assertEquals(64, obj.getData().remaining());
+            BufferPool.free(obj.getData());
+        }
+
+        // deleted files are removed from their disk
+        layout.deleteFile("volume:0", true);
+        assertFalse(layout.fileExists("volume:0"));
+    }
+
+    @Test
+    public void testExtendDisks() throws Exception {
+
+        // files created on a single disk remain accessible after disks have
+        // been added
+        HashStorageLayout single = new HashStorageLayout(config, new MetadataCache());
+        for (int i = 0; i < NUM_FILES; i++)
+            write(single, "volume:" + i, 0);
+
+        MultiDiskStorageLayout layout = new MultiDiskStorageLayout(config, new MetadataCache());
+        for (int i = 0; i < NUM_FILES; i++) {
+            // the disk is only known without a lookup once it has been found
+            assertEquals(-1, layout.getCachedDisk("volume:" + i));
+            assertEquals(0, layout.getDisk("volume:" + i));
+            assertEquals(0, layout.getCachedDisk("volume:" + i));
+            assertTrue(layout.fileExists("volume:" + i));
+        }
+    }
+
+    @Test
+    public void testFreeSpacePlacement() throws Exception {
+
+        HashMap<String, String> props = config.toHashMap();
+        props.put("disk_placement", MultiDiskStorageLayout.PLACEMENT_FREE_SPACE);
+        OSDConfig freeSpaceConfig = new OSDConfig(props);
+        freeSpaceConfig.setDefaults();
+
+        // all directories are on the same file system, so that each new file
+        // is placed on the first disk with the most usable space
+        MultiDiskStorageLayout layout = new MultiDiskStorageLayout(freeSpaceConfig, new MetadataCache());
+        String fileId = "volume:1";
+        int disk = layout.getDisk(fileId);
+        write(layout, fileId, 0);
+        assertEquals(disk, layout.getDisk(fileId));
+        assertTrue(new HashStorageLayout(config, new MetadataCache(), config.getObjDirs().get(disk))
+                .fileExists(fileId));
+    }
+
+    @Test
+    public void testFileIDList() throws Exception {
+
+        MultiDiskStorageLayout layout = new MultiDiskStorageLayout(config, new MetadataCache());
+        Set<String> fileIds = new HashSet<String>();
+        for (int i = 0; i < NUM_FILES; i++) {
+            write(layout, "volume:" + i, 0);
+            fileIds.add("volume:" + i);
+        }
+
+        assertEquals(fileIds, new HashSet<String>(layout.getFileIDList()));
+    }
+
+    private static void write(StorageLayout layout, String fileId, long objNo) throws Exception {
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+        ReusableBuffer data = BufferPool.allocate(64);
+        data.put(new byte[64]);
+        data.flip();
+        layout.writeObject(fileId, md, data, objNo, 0, 1, false, false);
+        md.updateObjectVersion(objNo, 1);
+        if (objNo > md.getLastObjectNumber())
+            md.setLastObjectNumber(objNo);
+    }
+}
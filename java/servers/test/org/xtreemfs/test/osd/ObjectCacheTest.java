@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.HashStorageLayout;
+import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.osd.storage.ObjectCache;
+import org.xtreemfs.osd.storage.ObjectInformation;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestHelper;
+
+public class ObjectCacheTest {
+    @Rule
+    public final TestRule    testLog  = TestHelper.testLog;
+
+    private static final int OBJ_SIZE = 1024;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL);
+    }
+
+    @Test
+    public void testGetAndInvalidate() throws Exception {
+
+        ObjectCache cache = new ObjectCache(10 * OBJ_SIZE);
+        assertNull(cache.get("f:1", 0, 1, 0, OBJ_SIZE));
+
+        put(cache, "f:1", 0, 1, (byte) 1);
+        put(cache, "f:1", 1, 1, (byte) 2);
+        put(cache, "f:2", 0, 1, (byte) 3);
+        assertEquals(3, cache.getNumObjects());
+        assertEquals(3 * OBJ_SIZE, cache.getSize());
+
+        // ranges of the object are returned
+        ReusableBuffer buf = cache.get("f:1", 1, 1, 100, 200);
+        assertNotNull(buf);
+        assertEquals(200, buf.remaining());
+        assertEquals(2, buf.get());
+        BufferPool.free(buf);
+
+        buf = cache.get("f:1", 1, 1, OBJ_SIZE - 10, 200);
+        assertEquals(10, buf.remaining());
+        BufferPool.free(buf);
+
+        buf = cache.get("f:1", 1, 1, OBJ_SIZE + 10, 200);
+        assertEquals(0, buf.remaining());
+        BufferPool.free(buf);
+
+        // other versions are not returned
+        assertNull(cache.get("f:1", 1, 2, 0, OBJ_SIZE));
+
+        assertEquals(3, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(210, cache.getBytesServed());
+
+        // data remains valid if the object is invalidated while being read
+        buf = cache.get("f:1", 0, 1, 0, OBJ_SIZE);
+        cache.invalidate("f:1", 0);
+        assertNull(cache.get("f:1", 0, 1, 0, OBJ_SIZE));
+        assertEquals(1, buf.get(OBJ_SIZE - 1));
+        BufferPool.free(buf);
+        assertEquals(2, cache.getNumObjects());
+
+        cache.invalidate("f:1");
+        assertNull(cache.get("f:1", 1, 1, 0, OBJ_SIZE));
+        assertNotNull(cache.get("f:2", 0, 1, 0, OBJ_SIZE));
+        assertEquals(1, cache.getNumObjects());
+        assertEquals(OBJ_SIZE, cache.getSize());
+    }
+
+    @Test
+    public void testAdmission() throws Exception {
+
+        ObjectCache cache = new ObjectCache(10 * OBJ_SIZE);
+
+        // hot objects that are read repeatedly
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 5; j++)
+                assertNull(cache.get("hot:1", i, 1, 0, OBJ_SIZE));
+            assertTrue(cache.wouldAdmit("hot:1", i, OBJ_SIZE));
+            put(cache, "hot:1", i, 1, (byte) i);
+        }
+        assertEquals(10, cache.getNumObjects());
+
+        // a scan of objects that are read once does not displace them
+        for (int i = 0; i < 100; i++) {
+            assertNull(cache.get("scan:1", i, 1, 0, OBJ_SIZE));
+            put(cache, "scan:1", i, 1, (byte) 0);
+        }
+        assertEquals(100, cache.getRejections());
+        for (int i = 0; i < 10; i++) {
+            ReusableBuffer buf = cache.get("hot:1", i, 1, 0, OBJ_SIZE);
+            assertNotNull(buf);
+            BufferPool.free(buf);
+        }
+
+        // an object that becomes hotter than the cached ones is admitted
+        for (int j = 0; j < 15; j++)
+            cache.get("scan:1", 0, 1, 0, OBJ_SIZE);
+        put(cache, "scan:1", 0, 1, (byte) 0);
+        assertEquals(1, cache.getEvictions());
+        assertEquals(10, cache.getNumObjects());
+        assertEquals(10 * OBJ_SIZE, cache.getSize());
+    }
+
+    @Test
+    public void testStorageLayout() throws Exception {
+
+        OSDConfig config = SetupUtils.createOSD1Config();
+        FSUtils.delTree(new File(config.getObjDir()));
+
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, 1))
+                .setReplicationFlags(0).build();
+        StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+
+        ObjectCache cache = new ObjectCache(1024 * 1024);
+        HashStorageLayout layout = new HashStorageLayout(config, new MetadataCache());
+        layout.setObjectCache(cache);
+
+        final String fileId = "volume:1";
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+        write(layout, md, fileId, (byte) 1);
+
+        // the entire object is cached by a partial read
+        assertRead(layout, md, fileId, 10, 20, (byte) 1);
+        assertEquals(1, cache.getNumObjects());
+        assertEquals(1024, cache.getSize());
+        assertRead(layout, md, fileId, 0, 1024, (byte) 1);
+        assertEquals(1, cache.getHits());
+
+        // writes invalidate the cached object
+        write(layout, md, fileId, (byte) 2);
+        assertEquals(0, cache.getNumObjects());
+        assertRead(layout, md, fileId, 0, 1024, (byte) 2);
+        assertRead(layout, md, fileId, 1000, 1024, (byte) 2);
+        assertEquals(2, cache.getHits());
+
+        // so does deleting the file
+        layout.deleteFile(fileId, true);
+        assertEquals(0, cache.getNumObjects());
+    }
+
+    private static void put(ObjectCache cache, String fileId, long objNo, long version, byte value) {
+        ReusableBuffer data = BufferPool.allocate(OBJ_SIZE);
+        for (int i = 0; i < OBJ_SIZE; i++)
+            data.put(value);
+        data.flip();
+        cache.put(fileId, objNo, version, data);
+        BufferPool.free(data);
+    }
+
+    private static void write(HashStorageLayout layout, FileMetadata md, String fileId, byte value)
+        throws Exception {
+        ReusableBuffer data = BufferPool.allocate(1024);
+        for (int i = 0; i < 1024; i++)
+            data.put(value);
+        data.flip();
+        layout.writeObject(fileId, md, data, 0, 0, 1, false, false);
+        md.updateObjectVersion(0, 1);
+    }
+
+    private static void assertRead(HashStorageLayout layout, FileMetadata md, String fileId, int offset,
+        int length, byte value) throws Exception {
+        ObjectInformation obj = layout.readObject(fileId, md, 0, offset, length, 1);
+        assertEquals(ObjectInformation.ObjectStatus.EXISTS, obj.getStatus());
+        ReusableBuffer data = obj.getData();
+        assertEquals(Math.min(length, 1024 - offset), data.remaining());
+        while (data.hasRemaining())
+            assertEquals(value, data.get());
+        BufferPool.free(data);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.clients.Client;
+import org.xtreemfs.common.clients.RandomAccessFile;
+import org.xtreemfs.common.clients.Volume;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.OSDRequestDispatcher;
+import org.xtreemfs.osd.storage.ScrubberThread;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.AccessControlPolicyType;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestEnvironment;
+import org.xtreemfs.test.TestHelper;
+
+public class ScrubberTest {
+    @Rule
+    public final TestRule        testLog = TestHelper.testLog;
+
+    private TestEnvironment      env;
+
+    private OSDConfig            osdConfig;
+
+    private OSDRequestDispatcher osd;
+
+    private Client               client;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL, SetupUtils.DEBUG_CATEGORIES);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        SetupUtils.CHECKSUMS_ON = true;
+
+        env = new TestEnvironment(new TestEnvironment.Services[] { TestEnvironment.Services.TIME_SYNC,
+                TestEnvironment.Services.DIR_SERVICE, TestEnvironment.Services.MRC,
+                TestEnvironment.Services.DIR_CLIENT, TestEnvironment.Services.MRC_CLIENT });
+        env.start();
+
+        osdConfig = SetupUtils.createOSD1Config();
+        osd = new OSDRequestDispatcher(osdConfig);
+        osd.start();
+
+        client = new Client(new InetSocketAddress[] { env.getDIRAddress() }, 15 * 1000, 5 * 60 * 1000, null);
+        client.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        client.stop();
+        osd.shutdown();
+        env.shutdown();
+        SetupUtils.CHECKSUMS_ON = false;
+    }
+
+    @Test
+    public void testScrubIntactFiles() throws Exception {
+        writeTestFiles(3, 1024 * 10);
+
+        ScrubberThread scrubber = osd.getScrubberThread();
+        scrub(scrubber);
+
+        // 3 files with 3 objects of 4 kB each
+        assertEquals(9, scrubber.getObjectsChecked());
+        assertEquals(0, scrubber.getCorruptObjects());
+    }
+
+    @Test
+    public void testScrubCorruptObject() throws Exception {
+        writeTestFiles(1, 1024 * 4);
+
+        // overwrite the only object on disk, without updating the checksum
+        List<File> objects = new ArrayList<File>();
+        findObjectFiles(new File(osdConfig.getObjDir()), objects);
+        assertEquals(1, objects.size());
+        FileOutputStream out = new FileOutputStream(objects.get(0));
+        out.write(new byte[] { 1, 2, 3, 4 });
+        out.close();
+
+        ScrubberThread scrubber = osd.getScrubberThread();
+        scrub(scrubber);
+
+        assertEquals(1, scrubber.getObjectsChecked());
+        assertEquals(1, scrubber.getCorruptObjects());
+
+        boolean reported = false;
+        for (String res : scrubber.getResult())
+            reported |= res.matches(ScrubberThread.CORRUPT_OBJECT_FORMAT.replace("%s", ".*").replace("%d", "0"));
+        assertTrue(reported);
+    }
+
+    @Test
+    public void testScrubWithoutChecksums() throws Exception {
+        osd.shutdown();
+        SetupUtils.CHECKSUMS_ON = false;
+        osdConfig = SetupUtils.createOSD1Config();
+        osd = new OSDRequestDispatcher(osdConfig);
+        osd.start();
+
+        writeTestFiles(1, 1024 * 10);
+
+        ScrubberThread scrubber = osd.getScrubberThread();
+        scrub(scrubber);
+
+        // the objects are read, but not reported as verified
+        assertEquals(0, scrubber.getObjectsChecked());
+        assertEquals(3, scrubber.getObjectsUnchecked());
+        assertEquals(0, scrubber.getBytesChecked());
+        assertTrue(scrubber.getResult().contains(ScrubberThread.NO_CHECKSUMS_FORMAT));
+    }
+
+    private void writeTestFiles(int numFiles, int size) throws Exception {
+        UserCredentials uc = UserCredentials.newBuilder().setUsername("test").addGroups("test").build();
+        client.createVolume("test", RPCAuthentication.authNone, uc, SetupUtils.getStripingPolicy(1, 4),
+                AccessControlPolicyType.ACCESS_CONTROL_POLICY_POSIX, 511);
+
+        Volume v = client.getVolume("test", uc);
+        for (int i = 0; i < numFiles; i++) {
+            RandomAccessFile raf = v.getFile("test" + i).open("rw", 511);
+            raf.write(new byte[size], 0, size);
+            raf.close();
+        }
+    }
+
+    private static void scrub(ScrubberThread scrubber) throws Exception {
+        assertTrue(scrubber.scrubStart());
+        while (scrubber.isRunning())
+            Thread.sleep(50);
+    }
+
+    private static void findObjectFiles(File dir, List<File> objects) {
+        File[] children = dir.listFiles();
+        if (children == null)
+            return;
+        for (File f : children) {
+            if (f.isDirectory())
+                findObjectFiles(f, objects);
+            // object files are stored in per-file directories named after the
+            // file ID, other files in the object dir are metadata
+            else if (!f.getName().startsWith(".") && dir.getName().contains(":"))
+                objects.add(f);
+        }
+    }
+}
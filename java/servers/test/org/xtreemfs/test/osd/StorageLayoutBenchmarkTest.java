@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.osd.storage.HashStorageLayout;
+import org.xtreemfs.osd.storage.benchmark.LatencyHistogram;
+import org.xtreemfs.osd.storage.benchmark.StorageLayoutBenchmark;
+import org.xtreemfs.osd.storage.benchmark.StorageLayoutBenchmarkConfig;
+import org.xtreemfs.osd.storage.benchmark.StorageLayoutBenchmarkResult;
+import org.xtreemfs.osd.storage.benchmark.StorageLayoutBenchmarkResult.Operation;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestHelper;
+
+public class StorageLayoutBenchmarkTest {
+    @Rule
+    public final TestRule     testLog = TestHelper.testLog;
+
+    private static final File DIR     = new File(SetupUtils.TEST_DIR, "layout-benchmark");
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        FSUtils.delTree(DIR);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        FSUtils.delTree(DIR);
+    }
+
+    @Test
+    public void testHistogramPercentiles() throws Exception {
+        LatencyHistogram h1 = new LatencyHistogram();
+        LatencyHistogram h2 = new LatencyHistogram();
+        for (int i = 1; i <= 500; i++)
+            h1.record(i);
+        for (int i = 501; i <= 1000; i++)
+            h2.record(i);
+        h1.add(h2);
+
+        assertEquals(1000, h1.getTotalCount());
+        assertEquals(1000, h1.getMax());
+        assertEquals(500.5, h1.getMean(), 0.001);
+        assertEquals(1, h1.getPercentile(0));
+        assertEquals(1000, h1.getPercentile(100));
+
+        // log-linear buckets: relative error of at most 1/16
+        for (double p : new double[] { 10, 50, 90, 99 }) {
+            long exact = (long) (p * 10);
+            long approx = h1.getPercentile(p);
+            assertTrue(p + ": " + approx, approx >= exact && approx <= exact + exact / 16);
+        }
+    }
+
+    @Test
+    public void testHashStorageLayout() throws Exception {
+        runBenchmark(false, false);
+    }
+
+    @Test
+    public void testHashStorageLayoutChecksumsCow() throws Exception {
+        runBenchmark(true, true);
+    }
+
+    private void runBenchmark(boolean checksums, boolean cow) throws Exception {
+
+        StorageLayoutBenchmarkConfig config = StorageLayoutBenchmarkConfig.newBuilder().setObjectDir(
+                DIR.getAbsolutePath()).setLayoutName(HashStorageLayout.class.getSimpleName()).setObjectSize(
+                16 * 1024).setIoSize(4 * 1024).setObjectsPerFile(8).setFilesPerThread(4).setNumThreads(3)
+                .setOperationsPerThread(200).setMix(1, 1, 1, 1).setChecksums(checksums).setCow(cow).build();
+
+        StorageLayoutBenchmark benchmark = new StorageLayoutBenchmark(config);
+        List<StorageLayoutBenchmarkResult> results = benchmark.run();
+
+        long mixedOps = 0;
+        for (StorageLayoutBenchmarkResult result : results) {
+            assertEquals(3, result.getNumThreads());
+            assertTrue(result.getTimeInSec() > 0);
+            if (result.getOperation() == Operation.FILL) {
+                assertEquals(3 * 4 * 8, result.getOperations());
+                assertEquals(3 * 4 * 8 * 16 * 1024, result.getBytes());
+            } else {
+                mixedOps += result.getOperations();
+            }
+        }
+        assertEquals(3 * 200, mixedOps);
+
+        benchmark.cleanup();
+    }
+}
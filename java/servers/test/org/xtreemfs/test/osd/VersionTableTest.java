@@ -9,18 +9,29 @@
 package org.xtreemfs.test.osd;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.Map.Entry;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestRule;
+import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.osd.storage.VersionTable;
+import org.xtreemfs.test.SetupUtils;
 import org.xtreemfs.test.TestHelper;
 
 /**
@@ -33,6 +44,11 @@ public class VersionTableTest {
 
     public static final File VT_FILE = new File("/tmp/vttest");
 
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL);
+    }
+
     @Before
     public void setUp() throws Exception {
         VT_FILE.delete();
@@ -110,4 +126,165 @@ public class VersionTableTest {
 
     }
 
+    @Test
+    public void testTruncateAndDelete() throws Exception {
+
+        // versions that shrink and grow the file
+        TreeMap<Long, int[]> map = new TreeMap<Long, int[]>();
+        map.put(1000L, new int[] { 1, 1, 1, 1, 1, 1 });
+        map.put(2000L, new int[] { 1, 2, 2 });
+        map.put(3000L, new int[] { 1, 2, 2, 0, 0, 3, 3 });
+        map.put(4000L, new int[] { 4, 2 });
+        map.put(5000L, new int[] { 4, 2, 0, 5, 5, 5, 5, 5 });
+
+        VersionTable vt = new VersionTable(VT_FILE);
+        for (Entry<Long, int[]> entry : map.entrySet())
+            vt.addVersion(entry.getKey(), entry.getValue(), entry.getValue().length * 1024);
+        assertVersions(map, vt);
+
+        // inserting a version between existing ones does not change them
+        map.put(2500L, new int[] { 7 });
+        vt.addVersion(2500L, map.get(2500L), 1024);
+        assertVersions(map, vt);
+
+        // neither does deleting versions
+        for (long ts : new long[] { 2500, 2000, 4000, 1000 }) {
+            map.remove(ts);
+            vt.deleteVersion(ts);
+            assertVersions(map, vt);
+        }
+        assertEquals(2, vt.getVersionCount());
+
+        assertTrue(vt.isContained(5, 3));
+        assertTrue(vt.isContained(7, 5));
+        assertFalse(vt.isContained(0, 7));
+        assertFalse(vt.isContained(1, 0));
+    }
+
+    @Test
+    public void testCleanup() throws Exception {
+
+        VersionTable vt = new VersionTable(VT_FILE);
+        vt.addVersion(10000L, new int[] { 1, 1, 1, 1 }, 4096);
+        vt.addVersion(20000L, new int[] { 2, 1, 1 }, 3072);
+        vt.addVersion(30000L, new int[] { 2, 3, 1, 3 }, 4096);
+        vt.addVersion(40000L, new int[] { 4, 3 }, 2048);
+
+        // only the version valid at 35000 has to be kept
+        Map<Integer, Set<Integer>> obsolete = vt.cleanup(new long[] { 35000 });
+        assertEquals(1, vt.getVersionCount());
+
+        Map<Integer, Set<Integer>> expected = new HashMap<Integer, Set<Integer>>();
+        expected.put(0, new HashSet<Integer>());
+        expected.get(0).add(1);
+        expected.get(0).add(4);
+        expected.put(1, new HashSet<Integer>());
+        expected.get(1).add(1);
+        expected.put(3, new HashSet<Integer>());
+        expected.get(3).add(1);
+        assertEquals(expected, obsolete);
+
+        assertEquals(3, vt.getLatestVersionBefore(35000).getObjVersion(1));
+        assertEquals(3, vt.getLatestVersionBefore(35000).getObjVersion(3));
+        assertEquals(4, vt.getLatestVersionBefore(35000).getObjCount());
+
+        // the cleaned-up table is saved
+        vt.save();
+        vt = new VersionTable(VT_FILE);
+        vt.load();
+        assertEquals(1, vt.getVersionCount());
+        assertEquals(2, vt.getLatestVersionBefore(35000).getObjVersion(0));
+    }
+
+    @Test
+    public void testIncrementalSave() throws Exception {
+
+        TreeMap<Long, int[]> map = new TreeMap<Long, int[]>();
+        int[] objVersions = new int[1000];
+        for (int i = 0; i < 10; i++) {
+            objVersions = objVersions.clone();
+            objVersions[i * 7] = i + 1;
+            map.put(1000L * (i + 1), objVersions);
+        }
+
+        VersionTable vt = new VersionTable(VT_FILE);
+        long lastLength = 0;
+        for (Entry<Long, int[]> entry : map.entrySet()) {
+            vt.addVersion(entry.getKey(), entry.getValue(), entry.getValue().length * 1024);
+            vt.save();
+
+            // only a record with the changed object is appended
+            if (lastLength != 0)
+                assertTrue(VT_FILE.length() - lastLength < 64);
+            lastLength = VT_FILE.length();
+        }
+
+        vt = new VersionTable(VT_FILE);
+        vt.load();
+        assertVersions(map, vt);
+
+        // deletions are appended as well
+        map.remove(3000L);
+        vt.deleteVersion(3000L);
+        vt.save();
+        vt = new VersionTable(VT_FILE);
+        vt.load();
+        assertVersions(map, vt);
+
+        // an incompletely written record is ignored
+        RandomAccessFile raf = new RandomAccessFile(VT_FILE, "rw");
+        raf.setLength(VT_FILE.length() + 5);
+        raf.close();
+        vt = new VersionTable(VT_FILE);
+        vt.load();
+        assertVersions(map, vt);
+    }
+
+    @Test
+    public void testLoadFormerFormat() throws Exception {
+
+        TreeMap<Long, int[]> map = new TreeMap<Long, int[]>();
+        map.put(10000L, new int[] { 2, 4, 5, 1, 2 });
+        map.put(10005L, new int[] { 3, 4, 5, 2, 3 });
+        map.put(11000L, new int[] { 5, 5 });
+
+        // write the table with the full object versions of each file version
+        DataOutputStream out = new DataOutputStream(new FileOutputStream(VT_FILE));
+        for (Entry<Long, int[]> entry : map.entrySet()) {
+            out.writeLong(entry.getKey());
+            out.writeLong(entry.getValue().length * 1024);
+            out.writeLong(entry.getValue().length);
+            for (int v : entry.getValue())
+                out.writeInt(v);
+        }
+        out.close();
+
+        VersionTable vt = new VersionTable(VT_FILE);
+        vt.load();
+        assertVersions(map, vt);
+
+        // the table is converted with the next save
+        vt.addVersion(12000L, new int[] { 6 }, 1024);
+        map.put(12000L, new int[] { 6 });
+        vt.save();
+        vt = new VersionTable(VT_FILE);
+        vt.load();
+        assertVersions(map, vt);
+    }
+
+    private static void assertVersions(TreeMap<Long, int[]> map, VersionTable vt) {
+
+        assertEquals(map.size(), vt.getVersionCount());
+
+        for (Entry<Long, int[]> entry : map.entrySet()) {
+            final int[] expected = entry.getValue();
+            final VersionTable.Version v = vt.getLatestVersionBefore(entry.getKey() + 1);
+            assertEquals(expected.length, v.getObjCount());
+            assertEquals(expected.length * 1024, v.getFileSize());
+            for (int i = 0; i < expected.length + 3; i++)
+                assertEquals("object " + i + " of version " + entry.getKey(), i < expected.length ? expected[i]
+                    : 0, v.getObjVersion(i));
+        }
+    }
+
 }
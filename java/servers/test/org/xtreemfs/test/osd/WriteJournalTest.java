@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.checksums.ChecksumFactory;
+import org.xtreemfs.foundation.checksums.provider.JavaChecksumProvider;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.HashStorageLayout;
+import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.osd.storage.ObjectInformation;
+import org.xtreemfs.osd.storage.StorageLayout;
+import org.xtreemfs.osd.storage.WriteJournal;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestHelper;
+
+public class WriteJournalTest {
+    @Rule
+    public final TestRule     testLog  = TestHelper.testLog;
+
+    private static final int  OBJ_SIZE = 64;
+
+    static OSDConfig          config;
+
+    static StripingPolicyImpl sp;
+
+    static String             journalDir;
+
+    private WriteJournal      journal;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL);
+        config = SetupUtils.createOSD1Config();
+        journalDir = new File(config.getObjDir()).getAbsolutePath() + "_journal";
+
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, OBJ_SIZE))
+                .setReplicationFlags(0).build();
+        sp = StripingPolicyImpl.getPolicy(r, 0);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        FSUtils.delTree(new File(config.getObjDir()));
+        FSUtils.delTree(new File(journalDir));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (journal != null)
+            journal.close();
+    }
+
+    @Test
+    public void testReplay() throws Exception {
+
+        journal = new WriteJournal(journalDir, 1024 * 1024, 512);
+        assertEquals(0, journal.replay(new HashStorageLayout(config, new MetadataCache())));
+
+        // write objects with the journal attached, but do not destage them
+        HashStorageLayout layout = new HashStorageLayout(config, new MetadataCache());
+        layout.setWriteJournal(journal);
+        for (int i = 0; i < 10; i++)
+            write(layout, "volume:1", i, 1, (byte) i);
+        assertEquals(10, journal.getBacklogRecords());
+        assertEquals(1, journal.getNumDirtyFiles());
+        assertTrue(journal.getNumSegments() > 1);
+
+        // simulate a crash in which the object files were lost
+        journal.close();
+        FSUtils.delTree(new File(config.getObjDir()));
+
+        journal = new WriteJournal(journalDir, 1024 * 1024, 512);
+        layout = new HashStorageLayout(config, new MetadataCache());
+        assertEquals(10, journal.replay(layout));
+        assertEquals(0, journal.getBacklogRecords());
+
+        FileMetadata md = layout.getFileMetadata(sp, "volume:1");
+        assertEquals(9, md.getLastObjectNumber());
+        for (int i = 0; i < 10; i++)
+            assertObject(layout, md, "volume:1", i, (byte) i);
+
+        // replayed records are not replayed again
+        journal.close();
+        journal = new WriteJournal(journalDir, 1024 * 1024, 512);
+        assertEquals(0, journal.replay(layout));
+    }
+
+    @Test
+    public void testDestage() throws Exception {
+
+        journal = new WriteJournal(journalDir, 1024 * 1024, 512);
+        journal.replay(new HashStorageLayout(config, new MetadataCache()));
+
+        HashStorageLayout layout = new HashStorageLayout(config, new MetadataCache());
+        layout.setWriteJournal(journal);
+        for (int i = 0; i < 10; i++) {
+            write(layout, "volume:1", i, 1, (byte) 1);
+            write(layout, "volume:2", i, 1, (byte) 2);
+        }
+        assertEquals(2, journal.getNumDirtyFiles());
+        assertEquals(2, journal.getDirtyFiles(10, Long.MAX_VALUE).size());
+        assertEquals(0, journal.getDirtyFiles(10, 0).size());
+
+        // destaging retires the records of the file
+        FileMetadata md = layout.getFileMetadata(sp, "volume:1");
+        layout.destage("volume:1", md);
+        assertNull(journal.getDirtyFile("volume:1"));
+        assertNotNull(journal.getDirtyFile("volume:2"));
+        assertEquals(10, journal.getBacklogRecords());
+        assertEquals(10 * OBJ_SIZE, journal.getDestagedBytes());
+
+        // deleting a file discards its records, and fully retired segments
+        // are removed
+        layout.deleteFile("volume:2", true);
+        assertEquals(0, journal.getNumDirtyFiles());
+        assertEquals(0, journal.getBacklogRecords());
+        assertEquals(1, journal.getNumSegments());
+
+        // retired records are not replayed
+        journal.close();
+        FSUtils.delTree(new File(config.getObjDir()));
+        journal = new WriteJournal(journalDir, 1024 * 1024, 512);
+        layout = new HashStorageLayout(config, new MetadataCache());
+        assertEquals(0, journal.replay(layout));
+        assertFalse(layout.fileExists("volume:1"));
+        assertFalse(layout.fileExists("volume:2"));
+    }
+
+    @Test
+    public void testPartialWriteCrash() throws Exception {
+
+        HashMap<String, String> props = config.toHashMap();
+        props.put("checksums.enabled", "true");
+        props.put("checksums.algorithm", "Adler32");
+        ChecksumFactory.getInstance().addProvider(new JavaChecksumProvider());
+        OSDConfig checksumConfig = new OSDConfig(props);
+        checksumConfig.setDefaults();
+
+        journal = new WriteJournal(journalDir, 1024 * 1024, 4096);
+        journal.replay(new HashStorageLayout(checksumConfig, new MetadataCache()));
+
+        HashStorageLayout layout = new HashStorageLayout(checksumConfig, new MetadataCache());
+        layout.setWriteJournal(journal);
+        write(layout, "volume:1", 0, 1, (byte) 1);
+        layout.destage("volume:1", layout.getFileMetadata(sp, "volume:1"));
+
+        // a partial write creates a new version of the object and deletes the
+        // old one
+        FileMetadata md = layout.getFileMetadata(sp, "volume:1");
+        ReusableBuffer data = BufferPool.allocate(8);
+        for (int i = 0; i < 8; i++)
+            data.put((byte) 2);
+        data.flip();
+        layout.writeObject("volume:1", md, data, 0, 8, 2, true, false);
+        md.updateObjectVersion(0, 2);
+
+        // simulate a crash in which the new version was not written to disk
+        journal.close();
+        List<File> objects = new ArrayList<File>();
+        findObjectFiles(new File(config.getObjDir()), objects);
+        assertEquals(1, objects.size());
+        RandomAccessFile f = new RandomAccessFile(objects.get(0), "rw");
+        f.setLength(0);
+        f.close();
+
+        // the journal holds the complete object
+        journal = new WriteJournal(journalDir, 1024 * 1024, 4096);
+        layout = new HashStorageLayout(checksumConfig, new MetadataCache());
+        assertEquals(1, journal.replay(layout));
+
+        md = layout.getFileMetadata(sp, "volume:1");
+        assertEquals(2, md.getLatestObjectVersion(0));
+        ObjectInformation obj = layout.readObject("volume:1", md, 0, 0, StorageLayout.FULL_OBJECT_LENGTH, 2);
+        assertEquals(OBJ_SIZE, obj.getData().remaining());
+        for (int i = 0; i < OBJ_SIZE; i++)
+            assertEquals(i >= 8 && i < 16 ? 2 : 1, obj.getData().get());
+        BufferPool.free(obj.getData());
+    }
+
+    @Test
+    public void testConcurrentSyncWrites() throws Exception {
+
+        journal = new WriteJournal(journalDir, 1024 * 1024, 1024);
+        journal.replay(new HashStorageLayout(config, new MetadataCache()));
+
+        // synchronous appends of several threads, across segment boundaries
+        final int numThreads = 4;
+        final int numWrites = 50;
+        final Exception[] errors = new Exception[numThreads];
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            final int threadNo = t;
+            threads[t] = new Thread() {
+                public void run() {
+                    try {
+                        for (int i = 0; i < numWrites; i++) {
+                            ReusableBuffer data = BufferPool.allocate(OBJ_SIZE);
+                            data.put(new byte[OBJ_SIZE]);
+                            data.flip();
+                            journal.append("volume:" + threadNo, sp, i, 0, 1, data, false, true);
+                            BufferPool.free(data);
+                        }
+                    } catch (Exception ex) {
+                        errors[threadNo] = ex;
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread t : threads)
+            t.join();
+        for (Exception ex : errors)
+            if (ex != null)
+                throw ex;
+        assertEquals(numThreads * numWrites, journal.getBacklogRecords());
+
+        journal.close();
+        journal = new WriteJournal(journalDir, 1024 * 1024, 1024);
+        assertEquals(numThreads * numWrites, journal.replay(new HashStorageLayout(config, new MetadataCache())));
+    }
+
+    @Test
+    public void testBypass() throws Exception {
+
+        // the backlog holds only a few objects
+        journal = new WriteJournal(journalDir, 4 * OBJ_SIZE, 4096);
+        journal.replay(new HashStorageLayout(config, new MetadataCache()));
+
+        HashStorageLayout layout = new HashStorageLayout(config, new MetadataCache());
+        layout.setWriteJournal(journal);
+        for (int i = 0; i < 4; i++)
+            write(layout, "volume:1", i, 1, (byte) 1);
+        assertTrue(journal.isFull());
+        assertEquals(0, journal.getBypassedWrites());
+
+        // further writes are written through and destage the file
+        write(layout, "volume:1", 4, 1, (byte) 1);
+        assertEquals(1, journal.getBypassedWrites());
+        assertFalse(journal.isFull());
+        assertEquals(0, journal.getNumDirtyFiles());
+
+        FileMetadata md = layout.getFileMetadata(sp, "volume:1");
+        for (int i = 0; i < 5; i++)
+            assertObject(layout, md, "volume:1", i, (byte) 1);
+    }
+
+    private static void write(StorageLayout layout, String fileId, long objNo, long version, byte value)
+        throws Exception {
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+        ReusableBuffer data = BufferPool.allocate(OBJ_SIZE);
+        for (int i = 0; i < OBJ_SIZE; i++)
+            data.put(value);
+        data.flip();
+        layout.writeObject(fileId, md, data, objNo, 0, version, true, false);
+        md.updateObjectVersion(objNo, version);
+        if (objNo > md.getLastObjectNumber())
+            md.setLastObjectNumber(objNo);
+    }
+
+    private static void findObjectFiles(File dir, List<File> objects) {
+        File[] children = dir.listFiles();
+        if (children == null)
+            return;
+        for (File f : children) {
+            if (f.isDirectory())
+                findObjectFiles(f, objects);
+            // object files are stored in per-file directories named after the
+            // file ID, other files in the object dir are metadata
+            else if (!f.getName().startsWith(".") && dir.getName().contains(":"))
+                objects.add(f);
+        }
+    }
+
+    private static void assertObject(StorageLayout layout, FileMetadata md, String fileId, long objNo, byte value)
+        throws Exception {
+        ObjectInformation obj = layout.readObject(fileId, md, objNo, 0, StorageLayout.FULL_OBJECT_LENGTH, md
+                .getLatestObjectVersion(objNo));
+        assertEquals(OBJ_SIZE, obj.getData().remaining());
+        while (obj.getData().hasRemaining())
+            assertEquals(value, obj.getData().get());
+        BufferPool.free(obj.getData());
+    }
+}
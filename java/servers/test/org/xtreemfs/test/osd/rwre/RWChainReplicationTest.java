@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd.rwre;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.Capability;
+import org.xtreemfs.common.ReplicaUpdatePolicies;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.osd.OSD;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.rwre.UpdateChain;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SYSTEM_V_FCNTL;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SnapConfig;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaUpdateChain;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_rwr_updateResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceClient;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestEnvironment;
+import org.xtreemfs.test.TestHelper;
+
+public class RWChainReplicationTest {
+    @Rule
+    public final TestRule       testLog  = TestHelper.testLog;
+
+    private OSD[]               osds;
+    private OSDConfig[]         configs;
+    private TestEnvironment     testEnv;
+
+    private final static int    NUM_OSDS = 3;
+    private static final String fileId   = "ABCDEF:1";
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL, SetupUtils.DEBUG_CATEGORIES);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        java.io.File testDir = new java.io.File(SetupUtils.TEST_DIR);
+
+        FSUtils.delTree(testDir);
+        testDir.mkdirs();
+
+        testEnv = new TestEnvironment(new TestEnvironment.Services[] { TestEnvironment.Services.DIR_SERVICE,
+                TestEnvironment.Services.TIME_SYNC, TestEnvironment.Services.UUID_RESOLVER,
+                TestEnvironment.Services.OSD_CLIENT });
+        testEnv.start();
+
+        osds = new OSD[NUM_OSDS];
+        configs = SetupUtils.createMultipleOSDConfigs(NUM_OSDS);
+        for (int i = 0; i < osds.length; i++) {
+            Properties props = configs[i].getProps();
+            props.setProperty("replication.chain_updates", "true");
+            configs[i] = new OSDConfig(props);
+            configs[i].setDefaults();
+            osds[i] = new OSD(configs[i]);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        if (osds != null) {
+            for (OSD osd : this.osds) {
+                if (osd != null)
+                    osd.shutdown();
+            }
+        }
+
+        testEnv.shutdown();
+    }
+
+    @Test
+    public void testChainedWrite() throws Exception {
+        FileCredentials fc = getCredentials(ReplicaUpdatePolicies.REPL_UPDATE_PC_WARONE);
+        OSDServiceClient client = testEnv.getOSDClient();
+
+        write(client, configs[0], fc, 0, "Yagga");
+        write(client, configs[0], fc, 1, "Moeep");
+
+        // all backups have acknowledged the writes, the last one in the chain
+        // can serve reads
+        assertEquals("Yagga", read(client, configs[2], fc, 0));
+        assertEquals("Moeep", read(client, configs[2], fc, 1));
+        assertEquals("Moeep", read(client, configs[1], fc, 1));
+    }
+
+    @Test
+    public void testChainWithFailedBackup() throws Exception {
+        FileCredentials fc = getCredentials(ReplicaUpdatePolicies.REPL_UPDATE_PC_WQRQ);
+        OSDServiceClient client = testEnv.getOSDClient();
+
+        // the first backup of the chain is not available, the primary has to
+        // send the update directly to the other backup
+        osds[1].shutdown();
+        osds[1] = null;
+
+        write(client, configs[0], fc, 0, "Yagga");
+        assertEquals("Yagga", read(client, configs[0], fc, 0));
+    }
+
+    @Test
+    public void testChainAcks() throws Exception {
+        FileCredentials fc = getCredentials(ReplicaUpdatePolicies.REPL_UPDATE_PC_WQRQ);
+
+        // the primary is skipped
+        ReplicaUpdateChain chain = UpdateChain.create(fc, configs[1].getUUID().toString(), 1);
+        assertEquals(1, chain.getNumAcks());
+        assertEquals(Arrays.asList(0, 2), chain.getReplicaIndicesList());
+        assertNull(UpdateChain.create(fc, configs[1].getUUID().toString(), 3));
+
+        // OSDs without support for chained updates acknowledge the update
+        // without forwarding it
+        assertEquals(1, UpdateChain.getNumAcks(xtreemfs_rwr_updateResponse.getDefaultInstance()));
+        assertEquals(3, UpdateChain.getNumAcks(UpdateChain.createResponse(2)));
+    }
+
+    private FileCredentials getCredentials(String updatePolicy) {
+        Capability cap = new Capability(fileId, SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_TRUNC.getNumber()
+                | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(), 60, System.currentTimeMillis(), "", 0, false,
+                SnapConfig.SNAP_CONFIG_SNAPS_DISABLED, 0, configs[0].getCapabilitySecret());
+        List<Replica> rlist = new LinkedList<Replica>();
+        for (OSDConfig osd : this.configs) {
+            Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, 128))
+                    .setReplicationFlags(0).addOsdUuids(osd.getUUID().toString()).build();
+            rlist.add(r);
+        }
+
+        XLocSet locSet = XLocSet.newBuilder().setReadOnlyFileSize(0).setReplicaUpdatePolicy(updatePolicy)
+                .setVersion(1).addAllReplicas(rlist).build();
+        return FileCredentials.newBuilder().setXcap(cap.getXCap()).setXlocs(locSet).build();
+    }
+
+    private static void write(OSDServiceClient client, OSDConfig osd, FileCredentials fc, long objNo, String data)
+            throws Exception {
+        ObjectData objdata = ObjectData.newBuilder().setChecksum(0).setZeroPadding(0).setInvalidChecksumOnOsd(false)
+                .build();
+        ReusableBuffer rb = BufferPool.allocate(data.length());
+        rb.put(data.getBytes());
+        rb.flip();
+
+        RPCResponse<OSDWriteResponse> r = client.write(new InetSocketAddress("localhost", osd.getPort()),
+                RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileId, objNo, 0, 0, 0, objdata, rb);
+        try {
+            r.get();
+        } finally {
+            r.freeBuffers();
+        }
+    }
+
+    private static String read(OSDServiceClient client, OSDConfig osd, FileCredentials fc, long objNo)
+            throws Exception {
+        RPCResponse<ObjectData> r = client.read(new InetSocketAddress("localhost", osd.getPort()),
+                RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileId, objNo, -1, 0, 5);
+        try {
+            r.get();
+            byte[] data = new byte[r.getData().remaining()];
+            r.getData().get(data);
+            return new String(data);
+        } finally {
+            r.freeBuffers();
+        }
+    }
+}
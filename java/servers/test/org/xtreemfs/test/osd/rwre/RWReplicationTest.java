@@ -233,6 +233,48 @@ public class RWReplicationTest {
     }
 
 
+    @Test
+    public void testPipelinedWrites() throws Exception {
+        Capability cap = new Capability(fileId, SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_TRUNC.getNumber() | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(), 60, System.currentTimeMillis(), "", 0, false, SnapConfig.SNAP_CONFIG_SNAPS_DISABLED, 0, configs[0].getCapabilitySecret());
+        List<Replica> rlist = new LinkedList();
+        for (OSDConfig osd : this.configs) {
+            Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, 128)).setReplicationFlags(0).addOsdUuids(osd.getUUID().toString()).build();
+            rlist.add(r);
+        }
+
+        XLocSet locSet = XLocSet.newBuilder().setReadOnlyFileSize(0).setReplicaUpdatePolicy(ReplicaUpdatePolicies.REPL_UPDATE_PC_WQRQ).setVersion(1).addAllReplicas(rlist).build();
+        FileCredentials fc = FileCredentials.newBuilder().setXcap(cap.getXCap()).setXlocs(locSet).build();
+
+        final OSDServiceClient client = testEnv.getOSDClient();
+        final InetSocketAddress osd1 = new InetSocketAddress("localhost", configs[0].getPort());
+        ObjectData objdata = ObjectData.newBuilder().setChecksum(0).setZeroPadding(0).setInvalidChecksumOnOsd(false).build();
+
+        // more writes than the initial window, sent before the file is open
+        // and the lease has been acquired
+        final int numWrites = 100;
+        List<RPCResponse<OSDWriteResponse>> responses = new LinkedList();
+        for (int i = 0; i < numWrites; i++) {
+            ReusableBuffer rb = BufferPool.allocate(1024);
+            rb.put(new byte[1024]);
+            rb.flip();
+            responses.add(client.write(osd1, RPCAuthentication.authNone, RPCAuthentication.userService,
+                    fc, fileId, i, 0, 0, 0, objdata, rb));
+        }
+        for (RPCResponse<OSDWriteResponse> r : responses) {
+            try {
+                r.get();
+            } finally {
+                r.freeBuffers();
+            }
+        }
+
+        RPCResponse<ObjectData> r2 = client.read(osd1, RPCAuthentication.authNone, RPCAuthentication.userService,
+                fc, fileId, numWrites - 1, -1, 0, 1024);
+        r2.get();
+        assertEquals(1024, r2.getData().remaining());
+        r2.freeBuffers();
+    }
+
     @Test
     public void testReset() throws Exception {
         Capability cap = new Capability(fileId, SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_TRUNC.getNumber() | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(), 60, System.currentTimeMillis(), "", 0, false, SnapConfig.SNAP_CONFIG_SNAPS_DISABLED, 0, configs[0].getCapabilitySecret());
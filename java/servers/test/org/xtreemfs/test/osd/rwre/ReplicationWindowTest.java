@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2014 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd.rwre;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.osd.rwre.ReplicationWindow;
+import org.xtreemfs.test.TestHelper;
+
+public class ReplicationWindowTest {
+    @Rule
+    public final TestRule testLog = TestHelper.testLog;
+
+    private static final long MS = 1000 * 1000;
+
+    @Test
+    public void testGrowAndShrink() throws Exception {
+        ReplicationWindow w = new ReplicationWindow(10, 100);
+        assertEquals(10, w.getSize());
+
+        // constant latency: one more update per acknowledgment until the
+        // first congestion
+        long now = 0;
+        for (int i = 0; i < 20; i++)
+            w.updateAcknowledged(1 * MS, now += MS);
+        assertEquals(30, w.getSize());
+
+        // queueing at the backups increases the latency
+        for (int i = 0; i < 20 && w.getSize() >= 30; i++)
+            w.updateAcknowledged(10 * MS, now += MS);
+        int size = w.getSize();
+        assertTrue(size < 30);
+
+        // at most one decrease per average latency
+        w.updateAcknowledged(10 * MS, now += 1);
+        assertEquals(size, w.getSize());
+
+        // additive increase once the latency has recovered
+        for (int i = 0; i < 50; i++)
+            w.updateAcknowledged(1 * MS, now += MS);
+        size = w.getSize();
+        for (int i = 0; i < 200; i++)
+            w.updateAcknowledged(1 * MS, now += MS);
+        assertTrue(w.getSize() > size);
+        assertTrue(w.getSize() <= size + 200 / size + 1);
+    }
+
+    @Test
+    public void testBounds() throws Exception {
+        ReplicationWindow w = new ReplicationWindow(10, 20);
+        long now = 0;
+        for (int i = 0; i < 100; i++)
+            w.updateAcknowledged(1 * MS, now += MS);
+        assertEquals(20, w.getSize());
+
+        for (int i = 0; i < 10; i++)
+            w.updateFailed(now += 1000 * MS);
+        assertEquals(10, w.getSize());
+    }
+}